@@ -0,0 +1,189 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionPipelineBenchmark.java
+ * Package: com.ospreydcs.dp.jal.bench
+ * Type: 	IngestionPipelineBenchmark
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ospreydcs.dp.api.common.ProviderUID;
+import com.ospreydcs.dp.api.ingest.IngestionFrame;
+import com.ospreydcs.dp.api.ingest.model.frame.IngestionFrameConverter;
+import com.ospreydcs.dp.api.ingest.model.frame.IngestionFrameDecomposer;
+import com.ospreydcs.dp.api.util.JavaSize;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest;
+import com.ospreydcs.dp.jal.bench.PipelineData.TmsMode;
+import com.ospreydcs.dp.jal.bench.PipelineData.TypeMix;
+
+/**
+ * <p>
+ * JMH benchmarks of the ingestion pipeline stages.
+ * </p>
+ * <p>
+ * The benchmarks measure
+ * <ul>
+ * <li><code>{@link #decomposeHorizontally()}</code> - <code>IngestionFrameDecomposer</code> binning by rows.</li>
+ * <li><code>{@link #decomposeVertically()}</code> - <code>IngestionFrameDecomposer</code> binning by columns.</li>
+ * <li><code>{@link #convert()}</code> - <code>IngestionFrameConverter</code> conversion of the full frame into an
+ *     ingestion request message.</li>
+ * <li><code>{@link #sizeof()}</code> - <code>JavaSize</code> memory allocation estimate of the full frame, which
+ *     the decomposer and frame buffers use for binning and back pressure.</li>
+ * </ul>
+ * The frame is created once per trial; decomposition does not modify the source frame.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(value=1, jvmArgsAppend={"-Xms4g", "-Xmx4g"})
+public class IngestionPipelineBenchmark {
+
+
+    //
+    // Class Constants
+    //
+
+    /** The provider UID assigned to converted frames */
+    public static final ProviderUID REC_PRV_UID = ProviderUID.from("1", IngestionPipelineBenchmark.class.getSimpleName(), false);
+
+
+    //
+    // Benchmark Parameters
+    //
+
+    /** Number of PVs (i.e., columns) within the frame */
+    @Param({"10", "100", "1000"})
+    public int          cntPvs;
+
+    /** Number of samples (i.e., rows) within the frame */
+    @Param({"1000", "10000"})
+    public int          cntSamples;
+
+    /** Timestamp mode of the frame - <code>MIXED</code> is not meaningful for a single frame */
+    @Param({"CLOCKED", "TMS_LIST"})
+    public TmsMode      enmTms;
+
+    /** Data type mix of the frame columns */
+    @Param({"DOUBLE", "SCALAR"})
+    public TypeMix      enmTypes;
+
+    /** Maximum frame size (in bytes) produced by the decomposer */
+    @Param({"2000000"})
+    public long         lngBinSizeMax;
+
+
+    //
+    // Workload
+    //
+
+    /** The ingestion frame */
+    private IngestionFrame              frmData;
+
+
+    //
+    // Benchmark Resources
+    //
+
+    /** The frame decomposer under test */
+    private IngestionFrameDecomposer    prcrDecomp;
+
+    /** The frame converter under test */
+    private IngestionFrameConverter     prcrConvert;
+
+
+    //
+    // Setup
+    //
+
+    /**
+     * <p>
+     * Creates the workload and pipeline stages.
+     * </p>
+     */
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        this.frmData = PipelineData.createFrame(PipelineData.createArchive(this.cntPvs, this.cntSamples, this.enmTms, this.enmTypes));
+        this.prcrDecomp = IngestionFrameDecomposer.from(this.lngBinSizeMax);
+        this.prcrConvert = IngestionFrameConverter.create(REC_PRV_UID);
+    }
+
+
+    //
+    // Benchmarks
+    //
+
+    /**
+     * @return  the row-wise decomposition of the frame
+     */
+    @Benchmark
+    public List<IngestionFrame> decomposeHorizontally() {
+        return this.prcrDecomp.decomposeHorizontally(this.frmData);
+    }
+
+    /**
+     * @return  the column-wise decomposition of the frame
+     */
+    @Benchmark
+    public List<IngestionFrame> decomposeVertically() {
+        return this.prcrDecomp.decomposeVertically(this.frmData);
+    }
+
+    /**
+     * @return  the ingestion request message for the full frame
+     */
+    @Benchmark
+    public IngestDataRequest    convert() {
+        return this.prcrConvert.createRequest(this.frmData);
+    }
+
+    /**
+     * @return  the memory allocation estimate of the full frame
+     */
+    @Benchmark
+    public long sizeof() {
+        return JavaSize.sizeof(this.frmData);
+    }
+}
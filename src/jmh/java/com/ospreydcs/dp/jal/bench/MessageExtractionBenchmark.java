@@ -0,0 +1,171 @@
+/*
+ * Project: dp-api-common
+ * File:	MessageExtractionBenchmark.java
+ * Package: com.ospreydcs.dp.jal.bench
+ * Type: 	MessageExtractionBenchmark
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.grpc.util.ProtoMsg;
+import com.ospreydcs.dp.api.util.JavaSize;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse.QueryData;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse.QueryData.DataBucket;
+import com.ospreydcs.dp.jal.bench.PipelineData.TmsMode;
+import com.ospreydcs.dp.jal.bench.PipelineData.TypeMix;
+import com.ospreydcs.dp.jal.tools.config.archive.JalTestArchiveConfig;
+import com.ospreydcs.dp.jal.tools.server.StandInArchive;
+
+/**
+ * <p>
+ * JMH benchmarks of the Protocol Buffers message value extraction and message sizing utilities.
+ * </p>
+ * <p>
+ * The workload is a single response page of data buckets, one per PV, for a single data type (i.e., each
+ * benchmark invocation extracts the values of every data column of the page as that type).  The benchmarks
+ * measure
+ * <ul>
+ * <li><code>{@link #extractValuesAs(Blackhole)}</code> - <code>ProtoMsg.extractValuesAs()</code> for every column.</li>
+ * <li><code>{@link #sizeofPage()}</code> - <code>JavaSize.sizeof()</code> of the page message.</li>
+ * <li><code>{@link #serializedSizeOfPage()}</code> - the Protocol Buffers serialized size of the page, for
+ *     comparison.</li>
+ * </ul>
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(value=1)
+public class MessageExtractionBenchmark {
+
+
+    //
+    // Benchmark Parameters
+    //
+
+    /** Number of PVs (i.e., data buckets) within the page */
+    @Param({"10", "100"})
+    public int              cntPvs;
+
+    /** Number of samples per PV (at most one bucket duration) */
+    @Param({"100", "1000"})
+    public int              cntSamples;
+
+    /** The data type of every PV */
+    @Param({"DOUBLE", "INTEGER", "LONG", "FLOAT", "BOOLEAN", "STRING"})
+    public DpSupportedType  enmType;
+
+
+    //
+    // Workload
+    //
+
+    /** The response page */
+    private QueryData               msgPage;
+
+    /** The Java type of the data values */
+    private Class<? extends Object> clsType;
+
+
+    //
+    // Setup
+    //
+
+    /**
+     * <p>
+     * Creates the workload.
+     * </p>
+     */
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        JalTestArchiveConfig    cfgArchive = PipelineData.createArchiveConfig(this.cntPvs, this.cntSamples, TmsMode.CLOCKED, TypeMix.DOUBLE);
+
+        cfgArchive.pvs.types = List.of(this.enmType);
+
+        StandInArchive      arcData = StandInArchive.from(cfgArchive, PipelineData.DUR_BUCKET);
+        QueryData.Builder   bldrPage = QueryData.newBuilder();
+
+        for (int indPv=0; indPv<this.cntPvs; indPv++)
+            bldrPage.addDataBuckets(arcData.createBucket(indPv, 0L, this.cntSamples));
+
+        this.msgPage = bldrPage.build();
+        this.clsType = this.enmType.getJavaType();
+    }
+
+
+    //
+    // Benchmarks
+    //
+
+    /**
+     * @param bh    JMH black hole consuming the extracted value lists
+     */
+    @Benchmark
+    public void extractValuesAs(Blackhole bh) {
+        for (DataBucket msgBucket : this.msgPage.getDataBucketsList()) {
+            List<? extends Object> lstVals = ProtoMsg.extractValuesAs(this.clsType, msgBucket.getDataColumn());
+
+            bh.consume(lstVals);
+        }
+    }
+
+    /**
+     * @return  the memory allocation estimate of the page message
+     */
+    @Benchmark
+    public long sizeofPage() {
+        return JavaSize.sizeof(this.msgPage);
+    }
+
+    /**
+     * @return  the serialized size of the page message
+     */
+    @Benchmark
+    public int  serializedSizeOfPage() {
+        return this.msgPage.getSerializedSize();
+    }
+}
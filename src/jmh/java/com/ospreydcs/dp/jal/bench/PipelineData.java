@@ -0,0 +1,318 @@
+/*
+ * Project: dp-api-common
+ * File:	PipelineData.java
+ * Package: com.ospreydcs.dp.jal.bench
+ * Type: 	PipelineData
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.bench;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.common.UniformSamplingClock;
+import com.ospreydcs.dp.api.ingest.IngestionFrame;
+import com.ospreydcs.dp.api.model.table.StaticDataColumn;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse.QueryData;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse.QueryData.DataBucket;
+import com.ospreydcs.dp.jal.tools.config.archive.JalTestArchiveConfig;
+import com.ospreydcs.dp.jal.tools.config.archive.JalTestArchivePvsConfig;
+import com.ospreydcs.dp.jal.tools.server.StandInArchive;
+
+/**
+ * <p>
+ * Synthetic workloads for the client-side data pipeline benchmarks.
+ * </p>
+ * <p>
+ * Query workloads are Query Service response pages (i.e., <code>QueryData</code> messages) produced by the
+ * Data Platform stand-in archive <code>{@link StandInArchive}</code>, so that the benchmarks see exactly the
+ * messages an evaluator sees from the stand-in server, without the transport.  Ingestion workloads are
+ * <code>{@link IngestionFrame}</code> instances populated with the same sample values.
+ * </p>
+ * <p>
+ * <h2>Workload Parameters</h2>
+ * All workloads are parameterized by
+ * <ul>
+ * <li>the number of PVs,</li>
+ * <li>the number of samples per PV (sampled at 1 ms),</li>
+ * <li>the timestamp mode <code>{@link TmsMode}</code>, and</li>
+ * <li>the data type mix <code>{@link TypeMix}</code>.</li>
+ * </ul>
+ * The stand-in archive partitions the samples into 1 second data buckets (i.e., 1,000 samples per bucket).
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public final class PipelineData {
+
+
+    //
+    // Class Types
+    //
+
+    /**
+     * <p>
+     * Timestamp representation of the synthetic PVs.
+     * </p>
+     */
+    public static enum TmsMode {
+
+        /** All PVs use sampling clocks */
+        CLOCKED,
+
+        /** All PVs use explicit timestamp lists */
+        TMS_LIST,
+
+        /** First half of the PVs use sampling clocks, second half timestamp lists */
+        MIXED;
+    }
+
+    /**
+     * <p>
+     * Data types of the synthetic PVs.
+     * </p>
+     */
+    public static enum TypeMix {
+
+        /** All PVs are of type <code>DOUBLE</code> */
+        DOUBLE(List.of(DpSupportedType.DOUBLE)),
+
+        /** PV types cycle through the scalar numeric types */
+        NUMERIC(List.of(DpSupportedType.DOUBLE, DpSupportedType.INTEGER, DpSupportedType.LONG, DpSupportedType.FLOAT)),
+
+        /** PV types cycle through all supported scalar types, including <code>BOOLEAN</code> and <code>STRING</code> */
+        SCALAR(List.of(DpSupportedType.DOUBLE, DpSupportedType.INTEGER, DpSupportedType.LONG, DpSupportedType.FLOAT, DpSupportedType.BOOLEAN, DpSupportedType.STRING));
+
+        /** The PV types, assigned cyclically by PV index */
+        private final List<DpSupportedType> lstTypes;
+
+        /** Constructs the constant */
+        private TypeMix(List<DpSupportedType> lstTypes) { this.lstTypes = lstTypes; };
+
+        /** @return the PV types, assigned cyclically by PV index */
+        public List<DpSupportedType> getTypes() { return this.lstTypes; };
+    }
+
+
+    //
+    // Class Constants
+    //
+
+    /** Synthetic archive inception */
+    public static final String      STR_INCEPT = "2023-10-31T15:51:02.000+00:00";
+
+    /** Synthetic archive inception instant */
+    public static final Instant     INS_INCEPT = Instant.parse(STR_INCEPT);
+
+    /** Synthetic PV name prefix */
+    public static final String      STR_PV_PREFIX = "dpBench_";
+
+    /** Synthetic sampling period */
+    public static final Duration    DUR_PERIOD = Duration.ofMillis(1L);
+
+    /** Stand-in archive data bucket duration */
+    public static final Duration    DUR_BUCKET = Duration.ofSeconds(1L);
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates the stand-in archive for the given workload parameters.
+     * </p>
+     *
+     * @param cntPvs        number of PVs
+     * @param cntSamples    number of samples per PV
+     * @param enmTms        timestamp mode
+     * @param enmTypes      data type mix
+     *
+     * @return  new stand-in archive synthesizing the workload
+     */
+    public static StandInArchive    createArchive(int cntPvs, int cntSamples, TmsMode enmTms, TypeMix enmTypes) {
+        return StandInArchive.from(PipelineData.createArchiveConfig(cntPvs, cntSamples, enmTms, enmTypes), DUR_BUCKET);
+    }
+
+    /**
+     * <p>
+     * Creates the Query Service response pages recovering all samples of the given archive.
+     * </p>
+     * <p>
+     * Buckets are ordered as the stand-in server streams them (bucket-major, then PV).
+     * </p>
+     *
+     * @param arcData       the stand-in archive
+     * @param cntPageSize   maximum number of data buckets per page
+     *
+     * @return  ordered list of response pages
+     */
+    public static List<QueryData>   createPages(StandInArchive arcData, int cntPageSize) {
+
+        Instant             insEnd = arcData.getFinal().plus(DUR_PERIOD);
+        Iterator<DataBucket> itrBuckets = arcData.cursor(arcData.getPvNames(), arcData.getInception(), insEnd);
+        List<QueryData>     lstPages = new ArrayList<>();
+
+        while (itrBuckets.hasNext()) {
+            QueryData.Builder   bldrPage = QueryData.newBuilder();
+
+            for (int cnt=0; cnt<cntPageSize && itrBuckets.hasNext(); cnt++)
+                bldrPage.addDataBuckets(itrBuckets.next());
+
+            lstPages.add(bldrPage.build());
+        }
+
+        return lstPages;
+    }
+
+    /**
+     * <p>
+     * Creates an ingestion frame containing all samples of the given archive.
+     * </p>
+     * <p>
+     * An ingestion frame has a single timestamp representation, so the frame uses a timestamp list if the
+     * first archive PV carries one and a uniform sampling clock otherwise.
+     * </p>
+     *
+     * @param arcData   the stand-in archive
+     *
+     * @return  new ingestion frame with one column per archive PV
+     */
+    public static IngestionFrame    createFrame(StandInArchive arcData) {
+
+        int             cntSamples = (int)arcData.getSampleCount();
+        List<String>    lstPvNames = arcData.getPvNames();
+
+        ArrayList<IDataColumn<Object>>  vecCols = new ArrayList<>(lstPvNames.size());
+
+        for (int indPv=0; indPv<lstPvNames.size(); indPv++) {
+            DpSupportedType     enmType = arcData.getType(indPv);
+            ArrayList<Object>   vecVals = new ArrayList<>(cntSamples);
+
+            for (int indSmpl=0; indSmpl<cntSamples; indSmpl++)
+                vecVals.add(PipelineData.createValue(enmType, indPv, indSmpl));
+
+            vecCols.add(StaticDataColumn.from(lstPvNames.get(indPv), enmType, vecVals));
+        }
+
+        if (arcData.isClocked(0))
+            return IngestionFrame.from(UniformSamplingClock.from(arcData.getInception(), cntSamples, DUR_PERIOD), vecCols);
+
+        ArrayList<Instant>  vecTms = new ArrayList<>(cntSamples);
+
+        for (int indSmpl=0; indSmpl<cntSamples; indSmpl++)
+            vecTms.add(arcData.getInception().plus(DUR_PERIOD.multipliedBy(indSmpl)));
+
+        return IngestionFrame.from(vecTms, vecCols);
+    }
+
+    /**
+     * <p>
+     * Creates the test archive configuration for the given workload parameters.
+     * </p>
+     *
+     * @param cntPvs        number of PVs
+     * @param cntSamples    number of samples per PV
+     * @param enmTms        timestamp mode
+     * @param enmTypes      data type mix
+     *
+     * @return  new test archive configuration
+     */
+    public static JalTestArchiveConfig  createArchiveConfig(int cntPvs, int cntSamples, TmsMode enmTms, TypeMix enmTypes) {
+
+        int     cntClocked = switch (enmTms) {
+            case CLOCKED -> cntPvs;
+            case TMS_LIST -> 0;
+            case MIXED -> cntPvs/2;
+        };
+
+        JalTestArchiveConfig    cfg = new JalTestArchiveConfig();
+
+        cfg.range = new JalTestArchiveConfig.SampleRange();
+        cfg.range.start = STR_INCEPT;
+        cfg.range.end = INS_INCEPT.plus(DUR_PERIOD.multipliedBy(cntSamples - 1)).toString();
+
+        cfg.pvs = new JalTestArchivePvsConfig();
+        cfg.pvs.prefix = STR_PV_PREFIX;
+        cfg.pvs.types = enmTypes.getTypes();
+        cfg.pvs.clock = new JalTestArchivePvsConfig.SampleClock();
+        cfg.pvs.clock.period = DUR_PERIOD.toMillis();
+        cfg.pvs.clock.units = TimeUnit.MILLISECONDS;
+        cfg.pvs.count = new JalTestArchivePvsConfig.PvTmsCounts();
+        cfg.pvs.count.total = cntPvs;
+        cfg.pvs.count.clocked = cntClocked;
+        cfg.pvs.count.tmsList = cntPvs - cntClocked;
+        cfg.pvs.indexes = new JalTestArchivePvsConfig.PvTmsIndexes();
+        cfg.pvs.indexes.clocked = 0;
+        cfg.pvs.indexes.tmsList = cntClocked;
+
+        return cfg;
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @param enmType   PV data type
+     * @param indPv     0-based PV index
+     * @param indSmpl   sample index
+     *
+     * @return  the Java value of the archive sample, consistent with the stand-in archive message values
+     */
+    private static Object   createValue(DpSupportedType enmType, int indPv, long indSmpl) {
+
+        double  dblVal = StandInArchive.value(indPv, indSmpl);
+
+        return switch (enmType) {
+            case BOOLEAN -> Boolean.valueOf(indSmpl % 2L == 0L);
+            case INTEGER -> Integer.valueOf((int)Math.round(1000.0*dblVal));
+            case LONG -> Long.valueOf(Math.round(1000.0*dblVal));
+            case FLOAT -> Float.valueOf((float)dblVal);
+            case STRING -> Double.toString(dblVal);
+            default -> Double.valueOf(dblVal);
+        };
+    }
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Prevent construction of <code>PipelineData</code> instances.
+     * </p>
+     */
+    private PipelineData() {
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Project: dp-api-common
+ * File:	QueryPipelineBenchmark.java
+ * Package: com.ospreydcs.dp.jal.bench
+ * Type: 	QueryPipelineBenchmark
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.bench;
+
+import java.util.List;
+import java.util.SortedSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ospreydcs.dp.api.common.IDataTable;
+import com.ospreydcs.dp.api.query.DpQueryException;
+import com.ospreydcs.dp.api.query.model.assem.QueryResponseAssembler;
+import com.ospreydcs.dp.api.query.model.assem.SampledAggregate;
+import com.ospreydcs.dp.api.query.model.correl.RawCorrelatedData;
+import com.ospreydcs.dp.api.query.model.correl.RawDataCorrelator;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse.QueryData;
+import com.ospreydcs.dp.jal.bench.PipelineData.TmsMode;
+import com.ospreydcs.dp.jal.bench.PipelineData.TypeMix;
+import com.ospreydcs.dp.jal.tools.server.StandInArchive;
+
+/**
+ * <p>
+ * JMH benchmarks of the query response pipeline stages.
+ * </p>
+ * <p>
+ * Each stage is measured in isolation against the (precomputed) output of the preceding stage:
+ * <ol>
+ * <li><code>{@link #correlate()}</code> - <code>RawDataCorrelator</code> processing of all response pages.</li>
+ * <li><code>{@link #assemble()}</code> - <code>QueryResponseAssembler</code> processing of the correlated set.</li>
+ * <li><code>{@link #createStaticTable()}</code> - <code>SampledAggregate</code> static data table creation.</li>
+ * <li><code>{@link #createDynamicTable()}</code> - <code>SampledAggregate</code> dynamic data table creation.</li>
+ * </ol>
+ * Concurrency is disabled in the correlator and assembler so that the measurements reflect single-thread cost
+ * and allocation; run with <code>-prof gc</code> (the profile default) for allocation rates.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(value=1, jvmArgsAppend={"-Xms4g", "-Xmx4g"})
+public class QueryPipelineBenchmark {
+
+
+    //
+    // Benchmark Parameters
+    //
+
+    /** Number of PVs within the query */
+    @Param({"10", "100", "1000"})
+    public int          cntPvs;
+
+    /** Number of samples per PV */
+    @Param({"1000", "10000"})
+    public int          cntSamples;
+
+    /** Timestamp mode of the PVs */
+    @Param({"CLOCKED", "TMS_LIST", "MIXED"})
+    public TmsMode      enmTms;
+
+    /** Data type mix of the PVs */
+    @Param({"DOUBLE", "SCALAR"})
+    public TypeMix      enmTypes;
+
+    /** Number of data buckets per response page */
+    @Param({"100"})
+    public int          cntPageSize;
+
+
+    //
+    // Workload
+    //
+
+    /** The Query Service response pages */
+    private List<QueryData>                 lstPages;
+
+    /** The correlated response data */
+    private SortedSet<RawCorrelatedData>    setCorrelated;
+
+    /** The assembled sampled aggregate */
+    private SampledAggregate                aggData;
+
+
+    //
+    // Benchmark Resources
+    //
+
+    /** The raw data correlator under test */
+    private RawDataCorrelator               prcrCorrel;
+
+    /** The response assembler under test */
+    private QueryResponseAssembler          prcrAssem;
+
+
+    //
+    // Setup
+    //
+
+    /**
+     * <p>
+     * Creates the workload and the outputs of every pipeline stage.
+     * </p>
+     *
+     * @throws DpQueryException the synthetic workload could not be assembled (i.e., a pipeline defect)
+     */
+    @Setup(Level.Trial)
+    public void setupTrial() throws DpQueryException {
+        StandInArchive  arcData = PipelineData.createArchive(this.cntPvs, this.cntSamples, this.enmTms, this.enmTypes);
+
+        this.lstPages = PipelineData.createPages(arcData, this.cntPageSize);
+
+        this.prcrCorrel = RawDataCorrelator.create();
+        this.prcrCorrel.disableConcurrency();
+
+        this.prcrAssem = QueryResponseAssembler.create();
+        this.prcrAssem.enableConcurrency(false);
+
+        for (QueryData msgPage : this.lstPages)
+            this.prcrCorrel.processQueryData(msgPage);
+
+        this.setCorrelated = this.prcrCorrel.getCorrelatedSet();
+        this.aggData = this.prcrAssem.process(this.setCorrelated);
+    }
+
+    /**
+     * <p>
+     * Resets the correlator before each invocation of <code>{@link #correlate()}</code>.
+     * </p>
+     * <p>
+     * The trial setup correlated set is retained by the other benchmarks, so a fresh correlator is used.
+     * </p>
+     */
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        this.prcrCorrel = RawDataCorrelator.create();
+        this.prcrCorrel.disableConcurrency();
+    }
+
+
+    //
+    // Benchmarks
+    //
+
+    /**
+     * @return  the correlated set of all response pages
+     */
+    @Benchmark
+    public SortedSet<RawCorrelatedData> correlate() {
+        for (QueryData msgPage : this.lstPages)
+            this.prcrCorrel.processQueryData(msgPage);
+
+        return this.prcrCorrel.getCorrelatedSet();
+    }
+
+    /**
+     * @return  the sampled aggregate assembled from the correlated set
+     *
+     * @throws DpQueryException the correlated set could not be assembled (i.e., a pipeline defect)
+     */
+    @Benchmark
+    public SampledAggregate assemble() throws DpQueryException {
+        return this.prcrAssem.process(this.setCorrelated);
+    }
+
+    /**
+     * @return  the static data table of the sampled aggregate
+     */
+    @Benchmark
+    public IDataTable   createStaticTable() {
+        return this.aggData.createStaticDataTable();
+    }
+
+    /**
+     * @return  the dynamic data table of the sampled aggregate
+     */
+    @Benchmark
+    public IDataTable   createDynamicTable() {
+        return this.aggData.createDynamicDataTable();
+    }
+}
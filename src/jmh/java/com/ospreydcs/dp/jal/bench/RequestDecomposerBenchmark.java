@@ -0,0 +1,167 @@
+/*
+ * Project: dp-api-common
+ * File:	RequestDecomposerBenchmark.java
+ * Package: com.ospreydcs.dp.jal.bench
+ * Type: 	RequestDecomposerBenchmark
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.bench;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ospreydcs.dp.api.common.DpGrpcStreamType;
+import com.ospreydcs.dp.api.query.DpDataRequest;
+import com.ospreydcs.dp.api.query.model.request.DataRequestDecomposer;
+import com.ospreydcs.dp.api.query.model.request.RequestDecompType;
+
+/**
+ * <p>
+ * JMH benchmarks of the <code>DataRequestDecomposer</code> composite request builders.
+ * </p>
+ * <p>
+ * The request selects the given number of PVs over the given number of samples of the synthetic archive
+ * (see <code>{@link PipelineData}</code>).  The benchmarks measure the preferred decomposition and the
+ * explicit decompositions into the given number of sub-queries.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(value=1)
+public class RequestDecomposerBenchmark {
+
+
+    //
+    // Benchmark Parameters
+    //
+
+    /** Number of PVs within the request */
+    @Param({"10", "100", "1000", "10000"})
+    public int                  cntPvs;
+
+    /** Number of samples per PV within the request time range */
+    @Param({"1000", "1000000"})
+    public int                  cntSamples;
+
+    /** Number of sub-queries of the explicit decompositions */
+    @Param({"4", "16"})
+    public int                  cntQueries;
+
+
+    //
+    // Workload
+    //
+
+    /** The data request */
+    private DpDataRequest           rqstData;
+
+
+    //
+    // Benchmark Resources
+    //
+
+    /** The request decomposer under test */
+    private DataRequestDecomposer   prcrDecomp;
+
+
+    //
+    // Setup
+    //
+
+    /**
+     * <p>
+     * Creates the workload and decomposer.
+     * </p>
+     */
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        Instant         insEnd = PipelineData.INS_INCEPT.plus(PipelineData.DUR_PERIOD.multipliedBy(this.cntSamples));
+        List<String>    lstPvNames = IntStream.rangeClosed(1, this.cntPvs)
+                .mapToObj(i -> PipelineData.STR_PV_PREFIX + i)
+                .toList();
+
+        this.rqstData = DpDataRequest.from(DpGrpcStreamType.BACKWARD, PipelineData.INS_INCEPT, insEnd, lstPvNames);
+        this.prcrDecomp = DataRequestDecomposer.create();
+    }
+
+
+    //
+    // Benchmarks
+    //
+
+    /**
+     * @return  the preferred composite request
+     */
+    @Benchmark
+    public List<DpDataRequest>  decomposePreferred() {
+        return this.prcrDecomp.buildCompositeRequestPreferred(this.rqstData);
+    }
+
+    /**
+     * @return  the horizontal (i.e., by PV) composite request
+     */
+    @Benchmark
+    public List<DpDataRequest>  decomposeHorizontal() {
+        return this.prcrDecomp.buildCompositeRequest(this.rqstData, RequestDecompType.HORIZONTAL, this.cntQueries);
+    }
+
+    /**
+     * @return  the vertical (i.e., by time) composite request
+     */
+    @Benchmark
+    public List<DpDataRequest>  decomposeVertical() {
+        return this.prcrDecomp.buildCompositeRequest(this.rqstData, RequestDecompType.VERTICAL, this.cntQueries);
+    }
+
+    /**
+     * @return  the grid composite request with square root of the sub-query count in each axis
+     */
+    @Benchmark
+    public List<DpDataRequest>  decomposeGrid() {
+        int     cntAxis = (int)Math.sqrt(this.cntQueries);
+
+        return this.prcrDecomp.buildCompositeRequestGrid(this.rqstData, cntAxis, cntAxis);
+    }
+}
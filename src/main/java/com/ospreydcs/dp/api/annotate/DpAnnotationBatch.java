@@ -0,0 +1,242 @@
+/*
+ * Project: dp-api-common
+ * File:	DpAnnotationBatch.java
+ * Package: com.ospreydcs.dp.api.annotate
+ * Type: 	DpAnnotationBatch
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.annotate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * <p>
+ * Handle to a batch of Annotation Service operations submitted together.
+ * </p>
+ * <p>
+ * A batch contains one result future for each request of the batch, in request order.  The operations are
+ * performed asynchronously with a bounded number of outstanding calls to the Annotation Service, so the handle is
+ * returned immediately upon submission.  Each future completes normally with the result of its operation, or
+ * exceptionally with
+ * <ul>
+ * <li><code>{@link DpAnnotationException}</code> - the request was invalid, rejected by the Annotation Service,
+ *     or the call failed (e.g., the deadline expired, see the cause).</li>
+ * <li><code>{@link CancellationException}</code> - the batch was cancelled before the operation completed.</li>
+ * </ul>
+ * The failure of an operation does not affect the other operations of the batch.
+ * </p>
+ * <p>
+ * <h2>Usage:</h2>
+ * The results may be used individually, with <code>{@link #getFuture(int)}</code>, or collectively with
+ * <code>{@link #allResults()}</code> or the blocking <code>{@link #awaitResults()}</code>.  A batch is
+ * cancelled with <code>{@link #cancel()}</code>, which cancels all outstanding calls and any operations
+ * not yet started.
+ * </p>
+ *
+ * @param <T>   the result type of each operation
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ * @see IAnnotationService#createDatasets(List)
+ * @see IAnnotationService#queryDatasets(List)
+ */
+public class DpAnnotationBatch<T> {
+    
+    
+    //
+    // Defining Attributes
+    //
+    
+    /** The result future of each batch operation, in request order */
+    private final List<CompletableFuture<T>>    lstFutures;
+    
+    /** Cancels the batch operations */
+    private final Runnable                      fncCancel;
+    
+    
+    //
+    // Constructors
+    //
+    
+    /**
+     * <p>
+     * Constructs a new <code>DpAnnotationBatch</code> instance.
+     * </p>
+     * <p>
+     * Batches are created by <code>{@link IAnnotationService}</code> implementations.
+     * </p>
+     *
+     * @param lstFutures    the result future of each batch operation, in request order
+     * @param fncCancel     cancels all outstanding and pending batch operations
+     */
+    public DpAnnotationBatch(List<CompletableFuture<T>> lstFutures, Runnable fncCancel) {
+        this.lstFutures = List.copyOf(lstFutures);
+        this.fncCancel = fncCancel;
+    }
+    
+    
+    //
+    // State Query
+    //
+    
+    /**
+     * @return  the number of operations in the batch
+     */
+    public int  size() {
+        return this.lstFutures.size();
+    }
+    
+    /**
+     * <p>
+     * Returns the result future of the operation for the given request.
+     * </p>
+     *
+     * @param index     index of the request within the batch
+     *
+     * @return  the result future of the indexed operation
+     *
+     * @throws IndexOutOfBoundsException    the index is not within the batch
+     */
+    public CompletableFuture<T> getFuture(int index) throws IndexOutOfBoundsException {
+        return this.lstFutures.get(index);
+    }
+    
+    /**
+     * @return  the (immutable) list of result futures for all operations, in request order
+     */
+    public List<CompletableFuture<T>>   getFutures() {
+        return this.lstFutures;
+    }
+    
+    /**
+     * @return  <code>true</code> if every operation of the batch has completed (normally, exceptionally, or by cancellation)
+     */
+    public boolean  isDone() {
+        return this.lstFutures.stream().allMatch(CompletableFuture::isDone);
+    }
+    
+    /**
+     * @return  the number of operations that have completed exceptionally or were cancelled
+     */
+    public int  getFailedCount() {
+        return (int)this.lstFutures.stream().filter(CompletableFuture::isCompletedExceptionally).count();
+    }
+    
+    
+    //
+    // Operations
+    //
+    
+    /**
+     * <p>
+     * Returns a future for the results of all batch operations.
+     * </p>
+     * <p>
+     * The returned future completes with the results of all operations, in request order, once every operation has
+     * completed normally.  It completes exceptionally as soon as any operation fails or is cancelled.
+     * </p>
+     *
+     * @return  future for the list of all operation results
+     */
+    public CompletableFuture<List<T>>   allResults() {
+        CompletableFuture<List<T>>  futAll = new CompletableFuture<>();
+    
+        for (CompletableFuture<T> fut : this.lstFutures)
+            fut.whenComplete((rsl, err) -> {
+                if (err != null)
+                    futAll.completeExceptionally(err);
+            });
+    
+        CompletableFuture.allOf(this.lstFutures.toArray(CompletableFuture[]::new))
+            .thenRun(() -> futAll.complete(this.lstFutures.stream().map(CompletableFuture::join).toList()));
+    
+        return futAll;
+    }
+    
+    /**
+     * <p>
+     * Waits for all batch operations to complete and returns their results.
+     * </p>
+     * <p>
+     * Blocks until every operation has completed.  If any operation failed, or the batch was cancelled,
+     * an exception is thrown for the first such operation in request order.  If the calling thread is interrupted
+     * the batch is cancelled.
+     * </p>
+     *
+     * @return  the results of all operations, in request order
+     *
+     * @throws DpAnnotationException    an operation failed or was cancelled, or the wait was interrupted (see cause)
+     */
+    public List<T>  awaitResults() throws DpAnnotationException {
+        List<T>     lstResults = new ArrayList<>(this.lstFutures.size());
+        int         index = 0;
+    
+        for (CompletableFuture<T> fut : this.lstFutures) {
+            try {
+                lstResults.add(fut.get());
+    
+            } catch (InterruptedException e) {
+                this.cancel();
+                Thread.currentThread().interrupt();
+    
+                throw new DpAnnotationException("Interrupted while awaiting batch results.", e);
+    
+            } catch (CancellationException e) {
+                throw new DpAnnotationException("Batch operation " + index + " was cancelled.", e);
+    
+            } catch (ExecutionException | CompletionException e) {
+                Throwable   errCause = e.getCause();
+    
+                if (errCause instanceof DpAnnotationException errAnnot)
+                    throw errAnnot;
+    
+                throw new DpAnnotationException("Batch operation " + index + " failed: " + errCause, errCause);
+            }
+    
+            index++;
+        }
+    
+        return lstResults;
+    }
+    
+    /**
+     * <p>
+     * Cancels the batch.
+     * </p>
+     * <p>
+     * All outstanding Annotation Service calls are cancelled and operations not yet started are abandoned.  The
+     * futures of all operations not yet completed are cancelled.  Operations that have already completed are not
+     * affected, however, note that the Annotation Service may still complete cancelled operations (e.g., create
+     * data sets) for which it had already received the request.
+     * </p>
+     */
+    public void cancel() {
+        this.fncCancel.run();
+    }
+}
@@ -25,6 +25,7 @@
  */
 package com.ospreydcs.dp.api.annotate;
 
+import java.time.Duration;
 import java.util.List;
 
 import com.ospreydcs.dp.api.common.DatasetUID;
@@ -174,4 +175,97 @@ public interface IAnnotationService extends IConnection {
      * @throws DpAnnotationException    general exception while attempting data sets request (i.e., empty criteria)
      */
     public List<DpDataset>  queryDatasets(DpDatasetsRequest rqst) throws DpAnnotationException;
+    
+    
+    //
+    // Batch Operations
+    //
+    
+    /**
+     * <p>
+     * Creates multiple new data sets within the Data Platform time-series data archive.
+     * </p>
+     * <p>
+     * Submits all the given data set creation requests to the Annotation Service as a single batch and returns
+     * immediately.  The requests are pipelined, with a bounded number of outstanding calls given by the
+     * Annotation Service API configuration, so the batch completes in a fraction of the time required for
+     * the equivalent sequence of <code>{@link #createDataset(DpCreateDatasetRequest)}</code> invocations.
+     * The result of each request, the UID of its new data set, is available from the returned batch handle in
+     * request order.  Each request succeeds or fails independently (e.g., an empty data set fails only its own
+     * operation).
+     * </p>
+     * <p>
+     * The default timeout limit of the Annotation Service API applies to each call individually.
+     * </p>
+     * 
+     * @param lstRqsts  the request objects defining the data sets
+     * 
+     * @return  handle to the batch of data set creation operations
+     * 
+     * @see #createDatasets(List, Duration)
+     */
+    default public DpAnnotationBatch<DatasetUID>    createDatasets(List<DpCreateDatasetRequest> lstRqsts) {
+        return this.createDatasets(lstRqsts, null);
+    }
+    
+    /**
+     * <p>
+     * Creates multiple new data sets within the Data Platform time-series data archive within the given deadline.
+     * </p>
+     * <p>
+     * Same as <code>{@link #createDatasets(List)}</code> except that all calls of the batch must complete within
+     * the given duration from submission.  Operations not completed by the deadline fail with a
+     * <code>{@link DpAnnotationException}</code>.  Any deadline or cancellation of the caller's gRPC context
+     * also applies to the batch.
+     * </p>
+     * 
+     * @param lstRqsts      the request objects defining the data sets
+     * @param durDeadline   the time limit for the entire batch, or <code>null</code> for the default per-call timeout
+     * 
+     * @return  handle to the batch of data set creation operations
+     */
+    public DpAnnotationBatch<DatasetUID>    createDatasets(List<DpCreateDatasetRequest> lstRqsts, Duration durDeadline);
+    
+    /**
+     * <p>
+     * Performs multiple data sets requests upon the Data Platform time-series archive.
+     * </p>
+     * <p>
+     * Submits all the given data sets requests to the Annotation Service as a single batch and returns
+     * immediately.  The requests are pipelined, with a bounded number of outstanding calls given by the
+     * Annotation Service API configuration.  The result of each request, the list of matching data sets (see
+     * <code>{@link #queryDatasets(DpDatasetsRequest)}</code>), is available from the returned batch handle in
+     * request order.  Each request succeeds or fails independently.
+     * </p>
+     * <p>
+     * The default timeout limit of the Annotation Service API applies to each call individually.
+     * </p>
+     * 
+     * @param lstRqsts  request objects containing data sets criteria
+     * 
+     * @return  handle to the batch of data sets requests
+     * 
+     * @see #queryDatasets(List, Duration)
+     */
+    default public DpAnnotationBatch<List<DpDataset>>   queryDatasets(List<DpDatasetsRequest> lstRqsts) {
+        return this.queryDatasets(lstRqsts, null);
+    }
+    
+    /**
+     * <p>
+     * Performs multiple data sets requests upon the Data Platform time-series archive within the given deadline.
+     * </p>
+     * <p>
+     * Same as <code>{@link #queryDatasets(List)}</code> except that all calls of the batch must complete within
+     * the given duration from submission.  Requests not completed by the deadline fail with a
+     * <code>{@link DpAnnotationException}</code>.  Any deadline or cancellation of the caller's gRPC context
+     * also applies to the batch.
+     * </p>
+     * 
+     * @param lstRqsts      request objects containing data sets criteria
+     * @param durDeadline   the time limit for the entire batch, or <code>null</code> for the default per-call timeout
+     * 
+     * @return  handle to the batch of data sets requests
+     */
+    public DpAnnotationBatch<List<DpDataset>>   queryDatasets(List<DpDatasetsRequest> lstRqsts, Duration durDeadline);
 }
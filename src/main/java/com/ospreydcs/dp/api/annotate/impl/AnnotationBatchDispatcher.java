@@ -0,0 +1,454 @@
+/*
+ * Project: dp-api-common
+ * File:	AnnotationBatchDispatcher.java
+ * Package: com.ospreydcs.dp.api.annotate.impl
+ * Type: 	AnnotationBatchDispatcher
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.annotate.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.ospreydcs.dp.api.annotate.DpAnnotationBatch;
+import com.ospreydcs.dp.api.annotate.DpAnnotationException;
+import com.ospreydcs.dp.api.config.DpApiConfig;
+import com.ospreydcs.dp.api.config.annotate.DpAnnotationConfig;
+import com.ospreydcs.dp.api.util.JavaRuntime;
+import com.ospreydcs.dp.grpc.v1.annotation.DpAnnotationServiceGrpc.DpAnnotationServiceStub;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * <p>
+ * Pipelines a batch of unary Annotation Service operations over the asynchronous communication stub.
+ * </p>
+ * <p>
+ * At most <code>cntMaxOutstanding</code> calls are outstanding at any time.  The first calls are dispatched
+ * by <code>{@link #start()}</code> and each completed call dispatches the next request of the batch, so the
+ * dispatcher requires no threads of its own; all work is performed on the gRPC callback threads.  Request
+ * messages are built as they are dispatched, thus an invalid request fails only its own operation.
+ * </p>
+ * <p>
+ * <h2>Deadlines and Cancellation</h2>
+ * All calls are made within a cancellable gRPC <code>{@link Context}</code> forked from the caller's context,
+ * so any deadline or cancellation of the calling context propagates to the batch.  If a batch deadline is given
+ * it applies to every call, otherwise the Annotation Service timeout limit (if enabled) applies to each call
+ * individually.  Cancelling the batch cancels the futures of all incomplete operations, then the context, which
+ * cancels the outstanding calls.
+ * </p>
+ *
+ * @param <Q>   API request type
+ * @param <M>   gRPC request message type
+ * @param <P>   gRPC response message type
+ * @param <T>   operation result type
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+final class AnnotationBatchDispatcher<Q, M, P, T> {
+    
+    
+    //
+    // Support Types
+    //
+    
+    /**
+     * Builds the gRPC request message of an API request.
+     */
+    @FunctionalInterface
+    interface IMessageBuilder<Q, M> {
+        M   build(Q rqst) throws IllegalStateException;
+    }
+    
+    /**
+     * Invokes a unary operation upon the asynchronous communication stub.
+     */
+    @FunctionalInterface
+    interface ICallInvoker<M, P> {
+        void    invoke(DpAnnotationServiceStub stub, M msgRqst, StreamObserver<P> hndRsp);
+    }
+    
+    /**
+     * Extracts the operation result from the gRPC response message.
+     */
+    @FunctionalInterface
+    interface IResultExtractor<P, T> {
+        T   extract(P msgRsp) throws DpAnnotationException;
+    }
+    
+    
+    //
+    // Application Resources
+    //
+    
+    /** Default Annotation Service API configuration parameters */
+    private static final DpAnnotationConfig  CFG_DEF = DpApiConfig.getInstance().annotation;
+    
+    
+    //
+    // Class Constants
+    //
+    
+    /** Logging enabled flag */
+    private static final boolean        BOL_LOGGING = CFG_DEF.logging.enabled;
+    
+    /** Timeout enabled flag */
+    private static final boolean        BOL_TIMEOUT = CFG_DEF.timeout.enabled;
+    
+    /** General operation timeout limit */
+    private static final long           LNG_TIMEOUT = CFG_DEF.timeout.limit;
+    
+    /** General operation timeout units */
+    private static final TimeUnit       TU_TIMEOUT = CFG_DEF.timeout.unit;
+    
+    
+    //
+    // Class Resources
+    //
+    
+    /** Class event logger */
+    private static final Logger         LOGGER = LogManager.getLogger();
+    
+    
+    //
+    // Defining Attributes
+    //
+    
+    /** The asynchronous communication stub */
+    private final DpAnnotationServiceStub       stub;
+    
+    /** The batch requests */
+    private final List<Q>                       lstRqsts;
+    
+    /** Request message builder */
+    private final IMessageBuilder<Q, M>         fncBuild;
+    
+    /** Operation invoker */
+    private final ICallInvoker<M, P>            fncCall;
+    
+    /** Operation result extractor */
+    private final IResultExtractor<P, T>        fncResult;
+    
+    /** Maximum number of outstanding calls */
+    private final int                           cntMaxOutstanding;
+    
+    /** The batch deadline - <code>null</code> for per-call timeouts */
+    private final Deadline                      dlBatch;
+    
+    
+    //
+    // Instance Resources
+    //
+    
+    /** The result future of each request */
+    private final List<CompletableFuture<T>>    lstFutures;
+    
+    /** The context of all batch calls */
+    private final Context.CancellableContext    ctxBatch;
+    
+    
+    //
+    // State Variables
+    //
+    
+    /** Index of the next request to dispatch */
+    private final AtomicInteger                 indNext = new AtomicInteger();
+    
+    
+    //
+    // Creator
+    //
+    
+    /**
+     * <p>
+     * Creates a new batch dispatcher for the given requests.
+     * </p>
+     * <p>
+     * The batch context is forked from the current gRPC context, that of the calling thread.  No calls
+     * are made until <code>{@link #start()}</code> is invoked.
+     * </p>
+     *
+     * @param stub              the asynchronous communication stub
+     * @param lstRqsts          the batch requests
+     * @param fncBuild          request message builder
+     * @param fncCall           operation invoker
+     * @param fncResult         operation result extractor
+     * @param cntMaxOutstanding maximum number of outstanding calls
+     * @param dlBatch           deadline for all batch calls, or <code>null</code> for per-call timeouts
+     *
+     * @return  a new batch dispatcher ready for start
+     *
+     * @throws IllegalArgumentException the maximum number of outstanding calls is not positive
+     */
+    static <Q, M, P, T> AnnotationBatchDispatcher<Q, M, P, T>  create(
+            DpAnnotationServiceStub stub,
+            List<Q> lstRqsts,
+            IMessageBuilder<Q, M> fncBuild,
+            ICallInvoker<M, P> fncCall,
+            IResultExtractor<P, T> fncResult,
+            int cntMaxOutstanding,
+            Deadline dlBatch)
+        throws IllegalArgumentException
+    {
+        return new AnnotationBatchDispatcher<>(stub, lstRqsts, fncBuild, fncCall, fncResult, cntMaxOutstanding, dlBatch);
+    }
+    
+    
+    //
+    // Constructors
+    //
+    
+    /**
+     * <p>
+     * Constructs a new <code>AnnotationBatchDispatcher</code> instance.
+     * </p>
+     *
+     * @see #create(DpAnnotationServiceStub, List, IMessageBuilder, ICallInvoker, IResultExtractor, int, Deadline)
+     */
+    private AnnotationBatchDispatcher(
+            DpAnnotationServiceStub stub,
+            List<Q> lstRqsts,
+            IMessageBuilder<Q, M> fncBuild,
+            ICallInvoker<M, P> fncCall,
+            IResultExtractor<P, T> fncResult,
+            int cntMaxOutstanding,
+            Deadline dlBatch)
+        throws IllegalArgumentException
+    {
+        if (cntMaxOutstanding <= 0) {
+            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() + " - Maximum outstanding calls must be positive: " + cntMaxOutstanding;
+    
+            if (BOL_LOGGING)
+                LOGGER.error(strMsg);
+    
+            throw new IllegalArgumentException(strMsg);
+        }
+    
+        this.stub = stub;
+        this.lstRqsts = List.copyOf(lstRqsts);
+        this.fncBuild = fncBuild;
+        this.fncCall = fncCall;
+        this.fncResult = fncResult;
+        this.cntMaxOutstanding = cntMaxOutstanding;
+        this.dlBatch = dlBatch;
+    
+        this.lstFutures = new ArrayList<>(this.lstRqsts.size());
+        for (int i=0; i<this.lstRqsts.size(); i++)
+            this.lstFutures.add(new CompletableFuture<>());
+    
+        this.ctxBatch = Context.current().withCancellation();
+    }
+    
+    
+    //
+    // Operations
+    //
+    
+    /**
+     * <p>
+     * Dispatches the first calls of the batch and returns the batch handle.
+     * </p>
+     * <p>
+     * The batch context is released once every operation has completed.
+     * </p>
+     *
+     * @return  handle to the batch operations
+     */
+    DpAnnotationBatch<T>    start() {
+    
+        CompletableFuture.allOf(this.lstFutures.toArray(CompletableFuture[]::new))
+            .whenComplete((v, e) -> this.ctxBatch.cancel(null));
+    
+        int     cntInit = Math.min(this.cntMaxOutstanding, this.lstRqsts.size());
+    
+        for (int i=0; i<cntInit; i++)
+            this.dispatchNext();
+    
+        return new DpAnnotationBatch<>(this.lstFutures, this::cancel);
+    }
+    
+    /**
+     * <p>
+     * Cancels all incomplete operations and outstanding calls of the batch.
+     * </p>
+     */
+    void    cancel() {
+    
+        for (CompletableFuture<T> fut : this.lstFutures)
+            fut.cancel(false);
+    
+        this.ctxBatch.cancel(new CancellationException("Annotation batch cancelled by client."));
+    
+        if (BOL_LOGGING)
+            LOGGER.debug("Annotation batch of {} operations cancelled.", this.lstRqsts.size());
+    }
+    
+    
+    //
+    // Support Methods
+    //
+    
+    /**
+     * <p>
+     * Dispatches the next pending request of the batch, if any.
+     * </p>
+     * <p>
+     * Requests that were cancelled, whose message cannot be built, or whose batch context has been cancelled are
+     * completed immediately and the following request is tried.
+     * </p>
+     */
+    private void    dispatchNext() {
+    
+        for (int ind = this.indNext.getAndIncrement(); ind < this.lstRqsts.size(); ind = this.indNext.getAndIncrement()) {
+            CompletableFuture<T>    fut = this.lstFutures.get(ind);
+    
+            if (fut.isDone())
+                continue;
+    
+            if (this.ctxBatch.isCancelled()) {
+                Throwable   errCause = this.ctxBatch.cancellationCause();
+    
+                fut.completeExceptionally(new DpAnnotationException("Batch request " + ind + " not sent, batch context terminated: " + errCause, errCause));
+                continue;
+            }
+    
+            M   msgRqst;
+            try {
+                msgRqst = this.fncBuild.build(this.lstRqsts.get(ind));
+    
+            } catch (IllegalStateException e) {
+                String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() + " - Invalid batch request " + ind + ": " + e.getMessage();
+    
+                if (BOL_LOGGING)
+                    LOGGER.error(strMsg);
+    
+                fut.completeExceptionally(new DpAnnotationException(strMsg, e));
+                continue;
+            }
+    
+            DpAnnotationServiceStub stubCall = this.callStub();
+            ResponseHandler         hndRsp = new ResponseHandler(ind);
+    
+            this.ctxBatch.run(() -> this.fncCall.invoke(stubCall, msgRqst, hndRsp));
+    
+            return;
+        }
+    }
+    
+    /**
+     * @return  the communication stub for the next call, with the batch deadline or call timeout applied
+     */
+    private DpAnnotationServiceStub callStub() {
+        if (this.dlBatch != null)
+            return this.stub.withDeadline(this.dlBatch);
+    
+        if (BOL_TIMEOUT)
+            return this.stub.withDeadlineAfter(LNG_TIMEOUT, TU_TIMEOUT);
+    
+        return this.stub;
+    }
+    
+    
+    /**
+     * <p>
+     * Response handler for a single batch call.
+     * </p>
+     * <p>
+     * Completes the future of its request and dispatches the next request of the batch.
+     * </p>
+     */
+    private final class ResponseHandler implements StreamObserver<P> {
+    
+        /** Index of the request within the batch */
+        private final int       indRqst;
+    
+        /** The (unary) response message */
+        private P               msgRsp = null;
+    
+        /**
+         * @param indRqst   index of the request within the batch
+         */
+        private ResponseHandler(int indRqst) {
+            this.indRqst = indRqst;
+        }
+    
+        /**
+         * @see io.grpc.stub.StreamObserver#onNext(java.lang.Object)
+         */
+        @Override
+        public void onNext(P msgRsp) {
+            this.msgRsp = msgRsp;
+        }
+    
+        /**
+         * @see io.grpc.stub.StreamObserver#onError(java.lang.Throwable)
+         */
+        @Override
+        public void onError(Throwable t) {
+            CompletableFuture<T>    fut = lstFutures.get(this.indRqst);
+    
+            if (!fut.isDone()) {
+                String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() + " - Batch request " + this.indRqst + " failed: " + Status.fromThrowable(t);
+    
+                if (BOL_LOGGING)
+                    LOGGER.error(strMsg);
+    
+                fut.completeExceptionally(new DpAnnotationException(strMsg, t));
+            }
+    
+            dispatchNext();
+        }
+    
+        /**
+         * @see io.grpc.stub.StreamObserver#onCompleted()
+         */
+        @Override
+        public void onCompleted() {
+            CompletableFuture<T>    fut = lstFutures.get(this.indRqst);
+    
+            try {
+                fut.complete(fncResult.extract(this.msgRsp));
+    
+            } catch (DpAnnotationException e) {
+                fut.completeExceptionally(e);
+    
+            } catch (RuntimeException e) {
+                fut.completeExceptionally(new DpAnnotationException("Batch request " + this.indRqst + " returned unusable response: " + e.getMessage(), e));
+            }
+    
+            dispatchNext();
+        }
+    }
+}
@@ -25,6 +25,7 @@
  */
 package com.ospreydcs.dp.api.annotate.impl;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +34,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.config.Configurator;
 
+import com.ospreydcs.dp.api.annotate.DpAnnotationBatch;
 import com.ospreydcs.dp.api.annotate.DpAnnotationException;
 import com.ospreydcs.dp.api.annotate.DpCreateDatasetRequest;
 import com.ospreydcs.dp.api.annotate.DpDatasetsRequest;
@@ -56,6 +58,8 @@ import com.ospreydcs.dp.grpc.v1.annotation.QueryDataSetsRequest;
 import com.ospreydcs.dp.grpc.v1.annotation.QueryDataSetsResponse;
 import com.ospreydcs.dp.grpc.v1.common.ExceptionalResult;
 
+import io.grpc.Deadline;
+
 /**
  * <p>
  * Implementation class for Annotation Service API <code>IAnnotationService</code>
@@ -142,6 +146,10 @@ public class DpAnnotationServiceApiImpl extends
     private static final TimeUnit       TU_TIMEOUT = CFG_DEF.timeout.unit;
     
     
+    /** Maximum number of outstanding calls within a batch operation */
+    private static final int            CNT_BATCH_MAX_OUTSTANDING = CFG_DEF.batch.maxOutstanding;
+    
+    
     //
     // Class Resources
     //
@@ -264,22 +272,8 @@ public class DpAnnotationServiceApiImpl extends
         CreateDataSetRequest    msgRqst = rqst.buildRequestMessage();
         CreateDataSetResponse   msgRsp = super.grpcConn.getStubBlock().createDataSet(msgRqst);
         
-        // Check for any exception reported by the Annotation Service
-        if (msgRsp.hasExceptionalResult()) {
-            ExceptionalResult   msgErr = msgRsp.getExceptionalResult();
-            String              strMsg = ProtoMsg.exceptionMessage(msgErr, "Annotation Service");
-            
-            if (BOL_LOGGING)
-                LOGGER.error(strMsg);
-            
-            throw new DpAnnotationException(strMsg);
-        }
-        
-        // Extract data set UID and return it
-        CreateDataSetResponse.CreateDataSetResult   msgResult = msgRsp.getCreateDataSetResult();
-        
-        String      strUid = msgResult.getDataSetId();
-        DatasetUID  recUid = DatasetUID.from(strUid);
+        // Check for Annotation Service exception and extract data set UID
+        DatasetUID  recUid = DpAnnotationServiceApiImpl.extractDatasetUid(msgRsp);
         
         return recUid;
     }
@@ -295,16 +289,113 @@ public class DpAnnotationServiceApiImpl extends
         QueryDataSetsRequest    msgRqst = rqst.build();
         QueryDataSetsResponse   msgRsp = super.grpcConn.getStubBlock().queryDataSets(msgRqst);
         
+        // Check for Annotation Service exception and extract the data sets
+        List<DpDataset> lstDatasets = DpAnnotationServiceApiImpl.extractDatasets(msgRsp);
+        
+        return lstDatasets;
+    }
+
+    /**
+     * <p>
+     * Pipelines the data set creation requests over the Annotation Service API asynchronous stub.
+     * </p>
+     * <p>
+     * At most <code>{@link #CNT_BATCH_MAX_OUTSTANDING}</code> calls are outstanding at any time.
+     * </p>
+     * 
+     * @see com.ospreydcs.dp.api.annotate.IAnnotationService#createDatasets(java.util.List, java.time.Duration)
+     */
+    @Override
+    public DpAnnotationBatch<DatasetUID> createDatasets(List<DpCreateDatasetRequest> lstRqsts, Duration durDeadline) {
+        
+        AnnotationBatchDispatcher<DpCreateDatasetRequest, CreateDataSetRequest, CreateDataSetResponse, DatasetUID> dspBatch;
+        
+        dspBatch = AnnotationBatchDispatcher.create(
+                super.grpcConn.getStubAsync(), 
+                lstRqsts,
+                DpCreateDatasetRequest::buildRequestMessage,
+                DpAnnotationServiceStub::createDataSet,
+                DpAnnotationServiceApiImpl::extractDatasetUid,
+                CNT_BATCH_MAX_OUTSTANDING,
+                DpAnnotationServiceApiImpl.deadline(durDeadline));
+        
+        return dspBatch.start();
+    }
+
+    /**
+     * <p>
+     * Pipelines the data sets requests over the Annotation Service API asynchronous stub.
+     * </p>
+     * <p>
+     * At most <code>{@link #CNT_BATCH_MAX_OUTSTANDING}</code> calls are outstanding at any time.
+     * </p>
+     * 
+     * @see com.ospreydcs.dp.api.annotate.IAnnotationService#queryDatasets(java.util.List, java.time.Duration)
+     */
+    @Override
+    public DpAnnotationBatch<List<DpDataset>> queryDatasets(List<DpDatasetsRequest> lstRqsts, Duration durDeadline) {
+        
+        AnnotationBatchDispatcher<DpDatasetsRequest, QueryDataSetsRequest, QueryDataSetsResponse, List<DpDataset>> dspBatch;
+        
+        dspBatch = AnnotationBatchDispatcher.create(
+                super.grpcConn.getStubAsync(), 
+                lstRqsts,
+                DpDatasetsRequest::build,
+                DpAnnotationServiceStub::queryDataSets,
+                DpAnnotationServiceApiImpl::extractDatasets,
+                CNT_BATCH_MAX_OUTSTANDING,
+                DpAnnotationServiceApiImpl.deadline(durDeadline));
+        
+        return dspBatch.start();
+    }
+    
+    
+    //
+    // Support Methods
+    //
+    
+    /**
+     * <p>
+     * Extracts the new data set UID from the given data set creation response.
+     * </p>
+     * 
+     * @param msgRsp    Annotation Service data set creation response
+     * 
+     * @return  the UID of the new data set
+     * 
+     * @throws DpAnnotationException    the Annotation Service reported an exception
+     */
+    private static DatasetUID   extractDatasetUid(CreateDataSetResponse msgRsp) throws DpAnnotationException {
+        
         // Check for any exception reported by the Annotation Service
-        if (msgRsp.hasExceptionalResult()) {
-            ExceptionalResult   msgErr = msgRsp.getExceptionalResult();
-            String              strMsg = ProtoMsg.exceptionMessage(msgErr, "Annotation Service");
-            
-            if (BOL_LOGGING)
-                LOGGER.error(strMsg);
-            
-            throw new DpAnnotationException(strMsg);
-        }
+        if (msgRsp.hasExceptionalResult()) 
+            throw DpAnnotationServiceApiImpl.serviceException(msgRsp.getExceptionalResult());
+        
+        // Extract data set UID and return it
+        CreateDataSetResponse.CreateDataSetResult   msgResult = msgRsp.getCreateDataSetResult();
+        
+        String      strUid = msgResult.getDataSetId();
+        DatasetUID  recUid = DatasetUID.from(strUid);
+        
+        return recUid;
+    }
+    
+    /**
+     * <p>
+     * Extracts the data sets from the given data sets request response.
+     * </p>
+     * 
+     * @param msgRsp    Annotation Service data sets response
+     * 
+     * @return  the data sets matching the request criteria
+     * 
+     * @throws DpAnnotationException    the Annotation Service reported an exception
+     */
+    private static List<DpDataset>  extractDatasets(QueryDataSetsResponse msgRsp) throws DpAnnotationException {
+        
+        // Check for any exception reported by the Annotation Service
+        if (msgRsp.hasExceptionalResult())
+            throw DpAnnotationServiceApiImpl.serviceException(msgRsp.getExceptionalResult());
         
         // Extract the data sets and return them
         List<DpDataset> lstDatasets = msgRsp.getDataSetsResult()
@@ -315,5 +406,35 @@ public class DpAnnotationServiceApiImpl extends
         
         return lstDatasets;
     }
+    
+    /**
+     * <p>
+     * Creates (and logs) the API exception for the given Annotation Service exceptional result.
+     * </p>
+     * 
+     * @param msgErr    exceptional result reported by the Annotation Service
+     * 
+     * @return  new Annotation Service API exception describing the exceptional result
+     */
+    private static DpAnnotationException    serviceException(ExceptionalResult msgErr) {
+        String  strMsg = ProtoMsg.exceptionMessage(msgErr, "Annotation Service");
+        
+        if (BOL_LOGGING)
+            LOGGER.error(strMsg);
+        
+        return new DpAnnotationException(strMsg);
+    }
+    
+    /**
+     * @param durDeadline   batch time limit from submission, or <code>null</code>
+     * 
+     * @return  the batch deadline, or <code>null</code> if no time limit was given
+     */
+    private static Deadline     deadline(Duration durDeadline) {
+        if (durDeadline == null)
+            return null;
+        
+        return Deadline.after(durDeadline.toNanos(), TimeUnit.NANOSECONDS);
+    }
 
 }
@@ -85,6 +85,9 @@ public class BufferedImage implements Serializable {
     
     /** Storage for the image */
     private byte[]              arrData = null;
+    
+    /** The image data array is never modified (i.e., may be shared without copying) */
+    private boolean             bolImmutable = false;
 
     
     //
@@ -288,23 +291,54 @@ public class BufferedImage implements Serializable {
      * @throws MissingResourceException the argument was missing data required for image creation (see message)
      */
     public static BufferedImage from(PVStructure pvsNdArray) throws IllegalArgumentException, MissingResourceException {
+        return BufferedImage.from(pvsNdArray, false);
+    }
+    
+    /**
+     * <p>
+     * Creates a new <code>BufferedImage</code> instance initialized with the argument, assumed to be an EPICS
+     * <code>NTNDArray</code> containing image data, optionally sharing the argument's data array.
+     * </p>
+     * <p>
+     * If <code>bolShared</code> is <code>true</code> the caller transfers ownership of the argument's
+     * image data to the returned image, that is, the argument is not modified or reused afterwards (e.g., it 
+     * is the result of a channel get rather than a recycled monitor element).  The image then references the
+     * PVData byte array directly whenever its extent matches the image data, otherwise a single copy is made.
+     * The shared image data is declared immutable so that <code>ProtoMsg</code> encodes it without further
+     * copying.  Otherwise the image holds its own copy which clients may modify, thus it is not declared
+     * immutable (see <code>{@link #setDataImmutable(byte[])}</code>).
+     * </p>
+     * 
+     * @param pvsNdArray    EPICS NTNDArray compatible structure containing image data
+     * @param bolShared     the image may reference the data array of the argument
+     * 
+     * @return a new <code>BufferedImage</code> instance containing the image data of the argument
+     * 
+     * @throws IllegalArgumentException the argument was not NTNDArray compatible
+     * @throws MissingResourceException the argument was missing data required for image creation (see message)
+     * 
+     * @see #isDataImmutable()
+     */
+    public static BufferedImage from(PVStructure pvsNdArray, boolean bolShared) throws IllegalArgumentException, MissingResourceException {
         
         // Check for NT array compatibility
         NTNDArray ntNdArray = NTNDArray.wrap(pvsNdArray);
         if (ntNdArray == null)
             throw new IllegalArgumentException("BufferedImage#from(PVStructure) - argument was incompatible with NTNDArray");
 
-        // Extract the image data
-        byte[]                  arrRawData = Epics.extractArrayRawData(pvsNdArray);
+        // Extract the image data - either a fresh copy or the shared PVData array
+        byte[]                  arrRawData = bolShared ? Epics.extractArrayRawDataShared(pvsNdArray) : Epics.extractArrayRawData(pvsNdArray);
         List<ArrayDimension>    lstDims = Epics.extractArrayDimensions(pvsNdArray); // throws MissingResourceException
         
         // Extract optional data
         Instant     insTms = Epics.extractArrayDataTimestamp(pvsNdArray);
         String      strLbl = Epics.extractName(pvsNdArray);
         
-        // Create the image and return it
+        // Create the image and return it - only the shared data array is never modified
         BufferedImage   image = new BufferedImage(strLbl, insTms, Format.NTND,lstDims, arrRawData);
         
+        image.bolImmutable = bolShared;
+        
         return image;
     }
     
@@ -476,6 +510,19 @@ public class BufferedImage implements Serializable {
     public byte[] getData() {
         return arrData;
     }
+    
+    /**
+     * Returns whether or not the image data array is declared immutable.  Immutable image data
+     * must not be modified by clients of <code>{@link #getData()}</code> and is shared, without 
+     * copying, by Protocol Buffers messages created from the image.
+     * 
+     * @return <code>true</code> if the image data array is never modified, <code>false</code> otherwise
+     * 
+     * @see #setDataImmutable(byte[])
+     */
+    public boolean isDataImmutable() {
+        return this.bolImmutable;
+    }
 
     
     //
@@ -538,6 +585,21 @@ public class BufferedImage implements Serializable {
      */
     public void setData(byte[] arrData) {
         this.arrData = arrData;
+        this.bolImmutable = false;
+    }
+    
+    /**
+     * Sets the image data and declares it immutable.  The caller guarantees that the
+     * given array is not modified afterwards, thus it may be shared by Protocol Buffers 
+     * messages without copying.
+     * 
+     * @param arrData new image data, never modified after this call
+     * 
+     * @see #isDataImmutable()
+     */
+    public void setDataImmutable(byte[] arrData) {
+        this.arrData = arrData;
+        this.bolImmutable = true;
     }
     
     
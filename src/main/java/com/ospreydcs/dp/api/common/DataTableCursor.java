@@ -0,0 +1,223 @@
+/*
+ * Project: dp-api-common
+ * File:	DataTableCursor.java
+ * Package: com.ospreydcs.dp.api.common
+ * Type: 	DataTableCursor
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.common;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * Default <code>{@link IDataTableCursor}</code> implementation for <code>{@link IDataTable}</code> instances.
+ * </p>
+ * <p>
+ * The table columns are obtained once, on the first row, with <code>{@link IDataTable#getColumn(int)}</code>
+ * and each row is then loaded into the reused row buffer with <code>{@link IDataColumn#getValue(int)}</code>.
+ * Tables with paged or otherwise indirect storage should subclass and override <code>{@link #load(int, Object[])}</code>
+ * to load rows incrementally from their storage.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class DataTableCursor implements IDataTableCursor {
+    
+    
+    //
+    // Defining Attributes
+    //
+    
+    /** The table being scanned */
+    protected final IDataTable      tbl;
+    
+    /** Row following the cursor range */
+    protected final int             indEnd;
+    
+    
+    //
+    // Instance Resources
+    //
+    
+    /** The table timestamps */
+    private final List<Instant>     lstTms;
+    
+    /** The reused row buffer */
+    private final Object[]          arrRow;
+    
+    /** The table columns - obtained on the first row */
+    private IDataColumn<Object>[]   arrCols = null;
+    
+    /** The size of each table column - obtained on the first row */
+    private int[]                   arrColSizes = null;
+    
+    
+    //
+    // State Variables
+    //
+    
+    /** The current table row */
+    private int                     indRow;
+    
+    
+    //
+    // Constructors
+    //
+    
+    /**
+     * <p>
+     * Constructs a new <code>DataTableCursor</code> positioned before the first row of the given range.
+     * </p>
+     *
+     * @param tbl       the table to scan
+     * @param indBeg    first row of the range
+     * @param indEnd    row following the range
+     *
+     * @throws IndexOutOfBoundsException    the range is not within the table rows
+     */
+    public DataTableCursor(IDataTable tbl, int indBeg, int indEnd) throws IndexOutOfBoundsException {
+        int     cntRows = tbl.getRowCount();
+    
+        if (indBeg < 0 || indEnd > cntRows || indBeg > indEnd)
+            throw new IndexOutOfBoundsException("Row range [" + indBeg + ", " + indEnd + ") not within table rows [0, " + cntRows + ")");
+    
+        this.tbl = tbl;
+        this.indEnd = indEnd;
+        this.lstTms = tbl.getTimestamps();
+        this.arrRow = new Object[tbl.getColumnCount()];
+        this.indRow = indBeg - 1;
+    }
+    
+    
+    //
+    // IDataTableCursor Interface
+    //
+    
+    /**
+     * @see com.ospreydcs.dp.api.common.IDataTableCursor#next()
+     */
+    @Override
+    public boolean next() {
+        if (this.indRow + 1 >= this.indEnd) {
+            this.indRow = this.indEnd;
+    
+            return false;
+        }
+    
+        this.indRow++;
+        this.load(this.indRow, this.arrRow);
+    
+        return true;
+    }
+    
+    /**
+     * @see com.ospreydcs.dp.api.common.IDataTableCursor#remaining()
+     */
+    @Override
+    public int remaining() {
+        return Math.max(0, this.indEnd - this.indRow - 1);
+    }
+    
+    
+    //
+    // IDataTableRow Interface
+    //
+    
+    /**
+     * @see com.ospreydcs.dp.api.common.IDataTableRow#getRowIndex()
+     */
+    @Override
+    public int getRowIndex() {
+        return this.indRow;
+    }
+    
+    /**
+     * @see com.ospreydcs.dp.api.common.IDataTableRow#getTimestamp()
+     */
+    @Override
+    public Instant getTimestamp() {
+        return this.lstTms.get(this.indRow);
+    }
+    
+    /**
+     * @see com.ospreydcs.dp.api.common.IDataTableRow#getColumnCount()
+     */
+    @Override
+    public int getColumnCount() {
+        return this.arrRow.length;
+    }
+    
+    /**
+     * @see com.ospreydcs.dp.api.common.IDataTableRow#getValue(int)
+     */
+    @Override
+    public Object getValue(int indCol) throws IndexOutOfBoundsException {
+        return this.arrRow[indCol];
+    }
+    
+    /**
+     * @see com.ospreydcs.dp.api.common.IDataTableRow#toArray()
+     */
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(this.arrRow, this.arrRow.length);
+    }
+    
+    
+    //
+    // Support Methods
+    //
+    
+    /**
+     * <p>
+     * Loads the values of the given table row into the row buffer.
+     * </p>
+     * <p>
+     * Rows are loaded in increasing order.  Columns shorter than the table have <code>null</code> values
+     * beyond their size.
+     * </p>
+     *
+     * @param indRow    table row index
+     * @param arrRow    the row buffer, one element per table column
+     */
+    @SuppressWarnings("unchecked")
+    protected void  load(int indRow, Object[] arrRow) {
+        if (this.arrCols == null) {
+            this.arrCols = new IDataColumn[arrRow.length];
+            this.arrColSizes = new int[arrRow.length];
+    
+            for (int indCol=0; indCol<arrRow.length; indCol++) {
+                this.arrCols[indCol] = this.tbl.getColumn(indCol);
+                this.arrColSizes[indCol] = this.arrCols[indCol].getSize();
+            }
+        }
+    
+        for (int indCol=0; indCol<arrRow.length; indCol++)
+            arrRow[indCol] = (indRow < this.arrColSizes[indCol]) ? this.arrCols[indCol].getValue(indRow) : null;
+    }
+}
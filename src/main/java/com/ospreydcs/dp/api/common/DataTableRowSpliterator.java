@@ -0,0 +1,233 @@
+/*
+ * Project: dp-api-common
+ * File:	DataTableRowSpliterator.java
+ * Package: com.ospreydcs.dp.api.common
+ * Type: 	DataTableRowSpliterator
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.common;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Splittable, sized <code>{@link Spliterator}</code> over the rows of an <code>{@link IDataTable}</code>.
+ * </p>
+ * <p>
+ * The spliterator covers a range of table rows and scans it with a single <code>{@link IDataTableCursor}</code>
+ * obtained from <code>{@link IDataTable#cursor(int, int)}</code> when the traversal begins.  The elements are the
+ * cursor itself, so a traversal allocates nothing per row; consumers must not retain the row views (see
+ * <code>{@link IDataTableRow}</code>).
+ * </p>
+ * <p>
+ * <h2>Splitting</h2>
+ * A range is split at the split boundary nearest its midpoint, if any boundary lies within the range, otherwise at
+ * its midpoint.  Tables with paged storage supply their page boundaries so that each split scans whole pages.
+ * Ranges smaller than twice <code>{@link #SZ_SPLIT_MIN}</code> rows are not split.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ * @see IDataTable#rowStream()
+ */
+public class DataTableRowSpliterator implements Spliterator<IDataTableRow> {
+    
+    
+    //
+    // Class Constants
+    //
+    
+    /** Minimum number of rows in a split */
+    public static final int     SZ_SPLIT_MIN = 1024;
+    
+    /** Spliterator characteristics */
+    public static final int     INT_CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    
+    
+    //
+    // Defining Attributes
+    //
+    
+    /** The table being scanned */
+    private final IDataTable    tbl;
+    
+    /** Ordered row indices at which splits are preferred (e.g., page starts) */
+    private final int[]         arrBnds;
+    
+    
+    //
+    // State Variables
+    //
+    
+    /** The next row of the range */
+    private int                 indBeg;
+    
+    /** Row following the range */
+    private final int           indEnd;
+    
+    /** The cursor scanning the range - created when traversal begins */
+    private IDataTableCursor    csr = null;
+    
+    
+    //
+    // Constructors
+    //
+    
+    /**
+     * <p>
+     * Constructs a new <code>DataTableRowSpliterator</code> over the given row range.
+     * </p>
+     *
+     * @param tbl       the table to scan
+     * @param indBeg    first row of the range
+     * @param indEnd    row following the range
+     * @param arrBnds   ordered row indices at which splits are preferred (may be empty)
+     */
+    public DataTableRowSpliterator(IDataTable tbl, int indBeg, int indEnd, int[] arrBnds) {
+        this.tbl = tbl;
+        this.indBeg = indBeg;
+        this.indEnd = indEnd;
+        this.arrBnds = arrBnds;
+    }
+    
+    
+    //
+    // Spliterator Interface
+    //
+    
+    /**
+     * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+     */
+    @Override
+    public boolean tryAdvance(Consumer<? super IDataTableRow> action) {
+        if (this.indBeg >= this.indEnd)
+            return false;
+    
+        if (this.csr == null)
+            this.csr = this.tbl.cursor(this.indBeg, this.indEnd);
+    
+        this.csr.next();
+        this.indBeg++;
+        action.accept(this.csr);
+    
+        return true;
+    }
+    
+    /**
+     * @see java.util.Spliterator#forEachRemaining(java.util.function.Consumer)
+     */
+    @Override
+    public void forEachRemaining(Consumer<? super IDataTableRow> action) {
+        if (this.indBeg >= this.indEnd)
+            return;
+    
+        if (this.csr == null)
+            this.csr = this.tbl.cursor(this.indBeg, this.indEnd);
+    
+        this.indBeg = this.indEnd;
+        while (this.csr.next())
+            action.accept(this.csr);
+    }
+    
+    /**
+     * @see java.util.Spliterator#trySplit()
+     */
+    @Override
+    public Spliterator<IDataTableRow> trySplit() {
+    
+        // Do not split a range once traversal has begun or if too small
+        if (this.csr != null || this.indEnd - this.indBeg < 2 * SZ_SPLIT_MIN)
+            return null;
+    
+        int     indMid = this.indBeg + (this.indEnd - this.indBeg) / 2;
+        int     indSplit = this.nearestBoundary(indMid);
+    
+        DataTableRowSpliterator spltPrefix = new DataTableRowSpliterator(this.tbl, this.indBeg, indSplit, this.arrBnds);
+    
+        this.indBeg = indSplit;
+    
+        return spltPrefix;
+    }
+    
+    /**
+     * @see java.util.Spliterator#estimateSize()
+     */
+    @Override
+    public long estimateSize() {
+        return this.indEnd - this.indBeg;
+    }
+    
+    /**
+     * @see java.util.Spliterator#characteristics()
+     */
+    @Override
+    public int characteristics() {
+        return INT_CHARACTERISTICS;
+    }
+    
+    
+    //
+    // Support Methods
+    //
+    
+    /**
+     * <p>
+     * Returns the split boundary strictly within the current range nearest the given row, or the row itself if
+     * there is no such boundary.
+     * </p>
+     *
+     * @param indMid    the range midpoint
+     *
+     * @return  the split row
+     */
+    private int nearestBoundary(int indMid) {
+        int     indPos = Arrays.binarySearch(this.arrBnds, indMid);
+    
+        if (indPos >= 0)
+            return indMid;
+    
+        int     indIns = -indPos - 1;   // first boundary above the midpoint
+        int     indBest = indMid;
+        long    lngBest = Long.MAX_VALUE;
+    
+        for (int ind : new int[] { indIns - 1, indIns }) {
+            if (ind < 0 || ind >= this.arrBnds.length)
+                continue;
+    
+            int     indBnd = this.arrBnds[ind];
+    
+            if (indBnd <= this.indBeg || indBnd >= this.indEnd)
+                continue;
+    
+            if (Math.abs((long)indBnd - indMid) < lngBest) {
+                lngBest = Math.abs((long)indBnd - indMid);
+                indBest = indBnd;
+            }
+        }
+    
+        return indBest;
+    }
+}
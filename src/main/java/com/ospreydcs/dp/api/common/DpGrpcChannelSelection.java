@@ -0,0 +1,60 @@
+/*
+ * Project: dp-api-common
+ * File:	DpGrpcChannelSelection.java
+ * Package: com.ospreydcs.dp.api.common
+ * Type: 	DpGrpcChannelSelection
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.common;
+
+/**
+ * <p>
+ * Enumeration of the policies for assigning gRPC calls to the channels of a pooled connection.
+ * </p>
+ * <p>
+ * A pooled connection holds multiple gRPC channels, and hence multiple HTTP/2 (TCP) connections, to the
+ * same host.  Each new RPC call (e.g., a data stream) is assigned to one channel of the pool according
+ * to the selection policy.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public enum DpGrpcChannelSelection {
+
+    /**
+     * Round-robin selection.
+     * <p>
+     * Calls are assigned to the pool channels in turn regardless of their current load.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Least outstanding selection.
+     * <p>
+     * Calls are assigned to the pool channel with the fewest active calls, ties are broken by the
+     * fewest bytes transferred (sent and received) on active calls.
+     */
+    LEAST_OUTSTANDING;
+}
@@ -0,0 +1,67 @@
+/*
+ * Project: dp-api-common
+ * File:	DpGrpcExecutorType.java
+ * Package: com.ospreydcs.dp.api.common
+ * Type: 	DpGrpcExecutorType
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.common;
+
+/**
+ * <p>
+ * Enumeration of the executors used by gRPC channels to run application callbacks.
+ * </p>
+ * <p>
+ * gRPC channels run all application callbacks (e.g., stream observer <code>onNext()</code> invocations) on an
+ * executor.  The default executor is a cached thread pool shared by all gRPC channels within the process,
+ * which incurs a thread hand-off for every received message.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public enum DpGrpcExecutorType {
+
+    /**
+     * gRPC default executor.
+     * <p>
+     * Callbacks are run on the cached thread pool shared by all gRPC channels.
+     */
+    DEFAULT,
+
+    /**
+     * Direct executor.
+     * <p>
+     * Callbacks are run directly on the transport (event loop) threads without hand-off.  Appropriate only
+     * when callbacks are fast and never block, as with the API message buffers.
+     */
+    DIRECT,
+
+    /**
+     * Dedicated executor.
+     * <p>
+     * Callbacks are run on a fixed thread pool dedicated to the connections of a single connection factory.
+     */
+    DEDICATED;
+}
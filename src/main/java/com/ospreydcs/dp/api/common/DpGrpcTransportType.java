@@ -0,0 +1,67 @@
+/*
+ * Project: dp-api-common
+ * File:	DpGrpcTransportType.java
+ * Package: com.ospreydcs.dp.api.common
+ * Type: 	DpGrpcTransportType
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.common;
+
+/**
+ * <p>
+ * Enumeration of the network transports available to gRPC channels.
+ * </p>
+ * <p>
+ * The Netty transport supports both the portable Java NIO socket implementation and the native Linux
+ * <code>epoll</code> implementation.  The native transport typically has lower latency and CPU overhead
+ * for bulk data transfers, however, it is only available on Linux platforms.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public enum DpGrpcTransportType {
+
+    /**
+     * gRPC default transport.
+     * <p>
+     * The gRPC library selects the transport and event loop; no transport configuration is performed.
+     */
+    DEFAULT,
+
+    /**
+     * Java NIO transport.
+     * <p>
+     * Portable Netty transport using Java NIO sockets.
+     */
+    NIO,
+
+    /**
+     * Native Linux epoll transport.
+     * <p>
+     * Netty transport using native Linux <code>epoll</code> sockets.  Channel creation reverts to
+     * <code>{@link #NIO}</code> if the native transport is unavailable on the platform.
+     */
+    EPOLL;
+}
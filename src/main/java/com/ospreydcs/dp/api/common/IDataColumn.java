@@ -327,6 +327,35 @@ public interface IDataColumn<T extends Object> extends Iterable<T> {
         return (List<T>) lstVals;
     };
     
+    /**
+     * <p>
+     * Determines whether every value of the data column is consistent with the column data type.
+     * </p>
+     * <p>
+     * <h2>Default Implementation</h2>
+     * Interface <code>{@link IDataColumn}</code> provides a default implementation for this operation.
+     * Implementing classes may wish to override the default implementation if better options are available.
+     * <br/><br/>
+     * <ul>
+     * <b>Uses <code>{@link #getValues()}</code></b>.
+     * <br/></br>
+     * The <code>default</code> implementation checks each value of <code>{@link #getValues()}</code> against
+     * <code>{@link #getType()}</code>.  Implementations whose values are typed by construction (e.g., columns
+     * backed by primitive arrays) should override this operation and answer without visiting the values.
+     * </ul>
+     * </p>
+     *
+     * @return  <code>true</code> if all column values are assignable to the column data type,
+     *          <code>false</code> otherwise
+     *
+     * @throws ArithmeticException internal overflow - column is too large
+     */
+    default public boolean isTypeConsistent() throws ArithmeticException {
+        DpSupportedType     enmType = this.getType();
+
+        return this.getValues().stream().allMatch(objVal -> enmType.isAssignableFrom(objVal));
+    }
+
     /**
      *
      * @see @see java.lang.Iterable#iterator()
@@ -31,7 +31,10 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -614,6 +617,7 @@ public interface IDataTable {
      * <h2>NOTES:</h2>
      * <ul>
      * <li>The value ordering is that of the column ordering.</li>
+     * <li>A new array is created at each invocation; use <code>{@link #cursor()}</code> or <code>{@link #rowStream()}</code> to scan many rows.</li>
      * <li>Should return <code>null</code> if the data table has not been populated.</li>
      * <li>Should return <code>null</code> if the data table has not been initialized.</li>
      * </ul>
@@ -1272,6 +1276,137 @@ public interface IDataTable {
     }
 
     
+    //
+    // Scanning and Streaming
+    //
+    
+    /**
+     * <p>
+     * Returns a cursor over all table rows.
+     * </p>
+     * <p>
+     * <h2>Default Implementation</h2>
+     * Interface <code>{@link IDataTable}</code> provides a default implementation for this operation.
+     * <br/><br/>
+     * <ul>
+     * <b>Uses <code>{@link #cursor(int, int)}</code></b>.
+     * </ul>
+     * </p> 
+     * 
+     * @return  a new cursor positioned before the first table row
+     * 
+     * @see IDataTableCursor
+     */
+    default public IDataTableCursor cursor() {
+        return this.cursor(0, this.getRowCount());
+    }
+    
+    /**
+     * <p>
+     * Returns a cursor over the given range of table rows.
+     * </p>
+     * <p>
+     * The returned cursor loads each row into a single reused row buffer, avoiding the per-row allocations 
+     * of <code>{@link #getRowValues(int)}</code>.
+     * </p>
+     * <p>
+     * <h2>Default Implementation</h2>
+     * Interface <code>{@link IDataTable}</code> provides a default implementation for this operation.
+     * Implementing classes with paged or indirect storage should override the default implementation.
+     * <br/><br/>
+     * <ul>
+     * <b>Uses <code>{@link #getColumn(int)}</code></b>.
+     * <br/><br/>
+     * The <code>default</code> implementation returns a <code>{@link DataTableCursor}</code> which obtains
+     * each table column once and reads row values with <code>{@link IDataColumn#getValue(int)}</code>.
+     * </ul>
+     * </p> 
+     * 
+     * @param indBeg    first row of the range
+     * @param indEnd    row following the range
+     * 
+     * @return  a new cursor positioned before the first row of the range
+     * 
+     * @throws IndexOutOfBoundsException    the range is not within the table rows
+     */
+    default public IDataTableCursor cursor(int indBeg, int indEnd) throws IndexOutOfBoundsException {
+        return new DataTableCursor(this, indBeg, indEnd);
+    }
+    
+    /**
+     * <p>
+     * Returns a splittable, sized spliterator over the table rows.
+     * </p>
+     * <p>
+     * <h2>Default Implementation</h2>
+     * Interface <code>{@link IDataTable}</code> provides a default implementation for this operation.
+     * Implementing classes with paged storage should override the default implementation to supply
+     * their page boundaries as split boundaries.
+     * <br/><br/>
+     * <ul>
+     * <b>Uses <code>{@link #cursor(int, int)}</code></b>.
+     * <br/><br/>
+     * The <code>default</code> implementation returns a <code>{@link DataTableRowSpliterator}</code>
+     * splitting row ranges at their midpoints.
+     * </ul>
+     * </p> 
+     * 
+     * @return  a new spliterator over all table rows
+     */
+    default public Spliterator<IDataTableRow>   rowSpliterator() {
+        return new DataTableRowSpliterator(this, 0, this.getRowCount(), new int[0]);
+    }
+    
+    /**
+     * <p>
+     * Returns a sequential stream of the table rows, which may be made parallel with 
+     * <code>{@link Stream#parallel()}</code>.
+     * </p>
+     * <p>
+     * <h2>WARNING:</h2>
+     * The stream elements are transient row views backed by a reused row buffer (see 
+     * <code>{@link IDataTableRow}</code>).  They must not be retained beyond the stream operation receiving them;
+     * use <code>{@link IDataTableRow#toArray()}</code> to collect row values.
+     * </p>
+     * <p>
+     * <h2>Default Implementation</h2>
+     * Interface <code>{@link IDataTable}</code> provides a default implementation for this operation.
+     * <br/><br/>
+     * <ul>
+     * <b>Uses <code>{@link #rowSpliterator()}</code></b>.
+     * </ul>
+     * </p> 
+     * 
+     * @return  stream of table row views in row order
+     */
+    default public Stream<IDataTableRow>    rowStream() {
+        return StreamSupport.stream(this.rowSpliterator(), false);
+    }
+    
+    /**
+     * <p>
+     * Returns a sequential stream of the table columns, which may be made parallel with 
+     * <code>{@link Stream#parallel()}</code>.
+     * </p>
+     * <p>
+     * <h2>Default Implementation</h2>
+     * Interface <code>{@link IDataTable}</code> provides a default implementation for this operation.
+     * <br/><br/>
+     * <ul>
+     * <b>Uses <code>{@link #getColumn(int)}</code></b>.
+     * <br/><br/>
+     * The <code>default</code> implementation maps the (sized, splittable) range of column indices 
+     * to the table columns.
+     * </ul>
+     * </p> 
+     * 
+     * @return  stream of table columns in column order
+     */
+    default public Stream<IDataColumn<Object>>  columnStream() {
+        return IntStream.range(0, this.getColumnCount()).mapToObj(this::getColumn);
+    }
+    
+    
     //
     // Memory Allocation
     //
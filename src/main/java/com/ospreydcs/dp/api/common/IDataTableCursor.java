@@ -0,0 +1,81 @@
+/*
+ * Project: dp-api-common
+ * File:	IDataTableCursor.java
+ * Package: com.ospreydcs.dp.api.common
+ * Type: 	IDataTableCursor
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.common;
+
+/**
+ * <p>
+ * Forward-only cursor over a range of <code>{@link IDataTable}</code> rows.
+ * </p>
+ * <p>
+ * A cursor is positioned before the first row of its range when created.  Each invocation of
+ * <code>{@link #next()}</code> moves to the following row and loads its values into a single row buffer
+ * that is reused for the life of the cursor; no objects are allocated per row.  The cursor itself is the
+ * <code>{@link IDataTableRow}</code> view of the current row.
+ * </p>
+ * <p>
+ * Typical use:
+ * <pre>
+ *   IDataTableCursor   csr = tbl.cursor();
+ *
+ *   while (csr.next()) {
+ *       Instant insTms = csr.getTimestamp();
+ *       Object  objVal = csr.getValue(0);
+ *       ...
+ *   }
+ * </pre>
+ * </p>
+ * <p>
+ * <h2>NOTES:</h2>
+ * <ul>
+ * <li>Cursors are not thread safe.  Use separate cursors over disjoint ranges for concurrent scans.</li>
+ * <li>The row accessors are undefined before the first and after the last invocation of <code>{@link #next()}</code>.</li>
+ * </ul>
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ * @see IDataTable#cursor()
+ * @see IDataTable#cursor(int, int)
+ */
+public interface IDataTableCursor extends IDataTableRow {
+    
+    /**
+     * <p>
+     * Advances the cursor to the next row of its range.
+     * </p>
+     *
+     * @return  <code>true</code> if the cursor is positioned on a row, <code>false</code> if the range is exhausted
+     */
+    public boolean  next();
+    
+    /**
+     * @return  the number of rows remaining after the current row
+     */
+    public int      remaining();
+}
@@ -0,0 +1,85 @@
+/*
+ * Project: dp-api-common
+ * File:	IDataTableRow.java
+ * Package: com.ospreydcs.dp.api.common
+ * Type: 	IDataTableRow
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.common;
+
+import java.time.Instant;
+
+/**
+ * <p>
+ * Read-only view of a single row of an <code>{@link IDataTable}</code>.
+ * </p>
+ * <p>
+ * Row views are transient.  The views supplied by <code>{@link IDataTable#rowStream()}</code> and
+ * <code>{@link IDataTableCursor}</code> are backed by a single reused row buffer and refer to a different
+ * table row after the stream or cursor advances.  Use <code>{@link #toArray()}</code> to retain the row values.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ * @see IDataTableCursor
+ */
+public interface IDataTableRow {
+    
+    /**
+     * @return  the table row index of this row
+     */
+    public int      getRowIndex();
+    
+    /**
+     * @return  the timestamp of this row
+     */
+    public Instant  getTimestamp();
+    
+    /**
+     * @return  the number of values in the row (i.e., the table column count)
+     */
+    public int      getColumnCount();
+    
+    /**
+     * <p>
+     * Returns the row value of the given table column, or <code>null</code> if the column has no value at this row.
+     * </p>
+     *
+     * @param indCol    table column index
+     *
+     * @return  the row value within the given column
+     *
+     * @throws IndexOutOfBoundsException    column index is out of bounds (0 &le; index &lt; <code>{@link #getColumnCount()}</code>)
+     */
+    public Object   getValue(int indCol) throws IndexOutOfBoundsException;
+    
+    /**
+     * <p>
+     * Returns a new array containing the row values in column order.
+     * </p>
+     *
+     * @return  copy of the row values
+     */
+    public Object[] toArray();
+}
@@ -0,0 +1,625 @@
+/*
+ * Project: dp-api-common
+ * File:	TimeIntervalIndex.java
+ * Package: com.ospreydcs.dp.api.common
+ * Type: 	TimeIntervalIndex
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.common;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Index of values keyed by their time domains, supporting intersection queries and extraction of
+ * overlapping groups.
+ * </p>
+ * <p>
+ * The index is an augmented interval tree: a height-balanced (AVL) binary search tree ordered by interval
+ * beginning, where each node also records the latest interval end within its subtree.  Values with
+ * identical beginnings are kept in insertion order.  Time domains are treated as closed intervals,
+ * consistent with <code>{@link TimeInterval#hasIntersectionClosed(TimeInterval)}</code>; thus, intervals
+ * sharing only an endpoint intersect.  The empty interval <code>{@link TimeInterval#EMPTY}</code> intersects
+ * nothing.
+ * </p>
+ * <p>
+ * <h2>Complexity</h2>
+ * <ul>
+ * <li>Insertion - <i>O</i>(log <i>n</i>) time.</li>
+ * <li>Stabbing queries (<code>{@link #stab(Instant)}</code>, <code>{@link #stab(TimeInterval)}</code>) -
+ *     <i>O</i>(log <i>n</i> + <i>k</i>) time for <i>k</i> reported values.</li>
+ * <li>Connected components (<code>{@link #components()}</code>) - a single in-order sweep, <i>O</i>(<i>n</i>)
+ *     time, thus <i>O</i>(<i>n</i> log <i>n</i>) including construction.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <h2>NOTES:</h2>
+ * Class instances are not thread safe.
+ * </p>
+ *
+ * @param <T>   type of the values indexed by time domain
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class TimeIntervalIndex<T> implements Iterable<T> {
+    
+    
+    //
+    // Creators
+    //
+    
+    /**
+     * <p>
+     * Creates a new, empty <code>TimeIntervalIndex</code> instance.
+     * </p>
+     *
+     * @param <T>   type of the indexed values
+     *
+     * @return  a new, empty index ready for insertion
+     */
+    public static <T> TimeIntervalIndex<T>  create() {
+        return new TimeIntervalIndex<T>();
+    }
+    
+    /**
+     * <p>
+     * Creates a new <code>TimeIntervalIndex</code> instance populated with the given values.
+     * </p>
+     * <p>
+     * The values are inserted in the iteration order of the argument, which determines the ordering of
+     * values with identical time domain beginnings.
+     * </p>
+     *
+     * @param <T>       type of the indexed values
+     * @param setValues values to be indexed
+     * @param fncDomain function returning the time domain of each value
+     *
+     * @return  a new index containing all the given values
+     *
+     * @throws IllegalArgumentException a value or its time domain was <code>null</code>
+     */
+    public static <T> TimeIntervalIndex<T>  from(Collection<? extends T> setValues, Function<? super T, TimeInterval> fncDomain)
+            throws IllegalArgumentException {
+    
+        TimeIntervalIndex<T>    idx = new TimeIntervalIndex<>();
+    
+        for (T value : setValues)
+            idx.insert(fncDomain.apply(value), value);
+    
+        return idx;
+    }
+    
+    
+    //
+    // State Variables
+    //
+    
+    /** Root of the interval tree */
+    private Node<T>     nodeRoot = null;
+    
+    /** Number of indexed values */
+    private int         cntValues = 0;
+    
+    /** Insertion sequence number - orders values with identical beginnings */
+    private long        lngSeqNext = 0L;
+    
+    
+    //
+    // Constructors
+    //
+    
+    /**
+     * <p>
+     * Constructs a new, empty <code>TimeIntervalIndex</code> instance.
+     * </p>
+     */
+    public TimeIntervalIndex() {
+    }
+    
+    
+    //
+    // State Inquiry
+    //
+    
+    /**
+     * @return  the number of values within the index
+     */
+    public int  size() {
+        return this.cntValues;
+    }
+    
+    /**
+     * @return  <code>true</code> if the index contains no values, <code>false</code> otherwise
+     */
+    public boolean  isEmpty() {
+        return this.cntValues == 0;
+    }
+    
+    /**
+     * <p>
+     * Determines whether or not any two indexed time domains intersect.
+     * </p>
+     * <p>
+     * Requires a single in-order sweep of the index.
+     * </p>
+     *
+     * @return  <code>true</code> if at least one pair of indexed time domains intersects,
+     *          <code>false</code> if all time domains are disjoint
+     */
+    public boolean  hasOverlaps() {
+        Instant     insMaxEnd = null;
+    
+        for (Node<T> node : this.nodes()) {
+            if (node.tvlDomain.equals(TimeInterval.EMPTY))
+                continue;
+    
+            if (insMaxEnd != null && !node.tvlDomain.begin().isAfter(insMaxEnd))
+                return true;
+    
+            insMaxEnd = (insMaxEnd == null) ? node.tvlDomain.end() : TimeIntervalIndex.max(insMaxEnd, node.tvlDomain.end());
+        }
+    
+        return false;
+    }
+    
+    
+    //
+    // Operations
+    //
+    
+    /**
+     * <p>
+     * Inserts the given value into the index under the given time domain.
+     * </p>
+     *
+     * @param tvlDomain time domain of the value
+     * @param value     value to be indexed
+     *
+     * @throws IllegalArgumentException either argument was <code>null</code>
+     */
+    public void insert(TimeInterval tvlDomain, T value) throws IllegalArgumentException {
+    
+        // Check arguments
+        if (tvlDomain == null || value == null)
+            throw new IllegalArgumentException("Time domain and value must be non-null.");
+    
+        this.nodeRoot = TimeIntervalIndex.insert(this.nodeRoot, new Node<>(tvlDomain, value, this.lngSeqNext++));
+        this.cntValues++;
+    }
+    
+    /**
+     * <p>
+     * Removes all values from the index.
+     * </p>
+     */
+    public void clear() {
+        this.nodeRoot = null;
+        this.cntValues = 0;
+        this.lngSeqNext = 0L;
+    }
+    
+    /**
+     * <p>
+     * Returns all values whose time domains contain the given instant.
+     * </p>
+     *
+     * @param insStab   the query instant
+     *
+     * @return  all values with time domains containing the argument, ordered by time domain beginning
+     */
+    public List<T>  stab(Instant insStab) {
+        return this.stab(TimeInterval.from(insStab, insStab));
+    }
+    
+    /**
+     * <p>
+     * Returns all values whose time domains intersect the given interval.
+     * </p>
+     * <p>
+     * Subtrees whose latest end precedes the query, or whose beginnings follow it, are not visited.
+     * </p>
+     *
+     * @param tvlQuery  the query interval (closed)
+     *
+     * @return  all values with time domains intersecting the argument, ordered by time domain beginning
+     */
+    public List<T>  stab(TimeInterval tvlQuery) {
+        List<T>     lstValues = new ArrayList<>();
+    
+        if (!tvlQuery.equals(TimeInterval.EMPTY))
+            TimeIntervalIndex.stab(this.nodeRoot, tvlQuery, lstValues);
+    
+        return lstValues;
+    }
+    
+    /**
+     * <p>
+     * Partitions the indexed values into the connected components of intersecting time domains.
+     * </p>
+     * <p>
+     * Two values belong to the same component whenever a chain of pairwise intersecting time domains joins them.
+     * The index is swept in order of beginning while tracking the latest end of the current component; a value
+     * beginning after that end starts a new component.  Components of size one are values whose time domains
+     * intersect no others.
+     * </p>
+     * <p>
+     * The components are ordered by their earliest beginning and the values within each component are ordered
+     * by beginning (then insertion order).  Within a component of two or more values the first two values always
+     * intersect.
+     * </p>
+     *
+     * @return  ordered list of connected components covering all indexed values
+     */
+    public List<List<T>>    components() {
+        List<List<T>>   lstComps = new ArrayList<>();
+        List<T>         lstCurr = null;
+        Instant         insMaxEnd = null;
+    
+        for (Node<T> node : this.nodes()) {
+    
+            // The empty interval intersects nothing
+            if (node.tvlDomain.equals(TimeInterval.EMPTY)) {
+                lstComps.add(List.of(node.value));
+                continue;
+            }
+    
+            // Start a new component if the current one ends before this domain begins
+            if (lstCurr == null || node.tvlDomain.begin().isAfter(insMaxEnd)) {
+                lstCurr = new ArrayList<>();
+                lstComps.add(lstCurr);
+                insMaxEnd = node.tvlDomain.end();
+            } else {
+                insMaxEnd = TimeIntervalIndex.max(insMaxEnd, node.tvlDomain.end());
+            }
+    
+            lstCurr.add(node.value);
+        }
+    
+        return lstComps;
+    }
+    
+    /**
+     * @return  all indexed values ordered by time domain beginning (then insertion order)
+     */
+    public List<T>  values() {
+        List<T>     lstValues = new ArrayList<>(this.cntValues);
+    
+        this.forEach(lstValues::add);
+    
+        return lstValues;
+    }
+    
+    
+    //
+    // Iterable<T> Interface
+    //
+    
+    /**
+     * <p>
+     * Returns an iterator over the indexed values ordered by time domain beginning (then insertion order).
+     * </p>
+     * <p>
+     * The iterator does not support removal and is invalidated by subsequent insertions.
+     * </p>
+     *
+     * @see java.lang.Iterable#iterator()
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<Node<T>>   iterNodes = this.nodes().iterator();
+    
+        return new Iterator<T>() {
+    
+            @Override
+            public boolean hasNext() {
+                return iterNodes.hasNext();
+            }
+    
+            @Override
+            public T next() {
+                return iterNodes.next().value;
+            }
+        };
+    }
+    
+    
+    //
+    // Support Methods
+    //
+    
+    /**
+     * @return  iterable over the tree nodes in order
+     */
+    private Iterable<Node<T>>   nodes() {
+        return () -> new InOrderIterator<>(this.nodeRoot);
+    }
+    
+    /**
+     * <p>
+     * Recursively collects the values of the given subtree whose time domains intersect the query interval.
+     * </p>
+     *
+     * @param <T>       type of the indexed values
+     * @param node      subtree root (may be <code>null</code>)
+     * @param tvlQuery  query interval
+     * @param lstValues list receiving the intersecting values in order
+     */
+    private static <T> void stab(Node<T> node, TimeInterval tvlQuery, List<T> lstValues) {
+    
+        // Nothing in this subtree reaches the query
+        if (node == null || node.insMaxEnd.isBefore(tvlQuery.begin()))
+            return;
+    
+        TimeIntervalIndex.stab(node.nodeLeft, tvlQuery, lstValues);
+    
+        // This node and its right subtree begin after the query
+        if (node.tvlDomain.begin().isAfter(tvlQuery.end()))
+            return;
+    
+        if (node.tvlDomain.hasIntersectionClosed(tvlQuery))
+            lstValues.add(node.value);
+    
+        TimeIntervalIndex.stab(node.nodeRight, tvlQuery, lstValues);
+    }
+    
+    /**
+     * <p>
+     * Inserts the given node into the given subtree and rebalances.
+     * </p>
+     *
+     * @param <T>       type of the indexed values
+     * @param node      subtree root (may be <code>null</code>)
+     * @param nodeNew   node to insert
+     *
+     * @return  the new subtree root
+     */
+    private static <T> Node<T>  insert(Node<T> node, Node<T> nodeNew) {
+        if (node == null)
+            return nodeNew;
+    
+        if (nodeNew.precedes(node))
+            node.nodeLeft = TimeIntervalIndex.insert(node.nodeLeft, nodeNew);
+        else
+            node.nodeRight = TimeIntervalIndex.insert(node.nodeRight, nodeNew);
+    
+        node.update();
+    
+        return TimeIntervalIndex.rebalance(node);
+    }
+    
+    /**
+     * <p>
+     * Restores the AVL balance condition at the given node, whose subtrees are balanced.
+     * </p>
+     *
+     * @param <T>   type of the indexed values
+     * @param node  subtree root
+     *
+     * @return  the new subtree root
+     */
+    private static <T> Node<T>  rebalance(Node<T> node) {
+        int     intBal = node.balance();
+    
+        if (intBal > 1) {
+            if (node.nodeLeft.balance() < 0)
+                node.nodeLeft = TimeIntervalIndex.rotateLeft(node.nodeLeft);
+    
+            return TimeIntervalIndex.rotateRight(node);
+        }
+    
+        if (intBal < -1) {
+            if (node.nodeRight.balance() > 0)
+                node.nodeRight = TimeIntervalIndex.rotateRight(node.nodeRight);
+    
+            return TimeIntervalIndex.rotateLeft(node);
+        }
+    
+        return node;
+    }
+    
+    /**
+     * @param <T>   type of the indexed values
+     * @param node  subtree root with a left child
+     *
+     * @return  the left child, now the subtree root
+     */
+    private static <T> Node<T>  rotateRight(Node<T> node) {
+        Node<T>     nodeTop = node.nodeLeft;
+    
+        node.nodeLeft = nodeTop.nodeRight;
+        nodeTop.nodeRight = node;
+    
+        node.update();
+        nodeTop.update();
+    
+        return nodeTop;
+    }
+    
+    /**
+     * @param <T>   type of the indexed values
+     * @param node  subtree root with a right child
+     *
+     * @return  the right child, now the subtree root
+     */
+    private static <T> Node<T>  rotateLeft(Node<T> node) {
+        Node<T>     nodeTop = node.nodeRight;
+    
+        node.nodeRight = nodeTop.nodeLeft;
+        nodeTop.nodeLeft = node;
+    
+        node.update();
+        nodeTop.update();
+    
+        return nodeTop;
+    }
+    
+    /**
+     * @return  the later of the two instants
+     */
+    private static Instant  max(Instant ins1, Instant ins2) {
+        return ins1.isAfter(ins2) ? ins1 : ins2;
+    }
+    
+    
+    //
+    // Support Types
+    //
+    
+    /**
+     * <p>
+     * Interval tree node - an indexed value, its time domain, and the subtree augmentation.
+     * </p>
+     *
+     * @param <T>   type of the indexed value
+     */
+    private static final class Node<T> {
+    
+        /** The time domain of the value */
+        private final TimeInterval  tvlDomain;
+    
+        /** The indexed value */
+        private final T             value;
+    
+        /** Insertion sequence number */
+        private final long          lngSeq;
+    
+        /** Latest time domain end within this subtree */
+        private Instant             insMaxEnd;
+    
+        /** Height of this subtree */
+        private int                 intHeight = 1;
+    
+        /** Left subtree - earlier beginnings */
+        private Node<T>             nodeLeft = null;
+    
+        /** Right subtree - later beginnings */
+        private Node<T>             nodeRight = null;
+    
+        /**
+         * @param tvlDomain the time domain of the value
+         * @param value     the indexed value
+         * @param lngSeq    the insertion sequence number
+         */
+        private Node(TimeInterval tvlDomain, T value, long lngSeq) {
+            this.tvlDomain = tvlDomain;
+            this.value = value;
+            this.lngSeq = lngSeq;
+            this.insMaxEnd = tvlDomain.end();
+        }
+    
+        /**
+         * @param node  node to compare against
+         *
+         * @return  <code>true</code> if this node is ordered before the argument
+         */
+        private boolean precedes(Node<T> node) {
+            int     intCmp = this.tvlDomain.begin().compareTo(node.tvlDomain.begin());
+    
+            return intCmp < 0 || (intCmp == 0 && this.lngSeq < node.lngSeq);
+        }
+    
+        /**
+         * @return  left subtree height minus right subtree height
+         */
+        private int balance() {
+            return Node.height(this.nodeLeft) - Node.height(this.nodeRight);
+        }
+    
+        /**
+         * Recomputes the height and latest end from the children.
+         */
+        private void update() {
+            this.intHeight = 1 + Math.max(Node.height(this.nodeLeft), Node.height(this.nodeRight));
+            this.insMaxEnd = this.tvlDomain.end();
+    
+            if (this.nodeLeft != null)
+                this.insMaxEnd = TimeIntervalIndex.max(this.insMaxEnd, this.nodeLeft.insMaxEnd);
+            if (this.nodeRight != null)
+                this.insMaxEnd = TimeIntervalIndex.max(this.insMaxEnd, this.nodeRight.insMaxEnd);
+        }
+    
+        /**
+         * @return  the height of the given subtree (0 if <code>null</code>)
+         */
+        private static int height(Node<?> node) {
+            return (node == null) ? 0 : node.intHeight;
+        }
+    }
+    
+    /**
+     * <p>
+     * Stack-based in-order iterator over the tree nodes.
+     * </p>
+     *
+     * @param <T>   type of the indexed values
+     */
+    private static final class InOrderIterator<T> implements Iterator<Node<T>> {
+    
+        /** Path of nodes whose left subtrees have been (or are being) visited */
+        private final Deque<Node<T>>    stkPath = new ArrayDeque<>();
+    
+        /**
+         * @param nodeRoot  root of the tree to iterate (may be <code>null</code>)
+         */
+        private InOrderIterator(Node<T> nodeRoot) {
+            this.descend(nodeRoot);
+        }
+    
+        @Override
+        public boolean hasNext() {
+            return !this.stkPath.isEmpty();
+        }
+    
+        @Override
+        public Node<T> next() {
+            if (this.stkPath.isEmpty())
+                throw new NoSuchElementException("No more indexed values.");
+    
+            Node<T>     node = this.stkPath.pop();
+    
+            this.descend(node.nodeRight);
+    
+            return node;
+        }
+    
+        /**
+         * Pushes the given node and its chain of left descendants.
+         */
+        private void descend(Node<T> node) {
+            while (node != null) {
+                this.stkPath.push(node);
+                node = node.nodeLeft;
+            }
+        }
+    }
+}
@@ -12,8 +12,9 @@
  */
 package com.ospreydcs.dp.api.common;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.NavigableSet;
 import java.util.SortedSet;
@@ -34,6 +35,13 @@ import java.util.TreeSet;
  * Practically speaking, the set is a representation of the specific time intervals 
  * when a particular data source was enabled.
  * </p>
+ * <p>
+ * Two intervals are merged when their interiors intersect or when they begin at the same instant;
+ * intervals that merely share an endpoint remain distinct members.  Insertion of a single interval
+ * inspects only its neighbors within the ordered set and requires <i>O</i>(log <i>n</i>) time plus the 
+ * time to remove any members it absorbs.  Bulk insertion of a large collection is performed by sorting 
+ * and sweeping, requiring <i>O</i>(<i>n</i> log <i>n</i>) time overall.
+ * </p>
  *
  * @author Christopher K. Allen
  * @since Sep 12, 2022
@@ -44,6 +52,14 @@ public class TimeIntervalSet extends TreeSet<TimeInterval> {
     /** Serialization ID */
     private static final long serialVersionUID = 1L;
     
+    
+    //
+    // Class Constants
+    //
+    
+    /** Collections smaller than the set size divided by this ratio are inserted individually by {@link #addAll(Collection)} */
+    private static final int    INT_BULK_RATIO = 8;
+    
 
     //
     // Creation
@@ -80,20 +96,38 @@ public class TimeIntervalSet extends TreeSet<TimeInterval> {
      * the set is modified to contain only one interval which is the union
      * of the given argument and any intersecting sets previously contained in the
      * collection.
+     * <p>
+     * Since the members are ordered and disjoint, only the member preceding the argument 
+     * (its floor) and the members following it (its ceilings) can intersect the argument.  
+     * Only those members are inspected.
+     * 
+     * @return  <code>true</code> if the set was modified, 
+     *          <code>false</code> if the argument was already covered by a member
      */
     @Override
     public boolean add(TimeInterval tvlToAdd) {
-        List<TimeInterval> lstTvlsIsct = new LinkedList<TimeInterval>();
+        TimeInterval    tvlNew = tvlToAdd;
         
-        for (TimeInterval tvlMbr : this) 
-            if (tvlMbr.hasIntersectionOpen(tvlToAdd)) {
-                this.remove(tvlMbr);
-                lstTvlsIsct.add(tvlMbr);
-            }
+        // Check the preceding member - at most one member can begin on or before the argument and intersect it
+        TimeInterval    tvlFloor = super.floor(tvlNew);
+        
+        if (tvlFloor != null && TimeIntervalSet.isMergeable(tvlFloor, tvlNew)) {
+            if (tvlFloor.contains(tvlNew))
+                return false;
+            
+            super.remove(tvlFloor);
+            tvlNew = TimeInterval.support(tvlFloor, tvlNew);
+        }
         
-        TimeInterval tvlNew = tvlToAdd;
-        for (TimeInterval ivlIsct : lstTvlsIsct) 
-            tvlNew = TimeInterval.intersection(tvlNew, ivlIsct);
+        // Absorb all following members that intersect the (growing) union
+        TimeInterval    tvlCeil = super.ceiling(tvlNew);
+        
+        while (tvlCeil != null && TimeIntervalSet.isMergeable(tvlNew, tvlCeil)) {
+            super.remove(tvlCeil);
+            tvlNew = TimeInterval.support(tvlNew, tvlCeil);
+            
+            tvlCeil = super.ceiling(tvlNew);
+        }
         
         return super.add(tvlNew);
     }
@@ -105,6 +139,12 @@ public class TimeIntervalSet extends TreeSet<TimeInterval> {
      * <li>Each interval in the collection is checked for intersection. </li>
      * <li>Any intersections are modified according to {@link #add(TimeInterval)}</li>
      * </ul>
+     * <p>
+     * When the collection is small compared to the current set the intervals are inserted
+     * individually.  Otherwise the collection and the current members are sorted together and 
+     * merged in a single sweep, then the set is rebuilt.
+     * 
+     * @return  <code>true</code> if the set was modified
      * 
      * @see #add(TimeInterval)
      */
@@ -114,21 +154,134 @@ public class TimeIntervalSet extends TreeSet<TimeInterval> {
         if (c.size() == 0)
             return false;
         
-        // Add the collection checking for intersections
-        int szStart = this.size();
-        for (TimeInterval tvl : c)
-            this.add(tvl);
+        // Small collection - individual insertions are cheaper than a rebuild
+        if (c.size() < this.size() / INT_BULK_RATIO) {
+            boolean bolChanged = false;
+            
+            for (TimeInterval tvl : c)
+                bolChanged |= this.add(tvl);
+            
+            return bolChanged;
+        }
         
-        // If the size has changed the collection has definitely changed
-        if (szStart == 0 || szStart != this.size())
-            return true;
+        // Sort the members and the collection together
+        List<TimeInterval>  lstAll = new ArrayList<>(this.size() + c.size());
+        
+        lstAll.addAll(this);
+        lstAll.addAll(c);
+        lstAll.sort(TimeInterval.comparatorBegin());
+        
+        // Sweep, merging each interval into the current union when mergeable
+        List<TimeInterval>  lstMerged = new ArrayList<>(lstAll.size());
+        TimeInterval        tvlCurr = lstAll.get(0);
+        
+        for (TimeInterval tvlNext : lstAll.subList(1, lstAll.size())) {
+            if (TimeIntervalSet.isMergeable(tvlCurr, tvlNext)) {
+                tvlCurr = TimeInterval.support(tvlCurr, tvlNext);
+                
+            } else {
+                lstMerged.add(tvlCurr);
+                tvlCurr = tvlNext;
+            }
+        }
+        lstMerged.add(tvlCurr);
+        
+        // The set changed unless the merged intervals are exactly the current members
+        if (lstMerged.size() == this.size() && lstMerged.equals(new ArrayList<>(this)))
+            return false;
+        
+        super.clear();
+        for (TimeInterval tvl : lstMerged)
+            super.add(tvl);
         
-        // If the size has not changed the result is inconclusive
-        //   An intersection could have occurred
         return true;
     }
     
     
+    //
+    // Queries
+    //
+    
+    /**
+     * <p>
+     * Determines whether or not the given interval overlaps any member of this set.
+     * </p>
+     * <p>
+     * Overlap is the intersection of interiors, as used for merging; intervals sharing only an 
+     * endpoint do not overlap.
+     * </p>
+     * 
+     * @param tvl   time interval to test
+     * 
+     * @return  <code>true</code> if the given interval overlaps at least one member, <code>false</code> otherwise
+     */
+    public boolean overlaps(TimeInterval tvl) {
+        TimeInterval    tvlFloor = super.floor(tvl);
+        
+        if (tvlFloor != null && tvlFloor.hasIntersectionOpen(tvl))
+            return true;
+        
+        TimeInterval    tvlHigher = super.higher(tvl);
+        
+        return tvlHigher != null && tvlHigher.hasIntersectionOpen(tvl);
+    }
+    
+    /**
+     * <p>
+     * Determines whether or not the given interval is entirely contained within a single member of this set.
+     * </p>
+     * 
+     * @param tvl   time interval to test
+     * 
+     * @return  <code>true</code> if a member contains the given interval, <code>false</code> otherwise
+     */
+    public boolean encloses(TimeInterval tvl) {
+        TimeInterval    tvlFloor = super.floor(tvl);
+        
+        return tvlFloor != null && tvlFloor.contains(tvl);
+    }
+    
+    /**
+     * <p>
+     * Determines whether or not the given instant lies within a member of this set (endpoints included).
+     * </p>
+     * 
+     * @param ins   instant to test
+     * 
+     * @return  <code>true</code> if a member contains the given instant, <code>false</code> otherwise
+     */
+    public boolean encloses(Instant ins) {
+        TimeInterval    tvlFloor = super.floor(TimeInterval.from(ins, ins));
+        
+        return tvlFloor != null && tvlFloor.hasMembershipClosed(ins);
+    }
+    
+    /**
+     * <p>
+     * Returns the gaps between consecutive members of this set.
+     * </p>
+     * <p>
+     * The gaps are the open intervals not covered by the set within its support, returned in time order.
+     * Members sharing an endpoint leave no gap.
+     * </p>
+     * 
+     * @return  ordered list of the gaps between members (empty if the set has fewer than 2 members)
+     */
+    public List<TimeInterval>   gaps() {
+        List<TimeInterval>  lstGaps = new ArrayList<>(Math.max(this.size() - 1, 0));
+        TimeInterval        tvlPrev = null;
+        
+        for (TimeInterval tvl : this) {
+            if (tvlPrev != null && tvlPrev.end().isBefore(tvl.begin()))
+                lstGaps.add(TimeInterval.from(tvlPrev.end(), tvl.begin()));
+            
+            tvlPrev = tvl;
+        }
+        
+        return lstGaps;
+    }
+    
+    
     //
     //  Set Operations
     //
@@ -167,4 +320,25 @@ public class TimeIntervalSet extends TreeSet<TimeInterval> {
     }
 
     
+    //
+    // Support Methods
+    //
+    
+    /**
+     * <p>
+     * Determines whether or not the given intervals must be merged into a single member.
+     * </p>
+     * <p>
+     * The intervals are merged if their interiors intersect, or if they begin at the same instant
+     * (the set ordering cannot hold both).  The first argument must not begin after the second.
+     * </p>
+     * 
+     * @param tvlLo interval beginning first
+     * @param tvlHi interval beginning on or after the first
+     * 
+     * @return  <code>true</code> if the intervals are merged, <code>false</code> if they remain distinct members
+     */
+    private static boolean  isMergeable(TimeInterval tvlLo, TimeInterval tvlHi) {
+        return tvlHi.begin().isBefore(tvlLo.end()) || tvlHi.begin().equals(tvlLo.begin());
+    }
 }
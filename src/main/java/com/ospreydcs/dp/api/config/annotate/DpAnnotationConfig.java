@@ -57,6 +57,25 @@ public class DpAnnotationConfig extends CfgStructure<DpAnnotationConfig> {
     /** Default logging configuration for Query Service operations */
     @ACfgOverride.Struct(pathelem="LOGGING")
     public DpLoggingConfig      logging;
+
+    /** Default parameters for batched Annotation Service operations */
+    @ACfgOverride.Struct(pathelem="BATCH")
+    public Batch                batch;
+    
+    
+    /**
+     * Structure class defining default configuration parameters for batched Annotation Service operations.
+     */
+    @ACfgOverride.Root(root="DP_API_ANNOTATION_BATCH")
+    public static class Batch extends CfgStructure<Batch> {
+
+        /** Default constructor required for base structure class */
+        public Batch() { super(Batch.class); }
+
+        /** Maximum number of outstanding (concurrent) calls for each batch */
+        @ACfgOverride.Field(name="MAX_OUTSTANDING")
+        public Integer      maxOutstanding;
+    }
     
     
 }
@@ -27,6 +27,8 @@
  */
 package com.ospreydcs.dp.api.config.grpc;
 
+import java.util.concurrent.TimeUnit;
+
 import com.ospreydcs.dp.api.config.common.DpLoggingConfig;
 import com.ospreydcs.dp.api.config.model.ACfgOverride;
 import com.ospreydcs.dp.api.config.model.CfgStructure;
@@ -49,6 +51,10 @@ public final class DpConnectionsConfig extends CfgStructure<DpConnectionsConfig>
     /** General event logging for connection services */
     @ACfgOverride.Struct(pathelem="LOGGING")
     public DpLoggingConfig          logging;
+    
+    /** Shared (reference-counted) gRPC channel parameters for all connections */
+    @ACfgOverride.Struct(pathelem="SHARING")
+    public Sharing                  sharing;
 
     /** Data Platform Ingestion Service connection parameters */
     @ACfgOverride.Struct(pathelem="INGESTION")
@@ -62,4 +68,33 @@ public final class DpConnectionsConfig extends CfgStructure<DpConnectionsConfig>
     @ACfgOverride.Struct(pathelem="ANNOTATION")
     public DpGrpcConnectionConfig     annotation;
 
-}
\ No newline at end of file
+    
+    /**
+     * Structure containing shared channel parameters.
+     * <p>
+     * When enabled, connections with identical host, security, and channel parameters share a single gRPC 
+     * channel from a process-wide registry.
+     */
+    @ACfgOverride.Root(root="DP_API_CONNECTION_SHARING")
+    public static final class Sharing extends CfgStructure<Sharing> {
+        
+        /** Default constructor required for structure base class */
+        public Sharing() {
+            super(Sharing.class);
+        }
+        
+        /** Are gRPC channels shared between connections */
+        @ACfgOverride.Field(name="ENABLED")
+        public Boolean      enabled;
+        
+        /** Time a shared channel without connections remains open */
+        @ACfgOverride.Field(name="IDLE_TIMEOUT")
+        public Long         idleTimeout;
+        
+        /** Idle timeout units */
+        @ACfgOverride.Field(name="IDLE_UNIT")
+        public TimeUnit     idleUnit;
+        
+    } /* Sharing */
+
+}
@@ -29,6 +29,9 @@ package com.ospreydcs.dp.api.config.grpc;
 
 import java.util.concurrent.TimeUnit;
 
+import com.ospreydcs.dp.api.common.DpGrpcChannelSelection;
+import com.ospreydcs.dp.api.common.DpGrpcExecutorType;
+import com.ospreydcs.dp.api.common.DpGrpcTransportType;
 import com.ospreydcs.dp.api.config.common.DpTimeoutConfig;
 import com.ospreydcs.dp.api.config.model.ACfgOverride;
 import com.ospreydcs.dp.api.config.model.CfgStructure;
@@ -123,6 +126,14 @@ public final class DpGrpcConnectionConfig extends CfgStructure<DpGrpcConnectionC
         @ACfgOverride.Struct(pathelem="GRPC")
         public Grpc     grpc;
         
+        /** Channel pool parameters (optional) */
+        @ACfgOverride.Struct(pathelem="POOL")
+        public Pool     pool;
+        
+        /** Network transport parameters (optional) */
+        @ACfgOverride.Struct(pathelem="TRANSPORT")
+        public Transport    transport;
+        
         /**
          * Structure containing server host identification information
          *
@@ -250,9 +261,88 @@ public final class DpGrpcConnectionConfig extends CfgStructure<DpGrpcConnectionC
             /** Compress transmitted message with GZIP algorithm (not recommended) */
             @ACfgOverride.Field(name="COMPRESS_GZIP")
             public Boolean  gzip;
+            
+            /** HTTP/2 flow-control window size (bytes) for each channel - 0 or absent for gRPC default */
+            @ACfgOverride.Field(name="FLOW_CONTROL_WINDOW")
+            public Integer  flowControlWindow;
+            
+            /** Adapt the flow-control window to the bandwidth-delay product (window above is initial size) */
+            @ACfgOverride.Field(name="FLOW_CONTROL_ADAPTIVE")
+            public Boolean  flowControlAdaptive;
 
         } /* Channel.Grpc */
         
+        /**
+         * Structure containing channel pool parameters.
+         * <p>
+         * A pool of size greater than 1 opens multiple gRPC channels (i.e., HTTP/2 connections) to the 
+         * same host so that concurrent data streams are not confined to a single connection.
+         */
+        @ACfgOverride.Root(root="DP_API_CONNECTION_CHANNEL_POOL")
+        public static final class Pool extends CfgStructure<Pool> {
+
+            /** Default constructor required for structure base class */
+            public Pool() {
+                super(Pool.class);
+            }
+
+            // 
+            // Configuration Parameters
+            //
+            
+            /** Number of gRPC channels within the connection */
+            @ACfgOverride.Field(name="SIZE")
+            public Integer                  size;
+            
+            /** Policy for assigning new calls (streams) to pool channels */
+            @ACfgOverride.Field(name="SELECTION")
+            public DpGrpcChannelSelection   selection;
+
+        } /* Channel.Pool */
+        
+        /**
+         * Structure containing network transport parameters.
+         * <p>
+         * These parameters apply only to the Netty transport; all values of 0 (or absent) use the gRPC defaults.
+         */
+        @ACfgOverride.Root(root="DP_API_CONNECTION_CHANNEL_TRANSPORT")
+        public static final class Transport extends CfgStructure<Transport> {
+
+            /** Default constructor required for structure base class */
+            public Transport() {
+                super(Transport.class);
+            }
+
+            // 
+            // Configuration Parameters
+            //
+            
+            /** Network transport implementation */
+            @ACfgOverride.Field(name="TYPE")
+            public DpGrpcTransportType  type;
+            
+            /** Number of transport event loop threads (0 for Netty default) */
+            @ACfgOverride.Field(name="EVENT_LOOP_THREADS")
+            public Integer              eventLoopThreads;
+            
+            /** Executor for application callbacks */
+            @ACfgOverride.Field(name="EXECUTOR")
+            public DpGrpcExecutorType   executor;
+            
+            /** Number of threads for a dedicated executor */
+            @ACfgOverride.Field(name="EXECUTOR_THREADS")
+            public Integer              executorThreads;
+            
+            /** Socket write buffer low watermark (bytes) - channel becomes writable below this level */
+            @ACfgOverride.Field(name="WRITE_BUFFER_LOW")
+            public Integer              writeBufferLow;
+            
+            /** Socket write buffer high watermark (bytes) - channel becomes unwritable above this level */
+            @ACfgOverride.Field(name="WRITE_BUFFER_HIGH")
+            public Integer              writeBufferHigh;
+
+        } /* Channel.Transport */
+        
     } /* Channel */
 
 } /* DpGrpcConnectionConfig */
@@ -27,6 +27,8 @@
  */
 package com.ospreydcs.dp.api.config.ingest;
 
+import java.util.concurrent.TimeUnit;
+
 import com.ospreydcs.dp.api.config.common.DpConcurrencyConfig;
 import com.ospreydcs.dp.api.config.common.DpLoggingConfig;
 import com.ospreydcs.dp.api.config.common.DpTimeoutConfig;
@@ -58,10 +60,30 @@ public class DpIngestionConfig extends CfgStructure<DpIngestionConfig> {
     @ACfgOverride.Struct(pathelem="DECOMPOSE")
     public Decompose            decompose;
     
+    /** Default parameters for <code>IngestionFrame</code> coalescing (micro-batching) */
+    @ACfgOverride.Struct(pathelem="COALESCE")
+    public Coalesce             coalesce;
+    
+    /** Default parameters for <code>IngestionFrame</code> timestamp list compression */
+    @ACfgOverride.Struct(pathelem="COMPRESS")
+    public Compress             compress;
+    
     /** Default parameters for general Query Service gRPC streaming operations */
     @ACfgOverride.Struct(pathelem="STREAM")
     public DpGrpcStreamConfig   stream;
     
+    /** Default parameters for the durable disk spool of the ingestion staging buffer */
+    @ACfgOverride.Struct(pathelem="SPOOL")
+    public Spool                spool;
+    
+    /** Default parameters for bounded (rolling) statistics of long-running ingestion streams */
+    @ACfgOverride.Struct(pathelem="ROLLING")
+    public Rolling              rolling;
+    
+    /** Default parameters for the EPICS pvAccess monitor to ingestion bridge */
+    @ACfgOverride.Struct(pathelem="EPICS")
+    public Epics                epics;
+    
     /** Default concurrency parameters for Query Service operations */
     @ACfgOverride.Struct(pathelem="CONCURRENCY")
     public DpConcurrencyConfig  concurrency;
@@ -97,5 +119,158 @@ public class DpIngestionConfig extends CfgStructure<DpIngestionConfig> {
 
     }
     
+    /**
+     * Structure class containing parameters for <code>IngestionFrame</code> coalescing (micro-batching).
+     */
+    public static final class Coalesce extends CfgStructure<Coalesce> {
+        
+        /** Default constructor required for base class */
+        public Coalesce() { super(Coalesce.class); }
+        
+        //
+        // Configuration Parameters
+        //
+        
+        /** Is ingestion frame coalescing enabled */
+        @ACfgOverride.Field(name="ENABLED")
+        public Boolean      enabled;
+        
+        /** Maximum time a frame may linger while waiting for coalescing partners */
+        @ACfgOverride.Field(name="LINGER")
+        public Long         linger;
+        
+        /** Time units for the linger time */
+        @ACfgOverride.Field(name="UNIT")
+        public TimeUnit     unit;
+        
+        /** Target size (in bytes) of coalesced ingestion frames */
+        @ACfgOverride.Field(name="TARGET_SIZE")
+        public Integer      targetSize;
+    }
+    
+    /**
+     * Structure class containing parameters for <code>IngestionFrame</code> timestamp list compression.
+     */
+    public static final class Compress extends CfgStructure<Compress> {
+        
+        /** Default constructor required for base class */
+        public Compress() { super(Compress.class); }
+        
+        //
+        // Configuration Parameters
+        //
+        
+        /** Is compression of timestamp lists into sampling clocks enabled */
+        @ACfgOverride.Field(name="ENABLED")
+        public Boolean      enabled;
+        
+        /** Timestamp uniformity tolerance - zero for lossless compression */
+        @ACfgOverride.Field(name="TOLERANCE")
+        public Long         tolerance;
+        
+        /** Time units for the uniformity tolerance */
+        @ACfgOverride.Field(name="UNIT")
+        public TimeUnit     unit;
+        
+        /** Minimum number of uniform timestamps represented by a sampling clock */
+        @ACfgOverride.Field(name="MIN_SAMPLES")
+        public Integer      minSamples;
+    }
+    
+    /**
+     * Structure class containing parameters for the durable (disk-backed) staging buffer spool.
+     */
+    public static final class Spool extends CfgStructure<Spool> {
+        
+        /** Default constructor required for base class */
+        public Spool() { super(Spool.class); }
+        
+        //
+        // Configuration Parameters
+        //
+        
+        /** Is disk spooling of the staging buffer enabled */
+        @ACfgOverride.Field(name="ENABLED")
+        public Boolean      enabled;
+        
+        /** Directory location of the spool segment files */
+        @ACfgOverride.Field(name="DIRECTORY")
+        public String       directory;
+        
+        /** Size (in bytes) of each memory-mapped spool segment file */
+        @ACfgOverride.Field(name="SEGMENT_SIZE")
+        public Integer      segmentSize;
+        
+        /** Maximum disk allocation (in bytes) of the spool before back pressure - zero for unlimited */
+        @ACfgOverride.Field(name="ALLOCATION")
+        public Long         allocation;
+    }
+    
+    /**
+     * Structure class containing parameters for bounded (rolling) statistics of long-running ingestion streams.
+     */
+    public static final class Rolling extends CfgStructure<Rolling> {
+        
+        /** Default constructor required for base class */
+        public Rolling() { super(Rolling.class); }
+        
+        //
+        // Configuration Parameters
+        //
+        
+        /** Is long-running stream mode (bounded response and request UID records) enabled */
+        @ACfgOverride.Field(name="ENABLED")
+        public Boolean      enabled;
+        
+        /** Number of most recent request UIDs and responses retained */
+        @ACfgOverride.Field(name="CAPACITY")
+        public Integer      capacity;
+        
+        /** Maximum number of rejected request UIDs and exceptions retained */
+        @ACfgOverride.Field(name="MAX_REJECTS")
+        public Integer      maxRejects;
+    }
+    
+    /**
+     * Structure class containing parameters for the EPICS pvAccess monitor to ingestion bridge.
+     */
+    public static final class Epics extends CfgStructure<Epics> {
+        
+        /** Default constructor required for base class */
+        public Epics() { super(Epics.class); }
+        
+        //
+        // Configuration Parameters
+        //
+        
+        /** The pvAccess client channel provider name */
+        @ACfgOverride.Field(name="PROVIDER")
+        public String       provider;
+        
+        /** The monitor pvRequest string */
+        @ACfgOverride.Field(name="REQUEST")
+        public String       request;
+        
+        /** Channel connection timeout (seconds) */
+        @ACfgOverride.Field(name="CONNECT_TIMEOUT")
+        public Double       connectTimeout;
+        
+        /** Capacity (samples) of the ring buffer for each PV */
+        @ACfgOverride.Field(name="BUFFER_CAPACITY")
+        public Integer      bufferCapacity;
+        
+        /** Number of buffered samples of a PV triggering a frame cut */
+        @ACfgOverride.Field(name="FRAME_SIZE")
+        public Integer      frameSize;
+        
+        /** Maximum time between frame cuts */
+        @ACfgOverride.Field(name="FLUSH_PERIOD")
+        public Long         flushPeriod;
+        
+        /** Time units of the flush period */
+        @ACfgOverride.Field(name="FLUSH_UNIT")
+        public TimeUnit     flushUnit;
+    }
+    
 
 }
@@ -82,6 +82,10 @@ public class DpDataRecoveryConfig extends CfgStructure<DpDataRecoveryConfig> {
         @ACfgOverride.Field(name="PREFERRED")
         public DpGrpcStreamType   preferred;
         
+        /** Maximum number of response pages requested but not yet delivered to a query publisher subscriber */
+        @ACfgOverride.Field(name="MAX_PAGES")
+        public Integer            maxPages;
+        
     }
     
     /**
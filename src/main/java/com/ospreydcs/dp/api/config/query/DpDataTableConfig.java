@@ -89,6 +89,10 @@ public class DpDataTableConfig extends CfgStructure<DpDataTableConfig> {
         @ACfgOverride.Struct(pathelem="STATIC")
         public StaticTable          staticTbl;
         
+        /** Heap admission control parameters for time-series query result data tables */
+        @ACfgOverride.Struct(pathelem="ADMISSION")
+        public Admission            admission;
+        
 //        /** Default configuration parameters for time-series query results dynamic data tables */ 
 //        @ACfgOverride.Struct(pathelem="DYNAMIC")
 //        public Dynamic      dynamic;
@@ -113,6 +117,25 @@ public class DpDataTableConfig extends CfgStructure<DpDataTableConfig> {
             public Integer      maxSize;
         }
         
+        @ACfgOverride.Root(root="DP_API_QUERY_DATA_TABLE_ADMISSION")
+        public static class Admission extends CfgStructure<Admission> {
+            
+            /** Default constructor required for base structure class */
+            public Admission() { super(Admission.class); }
+            
+            /** Check the available heap space before data table creation */
+            @ACfgOverride.Field(name="ENABLED")
+            public Boolean      enabled;
+            
+            /** Maximum fraction of the available heap space that data table creation may allocate */
+            @ACfgOverride.Field(name="HEAP_FRACTION")
+            public Double       heapFraction;
+            
+            /** Request a garbage collection and measure the heap again before refusing a data table creation */
+            @ACfgOverride.Field(name="COLLECT")
+            public Boolean      collect;
+        }
+        
 //        @ACfgOverride.Root(root="DP_API_QUERY_DATA_TABLE_DYNAMIC")
 //        public static class Dynamic extends CfgStructure<Dynamic> {
 //            
@@ -0,0 +1,118 @@
+/*
+ * Project: dp-api-common
+ * File:	DpMetadataConfig.java
+ * Package: com.ospreydcs.dp.api.config.query
+ * Type: 	DpMetadataConfig
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ */
+package com.ospreydcs.dp.api.config.query;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import com.ospreydcs.dp.api.config.model.ACfgOverride;
+import com.ospreydcs.dp.api.config.model.CfgStructure;
+
+/**
+ * <p>
+ * Structure class containing default configuration parameters for Query Service metadata requests.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+@ACfgOverride.Root(root="DP_API_QUERY_METADATA")
+public class DpMetadataConfig extends CfgStructure<DpMetadataConfig> {
+
+    /** Default constructor required for base structure class */
+    public DpMetadataConfig() { super(DpMetadataConfig.class); }
+
+
+    //
+    // Configuration Fields
+    //
+
+    /** Client-side process variable metadata cache parameters */
+    @ACfgOverride.Struct(pathelem="CACHE")
+    public Cache    cache;
+
+
+    /**
+     * Structure class defining default configuration parameters for the process variable metadata cache.
+     */
+    @ACfgOverride.Root(root="DP_API_QUERY_METADATA_CACHE")
+    public static class Cache extends CfgStructure<Cache> {
+
+        /** Default constructor required for base structure class */
+        public Cache() { super(Cache.class); }
+
+        /** Cache metadata records on the client */
+        @ACfgOverride.Field(name="ENABLED")
+        public Boolean      enabled;
+
+        /** Maximum number of cached process variables (least recently used are evicted) */
+        @ACfgOverride.Field(name="MAX_ENTRIES")
+        public Integer      maxEntries;
+
+        /** Lifetime of a cached metadata record */
+        @ACfgOverride.Field(name="TTL")
+        public Long         ttl;
+
+        /** Lifetime of a cached unknown process variable (negative entry) */
+        @ACfgOverride.Field(name="TTL_NEGATIVE")
+        public Long         ttlNegative;
+
+        /** Units for the lifetimes */
+        @ACfgOverride.Field(name="TTL_UNIT")
+        public TimeUnit     ttlUnit;
+
+        /** Maximum number of process variable names within a single metadata request for cache misses */
+        @ACfgOverride.Field(name="BATCH_SIZE")
+        public Integer      batchSize;
+
+
+        //
+        // Operations
+        //
+
+        /**
+         * @return  the lifetime of a cached metadata record as a <code>Duration</code>
+         *
+         * @throws DateTimeException    the time unit had an estimated duration (could not be converted)
+         * @throws ArithmeticException  an arithmetic overflow occurred
+         */
+        public Duration ttlAsDuration() throws DateTimeException, ArithmeticException {
+            return Duration.of(this.ttl, this.ttlUnit.toChronoUnit());
+        }
+
+        /**
+         * @return  the lifetime of a cached unknown process variable as a <code>Duration</code>
+         *
+         * @throws DateTimeException    the time unit had an estimated duration (could not be converted)
+         * @throws ArithmeticException  an arithmetic overflow occurred
+         */
+        public Duration ttlNegativeAsDuration() throws DateTimeException, ArithmeticException {
+            return Duration.of(this.ttlNegative, this.ttlUnit.toChronoUnit());
+        }
+    }
+}
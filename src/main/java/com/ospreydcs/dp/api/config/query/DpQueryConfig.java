@@ -56,6 +56,10 @@ public final class DpQueryConfig extends CfgStructure<DpQueryConfig> {
     @ACfgOverride.Struct(pathelem="DATA")
     public DpQueryRecoveryConfig    data;
     
+    /** Default parameters for Query Service metadata requests */
+    @ACfgOverride.Struct(pathelem="METADATA")
+    public DpMetadataConfig         metadata;
+    
 //    /** Default concurrency parameters for Query Service operations */
 //    @ACfgOverride.Struct(pathelem="CONCURRENCY")
 //    public DpConcurrencyConfig      concurrency;
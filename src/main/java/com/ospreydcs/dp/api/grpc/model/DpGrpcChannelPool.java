@@ -0,0 +1,582 @@
+/*
+ * Project: dp-api-common
+ * File:	DpGrpcChannelPool.java
+ * Package: com.ospreydcs.dp.api.grpc.model
+ * Type: 	DpGrpcChannelPool
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.grpc.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.google.protobuf.MessageLite;
+import com.ospreydcs.dp.api.common.DpGrpcChannelSelection;
+import com.ospreydcs.dp.api.util.JavaRuntime;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * <p>
+ * A gRPC managed channel backed by a pool of independent channels to the same host.
+ * </p>
+ * <p>
+ * A single <code>ManagedChannel</code> multiplexes all RPC calls over one HTTP/2 (TCP) connection, with
+ * one flow-control window and one transport event loop.  When multiple, concurrent data streams are used
+ * (e.g., by <code>QueryChannel</code> or <code>IngestionChannel</code>) the single connection can limit
+ * throughput well below the network line rate.  Class instances hold multiple channels, each with its own
+ * HTTP/2 connection, and assign each new RPC call to one of them according to a
+ * <code>{@link DpGrpcChannelSelection}</code> policy.
+ * </p>
+ * <p>
+ * <h2>Operation</h2>
+ * Since the class is itself a <code>ManagedChannel</code>, Protocol Buffers communication stubs are created
+ * directly on the pool and <code>{@link DpGrpcConnection}</code> requires no knowledge of the pooling.  The
+ * channel selection occurs when the call is created, thus every data stream is pinned to a single channel for
+ * its lifetime while separate streams are distributed over the pool.  All lifecycle operations (e.g., shutdowns)
+ * are applied to every channel of the pool.
+ * </p>
+ * <p>
+ * <h2>Load Tracking</h2>
+ * The number of active calls and the number of bytes transferred on active calls are tracked for each channel.
+ * A call is active from its creation until it is closed (or cancelled before starting).  Transferred bytes are
+ * the serialized sizes of the Protocol Buffers messages both sent and received by the call, thus request
+ * streams (e.g., ingestion) and response streams (e.g., query recovery) both load their channel.  These values
+ * determine the channel selection for the <code>{@link DpGrpcChannelSelection#LEAST_OUTSTANDING}</code> policy
+ * and are available for diagnostics.
+ * </p>
+ * <p>
+ * <h2>Connectivity State</h2>
+ * The connectivity state of the pool is the aggregate of its channel states, the "best" state of any channel
+ * in the order <code>READY</code>, <code>CONNECTING</code>, <code>IDLE</code>, <code>TRANSIENT_FAILURE</code>,
+ * <code>SHUTDOWN</code>.  State change notifications refer to this aggregate state.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ * @see DpGrpcConnectionFactoryBase
+ */
+public final class DpGrpcChannelPool extends ManagedChannel {
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new <code>DpGrpcChannelPool</code> instance backed by the given channels.
+     * </p>
+     * <p>
+     * The pool takes ownership of the given channels, they are shut down with the pool.
+     * </p>
+     *
+     * @param lstChans      the pool channels, all connected to the same host (not empty)
+     * @param enmSelection  the channel selection policy for new calls
+     *
+     * @return  new channel pool backed by the given channels
+     *
+     * @throws IllegalArgumentException the channel list was empty
+     */
+    public static DpGrpcChannelPool from(List<ManagedChannel> lstChans, DpGrpcChannelSelection enmSelection) throws IllegalArgumentException {
+        return new DpGrpcChannelPool(lstChans, enmSelection);
+    }
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The pool channels */
+    private final ManagedChannel[]          arrChans;
+
+    /** The channel selection policy */
+    private final DpGrpcChannelSelection    enmSelection;
+
+
+    //
+    // State Variables
+    //
+
+    /** Round-robin selection counter */
+    private final AtomicInteger     cntSelections = new AtomicInteger(0);
+
+    /** Number of active calls on each channel */
+    private final AtomicLongArray   arrActiveCalls;
+
+    /** Number of bytes transferred (sent and received) on the active calls of each channel */
+    private final AtomicLongArray   arrActiveBytes;
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>DpGrpcChannelPool</code>.
+     * </p>
+     *
+     * @param lstChans      the pool channels, all connected to the same host (not empty)
+     * @param enmSelection  the channel selection policy for new calls
+     *
+     * @throws IllegalArgumentException the channel list was empty
+     */
+    public DpGrpcChannelPool(List<ManagedChannel> lstChans, DpGrpcChannelSelection enmSelection) throws IllegalArgumentException {
+
+        // Check argument
+        if (lstChans.isEmpty())
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - channel pool cannot be empty.");
+
+        this.arrChans = lstChans.toArray(new ManagedChannel[0]);
+        this.enmSelection = enmSelection;
+
+        this.arrActiveCalls = new AtomicLongArray(this.arrChans.length);
+        this.arrActiveBytes = new AtomicLongArray(this.arrChans.length);
+    }
+
+
+    //
+    // Pool Query
+    //
+
+    /**
+     * @return  the number of channels in the pool
+     */
+    public int getChannelCount() {
+        return this.arrChans.length;
+    }
+
+    /**
+     * @return  the channel selection policy for new calls
+     */
+    public DpGrpcChannelSelection getSelectionPolicy() {
+        return this.enmSelection;
+    }
+
+    /**
+     * @param index index of the pool channel
+     *
+     * @return  the pool channel at the given index
+     *
+     * @throws IndexOutOfBoundsException    invalid channel index
+     */
+    public ManagedChannel getChannel(int index) throws IndexOutOfBoundsException {
+        return this.arrChans[index];
+    }
+
+    /**
+     * @param index index of the pool channel
+     *
+     * @return  the number of active calls on the given channel
+     *
+     * @throws IndexOutOfBoundsException    invalid channel index
+     */
+    public long getActiveCallCount(int index) throws IndexOutOfBoundsException {
+        return this.arrActiveCalls.get(index);
+    }
+
+    /**
+     * @param index index of the pool channel
+     *
+     * @return  the number of bytes transferred (sent and received) on the active calls of the given channel
+     *
+     * @throws IndexOutOfBoundsException    invalid channel index
+     */
+    public long getActiveByteCount(int index) throws IndexOutOfBoundsException {
+        return this.arrActiveBytes.get(index);
+    }
+
+
+    //
+    // io.grpc.Channel Overrides
+    //
+
+    /**
+     * <p>
+     * Creates a new call on the pool channel selected by the selection policy.
+     * </p>
+     *
+     * @see io.grpc.Channel#newCall(io.grpc.MethodDescriptor, io.grpc.CallOptions)
+     */
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> mdRpc, CallOptions optCall) {
+        int     index = this.selectChannel();
+
+        this.arrActiveCalls.incrementAndGet(index);
+
+        return new TrackedCall<>(this.arrChans[index].newCall(mdRpc, optCall), index);
+    }
+
+    /**
+     * @see io.grpc.Channel#authority()
+     */
+    @Override
+    public String authority() {
+        return this.arrChans[0].authority();
+    }
+
+
+    //
+    // io.grpc.ManagedChannel Overrides
+    //
+
+    /**
+     * @see io.grpc.ManagedChannel#shutdown()
+     */
+    @Override
+    public ManagedChannel shutdown() {
+        for (ManagedChannel chan : this.arrChans)
+            chan.shutdown();
+
+        return this;
+    }
+
+    /**
+     * @see io.grpc.ManagedChannel#shutdownNow()
+     */
+    @Override
+    public ManagedChannel shutdownNow() {
+        for (ManagedChannel chan : this.arrChans)
+            chan.shutdownNow();
+
+        return this;
+    }
+
+    /**
+     * @return  <code>true</code> only if every pool channel is shut down
+     *
+     * @see io.grpc.ManagedChannel#isShutdown()
+     */
+    @Override
+    public boolean isShutdown() {
+        for (ManagedChannel chan : this.arrChans)
+            if (!chan.isShutdown())
+                return false;
+
+        return true;
+    }
+
+    /**
+     * @return  <code>true</code> only if every pool channel is terminated
+     *
+     * @see io.grpc.ManagedChannel#isTerminated()
+     */
+    @Override
+    public boolean isTerminated() {
+        for (ManagedChannel chan : this.arrChans)
+            if (!chan.isTerminated())
+                return false;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Waits for all pool channels to terminate, the timeout applies to the pool as a whole.
+     * </p>
+     *
+     * @see io.grpc.ManagedChannel#awaitTermination(long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public boolean awaitTermination(long lngTimeout, TimeUnit tuTimeout) throws InterruptedException {
+        long    nsDeadline = System.nanoTime() + tuTimeout.toNanos(lngTimeout);
+
+        for (ManagedChannel chan : this.arrChans) {
+            long    nsRemaining = nsDeadline - System.nanoTime();
+
+            if (!chan.awaitTermination(Math.max(nsRemaining, 0L), TimeUnit.NANOSECONDS))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Returns the aggregate connectivity state of the pool channels.
+     * </p>
+     * <p>
+     * The aggregate is the "best" state of any channel, in the order <code>READY</code>, <code>CONNECTING</code>,
+     * <code>IDLE</code>, <code>TRANSIENT_FAILURE</code>, <code>SHUTDOWN</code>.
+     * </p>
+     *
+     * @see io.grpc.ManagedChannel#getState(boolean)
+     */
+    @Override
+    public ConnectivityState getState(boolean bolRequestConnection) {
+        ConnectivityState   enmState = ConnectivityState.SHUTDOWN;
+
+        for (ManagedChannel chan : this.arrChans) {
+            ConnectivityState   enmChan = chan.getState(bolRequestConnection);
+
+            if (rankState(enmChan) < rankState(enmState))
+                enmState = enmChan;
+        }
+
+        return enmState;
+    }
+
+    /**
+     * <p>
+     * Registers the callback for a change of the aggregate pool state.
+     * </p>
+     * <p>
+     * Every pool channel is watched.  Whenever a channel changes state the aggregate state is re-evaluated;
+     * the callback is run (once) when the aggregate differs from the given source state, otherwise the
+     * channel is watched again.  If the aggregate already differs from the source state the callback is run
+     * immediately.
+     * </p>
+     *
+     * @see io.grpc.ManagedChannel#notifyWhenStateChanged(io.grpc.ConnectivityState, java.lang.Runnable)
+     */
+    @Override
+    public void notifyWhenStateChanged(ConnectivityState enmSource, Runnable tskCallback) {
+        AtomicBoolean   bolNotified = new AtomicBoolean(false);
+
+        for (ManagedChannel chan : this.arrChans)
+            this.watchChannel(chan, enmSource, tskCallback, bolNotified);
+
+        if (this.getState(false) != enmSource && bolNotified.compareAndSet(false, true))
+            tskCallback.run();
+    }
+
+    /**
+     * @see io.grpc.ManagedChannel#resetConnectBackoff()
+     */
+    @Override
+    public void resetConnectBackoff() {
+        for (ManagedChannel chan : this.arrChans)
+            chan.resetConnectBackoff();
+    }
+
+    /**
+     * @see io.grpc.ManagedChannel#enterIdle()
+     */
+    @Override
+    public void enterIdle() {
+        for (ManagedChannel chan : this.arrChans)
+            chan.enterIdle();
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + "[size=" + this.arrChans.length + ", selection=" + this.enmSelection + ", authority=" + this.authority() + "]";
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Watches the given pool channel for a change of the aggregate pool state.
+     * </p>
+     *
+     * @param chan          the pool channel to watch
+     * @param enmSource     the aggregate state at registration
+     * @param tskCallback   the callback run once upon an aggregate state change
+     * @param bolNotified   the callback has been run (shared by all channel watches of the registration)
+     */
+    private void watchChannel(ManagedChannel chan, ConnectivityState enmSource, Runnable tskCallback, AtomicBoolean bolNotified) {
+        chan.notifyWhenStateChanged(chan.getState(false), () -> {
+            if (bolNotified.get())
+                return;
+
+            if (this.getState(false) == enmSource) {
+                this.watchChannel(chan, enmSource, tskCallback, bolNotified);
+
+                return;
+            }
+
+            if (bolNotified.compareAndSet(false, true))
+                tskCallback.run();
+        });
+    }
+
+    /**
+     * @param enmState  a channel connectivity state
+     *
+     * @return  the rank of the given state within the aggregate state order (lower is better)
+     */
+    private static int rankState(ConnectivityState enmState) {
+        return switch (enmState) {
+        case READY -> 0;
+        case CONNECTING -> 1;
+        case IDLE -> 2;
+        case TRANSIENT_FAILURE -> 3;
+        case SHUTDOWN -> 4;
+        };
+    }
+
+    /**
+     * <p>
+     * Selects the pool channel for a new call according to the selection policy.
+     * </p>
+     *
+     * @return  index of the selected pool channel
+     */
+    int selectChannel() {
+
+        if (this.arrChans.length == 1)
+            return 0;
+
+        if (this.enmSelection == DpGrpcChannelSelection.ROUND_ROBIN)
+            return Math.floorMod(this.cntSelections.getAndIncrement(), this.arrChans.length);
+
+        // Least outstanding - start the scan at the round-robin position so ties are spread over the pool
+        int     indStart = Math.floorMod(this.cntSelections.getAndIncrement(), this.arrChans.length);
+        int     indBest = indStart;
+        long    cntBest = this.arrActiveCalls.get(indStart);
+        long    szBest = this.arrActiveBytes.get(indStart);
+
+        for (int i=1; i<this.arrChans.length; i++) {
+            int     index = (indStart + i) % this.arrChans.length;
+            long    cntCalls = this.arrActiveCalls.get(index);
+            long    szBytes = this.arrActiveBytes.get(index);
+
+            if (cntCalls < cntBest || (cntCalls == cntBest && szBytes < szBest)) {
+                indBest = index;
+                cntBest = cntCalls;
+                szBest = szBytes;
+            }
+        }
+
+        return indBest;
+    }
+
+
+    /**
+     * <p>
+     * Client call wrapper tracking the activity of a call on its pool channel.
+     * </p>
+     *
+     * @param <ReqT>    request message type
+     * @param <RespT>   response message type
+     */
+    private final class TrackedCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+        /** Index of the pool channel */
+        private final int           index;
+
+        /** Bytes transferred (sent and received) by this call */
+        private final AtomicLong    szTransferred = new AtomicLong(0);
+
+        /** Has this call released its activity counts */
+        private final AtomicBoolean bolReleased = new AtomicBoolean(false);
+
+        /** Has this call been started */
+        private volatile boolean    bolStarted = false;
+
+
+        /**
+         * @param callDelegate  the call on the pool channel
+         * @param index         index of the pool channel
+         */
+        private TrackedCall(ClientCall<ReqT, RespT> callDelegate, int index) {
+            super(callDelegate);
+
+            this.index = index;
+        }
+
+        @Override
+        public void start(Listener<RespT> lsnRsps, Metadata mdHeaders) {
+            this.bolStarted = true;
+
+            super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(lsnRsps) {
+                @Override
+                public void onMessage(RespT msgRsp) {
+                    TrackedCall.this.transferred(msgRsp);
+
+                    super.onMessage(msgRsp);
+                }
+
+                @Override
+                public void onClose(Status status, Metadata mdTrailers) {
+                    TrackedCall.this.release();
+
+                    super.onClose(status, mdTrailers);
+                }
+            }, mdHeaders);
+        }
+
+        @Override
+        public void sendMessage(ReqT msgRqst) {
+            this.transferred(msgRqst);
+
+            super.sendMessage(msgRqst);
+        }
+
+        @Override
+        public void cancel(String strMsg, Throwable cause) {
+
+            // Listener is never closed if the call was not started
+            if (!this.bolStarted)
+                this.release();
+
+            super.cancel(strMsg, cause);
+        }
+
+        /**
+         * Adds the serialized size of a message sent or received by this call to the channel activity.
+         *
+         * @param objMsg    the message (only Protocol Buffers messages are counted)
+         */
+        private void transferred(Object objMsg) {
+            if (this.bolReleased.get() || !(objMsg instanceof MessageLite msgProto))
+                return;
+
+            long    szMsg = msgProto.getSerializedSize();
+
+            this.szTransferred.addAndGet(szMsg);
+            DpGrpcChannelPool.this.arrActiveBytes.addAndGet(this.index, szMsg);
+        }
+
+        /**
+         * Releases the activity counts of this call from its pool channel (only once).
+         */
+        private void release() {
+            if (this.bolReleased.compareAndSet(false, true)) {
+                DpGrpcChannelPool.this.arrActiveCalls.decrementAndGet(this.index);
+                DpGrpcChannelPool.this.arrActiveBytes.addAndGet(this.index, -this.szTransferred.get());
+            }
+        }
+    }
+}
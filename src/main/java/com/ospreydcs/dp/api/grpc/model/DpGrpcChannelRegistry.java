@@ -0,0 +1,693 @@
+/*
+ * Project: dp-api-common
+ * File:	DpGrpcChannelRegistry.java
+ * Package: com.ospreydcs.dp.api.grpc.model
+ * Type: 	DpGrpcChannelRegistry
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.grpc.model;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import com.ospreydcs.dp.api.config.DpApiConfig;
+import com.ospreydcs.dp.api.config.grpc.DpConnectionsConfig;
+import com.ospreydcs.dp.api.config.grpc.DpGrpcConnectionConfig;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * <p>
+ * Process-wide registry of reference-counted gRPC channels shared by all Data Platform service connections.
+ * </p>
+ * <p>
+ * Creating a gRPC channel requires a TCP connection, an HTTP/2 setup, and possibly a TLS handshake.  When
+ * service API objects are created and shut down frequently (e.g., one per job) the channel setup can dominate
+ * the cost of small requests.  The registry hands out "leases" on shared channels instead; all connections with
+ * the same <code>{@link ChannelKey}</code> (host, port, security, and channel parameters) share one underlying
+ * channel.
+ * </p>
+ * <p>
+ * <h2>Leases</h2>
+ * A lease is itself a <code>ManagedChannel</code> and is used exactly as a dedicated channel would be.  Shutting
+ * down a lease does not shut down the underlying channel, rather it releases the lease reference once all calls
+ * made through the lease have completed.  Specifically,
+ * <ul>
+ * <li><code>shutdown()</code> - new calls are refused, the reference is released when all lease calls complete.</li>
+ * <li><code>shutdownNow()</code> - all lease calls are cancelled and the reference is released.</li>
+ * <li><code>isTerminated()</code>, <code>awaitTermination()</code> - refer to the release of the lease reference.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <h2>Idle Eviction</h2>
+ * A shared channel with no outstanding leases is kept open for the idle timeout given in the default
+ * configuration.  If no new lease is checked out within that period the channel is shut down and removed
+ * from the registry.
+ * </p>
+ * <p>
+ * <h2>Enabling</h2>
+ * Channel sharing is disabled in the default configuration (<code>connections.sharing.enabled</code>).  It changes
+ * the ownership semantics of service connections: shutting down a connection releases its lease rather than closing
+ * a TCP connection, which then remains open until idle eviction or registry shutdown.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ * @see DpGrpcConnectionFactoryBase
+ */
+public final class DpGrpcChannelRegistry {
+
+    //
+    // Application Resources
+    //
+
+    /** The connections services default configuration */
+    private static final DpConnectionsConfig    CFG_DEFAULT = DpApiConfig.getInstance().connections;
+
+
+    //
+    // Class Constants
+    //
+
+    /** Is logging enabled */
+    public static final boolean     BOL_LOGGING = CFG_DEFAULT.logging.enabled;
+
+    /** Event logger logging level */
+    public static final String      STR_LOGGING_LEVEL = CFG_DEFAULT.logging.level;
+
+
+    /** Is channel sharing enabled by default */
+    public static final boolean     BOL_SHARING_ENABLED = (CFG_DEFAULT.sharing != null) && Boolean.TRUE.equals(CFG_DEFAULT.sharing.enabled);
+
+    /** Idle timeout for shared channels without leases */
+    public static final long        LNG_IDLE_TIMEOUT = (CFG_DEFAULT.sharing == null || CFG_DEFAULT.sharing.idleTimeout == null) ? 60L : CFG_DEFAULT.sharing.idleTimeout;
+
+    /** Idle timeout units */
+    public static final TimeUnit    TU_IDLE_TIMEOUT = (CFG_DEFAULT.sharing == null || CFG_DEFAULT.sharing.idleUnit == null) ? TimeUnit.SECONDS : CFG_DEFAULT.sharing.idleUnit;
+
+
+    //
+    // Class Resources
+    //
+
+    /** The static logging utility */
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    /** Class Resource Initialization - Initializes the event logger, sets logging level. */
+    static {
+        Configurator.setLevel(LOGGER, Level.toLevel(STR_LOGGING_LEVEL, LOGGER.getLevel()));
+    }
+
+    /** The singleton registry instance */
+    private static final DpGrpcChannelRegistry  REGISTRY = new DpGrpcChannelRegistry(LNG_IDLE_TIMEOUT, TU_IDLE_TIMEOUT);
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Returns the process-wide channel registry.
+     * </p>
+     *
+     * @return  the singleton <code>DpGrpcChannelRegistry</code> instance
+     */
+    public static DpGrpcChannelRegistry getInstance() {
+        return REGISTRY;
+    }
+
+
+    /**
+     * <p>
+     * Key identifying shareable gRPC channels.
+     * </p>
+     * <p>
+     * Channels are shareable only if they are connected to the same host and port, with the same security and the
+     * same channel builder parameters.  The connection configuration structure (containing the transport and pool
+     * parameters) is compared by identity, thus channels are only shared between factories using the same
+     * configuration instance.
+     * </p>
+     *
+     * @param strHost       host network URL
+     * @param intPort       host port address
+     * @param strSecurity   security description (e.g., "TLS", "INSECURE", or TLS file locations)
+     * @param bolPlainText  plain text transmission
+     * @param intMsgSizeMax maximum message size (bytes)
+     * @param bolKeepAlive  keep alive without calls
+     * @param lngTimeoutNs  keep-alive timeout (nanoseconds)
+     * @param cfgConn       connection configuration used by the factory (compared by identity)
+     */
+    public static record ChannelKey(
+            String  strHost,
+            int     intPort,
+            String  strSecurity,
+            boolean bolPlainText,
+            int     intMsgSizeMax,
+            boolean bolKeepAlive,
+            long    lngTimeoutNs,
+            DpGrpcConnectionConfig  cfgConn
+            )
+    {
+
+        /**
+         * @see java.lang.Record#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ChannelKey key))
+                return false;
+
+            return this.strHost.equals(key.strHost)
+                    && this.intPort == key.intPort
+                    && this.strSecurity.equals(key.strSecurity)
+                    && this.bolPlainText == key.bolPlainText
+                    && this.intMsgSizeMax == key.intMsgSizeMax
+                    && this.bolKeepAlive == key.bolKeepAlive
+                    && this.lngTimeoutNs == key.lngTimeoutNs
+                    && this.cfgConn == key.cfgConn;
+        }
+
+        /**
+         * @see java.lang.Record#hashCode()
+         */
+        @Override
+        public int hashCode() {
+            int     intHash = this.strHost.hashCode();
+
+            intHash = 31*intHash + this.intPort;
+            intHash = 31*intHash + this.strSecurity.hashCode();
+            intHash = 31*intHash + Boolean.hashCode(this.bolPlainText);
+            intHash = 31*intHash + this.intMsgSizeMax;
+            intHash = 31*intHash + Boolean.hashCode(this.bolKeepAlive);
+            intHash = 31*intHash + Long.hashCode(this.lngTimeoutNs);
+            intHash = 31*intHash + System.identityHashCode(this.cfgConn);
+
+            return intHash;
+        }
+
+        /**
+         * @see java.lang.Record#toString()
+         */
+        @Override
+        public String toString() {
+            return this.strHost + ":" + this.intPort + "[" + this.strSecurity + (this.bolPlainText ? ", plaintext" : "") + "]";
+        }
+    }
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** Idle time before an unleased channel is evicted (nanoseconds) */
+    private final long      lngIdleNs;
+
+
+    //
+    // Instance Resources
+    //
+
+    /** The shared channel entries */
+    private final Map<ChannelKey, Entry>    mapEntries = new HashMap<>();
+
+    /** Idle eviction task executor (created on demand) */
+    private ScheduledExecutorService        exeEvictor = null;
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new, empty instance of <code>DpGrpcChannelRegistry</code>.
+     * </p>
+     * <p>
+     * The process-wide registry is available from <code>{@link #getInstance()}</code>, separate registries are
+     * intended for testing.
+     * </p>
+     *
+     * @param lngIdleTimeout    idle time before an unleased channel is evicted
+     * @param tuIdleTimeout     idle timeout units
+     */
+    DpGrpcChannelRegistry(long lngIdleTimeout, TimeUnit tuIdleTimeout) {
+        this.lngIdleNs = tuIdleTimeout.toNanos(lngIdleTimeout);
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Checks out a lease on the shared channel with the given key.
+     * </p>
+     * <p>
+     * If no shared channel exists for the key, or the existing channel has been shut down, a new channel is
+     * created with the given supplier and registered.
+     * </p>
+     *
+     * @param key       key identifying the shared channel
+     * @param fncBuild  creates a new channel for the key if required
+     *
+     * @return  a new lease on the shared channel
+     */
+    public ManagedChannel checkout(ChannelKey key, Supplier<ManagedChannel> fncBuild) {
+        Entry   entry;
+
+        synchronized (this) {
+            entry = this.mapEntries.get(key);
+
+            if (entry == null || entry.chan.isShutdown()) {
+                entry = new Entry(key, fncBuild.get());
+
+                this.mapEntries.put(key, entry);
+                this.startEvictor();
+
+                if (BOL_LOGGING)
+                    LOGGER.info("Created shared gRPC channel for {}", key);
+            }
+
+            entry.cntLeases++;
+            entry.nsIdleStart = 0L;
+        }
+
+        return new Lease(entry);
+    }
+
+    /**
+     * @return  the number of shared channels currently held in the registry
+     */
+    public synchronized int getChannelCount() {
+        return this.mapEntries.size();
+    }
+
+    /**
+     * @param key   key identifying the shared channel
+     *
+     * @return  the number of outstanding leases on the shared channel (0 if not registered)
+     */
+    public synchronized int getLeaseCount(ChannelKey key) {
+        Entry   entry = this.mapEntries.get(key);
+
+        return (entry == null) ? 0 : entry.cntLeases;
+    }
+
+    /**
+     * <p>
+     * Shuts down and removes all shared channels without leases which have been idle longer than the idle timeout.
+     * </p>
+     * <p>
+     * This method is invoked periodically by the registry, it is exposed for explicit maintenance.
+     * </p>
+     *
+     * @return  the number of channels evicted
+     */
+    public synchronized int evictIdle() {
+        long    nsNow = System.nanoTime();
+        int     cntEvicted = 0;
+
+        Iterator<Entry> iter = this.mapEntries.values().iterator();
+        while (iter.hasNext()) {
+            Entry   entry = iter.next();
+
+            if (entry.cntLeases > 0 || entry.nsIdleStart == 0L)
+                continue;
+
+            if (nsNow - entry.nsIdleStart < this.lngIdleNs)
+                continue;
+
+            entry.chan.shutdown();
+            iter.remove();
+            cntEvicted++;
+
+            if (BOL_LOGGING)
+                LOGGER.info("Evicted idle shared gRPC channel for {}", entry.key);
+        }
+
+        return cntEvicted;
+    }
+
+    /**
+     * <p>
+     * Shuts down all shared channels immediately and clears the registry.
+     * </p>
+     * <p>
+     * Any outstanding leases become unusable.  Intended for application termination.
+     * </p>
+     */
+    public synchronized void shutdownNow() {
+        for (Entry entry : this.mapEntries.values())
+            entry.chan.shutdownNow();
+
+        this.mapEntries.clear();
+
+        if (this.exeEvictor != null) {
+            this.exeEvictor.shutdownNow();
+            this.exeEvictor = null;
+        }
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Releases a lease on the given shared channel entry.
+     * </p>
+     * <p>
+     * When the last lease is released the entry idle period begins.  If the idle timeout is zero the channel
+     * is evicted immediately.
+     * </p>
+     *
+     * @param entry the shared channel entry
+     */
+    private synchronized void release(Entry entry) {
+        entry.cntLeases--;
+
+        if (entry.cntLeases > 0)
+            return;
+
+        entry.nsIdleStart = System.nanoTime();
+
+        if (this.lngIdleNs == 0L)
+            this.evictIdle();
+    }
+
+    /**
+     * <p>
+     * Starts the periodic idle eviction task if not already running.
+     * </p>
+     * <p>
+     * The task runs on a daemon thread at half the idle timeout period.
+     * </p>
+     */
+    private void startEvictor() {
+        if (this.exeEvictor != null || this.lngIdleNs == 0L)
+            return;
+
+        this.exeEvictor = Executors.newSingleThreadScheduledExecutor(tsk -> {
+            Thread  thd = new Thread(tsk, DpGrpcChannelRegistry.class.getSimpleName() + "-evictor");
+
+            thd.setDaemon(true);
+
+            return thd;
+        });
+
+        long    nsPeriod = Math.max(this.lngIdleNs/2, TimeUnit.MILLISECONDS.toNanos(100));
+
+        this.exeEvictor.scheduleAtFixedRate(this::evictIdle, nsPeriod, nsPeriod, TimeUnit.NANOSECONDS);
+    }
+
+
+    /**
+     * Shared channel entry within the registry.
+     */
+    private static final class Entry {
+
+        /** The registry key */
+        private final ChannelKey        key;
+
+        /** The shared channel */
+        private final ManagedChannel    chan;
+
+        /** Number of outstanding leases */
+        private int                     cntLeases = 0;
+
+        /** Start of idle period (0 if leased) */
+        private long                    nsIdleStart = 0L;
+
+        private Entry(ChannelKey key, ManagedChannel chan) {
+            this.key = key;
+            this.chan = chan;
+        }
+    }
+
+
+    /**
+     * <p>
+     * Lease on a shared channel.
+     * </p>
+     * <p>
+     * Forwards calls to the shared channel while tracking the active calls of the lease.  The lease reference
+     * is released when the lease is shut down and all its calls have completed.
+     * </p>
+     * <p>
+     * A call is active from its start until it closes; calls created but never started do not hold the
+     * lease.  A call is admitted by first counting it then re-checking the shutdown flag, so that a call
+     * started concurrently with <code>shutdown()</code> either holds the lease or is refused.
+     * </p>
+     */
+    private final class Lease extends ManagedChannel {
+
+        /** The shared channel entry */
+        private final Entry                 entry;
+
+        /** Active (started) calls of this lease */
+        private final Set<ClientCall<?, ?>> setActive = ConcurrentHashMap.newKeySet();
+
+        /** Number of active calls of this lease */
+        private final AtomicInteger         cntActive = new AtomicInteger(0);
+
+        /** Has the lease been shut down */
+        private final AtomicBoolean         bolShutdown = new AtomicBoolean(false);
+
+        /** Has the lease reference been released */
+        private final AtomicBoolean         bolReleased = new AtomicBoolean(false);
+
+        /** Signals lease release */
+        private final CountDownLatch        latReleased = new CountDownLatch(1);
+
+
+        private Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> mdRpc, CallOptions optCall) {
+            if (this.bolShutdown.get())
+                return new RefusedCall<>();
+
+            return new LeaseCall<>(this.entry.chan.newCall(mdRpc, optCall));
+        }
+
+        @Override
+        public String authority() {
+            return this.entry.chan.authority();
+        }
+
+        @Override
+        public ManagedChannel shutdown() {
+            if (this.bolShutdown.compareAndSet(false, true) && this.cntActive.get() == 0)
+                this.release();
+
+            return this;
+        }
+
+        @Override
+        public ManagedChannel shutdownNow() {
+            this.bolShutdown.set(true);
+
+            for (ClientCall<?, ?> call : this.setActive)
+                call.cancel("Shared channel lease shut down", null);
+
+            this.release();
+
+            return this;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return this.bolShutdown.get();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return this.bolReleased.get();
+        }
+
+        @Override
+        public boolean awaitTermination(long lngTimeout, TimeUnit tuTimeout) throws InterruptedException {
+            return this.latReleased.await(lngTimeout, tuTimeout);
+        }
+
+        @Override
+        public ConnectivityState getState(boolean bolRequestConnection) {
+            return this.entry.chan.getState(bolRequestConnection);
+        }
+
+        @Override
+        public void notifyWhenStateChanged(ConnectivityState enmSource, Runnable tskCallback) {
+            this.entry.chan.notifyWhenStateChanged(enmSource, tskCallback);
+        }
+
+        @Override
+        public String toString() {
+            return this.getClass().getSimpleName() + "[" + this.entry.key + "]";
+        }
+
+        /**
+         * Releases the lease reference (only once).
+         */
+        private void release() {
+            if (this.bolReleased.compareAndSet(false, true)) {
+                DpGrpcChannelRegistry.this.release(this.entry);
+                this.latReleased.countDown();
+            }
+        }
+
+        /**
+         * <p>
+         * Admits a lease call being started.
+         * </p>
+         * <p>
+         * The call is counted before the shutdown flag is checked.  If the lease was shut down meanwhile
+         * the count is undone, releasing the lease if the shutdown did not see the call.
+         * </p>
+         *
+         * @param call  the call being started
+         *
+         * @return  <code>true</code> if the call was admitted, <code>false</code> if the lease is shut down
+         */
+        private boolean admit(ClientCall<?, ?> call) {
+            this.setActive.add(call);
+            this.cntActive.incrementAndGet();
+
+            if (!this.bolShutdown.get())
+                return true;
+
+            this.completed(call);
+
+            return false;
+        }
+
+        /**
+         * Records the completion of an active lease call.
+         *
+         * @param call  the completed call
+         */
+        private void completed(ClientCall<?, ?> call) {
+            if (!this.setActive.remove(call))
+                return;
+
+            if (this.cntActive.decrementAndGet() == 0 && this.bolShutdown.get())
+                this.release();
+        }
+
+
+        /**
+         * Call made through the lease - admitted by the lease when started, reports completion to the lease.
+         * <p>
+         * Start and cancel are serialized so that <code>shutdownNow()</code> never cancels an admitted call
+         * before its delegate has started.
+         */
+        private final class LeaseCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+            private LeaseCall(ClientCall<ReqT, RespT> callDelegate) {
+                super(callDelegate);
+            }
+
+            @Override
+            public synchronized void start(Listener<RespT> lsnRsps, Metadata mdHeaders) {
+                if (!Lease.this.admit(this)) {
+                    lsnRsps.onClose(Status.UNAVAILABLE.withDescription("Shared channel lease has been shut down"), new Metadata());
+
+                    return;
+                }
+
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(lsnRsps) {
+                    @Override
+                    public void onClose(Status status, Metadata mdTrailers) {
+                        try {
+                            super.onClose(status, mdTrailers);
+
+                        } finally {
+                            Lease.this.completed(LeaseCall.this);
+                        }
+                    }
+                }, mdHeaders);
+            }
+
+            @Override
+            public synchronized void cancel(String strMsg, Throwable cause) {
+                super.cancel(strMsg, cause);
+            }
+        }
+    }
+
+
+    /**
+     * Call refused by a lease which has been shut down - fails immediately upon start.
+     */
+    private static final class RefusedCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+
+        @Override
+        public void start(Listener<RespT> lsnRsps, Metadata mdHeaders) {
+            lsnRsps.onClose(Status.UNAVAILABLE.withDescription("Shared channel lease has been shut down"), new Metadata());
+        }
+
+        @Override
+        public void request(int cntMsgs) {
+        }
+
+        @Override
+        public void cancel(String strMsg, Throwable cause) {
+        }
+
+        @Override
+        public void halfClose() {
+        }
+
+        @Override
+        public void sendMessage(ReqT msgRqst) {
+        }
+    }
+}
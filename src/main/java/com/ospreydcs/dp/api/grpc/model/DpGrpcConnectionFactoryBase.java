@@ -29,6 +29,12 @@ package com.ospreydcs.dp.api.grpc.model;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.Level;
@@ -36,16 +42,34 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.config.Configurator;
 
+import com.ospreydcs.dp.api.common.DpGrpcChannelSelection;
+import com.ospreydcs.dp.api.common.DpGrpcExecutorType;
+import com.ospreydcs.dp.api.common.DpGrpcTransportType;
 import com.ospreydcs.dp.api.config.DpApiConfig;
 import com.ospreydcs.dp.api.config.grpc.DpConnectionsConfig;
 import com.ospreydcs.dp.api.config.grpc.DpGrpcConnectionConfig;
 
+import io.grpc.CallOptions;
 import io.grpc.ChannelCredentials;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
 import io.grpc.Grpc;
 import io.grpc.InsecureChannelCredentials;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
 import io.grpc.TlsChannelCredentials;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.channel.ChannelOption;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.WriteBufferWaterMark;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.SocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioSocketChannel;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
 
 /**
  * <p>
@@ -192,6 +216,12 @@ public abstract class DpGrpcConnectionFactoryBase<
     /** The "GZIP compressor name" used by gRPC for GZIP compression */
     public static final String  STR_GZIP_NAME = "gzip";
     
+    /** Default HTTP/2 flow-control window size (bytes) - this is a gRPC parameter */
+    public static final int     INT_FLOW_CTRL_WINDOW_DEFAULT = 1048576;
+    
+    /** Maximum wait for channel termination before releasing shared transport resources (seconds) */
+    public static final long    LNG_RESRC_RELEASE_TIMEOUT = 15L;
+    
 
     //
     // Class Resources
@@ -217,6 +247,26 @@ public abstract class DpGrpcConnectionFactoryBase<
     private final DpGrpcConnectionConfig    cfgConn;
     
     
+    //
+    // Instance Resources
+    //
+    
+    /** Transport event loop shared by all factory connections (created on demand) */
+    private EventLoopGroup      grpEventLoop = null;
+    
+    /** Socket channel type compatible with the above event loop */
+    private Class<? extends SocketChannel>  clsSocketChan = null;
+    
+    /** Dedicated callback executor shared by all factory connections (created on demand) */
+    private ExecutorService     exeCallbacks = null;
+    
+    /** All channels built with the current event loop and/or callback executor */
+    private final List<ManagedChannel>  lstResrcChans = new ArrayList<>();
+    
+    /** Number of channels in the above list which have not been shut down */
+    private int                 cntResrcChans = 0;
+    
+    
     
     // 
     // Abstract Methods
@@ -558,6 +608,8 @@ public abstract class DpGrpcConnectionFactoryBase<
                 LOGGER.info("Timeout after Keepalive ping set to {} {}", lngTimeout, tuTimeout);
         }
         
+        // NOTE: HTTP/2 flow control and network transport are configured when the channel is built
+        
         // Configure - Set the data compression flag enable - no longer supported at the channel level
 //        if (bolGzipCompr) {
 //            bldrChan.enableFullStreamDecompression();
@@ -565,8 +617,12 @@ public abstract class DpGrpcConnectionFactoryBase<
 //        }
 
         
-        // Build a gRPC channel 
-        ManagedChannel grpcChan = bldrChan.build();
+        // Build a gRPC channel (or lease a shared channel)
+        String                          strSecurity = bolTlsActive ? "TLS" : "INSECURE";
+        DpGrpcChannelRegistry.ChannelKey    keyChan = new DpGrpcChannelRegistry.ChannelKey(
+                strHost, intPort, strSecurity, bolPlainText, intMsgSizeMax, bolKeepAlive, tuTimeout.toNanos(lngTimeout), this.cfgConn);
+        
+        ManagedChannel grpcChan = this.acquireChannel(keyChan, bldrChan);
         if (BOL_LOGGING)
             LOGGER.info("Created gRPC channel for host connection {}:{}", strHost, intPort);
         
@@ -783,6 +839,8 @@ public abstract class DpGrpcConnectionFactoryBase<
                 LOGGER.info("Timeout after Keepalive ping set to {} {}", lngTimeout, tuTimeout);
         }
         
+        // NOTE: HTTP/2 flow control and network transport are configured when the channel is built
+        
         // Configure - Set the data compression flag enable - no longer supported at the channel level
 //        if (bolGzipCompr) {
 //            bldrChan.enableFullStreamDecompression();
@@ -790,8 +848,14 @@ public abstract class DpGrpcConnectionFactoryBase<
 //                LOGGER.warn("Enabling GZIP compression - known performance issues with gRPC compression.");
 //        }
 
-        // Build a gRPC channel 
-        ManagedChannel grpcChan = bldrChan.build();
+        // Build a gRPC channel (or lease a shared channel)
+        String                          strSecurity = "TLS:" + fileTrustedCerts.getAbsolutePath() 
+                                                    + "|" + fileClientCertsChain.getAbsolutePath() 
+                                                    + "|" + fileClientKey.getAbsolutePath();
+        DpGrpcChannelRegistry.ChannelKey    keyChan = new DpGrpcChannelRegistry.ChannelKey(
+                strHost, intPort, strSecurity, bolPlainText, intMsgSizeMax, bolKeepAlive, tuTimeout.toNanos(lngTimeout), this.cfgConn);
+        
+        ManagedChannel grpcChan = this.acquireChannel(keyChan, bldrChan);
         if (BOL_LOGGING)
             LOGGER.info("gRPC channel created for host connection {}:{}", strHost, intPort);
         
@@ -815,4 +879,400 @@ public abstract class DpGrpcConnectionFactoryBase<
         return connBound;
     }
 
+    
+    //
+    // Support Methods
+    //
+    
+    /**
+     * <p>
+     * Configures the HTTP/2 flow control and network transport of the given channel builder from the default
+     * configuration.
+     * </p>
+     * <p>
+     * The executor for application callbacks is available to all channel builders.  The flow-control window,
+     * transport type, event loop, and write buffer watermarks are only available for the Netty transport builder;
+     * these are left at the gRPC defaults if the builder is of another type.  Any absent configuration parameters
+     * (e.g., from older configuration files) are also left at the gRPC defaults.
+     * </p>
+     * <p>
+     * <h2>Shared Resources</h2>
+     * Any event loop or dedicated executor is created on first use and shared by all connections created by this
+     * factory.  These resources use daemon threads and are released when the last channel using them is shut
+     * down (see <code>{@link #releaseResources()}</code>).  They are created anew for subsequent connections.
+     * </p>
+     * 
+     * @param bldrChan  gRPC channel builder under configuration
+     */
+    private void configureTransport(ManagedChannelBuilder<?> bldrChan) {
+        DpGrpcConnectionConfig.Channel.Grpc         cfgGrpc = this.cfgConn.channel.grpc;
+        DpGrpcConnectionConfig.Channel.Transport    cfgXport = this.cfgConn.channel.transport;
+        
+        // Configure - callback executor
+        DpGrpcExecutorType  enmExec = (cfgXport == null || cfgXport.executor == null) ? DpGrpcExecutorType.DEFAULT : cfgXport.executor;
+        
+        switch (enmExec) {
+        case DIRECT:
+            bldrChan.directExecutor();
+            if (BOL_LOGGING)
+                LOGGER.info("Running gRPC callbacks on transport threads (direct executor)");
+            break;
+            
+        case DEDICATED:
+            bldrChan.executor(this.getCallbackExecutor(cfgXport.executorThreads));
+            if (BOL_LOGGING)
+                LOGGER.info("Running gRPC callbacks on dedicated executor");
+            break;
+            
+        default:
+            break;
+        }
+        
+        // Remaining parameters are specific to Netty
+        if (!(bldrChan instanceof NettyChannelBuilder bldrNetty)) {
+            if (BOL_LOGGING)
+                LOGGER.warn("HTTP/2 transport tuning unsupported by channel builder {}", bldrChan.getClass().getName());
+            
+            return;
+        }
+        
+        // Configure - HTTP/2 flow-control window
+        int     intWindow = (cfgGrpc.flowControlWindow == null || cfgGrpc.flowControlWindow <= 0) ? 0 : cfgGrpc.flowControlWindow;
+        boolean bolAdaptive = (cfgGrpc.flowControlAdaptive == null) || cfgGrpc.flowControlAdaptive;
+        
+        if (bolAdaptive && intWindow > 0) {
+            bldrNetty.initialFlowControlWindow(intWindow);
+            if (BOL_LOGGING)
+                LOGGER.info("HTTP/2 adaptive flow-control window with initial size {} bytes", intWindow);
+            
+        } else if (!bolAdaptive) {
+            intWindow = (intWindow > 0) ? intWindow : INT_FLOW_CTRL_WINDOW_DEFAULT;
+            
+            bldrNetty.flowControlWindow(intWindow);
+            if (BOL_LOGGING)
+                LOGGER.info("HTTP/2 fixed flow-control window set to {} bytes", intWindow);
+        }
+        
+        if (cfgXport == null)
+            return;
+        
+        // Configure - transport type and event loop
+        if (cfgXport.type != null && cfgXport.type != DpGrpcTransportType.DEFAULT) {
+            this.createEventLoop(cfgXport.type, cfgXport.eventLoopThreads);
+            
+            bldrNetty.eventLoopGroup(this.grpEventLoop);
+            bldrNetty.channelType(this.clsSocketChan);
+        }
+        
+        // Configure - socket write buffer watermarks
+        int     szHigh = (cfgXport.writeBufferHigh == null) ? 0 : cfgXport.writeBufferHigh;
+        int     szLow = (cfgXport.writeBufferLow == null) ? 0 : cfgXport.writeBufferLow;
+        
+        if (szHigh > 0) {
+            if (szLow <= 0 || szLow > szHigh)
+                szLow = szHigh / 2;
+            
+            bldrNetty.withOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(szLow, szHigh));
+            if (BOL_LOGGING)
+                LOGGER.info("Socket write buffer watermarks set to [{}, {}] bytes", szLow, szHigh);
+        }
+    }
+    
+    /**
+     * <p>
+     * Creates the transport event loop shared by all factory connections if not already created.
+     * </p>
+     * <p>
+     * The native epoll transport reverts to Java NIO if unavailable on the current platform.  The event loop is
+     * created only once, the arguments are ignored on subsequent invocations.
+     * </p>
+     * 
+     * @param enmType       the requested transport type
+     * @param cntThreads    the number of event loop threads (<code>null</code> or 0 for Netty default)
+     */
+    private synchronized void createEventLoop(DpGrpcTransportType enmType, Integer cntThreads) {
+        if (this.grpEventLoop != null)
+            return;
+        
+        int             cntThds = (cntThreads == null || cntThreads < 0) ? 0 : cntThreads;
+        ThreadFactory   fncThds = new DefaultThreadFactory(this.clsService.getSimpleName() + "-eventloop", true);
+        
+        if (enmType == DpGrpcTransportType.EPOLL && Epoll.isAvailable()) {
+            this.grpEventLoop = new EpollEventLoopGroup(cntThds, fncThds);
+            this.clsSocketChan = EpollSocketChannel.class;
+            
+        } else {
+            if (enmType == DpGrpcTransportType.EPOLL && BOL_LOGGING)
+                LOGGER.warn("Native epoll transport unavailable, reverting to NIO: {}", Epoll.unavailabilityCause().getMessage());
+            
+            this.grpEventLoop = new NioEventLoopGroup(cntThds, fncThds);
+            this.clsSocketChan = NioSocketChannel.class;
+        }
+        
+        if (BOL_LOGGING)
+            LOGGER.info("Created {} transport event loop with {} threads", this.clsSocketChan.getSimpleName(), (cntThds == 0) ? "default" : cntThds);
+    }
+    
+    /**
+     * <p>
+     * Returns the dedicated callback executor shared by all factory connections, creating it if necessary.
+     * </p>
+     * 
+     * @param cntThreads    the number of executor threads (<code>null</code> or non-positive for processor count)
+     * 
+     * @return  the dedicated callback executor for this factory
+     */
+    private synchronized ExecutorService getCallbackExecutor(Integer cntThreads) {
+        if (this.exeCallbacks != null)
+            return this.exeCallbacks;
+        
+        int     cntThds = (cntThreads == null || cntThreads <= 0) ? Runtime.getRuntime().availableProcessors() : cntThreads;
+        
+        this.exeCallbacks = Executors.newFixedThreadPool(cntThds, new DefaultThreadFactory(this.clsService.getSimpleName() + "-executor", true));
+        
+        return this.exeCallbacks;
+    }
+    
+    /**
+     * <p>
+     * Acquires the gRPC channel for a new connection, either a lease on a shared channel or a dedicated channel.
+     * </p>
+     * <p>
+     * If channel sharing is enabled in the default configuration, a lease on the shared channel with the given
+     * key is checked out from the process-wide <code>{@link DpGrpcChannelRegistry}</code>; the given builder is 
+     * used only if no such channel exists.  Shutting down the returned lease releases it back to the registry.  
+     * Otherwise a new, dedicated channel is built.
+     * </p>
+     * 
+     * @param keyChan   key identifying the channel parameters
+     * @param bldrChan  gRPC channel builder with all connection parameters configured
+     * 
+     * @return  new gRPC channel, or lease on shared channel, for the service connection
+     */
+    private ManagedChannel acquireChannel(DpGrpcChannelRegistry.ChannelKey keyChan, ManagedChannelBuilder<?> bldrChan) {
+        
+        if (!DpGrpcChannelRegistry.BOL_SHARING_ENABLED)
+            return this.buildChannel(bldrChan);
+        
+        return DpGrpcChannelRegistry.getInstance().checkout(keyChan, () -> this.buildChannel(bldrChan));
+    }
+    
+    /**
+     * <p>
+     * Builds the gRPC channel for a new connection from the given channel builder.
+     * </p>
+     * <p>
+     * The HTTP/2 flow control and network transport of the builder are configured here, so that any shared
+     * transport resources are only created when a channel is actually built (i.e., not when a shared channel
+     * is leased from the registry).
+     * If the default configuration specifies a channel pool of size greater than 1, the builder is used
+     * to create each channel of the pool and a <code>{@link DpGrpcChannelPool}</code> containing them is
+     * returned.  Otherwise a single channel is returned.
+     * </p>
+     * <p>
+     * If the channel uses the shared event loop or callback executor of this factory it is returned within a
+     * <code>{@link ResourceChannel}</code> which releases the resources when shut down.
+     * </p>
+     * 
+     * @param bldrChan  gRPC channel builder with all connection parameters configured
+     * 
+     * @return  new gRPC channel, or pool of channels, for the service connection
+     */
+    private synchronized ManagedChannel buildChannel(ManagedChannelBuilder<?> bldrChan) {
+        
+        // Configure - HTTP/2 flow control and network transport (creates shared resources on demand)
+        this.configureTransport(bldrChan);
+        
+        ManagedChannel  chan = this.buildChannelPool(bldrChan);
+        
+        if (this.grpEventLoop == null && this.exeCallbacks == null)
+            return chan;
+        
+        this.lstResrcChans.add(chan);
+        this.cntResrcChans++;
+        
+        return new ResourceChannel(chan);
+    }
+    
+    /**
+     * <p>
+     * Builds a single channel, or a pool of channels, from the given fully configured builder.
+     * </p>
+     * 
+     * @param bldrChan  fully configured gRPC channel builder
+     * 
+     * @return  new gRPC channel, or pool of channels, as given by the default configuration
+     */
+    private ManagedChannel buildChannelPool(ManagedChannelBuilder<?> bldrChan) {
+        DpGrpcConnectionConfig.Channel.Pool cfgPool = this.cfgConn.channel.pool;
+        
+        if (cfgPool == null || cfgPool.size == null || cfgPool.size <= 1)
+            return bldrChan.build();
+        
+        DpGrpcChannelSelection  enmSelect = (cfgPool.selection == null) ? DpGrpcChannelSelection.LEAST_OUTSTANDING : cfgPool.selection;
+        List<ManagedChannel>    lstChans = new ArrayList<>(cfgPool.size);
+        
+        for (int i=0; i<cfgPool.size; i++)
+            lstChans.add(bldrChan.build());
+        
+        if (BOL_LOGGING)
+            LOGGER.info("Created gRPC channel pool of size {} with {} selection", cfgPool.size, enmSelect);
+        
+        return DpGrpcChannelPool.from(lstChans, enmSelect);
+    }
+    
+    /**
+     * <p>
+     * Releases the shared transport resources if the last channel using them has been shut down.
+     * </p>
+     * <p>
+     * The event loop and callback executor are detached from the factory immediately, so that new connections
+     * create new resources.  They are shut down on a daemon thread once all channels built with them have 
+     * terminated (or after <code>{@link #LNG_RESRC_RELEASE_TIMEOUT}</code> seconds), since in-flight calls
+     * still require them during a graceful channel shutdown.
+     * </p>
+     */
+    private void releaseResources() {
+        EventLoopGroup          grpLoop;
+        ExecutorService         exeCalls;
+        List<ManagedChannel>    lstChans;
+        
+        synchronized (this) {
+            this.cntResrcChans--;
+            
+            if (this.cntResrcChans > 0)
+                return;
+            
+            grpLoop = this.grpEventLoop;
+            exeCalls = this.exeCallbacks;
+            lstChans = List.copyOf(this.lstResrcChans);
+            
+            this.grpEventLoop = null;
+            this.clsSocketChan = null;
+            this.exeCallbacks = null;
+            this.lstResrcChans.clear();
+        }
+        
+        Thread  thdRelease = new Thread(() -> {
+            long    nsDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(LNG_RESRC_RELEASE_TIMEOUT);
+            
+            try {
+                for (ManagedChannel chan : lstChans)
+                    chan.awaitTermination(Math.max(nsDeadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+                
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            
+            if (grpLoop != null)
+                grpLoop.shutdownGracefully();
+            if (exeCalls != null)
+                exeCalls.shutdown();
+            
+            if (BOL_LOGGING)
+                LOGGER.info("Released shared transport resources for service {}", this.clsService.getSimpleName());
+            
+        }, this.clsService.getSimpleName() + "-release");
+        
+        thdRelease.setDaemon(true);
+        thdRelease.start();
+    }
+    
+    
+    /**
+     * <p>
+     * Channel built with the shared transport resources of the factory.
+     * </p>
+     * <p>
+     * Forwards all operations to the built channel (or channel pool).  The first shut down of the channel
+     * releases its reference to the shared resources (see <code>{@link DpGrpcConnectionFactoryBase#releaseResources()}</code>).
+     * </p>
+     */
+    private final class ResourceChannel extends ManagedChannel {
+        
+        /** The built channel */
+        private final ManagedChannel    chan;
+        
+        /** Has the resource reference been released */
+        private final AtomicBoolean     bolReleased = new AtomicBoolean(false);
+        
+        
+        private ResourceChannel(ManagedChannel chan) {
+            this.chan = chan;
+        }
+        
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> mdRpc, CallOptions optCall) {
+            return this.chan.newCall(mdRpc, optCall);
+        }
+
+        @Override
+        public String authority() {
+            return this.chan.authority();
+        }
+
+        @Override
+        public ManagedChannel shutdown() {
+            this.chan.shutdown();
+            this.release();
+            
+            return this;
+        }
+
+        @Override
+        public ManagedChannel shutdownNow() {
+            this.chan.shutdownNow();
+            this.release();
+            
+            return this;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return this.chan.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return this.chan.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long lngTimeout, TimeUnit tuTimeout) throws InterruptedException {
+            return this.chan.awaitTermination(lngTimeout, tuTimeout);
+        }
+
+        @Override
+        public ConnectivityState getState(boolean bolRequestConnection) {
+            return this.chan.getState(bolRequestConnection);
+        }
+
+        @Override
+        public void notifyWhenStateChanged(ConnectivityState enmSource, Runnable tskCallback) {
+            this.chan.notifyWhenStateChanged(enmSource, tskCallback);
+        }
+
+        @Override
+        public void resetConnectBackoff() {
+            this.chan.resetConnectBackoff();
+        }
+
+        @Override
+        public void enterIdle() {
+            this.chan.enterIdle();
+        }
+
+        @Override
+        public String toString() {
+            return this.getClass().getSimpleName() + "[" + this.chan + "]";
+        }
+        
+        /**
+         * Releases the resource reference (only once).
+         */
+        private void release() {
+            if (this.bolReleased.compareAndSet(false, true))
+                DpGrpcConnectionFactoryBase.this.releaseResources();
+        }
+    }
 }
@@ -41,6 +41,7 @@ import java.util.stream.Collectors;
 
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.UnsafeByteOperations;
 import com.ospreydcs.dp.api.annotate.model.DpDataBlock;
 import com.ospreydcs.dp.api.common.BufferedImage;
 import com.ospreydcs.dp.api.common.DpSupportedType;
@@ -55,6 +56,8 @@ import com.ospreydcs.dp.api.common.UniformSamplingClock;
 import com.ospreydcs.dp.api.common.BufferedImage.Format;
 import com.ospreydcs.dp.api.ingest.IngestionFrame;
 import com.ospreydcs.dp.api.model.AAdvancedApi;
+import com.ospreydcs.dp.api.model.table.DoubleArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.PrimitiveArrayDataColumn;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.grpc.v1.annotation.DataBlock;
 import com.ospreydcs.dp.grpc.v1.common.Array;
@@ -320,11 +323,17 @@ public final class ProtoMsg {
         } else 
             throw new MissingResourceException("Ingestion frame was not assigned timestamps.", frame.getClass().getName(), "getSamplingClock(), getTimestampList()");
         
-        // Extract the argument data and convert to Protobuf messages
+        // Extract the argument data and convert to Protobuf messages - primitive columns are not boxed
         List<DataColumn>    lstMsgCols = frame
                 .getDataColumns()   // throws IllegalStateException
                 .stream()
-                .<DataColumn>map( colFrm -> ProtoMsg.createDataColumn(colFrm.getName(), colFrm.getValues()) ) // throws exceptions
+                .<DataColumn>map( colFrm -> {
+                    if (colFrm instanceof DoubleArrayDataColumn colDbls) 
+                        return ProtoMsg.createDataColumn(colDbls.getName(), colDbls.getDoubleArray(), colDbls.getSize());
+                    if (colFrm instanceof PrimitiveArrayDataColumn colPrims)
+                        return ProtoMsg.createDataColumn(colPrims);
+                    return ProtoMsg.createDataColumn(colFrm.getName(), colFrm.getValues()); // throws exceptions
+                })
                 .toList();
 
         
@@ -376,6 +385,11 @@ public final class ProtoMsg {
      * <li>If the format attribute is one that is not supported by the Data Platform an exception is thrown.</li>
      * </ul>
      * </p>
+     * <p>
+     * <h2>NOTES:</h2>
+     * If the image data is declared immutable (see <code>{@link BufferedImage#isDataImmutable()}</code>) the
+     * returned message wraps the image byte array without copying.
+     * </p>
      * 
      * @return new <code>Image</code> message populated from the argument
      * 
@@ -392,7 +406,12 @@ public final class ProtoMsg {
         
         Image.Builder bldrImg = Image.newBuilder();
         
-        Image msgImage = bldrImg.setImage(ByteString.copyFrom(img.getData()))
+        // Immutable image data is wrapped rather than copied
+        ByteString  bytesData = img.isDataImmutable() 
+                ? UnsafeByteOperations.unsafeWrap(img.getData()) 
+                : ByteString.copyFrom(img.getData());
+        
+        Image msgImage = bldrImg.setImage(bytesData)
                                 .setFileType(img.getFormat().getProtoEnum())
                                 .build();
         
@@ -431,6 +450,78 @@ public final class ProtoMsg {
         return bldr.build();
     }
 
+    /**
+     * <p>
+     * Creates a new Data Platform <code>DataColumn</code> message from the given primitive values.
+     * </p>
+     * <p>
+     * The first <code>cntVals</code> values of the given array are converted directly to 
+     * <code>DataValue</code> messages without boxing.  This is the fast path for columns
+     * built by <code>IngestionFrameBuilder</code>.
+     * </p>
+     * 
+     * @param strName   value of the name field in the return result 
+     * @param arrVals   array of values used to populate the returned result
+     * @param cntVals   number of values taken from the array
+     * 
+     * @return a new <code>DataColumn</code> message populated with the given arguments
+     */
+    public static DataColumn createDataColumn(String strName, double[] arrVals, int cntVals) {
+        DataColumn.Builder  bldr = DataColumn.newBuilder();
+        DataValue.Builder   bldrVal = DataValue.newBuilder();
+        
+        bldr.setName(strName);
+        for (int i=0; i<cntVals; i++)
+            bldr.addDataValues( bldrVal.setDoubleValue(arrVals[i]).build() );
+        
+        return bldr.build();
+    }
+
+    /**
+     * <p>
+     * Creates a new Data Platform <code>DataColumn</code> message from the given primitive array data column.
+     * </p>
+     * <p>
+     * The column values are taken directly from the backing primitive array of the argument, thus no
+     * intermediate boxing occurs.
+     * </p>
+     * 
+     * @param colPrims  data column backed by a primitive array
+     * 
+     * @return a new <code>DataColumn</code> message populated with the name and values of the argument
+     */
+    public static DataColumn createDataColumn(PrimitiveArrayDataColumn colPrims) {
+        DataColumn.Builder  bldr = DataColumn.newBuilder();
+        DataValue.Builder   bldrVal = DataValue.newBuilder();
+        int                 cntVals = colPrims.getSize();
+        
+        bldr.setName(colPrims.getName());
+        switch (colPrims.getType()) {
+            case INTEGER -> {
+                int[]   arrVals = (int[])colPrims.getArray();
+                for (int i=0; i<cntVals; i++)
+                    bldr.addDataValues( bldrVal.setIntValue(arrVals[i]).build() );
+            }
+            case LONG -> {
+                long[]  arrVals = (long[])colPrims.getArray();
+                for (int i=0; i<cntVals; i++)
+                    bldr.addDataValues( bldrVal.setLongValue(arrVals[i]).build() );
+            }
+            case FLOAT -> {
+                float[] arrVals = (float[])colPrims.getArray();
+                for (int i=0; i<cntVals; i++)
+                    bldr.addDataValues( bldrVal.setFloatValue(arrVals[i]).build() );
+            }
+            default -> {
+                boolean[]   arrVals = (boolean[])colPrims.getArray();
+                for (int i=0; i<cntVals; i++)
+                    bldr.addDataValues( bldrVal.setBooleanValue(arrVals[i]).build() );
+            }
+        }
+        
+        return bldr.build();
+    }
+
     /**
      * <p>
      * Creates and initializes a new <code>DataValue</code> Protobuf message from the 
@@ -458,6 +549,7 @@ public final class ProtoMsg {
      *   <li><code>Double</code> -> <code>DataValue.doubleValue</code> field</li>
      *   <li><code>String</code> -> <code>DataValue.stringValue</code> field</li>
      *   <li><code>byte[]</code> -> <code>DataValue.byteArrayValue</code> field</li>
+     *   <li><code>ByteString</code> -> <code>DataValue.byteArrayValue</code> field (not copied)</li>
      *   </ul>
      * </li>
      * <li>
@@ -524,6 +616,8 @@ public final class ProtoMsg {
             bldrDatum.setStringValue(val);
         } else if (objValue instanceof byte[] val) {
             bldrDatum.setByteArrayValue(ByteString.copyFrom(val));
+        } else if (objValue instanceof ByteString val) {
+            bldrDatum.setByteArrayValue(val);
             
         } else if (objValue instanceof List list) {
             bldrDatum.setArrayValue( ProtoMsg.createArray(list) );
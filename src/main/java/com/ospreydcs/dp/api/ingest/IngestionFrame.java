@@ -50,6 +50,8 @@ import com.ospreydcs.dp.api.common.ProviderUID;
 import com.ospreydcs.dp.api.common.ResultStatus;
 import com.ospreydcs.dp.api.common.TimeInterval;
 import com.ospreydcs.dp.api.common.UniformSamplingClock;
+import com.ospreydcs.dp.api.model.table.DoubleArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.PrimitiveArrayDataColumn;
 import com.ospreydcs.dp.api.model.table.StaticDataColumn;
 import com.ospreydcs.dp.api.util.Epics;
 import com.ospreydcs.dp.api.util.JavaRuntime;
@@ -1022,9 +1024,8 @@ public class IngestionFrame implements Serializable {
         List<String> lstBadColTypes = new LinkedList<>();
         for (IDataColumn<Object> col : this.vecColData) {
             String          strName = col.getName();
-            DpSupportedType enmType = col.getType();
             
-            if (!col.getValues().stream().allMatch(objVal -> enmType.isAssignableFrom(objVal)))
+            if (!col.isTypeConsistent())
                 lstBadColTypes.add(strName);
         }
         
@@ -1557,22 +1558,14 @@ public class IngestionFrame implements Serializable {
         // - creates new columns for head
         List<IDataColumn<Object>> lstHeadCols = this.vecColData
                 .stream()
-                .<IDataColumn<Object>>map( c -> StaticDataColumn.from(
-                        c.getName(),
-                        c.getType(),
-                        c.getValues().subList(indStart, indStop)
-                        )  
-                        ).toList();
+                .<IDataColumn<Object>>map( c -> IngestionFrame.copyRows(c, indStart, indStop) )
+                .toList();
 
         // - creates new columns for tail
         List<IDataColumn<Object>> lstTailCols = this.vecColData
                 .stream()
-                .<IDataColumn<Object>>map( c -> StaticDataColumn.from(
-                        c.getName(),
-                        c.getType(),
-                        c.getValues().subList(indStop, szFrame)
-                        )  
-                        ).toList();
+                .<IDataColumn<Object>>map( c -> IngestionFrame.copyRows(c, indStop, szFrame) )
+                .toList();
 
         // Assign the new frame head data
         frmHead.addColumns(lstHeadCols);
@@ -1580,6 +1573,9 @@ public class IngestionFrame implements Serializable {
         // Now assign any optional data
         frmHead.copyOptionalProperties(this);
 
+        // Recycle the backing arrays of the replaced primitive columns
+        this.vecColData.forEach(IngestionFrame::recycleColumn);
+
         // We need to reset the current ingestion frame data column vector and maps
         this.vecColData = new ArrayList<IDataColumn<Object>>(lstTailCols);
         this.mapNmToCol = this.createNmToColMap(this.vecColData);
@@ -1695,22 +1691,14 @@ public class IngestionFrame implements Serializable {
         // - creates new columns for head
         List<IDataColumn<Object>> lstHeadCols = this.vecColData
                 .stream()
-                .<IDataColumn<Object>>map( c -> StaticDataColumn.from(
-                        c.getName(),
-                        c.getType(),
-                        c.getValues().subList(0, indStart)
-                        )  
-                        ).toList();
+                .<IDataColumn<Object>>map( c -> IngestionFrame.copyRows(c, 0, indStart) )
+                .toList();
 
         // - creates new columns for tail
         List<IDataColumn<Object>> lstTailCols = this.vecColData
                 .stream()
-                .<IDataColumn<Object>>map( c -> StaticDataColumn.from(
-                        c.getName(),
-                        c.getType(),
-                        c.getValues().subList(indStart, indStop)
-                        )  
-                        ).toList();
+                .<IDataColumn<Object>>map( c -> IngestionFrame.copyRows(c, indStart, indStop) )
+                .toList();
 
         // Assign the new frame head data
         frmTail.addColumns(lstTailCols);
@@ -1718,6 +1706,9 @@ public class IngestionFrame implements Serializable {
         // Now assign any optional data
         frmTail.copyOptionalProperties(this);
 
+        // Recycle the backing arrays of the replaced primitive columns
+        this.vecColData.forEach(IngestionFrame::recycleColumn);
+
         // We need to reset the current ingestion frame data column vector and maps
         this.vecColData = new ArrayList<IDataColumn<Object>>(lstHeadCols);
         this.mapNmToCol = this.createNmToColMap(this.vecColData);
@@ -2245,6 +2236,51 @@ public class IngestionFrame implements Serializable {
     // Support Methods
     //
     
+    /**
+     * <p>
+     * Creates a new data column containing a copy of the given row range of the given data column.
+     * </p>
+     * <p>
+     * Data columns backed by primitive arrays are copied into new primitive columns without boxing,
+     * all other data columns are copied into a <code>StaticDataColumn</code>.
+     * </p>
+     * 
+     * @param col       source data column
+     * @param indBeg    index of the first row to copy (inclusive)
+     * @param indEnd    index of the last row to copy (exclusive)
+     * 
+     * @return  new data column containing the given rows of the source column
+     * 
+     * @throws IndexOutOfBoundsException    the row range is outside the source column
+     */
+    private static IDataColumn<Object>  copyRows(IDataColumn<Object> col, int indBeg, int indEnd) throws IndexOutOfBoundsException {
+        
+        if (col instanceof DoubleArrayDataColumn colDbls)
+            return colDbls.copyOfRange(indBeg, indEnd);
+        
+        if (col instanceof PrimitiveArrayDataColumn colPrms)
+            return colPrms.copyOfRange(indBeg, indEnd);
+        
+        return StaticDataColumn.from(col.getName(), col.getType(), col.getValues().subList(indBeg, indEnd));
+    }
+    
+    /**
+     * <p>
+     * Returns the backing array of a replaced primitive data column to its producer, if recyclable.
+     * </p>
+     * <p>
+     * Only <code>DoubleArrayDataColumn</code> instances are cleared, the values of other column types may be
+     * shared with the replacement columns.
+     * </p>
+     * 
+     * @param col   data column no longer referenced by this frame
+     */
+    private static void recycleColumn(IDataColumn<Object> col) {
+        
+        if (col instanceof DoubleArrayDataColumn colDbls && colDbls.isRecyclable())
+            colDbls.clear();
+    }
+    
     /**
      * <p>
      * Creates the column name to data column map from the give collection of data columns.
@@ -0,0 +1,481 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionFrameBuilder.java
+ * Package: com.ospreydcs.dp.api.ingest
+ * Type: 	IngestionFrameBuilder
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.common.UniformSamplingClock;
+import com.ospreydcs.dp.api.model.table.DoubleArrayDataColumn;
+import com.ospreydcs.dp.api.util.JavaRuntime;
+
+/**
+ * <p>
+ * Reusable, append-only builder of <code>IngestionFrame</code> instances for high-rate producers of
+ * <code>double</code>-valued time-series data.
+ * </p>
+ * <p>
+ * Populating an <code>IngestionFrame</code> directly requires boxing every value into a list of
+ * <code>Object</code> along with a list of <code>Instant</code> timestamps.  For high-rate producers
+ * (e.g., waveform digitizers) this boxing is the dominant producer-side cost.  This builder accumulates
+ * timestamps and column values in primitive arrays and produces frames whose data columns are
+ * <code>{@link DoubleArrayDataColumn}</code> instances backed by those arrays.  The ingestion frame
+ * converter recognizes such columns and encodes them without boxing.
+ * </p>
+ * <p>
+ * <h2>Timestamps</h2>
+ * Timestamps are appended as epoch nanoseconds.  If all timestamps of a frame are uniformly distributed
+ * the built frame uses a <code>UniformSamplingClock</code>, otherwise it uses an explicit timestamp list.
+ * </p>
+ * <p>
+ * <h2>Reuse</h2>
+ * Upon <code>{@link #build()}</code> the backing arrays are transferred to the new frame and the builder
+ * is reset, ready for the next frame.  The backing arrays of a built frame are returned to the builder's
+ * array pool whenever the frame's columns are cleared, which the <code>IngestionFrameProcessor</code> does
+ * once the frame has been encoded into an <code>IngestDataRequest</code> message.  Clients may also recycle
+ * frames explicitly with <code>{@link #recycle(IngestionFrame)}</code>.  Thus, a steady-state producer
+ * allocates no new backing arrays.
+ * </p>
+ * <p>
+ * <h2>Thread Safety</h2>
+ * Instances are <em>not</em> thread safe with respect to appending and building; a builder should be
+ * owned by a single producer thread.  Recycling of backing arrays may occur on any thread.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class IngestionFrameBuilder {
+
+
+    //
+    // Class Constants
+    //
+
+    /** Default initial row capacity of the backing arrays */
+    public static final int     INT_DEFAULT_CAPACITY = 1024;
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The ordered data column names */
+    private final List<String>          lstColNms;
+
+    /** Map of data column name to column index */
+    private final Map<String, Integer>  mapNmToInd;
+
+
+    //
+    // Instance Resources
+    //
+
+    /** Pool of recycled backing arrays for data column values */
+    private final ConcurrentLinkedQueue<double[]>   quePoolVals = new ConcurrentLinkedQueue<>();
+
+    /** The timestamp buffer (epoch nanoseconds) */
+    private long[]      arrTms;
+
+    /** The data column value buffers */
+    private double[][]  arrColVals;
+
+
+    //
+    // State Variables
+    //
+
+    /** Row capacity of the current buffers */
+    private int         cntCapacity;
+
+    /** Number of timestamps appended to the current frame */
+    private int         cntTms = 0;
+
+    /** Number of values appended to each data column of the current frame */
+    private final int[] arrColCnts;
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new <code>IngestionFrameBuilder</code> for the given data columns with default capacity.
+     * </p>
+     *
+     * @param arrColNms     ordered data column names (e.g., PV names)
+     *
+     * @return  new frame builder ready for appending
+     *
+     * @throws IllegalArgumentException the column names were empty or contained duplicates
+     */
+    public static IngestionFrameBuilder create(String... arrColNms) throws IllegalArgumentException {
+        return new IngestionFrameBuilder(List.of(arrColNms), INT_DEFAULT_CAPACITY);
+    }
+
+    /**
+     * <p>
+     * Creates a new <code>IngestionFrameBuilder</code> for the given data columns and initial capacity.
+     * </p>
+     *
+     * @param lstColNms     ordered data column names (e.g., PV names)
+     * @param cntCapacity   initial row capacity of the backing arrays
+     *
+     * @return  new frame builder ready for appending
+     *
+     * @throws IllegalArgumentException the column names were empty or contained duplicates, or capacity was not positive
+     */
+    public static IngestionFrameBuilder create(List<String> lstColNms, int cntCapacity) throws IllegalArgumentException {
+        return new IngestionFrameBuilder(lstColNms, cntCapacity);
+    }
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>IngestionFrameBuilder</code>.
+     * </p>
+     *
+     * @param lstColNms     ordered data column names (e.g., PV names)
+     * @param cntCapacity   initial row capacity of the backing arrays
+     *
+     * @throws IllegalArgumentException the column names were empty or contained duplicates, or capacity was not positive
+     */
+    public IngestionFrameBuilder(List<String> lstColNms, int cntCapacity) throws IllegalArgumentException {
+
+        // Check arguments
+        if (lstColNms.isEmpty())
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - No data column names.");
+
+        if (cntCapacity <= 0)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Capacity must be positive.");
+
+        this.lstColNms = List.copyOf(lstColNms);
+        this.mapNmToInd = new HashMap<>();
+
+        for (String strNm : this.lstColNms)
+            if (this.mapNmToInd.put(strNm, this.mapNmToInd.size()) != null)
+                throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Duplicate data column name " + strNm);
+
+        this.cntCapacity = cntCapacity;
+        this.arrTms = new long[cntCapacity];
+        this.arrColVals = new double[this.lstColNms.size()][];
+        this.arrColCnts = new int[this.lstColNms.size()];
+
+        for (int iCol=0; iCol<this.arrColVals.length; iCol++)
+            this.arrColVals[iCol] = this.acquireArray(cntCapacity);
+    }
+
+
+    //
+    // State Query
+    //
+
+    /**
+     * @return  the ordered data column names of built frames
+     */
+    public List<String> getColumnNames() {
+        return this.lstColNms;
+    }
+
+    /**
+     * @return  the number of timestamps (rows) appended to the current frame
+     */
+    public int  getRowCount() {
+        return this.cntTms;
+    }
+
+    /**
+     * @return  the number of backing arrays currently available in the recycling pool
+     */
+    public int  getPooledArrayCount() {
+        return this.quePoolVals.size();
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Appends a timestamp (i.e., a new row) to the current frame.
+     * </p>
+     * <p>
+     * Data column values for the row are appended separately with <code>{@link #appendDouble(int, double)}</code>.
+     * </p>
+     *
+     * @param lngEpochNanos timestamp as nanoseconds from the Java epoch
+     */
+    public void appendTimestamp(long lngEpochNanos) {
+        this.ensureCapacity(this.cntTms + 1);
+
+        this.arrTms[this.cntTms++] = lngEpochNanos;
+    }
+
+    /**
+     * <p>
+     * Appends a value to the given data column of the current frame.
+     * </p>
+     *
+     * @param indCol    data column index (i.e., within the builder column names)
+     * @param dblVal    the value to append
+     *
+     * @throws IndexOutOfBoundsException    invalid column index
+     */
+    public void appendDouble(int indCol, double dblVal) throws IndexOutOfBoundsException {
+        int     cntVals = this.arrColCnts[indCol];
+
+        this.ensureCapacity(cntVals + 1);
+
+        this.arrColVals[indCol][cntVals] = dblVal;
+        this.arrColCnts[indCol] = cntVals + 1;
+    }
+
+    /**
+     * <p>
+     * Appends a value to the given data column of the current frame.
+     * </p>
+     *
+     * @param strColNm  data column name
+     * @param dblVal    the value to append
+     *
+     * @throws IllegalArgumentException the builder has no data column with the given name
+     */
+    public void appendDouble(String strColNm, double dblVal) throws IllegalArgumentException {
+        Integer indCol = this.mapNmToInd.get(strColNm);
+
+        if (indCol == null)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Unknown data column " + strColNm);
+
+        this.appendDouble(indCol, dblVal);
+    }
+
+    /**
+     * <p>
+     * Appends a full row, a timestamp and one value for each data column, to the current frame.
+     * </p>
+     *
+     * @param lngEpochNanos timestamp as nanoseconds from the Java epoch
+     * @param arrRow        row values, in data column order
+     *
+     * @throws IllegalArgumentException the row size does not equal the number of data columns
+     */
+    public void appendRow(long lngEpochNanos, double[] arrRow) throws IllegalArgumentException {
+
+        if (arrRow.length != this.arrColVals.length)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Row size " + arrRow.length + " should be " + this.arrColVals.length);
+
+        this.appendTimestamp(lngEpochNanos);
+
+        for (int iCol=0; iCol<arrRow.length; iCol++)
+            this.appendDouble(iCol, arrRow[iCol]);
+    }
+
+    /**
+     * <p>
+     * Builds a new ingestion frame from the current contents then resets the builder for the next frame.
+     * </p>
+     * <p>
+     * The backing arrays are transferred to the data columns of the returned frame and are recycled when those
+     * columns are cleared.  The returned frame uses a sampling clock if the timestamps are uniformly
+     * distributed, otherwise a timestamp list.
+     * </p>
+     *
+     * @return  new ingestion frame containing all appended data
+     *
+     * @throws IllegalStateException    no rows were appended or a data column size differs from the row count
+     */
+    public IngestionFrame build() throws IllegalStateException {
+
+        // Check state
+        if (this.cntTms == 0)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - No rows have been appended.");
+
+        for (int iCol=0; iCol<this.arrColCnts.length; iCol++)
+            if (this.arrColCnts[iCol] != this.cntTms)
+                throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple()
+                        + " - Column " + this.lstColNms.get(iCol) + " has " + this.arrColCnts[iCol] + " values, expected " + this.cntTms);
+
+        // Create the data columns - ownership of the backing arrays is transferred
+        ArrayList<IDataColumn<Object>>  vecCols = new ArrayList<>(this.arrColVals.length);
+
+        for (int iCol=0; iCol<this.arrColVals.length; iCol++) {
+            vecCols.add(DoubleArrayDataColumn.from(this.lstColNms.get(iCol), this.arrColVals[iCol], this.cntTms, this.quePoolVals::offer));
+
+            this.arrColVals[iCol] = this.acquireArray(this.cntCapacity);
+        }
+
+        // Create the frame with the appropriate timestamps
+        UniformSamplingClock    clk = this.createSamplingClock();
+        IngestionFrame          frame;
+
+        if (clk != null)
+            frame = IngestionFrame.from(clk, vecCols);
+        else
+            frame = IngestionFrame.from(this.createTimestampList(), vecCols);
+
+        // Reset for next frame
+        this.clear();
+
+        return frame;
+    }
+
+    /**
+     * <p>
+     * Discards all data appended to the current frame.
+     * </p>
+     */
+    public void clear() {
+        this.cntTms = 0;
+
+        Arrays.fill(this.arrColCnts, 0);
+    }
+
+    /**
+     * <p>
+     * Returns the backing arrays of the given frame (built by this builder) to the array pool.
+     * </p>
+     * <p>
+     * All recyclable data columns of the argument are cleared.  The frame must not be used afterwards.
+     * Calling this method on a frame already recycled (e.g., by the frame processor) has no effect, even when
+     * both recycle the frame concurrently; each backing array enters the pool exactly once.
+     * </p>
+     *
+     * @param frame     ingestion frame previously created by <code>{@link #build()}</code>
+     */
+    public void recycle(IngestionFrame frame) {
+
+        for (IDataColumn<Object> col : frame.getDataColumns())
+            if (col instanceof DoubleArrayDataColumn colDbls && colDbls.isRecyclable())
+                colDbls.clear();
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Returns a pooled array with at least the given capacity, or a new array if none is available.
+     * </p>
+     *
+     * @param cntMin    minimum array length
+     *
+     * @return  array of length at least the argument
+     */
+    private double[] acquireArray(int cntMin) {
+        double[]    arr;
+
+        while ((arr = this.quePoolVals.poll()) != null)
+            if (arr.length >= cntMin)
+                return arr;
+
+        return new double[cntMin];
+    }
+
+    /**
+     * <p>
+     * Grows all current buffers (doubling) if required to hold the given number of rows.
+     * </p>
+     *
+     * @param cntRows   required row capacity
+     */
+    private void ensureCapacity(int cntRows) {
+
+        if (cntRows <= this.cntCapacity)
+            return;
+
+        int     cntNew = Math.max(cntRows, 2*this.cntCapacity);
+
+        this.arrTms = Arrays.copyOf(this.arrTms, cntNew);
+
+        for (int iCol=0; iCol<this.arrColVals.length; iCol++)
+            this.arrColVals[iCol] = Arrays.copyOf(this.arrColVals[iCol], cntNew);
+
+        this.cntCapacity = cntNew;
+    }
+
+    /**
+     * <p>
+     * Creates a sampling clock for the current timestamps if they are uniformly distributed.
+     * </p>
+     *
+     * @return  equivalent sampling clock, or <code>null</code> if timestamps are not uniform (or fewer than 2)
+     */
+    private UniformSamplingClock createSamplingClock() {
+
+        if (this.cntTms < 2)
+            return null;
+
+        long    lngPeriod = this.arrTms[1] - this.arrTms[0];
+
+        if (lngPeriod <= 0)
+            return null;
+
+        for (int i=2; i<this.cntTms; i++)
+            if (this.arrTms[i] - this.arrTms[i-1] != lngPeriod)
+                return null;
+
+        return UniformSamplingClock.from(toInstant(this.arrTms[0]), this.cntTms, Duration.ofNanos(lngPeriod));
+    }
+
+    /**
+     * @return  new timestamp list for the current timestamps
+     */
+    private ArrayList<Instant> createTimestampList() {
+        ArrayList<Instant>  vecTms = new ArrayList<>(this.cntTms);
+
+        for (int i=0; i<this.cntTms; i++)
+            vecTms.add(toInstant(this.arrTms[i]));
+
+        return vecTms;
+    }
+
+    /**
+     * @param lngEpochNanos nanoseconds from the Java epoch
+     *
+     * @return  equivalent instant
+     */
+    private static Instant toInstant(long lngEpochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(lngEpochNanos, 1_000_000_000L), Math.floorMod(lngEpochNanos, 1_000_000_000L));
+    }
+}
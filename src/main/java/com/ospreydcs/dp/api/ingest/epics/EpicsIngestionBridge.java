@@ -0,0 +1,843 @@
+/*
+ * Project: dp-api-common
+ * File:	EpicsIngestionBridge.java
+ * Package: com.ospreydcs.dp.api.ingest.epics
+ * Type: 	EpicsIngestionBridge
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest.epics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.epics.pvaClient.PvaClient;
+import org.epics.pvaClient.PvaClientChannel;
+import org.epics.pvaClient.PvaClientMonitor;
+import org.epics.pvaClient.PvaClientMonitorData;
+import org.epics.pvaClient.PvaClientMonitorRequester;
+import org.epics.pvdata.property.TimeStamp;
+
+import com.ospreydcs.dp.api.config.DpApiConfig;
+import com.ospreydcs.dp.api.config.ingest.DpIngestionConfig;
+import com.ospreydcs.dp.api.ingest.DpIngestionException;
+import com.ospreydcs.dp.api.ingest.IIngestionStream;
+import com.ospreydcs.dp.api.ingest.IngestionFrame;
+import com.ospreydcs.dp.api.ingest.IngestionFrameBuilder;
+import com.ospreydcs.dp.api.util.JavaRuntime;
+
+/**
+ * <p>
+ * Event-driven bridge from EPICS pvAccess monitors to a Data Platform ingestion stream.
+ * </p>
+ * <p>
+ * The bridge subscribes to a set of process variables (PVs) through pvaClient monitors.  Each monitor update
+ * is appended, as a primitive (timestamp, value) pair, to a ring buffer dedicated to the PV
+ * (see <code>{@link EpicsPvRingBuffer}</code>).  A single frame cutting thread drains the ring buffers into
+ * <code>{@link IngestionFrameBuilder}</code> instances, one per PV, and transmits the resulting
+ * <code>IngestionFrame</code> instances to the <code>IIngestionStream</code> supplied at creation.
+ * Thus, no boxing or per-update frame creation occurs between the monitor callbacks and the ingestion stream.
+ * </p>
+ * <p>
+ * <h2>Frame Cutting</h2>
+ * A frame is cut for a PV whenever either of the following conditions hold:
+ * <ul>
+ * <li><b>Size</b> - The PV ring buffer holds at least the frame size of samples.</li>
+ * <li><b>Time</b> - The flush period has elapsed since the last periodic cut; all non-empty buffers are cut.</li>
+ * </ul>
+ * Clients may also cut frames explicitly with <code>{@link #flush()}</code>.  Each frame contains a single
+ * data column named after its PV.  Uniformly sampled PVs yield frames with a sampling clock.
+ * </p>
+ * <p>
+ * <h2>Overflow and Drop Accounting</h2>
+ * If the ingestion stream applies back pressure the ring buffers absorb monitor updates.  Once a ring buffer
+ * is full its oldest samples are overwritten.  The bridge records, for each PV, the number of samples
+ * received, dropped in the ring buffer, rejected (e.g., non-numeric values), and ingested, along with the
+ * number of monitor overrun events reported by pvAccess (i.e., updates discarded at the server).  Samples within
+ * frames which the ingestion stream refused are counted separately.  See <code>{@link #getStatistics()}</code>.
+ * </p>
+ * <p>
+ * <h2>Operation</h2>
+ * <ol>
+ * <li>Open the ingestion stream (i.e., <code>{@link IIngestionStream#openStream(com.ospreydcs.dp.api.common.ProviderRegistrar)}</code>).</li>
+ * <li>Create the bridge with <code>{@link #from(IIngestionStream, List)}</code>.</li>
+ * <li>Call <code>{@link #start()}</code> to subscribe to the PVs and start frame cutting.</li>
+ * <li>Call <code>{@link #shutdown()}</code> to unsubscribe and transmit all remaining samples.</li>
+ * <li>Close the ingestion stream.</li>
+ * </ol>
+ * The bridge never opens or closes the ingestion stream; its life cycle belongs to the client.
+ * Samples may also be supplied directly with <code>{@link #offer(String, long, double)}</code>,
+ * for example, from a non-pvAccess source.
+ * </p>
+ * <p>
+ * <h2>NOTES:</h2>
+ * Only PVs with scalar numeric values (e.g., <code>NTScalar</code> with a <code>double</code> or integral
+ * value) are supported.  Updates without a <code>timeStamp</code> field are stamped with the time of receipt.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class EpicsIngestionBridge {
+
+
+    //
+    // Application Resources
+    //
+
+    /** Default Ingestion Service API configuration parameters */
+    private static final DpIngestionConfig  CFG_DEFAULT = DpApiConfig.getInstance().ingest;
+
+
+    //
+    // Class Constants
+    //
+
+    /** The pvAccess client channel provider */
+    public static final String      STR_PROVIDER = CFG_DEFAULT.epics.provider;
+
+    /** The monitor pvRequest string */
+    public static final String      STR_REQUEST = CFG_DEFAULT.epics.request;
+
+    /** Channel connection timeout (seconds) */
+    public static final double      DBL_CONNECT_TIMEOUT = CFG_DEFAULT.epics.connectTimeout;
+
+    /** Default ring buffer capacity for each PV */
+    public static final int         CNT_BUFFER_CAPACITY = CFG_DEFAULT.epics.bufferCapacity;
+
+    /** Default number of buffered samples triggering a frame cut */
+    public static final int         CNT_FRAME_SIZE = CFG_DEFAULT.epics.frameSize;
+
+    /** Default maximum time between frame cuts */
+    public static final long        LNG_FLUSH_PERIOD = CFG_DEFAULT.epics.flushPeriod;
+
+    /** Default flush period time units */
+    public static final TimeUnit    TU_FLUSH_PERIOD = CFG_DEFAULT.epics.flushUnit;
+
+
+    /** Event logging enabled flag */
+    public static final boolean     BOL_LOGGING = CFG_DEFAULT.logging.enabled;
+
+    /** Event logging level */
+    public static final String      STR_LOGGING_LEVEL = CFG_DEFAULT.logging.level;
+
+
+    //
+    // Class Resources
+    //
+
+    /** Class event logger */
+    private static final Logger     LOGGER = LogManager.getLogger();
+
+
+    /**
+     * <p>
+     * Class Initialization - Initializes the event logger, sets logging level.
+     * </p>
+     */
+    static {
+        Configurator.setLevel(LOGGER, Level.toLevel(STR_LOGGING_LEVEL, LOGGER.getLevel()));
+    }
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The target ingestion stream */
+    private final IIngestionStream  strmIngest;
+
+    /** Number of buffered samples of a PV triggering a frame cut */
+    private final int               cntFrameSize;
+
+    /** Maximum time between frame cuts (nanoseconds) */
+    private final long              lngFlushNs;
+
+
+    //
+    // Instance Resources
+    //
+
+    /** The PV entries, in order of creation, keyed by PV name */
+    private final Map<String, PvEntry>  mapEntries = new LinkedHashMap<>();
+
+    /** Monitor used for signaling the frame cutting thread */
+    private final Object                objSignal = new Object();
+
+    /** Lock serializing frame cutting (frame builders are not thread safe) */
+    private final Object                objCutLock = new Object();
+
+    /** The frame cutting thread */
+    private Thread                      thdCutter = null;
+
+
+    //
+    // State Variables
+    //
+
+    /** Bridge is subscribed and cutting frames */
+    private volatile boolean    bolActive = false;
+
+    /** A frame cut has been requested (i.e., a buffer reached the frame size) */
+    private boolean             bolCutRequested = false;
+
+    /** Number of frames transmitted to the ingestion stream */
+    private final AtomicLong    cntFrames = new AtomicLong();
+
+    /** Number of failed ingestion stream transmissions */
+    private final AtomicLong    cntFailures = new AtomicLong();
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new bridge for the given PVs with default buffering and frame cutting parameters.
+     * </p>
+     *
+     * @param strmIngest    target ingestion stream (opened and closed by the client)
+     * @param lstPvNames    names of the PVs to monitor
+     *
+     * @return  new bridge ready for <code>{@link #start()}</code>
+     *
+     * @throws IllegalArgumentException the PV names were empty or contained duplicates
+     */
+    public static EpicsIngestionBridge from(IIngestionStream strmIngest, List<String> lstPvNames) throws IllegalArgumentException {
+        return new EpicsIngestionBridge(strmIngest, lstPvNames, CNT_BUFFER_CAPACITY, CNT_FRAME_SIZE, LNG_FLUSH_PERIOD, TU_FLUSH_PERIOD);
+    }
+
+    /**
+     * <p>
+     * Creates a new bridge for the given PVs with the given buffering and frame cutting parameters.
+     * </p>
+     *
+     * @param strmIngest    target ingestion stream (opened and closed by the client)
+     * @param lstPvNames    names of the PVs to monitor
+     * @param cntBufferCap  ring buffer capacity (samples) for each PV
+     * @param cntFrameSize  number of buffered samples of a PV triggering a frame cut
+     * @param lngFlushPeriod maximum time between frame cuts
+     * @param tuFlushPeriod time units of the flush period
+     *
+     * @return  new bridge ready for <code>{@link #start()}</code>
+     *
+     * @throws IllegalArgumentException the PV names were empty or contained duplicates, a size was not positive,
+     *                                  or the frame size exceeds the buffer capacity
+     */
+    public static EpicsIngestionBridge from(IIngestionStream strmIngest, List<String> lstPvNames, int cntBufferCap, int cntFrameSize, long lngFlushPeriod, TimeUnit tuFlushPeriod)
+            throws IllegalArgumentException {
+        return new EpicsIngestionBridge(strmIngest, lstPvNames, cntBufferCap, cntFrameSize, lngFlushPeriod, tuFlushPeriod);
+    }
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>EpicsIngestionBridge</code>.
+     * </p>
+     *
+     * @param strmIngest    target ingestion stream (opened and closed by the client)
+     * @param lstPvNames    names of the PVs to monitor
+     * @param cntBufferCap  ring buffer capacity (samples) for each PV
+     * @param cntFrameSize  number of buffered samples of a PV triggering a frame cut (at most the buffer capacity)
+     * @param lngFlushPeriod maximum time between frame cuts
+     * @param tuFlushPeriod time units of the flush period
+     *
+     * @throws IllegalArgumentException the PV names were empty or contained duplicates, a size was not positive,
+     *                                  or the frame size exceeds the buffer capacity
+     */
+    public EpicsIngestionBridge(IIngestionStream strmIngest, List<String> lstPvNames, int cntBufferCap, int cntFrameSize, long lngFlushPeriod, TimeUnit tuFlushPeriod)
+            throws IllegalArgumentException {
+
+        // Check arguments
+        if (lstPvNames.isEmpty())
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - No PV names.");
+
+        if (cntBufferCap <= 0 || cntFrameSize <= 0 || lngFlushPeriod <= 0)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Buffer capacity, frame size and flush period must be positive.");
+
+        // A buffer never holds more than its capacity, so a larger frame size would never trigger a cut
+        if (cntFrameSize > cntBufferCap)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Frame size " + cntFrameSize + " exceeds buffer capacity " + cntBufferCap);
+
+        this.strmIngest = strmIngest;
+        this.cntFrameSize = cntFrameSize;
+        this.lngFlushNs = tuFlushPeriod.toNanos(lngFlushPeriod);
+
+        for (String strPvNm : lstPvNames) {
+            PvEntry entry = new PvEntry(strPvNm, EpicsPvRingBuffer.create(strPvNm, cntBufferCap), IngestionFrameBuilder.create(List.of(strPvNm), cntFrameSize));
+
+            if (this.mapEntries.put(strPvNm, entry) != null)
+                throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Duplicate PV name " + strPvNm);
+        }
+    }
+
+
+    //
+    // State Query
+    //
+
+    /**
+     * @return  the names of the monitored PVs
+     */
+    public List<String> getPvNames() {
+        return List.copyOf(this.mapEntries.keySet());
+    }
+
+    /**
+     * @return  <code>true</code> if the bridge is subscribed and cutting frames
+     */
+    public boolean  isActive() {
+        return this.bolActive;
+    }
+
+    /**
+     * @return  the number of frames transmitted to the ingestion stream
+     */
+    public long getFrameCount() {
+        return this.cntFrames.get();
+    }
+
+    /**
+     * @return  the number of failed ingestion stream transmissions
+     */
+    public long getFailureCount() {
+        return this.cntFailures.get();
+    }
+
+    /**
+     * <p>
+     * Returns the current statistics (received, dropped, ingested, etc.) for each PV.
+     * </p>
+     *
+     * @return  ordered list of statistics, one for each PV
+     */
+    public List<PvStatistics>   getStatistics() {
+        List<PvStatistics>  lstStats = new ArrayList<>(this.mapEntries.size());
+
+        for (PvEntry entry : this.mapEntries.values())
+            lstStats.add(entry.statistics());
+
+        return lstStats;
+    }
+
+    /**
+     * <p>
+     * Returns the current statistics for the given PV.
+     * </p>
+     *
+     * @param strPvName PV name
+     *
+     * @return  statistics for the PV
+     *
+     * @throws IllegalArgumentException the PV is not monitored by this bridge
+     */
+    public PvStatistics getStatistics(String strPvName) throws IllegalArgumentException {
+        return this.entryFor(strPvName).statistics();
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Subscribes to all PVs and starts the frame cutting thread.
+     * </p>
+     * <p>
+     * Each PV channel is connected and monitored with the configured pvAccess provider and pvRequest.  If any
+     * PV cannot be subscribed all subscriptions are released and an exception is thrown.
+     * </p>
+     *
+     * @throws IllegalStateException    the bridge has already been started
+     * @throws DpIngestionException     a PV channel could not be connected or monitored
+     */
+    public synchronized void start() throws IllegalStateException, DpIngestionException {
+
+        if (this.bolActive || this.thdCutter != null)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - Bridge was already started.");
+
+        PvaClient   pvaClient = PvaClient.get(STR_PROVIDER);
+
+        for (PvEntry entry : this.mapEntries.values()) {
+            try {
+                entry.subscribe(pvaClient);
+
+            } catch (RuntimeException e) {
+                this.mapEntries.values().forEach(PvEntry::unsubscribe);
+
+                String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() + " - Failed to monitor PV " + entry.strPvName + ": " + e.getMessage();
+
+                if (BOL_LOGGING)
+                    LOGGER.error(strMsg);
+
+                throw new DpIngestionException(strMsg, e);
+            }
+        }
+
+        this.startCutting();
+
+        if (BOL_LOGGING)
+            LOGGER.info("Monitoring {} PVs, frame size {}, flush period {} ns.", this.mapEntries.size(), this.cntFrameSize, this.lngFlushNs);
+    }
+
+    /**
+     * <p>
+     * Starts the frame cutting thread without subscribing to any PV.
+     * </p>
+     * <p>
+     * Samples are then supplied only through <code>{@link #offer(String, long, double)}</code>.  Used by
+     * <code>{@link #start()}</code> once all PVs are subscribed, and for testing without a pvAccess server.
+     * </p>
+     *
+     * @throws IllegalStateException    the bridge has already been started
+     */
+    synchronized void startCutting() throws IllegalStateException {
+
+        if (this.bolActive || this.thdCutter != null)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - Bridge was already started.");
+
+        this.bolActive = true;
+        this.thdCutter = new Thread(this::cutFramesLoop, "EpicsIngestionBridge-cutter");
+        this.thdCutter.setDaemon(true);
+        this.thdCutter.start();
+    }
+
+    /**
+     * <p>
+     * Unsubscribes from all PVs, stops the frame cutting thread, then transmits all remaining buffered samples.
+     * </p>
+     * <p>
+     * The ingestion stream remains open.  Calling this method on an unstarted bridge only transmits the
+     * buffered samples.
+     * </p>
+     *
+     * @throws InterruptedException interrupted while waiting for the frame cutting thread or the ingestion stream
+     */
+    public synchronized void shutdown() throws InterruptedException {
+
+        this.mapEntries.values().forEach(PvEntry::unsubscribe);
+        this.bolActive = false;
+
+        if (this.thdCutter != null) {
+            synchronized (this.objSignal) {
+                this.objSignal.notifyAll();
+            }
+
+            this.thdCutter.join();
+            this.thdCutter = null;
+        }
+
+        this.cutFrames(true);
+    }
+
+    /**
+     * <p>
+     * Appends a sample for the given PV directly, as if received from its monitor.
+     * </p>
+     *
+     * @param strPvName     PV name
+     * @param lngEpochNanos sample timestamp as nanoseconds from the Java epoch
+     * @param dblVal        sample value
+     *
+     * @return  <code>true</code> if the sample was buffered without loss,
+     *          <code>false</code> if the oldest sample of the PV was dropped to make room
+     *
+     * @throws IllegalArgumentException the PV is not monitored by this bridge
+     */
+    public boolean  offer(String strPvName, long lngEpochNanos, double dblVal) throws IllegalArgumentException {
+        return this.offer(this.entryFor(strPvName), lngEpochNanos, dblVal);
+    }
+
+    /**
+     * <p>
+     * Immediately cuts frames from all non-empty PV buffers and transmits them to the ingestion stream.
+     * </p>
+     *
+     * @return  the number of frames transmitted
+     *
+     * @throws InterruptedException interrupted while waiting for the ingestion stream
+     */
+    public int  flush() throws InterruptedException {
+        return this.cutFrames(true);
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Returns the entry for the given PV.
+     * </p>
+     *
+     * @param strPvName PV name
+     *
+     * @return  the PV entry
+     *
+     * @throws IllegalArgumentException the PV is not monitored by this bridge
+     */
+    private PvEntry entryFor(String strPvName) throws IllegalArgumentException {
+        PvEntry entry = this.mapEntries.get(strPvName);
+
+        if (entry == null)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Unknown PV " + strPvName);
+
+        return entry;
+    }
+
+    /**
+     * <p>
+     * Returns the pvAccess monitor requester receiving the updates of the given PV.
+     * </p>
+     * <p>
+     * Used for testing the monitor callback without a pvAccess server.
+     * </p>
+     *
+     * @param strPvName PV name
+     *
+     * @return  the monitor requester of the PV
+     *
+     * @throws IllegalArgumentException the PV is not monitored by this bridge
+     */
+    PvaClientMonitorRequester   monitorRequester(String strPvName) throws IllegalArgumentException {
+        return this.entryFor(strPvName);
+    }
+
+    /**
+     * <p>
+     * Appends a sample to the PV buffer and signals the frame cutting thread if the buffer reached the frame size.
+     * </p>
+     *
+     * @param entry         PV entry
+     * @param lngEpochNanos sample timestamp as nanoseconds from the Java epoch
+     * @param dblVal        sample value
+     *
+     * @return  <code>true</code> if the sample was buffered without loss
+     */
+    private boolean offer(PvEntry entry, long lngEpochNanos, double dblVal) {
+        boolean bolStored = entry.bufSamples.offer(lngEpochNanos, dblVal);
+
+        if (entry.bufSamples.size() == this.cntFrameSize)
+            synchronized (this.objSignal) {
+                this.bolCutRequested = true;
+                this.objSignal.notifyAll();
+            }
+
+        return bolStored;
+    }
+
+    /**
+     * <p>
+     * Frame cutting thread task - cuts full buffers when signaled and all buffers at each flush period.
+     * </p>
+     */
+    private void cutFramesLoop() {
+        long    nsNextFlush = System.nanoTime() + this.lngFlushNs;
+
+        try {
+            while (this.bolActive) {
+                boolean bolPeriodic;
+
+                synchronized (this.objSignal) {
+                    long    nsWait = nsNextFlush - System.nanoTime();
+
+                    while (this.bolActive && !this.bolCutRequested && nsWait > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(this.objSignal, nsWait);
+                        nsWait = nsNextFlush - System.nanoTime();
+                    }
+
+                    this.bolCutRequested = false;
+                    bolPeriodic = nsWait <= 0;
+                }
+
+                if (!this.bolActive)
+                    break;
+
+                this.cutFrames(bolPeriodic);
+
+                if (bolPeriodic)
+                    nsNextFlush = System.nanoTime() + this.lngFlushNs;
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            if (BOL_LOGGING)
+                LOGGER.warn("Frame cutting thread interrupted.");
+        }
+    }
+
+    /**
+     * <p>
+     * Cuts frames from PV buffers and transmits them to the ingestion stream as a single batch.
+     * </p>
+     *
+     * @param bolAll    cut all non-empty buffers if <code>true</code>, only buffers at or above the frame size otherwise
+     *
+     * @return  the number of frames transmitted
+     *
+     * @throws InterruptedException interrupted while waiting for the ingestion stream
+     */
+    private int cutFrames(boolean bolAll) throws InterruptedException {
+        synchronized (this.objCutLock) {
+            return this.cutFramesLocked(bolAll);
+        }
+    }
+
+    /**
+     * <p>
+     * Cuts and transmits frames - caller must hold the frame cutting lock.
+     * </p>
+     *
+     * @param bolAll    cut all non-empty buffers if <code>true</code>, only buffers at or above the frame size otherwise
+     *
+     * @return  the number of frames transmitted
+     *
+     * @throws InterruptedException interrupted while waiting for the ingestion stream
+     */
+    private int cutFramesLocked(boolean bolAll) throws InterruptedException {
+        List<IngestionFrame>    lstFrames = new ArrayList<>();
+        List<PvEntry>           lstSources = new ArrayList<>();
+        long                    cntSamples = 0;
+
+        for (PvEntry entry : this.mapEntries.values()) {
+            int     cntBuffered = entry.bufSamples.size();
+
+            if (cntBuffered == 0 || (!bolAll && cntBuffered < this.cntFrameSize))
+                continue;
+
+            int     cntDrained = entry.bufSamples.drainTo(entry.bldrFrame);
+
+            lstFrames.add(entry.bldrFrame.build());
+            lstSources.add(entry);
+            entry.cntPending = cntDrained;
+            cntSamples += cntDrained;
+        }
+
+        if (lstFrames.isEmpty())
+            return 0;
+
+        try {
+            this.strmIngest.ingest(lstFrames);
+
+            for (PvEntry entry : lstSources)
+                entry.cntIngested.addAndGet(entry.cntPending);
+            this.cntFrames.addAndGet(lstFrames.size());
+
+            return lstFrames.size();
+
+        } catch (IllegalStateException | DpIngestionException e) {
+            for (PvEntry entry : lstSources)
+                entry.cntFailed.addAndGet(entry.cntPending);
+            this.cntFailures.incrementAndGet();
+
+            if (BOL_LOGGING)
+                LOGGER.error("{} - Failed to ingest {} frames ({} samples): {}", JavaRuntime.getQualifiedMethodNameSimple(), lstFrames.size(), cntSamples, e.getMessage());
+
+            return 0;
+        }
+    }
+
+    /**
+     * <p>
+     * Extracts the timestamp of a monitor update as nanoseconds from the Java epoch.
+     * </p>
+     * <p>
+     * pvAccess timestamps use the POSIX epoch, identical to the Java epoch.  If the update carries no
+     * timestamp the current time is used.
+     * </p>
+     *
+     * @param data  monitor update
+     *
+     * @return  update timestamp as epoch nanoseconds
+     */
+    private static long extractEpochNanos(PvaClientMonitorData data) {
+        try {
+            TimeStamp   tms = data.getTimeStamp();
+
+            return tms.getSecondsPastEpoch() * 1_000_000_000L + tms.getNanoseconds();
+
+        } catch (RuntimeException e) {
+            return System.currentTimeMillis() * 1_000_000L;
+        }
+    }
+
+
+    /**
+     * <p>
+     * Record containing the accumulated statistics of a single PV.
+     * </p>
+     *
+     * @param strPvName     PV name
+     * @param cntReceived   number of updates received
+     * @param cntDropped    number of samples overwritten in the ring buffer before transmission
+     * @param cntOverruns   number of monitor overrun events (updates discarded at the server)
+     * @param cntRejected   number of updates rejected (e.g., non-numeric values)
+     * @param cntIngested   number of samples transmitted to the ingestion stream
+     * @param cntFailed     number of samples within frames the ingestion stream refused
+     * @param cntBuffered   number of samples currently buffered
+     */
+    public static record PvStatistics(
+            String  strPvName,
+            long    cntReceived,
+            long    cntDropped,
+            long    cntOverruns,
+            long    cntRejected,
+            long    cntIngested,
+            long    cntFailed,
+            int     cntBuffered
+            )
+    {
+    }
+
+
+    /**
+     * <p>
+     * Internal state for a single monitored PV.
+     * </p>
+     */
+    private final class PvEntry implements PvaClientMonitorRequester {
+
+        /** PV name */
+        private final String                strPvName;
+
+        /** PV sample ring buffer */
+        private final EpicsPvRingBuffer     bufSamples;
+
+        /** PV frame builder - used by frame cutting only */
+        private final IngestionFrameBuilder bldrFrame;
+
+        /** Samples transmitted to the ingestion stream */
+        private final AtomicLong            cntIngested = new AtomicLong();
+
+        /** Samples within refused frames */
+        private final AtomicLong            cntFailed = new AtomicLong();
+
+        /** Samples in the frame currently being transmitted */
+        private int                         cntPending = 0;
+
+        /** The pvAccess channel, or null if not subscribed */
+        private PvaClientChannel            chanPva = null;
+
+        /** The pvAccess monitor, or null if not subscribed */
+        private PvaClientMonitor            monPva = null;
+
+
+        private PvEntry(String strPvName, EpicsPvRingBuffer bufSamples, IngestionFrameBuilder bldrFrame) {
+            this.strPvName = strPvName;
+            this.bufSamples = bufSamples;
+            this.bldrFrame = bldrFrame;
+        }
+
+        /**
+         * Connects the PV channel and starts its monitor.
+         */
+        private void subscribe(PvaClient pvaClient) {
+            this.chanPva = pvaClient.createChannel(this.strPvName, STR_PROVIDER);
+            this.chanPva.connect(DBL_CONNECT_TIMEOUT);
+
+            this.monPva = this.chanPva.createMonitor(STR_REQUEST);
+            this.monPva.setRequester(this);
+            this.monPva.connect();
+            this.monPva.start();
+        }
+
+        /**
+         * Stops the PV monitor and releases the channel, if subscribed.
+         */
+        private void unsubscribe() {
+            try {
+                if (this.monPva != null) {
+                    this.monPva.stop();
+                    this.monPva.destroy();
+                }
+                if (this.chanPva != null)
+                    this.chanPva.destroy();
+
+            } catch (RuntimeException e) {
+                if (BOL_LOGGING)
+                    LOGGER.warn("{} - Failed to release PV {}: {}", JavaRuntime.getQualifiedMethodNameSimple(), this.strPvName, e.getMessage());
+
+            } finally {
+                this.monPva = null;
+                this.chanPva = null;
+            }
+        }
+
+        /**
+         * @return  the current statistics for the PV
+         */
+        private PvStatistics statistics() {
+            return new PvStatistics(this.strPvName,
+                    this.bufSamples.getReceivedCount(),
+                    this.bufSamples.getDroppedCount(),
+                    this.bufSamples.getOverrunCount(),
+                    this.bufSamples.getRejectedCount(),
+                    this.cntIngested.get(),
+                    this.cntFailed.get(),
+                    this.bufSamples.size());
+        }
+
+        /**
+         * Monitor callback - moves all queued updates into the ring buffer.
+         *
+         * @see org.epics.pvaClient.PvaClientMonitorRequester#event(org.epics.pvaClient.PvaClientMonitor)
+         */
+        @Override
+        public void event(PvaClientMonitor monitor) {
+            while (monitor.poll()) {
+                try {
+                    PvaClientMonitorData    data = monitor.getData();
+
+                    if (!data.getOverrunBitSet().isEmpty())
+                        this.bufSamples.recordOverrun();
+
+                    double  dblVal = data.getDouble();
+
+                    EpicsIngestionBridge.this.offer(this, extractEpochNanos(data), dblVal);
+
+                } catch (RuntimeException e) {
+                    this.bufSamples.recordRejected();
+
+                } finally {
+                    monitor.releaseEvent();
+                }
+            }
+        }
+    }
+}
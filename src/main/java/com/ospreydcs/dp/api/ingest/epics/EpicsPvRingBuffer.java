@@ -0,0 +1,300 @@
+/*
+ * Project: dp-api-common
+ * File:	EpicsPvRingBuffer.java
+ * Package: com.ospreydcs.dp.api.ingest.epics
+ * Type: 	EpicsPvRingBuffer
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest.epics;
+
+import com.ospreydcs.dp.api.ingest.IngestionFrameBuilder;
+import com.ospreydcs.dp.api.util.JavaRuntime;
+
+/**
+ * <p>
+ * Fixed-capacity ring buffer of timestamped <code>double</code> samples for a single process variable.
+ * </p>
+ * <p>
+ * Timestamps (epoch nanoseconds) and values are held in parallel primitive arrays, thus no boxing occurs
+ * between a monitor update and the <code>IngestionFrameBuilder</code> consuming the samples.  Buffers are
+ * written by monitor callbacks and drained by the frame cutting thread of an
+ * <code>{@link EpicsIngestionBridge}</code>.
+ * </p>
+ * <p>
+ * <h2>Overflow</h2>
+ * When the buffer is full the <em>oldest</em> sample is overwritten by the new sample and counted as dropped.
+ * Thus, the buffer always holds the most recent samples and the drop count records exactly how many samples
+ * never reached the ingestion stream.
+ * </p>
+ * <p>
+ * <h2>Thread Safety</h2>
+ * All operations are synchronized on the buffer instance.  Critical sections are short (a few array stores)
+ * so contention between the monitor and frame cutting threads is negligible.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public final class EpicsPvRingBuffer {
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The process variable name */
+    private final String    strPvName;
+
+    /** The buffer capacity (samples) */
+    private final int       cntCapacity;
+
+
+    //
+    // Instance Resources
+    //
+
+    /** Sample timestamps (epoch nanoseconds) */
+    private final long[]    arrTms;
+
+    /** Sample values */
+    private final double[]  arrVals;
+
+
+    //
+    // State Variables
+    //
+
+    /** Index of the oldest sample */
+    private int     indHead = 0;
+
+    /** Number of samples currently buffered */
+    private int     cntSize = 0;
+
+    /** Total number of samples offered */
+    private long    cntReceived = 0;
+
+    /** Number of samples overwritten before being drained */
+    private long    cntDropped = 0;
+
+    /** Number of monitor overrun events (intermediate updates lost at the server) */
+    private long    cntOverruns = 0;
+
+    /** Number of updates rejected (e.g., non-numeric values) */
+    private long    cntRejected = 0;
+
+    /** Total number of samples drained */
+    private long    cntDrained = 0;
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new, empty ring buffer for the given process variable.
+     * </p>
+     *
+     * @param strPvName     process variable name
+     * @param cntCapacity   buffer capacity (samples)
+     *
+     * @return  new empty ring buffer
+     *
+     * @throws IllegalArgumentException    the capacity was not positive
+     */
+    public static EpicsPvRingBuffer create(String strPvName, int cntCapacity) throws IllegalArgumentException {
+        return new EpicsPvRingBuffer(strPvName, cntCapacity);
+    }
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>EpicsPvRingBuffer</code>.
+     * </p>
+     *
+     * @param strPvName     process variable name
+     * @param cntCapacity   buffer capacity (samples)
+     *
+     * @throws IllegalArgumentException    the capacity was not positive
+     */
+    public EpicsPvRingBuffer(String strPvName, int cntCapacity) throws IllegalArgumentException {
+
+        if (cntCapacity <= 0)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Capacity must be positive.");
+
+        this.strPvName = strPvName;
+        this.cntCapacity = cntCapacity;
+        this.arrTms = new long[cntCapacity];
+        this.arrVals = new double[cntCapacity];
+    }
+
+
+    //
+    // State Query
+    //
+
+    /**
+     * @return  the process variable name
+     */
+    public String   getPvName() {
+        return this.strPvName;
+    }
+
+    /**
+     * @return  the buffer capacity (samples)
+     */
+    public int  getCapacity() {
+        return this.cntCapacity;
+    }
+
+    /**
+     * @return  the number of samples currently buffered
+     */
+    public synchronized int    size() {
+        return this.cntSize;
+    }
+
+    /**
+     * @return  the total number of samples offered to the buffer
+     */
+    public synchronized long   getReceivedCount() {
+        return this.cntReceived;
+    }
+
+    /**
+     * @return  the number of samples overwritten (lost) before being drained
+     */
+    public synchronized long   getDroppedCount() {
+        return this.cntDropped;
+    }
+
+    /**
+     * @return  the number of monitor overrun events recorded
+     */
+    public synchronized long   getOverrunCount() {
+        return this.cntOverruns;
+    }
+
+    /**
+     * @return  the number of updates rejected
+     */
+    public synchronized long   getRejectedCount() {
+        return this.cntRejected;
+    }
+
+    /**
+     * @return  the total number of samples drained
+     */
+    public synchronized long   getDrainedCount() {
+        return this.cntDrained;
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Appends a sample, overwriting the oldest sample if the buffer is full.
+     * </p>
+     *
+     * @param lngEpochNanos sample timestamp as nanoseconds from the Java epoch
+     * @param dblVal        sample value
+     *
+     * @return  <code>true</code> if the sample was stored without loss,
+     *          <code>false</code> if the oldest sample was dropped to make room
+     */
+    public synchronized boolean offer(long lngEpochNanos, double dblVal) {
+        this.cntReceived++;
+
+        int     indTail = (this.indHead + this.cntSize) % this.cntCapacity;
+
+        this.arrTms[indTail] = lngEpochNanos;
+        this.arrVals[indTail] = dblVal;
+
+        if (this.cntSize < this.cntCapacity) {
+            this.cntSize++;
+
+            return true;
+        }
+
+        this.indHead = (this.indHead + 1) % this.cntCapacity;
+        this.cntDropped++;
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Records a monitor overrun event, that is, the server discarded intermediate updates.
+     * </p>
+     */
+    public synchronized void recordOverrun() {
+        this.cntOverruns++;
+    }
+
+    /**
+     * <p>
+     * Records a rejected update, for example, a value which could not be converted to <code>double</code>.
+     * </p>
+     */
+    public synchronized void recordRejected() {
+        this.cntReceived++;
+        this.cntRejected++;
+    }
+
+    /**
+     * <p>
+     * Moves all buffered samples, oldest first, into the given single-column frame builder.
+     * </p>
+     * <p>
+     * The buffer is empty upon return.
+     * </p>
+     *
+     * @param bldrFrame frame builder with a single data column
+     *
+     * @return  the number of samples drained
+     */
+    public synchronized int drainTo(IngestionFrameBuilder bldrFrame) {
+        int     cntDrain = this.cntSize;
+
+        for (int i=0; i<cntDrain; i++) {
+            int     ind = (this.indHead + i) % this.cntCapacity;
+
+            bldrFrame.appendTimestamp(this.arrTms[ind]);
+            bldrFrame.appendDouble(0, this.arrVals[ind]);
+        }
+
+        this.indHead = 0;
+        this.cntSize = 0;
+        this.cntDrained += cntDrain;
+
+        return cntDrain;
+    }
+}
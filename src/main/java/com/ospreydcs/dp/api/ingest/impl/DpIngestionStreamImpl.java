@@ -31,6 +31,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.MissingResourceException;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.Level;
@@ -55,6 +56,8 @@ import com.ospreydcs.dp.api.ingest.IngestionFrame;
 import com.ospreydcs.dp.api.ingest.model.frame.IngestionFrameProcessor;
 import com.ospreydcs.dp.api.ingest.model.grpc.IngestionChannel;
 import com.ospreydcs.dp.api.ingest.model.grpc.IngestionMemoryBuffer;
+import com.ospreydcs.dp.api.ingest.model.grpc.IngestionSpoolBuffer;
+import com.ospreydcs.dp.api.ingest.model.grpc.IngestionStreamStatistics;
 import com.ospreydcs.dp.api.ingest.model.grpc.ProviderRegistrationService;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.grpc.v1.ingestion.DpIngestionServiceGrpc;
@@ -63,6 +66,9 @@ import com.ospreydcs.dp.grpc.v1.ingestion.DpIngestionServiceGrpc.DpIngestionServ
 import com.ospreydcs.dp.grpc.v1.ingestion.DpIngestionServiceGrpc.DpIngestionServiceStub;
 import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest;
 
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+
 /**
  * <p>
  * <h1>Implementation of the <code>IIngestionStream</code> interface</h1>.
@@ -362,6 +368,9 @@ public class DpIngestionStreamImpl extends DpServiceApiBase<DpIngestionStreamImp
 
     /** Allow ingestion throttling from staging buffer to client */
     private static final Boolean    BOL_STAGING_BACKPRESSURE = CFG_DEFAULT.stream.buffer.backPressure;
+    
+    /** Use the durable disk spool for the staging buffer */
+    private static final Boolean    BOL_STAGING_SPOOL = CFG_DEFAULT.spool.enabled;
 
 //    /** Default staging capacity - maximum number of <code>IngestDataRequest</code> messages */
 //    private static final int        INT_STAGING_MAX_MSGS = CFG_DEFAULT.stream.buffer.size;
@@ -438,8 +447,8 @@ public class DpIngestionStreamImpl extends DpServiceApiBase<DpIngestionStreamImp
     private ProviderUID     recProviderUid = null;
 
 
-    /** Stream opened flag */
-    private boolean         bolStreamOpen = false;
+    /** Stream opened flag (also read by the channel state monitor) */
+    private volatile boolean    bolStreamOpen = false;
     
 //    /** Stream error flag */
 //    private boolean         bolStreamError = false;
@@ -482,14 +491,44 @@ public class DpIngestionStreamImpl extends DpServiceApiBase<DpIngestionStreamImp
      * @see DpIngestionConnectionFactory
      */
     DpIngestionStreamImpl(DpIngestionConnection connIngest) {
+        this(connIngest, BOL_STAGING_SPOOL ? IngestionSpoolBuffer.create() : IngestionMemoryBuffer.create());
+    }
+    
+    /**
+     * <p>
+     * Constructs a new instance of <code>DpIngestionStreamImpl</code> attached to the given
+     * Ingestion Service connection and using the given staging buffer.
+     * </p>
+     * <p>
+     * If the staging buffer is an <code>{@link IngestionSpoolBuffer}</code> it is attached to the
+     * Ingestion Service as follows:
+     * <ul>
+     * <li>Spooled messages are acknowledged as the Ingestion Service responds to them.</li>
+     * <li>The service is marked unavailable when a gRPC data stream fails, or the gRPC channel 
+     *     enters a failure state, and available again once the channel is ready.</li>
+     * <li>When the service becomes available again the in-flight messages are returned to the spool
+     *     and the failed gRPC data streams are restarted, so the spool is replayed in order.</li>
+     * </ul>
+     * </p>
+     * 
+     * @param connIngest    the gRPC channel connection to the desired DP Ingestion Service
+     * @param buffStaging   the (inactive) staging buffer for outgoing ingest data request messages
+     */
+    DpIngestionStreamImpl(DpIngestionConnection connIngest, IngestionMemoryBuffer buffStaging) {
         super(connIngest);
         
         this.prcrFrames = IngestionFrameProcessor.create();
-        this.buffStaging = IngestionMemoryBuffer.create();
+        this.buffStaging = buffStaging;
         this.chanIngest = IngestionChannel.from(this.buffStaging, super.grpcConn);
         
         // We handle ingestion throttling directly
         this.buffStaging.disableBackPressure();
+        
+        // Durable staging is released only upon service confirmation, and spools everything during outages
+        if (this.buffStaging instanceof IngestionSpoolBuffer buffSpool) {
+            this.chanIngest.setAcknowledgmentMonitor(buffSpool::acknowledge);
+            this.chanIngest.setStreamErrorMonitor(e -> this.updateServiceAvailability(buffSpool, false));
+        }
     }
 
     
@@ -898,6 +937,63 @@ public class DpIngestionStreamImpl extends DpServiceApiBase<DpIngestionStreamImp
         this.chanIngest.disableMultipleStreams();
     }
     
+    /**
+     * <p>
+     * Enables the long-running stream mode with the given retention limits.
+     * </p>
+     * <p>
+     * <h2>Long-Running Streams</h2>
+     * By default all Ingestion Service responses and all transmitted client request UIDs are retained while
+     * the stream is open, from which the <code>IngestionResult</code> is computed at 
+     * <code>{@link #closeStream()}</code>.  Data providers streaming for days should enable this mode, 
+     * which retains only the most recent request UIDs and responses and the first rejected request UIDs,
+     * aggregating all else into counters and histograms (see <code>{@link #getStreamStatistics()}</code>).
+     * Method <code>{@link #getRequestIds()}</code> then returns only the recent request UIDs.
+     * </p>
+     * <p>
+     * <h2>WARNING:</h2>
+     * This configuration parameter can only be modified <em>before</em> the stream is opened, otherwise an
+     * exception is throw.
+     * </p>
+     * 
+     * @param cntRecent     number of most recent request UIDs and responses retained (&ge;0)
+     * @param cntMaxRejects maximum number of rejected request UIDs and exceptions retained (&ge;0)
+     * 
+     * @throws IllegalStateException    method called while stream is open
+     * @throws IllegalArgumentException a retention limit was negative
+     */
+    public void setRollingStatistics(int cntRecent, int cntMaxRejects) throws IllegalStateException, IllegalArgumentException {
+
+        // Check current state
+        if (this.bolStreamOpen)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - Cannot change stream mode once stream opened.");
+        
+        this.chanIngest.setRollingStatistics(cntRecent, cntMaxRejects);
+    }
+    
+    /**
+     * <p>
+     * Disables the long-running stream mode, all responses and request UIDs are retained while the stream is open.
+     * </p>
+     * <p>
+     * <h2>WARNING:</h2>
+     * This configuration parameter can only be modified <em>before</em> the stream is opened, otherwise an
+     * exception is throw.
+     * </p>
+     * 
+     * @throws IllegalStateException    method called while stream is open
+     * 
+     * @see #setRollingStatistics(int, int)
+     */
+    public void disableRollingStatistics() throws IllegalStateException {
+
+        // Check current state
+        if (this.bolStreamOpen)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - Cannot change stream mode once stream opened.");
+        
+        this.chanIngest.disableRollingStatistics();
+    }
+    
 
     //
     // State Inquiry
@@ -1025,6 +1121,27 @@ public class DpIngestionStreamImpl extends DpServiceApiBase<DpIngestionStreamImp
         return this.chanIngest.getRequestCount();
     }
     
+    /**
+     * <p>
+     * Returns the incrementally maintained statistics of the current (or last opened) stream.
+     * </p>
+     * <p>
+     * The returned statistics include transmitted message and byte counts, accepted and rejected request
+     * counts, and histograms of request size and acknowledgment latency.  They are available in all stream
+     * modes and are reset when the stream is opened.
+     * </p>
+     * 
+     * @return  the ingestion statistics of the current stream
+     * 
+     * @throws IllegalStateException    the stream was never opened
+     * 
+     * @see #setRollingStatistics(int, int)
+     */
+    public IngestionStreamStatistics getStreamStatistics() throws IllegalStateException {
+        
+        return this.chanIngest.getStreamStatistics();
+    }
+    
 //    /**
 //     * <p>
 //     * Return a list of all the responses to the ingest data request messages.
@@ -1192,6 +1309,10 @@ public class DpIngestionStreamImpl extends DpServiceApiBase<DpIngestionStreamImp
         // Set the open stream flag - Stream is ready
         this.bolStreamOpen = true;
         
+        // Track the Ingestion Service availability for durable staging
+        if (this.buffStaging instanceof IngestionSpoolBuffer buffSpool)
+            this.monitorChannelState(buffSpool);
+        
         return this.recProviderUid;
     }
 
@@ -1307,7 +1428,7 @@ public class DpIngestionStreamImpl extends DpServiceApiBase<DpIngestionStreamImp
         }
         
         // Shutdown staging buffer - prevents any new transfers of messages
-        this.buffStaging.shutdown();    // allows channel to consume messages until exhausted
+        this.buffStaging.shutdown();    // allows channel to consume messages until exhausted (spool left on disk during outages)
         
         // Shutdown the ingestion channel
         this.chanIngest.shutdown();     // blocks until complete
@@ -1482,6 +1603,79 @@ public class DpIngestionStreamImpl extends DpServiceApiBase<DpIngestionStreamImp
     // Support Methods
     //
     
+    /**
+     * <p>
+     * Updates the Ingestion Service availability of the given spool buffer from the current connectivity state
+     * of the gRPC channel, then monitors the next state change.
+     * </p>
+     * <p>
+     * A <code>READY</code> channel marks the service available, a <code>TRANSIENT_FAILURE</code> or 
+     * <code>SHUTDOWN</code> channel marks it unavailable; other states leave the availability unchanged.
+     * While the service is unavailable an <code>IDLE</code> channel is asked to reconnect, since no gRPC
+     * data stream remains to do so.
+     * The method re-registers itself with <code>{@link ManagedChannel#notifyWhenStateChanged(ConnectivityState, Runnable)}</code>
+     * until the stream is closed or the channel is shut down.
+     * </p>
+     * 
+     * @param buffSpool the spool staging buffer
+     */
+    private void monitorChannelState(IngestionSpoolBuffer buffSpool) {
+        
+        ManagedChannel      chanGrpc = super.grpcConn.getChannel();
+        ConnectivityState   enmState = chanGrpc.getState(!buffSpool.isServiceAvailable());
+        
+        switch (enmState) {
+        case READY -> this.updateServiceAvailability(buffSpool, true);
+        case TRANSIENT_FAILURE, SHUTDOWN -> this.updateServiceAvailability(buffSpool, false);
+        default -> {}
+        }
+        
+        if (this.bolStreamOpen && enmState != ConnectivityState.SHUTDOWN)
+            chanGrpc.notifyWhenStateChanged(enmState, () -> this.monitorChannelState(buffSpool));
+    }
+    
+    /**
+     * <p>
+     * Sets the Ingestion Service availability of the given spool buffer if changed.
+     * </p>
+     * <p>
+     * When the service becomes unavailable the gRPC channel is asked to reconnect, so that its return to
+     * <code>READY</code> is observed by <code>{@link #monitorChannelState(IngestionSpoolBuffer)}</code>.
+     * When the service becomes available again all in-flight messages are returned to the head of the spool
+     * and the failed gRPC data streams are restarted, thus the spool is replayed in order within the session.
+     * </p>
+     * 
+     * @param buffSpool         the spool staging buffer
+     * @param bolServiceAvail   the current availability of the Ingestion Service
+     */
+    private void updateServiceAvailability(IngestionSpoolBuffer buffSpool, boolean bolServiceAvail) {
+        
+        if (buffSpool.isServiceAvailable() == bolServiceAvail)
+            return;
+        
+        if (BOL_LOGGING)
+            LOGGER.warn("{} - Ingestion Service marked {}.", JavaRuntime.getQualifiedMethodNameSimple(), bolServiceAvail ? "available" : "unavailable");
+        
+        buffSpool.setServiceAvailable(bolServiceAvail);
+        
+        // Outage - make sure the channel attempts to reconnect
+        if (!bolServiceAvail) {
+            super.grpcConn.getChannel().getState(true);
+            
+            return;
+        }
+        
+        // Recovery - replay the in-flight messages of the failed streams, then restart them
+        try {
+            buffSpool.requeueInFlight();
+            this.chanIngest.restartFailedStreams();
+            
+        } catch (IllegalStateException | RejectedExecutionException e) {
+            if (BOL_LOGGING)
+                LOGGER.error("{} - Unable to resume streaming after outage: {}.", JavaRuntime.getQualifiedMethodNameSimple(), e.getMessage());
+        }
+    }
+    
     /**
      * <p>
      * Creates a new frame-processor-to-staging-buffer ingest request message transfer task.
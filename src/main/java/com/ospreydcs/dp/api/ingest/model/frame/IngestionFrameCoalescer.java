@@ -0,0 +1,564 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionFrameCoalescer.java
+ * Package: com.ospreydcs.dp.api.ingest.model.frame
+ * Type: 	IngestionFrameCoalescer
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest.model.frame;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.common.UniformSamplingClock;
+import com.ospreydcs.dp.api.ingest.IngestionFrame;
+import com.ospreydcs.dp.api.model.table.DoubleArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.PrimitiveArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.StaticDataColumn;
+
+/**
+ * <p>
+ * Processor class used for coalescing (i.e., "micro-batching") small <code>IngestionFrame</code> instances
+ * into larger frames approaching a target allocation size.
+ * </p>
+ * <p>
+ * Many data providers publish small ingestion frames, for example, a single PV sampled at 10 Hz.  Each such
+ * frame would otherwise become its own <code>IngestDataRequest</code> message where per-message overhead
+ * dominates.  Instances of this class hold small frames for a limited "linger" time while they wait
+ * for coalescing partners, in the manner of the Kafka producer <code>linger.ms</code> and
+ * <code>batch.size</code> parameters.
+ * </p>
+ * <p>
+ * <h2>Coalescing Operations</h2>
+ * Two ingestion frames are coalesced whenever they have identical optional properties (e.g., data provider UID,
+ * frame label, attributes, snapshot parameters) and either of the following conditions hold:
+ * <ul>
+ * <li><b>Horizontal</b> - The frames share an identical <code>UniformSamplingClock</code> or an identical
+ *     timestamp list, and have disjoint data column names.  The result is a single multi-column frame.</li>
+ * <li><b>Vertical</b> - The frames both have sampling clocks with equal periods, the clock of the second
+ *     frame starts where the clock of the first frame ends, and the frames have the same data column
+ *     names and types.  The result is a single frame with the concatenated clock and data columns.</li>
+ * </ul>
+ * A coalesced frame is released as soon as its allocation reaches the target size, or when its linger time
+ * expires (see <code>{@link #removeExpired(long)}</code>).  A frame is never coalesced if the result would
+ * exceed the target size.
+ * </p>
+ * <p>
+ * <h2>Pass Through</h2>
+ * The following ingestion frames are never held and are returned immediately from
+ * <code>{@link #add(IngestionFrame)}</code>:
+ * <ul>
+ * <li>Frames without timestamps or data.</li>
+ * <li>Frames with allocation size already at or above the target size.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <h2>Client Request UIDs</h2>
+ * A coalesced frame retains the client request UID of the first frame it contains.  The request UIDs
+ * of all subsequently absorbed frames do not appear in any <code>IngestDataRequest</code> message.  Clients
+ * tracking ingestion results by individual frame request UIDs should not enable coalescing.
+ * </p>
+ * <p>
+ * <h2>Thread Safety</h2>
+ * All operations are synchronized for thread safety.  The coalescer takes ownership of all frames
+ * offered to it, which may be modified (i.e., data columns added) during horizontal coalescing.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class IngestionFrameCoalescer {
+
+
+    //
+    // Class Types
+    //
+
+    /**
+     * <p>
+     * An ingestion frame being accumulated by coalescing along with its linger start time.
+     * </p>
+     */
+    private static class PendingFrame {
+
+        /** The system time (in nanoseconds) when the first frame was received */
+        private final long          nsCreated;
+
+        /** The accumulated ingestion frame */
+        private IngestionFrame      frmAccum;
+
+        /** The current allocation size of the accumulated frame */
+        private long                szAlloc;
+
+        /**
+         * Constructs a new pending frame initialized to the given frame.
+         *
+         * @param frame     initial ingestion frame
+         * @param szAlloc   allocation size of the given frame
+         * @param nsCreated system time of creation (in nanoseconds)
+         */
+        private PendingFrame(IngestionFrame frame, long szAlloc, long nsCreated) {
+            this.frmAccum = frame;
+            this.szAlloc = szAlloc;
+            this.nsCreated = nsCreated;
+        }
+    }
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The target size (in bytes) for coalesced ingestion frames */
+    private final long      szTarget;
+
+
+    //
+    // Instance Resources
+    //
+
+    /** The ingestion frames currently lingering for coalescing - in order of arrival */
+    private final List<PendingFrame>    lstPending = new LinkedList<>();
+
+
+    //
+    // State Variables
+    //
+
+    /** Number of ingestion frames offered to the coalescer */
+    private long    cntFramesIn = 0;
+
+    /** Number of ingestion frames released by the coalescer */
+    private long    cntFramesOut = 0;
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new instance of <code>IngestionFrameCoalescer</code> configured to the given target size.
+     * </p>
+     *
+     * @param szTarget  target allocation size of coalesced ingestion frames (in bytes)
+     *
+     * @return  new <code>IngestionFrameCoalescer</code> producing frames no larger than the argument
+     *
+     * @throws IllegalArgumentException the argument was less than or equal to zero
+     */
+    public static IngestionFrameCoalescer from(long szTarget) throws IllegalArgumentException {
+        return new IngestionFrameCoalescer(szTarget);
+    }
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>IngestionFrameCoalescer</code> according to the given target size.
+     * </p>
+     *
+     * @param szTarget  target allocation size of coalesced ingestion frames (in bytes)
+     *
+     * @throws IllegalArgumentException the argument was less than or equal to zero
+     */
+    public IngestionFrameCoalescer(long szTarget) throws IllegalArgumentException {
+
+        // Check argument
+        if (szTarget <= 0)
+            throw new IllegalArgumentException("Target size must be greater than 0.");
+
+        this.szTarget = szTarget;
+    }
+
+
+    //
+    // Attribute/State Query
+    //
+
+    /**
+     * @return  the target allocation size of coalesced ingestion frames (in bytes)
+     */
+    public long getTargetSize() {
+        return this.szTarget;
+    }
+
+    /**
+     * @return  <code>true</code> if there are ingestion frames currently lingering within the coalescer
+     */
+    synchronized
+    public boolean  hasPendingFrames() {
+        return !this.lstPending.isEmpty();
+    }
+
+    /**
+     * @return  the number of (coalesced) ingestion frames currently lingering within the coalescer
+     */
+    synchronized
+    public int  getPendingFrameCount() {
+        return this.lstPending.size();
+    }
+
+    /**
+     * @return  the total number of ingestion frames offered to the coalescer
+     */
+    synchronized
+    public long getInputFrameCount() {
+        return this.cntFramesIn;
+    }
+
+    /**
+     * @return  the total number of ingestion frames released from the coalescer
+     */
+    synchronized
+    public long getOutputFrameCount() {
+        return this.cntFramesOut;
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Offers the given ingestion frame for coalescing and returns any frames ready for release.
+     * </p>
+     * <p>
+     * The given frame is coalesced with a lingering frame if possible (see class documentation).
+     * If coalescing with a lingering frame would exceed the target size then the lingering frame is
+     * released and the given frame begins a new lingering frame.  Any lingering frame reaching the target
+     * size is released.  Frames that are not candidates for coalescing are returned immediately.
+     * </p>
+     *
+     * @param frame ingestion frame to be coalesced (the coalescer takes ownership)
+     *
+     * @return  ordered list of ingestion frames ready for release (typically empty)
+     */
+    synchronized
+    public List<IngestionFrame> add(IngestionFrame frame) {
+
+        this.cntFramesIn++;
+
+        // Check for pass through frames
+        long    szFrame = frame.allocationSizeFrame();
+
+        if (!this.isCandidate(frame) || szFrame >= this.szTarget)
+            return this.release(List.of(frame));
+
+        // Look for a coalescing partner
+        List<IngestionFrame>    lstReady = new LinkedList<>();
+        Iterator<PendingFrame>  iter = this.lstPending.iterator();
+
+        while (iter.hasNext()) {
+            PendingFrame    pending = iter.next();
+
+            boolean bolHorz = this.isHorizontalPartner(pending.frmAccum, frame);
+            boolean bolVert = !bolHorz && this.isVerticalPartner(pending.frmAccum, frame);
+
+            if (!bolHorz && !bolVert)
+                continue;
+
+            // Coalesced frame would be too large - release the lingering frame, the new frame lingers
+            if (pending.szAlloc + szFrame > this.szTarget) {
+                iter.remove();
+                lstReady.add(pending.frmAccum);
+
+                break;
+            }
+
+            // Coalesce the frames
+            if (bolHorz)
+                pending.frmAccum.addColumns(frame.getDataColumns());
+            else
+                pending.frmAccum = this.concatenate(pending.frmAccum, frame);
+            pending.szAlloc += szFrame;
+
+            // Release the coalesced frame if it has reached the target size
+            if (pending.szAlloc >= this.szTarget) {
+                iter.remove();
+                lstReady.add(pending.frmAccum);
+            }
+
+            return this.release(lstReady);
+        }
+
+        // No partner found - the frame lingers
+        this.lstPending.add(new PendingFrame(frame, szFrame, System.nanoTime()));
+
+        return this.release(lstReady);
+    }
+
+    /**
+     * <p>
+     * Removes and returns all lingering frames whose linger time has expired.
+     * </p>
+     *
+     * @param nsLinger  the maximum linger time (in nanoseconds)
+     *
+     * @return  ordered list of ingestion frames that have lingered at least the given time (possibly empty)
+     */
+    synchronized
+    public List<IngestionFrame> removeExpired(long nsLinger) {
+
+        long                    nsNow = System.nanoTime();
+        List<IngestionFrame>    lstReady = new LinkedList<>();
+        Iterator<PendingFrame>  iter = this.lstPending.iterator();
+
+        while (iter.hasNext()) {
+            PendingFrame    pending = iter.next();
+
+            if (nsNow - pending.nsCreated >= nsLinger) {
+                iter.remove();
+                lstReady.add(pending.frmAccum);
+            }
+        }
+
+        return this.release(lstReady);
+    }
+
+    /**
+     * <p>
+     * Removes and returns all lingering frames regardless of linger time.
+     * </p>
+     *
+     * @return  ordered list of all ingestion frames within the coalescer (possibly empty)
+     */
+    synchronized
+    public List<IngestionFrame> removeAll() {
+
+        List<IngestionFrame>    lstReady = this.lstPending.stream().map(pending -> pending.frmAccum).toList();
+        this.lstPending.clear();
+
+        return this.release(lstReady);
+    }
+
+    /**
+     * <p>
+     * Discards all lingering frames.
+     * </p>
+     */
+    synchronized
+    public void clear() {
+        this.lstPending.clear();
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Records the release of the given ingestion frames and returns the argument.
+     * </p>
+     *
+     * @param lstFrames ingestion frames being released
+     *
+     * @return  the argument
+     */
+    private List<IngestionFrame> release(List<IngestionFrame> lstFrames) {
+        this.cntFramesOut += lstFrames.size();
+
+        return lstFrames;
+    }
+
+    /**
+     * <p>
+     * Determines whether or not the given ingestion frame is a candidate for coalescing.
+     * </p>
+     *
+     * @param frame ingestion frame under inspection
+     *
+     * @return  <code>true</code> if the frame has timestamps and data
+     */
+    private boolean isCandidate(IngestionFrame frame) {
+
+        if (!frame.hasSamplingClock() && !frame.hasTimestampList())
+            return false;
+
+        return frame.getColumnCount() > 0;
+    }
+
+    /**
+     * <p>
+     * Determines whether or not the given ingestion frames have identical optional properties.
+     * </p>
+     * <p>
+     * The frame timestamp and client request UID are not compared, the coalesced frame assumes those 
+     * of the first frame.
+     * </p>
+     *
+     * @param frm1  lingering ingestion frame
+     * @param frm2  offered ingestion frame
+     *
+     * @return  <code>true</code> if the frames have identical optional properties, <code>false</code> otherwise
+     */
+    private boolean hasEqualProperties(IngestionFrame frm1, IngestionFrame frm2) {
+        return Objects.equals(frm1.getProviderUid(), frm2.getProviderUid())
+                && Objects.equals(frm1.getFrameLabel(), frm2.getFrameLabel())
+                && Objects.equals(frm1.getAttributes(), frm2.getAttributes())
+                && Objects.equals(frm1.getSnapshotId(), frm2.getSnapshotId())
+                && Objects.equals(frm1.getSnapshotDomain(), frm2.getSnapshotDomain());
+    }
+
+    /**
+     * <p>
+     * Determines whether or not the given frames can be coalesced horizontally (i.e., by column).
+     * </p>
+     *
+     * @param frmAccum  lingering ingestion frame
+     * @param frame     offered ingestion frame
+     *
+     * @return  <code>true</code> if frames have identical timestamps and disjoint column names
+     */
+    private boolean isHorizontalPartner(IngestionFrame frmAccum, IngestionFrame frame) {
+
+        if (!this.hasEqualProperties(frmAccum, frame))
+            return false;
+
+        // Check for identical timestamps
+        boolean bolEqualTms = frmAccum.hasSamplingClock()
+                ? frmAccum.getSamplingClock().equals(frame.getSamplingClock())
+                : frmAccum.getTimestampList().equals(frame.getTimestampList());
+
+        if (!bolEqualTms)
+            return false;
+
+        // Check for disjoint column names
+        return Collections.disjoint(frmAccum.getColumnNames(), frame.getColumnNames());
+    }
+
+    /**
+     * <p>
+     * Determines whether or not the given frames can be coalesced vertically (i.e., by row).
+     * </p>
+     *
+     * @param frmAccum  lingering ingestion frame
+     * @param frame     offered ingestion frame
+     *
+     * @return  <code>true</code> if the frames have contiguous sampling clocks and the same data columns
+     */
+    private boolean isVerticalPartner(IngestionFrame frmAccum, IngestionFrame frame) {
+
+        if (!frmAccum.hasSamplingClock() || !frame.hasSamplingClock())
+            return false;
+
+        if (!this.hasEqualProperties(frmAccum, frame))
+            return false;
+
+        // Check for contiguous sampling clocks
+        UniformSamplingClock    clkAccum = frmAccum.getSamplingClock();
+        UniformSamplingClock    clkFrame = frame.getSamplingClock();
+
+        if (!clkAccum.getSamplePeriodDuration().equals(clkFrame.getSamplePeriodDuration()))
+            return false;
+
+        Instant insNext = clkAccum.getStartInstant().plus(clkAccum.getSamplePeriodDuration().multipliedBy(clkAccum.getSampleCount()));
+
+        if (!insNext.equals(clkFrame.getStartInstant()))
+            return false;
+
+        // Check for the same data columns
+        Set<String> setColNms = frmAccum.getColumnNames();
+
+        if (!setColNms.equals(frame.getColumnNames()))
+            return false;
+
+        return setColNms.stream().allMatch(strName -> frmAccum.getDataColumn(strName).getType() == frame.getDataColumn(strName).getType());
+    }
+
+    /**
+     * <p>
+     * Creates a new ingestion frame by concatenating the sampling clocks and data columns of the given frames.
+     * </p>
+     * <p>
+     * Arguments are assumed to be vertical partners (see <code>{@link #isVerticalPartner(IngestionFrame, IngestionFrame)}</code>).
+     * The returned frame assumes the optional properties of the first argument.
+     * </p>
+     *
+     * @param frmHead   leading ingestion frame
+     * @param frmTail   trailing ingestion frame
+     *
+     * @return  new ingestion frame containing the rows of both arguments
+     */
+    private IngestionFrame concatenate(IngestionFrame frmHead, IngestionFrame frmTail) {
+
+        // Create the concatenated sampling clock
+        UniformSamplingClock    clkHead = frmHead.getSamplingClock();
+        UniformSamplingClock    clkTail = frmTail.getSamplingClock();
+        UniformSamplingClock    clkCat = UniformSamplingClock.from(
+                clkHead.getStartInstant(),
+                clkHead.getSampleCount() + clkTail.getSampleCount(),
+                clkHead.getSamplePeriodDuration());
+
+        // Create the concatenated data columns - in the column order of the head frame
+        ArrayList<IDataColumn<Object>>  vecColsCat = new ArrayList<>(frmHead.getColumnCount());
+
+        for (IDataColumn<Object> colHead : frmHead.getDataColumns()) {
+            IDataColumn<Object> colTail = frmTail.getDataColumn(colHead.getName());
+
+            // Primitive columns are concatenated without boxing, source arrays are recycled
+            if (colHead instanceof DoubleArrayDataColumn colDblsHead && colTail instanceof DoubleArrayDataColumn colDblsTail) {
+                int         cntHead = colDblsHead.getSize();
+                int         cntTail = colDblsTail.getSize();
+                double[]    arrVals = new double[cntHead + cntTail];
+
+                System.arraycopy(colDblsHead.getDoubleArray(), 0, arrVals, 0, cntHead);
+                System.arraycopy(colDblsTail.getDoubleArray(), 0, arrVals, cntHead, cntTail);
+                vecColsCat.add(DoubleArrayDataColumn.from(colHead.getName(), arrVals, arrVals.length));
+
+                colDblsHead.clear();
+                colDblsTail.clear();
+                continue;
+            }
+
+            if (colHead instanceof PrimitiveArrayDataColumn colPrmsHead && colTail instanceof PrimitiveArrayDataColumn colPrmsTail) {
+                vecColsCat.add(PrimitiveArrayDataColumn.concatenate(colPrmsHead, colPrmsTail));
+                continue;
+            }
+
+            ArrayList<Object>   vecVals = new ArrayList<>(colHead.getSize() + colTail.getSize());
+            vecVals.addAll(colHead.getValues());
+            vecVals.addAll(colTail.getValues());
+
+            vecColsCat.add(StaticDataColumn.from(colHead.getName(), colHead.getType(), vecVals));
+        }
+
+        IngestionFrame  frmCat = IngestionFrame.from(clkCat, vecColsCat);
+        frmCat.copyOptionalProperties(frmHead);
+
+        return frmCat;
+    }
+}
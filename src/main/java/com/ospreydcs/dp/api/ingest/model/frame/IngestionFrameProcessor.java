@@ -27,6 +27,7 @@
  */
 package com.ospreydcs.dp.api.ingest.model.frame;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
@@ -38,6 +39,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -46,11 +48,14 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.config.Configurator;
 
+import com.ospreydcs.dp.api.common.IDataColumn;
 import com.ospreydcs.dp.api.common.ProviderUID;
 import com.ospreydcs.dp.api.config.DpApiConfig;
 import com.ospreydcs.dp.api.config.ingest.DpIngestionConfig;
 import com.ospreydcs.dp.api.ingest.IngestionFrame;
+import com.ospreydcs.dp.api.ingest.IngestionFrameBuilder;
 import com.ospreydcs.dp.api.model.IMessageSupplier;
+import com.ospreydcs.dp.api.model.table.DoubleArrayDataColumn;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest;
 
@@ -355,6 +360,32 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
     private static final Integer    LNG_DECOMP_MAX_ALLOC = CFG_DEFAULT.decompose.maxSize;
     
     
+    /** Perform ingestion frame coalescing (i.e., "micro-batching") */
+    private static final Boolean    BOL_COALESCE_ACTIVE = CFG_DEFAULT.coalesce.enabled;
+    
+    /** Maximum linger time of ingestion frames awaiting coalescing */
+    private static final Long       LNG_COALESCE_LINGER = CFG_DEFAULT.coalesce.linger;
+    
+    /** Linger time units for ingestion frame coalescing */
+    private static final TimeUnit   TU_COALESCE_LINGER = CFG_DEFAULT.coalesce.unit;
+    
+    /** Target size (in bytes) of coalesced ingestion frames */
+    private static final Integer    LNG_COALESCE_TARGET_ALLOC = CFG_DEFAULT.coalesce.targetSize;
+    
+    
+    /** Perform timestamp list compression into sampling clocks */
+    private static final Boolean    BOL_COMPRESS_ACTIVE = CFG_DEFAULT.compress.enabled;
+    
+    /** Timestamp uniformity tolerance for timestamp list compression */
+    private static final Long       LNG_COMPRESS_TOLERANCE = CFG_DEFAULT.compress.tolerance;
+    
+    /** Timestamp uniformity tolerance units */
+    private static final TimeUnit   TU_COMPRESS_TOLERANCE = CFG_DEFAULT.compress.unit;
+    
+    /** Minimum number of uniform timestamps represented by a sampling clock */
+    private static final Integer    INT_COMPRESS_MIN_SAMPLES = CFG_DEFAULT.compress.minSamples;
+    
+    
 //    /** Size of the ingestion frame queue buffer */
 //    private static final Integer    INT_BUFFER_SIZE = CFG_DEFAULT.stream.buffer.size;
 //    
@@ -405,6 +436,26 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
     private long    szMaxFrmAlloc = LNG_DECOMP_MAX_ALLOC;
     
     
+    /** Ingestion frame coalescing (micro-batching) enabled flag */
+    private boolean bolCoalesce = BOL_COALESCE_ACTIVE;
+    
+    /** Ingestion frame coalescing maximum linger time (in nanoseconds) */
+    private long    nsCoalesceLinger = TU_COALESCE_LINGER.toNanos(LNG_COALESCE_LINGER);
+    
+    /** Ingestion frame coalescing target size */
+    private long    szCoalesceTarget = LNG_COALESCE_TARGET_ALLOC;
+    
+    
+    /** Timestamp list compression enabled flag */
+    private boolean bolCompress = BOL_COMPRESS_ACTIVE;
+    
+    /** Timestamp list compression uniformity tolerance */
+    private Duration    durCompressTol = Duration.ofNanos(TU_COMPRESS_TOLERANCE.toNanos(LNG_COMPRESS_TOLERANCE));
+    
+    /** Timestamp list compression minimum clocked segment length */
+    private int     cntCompressMinSamples = INT_COMPRESS_MIN_SAMPLES;
+    
+    
     //
     // State Variables
     //
@@ -455,6 +506,20 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
     
     /** Frame-to-message sub-processor for main thread */
     private IngestionFrameConverter   prcMsgConverter;
+    
+    
+    //
+    // Frame Compression and Coalescing Resources
+    //
+    
+    /** Timestamp list compression sub-processor - <code>null</code> if compression is disabled */
+    private IngestionFrameTimestampCompressor   prcrCompressor;
+    
+    /** Frame coalescing (micro-batching) sub-processor - <code>null</code> if coalescing is disabled */
+    private IngestionFrameCoalescer       prcrCoalescer;
+    
+    /** The linger timer releasing expired coalesced frames */
+    private ScheduledExecutorService      xtorCoalesceTimer;
 
     
     //
@@ -680,6 +745,145 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
         this.bolDecompAuto = false;
     }
     
+    /**
+     * <p>
+     * Enables ingestion frame coalescing (i.e., "micro-batching") and sets the coalescing parameters.
+     * </p>
+     * <p>
+     * When frame coalescing is enabled, small ingestion frames submitted to this processor are held for
+     * at most the given linger time while they wait for coalescing partners.  Frames sharing a sampling clock
+     * or timestamp list are merged into a single multi-column frame, and frames with contiguous sampling 
+     * clocks and the same data columns are concatenated.  The resulting frames approach the given target size 
+     * so that per-message overhead of the <code>IngestDataRequest</code> messages is amortized.  See
+     * <code>{@link IngestionFrameCoalescer}</code> for details.
+     * </p>
+     * <p>
+     * <h2>Thread Safety</h2>
+     * This method is synchronized for thread safety.  Changing configuration parameters must
+     * be done atomically.  Thus, this configuration parameter 
+     * will not be changed until this method acquires the <code>this</code> lock from any other
+     * competing threads.
+     * </p>
+     * <p>
+     * <h2>WARNINGS:</h2>
+     * <ul>
+     * <li>
+     * This configuration parameter can only be modified <em>before</em> the processor is 
+     * activated with <code>{@link #activate()}</code> , otherwise an exception is throw.
+     * </li>
+     * <li>
+     * If frame decomposition is enabled the target size is limited to the maximum decomposition frame size.
+     * </li>
+     * <li>
+     * A coalesced frame retains only the client request UID of its first frame.
+     * </li>
+     * </ul>
+     * </p>
+     * 
+     * @param lngLinger maximum time an ingestion frame may linger waiting for coalescing partners
+     * @param tuLinger  time units of the linger time
+     * @param szTarget  target size (in bytes) of coalesced ingestion frames
+     * 
+     * @throws IllegalStateException    method called while processor is enabled
+     */
+    synchronized
+    public void setFrameCoalescing(long lngLinger, TimeUnit tuLinger, long szTarget) throws IllegalStateException {
+
+        if (this.bolActive)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - Cannot change coalescing once activated.");
+        
+        this.bolCoalesce = true;
+        this.nsCoalesceLinger = tuLinger.toNanos(lngLinger);
+        this.szCoalesceTarget = szTarget;
+    }
+    
+    /**
+     * <p>
+     * Disables ingestion frame coalescing (i.e., "micro-batching").
+     * </p>
+     * <p>
+     * When disabled, each submitted ingestion frame (or its decomposition) produces its own
+     * <code>IngestDataRequest</code> message(s).
+     * </p>
+     * <p>
+     * <h2>WARNING:</h2>
+     * This configuration parameter can only be modified <em>before</em> the processor is 
+     * activated with <code>{@link #activate()}</code> , otherwise an exception is throw.
+     * </p>
+     * 
+     * @throws IllegalStateException    method called while processor is enabled
+     */
+    synchronized
+    public void disableFrameCoalescing() throws IllegalStateException {
+
+        if (this.bolActive)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - Cannot change coalescing once activated.");
+        
+        this.bolCoalesce = false;
+    }
+    
+    /**
+     * <p>
+     * Enables compression of ingestion frame timestamp lists into sampling clocks and sets the compression
+     * parameters.
+     * </p>
+     * <p>
+     * When enabled, each submitted ingestion frame carrying an explicit timestamp list is inspected before
+     * any other processing.  If the timestamps are uniform, or piecewise uniform, within the given tolerance
+     * the frame is rewritten as one or more frames using a <code>UniformSamplingClock</code>, splitting the
+     * original frame at timestamp discontinuities.  This saves a full timestamp per row both on the wire
+     * and within the archive.  See <code>{@link IngestionFrameTimestampCompressor}</code> for details.
+     * </p>
+     * <p>
+     * <h2>Thread Safety</h2>
+     * This method is synchronized for thread safety.  Changing configuration parameters must
+     * be done atomically.  Thus, this configuration parameter 
+     * will not be changed until this method acquires the <code>this</code> lock from any other
+     * competing threads.
+     * </p>
+     * <p>
+     * <h2>WARNING:</h2>
+     * This configuration parameter can only be modified <em>before</em> the processor is 
+     * activated with <code>{@link #activate()}</code> , otherwise an exception is throw.
+     * </p>
+     * 
+     * @param durTolerance  timestamp uniformity tolerance (zero for lossless compression)
+     * @param cntMinSamples minimum number of uniform timestamps represented by a sampling clock
+     * 
+     * @throws IllegalStateException    method called while processor is enabled
+     */
+    synchronized
+    public void setTimestampCompression(Duration durTolerance, int cntMinSamples) throws IllegalStateException {
+
+        if (this.bolActive)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - Cannot change compression once activated.");
+        
+        this.bolCompress = true;
+        this.durCompressTol = durTolerance;
+        this.cntCompressMinSamples = cntMinSamples;
+    }
+    
+    /**
+     * <p>
+     * Disables compression of ingestion frame timestamp lists into sampling clocks.
+     * </p>
+     * <p>
+     * <h2>WARNING:</h2>
+     * This configuration parameter can only be modified <em>before</em> the processor is 
+     * activated with <code>{@link #activate()}</code> , otherwise an exception is throw.
+     * </p>
+     * 
+     * @throws IllegalStateException    method called while processor is enabled
+     */
+    synchronized
+    public void disableTimestampCompression() throws IllegalStateException {
+
+        if (this.bolActive)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - Cannot change compression once activated.");
+        
+        this.bolCompress = false;
+    }
+    
     /**
      * <p>
      * Disables the use of concurrent thread for internal processing.
@@ -743,6 +947,28 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
     public boolean hasFrameDecomposition() {
         return this.bolDecompAuto;
     }
+    
+    /**
+     * <p>
+     * Determine whether or not ingestion frame coalescing (micro-batching) is enabled.
+     * </p>
+     * 
+     * @return <code>true</code> if frame coalescing is enabled, <code>false</code> otherwise
+     */
+    public boolean hasFrameCoalescing() {
+        return this.bolCoalesce;
+    }
+    
+    /**
+     * <p>
+     * Determine whether or not timestamp list compression into sampling clocks is enabled.
+     * </p>
+     * 
+     * @return <code>true</code> if timestamp compression is enabled, <code>false</code> otherwise
+     */
+    public boolean hasTimestampCompression() {
+        return this.bolCompress;
+    }
 
     /**
      * <p>
@@ -778,6 +1004,17 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
         return this.szMaxFrmAlloc;
     }
     
+    /**
+     * <p>
+     * Returns the target size of coalesced ingestion frames when frame coalescing is enabled.
+     * </p>
+     * 
+     * @return  target size (in bytes) of coalesced ingestion frames
+     */
+    public long getCoalesceTargetSize() {
+        return this.szCoalesceTarget;
+    }
+    
     /**
      * <p>
      * Returns the number of concurrent processing threads when concurrency is enabled.
@@ -847,6 +1084,11 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
      */
     public boolean hasPendingTasks() {
         boolean bolPending = !this.queFramesRaw.isEmpty() | !this.queFramesPrcd.isEmpty() | (this.cntRrcsPending.get() > 0);
+        
+        // Include any frames lingering in the coalescer
+        IngestionFrameCoalescer prcrCoalescer = this.prcrCoalescer;
+        if (prcrCoalescer != null)
+            bolPending |= prcrCoalescer.hasPendingFrames();
                 
         return bolPending;
 //        return this.cntPendingTasks.getAcquire() > 0;
@@ -1048,6 +1290,29 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
         this.setFramesFailedDecomp = new LinkedList<>();
         this.setFramesFailedConvert = new LinkedList<>();
         
+        // Create the timestamp compressor if compression is enabled
+        if (this.bolCompress)
+            this.prcrCompressor = IngestionFrameTimestampCompressor.from(this.durCompressTol, this.cntCompressMinSamples);
+        
+        // Create the frame coalescer and its linger timer if coalescing is enabled
+        if (this.bolCoalesce) {
+            long    szTarget = this.szCoalesceTarget;
+            if (this.bolDecompAuto)
+                szTarget = Long.min(szTarget, this.szMaxFrmAlloc);
+            
+            long    nsPeriod = Long.max(this.nsCoalesceLinger/2, TU_TIMEOUT_TASK_POLL.toNanos(1));
+            
+            this.prcrCoalescer = IngestionFrameCoalescer.from(szTarget);
+            this.xtorCoalesceTimer = Executors.newSingleThreadScheduledExecutor(tsk -> {
+                Thread  thd = new Thread(tsk, IngestionFrameProcessor.class.getSimpleName() + "-coalesce-timer");
+                
+                thd.setDaemon(true);    // an unclosed processor must not hold the JVM open
+                
+                return thd;
+            });
+            this.xtorCoalesceTimer.scheduleAtFixedRate(this::releaseExpiredFrames, nsPeriod, nsPeriod, TimeUnit.NANOSECONDS);
+        }
+        
         // If no multi-threaded concurrency
         if (!this.bolConcurrency) {
             this.prcrMsgBinner = IngestionFrameDecomposer.from(this.szMaxFrmAlloc);
@@ -1112,6 +1377,12 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
         if (!this.bolActive)
             return false;
         
+        // Release all lingering frames for processing then stop the linger timer
+        if (this.bolCoalesce) {
+            this.prcrCoalescer.removeAll().forEach(this::dispatchFrame);
+            this.xtorCoalesceTimer.shutdownNow();
+        }
+        
         // If single-threaded there is nothing to do but set state flags
         if (!this.bolConcurrency) {
             this.bolActive = false;
@@ -1163,6 +1434,12 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
         
         this.bolActive = false;
         
+        // If coalescing terminate the linger timer and discard all lingering frames
+        if (this.bolCoalesce) {
+            this.xtorCoalesceTimer.shutdownNow();
+            this.prcrCoalescer.clear();
+        }
+        
         // If multi-threaded hard terminate all tasks
         if (this.bolConcurrency) {
 
@@ -1223,22 +1500,14 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
         if (!this.bolActive)
             throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - processor is not enabled.");
         
-        // No concurrency - Process on main thread 
-        if (!this.bolConcurrency) {
-            this.processFrame(frame);
+        // Timestamp compression - Rewrite frame with sampling clock(s) if possible
+        if (this.bolCompress) {
+            this.compressFrame(frame).forEach(this::coalesceOrDispatchFrame);
             
             return;
         }
         
-        // No auto-decomposition - Add directly to the processed frame buffer and return
-        if (!this.bolDecompAuto) {
-            this.queFramesPrcd.add(frame);
-            
-            return;
-        }
-        
-        // Full processing - Add to the raw frames buffer for decomposition
-        this.queFramesRaw.add(frame);
+        this.coalesceOrDispatchFrame(frame);
     }
     
     /**
@@ -1281,6 +1550,17 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
         if (!this.bolActive)
             throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - processor is not enabled.");
         
+        // Timestamp compression or coalescing - Process frames individually
+        if (this.bolCompress || this.bolCoalesce) {
+            for (IngestionFrame frame : lstFrames)
+                if (this.bolCompress)
+                    this.compressFrame(frame).forEach(this::coalesceOrDispatchFrame);
+                else
+                    this.coalesceOrDispatchFrame(frame);
+            
+            return;
+        }
+        
         // No concurrency - Process on main thread
         if (!this.bolConcurrency) {
             lstFrames.forEach(frm -> this.processFrame(frm));
@@ -1380,6 +1660,129 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
     // Support Methods
     //
     
+    /**
+     * <p>
+     * Recycles the backing arrays of any recyclable primitive data columns within the given frame.
+     * </p>
+     * <p>
+     * Frames created by <code>{@link IngestionFrameBuilder}</code> contain data columns whose primitive
+     * backing arrays are returned to the builder when the columns are cleared.  This method is called
+     * once the frame has been encoded into an <code>IngestDataRequest</code> message and is no longer needed.
+     * Frames containing no recyclable columns are not modified.
+     * </p>
+     * 
+     * @param frame     ingestion frame that has been converted to an ingestion request message
+     */
+    private static void recycleFrame(IngestionFrame frame) {
+        
+        for (IDataColumn<Object> col : frame.getDataColumns())
+            if (col instanceof DoubleArrayDataColumn colDbls && colDbls.isRecyclable())
+                colDbls.clear();
+    }
+    
+    /**
+     * <p>
+     * Compresses the timestamp list of the given ingestion frame into sampling clocks where possible.
+     * </p>
+     * <p>
+     * Compression is an optimization, thus, any failure during compression is logged and the original
+     * frame is returned unmodified.
+     * </p>
+     * 
+     * @param frame     ingestion frame to be compressed
+     * 
+     * @return  ordered list of ingestion frames equivalent to the argument
+     */
+    private List<IngestionFrame> compressFrame(IngestionFrame frame) {
+        
+        try {
+            return this.prcrCompressor.compress(frame);
+            
+        } catch (Exception e) {
+            if (BOL_LOGGING)
+                LOGGER.warn("{} - Timestamp compression failed for frame {}, sending uncompressed: {}", JavaRuntime.getQualifiedMethodNameSimple(), frame.getFrameLabel(), e.getMessage());
+            
+            return List.of(frame);
+        }
+    }
+    
+    /**
+     * <p>
+     * Offers the given ingestion frame to the coalescer if coalescing is enabled, otherwise dispatches
+     * it directly to the processing pipeline.
+     * </p>
+     * 
+     * @param frame     ingestion frame to be processed
+     */
+    private void coalesceOrDispatchFrame(IngestionFrame frame) {
+        
+        // Coalescing - Offer to the coalescer and process any released frames
+        if (this.bolCoalesce) {
+            this.prcrCoalescer.add(frame).forEach(this::dispatchFrame);
+            
+            return;
+        }
+        
+        this.dispatchFrame(frame);
+    }
+    
+    /**
+     * <p>
+     * Dispatches the given ingestion frame to the processing pipeline.
+     * </p>
+     * <p>
+     * If concurrency is disabled the frame is processed immediately on the current thread.  Otherwise the frame
+     * is added to the raw frame queue buffer for decomposition, or directly to the processed frame queue buffer
+     * if automatic decomposition is disabled.
+     * </p>
+     * 
+     * @param frame     ingestion frame to be processed
+     */
+    private void dispatchFrame(IngestionFrame frame) {
+        
+        // No concurrency - Process on main thread 
+        if (!this.bolConcurrency) {
+            this.processFrame(frame);
+            
+            return;
+        }
+        
+        // No auto-decomposition - Add directly to the processed frame buffer and return
+        if (!this.bolDecompAuto) {
+            this.queFramesPrcd.add(frame);
+            
+            return;
+        }
+        
+        // Full processing - Add to the raw frames buffer for decomposition
+        this.queFramesRaw.add(frame);
+    }
+    
+    /**
+     * <p>
+     * Releases all coalesced ingestion frames whose linger time has expired into the processing pipeline.
+     * </p>
+     * <p>
+     * This method is the linger timer task of the frame coalescer.  It is synchronized since single-thread
+     * processing (i.e., concurrency disabled) uses the processing resources of the main thread.
+     * </p>
+     */
+    synchronized
+    private void releaseExpiredFrames() {
+        
+        // The processor may have been shut down while waiting for the lock
+        if (!this.bolActive)
+            return;
+        
+        try {
+            this.prcrCoalescer.removeExpired(this.nsCoalesceLinger).forEach(this::dispatchFrame);
+            
+        } catch (Exception e) {
+            if (BOL_LOGGING)
+                LOGGER.error("{} - Failed to release coalesced frames: {}", JavaRuntime.getQualifiedMethodNameSimple(), e.getMessage());
+        }
+    }
+    
     /**
      * <p>
      * Processes the given frame into <code>IngestDataRequest</code> message(s) then enqueues in outgoing buffer.
@@ -1458,6 +1861,8 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
         try {
             IngestDataRequest   msgRqst = this.prcMsgConverter.createRequest(frame, this.recProviderUid);
             
+            IngestionFrameProcessor.recycleFrame(frame);
+            
             return this.queMsgRequests.offer(msgRqst);
         
         } catch (Exception e) {
@@ -1659,6 +2064,9 @@ public class IngestionFrameProcessor implements IMessageSupplier<IngestDataReque
                 // Convert the ingestion frame to an Ingestion Service data request message
                 try {
                     IngestDataRequest   msgRqst = converter.createRequest(frmPrcd);
+                    
+                    // Return any primitive backing arrays to their producer
+                    IngestionFrameProcessor.recycleFrame(frmPrcd);
 
 //                    // TODO - Remove
 //                    LOGGER.debug("  conversion thread #" +intThrdId + " created message - (msg==null)=" + (msgRqst==null));
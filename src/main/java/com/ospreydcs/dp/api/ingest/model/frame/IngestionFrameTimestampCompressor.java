@@ -0,0 +1,418 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionFrameTimestampCompressor.java
+ * Package: com.ospreydcs.dp.api.ingest.model.frame
+ * Type: 	IngestionFrameTimestampCompressor
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest.model.frame;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.common.IngestRequestUID;
+import com.ospreydcs.dp.api.common.UniformSamplingClock;
+import com.ospreydcs.dp.api.ingest.IngestionFrame;
+import com.ospreydcs.dp.api.model.table.DoubleArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.PrimitiveArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.StaticDataColumn;
+
+/**
+ * <p>
+ * Processor class used to compress the explicit timestamp lists of <code>IngestionFrame</code> instances
+ * into uniform sampling clocks.
+ * </p>
+ * <p>
+ * Ingestion frames created with an explicit timestamp list (e.g., from
+ * <code>IngestionFrame(ArrayList&lt;Instant&gt;, ArrayList)</code> or from EPICS NTTable structures) carry
+ * a full timestamp for each row, both in the <code>IngestDataRequest</code> message and in the archive,
+ * even when the timestamps are uniformly distributed.  This processor identifies uniform, or piecewise
+ * uniform, timestamp lists and rewrites the frame as one or more frames using a
+ * <code>UniformSamplingClock</code>, splitting the original frame at timestamp discontinuities.
+ * </p>
+ * <p>
+ * <h2>Uniformity Tolerance</h2>
+ * A sequence of timestamps starting at index <i>i</i> is considered uniform if there is a single period
+ * <i>T</i> (in whole nanoseconds) for which each timestamp <i>t</i><sub><i>k</i></sub> of the sequence satisfies
+ * <br/><br/>
+ * &nbsp; &nbsp; |<i>t</i><sub><i>k</i></sub> - (<i>t</i><sub><i>i</i></sub> + (<i>k</i> - <i>i</i>)<i>T</i>)| &le; <i>tol</i>
+ * <br/><br/>
+ * where <i>tol</i> is the tolerance.  Thus, the timestamps produced by the resulting sampling clock differ
+ * from the original timestamps by no more than the tolerance.  A zero tolerance yields lossless compression.
+ * Since every timestamp is checked against the common period, rather than against the first interval,
+ * jitter does not accumulate along the sequence.
+ * </p>
+ * <p>
+ * <h2>Segments</h2>
+ * Uniform sequences shorter than the minimum segment length are not worth a separate frame (and message).
+ * Consecutive short sequences are gathered into a single frame retaining an explicit timestamp list.
+ * </p>
+ * <p>
+ * <h2>Client Request UIDs</h2>
+ * If the original frame is split and has a client request UID, each resulting frame receives the
+ * UID of the original frame suffixed with its index, in the same manner as frame decomposition.
+ * </p>
+ * <p>
+ * <h2>Primitive Columns</h2>
+ * Data columns backed by primitive arrays (e.g., those of <code>IngestionFrameBuilder</code> frames) are sliced
+ * into primitive columns without boxing.  Recyclable source columns are cleared once the new frames are
+ * created, returning their backing arrays to the producer.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class IngestionFrameTimestampCompressor {
+
+
+    //
+    // Class Types
+    //
+
+    /**
+     * <p>
+     * A contiguous range of frame rows [<code>indStart</code>, <code>indStop</code>), whether or not
+     * it is represented by a sampling clock, and the clock period (in nanoseconds) if so.
+     * </p>
+     */
+    private record Segment(int indStart, int indStop, boolean bolClocked, long nsPeriod) {
+
+        /** @return number of rows in the segment */
+        private int size() {
+            return this.indStop - this.indStart;
+        }
+    }
+
+
+    //
+    // Class Constants
+    //
+
+    /** The smallest allowable minimum segment length - a clock requires at least 2 samples */
+    public static final int     INT_MIN_SEGMENT_LENGTH = 2;
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** Timestamp uniformity tolerance (in nanoseconds) */
+    private final long      nsTolerance;
+
+    /** Minimum number of uniform timestamps represented by a sampling clock */
+    private final int       cntMinSegment;
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new instance of <code>IngestionFrameTimestampCompressor</code> configured to the arguments.
+     * </p>
+     *
+     * @param durTolerance  uniformity tolerance for timestamps (zero for lossless compression)
+     * @param cntMinSegment minimum number of uniform timestamps represented by a sampling clock
+     *
+     * @return  new <code>IngestionFrameTimestampCompressor</code> instance ready for use
+     *
+     * @throws IllegalArgumentException the tolerance was negative or the minimum segment length was less than 2
+     */
+    public static IngestionFrameTimestampCompressor from(Duration durTolerance, int cntMinSegment) throws IllegalArgumentException {
+        return new IngestionFrameTimestampCompressor(durTolerance, cntMinSegment);
+    }
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>IngestionFrameTimestampCompressor</code>.
+     * </p>
+     *
+     * @param durTolerance  uniformity tolerance for timestamps (zero for lossless compression)
+     * @param cntMinSegment minimum number of uniform timestamps represented by a sampling clock
+     *
+     * @throws IllegalArgumentException the tolerance was negative or the minimum segment length was less than 2
+     */
+    public IngestionFrameTimestampCompressor(Duration durTolerance, int cntMinSegment) throws IllegalArgumentException {
+
+        // Check arguments
+        if (durTolerance.isNegative())
+            throw new IllegalArgumentException("Timestamp tolerance must be non-negative.");
+
+        if (cntMinSegment < INT_MIN_SEGMENT_LENGTH)
+            throw new IllegalArgumentException("Minimum segment length must be at least " + INT_MIN_SEGMENT_LENGTH + ".");
+
+        this.nsTolerance = durTolerance.toNanos();
+        this.cntMinSegment = cntMinSegment;
+    }
+
+
+    //
+    // Attribute Query (Getters)
+    //
+
+    /**
+     * @return  the timestamp uniformity tolerance
+     */
+    public Duration getTolerance() {
+        return Duration.ofNanos(this.nsTolerance);
+    }
+
+    /**
+     * @return  the minimum number of uniform timestamps represented by a sampling clock
+     */
+    public int  getMinimumSegmentLength() {
+        return this.cntMinSegment;
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Compresses the timestamp list of the given ingestion frame into sampling clocks where possible.
+     * </p>
+     * <p>
+     * The returned list contains the given frame itself if no compression is possible (e.g., the frame
+     * already uses a sampling clock or its timestamps are not uniform).  Otherwise it contains new ingestion
+     * frames, in timestamp order, covering all rows of the original frame.  The optional properties of the
+     * original frame are copied to each new frame.  In the latter case any recyclable primitive columns of
+     * the original frame are cleared and the original frame should no longer be used.
+     * </p>
+     *
+     * @param frame ingestion frame to be compressed
+     *
+     * @return  ordered list of ingestion frames equivalent to the argument
+     */
+    public List<IngestionFrame> compress(IngestionFrame frame) {
+
+        // Check for frames that cannot be compressed
+        if (!frame.hasTimestampList() || frame.getColumnCount() == 0)
+            return List.of(frame);
+
+        ArrayList<Instant>  vecTms = frame.getTimestampList();
+
+        if (vecTms.size() < this.cntMinSegment)
+            return List.of(frame);
+
+        // Identify the frame segments
+        List<Segment>   lstSegs = this.identifySegments(vecTms);
+
+        if (lstSegs.size() == 1 && !lstSegs.get(0).bolClocked())
+            return List.of(frame);
+
+        // Create the new ingestion frames for each segment - only non-primitive columns are boxed
+        List<IDataColumn<Object>>   lstColsSrc = frame.getDataColumns();
+        List<List<Object>>          lstColVals = lstColsSrc.stream()
+                .map(col -> (col instanceof DoubleArrayDataColumn || col instanceof PrimitiveArrayDataColumn) ? null : col.getValues())
+                .toList();
+        List<IngestionFrame>        lstFrames = new ArrayList<>(lstSegs.size());
+
+        for (Segment seg : lstSegs) {
+            IngestionFrame  frmSeg = new IngestionFrame();
+
+            // Assign the timestamps
+            if (seg.bolClocked()) {
+                Instant     insStart = vecTms.get(seg.indStart());
+                Duration    durPeriod = Duration.ofNanos(seg.nsPeriod());
+
+                frmSeg.assignSamplingClock(UniformSamplingClock.from(insStart, seg.size(), durPeriod));
+
+            } else {
+
+                frmSeg.assignTimestampList(new ArrayList<>(vecTms.subList(seg.indStart(), seg.indStop())));
+            }
+
+            // Assign the data columns
+            ArrayList<IDataColumn<Object>>  vecCols = new ArrayList<>(lstColsSrc.size());
+
+            for (int iCol=0; iCol<lstColsSrc.size(); iCol++) {
+                IDataColumn<Object> colSrc = lstColsSrc.get(iCol);
+
+                if (colSrc instanceof DoubleArrayDataColumn colDbls) {
+                    vecCols.add(colDbls.copyOfRange(seg.indStart(), seg.indStop()));
+                    continue;
+                }
+
+                if (colSrc instanceof PrimitiveArrayDataColumn colPrms) {
+                    vecCols.add(colPrms.copyOfRange(seg.indStart(), seg.indStop()));
+                    continue;
+                }
+
+                List<Object>        lstVals = lstColVals.get(iCol).subList(seg.indStart(), seg.indStop());
+
+                vecCols.add(StaticDataColumn.from(colSrc.getName(), colSrc.getType(), new ArrayList<>(lstVals)));
+            }
+
+            frmSeg.addColumns(vecCols);
+            frmSeg.copyOptionalProperties(frame);
+            lstFrames.add(frmSeg);
+        }
+
+        // Assign new client request UIDs if the frame was split
+        IngestRequestUID    uidMain = frame.getClientRequestUid();
+
+        if (uidMain != null && lstFrames.size() > 1) {
+            Integer     indFrm = 0;
+
+            for (IngestionFrame frmSeg : lstFrames) {
+                frmSeg.setClientRequestUid(IngestRequestUID.from(uidMain, "-" + indFrm.toString()));
+                indFrm++;
+            }
+        }
+
+        // Return the backing arrays of the (now copied) source columns to their producer
+        for (IDataColumn<Object> colSrc : lstColsSrc)
+            if (colSrc instanceof DoubleArrayDataColumn colDbls && colDbls.isRecyclable())
+                colDbls.clear();
+
+        return lstFrames;
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Partitions the given timestamp list into clocked segments and timestamp list segments.
+     * </p>
+     * <p>
+     * Uniform sequences of length at least the minimum segment length become clocked segments.
+     * All consecutive shorter sequences are merged into a single timestamp list segment.
+     * </p>
+     *
+     * @param vecTms    ordered list of timestamps
+     *
+     * @return  ordered list of segments covering the entire argument
+     */
+    private List<Segment>   identifySegments(List<Instant> vecTms) {
+
+        List<Segment>   lstSegs = new LinkedList<>();
+
+        int     cntTms = vecTms.size();
+        int     indList = -1;   // start of the current timestamp list segment, -1 if none
+        int     indStart = 0;
+
+        while (indStart < cntTms) {
+            Segment segUni = this.findUniformExtent(vecTms, indStart);
+            int     indStop = segUni.indStop();
+
+            // Short sequence - accumulate into the current timestamp list segment
+            if (indStop - indStart < this.cntMinSegment) {
+                if (indList < 0)
+                    indList = indStart;
+
+                indStart = indStop;
+                continue;
+            }
+
+            // Uniform sequence - close any timestamp list segment then add clocked segment
+            if (indList >= 0) {
+                lstSegs.add(new Segment(indList, indStart, false, 0L));
+                indList = -1;
+            }
+
+            lstSegs.add(segUni);
+            indStart = indStop;
+        }
+
+        // Close any remaining timestamp list segment
+        if (indList >= 0)
+            lstSegs.add(new Segment(indList, cntTms, false, 0L));
+
+        return lstSegs;
+    }
+
+    /**
+     * <p>
+     * Finds the longest uniform timestamp sequence starting at the given index.
+     * </p>
+     * <p>
+     * Each timestamp <i>t</i><sub><i>k</i></sub> of the sequence restricts the common period <i>T</i> to the interval
+     * [(<i>t</i><sub><i>k</i></sub> - <i>t</i><sub><i>i</i></sub> - <i>tol</i>)/(<i>k</i> - <i>i</i>),
+     * (<i>t</i><sub><i>k</i></sub> - <i>t</i><sub><i>i</i></sub> + <i>tol</i>)/(<i>k</i> - <i>i</i>)].
+     * The sequence is extended while the intersection of these intervals contains a whole (positive) number of
+     * nanoseconds, so every timestamp lies within tolerance of <i>t</i><sub><i>i</i></sub> + (<i>k</i> - <i>i</i>)<i>T</i>.
+     * The returned period is the feasible value closest to the mean interval of the sequence.
+     * A non-positive first interval terminates the sequence immediately (i.e., a sequence of length 1 is returned).
+     * </p>
+     *
+     * @param vecTms    ordered list of timestamps
+     * @param indStart  index of the first timestamp in the sequence
+     *
+     * @return  the clocked segment of the uniform sequence (which may be shorter than the minimum segment length)
+     */
+    private Segment findUniformExtent(List<Instant> vecTms, int indStart) {
+
+        int     cntTms = vecTms.size();
+
+        if (indStart + 1 >= cntTms)
+            return new Segment(indStart, cntTms, true, 0L);
+
+        Instant insStart = vecTms.get(indStart);
+        long    nsFirst = Duration.between(insStart, vecTms.get(indStart + 1)).toNanos();
+
+        if (nsFirst <= 0)
+            return new Segment(indStart, indStart + 1, true, 0L);
+
+        // Feasible period range [nsMin, nsMax] and the offset of the last accepted timestamp
+        long    nsMin = Math.max(1L, nsFirst - this.nsTolerance);
+        long    nsMax = nsFirst + this.nsTolerance;
+        long    nsLast = nsFirst;
+
+        int     indCurr = indStart + 2;
+        while (indCurr < cntTms) {
+            long    nsOffset = Duration.between(insStart, vecTms.get(indCurr)).toNanos();
+            long    cntIntvls = indCurr - indStart;
+            long    nsLower = -Math.floorDiv(-(nsOffset - this.nsTolerance), cntIntvls);
+            long    nsUpper = Math.floorDiv(nsOffset + this.nsTolerance, cntIntvls);
+
+            if (Math.max(nsMin, nsLower) > Math.min(nsMax, nsUpper))
+                break;
+
+            nsMin = Math.max(nsMin, nsLower);
+            nsMax = Math.min(nsMax, nsUpper);
+            nsLast = nsOffset;
+            indCurr++;
+        }
+
+        long    nsMean = Math.round( (double)nsLast / (indCurr - indStart - 1) );
+        long    nsPeriod = Math.min(nsMax, Math.max(nsMin, nsMean));
+
+        return new Segment(indStart, indCurr, true, nsPeriod);
+    }
+}
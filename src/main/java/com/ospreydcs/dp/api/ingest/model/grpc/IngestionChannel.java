@@ -28,6 +28,7 @@
 package com.ospreydcs.dp.api.ingest.model.grpc;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.MissingResourceException;
@@ -223,6 +224,16 @@ public class IngestionChannel {
     
 //  /** When the number of frames available exceeds this value multiple gRPC data streams are used */ 
 //  private static final Long       LNG_MULTISTREAM_PIVOT = CFG_DEFAULT.stream.concurrency.pivotSize;
+    
+    
+    /** Use long-running stream mode with bounded (rolling) response and request UID records */
+    private static final Boolean            BOL_ROLLING_ACTIVE = CFG_DEFAULT.rolling.enabled;
+    
+    /** Number of most recent request UIDs and responses retained in long-running mode */
+    private static final Integer            CNT_ROLLING_CAPACITY = CFG_DEFAULT.rolling.capacity;
+    
+    /** Maximum number of rejected request UIDs and exceptions retained in long-running mode */
+    private static final Integer            CNT_ROLLING_MAX_REJECTS = CFG_DEFAULT.rolling.maxRejects;
   
     
     //
@@ -268,6 +279,21 @@ public class IngestionChannel {
     /** The maximum number of gRPC data streams to use */
     private int                 cntStreamsMax = CNT_MULTISTREAM_MAX;
     
+    /** Long-running stream mode flag - bounded response and request UID records */
+    private boolean             bolRolling = BOL_ROLLING_ACTIVE;
+    
+    /** Number of most recent request UIDs and responses retained in long-running mode */
+    private int                 cntRollingCapacity = CNT_ROLLING_CAPACITY;
+    
+    /** Maximum number of rejected request UIDs and exceptions retained in long-running mode */
+    private int                 cntRollingMaxRejects = CNT_ROLLING_MAX_REJECTS;
+    
+    /** Optional consumer of client request IDs confirmed (accepted or rejected) by the Ingestion Service */
+    private Consumer<String>    fncAckMonitor = null;
+    
+    /** Optional consumer of gRPC data stream failures */
+    private Consumer<Throwable> fncErrorMonitor = null;
+    
     
     //
     // Instance Resources
@@ -281,6 +307,9 @@ public class IngestionChannel {
     
     /** Collection of future results from streaming tasks - used for shutdowns */
     private final Collection<Future<Boolean>>   setStreamFutures = new LinkedList<>();
+    
+    /** Collection of failed streaming tasks already replaced by a restarted task */
+    private final Collection<IngestionStream>   setStreamsRestarted = new HashSet<>();
 
 
     /** Object used as synchronization lock for incoming unidirectional responses (there may be concurrent streaming tasks) */
@@ -299,6 +328,9 @@ public class IngestionChannel {
     /** Collection of all ingestion responses with exceptions */    // No longer monitored
 //    private final Collection<IngestionResponse> setRspRecsBad = new LinkedList<>();
     
+    /** Incrementally maintained (bounded) statistics of the ingestion operation - created upon activation */
+    private IngestionStreamStatistics               statsStream = null;
+    
     
     // 
     // State Variables
@@ -472,6 +504,134 @@ public class IngestionChannel {
         this.bolMultistream = false;
     }
     
+    /**
+     * <p>
+     * Enables the long-running stream mode with the given retention limits.
+     * </p>
+     * <p>
+     * <h2>Long-Running Streams</h2>
+     * By default the channel retains every Ingestion Service response and every transmitted client request UID
+     * for the activation cycle, from which the final <code>{@link IngestionResult}</code> is computed.  For data
+     * providers that stream for days this leaks memory without limit.  In long-running mode the channel
+     * instead keeps only the most recent <code>cntRecent</code> request UIDs and responses and the first 
+     * <code>cntMaxRejects</code> rejected request UIDs and exceptions; everything else is aggregated into
+     * the counters and histograms of <code>{@link IngestionStreamStatistics}</code>.  
+     * </p>
+     * <p>
+     * In this mode <code>{@link #getRequestIds()}</code>, <code>{@link #getIngestionUniResponses()}</code>, 
+     * and <code>{@link #getIngestionBidiResponses()}</code> return only the recent records, and
+     * <code>{@link #getIngestionResult()}</code> returns the incrementally computed result with full counts
+     * but bounded lists.
+     * </p>
+     * <p>
+     * <h2>WARNING:</h2>
+     * This configuration parameter can only be modified <em>before</em> the channel is 
+     * activated with <code>{@link #activate()}</code> , otherwise an exception is throw.
+     * </p>
+     * 
+     * @param cntRecent     number of most recent request UIDs and responses retained (&ge;0)
+     * @param cntMaxRejects maximum number of rejected request UIDs and exceptions retained (&ge;0)
+     * 
+     * @throws IllegalStateException    method called while channel is active
+     * @throws IllegalArgumentException a retention limit was negative
+     */
+    public void setRollingStatistics(int cntRecent, int cntMaxRejects) throws IllegalStateException, IllegalArgumentException {
+
+        // Check current state
+        if (this.bolActive)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - Cannot change stream mode once activated.");
+        
+        // Check the arguments
+        if (cntRecent < 0 || cntMaxRejects < 0)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - retention limits must be non-negative.");
+        
+        this.bolRolling = true;
+        this.cntRollingCapacity = cntRecent;
+        this.cntRollingMaxRejects = cntMaxRejects;
+    }
+    
+    /**
+     * <p>
+     * Disables the long-running stream mode, all responses and request UIDs are retained.
+     * </p>
+     * <p>
+     * <h2>WARNING:</h2>
+     * This configuration parameter can only be modified <em>before</em> the channel is 
+     * activated with <code>{@link #activate()}</code> , otherwise an exception is throw.
+     * </p>
+     * 
+     * @throws IllegalStateException    method called while channel is active
+     * 
+     * @see #setRollingStatistics(int, int)
+     */
+    public void disableRollingStatistics() throws IllegalStateException {
+
+        // Check current state
+        if (this.bolActive)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - Cannot change stream mode once activated.");
+        
+        this.bolRolling = false;
+    }
+    
+    /**
+     * <p>
+     * Sets the monitor of request messages confirmed by the Ingestion Service.
+     * </p>
+     * <p>
+     * The given consumer is invoked with the client request ID of every request message for which the 
+     * Ingestion Service has responded, whether the request was accepted or rejected.  For bidirectional 
+     * streams this occurs with each response, for unidirectional streams all request IDs are confirmed by
+     * the single response at stream completion.  The monitor is typically the acknowledgment operation of a 
+     * durable staging buffer (see <code>{@link IngestionSpoolBuffer#acknowledge(String)}</code>).
+     * The consumer is invoked on gRPC threads and must not block.
+     * </p>
+     * <p>
+     * <h2>WARNING:</h2>
+     * This configuration parameter can only be modified <em>before</em> the channel is 
+     * activated with <code>{@link #activate()}</code> , otherwise an exception is throw.
+     * </p>
+     * 
+     * @param fncAckMonitor consumer of confirmed client request IDs (or <code>null</code> for none)
+     * 
+     * @throws IllegalStateException    method called while channel is active
+     */
+    public void setAcknowledgmentMonitor(Consumer<String> fncAckMonitor) throws IllegalStateException {
+
+        // Check current state
+        if (this.bolActive)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - Cannot change acknowledgment monitor once activated.");
+        
+        this.fncAckMonitor = fncAckMonitor;
+    }
+    
+    /**
+     * <p>
+     * Sets the monitor of gRPC data stream failures.
+     * </p>
+     * <p>
+     * The given consumer is invoked with the terminating exception whenever a gRPC data stream of the
+     * channel fails (see <code>{@link IngestionStream#setErrorMonitor(Consumer)}</code>).
+     * The consumer may be invoked on gRPC threads and must not block.
+     * </p>
+     * <p>
+     * <h2>WARNING:</h2>
+     * This configuration parameter can only be modified <em>before</em> the channel is 
+     * activated with <code>{@link #activate()}</code> , otherwise an exception is throw.
+     * </p>
+     * 
+     * @param fncErrorMonitor   consumer of stream failure exceptions (or <code>null</code> for none)
+     * 
+     * @throws IllegalStateException    method called while channel is active
+     */
+    public void setStreamErrorMonitor(Consumer<Throwable> fncErrorMonitor) throws IllegalStateException {
+
+        // Check current state
+        if (this.bolActive)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - Cannot change stream error monitor once activated.");
+        
+        this.fncErrorMonitor = fncErrorMonitor;
+    }
+    
     
     // 
     // Configuration Query
@@ -517,6 +677,20 @@ public class IngestionChannel {
         return this.enmStreamType;
     }
     
+    /**
+     * <p>
+     * Determines whether or not the long-running stream mode is enabled.
+     * </p>
+     * 
+     * @return  <code>true</code> if only bounded (rolling) records are retained, 
+     *          <code>false</code> if all responses and request UIDs are retained
+     *          
+     * @see #setRollingStatistics(int, int)
+     */
+    public boolean  hasRollingStatistics() {
+        return this.bolRolling;
+    }
+    
 
     //
     // State and Attribute Query
@@ -618,6 +792,10 @@ public class IngestionChannel {
         if (this.setStreamTasks == null)
             throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - processor was never activated.");
 
+        // Long-running mode - only the recent client IDs are available
+        if (this.bolRolling)
+            return this.getStreamStatistics().getRecentRequestIds();
+        
         // Collect all the client IDs recorded within each ingestion stream
         List<IngestRequestUID>   lstIds = this.setStreamTasks
                 .stream()
@@ -729,6 +907,10 @@ public class IngestionChannel {
         if (this.setStreamTasks == null)
             throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - channel was never activated.");
 
+        // Long-running mode - only the recent responses are available
+        if (this.bolRolling)
+            return this.getStreamStatistics().getRecentUniResponses();
+        
         return this.lstUniRsps;
     }
     
@@ -779,6 +961,10 @@ public class IngestionChannel {
         if (this.setStreamTasks == null)
             throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - channel was never activated.");
 
+        // Long-running mode - only the recent responses are available
+        if (this.bolRolling)
+            return this.getStreamStatistics().getRecentBidiResponses();
+        
         return this.lstBidiRsps;
     }
     
@@ -831,6 +1017,10 @@ public class IngestionChannel {
 //        if (BOL_LOGGING)
 //            LOGGER.debug("{} - Stream type = {}, lstUniRsps size = {}, lstBidiRsps size = {}", JavaRuntime.getCallerClassSimple(), this.enmStreamType, this.lstUniRsps.size(), this.lstBidiRsps.size());
         
+        // Long-running mode - result is maintained incrementally
+        if (this.bolRolling)
+            return this.getStreamStatistics().toIngestionResult();
+        
         // Create result depending upon stream type
         if (this.enmStreamType == DpGrpcStreamType.FORWARD) {
             if (this.lstUniRsps.isEmpty())
@@ -854,6 +1044,29 @@ public class IngestionChannel {
             throw new UnsupportedOperationException(JavaRuntime.getQualifiedMethodNameSimple() + " - encountered an unsupported stream type " + this.enmStreamType);
     }
     
+    /**
+     * <p>
+     * Returns the incrementally maintained statistics of the current (or last) activation cycle.
+     * </p>
+     * <p>
+     * The statistics are maintained in all stream modes and include the transmitted message and byte counts,
+     * accepted and rejected request counts, and histograms of request size and acknowledgment latency 
+     * (bidirectional streams).  They are reset upon activation.
+     * </p>
+     * 
+     * @return  the ingestion statistics of the current activation cycle
+     * 
+     * @throws IllegalStateException    channel was never activated
+     */
+    public IngestionStreamStatistics    getStreamStatistics() throws IllegalStateException {
+        
+        // Check if activated
+        if (this.statsStream == null)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - channel was never activated.");
+        
+        return this.statsStream;
+    }
+    
 //    /**
 //     * <h1>
 //     * Return a list of all the responses to the ingest data request messages.
@@ -1079,6 +1292,7 @@ public class IngestionChannel {
         // Create new containers for streaming tasks and streaming responses
         this.cntResponses = 0;
         this.setStreamTasks.clear();
+        this.setStreamsRestarted.clear();
 //        this.setResponses = new LinkedList<>();
 //        this.setResponses.clear();
 //        this.setRspRecs.clear();
@@ -1087,6 +1301,12 @@ public class IngestionChannel {
         this.lstBidiRsps.clear();
         this.lstUniRsps.clear();
         
+        // Create the statistics for this activation cycle - unbounded mode needs none of the recent records
+        if (this.bolRolling)
+            this.statsStream = IngestionStreamStatistics.create(this.enmStreamType, this.cntRollingCapacity, this.cntRollingMaxRejects);
+        else
+            this.statsStream = IngestionStreamStatistics.create(this.enmStreamType, 0, 0);
+        
         // Create the streaming tasks and submit them
         for (int iStream=0; iStream<cntStreams; iStream++) {
             IngestionStream     objStream = this.createIngestionStream();   // throws exception
@@ -1100,6 +1320,57 @@ public class IngestionChannel {
         return true;
     }
     
+    /**
+     * <p>
+     * Restarts all streaming tasks whose gRPC data stream has failed.
+     * </p>
+     * <p>
+     * Each failed streaming task is replaced by a new task of the current configuration submitted to the
+     * stream pool, which resumes transmission of the messages available from the message supplier.  
+     * The failed tasks are retained so that their transmitted requests and responses remain part of the
+     * ingestion result.  This operation is typically invoked once the Ingestion Service becomes available
+     * again after an outage (e.g., the gRPC channel returns to the <code>READY</code> state).
+     * </p>
+     * <p>
+     * <h2>NOTES:</h2>
+     * Messages in flight on a failed stream are not retransmitted by this operation, the message supplier
+     * must supply them again (see <code>{@link IngestionSpoolBuffer#requeueInFlight()}</code>).
+     * </p>
+     * 
+     * @return  the number of streaming tasks restarted, 
+     *          or 0 if the stream pool is not active or no stream has failed
+     * 
+     * @throws RejectedExecutionException       (internal) unable to start a streaming task
+     */
+    synchronized
+    public int restartFailedStreams() throws RejectedExecutionException {
+        
+        // Check state
+        if (!this.bolActive || this.xtorStreamTasks.isShutdown())
+            return 0;
+        
+        List<IngestionStream>   lstFailed = this.setStreamTasks
+                .stream()
+                .filter(stream -> stream.isCompleted() && !stream.isSuccess())
+                .filter(stream -> !this.setStreamsRestarted.contains(stream))
+                .toList();
+        
+        for (IngestionStream streamFailed : lstFailed) {
+            IngestionStream     objStream = this.createIngestionStream();
+            Callable<Boolean>   tskStream = (Callable<Boolean>)objStream;
+            
+            Future<Boolean> futStream = this.xtorStreamTasks.submit(tskStream); // throws exception
+            this.setStreamFutures.add(futStream);
+            this.setStreamTasks.add(objStream);
+            this.setStreamsRestarted.add(streamFailed);
+        }
+        
+        if (BOL_LOGGING && !lstFailed.isEmpty())
+            LOGGER.info("{}: Restarted {} failed gRPC data streams.", JavaRuntime.getMethodName(), lstFailed.size());
+        
+        return lstFailed.size();
+    }
+    
     /**
      * <p>
      * Performs an orderly shutdown of all ingestion data gRPC streaming operations using default timeout limit.
@@ -1238,10 +1509,19 @@ public class IngestionChannel {
             
             // Create the response consumer as a lambda function
             Consumer<IngestDataStreamResponse>  fncRspSink = (msgRsp) -> { 
+                this.statsStream.responseReceived(msgRsp);
+                
                 synchronized (this.objUniRspLock) {     // there can be multiple, concurrent streams
-                    this.lstUniRsps.add(msgRsp);
+                    if (!this.bolRolling)
+                        this.lstUniRsps.add(msgRsp);
                     this.cntResponses++;
                 }
+                
+                // The single response confirms all requests of the stream
+                if (this.fncAckMonitor != null) {
+                    msgRsp.getClientRequestIdsList().forEach(this.fncAckMonitor);
+                    msgRsp.getRejectedRequestIdsList().forEach(this.fncAckMonitor);
+                }
             };
             
             stream = IngestionStream.newUniStream(this.connIngest.getStubAsync(), this.srcRqstMsgs, fncRspSink);
@@ -1252,10 +1532,16 @@ public class IngestionChannel {
             
             // Create consumer of response messages as lambda function 
             Consumer<IngestDataResponse>    fncRspSink = (msgRsp) -> {
+                this.statsStream.responseReceived(msgRsp);
+                
                 synchronized (this.objBidiRspLock) {    // there can be multiple, concurrent streams
-                    this.lstBidiRsps.add(msgRsp);
+                    if (!this.bolRolling)
+                        this.lstBidiRsps.add(msgRsp);
                     this.cntResponses++;
                 }
+                
+                if (this.fncAckMonitor != null)
+                    this.fncAckMonitor.accept(msgRsp.getClientRequestId());
             };
             
             stream = IngestionStream.newBidiStream(this.connIngest.getStubAsync(), this.srcRqstMsgs, fncRspSink);
@@ -1264,6 +1550,13 @@ public class IngestionChannel {
         else
             throw new UnsupportedOperationException(JavaRuntime.getQualifiedMethodNameSimple() + " - attempted to use an unsupported stream type " + this.enmStreamType);
 
+        // Monitor all outgoing messages - long-running streams do not record every request ID
+        stream.setTransmissionMonitor(this.statsStream::requestTransmitted);
+        stream.setErrorMonitor(this.fncErrorMonitor);
+        
+        if (this.bolRolling)
+            stream.disableRequestIdRecording();
+        
         return stream;
     }
     
@@ -0,0 +1,1963 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionSpoolBuffer.java
+ * Package: com.ospreydcs.dp.api.ingest.model.grpc
+ * Type: 	IngestionSpoolBuffer
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest.model.grpc;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.ospreydcs.dp.api.config.DpApiConfig;
+import com.ospreydcs.dp.api.config.ingest.DpIngestionConfig;
+import com.ospreydcs.dp.api.util.JavaRuntime;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest;
+
+/**
+ * <p>
+ * Ingestion message staging buffer with durable, disk-backed write-ahead spooling.
+ * </p>
+ * <p>
+ * Class instances extend the <code>{@link IngestionMemoryBuffer}</code> staging buffer with a spool of
+ * segmented, memory-mapped log files.  Ingest data request messages are staged in the memory queue buffer
+ * while its memory allocation is below capacity.  Once the memory allocation capacity would be exceeded,
+ * or the Ingestion Service has been marked as unavailable, offered messages are serialized and appended
+ * to the spool rather than blocking the supplier (back pressure) or growing the heap without limit.
+ * Spooled messages are replayed in order through the <code>IMessageSupplier&lt;IngestDataRequest&gt;</code>
+ * interface once the memory queue has been consumed.
+ * </p>
+ * <p>
+ * <h2>Message Ordering</h2>
+ * Message order is preserved between the memory queue and the spool.  Whenever the spool contains messages
+ * all newly offered messages are also appended to the spool, regardless of the current memory allocation.
+ * Since messages are always supplied from the memory queue first, all spooled messages are supplied after
+ * any message offered before them.  The buffer reverts to memory staging once the spool is exhausted.
+ * </p>
+ * <p>
+ * <h2>Spool Segments</h2>
+ * The spool is a sequence of fixed-size segment files within the spool directory, each mapped into
+ * memory when created.  Every segment has a small header containing the acknowledged offset of the segment
+ * (i.e., the checkpoint) followed by length-prefixed, CRC-checked message records.  Supplying a message to a
+ * consumer only advances the (volatile) read cursor of its segment.  The checkpoint is advanced once the
+ * Ingestion Service has confirmed the message, signaled through <code>{@link #acknowledge(String)}</code>
+ * by the stream layer.  A segment is closed and its file deleted once all of its messages have been
+ * acknowledged.
+ * </p>
+ * <p>
+ * <h2>Acknowledgment</h2>
+ * Every message supplied by the buffer, whether from the memory queue or the spool, is held as in flight
+ * until it is acknowledged by client request ID.  In-flight messages from the memory queue count against
+ * the memory allocation capacity, so newly offered messages are spooled while acknowledgments are pending.
+ * An orderly <code>{@link #shutdown()}</code> waits a limited time for all in-flight messages to be
+ * acknowledged.  Unacknowledged messages are never discarded: in-flight memory messages are written to the
+ * spool at shutdown and in-flight spool records remain behind their segment checkpoint.  Thus, delivery is
+ * at least once; a message may be replayed if its acknowledgment was lost.
+ * </p>
+ * <p>
+ * <h2>Service Outages</h2>
+ * While the Ingestion Service is marked unavailable nothing consumes the buffer, so an orderly
+ * <code>{@link #shutdown()}</code> does not wait for the buffer to drain.  It checkpoints the spool, writes
+ * all in-flight and memory queue messages to its head, and leaves the segment files on disk for the next
+ * activation.  Within the same session, once the service becomes available again the stream layer returns
+ * the messages in flight on the failed data streams to the head of the spool with
+ * <code>{@link #requeueInFlight()}</code> and restarts its streams, which then replay the spool in order.
+ * </p>
+ * <p>
+ * <h2>Recovery</h2>
+ * Any segment files remaining in the spool directory (e.g., from a prior shutdown with an unavailable
+ * Ingestion Service, or a process failure) are recovered upon activation.  Recovered messages are
+ * supplied first, starting from the checkpointed (acknowledged) offset of each segment, so messages
+ * that were supplied but never acknowledged are replayed.  Records failing the CRC check (e.g., a
+ * partially written record) terminate the recovery of that segment.
+ * </p>
+ * <p>
+ * <h2>Back Pressure</h2>
+ * The spool itself has a maximum disk allocation.  If back pressure is enabled <code>{@link #offer(List)}</code>
+ * blocks when the spool is at its allocation limit.  The <code>{@link #awaitQueueReady()}</code> operation
+ * only blocks when the spool is at its allocation limit, not when the memory queue is at capacity.
+ * A zero allocation limit indicates an unlimited spool.
+ * </p>
+ * <p>
+ * <h2>NOTES:</h2>
+ * <ul>
+ * <li>
+ * Segment contents are written through the operating system page cache, thus, spooled messages survive
+ * a failure of the Java process.  Segment files are forced to the storage device only when sealed
+ * (i.e., full) and at shutdown.
+ * </li>
+ * <li>
+ * A hard shutdown with <code>{@link #shutdownNow()}</code> does not discard spooled messages.  Any messages
+ * remaining in the memory queue, or in flight, are written to the spool before closing, and all
+ * unacknowledged messages are recovered at the next activation.
+ * </li>
+ * </ul>
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ * @see IngestionMemoryBuffer
+ */
+public class IngestionSpoolBuffer extends IngestionMemoryBuffer {
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new instance of <code>IngestionSpoolBuffer</code> with default parameters.
+     * </p>
+     * <p>
+     * The spool directory, segment size, and spool allocation limit are taken from the default
+     * values of the API library configuration, as are the memory queue capacity and back-pressure
+     * enforcement.
+     * </p>
+     *
+     * @return  a new ingestion spool buffer ready for activation
+     */
+    public static IngestionSpoolBuffer  create() {
+        return new IngestionSpoolBuffer(Path.of(STR_SPOOL_DIR));
+    }
+
+    /**
+     * <p>
+     * Creates a new instance of <code>IngestionSpoolBuffer</code> using the given spool directory.
+     * </p>
+     * <p>
+     * The segment size and spool allocation limit are taken from the default values of the API library
+     * configuration, as are the memory queue capacity and back-pressure enforcement.
+     * </p>
+     *
+     * @param pathSpoolDir  location of the spool segment files (created if necessary)
+     *
+     * @return  a new ingestion spool buffer ready for activation
+     */
+    public static IngestionSpoolBuffer  create(Path pathSpoolDir) {
+        return new IngestionSpoolBuffer(pathSpoolDir);
+    }
+
+    /**
+     * <p>
+     * Creates a new instance of <code>IngestionSpoolBuffer</code> initialized with the given parameters.
+     * </p>
+     *
+     * @param pathSpoolDir      location of the spool segment files (created if necessary)
+     * @param szMaxQueAlloc     maximum memory allocation of the memory queue buffer before spooling
+     * @param szSegment         size of each spool segment file (in bytes)
+     * @param szMaxSpoolAlloc   maximum disk allocation of the spool before back pressure (0 for unlimited)
+     *
+     * @return  a new ingestion spool buffer ready for activation
+     */
+    public static IngestionSpoolBuffer  create(Path pathSpoolDir, long szMaxQueAlloc, int szSegment, long szMaxSpoolAlloc) {
+        return new IngestionSpoolBuffer(pathSpoolDir, szMaxQueAlloc, szSegment, szMaxSpoolAlloc);
+    }
+
+
+    //
+    // Application Resources
+    //
+
+    /** The Ingestion Service client API default configuration */
+    private static final DpIngestionConfig  CFG_DEFAULT = DpApiConfig.getInstance().ingest;
+
+
+    //
+    // Class Constants - Default Values
+    //
+
+    /** Is logging enabled */
+    private static final Boolean    BOL_LOGGING = CFG_DEFAULT.logging.enabled;
+
+    /** Event logging level */
+    private static final String     STR_LOGGING_LEVEL = CFG_DEFAULT.logging.level;
+
+
+    /** Default maximum memory allocation of the memory queue buffer */
+    private static final Long       LNG_MAX_ALLOC = CFG_DEFAULT.stream.buffer.allocation;
+
+    /** Default spool segment file directory */
+    private static final String     STR_SPOOL_DIR = CFG_DEFAULT.spool.directory;
+
+    /** Default spool segment file size */
+    private static final Integer    INT_SEGMENT_SIZE = CFG_DEFAULT.spool.segmentSize;
+
+    /** Default maximum disk allocation of the spool */
+    private static final Long       LNG_SPOOL_MAX_ALLOC = CFG_DEFAULT.spool.allocation;
+
+
+    /** Index of the first spool segment - leaves room for segments prepended at hard shutdown */
+    private static final long       LNG_SEGMENT_INDEX_BASE = 1_000_000_000L;
+
+
+    /** Polling timeout used while waiting for message availability */
+    private static final long       LNG_TIMEOUT_POLL = 15;
+
+    /** Polling timeout units used while waiting for message availability */
+    private static final TimeUnit   TU_TIMEOUT_POLL = TimeUnit.MILLISECONDS;
+
+
+    /** Timeout limit to wait for in-flight message acknowledgments at shutdown */
+    private static final long       LNG_TIMEOUT_ACK = CFG_DEFAULT.timeout.limit;
+
+    /** Timeout units to wait for in-flight message acknowledgments at shutdown */
+    private static final TimeUnit   TU_TIMEOUT_ACK = CFG_DEFAULT.timeout.unit;
+
+
+    //
+    // Class Resources
+    //
+
+    /** Class event logger */
+    private static final Logger     LOGGER = LogManager.getLogger();
+
+
+    /**
+     * <p>
+     * Class Initialization - Initializes the event logger, sets logging level.
+     * </p>
+     */
+    static {
+        Configurator.setLevel(LOGGER, Level.toLevel(STR_LOGGING_LEVEL, LOGGER.getLevel()));
+    }
+
+
+    //
+    // Configuration Parameters
+    //
+
+    /** The location of the spool segment files */
+    private final Path      pathSpoolDir;
+
+    /** The size of each spool segment file */
+    private final int       szSegment;
+
+    /** The maximum disk allocation of the spool (zero for unlimited) */
+    private long            szMaxSpoolAlloc;
+
+
+    //
+    // Instance Resources
+    //
+
+    /** The ordered collection of spool segments - head is oldest unacknowledged segment, tail is write segment */
+    private final LinkedList<SpoolSegment>  lstSegments = new LinkedList<>();
+
+    /** The messages supplied but not yet acknowledged, keyed by client request ID (IDs need not be unique) */
+    private final Map<String, Deque<InFlight>>  mapInFlight = new HashMap<>();
+
+
+    /** The spool lock - guards all spool state */
+    private final Lock          lckSpool = new ReentrantLock();
+
+    /** The message available lock condition (signaled when messages are offered) */
+    private final Condition     cndMsgAvailable = lckSpool.newCondition();
+
+    /** The spool ready lock condition (signaled when spool allocation falls below maximum) */
+    private final Condition     cndSpoolReady = lckSpool.newCondition();
+
+    /** The buffer empty lock condition (signaled when both the memory queue and spool are empty) */
+    private final Condition     cndBufferEmpty = lckSpool.newCondition();
+
+    /** The all acknowledged lock condition (signaled when no messages remain in flight) */
+    private final Condition     cndAllAcked = lckSpool.newCondition();
+
+
+    //
+    // State Variables
+    //
+
+    /** The Ingestion Service availability flag - all messages are spooled when unavailable */
+    private boolean     bolServiceAvail = true;
+
+    /** The index of the next spool segment to be created */
+    private long        indNextSegment = LNG_SEGMENT_INDEX_BASE;
+
+    /** The number of messages currently within the spool */
+    private int         cntSpoolMsgs = 0;
+
+    /** The current disk allocation of the messages within the spool */
+    private long        szSpoolAlloc = 0;
+
+    /** The total number of messages written to the spool since creation */
+    private long        cntSpoolWrites = 0;
+
+    /** The number of corrupt spool records discarded since creation */
+    private long        cntSpoolCorrupt = 0;
+
+    /** The number of messages currently in flight (supplied but not acknowledged) */
+    private int         cntInFlight = 0;
+
+    /** The memory allocation of in-flight messages supplied from the memory queue */
+    private long        szInFlightAlloc = 0;
+
+    /** The sequence number of the next supplied message (orders in-flight messages) */
+    private long        lngNextSeq = 0;
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>IngestionSpoolBuffer</code> using the given spool directory.
+     * </p>
+     * <p>
+     * The segment size and spool allocation limit are taken from the default values of the API library
+     * configuration, as are the memory queue capacity and back-pressure enforcement.
+     * </p>
+     *
+     * @param pathSpoolDir  location of the spool segment files (created if necessary)
+     */
+    public IngestionSpoolBuffer(Path pathSpoolDir) {
+        this(pathSpoolDir, LNG_MAX_ALLOC, INT_SEGMENT_SIZE, LNG_SPOOL_MAX_ALLOC);
+    }
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>IngestionSpoolBuffer</code> initialized with the given parameters.
+     * </p>
+     *
+     * @param pathSpoolDir      location of the spool segment files (created if necessary)
+     * @param szMaxQueAlloc     maximum memory allocation of the memory queue buffer before spooling
+     * @param szSegment         size of each spool segment file (in bytes)
+     * @param szMaxSpoolAlloc   maximum disk allocation of the spool before back pressure (0 for unlimited)
+     */
+    public IngestionSpoolBuffer(Path pathSpoolDir, long szMaxQueAlloc, int szSegment, long szMaxSpoolAlloc) {
+        super(szMaxQueAlloc);
+
+        this.pathSpoolDir = pathSpoolDir;
+        this.szSegment = szSegment;
+        this.szMaxSpoolAlloc = szMaxSpoolAlloc;
+    }
+
+
+    //
+    // Configuration
+    //
+
+    /**
+     * <p>
+     * Sets the maximum disk allocation of the spool.
+     * </p>
+     * <p>
+     * If the spool allocation reaches the given value then <code>{@link #awaitQueueReady()}</code> blocks,
+     * and <code>{@link #offer(List)}</code> blocks if back pressure is enabled.  A value of zero
+     * indicates an unlimited spool.
+     * </p>
+     *
+     * @param szMaxSpoolAlloc   maximum disk allocation of the spool (in bytes), or 0 for unlimited
+     */
+    public void setSpoolCapacity(long szMaxSpoolAlloc) {
+        this.lckSpool.lock();
+        try {
+            this.szMaxSpoolAlloc = szMaxSpoolAlloc;
+            this.cndSpoolReady.signalAll();
+
+        } finally {
+            this.lckSpool.unlock();
+        }
+    }
+
+    /**
+     * <p>
+     * Sets the availability of the Ingestion Service.
+     * </p>
+     * <p>
+     * When the Ingestion Service is marked unavailable all offered messages are written directly to
+     * the spool so that no heap allocation is held during an outage.  Messages are supplied from the
+     * spool once they are requested by a consumer, regardless of this setting.
+     * </p>
+     * <p>
+     * Within the ingestion stream implementation the availability follows the connectivity state of the
+     * gRPC channel to the Ingestion Service and the termination of its gRPC data streams.
+     * </p>
+     *
+     * @param bolServiceAvail   <code>true</code> if the Ingestion Service is available,
+     *                          <code>false</code> to spool all offered messages
+     */
+    public void setServiceAvailable(boolean bolServiceAvail) {
+        this.lckSpool.lock();
+        try {
+            this.bolServiceAvail = bolServiceAvail;
+
+            this.cndBufferEmpty.signalAll();
+            this.cndMsgAvailable.signalAll();
+
+        } finally {
+            this.lckSpool.unlock();
+        }
+
+        if (BOL_LOGGING)
+            LOGGER.info("{}: Ingestion Service availability set to {}.", JavaRuntime.getMethodName(), bolServiceAvail);
+    }
+
+
+    //
+    // State Inquiry
+    //
+
+    /**
+     * @return  the location of the spool segment files
+     */
+    public Path getSpoolDirectory() {
+        return this.pathSpoolDir;
+    }
+
+    /**
+     * @return  the maximum disk allocation of the spool (in bytes), or 0 if unlimited
+     */
+    public long getMaxSpoolAllocation() {
+        return this.szMaxSpoolAlloc;
+    }
+
+    /**
+     * @return  <code>true</code> if the Ingestion Service is marked available, <code>false</code> otherwise
+     */
+    public boolean isServiceAvailable() {
+        return this.bolServiceAvail;
+    }
+
+    /**
+     * <p>
+     * Returns the number of messages currently within the spool.
+     * </p>
+     *
+     * @return  number of request messages awaiting replay from the spool
+     */
+    public int getSpoolSize() {
+        return this.cntSpoolMsgs;
+    }
+
+    /**
+     * <p>
+     * Returns the current allocation of the messages within the spool.
+     * </p>
+     *
+     * @return  serialized size (in bytes) of all request messages awaiting replay from the spool
+     */
+    public long getSpoolAllocation() {
+        return this.szSpoolAlloc;
+    }
+
+    /**
+     * @return  the current number of spool segment files
+     */
+    public int getSpoolSegmentCount() {
+        return this.lstSegments.size();
+    }
+
+    /**
+     * @return  the total number of request messages written to the spool since creation
+     */
+    public long getSpoolWriteCount() {
+        return this.cntSpoolWrites;
+    }
+
+    /**
+     * @return  the number of corrupt spool records discarded since creation
+     */
+    public long getSpoolCorruptCount() {
+        return this.cntSpoolCorrupt;
+    }
+
+    /**
+     * @return  the number of supplied messages awaiting acknowledgment by the Ingestion Service
+     */
+    public int getInFlightCount() {
+        return this.cntInFlight;
+    }
+
+    /**
+     * <p>
+     * Returns the current size of the staging buffer.
+     * </p>
+     * <p>
+     * The returned value is the number of request messages in the memory queue buffer plus the number
+     * of request messages within the spool.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.ingest.model.grpc.IngestionMemoryBuffer#getQueueSize()
+     */
+    @Override
+    public int getQueueSize() {
+        return super.getQueueSize() + this.cntSpoolMsgs;
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Acknowledges the in-flight message with the given client request ID.
+     * </p>
+     * <p>
+     * Invoked by the stream layer once the Ingestion Service has responded to the request message, whether
+     * the request was accepted or rejected.  If the message was supplied from the spool the checkpoint of its
+     * segment is advanced over all leading acknowledged records, and the segment file is deleted once all of
+     * its records have been acknowledged.  If several in-flight messages share the client request ID the
+     * earliest supplied message is acknowledged.
+     * </p>
+     *
+     * @param strClientRqstId   client request ID of the confirmed request message
+     *
+     * @return  <code>true</code> if an in-flight message was acknowledged,
+     *          <code>false</code> if no message with the given ID is in flight (e.g., the spool was closed)
+     */
+    public boolean acknowledge(String strClientRqstId) {
+        this.lckSpool.lock();
+        try {
+            Deque<InFlight> queMsgs = this.mapInFlight.get(strClientRqstId);
+
+            if (queMsgs == null)
+                return false;
+
+            InFlight    recMsg = queMsgs.pollFirst();
+
+            if (queMsgs.isEmpty())
+                this.mapInFlight.remove(strClientRqstId);
+
+            this.settle(recMsg);
+
+            return true;
+
+        } finally {
+            this.lckSpool.unlock();
+        }
+    }
+
+    /**
+     * <p>
+     * Blocks until all in-flight messages have been acknowledged, or the timeout limit is exceeded.
+     * </p>
+     *
+     * @param lngTimeout    timeout limit to wait for acknowledgments
+     * @param tuTimeout     timeout units
+     *
+     * @return  <code>true</code> if no messages remain in flight, <code>false</code> if the timeout limit was exceeded
+     *
+     * @throws InterruptedException interrupted while waiting for acknowledgments
+     */
+    public boolean awaitAcknowledged(long lngTimeout, TimeUnit tuTimeout) throws InterruptedException {
+        long    lngNanos = tuTimeout.toNanos(lngTimeout);
+
+        this.lckSpool.lock();
+        try {
+            while (this.cntInFlight > 0) {
+
+                if (lngNanos <= 0L)
+                    return false;
+
+                lngNanos = this.cndAllAcked.awaitNanos(lngNanos);
+            }
+
+            return true;
+
+        } finally {
+            this.lckSpool.unlock();
+        }
+    }
+
+    /**
+     * <p>
+     * Returns all in-flight messages to the head of the spool for replay.
+     * </p>
+     * <p>
+     * Invoked by the stream layer before restarting failed data streams, whose unacknowledged messages
+     * would otherwise remain in flight until shutdown.  The in-flight messages, in supply order, followed by
+     * all messages remaining in the memory queue are written to a new segment at the head of the spool, thus
+     * they are supplied again before any other message.  The original spool records of in-flight messages
+     * are then released from their segments.
+     * </p>
+     * <p>
+     * Delivery remains at least once: a message still in flight on a surviving data stream is replayed
+     * even if it is later confirmed by the Ingestion Service.
+     * </p>
+     *
+     * @return  the number of in-flight messages returned to the spool
+     *
+     * @throws IllegalStateException    the spool segment could not be written
+     */
+    public int requeueInFlight() throws IllegalStateException {
+        this.lckSpool.lock();
+        try {
+            List<InFlight>  lstRecs = this.mapInFlight.values().stream()
+                    .flatMap(Deque::stream)
+                    .sorted(Comparator.comparingLong(rec -> rec.lngSeq))
+                    .toList();
+
+            if (lstRecs.isEmpty())
+                return 0;
+
+            List<IngestDataRequest> lstMsgs = new ArrayList<>(lstRecs.size() + super.getQueueSize());
+
+            for (InFlight rec : lstRecs) {
+                if (rec.msgRqst != null) {
+                    lstMsgs.add(rec.msgRqst);
+
+                    continue;
+                }
+
+                try {
+                    lstMsgs.add(IngestDataRequest.parseFrom(rec.seg.record(rec)));
+
+                } catch (InvalidProtocolBufferException e) {
+                    this.cntSpoolCorrupt++;
+
+                    if (BOL_LOGGING)
+                        LOGGER.error("{} - Discarding corrupt spool record: {}.", JavaRuntime.getQualifiedMethodNameSimple(), e.getMessage());
+                }
+            }
+
+            while (super.getQueueSize() > 0)
+                lstMsgs.add(super.poll());
+
+            this.mapInFlight.clear();
+            this.cntInFlight = 0;
+            this.szInFlightAlloc = 0;
+
+            // Write the copies before releasing the original records so the spool never loses a message
+            this.prependToSpool(lstMsgs);
+
+            for (InFlight rec : lstRecs)
+                if (rec.seg != null) {
+                    rec.seg.acknowledge(rec);
+                    this.retireIfAcknowledged(rec.seg);
+                }
+
+            this.cndAllAcked.signalAll();
+            this.cndMsgAvailable.signalAll();
+
+            if (BOL_LOGGING)
+                LOGGER.info("{}: Returned {} in-flight messages to the spool head.", JavaRuntime.getMethodName(), lstRecs.size());
+
+            return lstRecs.size();
+
+        } catch (IOException e) {
+            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() + " - failed to write spool segment: " + e.getMessage();
+
+            if (BOL_LOGGING)
+                LOGGER.error(strMsg);
+
+            throw new IllegalStateException(strMsg, e);
+
+        } finally {
+            this.lckSpool.unlock();
+        }
+    }
+
+    /**
+     * <p>
+     * Blocks until the spool allocation is below its maximum.
+     * </p>
+     * <p>
+     * In contrast to the base class this method does not block when the memory queue buffer is at
+     * capacity, since messages are then spooled.  The method returns immediately if the spool allocation
+     * is unlimited.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.ingest.model.grpc.IngestionMemoryBuffer#awaitQueueReady()
+     */
+    @Override
+    public void awaitQueueReady() throws InterruptedException {
+        this.lckSpool.lock();
+        try {
+            while (this.isSpoolFull()) {
+
+                if (BOL_LOGGING)
+                    LOGGER.info("{}: Blocking on spool allocation {} > capacity {} (back pressure event).",
+                            JavaRuntime.getMethodName(),
+                            this.szSpoolAlloc,
+                            this.szMaxSpoolAlloc);
+
+                this.cndSpoolReady.await();
+            }
+
+        } finally {
+            this.lckSpool.unlock();
+        }
+    }
+
+    /**
+     * <p>
+     * Blocks until both the memory queue buffer and the spool are empty, or the Ingestion Service is
+     * marked unavailable.
+     * </p>
+     * <p>
+     * Nothing consumes the buffer during a service outage, so the method returns immediately while the
+     * service is unavailable.  Any remaining messages stay within the buffer (see <code>{@link #shutdown()}</code>).
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.ingest.model.grpc.IngestionMemoryBuffer#awaitQueueEmpty()
+     */
+    @Override
+    public void awaitQueueEmpty() throws InterruptedException {
+        this.lckSpool.lock();
+        try {
+            while (this.bolServiceAvail && (super.getQueueSize() > 0 || this.cntSpoolMsgs > 0)) {
+
+                if (BOL_LOGGING)
+                    LOGGER.info("{}: Waiting for buffer empty, queue size = {}, spool size = {}.",
+                            JavaRuntime.getMethodName(),
+                            super.getQueueSize(),
+                            this.cntSpoolMsgs);
+
+                this.cndBufferEmpty.await(LNG_TIMEOUT_POLL, TU_TIMEOUT_POLL);
+            }
+
+        } finally {
+            this.lckSpool.unlock();
+        }
+    }
+
+
+    //
+    // IMessageConsumer<IngestDataRequest> Interface
+    //
+
+    /**
+     * <p>
+     * Activates the buffer and recovers any spool segments remaining within the spool directory.
+     * </p>
+     * <p>
+     * Recovered messages are supplied before any newly offered messages.
+     * </p>
+     *
+     * @throws IllegalStateException    the spool directory could not be created or recovered
+     *
+     * @see com.ospreydcs.dp.api.ingest.model.grpc.IngestionMemoryBuffer#activate()
+     */
+    @Override
+    synchronized
+    public boolean activate() throws IllegalStateException {
+
+        // Check if already enabled
+        if (this.isAccepting())
+            return false;
+
+        this.lckSpool.lock();
+        try {
+            this.recoverSpool();    // throws IllegalStateException
+
+        } finally {
+            this.lckSpool.unlock();
+        }
+
+        return super.activate();
+    }
+
+    /**
+     * <p>
+     * Performs an orderly shut down of the buffer.
+     * </p>
+     * <p>
+     * Blocks until both the memory queue and the spool are exhausted, then waits a limited time for all
+     * in-flight messages to be acknowledged before closing all spool resources.  Messages still unacknowledged
+     * at the timeout limit are preserved within the spool and recovered at the next activation.
+     * </p>
+     * <p>
+     * If the Ingestion Service is marked unavailable the method does not wait for the buffer to drain nor for
+     * acknowledgments.  All remaining messages are checkpointed within the spool, which is left on disk for
+     * recovery at the next activation.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.ingest.model.grpc.IngestionMemoryBuffer#shutdown()
+     */
+    @Override
+    synchronized
+    public boolean shutdown() throws InterruptedException {
+
+        boolean bolResult = super.shutdown();   // blocks on awaitQueueEmpty() while the service is available
+
+        if (bolResult) {
+            boolean bolAcked = this.bolServiceAvail && this.awaitAcknowledged(LNG_TIMEOUT_ACK, TU_TIMEOUT_ACK);
+
+            if (!bolAcked && BOL_LOGGING)
+                LOGGER.warn("{}: Closing with service available = {}, {} in-flight and {} queued messages retained in spool.",
+                        JavaRuntime.getMethodName(),
+                        this.bolServiceAvail,
+                        this.cntInFlight,
+                        this.getQueueSize());
+
+            this.lckSpool.lock();
+            try {
+                this.preserveMemoryMessages();
+                this.closeSpool();
+
+            } catch (IOException e) {
+                if (BOL_LOGGING)
+                    LOGGER.error("{} - Failed to preserve in-flight messages in spool: {}.",
+                            JavaRuntime.getQualifiedMethodNameSimple(),
+                            e.getMessage());
+
+            } finally {
+                this.lckSpool.unlock();
+            }
+        }
+
+        return bolResult;
+    }
+
+    /**
+     * <p>
+     * Performs a hard shutdown of the buffer without discarding data.
+     * </p>
+     * <p>
+     * All unacknowledged in-flight messages and all request messages remaining in the memory queue buffer
+     * are written to the spool, then the spool is closed.  The spooled messages remain within the spool
+     * directory and are recovered at the next activation.  The method returns immediately after closing
+     * the spool.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.ingest.model.grpc.IngestionMemoryBuffer#shutdownNow()
+     */
+    @Override
+    synchronized
+    public void shutdownNow() {
+
+        this.lckSpool.lock();
+        try {
+            this.preserveMemoryMessages();
+
+        } catch (IOException e) {
+            if (BOL_LOGGING)
+                LOGGER.error("{} - Failed to preserve memory queue messages in spool: {}.",
+                        JavaRuntime.getQualifiedMethodNameSimple(),
+                        e.getMessage());
+
+        } finally {
+            this.closeSpool();
+            this.cndBufferEmpty.signalAll();
+            this.cndSpoolReady.signalAll();
+            this.cndAllAcked.signalAll();
+
+            this.lckSpool.unlock();
+        }
+
+        super.shutdownNow();
+    }
+
+    /**
+     * <p>
+     * Add the given list of ingestion request messages to the buffer for transmission staging.
+     * </p>
+     * <p>
+     * Messages are staged in the memory queue buffer if the spool is empty, the Ingestion Service is marked
+     * available, and the memory queue capacity is not exceeded.  Otherwise the messages are appended to the
+     * spool.  If the spool is at its allocation limit and back pressure is enabled the method blocks until
+     * the spool drains below its limit.
+     * </p>
+     *
+     * @throws IllegalStateException    the buffer is inactive, or a spool write failed
+     *
+     * @see com.ospreydcs.dp.api.ingest.model.grpc.IngestionMemoryBuffer#offer(java.util.List)
+     */
+    @Override
+    synchronized
+    public void offer(List<IngestDataRequest> lstMsgRqsts) throws IllegalStateException, InterruptedException {
+
+        // Check if enabled
+        if (!this.isAccepting()) {
+            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() + " - spool buffer is not enabled.";
+
+            if (BOL_LOGGING)
+                LOGGER.warn(strMsg);
+
+            throw new IllegalStateException(strMsg);
+        }
+
+        this.lckSpool.lock();
+        try {
+            this.stage(lstMsgRqsts, true, 0L);
+
+        } finally {
+            this.lckSpool.unlock();
+        }
+    }
+
+    /**
+     * <p>
+     * Add the given list of ingestion request messages to the buffer for transmission staging with timeout.
+     * </p>
+     * <p>
+     * Operation is the same as <code>{@link #offer(List)}</code> except that a blocking spool wait
+     * (back pressure) is limited by the given timeout.  If the timeout is exceeded the messages are not
+     * accepted.
+     * </p>
+     *
+     * @return  <code>true</code> if the messages were accepted, <code>false</code> if the timeout limit was exceeded
+     *
+     * @throws IllegalStateException    the buffer is inactive, or a spool write failed
+     *
+     * @see com.ospreydcs.dp.api.ingest.model.grpc.IngestionMemoryBuffer#offer(java.util.List, long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    synchronized
+    public boolean offer(List<IngestDataRequest> lstMsgRqsts, long lngTimeout, TimeUnit tuTimeout)
+            throws IllegalStateException, InterruptedException {
+
+        // Check if enabled
+        if (!this.isAccepting()) {
+            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() + " - spool buffer is not enabled.";
+
+            if (BOL_LOGGING)
+                LOGGER.warn(strMsg);
+
+            throw new IllegalStateException(strMsg);
+        }
+
+        this.lckSpool.lock();
+        try {
+            return this.stage(lstMsgRqsts, false, tuTimeout.toNanos(lngTimeout));
+
+        } finally {
+            this.lckSpool.unlock();
+        }
+    }
+
+
+    //
+    // IMessageSupplier<IngestDataRequest> Interface
+    //
+
+    /**
+     * <p>
+     * Determines whether or not messages are currently being supplied, either from the memory queue
+     * buffer or the spool.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.ingest.model.grpc.IngestionMemoryBuffer#isSupplying()
+     */
+    @Override
+    public boolean isSupplying() {
+        return super.isSupplying() || this.cntSpoolMsgs > 0;
+    }
+
+    /**
+     *
+     * @see com.ospreydcs.dp.api.ingest.model.grpc.IngestionMemoryBuffer#take()
+     */
+    @Override
+    public IngestDataRequest take() throws IllegalStateException, InterruptedException {
+
+        IngestDataRequest   msgRqst;
+        while ((msgRqst = this.poll(LNG_TIMEOUT_POLL, TU_TIMEOUT_POLL)) == null)
+            ;
+
+        return msgRqst;
+    }
+
+    /**
+     *
+     * @see com.ospreydcs.dp.api.ingest.model.grpc.IngestionMemoryBuffer#poll()
+     */
+    @Override
+    public IngestDataRequest poll() throws IllegalStateException {
+
+        // Check state
+        this.checkSupplying();
+
+        this.lckSpool.lock();
+        try {
+            return this.nextMessage();
+
+        } finally {
+            this.lckSpool.unlock();
+        }
+    }
+
+    /**
+     *
+     * @see com.ospreydcs.dp.api.ingest.model.grpc.IngestionMemoryBuffer#poll(long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public IngestDataRequest poll(long cntTimeout, TimeUnit tuTimeout) throws IllegalStateException, InterruptedException {
+
+        // Check state
+        this.checkSupplying();
+
+        long    lngNanos = tuTimeout.toNanos(cntTimeout);
+
+        this.lckSpool.lock();
+        try {
+            IngestDataRequest   msgRqst;
+            while ((msgRqst = this.nextMessage()) == null) {
+
+                // No more messages will arrive
+                if (!this.isAccepting())
+                    return null;
+
+                if (lngNanos <= 0L)
+                    return null;
+
+                lngNanos = this.cndMsgAvailable.awaitNanos(lngNanos);
+            }
+
+            return msgRqst;
+
+        } finally {
+            this.lckSpool.unlock();
+        }
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Checks that the buffer is supplying messages, throwing an exception if not.
+     * </p>
+     *
+     * @throws IllegalStateException    the buffer is inactive and all messages have been consumed
+     */
+    private void checkSupplying() throws IllegalStateException {
+
+        if (!this.isSupplying()) {
+            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() + " - supplier is inactive and buffer is empty.";
+
+            if (BOL_LOGGING)
+                LOGGER.warn(strMsg);
+
+            throw new IllegalStateException(strMsg);
+        }
+    }
+
+    /**
+     * <p>
+     * Determines whether or not the spool is at its maximum allocation.
+     * </p>
+     * <p>
+     * Must be called while holding the spool lock.
+     * </p>
+     *
+     * @return  <code>true</code> if the spool allocation is limited and at capacity
+     */
+    private boolean isSpoolFull() {
+        return this.szMaxSpoolAlloc > 0 && this.szSpoolAlloc >= this.szMaxSpoolAlloc;
+    }
+
+    /**
+     * <p>
+     * Stages the given messages in either the memory queue buffer or the spool.
+     * </p>
+     * <p>
+     * Must be called while holding the spool lock.
+     * </p>
+     *
+     * @param lstMsgRqsts   ordered list of ingest data requests for staging
+     * @param bolNoTimeout  wait indefinitely for spool space under back pressure
+     * @param lngNanos      timeout limit (nanoseconds) for spool space if <code>bolNoTimeout</code> is <code>false</code>
+     *
+     * @return  <code>true</code> if messages were staged, <code>false</code> if the timeout limit was exceeded
+     *
+     * @throws IllegalStateException    a spool write failed
+     * @throws InterruptedException     interrupted while waiting for spool space
+     */
+    private boolean stage(List<IngestDataRequest> lstMsgRqsts, boolean bolNoTimeout, long lngNanos)
+            throws IllegalStateException, InterruptedException {
+
+        // Compute the the memory allocation of the request messages
+        long    szAlloc = lstMsgRqsts.stream().mapToLong(msg -> msg.getSerializedSize()).sum();
+
+        // Stage in memory if order is preserved and the memory capacity is available (including unacknowledged messages)
+        if (this.bolServiceAvail
+                && this.cntSpoolMsgs == 0
+                && super.getQueueAllocation() + this.szInFlightAlloc + szAlloc < super.getMaxQueueAllocation()) {
+
+            super.offer(lstMsgRqsts);
+            this.cndMsgAvailable.signalAll();
+
+            return true;
+        }
+
+        // Enforce back pressure if spool is at capacity
+        while (this.isSpoolFull() && super.hasBackPressure()) {
+
+            if (BOL_LOGGING)
+                LOGGER.info("{}: Blocking on spool allocation {} > maximum {} (back pressure event).",
+                        JavaRuntime.getMethodName(),
+                        this.szSpoolAlloc,
+                        this.szMaxSpoolAlloc);
+
+            if (bolNoTimeout) {
+                this.cndSpoolReady.await();
+
+            } else {
+                if (lngNanos <= 0L)
+                    return false;
+
+                lngNanos = this.cndSpoolReady.awaitNanos(lngNanos);
+            }
+        }
+
+        // Append messages to spool
+        try {
+            for (IngestDataRequest msgRqst : lstMsgRqsts)
+                this.appendToSpool(msgRqst);
+
+        } catch (IOException e) {
+            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() + " - failed to write spool segment: " + e.getMessage();
+
+            if (BOL_LOGGING)
+                LOGGER.error(strMsg);
+
+            throw new IllegalStateException(strMsg, e);
+        }
+
+        this.cndMsgAvailable.signalAll();
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Returns the next available message from either the memory queue buffer or the spool,
+     * or <code>null</code> if none is available.
+     * </p>
+     * <p>
+     * The memory queue is always consumed first since all memory messages precede any spooled messages.
+     * The returned message is held in flight until acknowledged.
+     * Signals all conditions waiting on message consumption.
+     * Must be called while holding the spool lock.
+     * </p>
+     *
+     * @return  the next available request message, or <code>null</code> if none
+     */
+    private IngestDataRequest nextMessage() {
+
+        try {
+            // Memory queue messages come first
+            if (super.getQueueSize() > 0) {
+                IngestDataRequest   msgRqst = super.poll();
+
+                if (msgRqst != null) {
+                    this.track(msgRqst, InFlight.ofMemory(this.lngNextSeq++, msgRqst));
+
+                    return msgRqst;
+                }
+            }
+
+            // Spooled messages
+            while (this.cntSpoolMsgs > 0) {
+                IngestDataRequest   msgRqst = this.readFromSpool();
+
+                if (msgRqst != null)
+                    return msgRqst;
+            }
+
+            return null;
+
+        } finally {
+
+            if (!this.isSpoolFull())
+                this.cndSpoolReady.signalAll();
+
+            if (super.getQueueSize() == 0 && this.cntSpoolMsgs == 0)
+                this.cndBufferEmpty.signalAll();
+        }
+    }
+
+    /**
+     * <p>
+     * Appends the given message to the tail of the spool, creating a new segment if necessary.
+     * </p>
+     *
+     * @param msgRqst   request message to be spooled
+     *
+     * @throws IOException  unable to create or write to a spool segment
+     */
+    private void appendToSpool(IngestDataRequest msgRqst) throws IOException {
+
+        byte[]  arrMsg = msgRqst.toByteArray();
+
+        SpoolSegment    segWrite = this.lstSegments.peekLast();
+
+        if (segWrite == null || !segWrite.append(arrMsg)) {
+
+            // Seal the full segment
+            if (segWrite != null)
+                segWrite.seal();
+
+            segWrite = SpoolSegment.create(this.pathSpoolDir, this.indNextSegment++, Math.max(this.szSegment, SpoolSegment.sizeRequired(arrMsg)));
+            this.lstSegments.addLast(segWrite);
+            segWrite.append(arrMsg);
+        }
+
+        this.cntSpoolMsgs++;
+        this.szSpoolAlloc += arrMsg.length;
+        this.cntSpoolWrites++;
+    }
+
+    /**
+     * <p>
+     * Inserts the given messages at the head of the spool (i.e., before all currently spooled messages).
+     * </p>
+     * <p>
+     * Used when preserving the memory queue at shutdown and when requeuing in-flight messages.  The messages are written to a new
+     * segment which is given an index preceding the current head segment so that recovery ordering
+     * is maintained.
+     * </p>
+     *
+     * @param lstMsgs   ordered list of messages to be placed at the head of the spool
+     *
+     * @throws IOException  unable to create or write the spool segment
+     */
+    private void prependToSpool(List<IngestDataRequest> lstMsgs) throws IOException {
+
+        SpoolSegment    segHead = this.lstSegments.peekFirst();
+
+        // If the spool is empty this is just a normal append
+        if (segHead == null) {
+            for (IngestDataRequest msgRqst : lstMsgs)
+                this.appendToSpool(msgRqst);
+
+            return;
+        }
+
+        // Write all messages to a single segment preceding the head segment
+        List<byte[]>    lstArrMsgs = lstMsgs.stream().map(IngestDataRequest::toByteArray).toList();
+        int             szRequired = lstArrMsgs.stream().mapToInt(SpoolSegment::sizeRequired).sum();
+
+        SpoolSegment    segNew = SpoolSegment.create(this.pathSpoolDir, segHead.getIndex() - 1, Math.max(szRequired, SpoolSegment.INT_SZ_HEADER));
+        for (byte[] arrMsg : lstArrMsgs) {
+            segNew.append(arrMsg);
+
+            this.cntSpoolMsgs++;
+            this.szSpoolAlloc += arrMsg.length;
+            this.cntSpoolWrites++;
+        }
+        segNew.seal();
+
+        this.lstSegments.addFirst(segNew);
+    }
+
+    /**
+     * <p>
+     * Reads the next unread message from the spool and holds it in flight.
+     * </p>
+     * <p>
+     * Only the read cursor of the segment is advanced, the segment checkpoint is advanced upon acknowledgment.
+     * Returns <code>null</code> if the next record was corrupt (and has been discarded).
+     * </p>
+     *
+     * @return  the next spooled message, or <code>null</code> if the record was corrupt
+     */
+    private IngestDataRequest readFromSpool() {
+
+        // Leading segments may be fully read but awaiting acknowledgments
+        SpoolSegment    segRead = null;
+        for (SpoolSegment seg : this.lstSegments)
+            if (!seg.isExhausted()) {
+                segRead = seg;
+                break;
+            }
+
+        if (segRead == null) {
+
+            // Spool accounting is inconsistent - reset
+            this.cntSpoolMsgs = 0;
+            this.szSpoolAlloc = 0;
+
+            return null;
+        }
+
+        byte[]      arrMsg = segRead.next();
+        InFlight    recMsg = segRead.pend(this.lngNextSeq++);
+
+        this.cntSpoolMsgs--;
+        this.szSpoolAlloc -= arrMsg.length;
+
+        try {
+            IngestDataRequest   msgRqst = IngestDataRequest.parseFrom(arrMsg);
+
+            this.track(msgRqst, recMsg);
+
+            return msgRqst;
+
+        } catch (InvalidProtocolBufferException e) {
+            this.cntSpoolCorrupt++;
+
+            // Corrupt records are never replayed
+            segRead.acknowledge(recMsg);
+            this.retireIfAcknowledged(segRead);
+
+            if (BOL_LOGGING)
+                LOGGER.error("{} - Discarding corrupt spool record: {}.", JavaRuntime.getQualifiedMethodNameSimple(), e.getMessage());
+
+            return null;
+        }
+    }
+
+    /**
+     * <p>
+     * Holds the given supplied message in flight until acknowledged.
+     * </p>
+     * <p>
+     * Must be called while holding the spool lock.
+     * </p>
+     *
+     * @param msgRqst   the supplied request message
+     * @param recMsg    the in-flight record of the message
+     */
+    private void track(IngestDataRequest msgRqst, InFlight recMsg) {
+        this.mapInFlight.computeIfAbsent(msgRqst.getClientRequestId(), k -> new ArrayDeque<>()).addLast(recMsg);
+
+        this.cntInFlight++;
+        this.szInFlightAlloc += recMsg.szAlloc;
+    }
+
+    /**
+     * <p>
+     * Settles the given acknowledged in-flight message.
+     * </p>
+     * <p>
+     * Spool records advance the checkpoint of their segment, which is retired once all its records are
+     * acknowledged.  Must be called while holding the spool lock.
+     * </p>
+     *
+     * @param recMsg    the acknowledged in-flight record
+     */
+    private void settle(InFlight recMsg) {
+        this.cntInFlight--;
+        this.szInFlightAlloc -= recMsg.szAlloc;
+
+        if (recMsg.seg != null) {
+            recMsg.seg.acknowledge(recMsg);
+            this.retireIfAcknowledged(recMsg.seg);
+        }
+
+        if (this.cntInFlight == 0)
+            this.cndAllAcked.signalAll();
+    }
+
+    /**
+     * <p>
+     * Removes and retires the given segment if all of its records have been read and acknowledged.
+     * </p>
+     * <p>
+     * Must be called while holding the spool lock.
+     * </p>
+     *
+     * @param seg   the spool segment
+     */
+    private void retireIfAcknowledged(SpoolSegment seg) {
+        if (seg.isAcknowledged() && this.lstSegments.remove(seg))
+            this.retireSegment(seg);
+    }
+
+    /**
+     * <p>
+     * Writes all in-flight memory messages, followed by all messages remaining in the memory queue, to the
+     * head of the spool.
+     * </p>
+     * <p>
+     * All these messages precede any spooled messages.  The in-flight memory messages are released; in-flight
+     * spool records remain behind the checkpoints of their segments.  Must be called while holding the spool lock.
+     * </p>
+     *
+     * @throws IOException  unable to create or write the spool segment
+     */
+    private void preserveMemoryMessages() throws IOException {
+
+        List<IngestDataRequest> lstMsgs = new ArrayList<>(super.getQueueSize());
+
+        this.mapInFlight.values().stream()
+            .flatMap(Deque::stream)
+            .filter(rec -> rec.msgRqst != null)
+            .sorted(Comparator.comparingLong(rec -> rec.lngSeq))
+            .forEachOrdered(rec -> lstMsgs.add(rec.msgRqst));
+
+        while (super.getQueueSize() > 0)
+            lstMsgs.add(super.poll());
+
+        this.mapInFlight.clear();
+        this.cntInFlight = 0;
+        this.szInFlightAlloc = 0;
+
+        // Memory messages precede any spooled messages - must re-order the spool
+        if (!lstMsgs.isEmpty())
+            this.prependToSpool(lstMsgs);
+    }
+
+    /**
+     * <p>
+     * Closes and deletes the given (fully acknowledged) segment.
+     * </p>
+     *
+     * @param seg   the spool segment to retire
+     */
+    private void retireSegment(SpoolSegment seg) {
+
+        try {
+            seg.delete();
+
+        } catch (IOException e) {
+            if (BOL_LOGGING)
+                LOGGER.warn("{} - Unable to delete spool segment {}: {}.",
+                        JavaRuntime.getQualifiedMethodNameSimple(),
+                        seg.getPath(),
+                        e.getMessage());
+        }
+    }
+
+    /**
+     * <p>
+     * Recovers all spool segments within the spool directory.
+     * </p>
+     * <p>
+     * Segments are recovered in index order from their checkpointed read offsets.  Exhausted segments
+     * are deleted.  New segments are always created with indexes following the recovered segments.
+     * Must be called while holding the spool lock.
+     * </p>
+     *
+     * @throws IllegalStateException    the spool directory could not be created or read
+     */
+    private void recoverSpool() throws IllegalStateException {
+
+        // Nothing to do if segments are still open
+        if (!this.lstSegments.isEmpty())
+            return;
+
+        try {
+            Files.createDirectories(this.pathSpoolDir);
+
+            List<Path>  lstPaths = new ArrayList<>();
+            try (DirectoryStream<Path> dirSegs = Files.newDirectoryStream(this.pathSpoolDir, SpoolSegment.STR_GLOB)) {
+                for (Path path : dirSegs)
+                    lstPaths.add(path);
+            }
+            Collections.sort(lstPaths);     // file names are zero-padded indexes
+
+            for (Path path : lstPaths) {
+                SpoolSegment    seg = SpoolSegment.open(path);
+
+                this.indNextSegment = Math.max(this.indNextSegment, seg.getIndex() + 1);
+
+                if (seg.isExhausted()) {
+                    this.retireSegment(seg);
+                    continue;
+                }
+
+                this.lstSegments.addLast(seg);
+                this.cntSpoolMsgs += seg.getRemainingCount();
+                this.szSpoolAlloc += seg.getRemainingAllocation();
+            }
+
+        } catch (IOException e) {
+            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() + " - unable to recover spool directory "
+                    + this.pathSpoolDir + ": " + e.getMessage();
+
+            if (BOL_LOGGING)
+                LOGGER.error(strMsg);
+
+            throw new IllegalStateException(strMsg, e);
+        }
+
+        if (BOL_LOGGING && this.cntSpoolMsgs > 0)
+            LOGGER.info("{}: Recovered {} spooled messages ({} bytes) from {} segments.",
+                    JavaRuntime.getMethodName(),
+                    this.cntSpoolMsgs,
+                    this.szSpoolAlloc,
+                    this.lstSegments.size());
+    }
+
+    /**
+     * <p>
+     * Closes all spool segments, forcing their contents to storage.
+     * </p>
+     * <p>
+     * Segment files with unacknowledged records are not deleted and are recovered upon the next activation.
+     * Any remaining in-flight records are released.  Must be called while holding the spool lock.
+     * </p>
+     */
+    private void closeSpool() {
+
+        for (SpoolSegment seg : this.lstSegments) {
+            try {
+                if (seg.isAcknowledged())
+                    seg.delete();
+                else
+                    seg.close();
+
+            } catch (IOException e) {
+                if (BOL_LOGGING)
+                    LOGGER.warn("{} - Unable to close spool segment {}: {}.",
+                            JavaRuntime.getQualifiedMethodNameSimple(),
+                            seg.getPath(),
+                            e.getMessage());
+            }
+        }
+
+        this.lstSegments.clear();
+        this.cntSpoolMsgs = 0;
+        this.szSpoolAlloc = 0;
+
+        this.mapInFlight.clear();
+        this.cntInFlight = 0;
+        this.szInFlightAlloc = 0;
+    }
+
+
+    /**
+     * <p>
+     * A message supplied by the buffer and awaiting acknowledgment.
+     * </p>
+     * <p>
+     * Messages supplied from the memory queue are retained until acknowledged.  Messages supplied from
+     * the spool are identified by their segment and record position.
+     * </p>
+     */
+    private static final class InFlight {
+
+        /** Supply order of the message */
+        private final long              lngSeq;
+
+        /** The retained message (memory queue messages only) */
+        private final IngestDataRequest msgRqst;
+
+        /** Memory allocation of the retained message (memory queue messages only) */
+        private final long              szAlloc;
+
+        /** The spool segment containing the record (spool messages only) */
+        private final SpoolSegment      seg;
+
+        /** Position of the record within its segment (spool messages only) */
+        private final int               posBeg;
+
+        /** Position following the record within its segment (spool messages only) */
+        private final int               posEnd;
+
+        /** Record has been acknowledged */
+        private boolean                 bolAcked = false;
+
+
+        private static InFlight ofMemory(long lngSeq, IngestDataRequest msgRqst) {
+            return new InFlight(lngSeq, msgRqst, msgRqst.getSerializedSize(), null, 0, 0);
+        }
+
+        private static InFlight ofSpool(long lngSeq, SpoolSegment seg, int posBeg, int posEnd) {
+            return new InFlight(lngSeq, null, 0L, seg, posBeg, posEnd);
+        }
+
+        private InFlight(long lngSeq, IngestDataRequest msgRqst, long szAlloc, SpoolSegment seg, int posBeg, int posEnd) {
+            this.lngSeq = lngSeq;
+            this.msgRqst = msgRqst;
+            this.szAlloc = szAlloc;
+            this.seg = seg;
+            this.posBeg = posBeg;
+            this.posEnd = posEnd;
+        }
+    }
+
+
+    /**
+     * <p>
+     * A single memory-mapped spool segment file.
+     * </p>
+     * <p>
+     * Segment layout:
+     * <pre>
+     *   [int magic][int reserved][long ack offset]         - header
+     *   [int length][int crc32][byte[length] message] ...  - records
+     *   [int 0]                                            - end of records (unwritten space)
+     * </pre>
+     * The acknowledged offset within the header is the checkpoint of the segment, it is advanced only as
+     * leading records are acknowledged.  The read cursor of records supplied but not yet acknowledged is
+     * not persisted, so those records are read again upon recovery.
+     * </p>
+     */
+    private static final class SpoolSegment {
+
+        //
+        // Class Constants
+        //
+
+        /** Segment file name prefix */
+        private static final String     STR_PREFIX = "ingest-spool-";
+
+        /** Segment file name suffix */
+        private static final String     STR_SUFFIX = ".seg";
+
+        /** Glob pattern for segment files */
+        private static final String     STR_GLOB = STR_PREFIX + "*" + STR_SUFFIX;
+
+        /** Segment file identification */
+        private static final int        INT_MAGIC = 0x4450_5350;    // "DPSP"
+
+        /** Size of the segment header */
+        private static final int        INT_SZ_HEADER = 16;
+
+        /** Size of the record header */
+        private static final int        INT_SZ_RECORD_HDR = 8;
+
+        /** Header position of the acknowledged offset (checkpoint) */
+        private static final int        INT_POS_ACK_OFFSET = 8;
+
+
+        //
+        // Instance Attributes
+        //
+
+        /** Segment index (orders segments within the spool) */
+        private final long              indSegment;
+
+        /** Segment file location */
+        private final Path              pathSegment;
+
+        /** Segment file channel */
+        private final FileChannel       chanSegment;
+
+        /** Memory mapping of entire segment file */
+        private final MappedByteBuffer  bufSegment;
+
+
+        //
+        // State Variables
+        //
+
+        /** Position of next record write */
+        private int     posWrite;
+
+        /** Position of next record read (volatile read cursor) */
+        private int     posRead;
+
+        /** Position of the record last read */
+        private int     posLast;
+
+        /** Position following the last contiguously acknowledged record (durable checkpoint) */
+        private int     posAck;
+
+        /** Records read but not yet acknowledged, in read order */
+        private final Deque<InFlight>   queUnacked = new ArrayDeque<>();
+
+        /** Number of unread records */
+        private int     cntRemaining = 0;
+
+        /** Allocation of unread record messages */
+        private long    szRemaining = 0;
+
+        /** Segment no longer accepts records */
+        private boolean bolSealed = false;
+
+
+        /**
+         * @param arrMsg    serialized message
+         *
+         * @return  the segment size required to store the given message in a new segment
+         */
+        private static int  sizeRequired(byte[] arrMsg) {
+            return INT_SZ_HEADER + INT_SZ_RECORD_HDR + arrMsg.length + Integer.BYTES;
+        }
+
+        /**
+         * <p>
+         * Creates a new, empty segment file with the given index and size.
+         * </p>
+         *
+         * @param pathDir   spool directory
+         * @param index     segment index
+         * @param szSegment segment file size
+         *
+         * @return  new segment ready for record appends
+         *
+         * @throws IOException  unable to create or map the segment file
+         */
+        private static SpoolSegment create(Path pathDir, long index, int szSegment) throws IOException {
+            Path        path = pathDir.resolve(String.format("%s%019d%s", STR_PREFIX, index, STR_SUFFIX));
+            FileChannel chan = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            MappedByteBuffer    buf = chan.map(FileChannel.MapMode.READ_WRITE, 0, szSegment);
+            buf.putInt(0, INT_MAGIC);
+            buf.putLong(INT_POS_ACK_OFFSET, INT_SZ_HEADER);
+
+            return new SpoolSegment(index, path, chan, buf, INT_SZ_HEADER, INT_SZ_HEADER);
+        }
+
+        /**
+         * <p>
+         * Opens an existing segment file and recovers its unread records.
+         * </p>
+         * <p>
+         * Records are scanned from the checkpointed (acknowledged) offset until the end of records or the
+         * first record failing its integrity check.  The recovered segment is sealed.
+         * </p>
+         *
+         * @param path  segment file location
+         *
+         * @return  the recovered (sealed) segment
+         *
+         * @throws IOException  unable to open or map the segment file, or the file is not a spool segment
+         */
+        private static SpoolSegment open(Path path) throws IOException {
+            String      strName = path.getFileName().toString();
+            long        index = Long.parseLong(strName.substring(STR_PREFIX.length(), strName.length() - STR_SUFFIX.length()));
+            FileChannel chan = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            MappedByteBuffer    buf = chan.map(FileChannel.MapMode.READ_WRITE, 0, chan.size());
+            if (buf.capacity() < INT_SZ_HEADER || buf.getInt(0) != INT_MAGIC) {
+                chan.close();
+
+                throw new IOException("File " + path + " is not a spool segment.");
+            }
+
+            int         posRead = (int) buf.getLong(INT_POS_ACK_OFFSET);
+
+            SpoolSegment    seg = new SpoolSegment(index, path, chan, buf, posRead, posRead);
+            seg.scan();
+            seg.bolSealed = true;
+
+            return seg;
+        }
+
+        /**
+         * <p>
+         * Constructs a new <code>SpoolSegment</code> instance.
+         * </p>
+         */
+        private SpoolSegment(long index, Path path, FileChannel chan, MappedByteBuffer buf, int posWrite, int posRead) {
+            this.indSegment = index;
+            this.pathSegment = path;
+            this.chanSegment = chan;
+            this.bufSegment = buf;
+            this.posWrite = posWrite;
+            this.posRead = posRead;
+            this.posAck = posRead;
+        }
+
+        private long    getIndex()  { return this.indSegment; }
+        private Path    getPath()   { return this.pathSegment; }
+        private int     getRemainingCount() { return this.cntRemaining; }
+        private long    getRemainingAllocation() { return this.szRemaining; }
+        private boolean isSealed()  { return this.bolSealed; }
+        private boolean isExhausted() { return this.cntRemaining == 0; }
+        private boolean isAcknowledged() { return this.cntRemaining == 0 && this.queUnacked.isEmpty(); }
+
+        /**
+         * <p>
+         * Appends the given message record to the segment.
+         * </p>
+         *
+         * @param arrMsg    serialized message
+         *
+         * @return  <code>true</code> if appended, <code>false</code> if the segment is sealed or has insufficient space
+         */
+        private boolean append(byte[] arrMsg) {
+            if (this.bolSealed)
+                return false;
+
+            int     szRecord = INT_SZ_RECORD_HDR + arrMsg.length;
+            if (this.posWrite + szRecord + Integer.BYTES > this.bufSegment.capacity())
+                return false;
+
+            CRC32   crc = new CRC32();
+            crc.update(arrMsg);
+
+            // Write the record body before the length so a partial record is never visible
+            this.bufSegment.put(this.posWrite + INT_SZ_RECORD_HDR, arrMsg);
+            this.bufSegment.putInt(this.posWrite + Integer.BYTES, (int) crc.getValue());
+            this.bufSegment.putInt(this.posWrite, arrMsg.length);
+
+            this.posWrite += szRecord;
+            this.cntRemaining++;
+            this.szRemaining += arrMsg.length;
+
+            return true;
+        }
+
+        /**
+         * <p>
+         * Reads the next unread record and advances the read cursor.
+         * </p>
+         * <p>
+         * The checkpoint is not advanced, see <code>{@link #pend(long)}</code> and
+         * <code>{@link #acknowledge(InFlight)}</code>.
+         * </p>
+         *
+         * @return  the next serialized message, or <code>null</code> if all records have been read
+         */
+        private byte[] next() {
+            if (this.cntRemaining == 0)
+                return null;
+
+            int     szMsg = this.bufSegment.getInt(this.posRead);
+            byte[]  arrMsg = new byte[szMsg];
+            this.bufSegment.get(this.posRead + INT_SZ_RECORD_HDR, arrMsg);
+
+            this.posLast = this.posRead;
+            this.posRead += INT_SZ_RECORD_HDR + szMsg;
+
+            this.cntRemaining--;
+            this.szRemaining -= szMsg;
+
+            return arrMsg;
+        }
+
+        /**
+         * <p>
+         * Creates the in-flight record for the record last read with <code>{@link #next()}</code>.
+         * </p>
+         *
+         * @param lngSeq    supply order of the message
+         *
+         * @return  the in-flight record, pending acknowledgment
+         */
+        private InFlight pend(long lngSeq) {
+            InFlight    recMsg = InFlight.ofSpool(lngSeq, this, this.posLast, this.posRead);
+
+            this.queUnacked.addLast(recMsg);
+
+            return recMsg;
+        }
+
+        /**
+         * <p>
+         * Reads the message of the given (previously read) record again.
+         * </p>
+         *
+         * @param recMsg    in-flight record of this segment
+         *
+         * @return  the serialized message of the record
+         */
+        private byte[] record(InFlight recMsg) {
+            byte[]  arrMsg = new byte[recMsg.posEnd - recMsg.posBeg - INT_SZ_RECORD_HDR];
+            this.bufSegment.get(recMsg.posBeg + INT_SZ_RECORD_HDR, arrMsg);
+
+            return arrMsg;
+        }
+
+        /**
+         * <p>
+         * Acknowledges the given record and advances the checkpoint over all leading acknowledged records.
+         * </p>
+         *
+         * @param recMsg    in-flight record of this segment
+         */
+        private void acknowledge(InFlight recMsg) {
+            recMsg.bolAcked = true;
+
+            while (!this.queUnacked.isEmpty() && this.queUnacked.peekFirst().bolAcked)
+                this.posAck = this.queUnacked.pollFirst().posEnd;
+
+            this.bufSegment.putLong(INT_POS_ACK_OFFSET, this.posAck);
+        }
+
+        /**
+         * <p>
+         * Scans the segment records from the read position to establish the write position
+         * and unread record counts.
+         * </p>
+         */
+        private void scan() {
+            int     pos = this.posRead;
+            int     szCap = this.bufSegment.capacity();
+
+            while (pos + INT_SZ_RECORD_HDR <= szCap) {
+                int     szMsg = this.bufSegment.getInt(pos);
+
+                if (szMsg <= 0 || pos + INT_SZ_RECORD_HDR + szMsg > szCap)
+                    break;
+
+                byte[]  arrMsg = new byte[szMsg];
+                this.bufSegment.get(pos + INT_SZ_RECORD_HDR, arrMsg);
+
+                CRC32   crc = new CRC32();
+                crc.update(arrMsg);
+                if ((int) crc.getValue() != this.bufSegment.getInt(pos + Integer.BYTES))
+                    break;
+
+                pos += INT_SZ_RECORD_HDR + szMsg;
+                this.cntRemaining++;
+                this.szRemaining += szMsg;
+            }
+
+            this.posWrite = pos;
+        }
+
+        /**
+         * <p>
+         * Seals the segment against further appends and forces its contents to storage.
+         * </p>
+         */
+        private void seal() {
+            this.bolSealed = true;
+            this.bufSegment.force();
+        }
+
+        /**
+         * <p>
+         * Forces the segment contents (including checkpoint) to storage and closes the file channel.
+         * </p>
+         *
+         * @throws IOException  error closing the file channel
+         */
+        private void close() throws IOException {
+            this.bufSegment.force();
+            this.chanSegment.close();
+        }
+
+        /**
+         * <p>
+         * Closes the file channel and deletes the segment file.
+         * </p>
+         *
+         * @throws IOException  error closing or deleting the file
+         */
+        private void delete() throws IOException {
+            this.chanSegment.close();
+            Files.deleteIfExists(this.pathSegment);
+        }
+    }
+}
@@ -45,6 +45,7 @@ import com.ospreydcs.dp.api.common.ResultStatus;
 import com.ospreydcs.dp.api.config.DpApiConfig;
 import com.ospreydcs.dp.api.config.ingest.DpIngestionConfig;
 import com.ospreydcs.dp.api.model.IMessageSupplier;
+import com.ospreydcs.dp.api.util.CallSite;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.grpc.v1.ingestion.DpIngestionServiceGrpc.DpIngestionServiceStub;
 import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest;
@@ -228,6 +229,9 @@ public abstract class IngestionStream implements Runnable, Callable<Boolean> {
     /** Class logger */
     protected static final Logger     LOGGER = LogManager.getLogger();
     
+    /** Call-site tag for events within the stream processing loop {@link #run()} */
+    private static final CallSite     CS_RUN = CallSite.of(IngestionStream.class, "run");
+    
     
     /**
      * <p>
@@ -263,6 +267,15 @@ public abstract class IngestionStream implements Runnable, Callable<Boolean> {
     /** Collection of all outgoing message client request IDs */
     private final List<IngestRequestUID>            lstClientIds = new LinkedList<>();
     
+    /** Optional monitor of outgoing messages - invoked immediately before transmission */
+    private Consumer<IngestDataRequest>             fncXmitMonitor = null;
+    
+    /** Record all outgoing client request IDs (disabled for long-running streams) */
+    private boolean                                 bolRecordIds = true;
+    
+    /** Optional monitor of gRPC stream failures - invoked when the stream is terminated by gRPC or the service */
+    private Consumer<Throwable>                     fncErrorMonitor = null;
+    
     
     //
     // State Variables and Conditions
@@ -377,6 +390,72 @@ public abstract class IngestionStream implements Runnable, Callable<Boolean> {
     abstract protected void  requestTransmitted(IngestDataRequest msgRqst) throws ProviderException;
     
     
+    //
+    // Configuration
+    //
+    
+    /**
+     * <p>
+     * Sets the monitor of outgoing <code>IngestDataRequest</code> messages.
+     * </p>
+     * <p>
+     * The given consumer is invoked with each request message immediately before it is passed to the
+     * gRPC data stream, for example, to maintain <code>{@link IngestionStreamStatistics}</code>.
+     * It is invoked on the streaming thread and must not block.
+     * </p>
+     * <p>
+     * <h2>WARNING:</h2>
+     * This method must be invoked <em>before</em> the stream task is started with <code>{@link #run()}</code>.
+     * </p>
+     * 
+     * @param fncXmitMonitor    consumer of outgoing request messages (or <code>null</code> for none)
+     */
+    public void setTransmissionMonitor(Consumer<IngestDataRequest> fncXmitMonitor) {
+        this.fncXmitMonitor = fncXmitMonitor;
+    }
+    
+    /**
+     * <p>
+     * Sets the monitor of gRPC data stream failures.
+     * </p>
+     * <p>
+     * The given consumer is invoked with the terminating exception whenever the gRPC data stream fails,
+     * either from a gRPC runtime exception during transmission or an error signaled by gRPC or the Ingestion 
+     * Service on the backward stream, for example, to mark the Ingestion Service as unavailable.  
+     * The consumer may be invoked on a gRPC thread and must not block.
+     * </p>
+     * <p>
+     * <h2>WARNING:</h2>
+     * This method must be invoked <em>before</em> the stream task is started with <code>{@link #run()}</code>.
+     * </p>
+     * 
+     * @param fncErrorMonitor   consumer of stream failure exceptions (or <code>null</code> for none)
+     */
+    public void setErrorMonitor(Consumer<Throwable> fncErrorMonitor) {
+        this.fncErrorMonitor = fncErrorMonitor;
+    }
+    
+    /**
+     * <p>
+     * Disables the recording of client request IDs for all outgoing messages.
+     * </p>
+     * <p>
+     * By default every client request ID transmitted is recorded and available from
+     * <code>{@link #getRequestIds()}</code>.  For long-running streams this collection grows without
+     * limit; disabling the recording leaves <code>{@link #getRequestIds()}</code> empty while 
+     * <code>{@link #getRequestCount()}</code> remains available.  Use a transmission monitor to maintain 
+     * bounded records instead (see <code>{@link #setTransmissionMonitor(Consumer)}</code>).
+     * </p>
+     * <p>
+     * <h2>WARNING:</h2>
+     * This method must be invoked <em>before</em> the stream task is started with <code>{@link #run()}</code>.
+     * </p>
+     */
+    public void disableRequestIdRecording() {
+        this.bolRecordIds = false;
+    }
+    
+    
     //
     // State Queries
     //
@@ -553,7 +632,8 @@ public abstract class IngestionStream implements Runnable, Callable<Boolean> {
      * <p>
      * <h2>NOTES:</h2>
      * The size of the returned collection should be that returned by 
-     * <code>{@link #getRequestCount()}</code>.
+     * <code>{@link #getRequestCount()}</code>, unless request ID recording was disabled with
+     * <code>{@link #disableRequestIdRecording()}</code> in which case the collection is empty.
      * </p>
      *  
      * @return  collection of request IDs for the ingest data request messages send to the Ingestion Service
@@ -591,6 +671,24 @@ public abstract class IngestionStream implements Runnable, Callable<Boolean> {
     // Operations
     //
     
+    /**
+     * <p>
+     * Notifies the stream error monitor, if any, of a gRPC data stream failure.
+     * </p>
+     * <p>
+     * Subclasses invoke this method when gRPC or the Ingestion Service terminates the backward stream
+     * with an error.
+     * </p>
+     * 
+     * @param e the exception terminating the gRPC data stream
+     * 
+     * @see #setErrorMonitor(Consumer)
+     */
+    protected void notifyStreamError(Throwable e) {
+        if (this.fncErrorMonitor != null)
+            this.fncErrorMonitor.accept(e);
+    }
+    
     /**
      * <p>
      * Blocks until the gRPC data stream has completed, either normally or from error.
@@ -691,7 +789,7 @@ public abstract class IngestionStream implements Runnable, Callable<Boolean> {
         
         // TODO - Consider removal
         if (BOL_LOGGING)
-            LOGGER.debug("{} - Started thread, about to enter processing loop.", JavaRuntime.getQualifiedMethodNameSimple());
+            LOGGER.debug("{} - Started thread, about to enter processing loop.", CS_RUN);
         
         // Initiate the gRPC data stream
         this.hndForwardStream = this.initiateGrpcStream();
@@ -712,7 +810,10 @@ public abstract class IngestionStream implements Runnable, Callable<Boolean> {
 //                // TODO - Remove
 //                LOGGER.debug(JavaRuntime.getQualifiedCallerNameSimple() + " - Attempting to send ingestion request message with client ID "+ msgRqst.getClientRequestId());
 
-                // Transmit data message request and notify subclasses
+                // Notify any monitor, transmit data message request, and notify subclasses
+                if (this.fncXmitMonitor != null)
+                    this.fncXmitMonitor.accept(msgRqst);
+                
                 this.hndForwardStream.onNext(msgRqst);  // throws StatusRuntimeException
                 
                 String strClientId = msgRqst.getClientRequestId();
@@ -720,14 +821,15 @@ public abstract class IngestionStream implements Runnable, Callable<Boolean> {
 //                // TODO - Remove
 //                LOGGER.debug(JavaRuntime.getQualifiedCallerNameSimple() + " - Transmitted message with client ID "+ strClientId);
 
-                this.lstClientIds.add(IngestRequestUID.from(strClientId));
+                if (this.bolRecordIds)
+                    this.lstClientIds.add(IngestRequestUID.from(strClientId));
                 this.cntRequests++;
                 this.requestTransmitted(msgRqst);       // throws ProviderException
             }
 
         // Unexpected gRPC runtime error while streaming
         } catch (io.grpc.StatusRuntimeException e) {
-            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() 
+            String  strMsg = CS_RUN 
                             + "gRPC threw runtime exception during streaming: " 
                             + e.getMessage();
 
@@ -735,6 +837,7 @@ public abstract class IngestionStream implements Runnable, Callable<Boolean> {
             
             this.bolStreamError = true;
             this.recStatus = ResultStatus.newFailure(strMsg, e);
+            this.notifyStreamError(e);
             
             if (BOL_LOGGING)
                 LOGGER.error(strMsg);
@@ -743,7 +846,7 @@ public abstract class IngestionStream implements Runnable, Callable<Boolean> {
 
         // The message supplier was polled while empty - this should not happen normally
         } catch (IllegalStateException e) {
-            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() 
+            String  strMsg = CS_RUN 
                             + ": Internal error - Message supplier polled when empty: "
                             + e.getMessage();
 
@@ -759,7 +862,7 @@ public abstract class IngestionStream implements Runnable, Callable<Boolean> {
 
         // The supplier polling was interrupted while waiting
         } catch (InterruptedException e) {
-            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() 
+            String  strMsg = CS_RUN 
                     + ": External error - Message supplier polling was interrupted: "
                     + e.getMessage();
 
@@ -775,7 +878,7 @@ public abstract class IngestionStream implements Runnable, Callable<Boolean> {
 
         // The child class objected when notified of message transmission
         } catch (ProviderException e) {
-            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() 
+            String  strMsg = CS_RUN 
                     + ": Subclass exception upon request transmission notification: "
                     + e.getMessage();
 
@@ -803,7 +906,7 @@ public abstract class IngestionStream implements Runnable, Callable<Boolean> {
             
             // Log stream successful event
             if (BOL_LOGGING)
-                LOGGER.debug("{} - stream finished with {} message transmissions.", JavaRuntime.getQualifiedMethodNameSimple(), this.cntRequests);
+                LOGGER.debug("{} - stream finished with {} message transmissions.", CS_RUN, this.cntRequests);
 
             // Otherwise 
             // - A gRPC streaming error occurred: the stream is closed and monitor released
@@ -1016,6 +1119,7 @@ final class IngestionUniStream extends IngestionStream implements StreamObserver
 
         super.bolStreamError = true;
         super.recStatus = ResultStatus.newFailure(strMsg, e);
+        super.notifyStreamError(e);
         super.monStreamCompleted.countDown();
     }
 
@@ -1287,6 +1391,7 @@ final class IngestionBidiStream extends IngestionStream implements StreamObserve
         
         super.bolStreamError = true;
         super.recStatus = ResultStatus.newFailure(strMsg, e);
+        super.notifyStreamError(e);
         super.monStreamCompleted.countDown();
     }
 
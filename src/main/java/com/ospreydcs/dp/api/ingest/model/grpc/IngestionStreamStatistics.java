@@ -0,0 +1,587 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionStreamStatistics.java
+ * Package: com.ospreydcs.dp.api.ingest.model.grpc
+ * Type: 	IngestionStreamStatistics
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest.model.grpc;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ospreydcs.dp.api.common.DpGrpcStreamType;
+import com.ospreydcs.dp.api.common.IngestRequestUID;
+import com.ospreydcs.dp.api.common.IngestionResult;
+import com.ospreydcs.dp.api.grpc.util.ProtoMsg;
+import com.ospreydcs.dp.api.util.JavaRuntime;
+import com.ospreydcs.dp.api.util.LongHistogram;
+import com.ospreydcs.dp.grpc.v1.common.ExceptionalResult;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataResponse;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataStreamResponse;
+
+/**
+ * <p>
+ * Bounded, incrementally maintained statistics for an ingestion data stream.
+ * </p>
+ * <p>
+ * Class instances are fed every outgoing <code>IngestDataRequest</code> message and every incoming
+ * Ingestion Service response as they occur.  Rather than retaining all messages and request UIDs for
+ * the lifetime of the stream, which grows without limit for data providers streaming for days,
+ * instances keep only
+ * <ul>
+ * <li>a bounded ring of the most recent request UIDs, responses, and acknowledgments,</li>
+ * <li>a bounded list of rejected request UIDs and exceptions (the first ones encountered),</li>
+ * <li>aggregate counters for messages, bytes, acknowledgments, and rejections,</li>
+ * <li>histograms of request message size and (bidirectional) acknowledgment latency.</li>
+ * </ul>
+ * The <code>{@link IngestionResult}</code> of the stream is then available at any time with
+ * <code>{@link #toIngestionResult()}</code> without parsing the full response history.
+ * </p>
+ * <p>
+ * <h2>Acknowledgment Latency</h2>
+ * Latency is only available for bidirectional streams where the Ingestion Service acknowledges each
+ * request individually.  It is the (wall clock) time between the start of request transmission and the
+ * arrival of the corresponding response.  Requests awaiting acknowledgment are tracked up to
+ * <code>{@link #CNT_MAX_IN_FLIGHT}</code> entries, the oldest are evicted beyond that.
+ * </p>
+ * <p>
+ * <h2>Thread Safety</h2>
+ * All operations are synchronized, instances may be shared by multiple, concurrent ingestion streams.
+ * All returned collections and histograms are copies.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ * @see IngestionChannel
+ */
+public final class IngestionStreamStatistics {
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new, empty <code>IngestionStreamStatistics</code> instance for the given stream type.
+     * </p>
+     *
+     * @param enmStreamType     gRPC stream type of the monitored ingestion stream(s)
+     * @param cntRecent         number of most recent request UIDs and responses retained
+     * @param cntMaxRejects     maximum number of rejected request UIDs and exceptions retained
+     *
+     * @return  new statistics instance ready for monitoring
+     *
+     * @throws UnsupportedOperationException    the stream type is not supported for data ingestion
+     * @throws IllegalArgumentException         a retention size was negative
+     */
+    public static IngestionStreamStatistics create(DpGrpcStreamType enmStreamType, int cntRecent, int cntMaxRejects)
+            throws UnsupportedOperationException, IllegalArgumentException {
+        return new IngestionStreamStatistics(enmStreamType, cntRecent, cntMaxRejects);
+    }
+
+
+    //
+    // Class Constants
+    //
+
+    /** Maximum number of requests awaiting acknowledgment tracked for latency measurement */
+    public static final int     CNT_MAX_IN_FLIGHT = 65_536;
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The ingestion result mode for the stream type */
+    private final IngestionResult.Mode  enmMode;
+
+    /** Number of most recent request UIDs and responses retained */
+    private final int                   cntRecent;
+
+    /** Maximum number of rejected request UIDs and exceptions retained */
+    private final int                   cntMaxRejects;
+
+
+    //
+    // Instance Resources
+    //
+
+    /** Most recently transmitted request UIDs */
+    private final ArrayDeque<IngestRequestUID>          queRecentXmitIds;
+
+    /** Most recently received (acknowledged or rejected) request UIDs */
+    private final ArrayDeque<IngestRequestUID>          queRecentRcvdIds;
+
+    /** Most recent bidirectional acknowledgments */
+    private final ArrayDeque<IngestionResult.Acknowledge>   queRecentAcks;
+
+    /** Most recent bidirectional stream responses */
+    private final ArrayDeque<IngestDataResponse>        queRecentBidiRsps;
+
+    /** Most recent unidirectional stream responses */
+    private final ArrayDeque<IngestDataStreamResponse>  queRecentUniRsps;
+
+    /** The first rejected request UIDs */
+    private final List<IngestRequestUID>                lstRejectedIds = new ArrayList<>();
+
+    /** The first exceptions reported by the Ingestion Service */
+    private final List<IngestionResult.Exception>       lstExceptions = new ArrayList<>();
+
+    /** Transmission times (<code>System.nanoTime()</code>) of requests awaiting acknowledgment - insertion ordered */
+    private final Map<String, Long>                     mapInFlight = new LinkedHashMap<>(1024, 0.75f, false) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> entry) {
+            return this.size() > CNT_MAX_IN_FLIGHT;
+        }
+    };
+
+    /** Histogram of request message sizes (bytes) */
+    private final LongHistogram histRqstBytes = new LongHistogram();
+
+    /** Histogram of acknowledgment latencies (nanoseconds) */
+    private final LongHistogram histAckLatency = new LongHistogram();
+
+
+    //
+    // State Variables
+    //
+
+    /** Number of request messages transmitted */
+    private long        cntRequests = 0;
+
+    /** Total size of all request messages transmitted (bytes) */
+    private long        szRequests = 0;
+
+    /** Number of response messages received */
+    private long        cntResponses = 0;
+
+    /** Number of requests accepted by the Ingestion Service */
+    private long        cntAccepted = 0;
+
+    /** Number of requests rejected by the Ingestion Service */
+    private long        cntRejected = 0;
+
+    /** Number of exceptions reported by the Ingestion Service */
+    private long        cntExceptions = 0;
+
+    /** Total number of data rows acknowledged (bidirectional streams) */
+    private long        cntRowsAcked = 0;
+
+    /** Time of the earliest response */
+    private Instant     insFirstRsp = null;
+
+    /** Time of the latest response */
+    private Instant     insFinalRsp = null;
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>IngestionStreamStatistics</code>.
+     * </p>
+     *
+     * @param enmStreamType     gRPC stream type of the monitored ingestion stream(s)
+     * @param cntRecent         number of most recent request UIDs and responses retained
+     * @param cntMaxRejects     maximum number of rejected request UIDs and exceptions retained
+     *
+     * @throws UnsupportedOperationException    the stream type is not supported for data ingestion
+     * @throws IllegalArgumentException         a retention size was negative
+     */
+    public IngestionStreamStatistics(DpGrpcStreamType enmStreamType, int cntRecent, int cntMaxRejects)
+            throws UnsupportedOperationException, IllegalArgumentException {
+
+        // Check arguments
+        if (cntRecent < 0 || cntMaxRejects < 0)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - retention sizes must be non-negative.");
+
+        this.enmMode = switch (enmStreamType) {
+            case FORWARD -> IngestionResult.Mode.UNIDIRECTIONAL;
+            case BIDIRECTIONAL -> IngestionResult.Mode.BIDIRECTIONAL;
+            default -> throw new UnsupportedOperationException(JavaRuntime.getQualifiedMethodNameSimple() + " - " + enmStreamType + " not supported for data ingestion.");
+        };
+
+        this.cntRecent = cntRecent;
+        this.cntMaxRejects = cntMaxRejects;
+
+        int szInit = Math.min(cntRecent, 1024);
+        this.queRecentXmitIds = new ArrayDeque<>(szInit);
+        this.queRecentRcvdIds = new ArrayDeque<>(szInit);
+        this.queRecentAcks = new ArrayDeque<>(szInit);
+        this.queRecentBidiRsps = new ArrayDeque<>(szInit);
+        this.queRecentUniRsps = new ArrayDeque<>(szInit);
+    }
+
+
+    //
+    // Monitoring
+    //
+
+    /**
+     * <p>
+     * Records the transmission of the given request message.
+     * </p>
+     * <p>
+     * For accurate latency measurements this method should be invoked immediately before the message
+     * is passed to the gRPC stream.
+     * </p>
+     *
+     * @param msgRqst   request message about to be transmitted to the Ingestion Service
+     */
+    synchronized
+    public void requestTransmitted(IngestDataRequest msgRqst) {
+        String  strRqstId = msgRqst.getClientRequestId();
+        long    szRqst = msgRqst.getSerializedSize();
+
+        this.cntRequests++;
+        this.szRequests += szRqst;
+        this.histRqstBytes.record(szRqst);
+
+        addBounded(this.queRecentXmitIds, IngestRequestUID.from(strRqstId), this.cntRecent);
+
+        if (this.enmMode == IngestionResult.Mode.BIDIRECTIONAL)
+            this.mapInFlight.put(strRqstId, System.nanoTime());
+    }
+
+    /**
+     * <p>
+     * Records the given bidirectional stream response.
+     * </p>
+     *
+     * @param msgRsp    Ingestion Service response to a single request
+     */
+    synchronized
+    public void responseReceived(IngestDataResponse msgRsp) {
+        long                nsNow = System.nanoTime();
+        String              strRqstId = msgRsp.getClientRequestId();
+        IngestRequestUID    recRqstId = IngestRequestUID.from(strRqstId);
+
+        this.cntResponses++;
+        this.updateResponseTime(ProtoMsg.toInstant(msgRsp.getResponseTime()));
+
+        addBounded(this.queRecentBidiRsps, msgRsp, this.cntRecent);
+        addBounded(this.queRecentRcvdIds, recRqstId, this.cntRecent);
+
+        Long    nsXmit = this.mapInFlight.remove(strRqstId);
+        if (nsXmit != null)
+            this.histAckLatency.record(nsNow - nsXmit);
+
+        if (msgRsp.hasExceptionalResult()) {
+            this.cntRejected++;
+            this.addRejected(recRqstId);
+            this.addException(recRqstId, msgRsp.getExceptionalResult());
+
+        } else if (msgRsp.hasAckResult()) {
+            IngestDataResponse.AckResult    msgAck = msgRsp.getAckResult();
+
+            this.cntAccepted++;
+            this.cntRowsAcked += msgAck.getNumRows();
+            addBounded(this.queRecentAcks, new IngestionResult.Acknowledge(recRqstId, msgAck.getNumColumns(), msgAck.getNumRows()), this.cntRecent);
+        }
+    }
+
+    /**
+     * <p>
+     * Records the given unidirectional stream response.
+     * </p>
+     *
+     * @param msgRsp    Ingestion Service response to a complete unidirectional stream
+     */
+    synchronized
+    public void responseReceived(IngestDataStreamResponse msgRsp) {
+
+        this.cntResponses++;
+        this.updateResponseTime(ProtoMsg.toInstant(msgRsp.getResponseTime()));
+
+        addBounded(this.queRecentUniRsps, msgRsp, this.cntRecent);
+
+        for (String strRqstId : msgRsp.getClientRequestIdsList())
+            addBounded(this.queRecentRcvdIds, IngestRequestUID.from(strRqstId), this.cntRecent);
+
+        for (String strRqstId : msgRsp.getRejectedRequestIdsList()) {
+            this.cntRejected++;
+            this.addRejected(IngestRequestUID.from(strRqstId));
+        }
+
+        if (msgRsp.hasExceptionalResult())
+            this.addException(IngestRequestUID.NULL, msgRsp.getExceptionalResult());
+
+        else if (msgRsp.hasIngestDataStreamResult())
+            this.cntAccepted += msgRsp.getIngestDataStreamResult().getNumRequests();
+    }
+
+
+    //
+    // State Inquiry
+    //
+
+    /**
+     * @return  the number of request messages transmitted so far
+     */
+    synchronized
+    public long getRequestCount() {
+        return this.cntRequests;
+    }
+
+    /**
+     * @return  the total size of all request messages transmitted so far (in bytes)
+     */
+    synchronized
+    public long getRequestBytes() {
+        return this.szRequests;
+    }
+
+    /**
+     * @return  the number of response messages received so far
+     */
+    synchronized
+    public long getResponseCount() {
+        return this.cntResponses;
+    }
+
+    /**
+     * @return  the number of requests accepted by the Ingestion Service so far
+     */
+    synchronized
+    public long getAcceptedCount() {
+        return this.cntAccepted;
+    }
+
+    /**
+     * @return  the number of requests rejected by the Ingestion Service so far (including those not retained)
+     */
+    synchronized
+    public long getRejectedCount() {
+        return this.cntRejected;
+    }
+
+    /**
+     * @return  the number of exceptions reported by the Ingestion Service so far (including those not retained)
+     */
+    synchronized
+    public long getExceptionCount() {
+        return this.cntExceptions;
+    }
+
+    /**
+     * @return  the total number of data rows acknowledged so far (bidirectional streams only)
+     */
+    synchronized
+    public long getAcknowledgedRowCount() {
+        return this.cntRowsAcked;
+    }
+
+    /**
+     * @return  the number of transmitted requests currently awaiting acknowledgment (bidirectional streams only)
+     */
+    synchronized
+    public int getInFlightCount() {
+        return this.mapInFlight.size();
+    }
+
+    /**
+     * @return  copy of the request message size histogram (bytes)
+     */
+    synchronized
+    public LongHistogram getRequestSizeHistogram() {
+        return this.histRqstBytes.copy();
+    }
+
+    /**
+     * @return  copy of the acknowledgment latency histogram (nanoseconds) - empty for unidirectional streams
+     */
+    synchronized
+    public LongHistogram getAckLatencyHistogram() {
+        return this.histAckLatency.copy();
+    }
+
+    /**
+     * @return  the most recently transmitted request UIDs, oldest first
+     */
+    synchronized
+    public List<IngestRequestUID> getRecentRequestIds() {
+        return new ArrayList<>(this.queRecentXmitIds);
+    }
+
+    /**
+     * @return  the most recent bidirectional stream responses, oldest first
+     */
+    synchronized
+    public List<IngestDataResponse> getRecentBidiResponses() {
+        return new ArrayList<>(this.queRecentBidiRsps);
+    }
+
+    /**
+     * @return  the most recent unidirectional stream responses, oldest first
+     */
+    synchronized
+    public List<IngestDataStreamResponse> getRecentUniResponses() {
+        return new ArrayList<>(this.queRecentUniRsps);
+    }
+
+    /**
+     * @return  the retained rejected request UIDs (at most the maximum reject count)
+     */
+    synchronized
+    public List<IngestRequestUID> getRejectedRequestIds() {
+        return new ArrayList<>(this.lstRejectedIds);
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Returns the ingestion result for the stream so far.
+     * </p>
+     * <p>
+     * The returned record contains the full transmitted and accepted request counts and the response
+     * time range, however, the request UID, acknowledgment, and exception lists contain only the retained
+     * (i.e., recent or first) entries.  If no responses have been received the
+     * <code>{@link IngestionResult#NULL}</code> record is returned.
+     * </p>
+     *
+     * @return  the current ingestion result, or <code>{@link IngestionResult#NULL}</code> if no responses are available
+     */
+    synchronized
+    public IngestionResult toIngestionResult() {
+
+        if (this.cntResponses == 0)
+            return IngestionResult.NULL;
+
+        return new IngestionResult(
+                this.enmMode,
+                (int)Math.min(this.cntRequests, Integer.MAX_VALUE),
+                (int)Math.min(this.cntAccepted, Integer.MAX_VALUE),
+                this.insFirstRsp,
+                this.insFinalRsp,
+                new ArrayList<>(this.queRecentXmitIds),
+                new ArrayList<>(this.queRecentRcvdIds),
+                new ArrayList<>(this.lstRejectedIds),
+                new ArrayList<>(this.lstExceptions),
+                new ArrayList<>(this.queRecentAcks)
+                );
+    }
+
+    /**
+     * <p>
+     * Clears all statistics and retained records.
+     * </p>
+     */
+    synchronized
+    public void reset() {
+        this.queRecentXmitIds.clear();
+        this.queRecentRcvdIds.clear();
+        this.queRecentAcks.clear();
+        this.queRecentBidiRsps.clear();
+        this.queRecentUniRsps.clear();
+        this.lstRejectedIds.clear();
+        this.lstExceptions.clear();
+        this.mapInFlight.clear();
+        this.histRqstBytes.clear();
+        this.histAckLatency.clear();
+
+        this.cntRequests = 0;
+        this.szRequests = 0;
+        this.cntResponses = 0;
+        this.cntAccepted = 0;
+        this.cntRejected = 0;
+        this.cntExceptions = 0;
+        this.cntRowsAcked = 0;
+        this.insFirstRsp = null;
+        this.insFinalRsp = null;
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * Adds the given element to the ring buffer, evicting the oldest element if full.
+     *
+     * @param <T>       element type
+     * @param queRing   ring buffer
+     * @param elem      new element
+     * @param cntMax    ring buffer capacity
+     */
+    private static <T> void addBounded(ArrayDeque<T> queRing, T elem, int cntMax) {
+        if (cntMax == 0)
+            return;
+
+        if (queRing.size() >= cntMax)
+            queRing.pollFirst();
+
+        queRing.addLast(elem);
+    }
+
+    /**
+     * Retains the given rejected request UID if the maximum has not been reached.
+     *
+     * @param recRqstId rejected request UID
+     */
+    private void addRejected(IngestRequestUID recRqstId) {
+        if (this.lstRejectedIds.size() < this.cntMaxRejects)
+            this.lstRejectedIds.add(recRqstId);
+    }
+
+    /**
+     * Counts the given exception and retains it if the maximum has not been reached.
+     *
+     * @param recRqstId request UID of the exception (or <code>{@link IngestRequestUID#NULL}</code>)
+     * @param msgErr    exception reported by the Ingestion Service
+     */
+    private void addException(IngestRequestUID recRqstId, ExceptionalResult msgErr) {
+        this.cntExceptions++;
+
+        if (this.lstExceptions.size() < this.cntMaxRejects)
+            this.lstExceptions.add(new IngestionResult.Exception(recRqstId, msgErr.getExceptionalResultStatus().name(), msgErr.getMessage()));
+    }
+
+    /**
+     * Updates the response time range with the given response time.
+     *
+     * @param insRsp    time of the latest response
+     */
+    private void updateResponseTime(Instant insRsp) {
+        if (this.insFirstRsp == null || insRsp.isBefore(this.insFirstRsp))
+            this.insFirstRsp = insRsp;
+
+        if (this.insFinalRsp == null || insRsp.isAfter(this.insFinalRsp))
+            this.insFinalRsp = insRsp;
+    }
+}
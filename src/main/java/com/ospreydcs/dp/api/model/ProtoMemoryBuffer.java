@@ -40,6 +40,7 @@ import org.apache.logging.log4j.Logger;
 
 import com.google.protobuf.GeneratedMessage;
 import com.ospreydcs.dp.api.ingest.model.grpc.IngestionMemoryBuffer;
+import com.ospreydcs.dp.api.util.CallSite;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest;
 
@@ -209,6 +210,15 @@ public class ProtoMemoryBuffer<T extends GeneratedMessage> implements IMessageCo
     /** Class event logger */
     private static final Logger     LOGGER = LogManager.getLogger();
     
+    /** Call-site tag for data path events in {@link #awaitQueueReady} */
+    private static final CallSite   CS_AWAIT_QUEUE_READY = CallSite.of(ProtoMemoryBuffer.class, "awaitQueueReady");
+    
+    /** Call-site tag for data path events in {@link #awaitQueueEmpty} */
+    private static final CallSite   CS_AWAIT_QUEUE_EMPTY = CallSite.of(ProtoMemoryBuffer.class, "awaitQueueEmpty");
+    
+    /** Call-site tag for data path events in {@link #offer} */
+    private static final CallSite   CS_OFFER = CallSite.of(ProtoMemoryBuffer.class, "offer");
+    
     
     //
     // Configuration Parameters
@@ -556,7 +566,7 @@ public class ProtoMemoryBuffer<T extends GeneratedMessage> implements IMessageCo
                 // Log event
                 if (bolLogging)
                     LOGGER.info("{}: Blocking on queue memory allocation {} > maximum {} (back pressure event).", 
-                            JavaRuntime.getMethodName(), 
+                            CS_AWAIT_QUEUE_READY, 
                             this.szQueueAlloc, 
                             this.szMaxQueueAlloc);
             
@@ -613,7 +623,7 @@ public class ProtoMemoryBuffer<T extends GeneratedMessage> implements IMessageCo
                 // Log event
                 if (bolLogging)
                     LOGGER.info("{}: Waiting for queue empty, queue size = {}.", 
-                            JavaRuntime.getMethodName(), 
+                            CS_AWAIT_QUEUE_EMPTY, 
                             this.queMsgBuffer.size());
             
                 // Wait for queue ready signal
@@ -854,7 +864,7 @@ public class ProtoMemoryBuffer<T extends GeneratedMessage> implements IMessageCo
                 // Log event
                 if (bolLogging)
                     LOGGER.info("{}: Blocking on queue allocation {} > maximum {} (back pressure event).", 
-                            JavaRuntime.getMethodName(), 
+                            CS_OFFER, 
                             this.szQueueAlloc, this.szMaxQueueAlloc);
             
                 // Wait for queue ready signal
@@ -940,7 +950,7 @@ public class ProtoMemoryBuffer<T extends GeneratedMessage> implements IMessageCo
                 // Log event
                 if (bolLogging)
                     LOGGER.info("{}: Blocking on queue allocation {} > maximum {} (back pressure event).", 
-                            JavaRuntime.getMethodName(), 
+                            CS_OFFER, 
                             this.szQueueAlloc, 
                             this.szMaxQueueAlloc);
             
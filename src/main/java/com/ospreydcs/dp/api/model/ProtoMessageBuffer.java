@@ -39,6 +39,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.google.protobuf.GeneratedMessage;
+import com.ospreydcs.dp.api.util.CallSite;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest;
 
@@ -199,6 +200,15 @@ public class ProtoMessageBuffer<T extends GeneratedMessage> implements IMessageC
     /** Class event logger */
     private static final Logger     LOGGER = LogManager.getLogger();
     
+    /** Call-site tag for data path events in {@link #awaitQueueReady} */
+    private static final CallSite   CS_AWAIT_QUEUE_READY = CallSite.of(ProtoMessageBuffer.class, "awaitQueueReady");
+    
+    /** Call-site tag for data path events in {@link #awaitQueueEmpty} */
+    private static final CallSite   CS_AWAIT_QUEUE_EMPTY = CallSite.of(ProtoMessageBuffer.class, "awaitQueueEmpty");
+    
+    /** Call-site tag for data path events in {@link #offer} */
+    private static final CallSite   CS_OFFER = CallSite.of(ProtoMessageBuffer.class, "offer");
+    
     
     //
     // Configuration Parameters
@@ -545,7 +555,7 @@ public class ProtoMessageBuffer<T extends GeneratedMessage> implements IMessageC
                 
                 // Log event
                 if (bolLogging)
-                    LOGGER.info("{}: Blocking on queue size {} > capacity {} (back pressure event).", JavaRuntime.getMethodName(), this.queMsgBuffer.size(), this.szMaxQueCapacity);
+                    LOGGER.info("{}: Blocking on queue size {} > capacity {} (back pressure event).", CS_AWAIT_QUEUE_READY, this.queMsgBuffer.size(), this.szMaxQueCapacity);
             
                 // Wait for queue ready signal
                 this.cndMsgQueReady.await();
@@ -599,7 +609,7 @@ public class ProtoMessageBuffer<T extends GeneratedMessage> implements IMessageC
                 
                 // Log event
                 if (bolLogging)
-                    LOGGER.info("{}: Waiting for queue empty, queue size = {}.", JavaRuntime.getMethodName(), this.queMsgBuffer.size());
+                    LOGGER.info("{}: Waiting for queue empty, queue size = {}.", CS_AWAIT_QUEUE_EMPTY, this.queMsgBuffer.size());
             
                 // Wait for queue ready signal
                 this.cndMsgQueEmpty.await();
@@ -833,7 +843,7 @@ public class ProtoMessageBuffer<T extends GeneratedMessage> implements IMessageC
              
                 // Log event
                 if (bolLogging)
-                    LOGGER.info("{}: Blocking on queue size {} > capacity {} (back pressure event).", JavaRuntime.getMethodName(), this.queMsgBuffer.size(), this.szMaxQueCapacity);
+                    LOGGER.info("{}: Blocking on queue size {} > capacity {} (back pressure event).", CS_OFFER, this.queMsgBuffer.size(), this.szMaxQueCapacity);
             
                 // Wait for queue ready signal
                 this.cndMsgQueReady.await();  // throws InterruptedException
@@ -912,7 +922,7 @@ public class ProtoMessageBuffer<T extends GeneratedMessage> implements IMessageC
              
                 // Log event
                 if (bolLogging)
-                    LOGGER.info("{}: Blocking on queue size {} > capacity {} (back pressure event).", JavaRuntime.getMethodName(), this.queMsgBuffer.size(), this.szMaxQueCapacity);
+                    LOGGER.info("{}: Blocking on queue size {} > capacity {} (back pressure event).", CS_OFFER, this.queMsgBuffer.size(), this.szMaxQueCapacity);
             
                 // Wait for queue ready signal
                 this.cndMsgQueReady.await(lngTimeout, tuTimeout);  // throws InterruptedException
@@ -0,0 +1,87 @@
+/*
+ * Project: dp-api-common
+ * File:	ColumnStatistics.java
+ * Package: com.ospreydcs.dp.api.model.table
+ * Type: 	ColumnStatistics
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.model.table;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+
+/**
+ * <p>
+ * Record containing the summary statistics of a numeric data column.
+ * </p>
+ * <p>
+ * Statistics are computed over the values present in the column; missing values (<code>null</code> cells
+ * or <code>NaN</code>) are counted but otherwise ignored.  If the column contains no values the min, max,
+ * mean, RMS, and standard deviation are all <code>NaN</code>.  Instances are created by
+ * <code>{@link DataTableStatistics}</code>.
+ * </p>
+ *
+ * @param strName       column name
+ * @param enmType       column data type
+ * @param cntRows       number of column rows
+ * @param cntValues     number of values present (i.e., rows less missing values)
+ * @param dblMin        minimum value
+ * @param dblMax        maximum value
+ * @param dblMean       arithmetic mean of the values
+ * @param dblRms        root-mean-square of the values
+ * @param dblStdDev     sample standard deviation of the values (0 for a single value)
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public record ColumnStatistics(
+        String              strName,
+        DpSupportedType     enmType,
+        int                 cntRows,
+        int                 cntValues,
+        double              dblMin,
+        double              dblMax,
+        double              dblMean,
+        double              dblRms,
+        double              dblStdDev
+        ) 
+{
+
+    //
+    // Operations
+    //
+
+    /**
+     * @return  the number of missing values within the column
+     */
+    public int  cntMissing() {
+        return this.cntRows - this.cntValues;
+    }
+
+    /**
+     * @return  <code>true</code> if the column contains at least one value, <code>false</code> otherwise
+     */
+    public boolean  hasValues() {
+        return this.cntValues > 0;
+    }
+}
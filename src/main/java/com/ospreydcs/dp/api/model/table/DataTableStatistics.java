@@ -0,0 +1,804 @@
+/*
+ * Project: dp-api-common
+ * File:	DataTableStatistics.java
+ * Package: com.ospreydcs.dp.api.model.table
+ * Type: 	DataTableStatistics
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.model.table;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.common.IDataTable;
+import com.ospreydcs.dp.api.config.DpApiConfig;
+import com.ospreydcs.dp.api.config.query.DpQueryConfig;
+
+/**
+ * <p>
+ * Summary statistics, percentiles, and histograms of the numeric columns of <code>{@link IDataTable}</code>
+ * and <code>{@link IDataColumn}</code> instances.
+ * </p>
+ * <p>
+ * <h2>Primitive Kernels</h2>
+ * Each column is first converted into a primitive <code>double[]</code> array and a validity bitmask
+ * (one bit per row, packed into <code>long</code> words).  Columns backed by primitive arrays
+ * (<code>{@link DoubleArrayDataColumn}</code> and <code>{@link PrimitiveArrayDataColumn}</code>) are read directly
+ * without boxing; other columns require a single pass over their values.  Missing values, that is <code>null</code>
+ * cells of sparse tables and <code>NaN</code> values, are cleared in the bitmask.  A column without missing values
+ * has no bitmask at all.
+ * </p>
+ * <p>
+ * The kernels never test individual cells.  The bitmask is decomposed into runs of contiguous valid rows (a fully
+ * valid 64-row word is a single run, an empty word is skipped) and each run is processed by a straight-line loop
+ * over the primitive array using several independent accumulators, a form the JIT compiler unrolls and pipelines.
+ * </p>
+ * <p>
+ * When the <code>jdk.incubator.vector</code> module is resolved in the boot layer (e.g., with
+ * <code>--add-modules jdk.incubator.vector</code>) the sum, extrema, and squared deviations of each run are instead
+ * computed by the SIMD kernels of <code>{@link DataTableVectorKernels}</code>.  Otherwise the scalar loops above
+ * are used, so applications need not resolve the incubator module (see <code>{@link #BOL_VECTOR}</code>).
+ * </p>
+ * <p>
+ * <h2>Concurrency</h2>
+ * Table statistics are computed concurrently across columns, and the rows of large columns are divided into
+ * blocks of <code>{@link #SZ_ROW_BLOCK}</code> rows that are processed concurrently and then combined.  Means and
+ * variances are combined with the pairwise update of Chan et al., so results do not depend on the block division
+ * beyond floating-point rounding.  Concurrency is enabled, and its column count pivot given, by the data table
+ * construction parameters of the library configuration (<code>query.data.table.construction.concurrency</code>).
+ * </p>
+ * <p>
+ * <h2>NOTES:</h2>
+ * <ul>
+ * <li>Only numeric columns (<code>INTEGER</code>, <code>LONG</code>, <code>FLOAT</code>, <code>DOUBLE</code>)
+ *     have statistics; table operations skip other columns.</li>
+ * <li>Percentiles use linear interpolation between closest ranks.</li>
+ * </ul>
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ * @see ColumnStatistics
+ */
+public final class DataTableStatistics {
+
+
+    //
+    // Application Resources
+    //
+
+    /** The Data Platform API default configuration parameter set */
+    private static final DpQueryConfig  CFG_QUERY = DpApiConfig.getInstance().query;
+
+
+    //
+    // Class Constants
+    //
+
+    /** Use concurrency across columns and row blocks */
+    public static final boolean     BOL_CONCURRENCY = CFG_QUERY.data.table.construction.concurrency.enabled;
+
+    /** Column count above which columns are processed concurrently */
+    public static final int         SZ_CONCURRENCY_PIVOT = CFG_QUERY.data.table.construction.concurrency.pivotSize;
+
+    /** Number of rows in a concurrently processed row block (a multiple of the bitmask word size) */
+    public static final int         SZ_ROW_BLOCK = 1 << 16;
+
+    /** Use the SIMD kernels of the <code>jdk.incubator.vector</code> module, present only if resolved at startup */
+    public static final boolean     BOL_VECTOR = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Prevent construction of <code>DataTableStatistics</code> instances.
+     * </p>
+     */
+    private DataTableStatistics() {
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Computes the summary statistics of all numeric columns of the given table.
+     * </p>
+     *
+     * @param tbl   the data table
+     *
+     * @return  statistics for each numeric column, in table column order
+     */
+    public static List<ColumnStatistics>    compute(IDataTable tbl) {
+        int     cntCols = tbl.getColumnCount();
+
+        return DataTableStatistics.stream(IntStream.range(0, cntCols).boxed(), cntCols > SZ_CONCURRENCY_PIVOT)
+                .map(tbl::getColumn)
+                .filter(col -> DataTableStatistics.isNumeric(col.getType()))
+                .map(DataTableStatistics::compute)
+                .toList();
+    }
+
+    /**
+     * <p>
+     * Computes the summary statistics of the given numeric column.
+     * </p>
+     *
+     * @param col   the data column
+     *
+     * @return  statistics of the column values
+     *
+     * @throws IllegalArgumentException the column is not numeric
+     */
+    public static ColumnStatistics  compute(IDataColumn<Object> col) throws IllegalArgumentException {
+        return DataTableStatistics.compute(col, BOL_VECTOR);
+    }
+
+    /**
+     * <p>
+     * Computes the given percentiles of the given numeric column.
+     * </p>
+     * <p>
+     * Percentile <i>p</i> is the value at fractional rank <i>p</i>(<i>n</i> - 1)/100 within the sorted values,
+     * interpolated linearly between adjacent ranks.  All percentiles are <code>NaN</code> for a column without values.
+     * </p>
+     *
+     * @param col       the data column
+     * @param arrPcts   the percentiles to compute, each within [0, 100]
+     *
+     * @return  the value of each percentile, in argument order
+     *
+     * @throws IllegalArgumentException the column is not numeric or a percentile is out of range
+     */
+    public static double[]  percentiles(IDataColumn<Object> col, double... arrPcts) throws IllegalArgumentException {
+        for (double dblPct : arrPcts)
+            if (!(dblPct >= 0.0 && dblPct <= 100.0))
+                throw new IllegalArgumentException("Percentile out of range [0, 100]: " + dblPct);
+
+        double[]    arrSorted = Samples.from(col).compact();
+        double[]    arrVals = new double[arrPcts.length];
+
+        if (arrSorted.length > SZ_ROW_BLOCK)
+            Arrays.parallelSort(arrSorted);
+        else
+            Arrays.sort(arrSorted);
+
+        for (int i=0; i<arrPcts.length; i++) {
+            if (arrSorted.length == 0) {
+                arrVals[i] = Double.NaN;
+                continue;
+            }
+
+            double  dblRank = arrPcts[i] * (arrSorted.length - 1) / 100.0;
+            int     indLo = (int)Math.floor(dblRank);
+            int     indHi = Math.min(indLo + 1, arrSorted.length - 1);
+
+            arrVals[i] = arrSorted[indLo] + (dblRank - indLo) * (arrSorted[indHi] - arrSorted[indLo]);
+        }
+
+        return arrVals;
+    }
+
+    /**
+     * <p>
+     * Computes a histogram of the given numeric column spanning the range of its values.
+     * </p>
+     *
+     * @param col       the data column
+     * @param cntBins   number of histogram bins
+     *
+     * @return  histogram of the column values (all counts are zero for a column without values)
+     *
+     * @throws IllegalArgumentException the column is not numeric or the bin count is not positive
+     */
+    public static Histogram histogram(IDataColumn<Object> col, int cntBins) throws IllegalArgumentException {
+        ColumnStatistics    stats = DataTableStatistics.compute(col);
+
+        if (!stats.hasValues())
+            return DataTableStatistics.histogram(col, 0.0, 1.0, cntBins);
+
+        double  dblUpper = (stats.dblMax() > stats.dblMin()) ? stats.dblMax() : stats.dblMin() + 1.0;
+
+        return DataTableStatistics.histogram(col, stats.dblMin(), dblUpper, cntBins);
+    }
+
+    /**
+     * <p>
+     * Computes a histogram of the given numeric column over the given range.
+     * </p>
+     * <p>
+     * The range [<code>dblLower</code>, <code>dblUpper</code>] is divided into bins of equal width; each bin
+     * includes its lower bound and the last bin also includes the upper bound.  Values outside the range are
+     * counted separately.
+     * </p>
+     *
+     * @param col       the data column
+     * @param dblLower  lower bound of the histogram range
+     * @param dblUpper  upper bound of the histogram range
+     * @param cntBins   number of histogram bins
+     *
+     * @return  histogram of the column values
+     *
+     * @throws IllegalArgumentException the column is not numeric, the range is empty, or the bin count is not positive
+     */
+    public static Histogram histogram(IDataColumn<Object> col, double dblLower, double dblUpper, int cntBins) throws IllegalArgumentException {
+        if (cntBins <= 0)
+            throw new IllegalArgumentException("Histogram bin count must be positive: " + cntBins);
+
+        if (!(dblUpper > dblLower) || Double.isInfinite(dblUpper - dblLower))
+            throw new IllegalArgumentException("Histogram range is invalid: [" + dblLower + ", " + dblUpper + "]");
+
+        Samples smpls = Samples.from(col);
+
+        return DataTableStatistics.stream(IntStream.range(0, smpls.cntBlocks()).boxed(), smpls.cntBlocks() > 1)
+                .map(indBlk -> Histogram.from(smpls, indBlk, dblLower, dblUpper, cntBins))
+                .reduce(Histogram::combine)
+                .orElseGet(() -> new Histogram(dblLower, dblUpper, new long[cntBins], 0L, 0L));
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Computes the summary statistics of the given numeric column with the given kernels.
+     * </p>
+     * <p>
+     * Package-private for testing both kernel paths; the vector kernels require the
+     * <code>jdk.incubator.vector</code> module (see <code>{@link #BOL_VECTOR}</code>).
+     * </p>
+     *
+     * @param col       the data column
+     * @param bolVector use the vector kernels rather than the scalar kernels
+     *
+     * @return  statistics of the column values
+     *
+     * @throws IllegalArgumentException the column is not numeric
+     */
+    static ColumnStatistics compute(IDataColumn<Object> col, boolean bolVector) throws IllegalArgumentException {
+        Samples smpls = Samples.from(col);
+        Moments mmts = DataTableStatistics.stream(IntStream.range(0, smpls.cntBlocks()).boxed(), smpls.cntBlocks() > 1)
+                .map(indBlk -> Moments.from(smpls, indBlk, bolVector))
+                .reduce(new Moments(), Moments::combine);
+
+        return mmts.toStatistics(col.getName(), col.getType(), smpls.cntRows);
+    }
+
+
+
+    /**
+     * @param <T>           stream element type
+     * @param strm          sequential stream
+     * @param bolParallel   parallel processing is warranted
+     *
+     * @return  the given stream, made parallel if concurrency is enabled and warranted
+     */
+    private static <T> Stream<T>    stream(Stream<T> strm, boolean bolParallel) {
+        if (BOL_CONCURRENCY && bolParallel)
+            return strm.parallel();
+
+        return strm;
+    }
+
+    /**
+     * @param enmType   data type
+     *
+     * @return  <code>true</code> if the type has a numeric value, <code>false</code> otherwise
+     */
+    private static boolean  isNumeric(DpSupportedType enmType) {
+        if (enmType == null)
+            return false;
+
+        return switch (enmType) {
+        case INTEGER, LONG, FLOAT, DOUBLE -> true;
+        default -> false;
+        };
+    }
+
+
+    /**
+     * <p>
+     * Scalar kernel accumulating the sum and extrema of the given run of values.
+     * </p>
+     * <p>
+     * The loop is unrolled with independent accumulators so the JIT compiler can pipeline it.
+     * </p>
+     *
+     * @param arrVals   the values
+     * @param indBeg    index of the first value of the run (inclusive)
+     * @param indEnd    index of the last value of the run (exclusive)
+     * @param arrAcc    accumulator {sum, min, max}, updated with the run values
+     */
+    private static void sumMinMax(double[] arrVals, int indBeg, int indEnd, double[] arrAcc) {
+        double  s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+        double  min0 = arrAcc[1], min1 = min0;
+        double  max0 = arrAcc[2], max1 = max0;
+        int     i = indBeg;
+
+        for (; i + 3 < indEnd; i += 4) {
+            double  v0 = arrVals[i], v1 = arrVals[i+1], v2 = arrVals[i+2], v3 = arrVals[i+3];
+
+            s0 += v0; s1 += v1; s2 += v2; s3 += v3;
+            min0 = Math.min(min0, Math.min(v0, v1));
+            min1 = Math.min(min1, Math.min(v2, v3));
+            max0 = Math.max(max0, Math.max(v0, v1));
+            max1 = Math.max(max1, Math.max(v2, v3));
+        }
+        for (; i < indEnd; i++) {
+            s0 += arrVals[i];
+            min0 = Math.min(min0, arrVals[i]);
+            max0 = Math.max(max0, arrVals[i]);
+        }
+
+        arrAcc[0] += (s0 + s1) + (s2 + s3);
+        arrAcc[1] = Math.min(min0, min1);
+        arrAcc[2] = Math.max(max0, max1);
+    }
+
+    /**
+     * <p>
+     * Scalar kernel computing the sum of squared deviations of the given run of values from the given mean.
+     * </p>
+     *
+     * @param arrVals   the values
+     * @param indBeg    index of the first value of the run (inclusive)
+     * @param indEnd    index of the last value of the run (exclusive)
+     * @param dblMean   the mean value
+     *
+     * @return  the sum of squared deviations of the run values
+     */
+    private static double   sumSquaredDeviations(double[] arrVals, int indBeg, int indEnd, double dblMean) {
+        double  s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+        int     i = indBeg;
+
+        for (; i + 3 < indEnd; i += 4) {
+            double  d0 = arrVals[i] - dblMean, d1 = arrVals[i+1] - dblMean, d2 = arrVals[i+2] - dblMean, d3 = arrVals[i+3] - dblMean;
+
+            s0 += d0 * d0; s1 += d1 * d1; s2 += d2 * d2; s3 += d3 * d3;
+        }
+        for (; i < indEnd; i++) {
+            double  d0 = arrVals[i] - dblMean;
+
+            s0 += d0 * d0;
+        }
+
+        return (s0 + s1) + (s2 + s3);
+    }
+
+
+    //
+    // Support Types
+    //
+
+    /**
+     * <p>
+     * Record containing a histogram of column values.
+     * </p>
+     *
+     * @param dblLower      lower bound of the histogram range
+     * @param dblUpper      upper bound of the histogram range
+     * @param arrCounts     number of values within each bin
+     * @param cntBelow      number of values below the lower bound
+     * @param cntAbove      number of values above the upper bound
+     */
+    public static record Histogram(double dblLower, double dblUpper, long[] arrCounts, long cntBelow, long cntAbove) {
+
+        /**
+         * <p>
+         * Creates the histogram of the given row block.
+         * </p>
+         */
+        private static Histogram    from(Samples smpls, int indBlk, double dblLower, double dblUpper, int cntBins) {
+            long[]      arrCounts = new long[cntBins];
+            long[]      arrOut = new long[2];
+            double      dblScale = cntBins / (dblUpper - dblLower);
+            double[]    arrVals = smpls.arrVals;
+
+            smpls.forEachRun(indBlk, (indBeg, indEnd) -> {
+                for (int i=indBeg; i<indEnd; i++) {
+                    double  dblVal = arrVals[i];
+
+                    if (dblVal < dblLower)
+                        arrOut[0]++;
+                    else if (dblVal > dblUpper)
+                        arrOut[1]++;
+                    else
+                        arrCounts[Math.min((int)((dblVal - dblLower) * dblScale), cntBins - 1)]++;
+                }
+            });
+
+            return new Histogram(dblLower, dblUpper, arrCounts, arrOut[0], arrOut[1]);
+        }
+
+        /**
+         * @return  the width of each histogram bin
+         */
+        public double   binWidth() {
+            return (this.dblUpper - this.dblLower) / this.arrCounts.length;
+        }
+
+        /**
+         * @return  the sum of this histogram and the given histogram over the same bins
+         */
+        private Histogram   combine(Histogram hstOther) {
+            long[]  arrSum = this.arrCounts.clone();
+
+            for (int i=0; i<arrSum.length; i++)
+                arrSum[i] += hstOther.arrCounts[i];
+
+            return new Histogram(this.dblLower, this.dblUpper, arrSum, this.cntBelow + hstOther.cntBelow, this.cntAbove + hstOther.cntAbove);
+        }
+    }
+
+    /**
+     * <p>
+     * Consumer of a run of contiguous valid rows.
+     * </p>
+     */
+    @FunctionalInterface
+    private static interface IRunConsumer {
+
+        /**
+         * @param indBeg    first row of the run
+         * @param indEnd    row following the run
+         */
+        public void accept(int indBeg, int indEnd);
+    }
+
+    /**
+     * <p>
+     * The values of a numeric column as a primitive array with a validity bitmask.
+     * </p>
+     */
+    private static final class Samples {
+
+        /** Column values (only the first <code>cntRows</code> are column rows) */
+        private final double[]  arrVals;
+
+        /** Number of column rows */
+        private final int       cntRows;
+
+        /** Validity bitmask (bit <i>i</i> % 64 of word <i>i</i> / 64 for row <i>i</i>), or <code>null</code> if all rows are valid */
+        private final long[]    arrMask;
+
+        /**
+         * <p>
+         * Extracts the values and validity bitmask of the given column.
+         * </p>
+         *
+         * @param col   numeric data column
+         *
+         * @return  the column samples
+         *
+         * @throws IllegalArgumentException the column is not numeric
+         */
+        private static Samples  from(IDataColumn<Object> col) throws IllegalArgumentException {
+            if (!DataTableStatistics.isNumeric(col.getType()))
+                throw new IllegalArgumentException("Column " + col.getName() + " of type " + col.getType() + " is not numeric.");
+
+            int     cntRows = col.getSize();
+
+            // Primitive columns
+            if (col instanceof DoubleArrayDataColumn colDbls)
+                return Samples.withNaNMask(colDbls.getDoubleArray(), cntRows);
+
+            if (col instanceof PrimitiveArrayDataColumn colPrim) {
+                double[]    arrVals = new double[cntRows];
+
+                switch (col.getType()) {
+                case INTEGER:
+                    int[]   arrInts = (int[])colPrim.getArray();
+                    for (int i=0; i<cntRows; i++)
+                        arrVals[i] = arrInts[i];
+                    return new Samples(arrVals, cntRows, null);
+                case LONG:
+                    long[]  arrLngs = (long[])colPrim.getArray();
+                    for (int i=0; i<cntRows; i++)
+                        arrVals[i] = arrLngs[i];
+                    return new Samples(arrVals, cntRows, null);
+                case FLOAT:
+                    float[] arrFlts = (float[])colPrim.getArray();
+                    for (int i=0; i<cntRows; i++)
+                        arrVals[i] = arrFlts[i];
+                    return Samples.withNaNMask(arrVals, cntRows);
+                default:
+                    break;
+                }
+            }
+
+            // Boxed columns - single pass building the values and the bitmask
+            double[]    arrVals = new double[cntRows];
+            long[]      arrMask = new long[Samples.words(cntRows)];
+            boolean     bolMissing = false;
+            int         ind = 0;
+
+            for (Object objVal : col.getValues()) {
+                if (objVal instanceof Number num)
+                    arrVals[ind] = num.doubleValue();
+                else
+                    arrVals[ind] = Double.NaN;
+
+                if (Double.isNaN(arrVals[ind]))
+                    bolMissing = true;
+                else
+                    arrMask[ind >>> 6] |= 1L << ind;
+                ind++;
+            }
+
+            return new Samples(arrVals, cntRows, bolMissing ? arrMask : null);
+        }
+
+        /**
+         * <p>
+         * Creates samples over the given array with a bitmask clearing its <code>NaN</code> values, if any.
+         * </p>
+         */
+        private static Samples  withNaNMask(double[] arrVals, int cntRows) {
+            long[]      arrMask = null;
+
+            for (int i=0; i<cntRows; i++) {
+                if (!Double.isNaN(arrVals[i]))
+                    continue;
+
+                if (arrMask == null) {
+                    arrMask = new long[Samples.words(cntRows)];
+                    Arrays.fill(arrMask, -1L);
+
+                    // Clear the bits beyond the last row
+                    if ((cntRows & 63) != 0)
+                        arrMask[arrMask.length - 1] = (1L << cntRows) - 1L;
+                }
+                arrMask[i >>> 6] &= ~(1L << i);
+            }
+
+            return new Samples(arrVals, cntRows, arrMask);
+        }
+
+        /**
+         * @return  the number of bitmask words covering the given number of rows
+         */
+        private static int  words(int cntRows) {
+            return (cntRows + 63) >>> 6;
+        }
+
+        /**
+         * <p>
+         * Constructs a new <code>Samples</code> instance.
+         * </p>
+         */
+        private Samples(double[] arrVals, int cntRows, long[] arrMask) {
+            this.arrVals = arrVals;
+            this.cntRows = cntRows;
+            this.arrMask = arrMask;
+        }
+
+        /**
+         * @return  the number of row blocks
+         */
+        private int cntBlocks() {
+            return Math.max(1, (this.cntRows + SZ_ROW_BLOCK - 1) / SZ_ROW_BLOCK);
+        }
+
+        /**
+         * <p>
+         * Passes each run of contiguous valid rows within the given row block to the consumer.
+         * </p>
+         * <p>
+         * Without a bitmask the entire block is a single run.  Otherwise each 64-row bitmask word is
+         * decomposed into its runs of set bits.
+         * </p>
+         *
+         * @param indBlk    row block index
+         * @param fncRun    run consumer
+         */
+        private void forEachRun(int indBlk, IRunConsumer fncRun) {
+            int     indBeg = indBlk * SZ_ROW_BLOCK;
+            int     indEnd = Math.min(indBeg + SZ_ROW_BLOCK, this.cntRows);
+
+            if (this.arrMask == null) {
+                if (indEnd > indBeg)
+                    fncRun.accept(indBeg, indEnd);
+                return;
+            }
+
+            int     indRunBeg = -1;     // start of a run continuing across words, or -1
+
+            for (int indWrd=indBeg >>> 6; indWrd < Samples.words(indEnd); indWrd++) {
+                long    lngWrd = this.arrMask[indWrd];
+                int     indBase = indWrd << 6;
+
+                if (lngWrd == -1L) {
+                    if (indRunBeg < 0)
+                        indRunBeg = indBase;
+                    continue;
+                }
+
+                int     intBit = 0;
+                while (intBit < 64) {
+                    long    lngRest = lngWrd >>> intBit;
+
+                    if (indRunBeg >= 0) {
+                        // Extend the open run through the leading set bits
+                        int     cntOnes = Long.numberOfTrailingZeros(~lngRest);
+
+                        if (intBit + cntOnes >= 64)
+                            break;
+
+                        fncRun.accept(indRunBeg, indBase + intBit + cntOnes);
+                        indRunBeg = -1;
+                        intBit += cntOnes;
+
+                    } else {
+                        if (lngRest == 0L)
+                            break;
+
+                        intBit += Long.numberOfTrailingZeros(lngRest);
+                        indRunBeg = indBase + intBit;
+                    }
+                }
+            }
+
+            if (indRunBeg >= 0)
+                fncRun.accept(indRunBeg, indEnd);
+        }
+
+        /**
+         * @return  a new array containing the valid values
+         */
+        private double[]    compact() {
+            if (this.arrMask == null)
+                return Arrays.copyOf(this.arrVals, this.cntRows);
+
+            int     cntVals = 0;
+            for (long lngWrd : this.arrMask)
+                cntVals += Long.bitCount(lngWrd);
+
+            double[]    arrCmpct = new double[cntVals];
+            int[]       arrPos = new int[1];
+
+            for (int indBlk=0; indBlk<this.cntBlocks(); indBlk++)
+                this.forEachRun(indBlk, (indBeg, indEnd) -> {
+                    System.arraycopy(this.arrVals, indBeg, arrCmpct, arrPos[0], indEnd - indBeg);
+                    arrPos[0] += indEnd - indBeg;
+                });
+
+            return arrCmpct;
+        }
+    }
+
+    /**
+     * <p>
+     * Count, extrema, mean, and sum of squared deviations of a set of values.
+     * </p>
+     */
+    private static final class Moments {
+
+        /** Number of values */
+        private long    cntVals = 0L;
+
+        /** Minimum value */
+        private double  dblMin = Double.POSITIVE_INFINITY;
+
+        /** Maximum value */
+        private double  dblMax = Double.NEGATIVE_INFINITY;
+
+        /** Mean value */
+        private double  dblMean = 0.0;
+
+        /** Sum of squared deviations from the mean */
+        private double  dblM2 = 0.0;
+
+        /**
+         * <p>
+         * Computes the moments of the given row block with two passes over its runs.
+         * </p>
+         * <p>
+         * The runs are processed by the vector kernels of <code>{@link DataTableVectorKernels}</code> when
+         * requested, otherwise by the scalar kernels of <code>{@link DataTableStatistics}</code>.
+         * </p>
+         */
+        private static Moments  from(Samples smpls, int indBlk, boolean bolVector) {
+            Moments     mmts = new Moments();
+            double[]    arrVals = smpls.arrVals;
+            double[]    arrAcc = { 0.0, mmts.dblMin, mmts.dblMax };
+
+            // First pass - count, sum, and extrema
+            smpls.forEachRun(indBlk, (indBeg, indEnd) -> {
+                if (bolVector)
+                    DataTableVectorKernels.sumMinMax(arrVals, indBeg, indEnd, arrAcc);
+                else
+                    DataTableStatistics.sumMinMax(arrVals, indBeg, indEnd, arrAcc);
+
+                mmts.cntVals += indEnd - indBeg;
+            });
+
+            mmts.dblMin = arrAcc[1];
+            mmts.dblMax = arrAcc[2];
+            if (mmts.cntVals == 0)
+                return mmts;
+
+            double      dblMean = arrAcc[0] / mmts.cntVals;
+            double[]    arrM2 = new double[1];
+
+            // Second pass - squared deviations from the block mean
+            smpls.forEachRun(indBlk, (indBeg, indEnd) -> {
+                if (bolVector)
+                    arrM2[0] += DataTableVectorKernels.sumSquaredDeviations(arrVals, indBeg, indEnd, dblMean);
+                else
+                    arrM2[0] += DataTableStatistics.sumSquaredDeviations(arrVals, indBeg, indEnd, dblMean);
+            });
+
+            mmts.dblMean = dblMean;
+            mmts.dblM2 = arrM2[0];
+
+            return mmts;
+        }
+
+        /**
+         * @return  the moments of the union of this set and the given set (Chan et al. pairwise update)
+         */
+        private Moments combine(Moments mmtsOther) {
+            if (mmtsOther.cntVals == 0)
+                return this;
+            if (this.cntVals == 0)
+                return mmtsOther;
+
+            Moments mmtsSum = new Moments();
+            long    cntSum = this.cntVals + mmtsOther.cntVals;
+            double  dblDelta = mmtsOther.dblMean - this.dblMean;
+
+            mmtsSum.cntVals = cntSum;
+            mmtsSum.dblMin = Math.min(this.dblMin, mmtsOther.dblMin);
+            mmtsSum.dblMax = Math.max(this.dblMax, mmtsOther.dblMax);
+            mmtsSum.dblMean = this.dblMean + dblDelta * mmtsOther.cntVals / cntSum;
+            mmtsSum.dblM2 = this.dblM2 + mmtsOther.dblM2 + dblDelta * dblDelta * ((double)this.cntVals * mmtsOther.cntVals / cntSum);
+
+            return mmtsSum;
+        }
+
+        /**
+         * @return  the column statistics of these moments
+         */
+        private ColumnStatistics    toStatistics(String strName, DpSupportedType enmType, int cntRows) {
+            if (this.cntVals == 0)
+                return new ColumnStatistics(strName, enmType, cntRows, 0, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+
+            double  dblVar = (this.cntVals > 1) ? this.dblM2 / (this.cntVals - 1) : 0.0;
+            double  dblRms = Math.sqrt(this.dblM2 / this.cntVals + this.dblMean * this.dblMean);
+
+            return new ColumnStatistics(strName, enmType, cntRows, (int)this.cntVals, this.dblMin, this.dblMax, this.dblMean, dblRms, Math.sqrt(dblVar));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Project: dp-api-common
+ * File:	DataTableVectorKernels.java
+ * Package: com.ospreydcs.dp.api.model.table
+ * Type: 	DataTableVectorKernels
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.model.table;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <p>
+ * SIMD kernels of <code>{@link DataTableStatistics}</code> using the <code>jdk.incubator.vector</code> API.
+ * </p>
+ * <p>
+ * Each kernel processes a run of valid values [<code>indBeg</code>, <code>indEnd</code>) of a primitive array
+ * with vectors of the preferred species of the platform, followed by a scalar loop over the remaining tail.
+ * </p>
+ * <p>
+ * <h2>NOTES:</h2>
+ * This class must only be loaded when the <code>jdk.incubator.vector</code> module is present in the boot
+ * layer (see <code>{@link DataTableStatistics#BOL_VECTOR}</code>), otherwise class loading fails.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ * @see DataTableStatistics
+ */
+final class DataTableVectorKernels {
+
+
+    //
+    // Class Constants
+    //
+
+    /** The vector species used by all kernels */
+    private static final VectorSpecies<Double>  SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Prevent construction of <code>DataTableVectorKernels</code> instances.
+     * </p>
+     */
+    private DataTableVectorKernels() {
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Accumulates the sum and extrema of the given run of values.
+     * </p>
+     *
+     * @param arrVals   the values
+     * @param indBeg    index of the first value of the run (inclusive)
+     * @param indEnd    index of the last value of the run (exclusive)
+     * @param arrAcc    accumulator {sum, min, max}, updated with the run values
+     */
+    static void sumMinMax(double[] arrVals, int indBeg, int indEnd, double[] arrAcc) {
+        DoubleVector    vecSum = DoubleVector.zero(SPECIES);
+        DoubleVector    vecMin = DoubleVector.broadcast(SPECIES, arrAcc[1]);
+        DoubleVector    vecMax = DoubleVector.broadcast(SPECIES, arrAcc[2]);
+        int             indBnd = indBeg + SPECIES.loopBound(indEnd - indBeg);
+        int             i = indBeg;
+
+        for (; i < indBnd; i += SPECIES.length()) {
+            DoubleVector    vecVals = DoubleVector.fromArray(SPECIES, arrVals, i);
+
+            vecSum = vecSum.add(vecVals);
+            vecMin = vecMin.min(vecVals);
+            vecMax = vecMax.max(vecVals);
+        }
+
+        double  dblSum = vecSum.reduceLanes(VectorOperators.ADD);
+        double  dblMin = vecMin.reduceLanes(VectorOperators.MIN);
+        double  dblMax = vecMax.reduceLanes(VectorOperators.MAX);
+
+        for (; i < indEnd; i++) {
+            dblSum += arrVals[i];
+            dblMin = Math.min(dblMin, arrVals[i]);
+            dblMax = Math.max(dblMax, arrVals[i]);
+        }
+
+        arrAcc[0] += dblSum;
+        arrAcc[1] = dblMin;
+        arrAcc[2] = dblMax;
+    }
+
+    /**
+     * <p>
+     * Computes the sum of squared deviations of the given run of values from the given mean.
+     * </p>
+     *
+     * @param arrVals   the values
+     * @param indBeg    index of the first value of the run (inclusive)
+     * @param indEnd    index of the last value of the run (exclusive)
+     * @param dblMean   the mean value
+     *
+     * @return  the sum of squared deviations of the run values
+     */
+    static double   sumSquaredDeviations(double[] arrVals, int indBeg, int indEnd, double dblMean) {
+        DoubleVector    vecMean = DoubleVector.broadcast(SPECIES, dblMean);
+        DoubleVector    vecSum = DoubleVector.zero(SPECIES);
+        int             indBnd = indBeg + SPECIES.loopBound(indEnd - indBeg);
+        int             i = indBeg;
+
+        for (; i < indBnd; i += SPECIES.length()) {
+            DoubleVector    vecDev = DoubleVector.fromArray(SPECIES, arrVals, i).sub(vecMean);
+
+            vecSum = vecDev.fma(vecDev, vecSum);
+        }
+
+        double  dblSum = vecSum.reduceLanes(VectorOperators.ADD);
+
+        for (; i < indEnd; i++) {
+            double  dblDev = arrVals[i] - dblMean;
+
+            dblSum += dblDev * dblDev;
+        }
+
+        return dblSum;
+    }
+}
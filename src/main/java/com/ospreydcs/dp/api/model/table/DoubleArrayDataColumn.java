@@ -0,0 +1,351 @@
+/*
+ * Project: dp-api-common
+ * File:	DoubleArrayDataColumn.java
+ * Package: com.ospreydcs.dp.api.model.table
+ * Type: 	DoubleArrayDataColumn
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.model.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.IDataColumn;
+
+/**
+ * <p>
+ * A named column of <code>double</code> values backed by a primitive array.
+ * </p>
+ * <p>
+ * Implements the <code>{@link IDataColumn}</code> interface for high-rate data where boxing each value
+ * into a <code>Double</code> object is prohibitively expensive.  The column values are stored in the first
+ * <code>{@link #getSize()}</code> elements of a primitive <code>double[]</code> array, which may be larger
+ * than the column.  Consumers aware of this class can access the values directly with
+ * <code>{@link #getDouble(int)}</code> and <code>{@link #getDoubleArray()}</code>; the generic
+ * <code>IDataColumn</code> accessors box values on demand.
+ * </p>
+ * <p>
+ * <h2>Recycling</h2>
+ * A column may be created with a recycling function, in which case the backing array is handed back to
+ * the function when the column is cleared with <code>{@link #clear()}</code>.  This allows producers to
+ * reuse backing arrays (e.g., see <code>IngestionFrameBuilder</code>).  A cleared column is empty and
+ * must not be used further.
+ * </p>
+ * <p>
+ * The hand-off is atomic: if several threads clear the same column concurrently (e.g., a client recycling
+ * a frame that the frame processor is also recycling) the backing array is recycled exactly once.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ * @see IDataColumn
+ */
+public class DoubleArrayDataColumn implements IDataColumn<Object> {
+
+
+    //
+    // Class Constants
+    //
+
+    /** The (shared) backing array of a cleared column */
+    private static final double[]   ARR_EMPTY = new double[0];
+
+
+    //
+    // Attributes
+    //
+
+    /** The name of the data column, typically the unique name of the data source producing the column data */
+    private final String            strName;
+
+    /** The backing array of column values - only the first <code>cntVals</code> entries are valid */
+    private double[]                arrVals;
+
+    /** The number of values in the column */
+    private int                     cntVals;
+
+    /** Optional recycling function receiving the backing array when cleared - may be <code>null</code> */
+    private final Consumer<double[]>    fncRecycle;
+
+    /** Ownership of the backing array for recycling - swapped out exactly once when cleared */
+    private final AtomicReference<double[]> refRecycle;
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new <code>DoubleArrayDataColumn</code> instance backed by the given array.
+     * </p>
+     * <p>
+     * The column takes ownership of the given array, it should not be modified after this call.
+     * </p>
+     *
+     * @param strName   name of the data column
+     * @param arrVals   backing array of column values
+     * @param cntVals   number of valid values within the backing array
+     *
+     * @return  a new data column backed by the given array
+     *
+     * @throws IllegalArgumentException the value count is negative or larger than the array
+     */
+    public static DoubleArrayDataColumn from(String strName, double[] arrVals, int cntVals) throws IllegalArgumentException {
+        return new DoubleArrayDataColumn(strName, arrVals, cntVals, null);
+    }
+
+    /**
+     * <p>
+     * Creates a new, recyclable <code>DoubleArrayDataColumn</code> instance backed by the given array.
+     * </p>
+     * <p>
+     * The column takes ownership of the given array.  The array is passed to the given recycling function
+     * when the column is cleared.
+     * </p>
+     *
+     * @param strName       name of the data column
+     * @param arrVals       backing array of column values
+     * @param cntVals       number of valid values within the backing array
+     * @param fncRecycle    function receiving the backing array when the column is cleared
+     *
+     * @return  a new, recyclable data column backed by the given array
+     *
+     * @throws IllegalArgumentException the value count is negative or larger than the array
+     */
+    public static DoubleArrayDataColumn from(String strName, double[] arrVals, int cntVals, Consumer<double[]> fncRecycle)
+            throws IllegalArgumentException {
+        return new DoubleArrayDataColumn(strName, arrVals, cntVals, fncRecycle);
+    }
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>DoubleArrayDataColumn</code>.
+     * </p>
+     *
+     * @param strName       name of the data column
+     * @param arrVals       backing array of column values
+     * @param cntVals       number of valid values within the backing array
+     * @param fncRecycle    function receiving the backing array when the column is cleared (or <code>null</code>)
+     *
+     * @throws IllegalArgumentException the value count is negative or larger than the array
+     */
+    public DoubleArrayDataColumn(String strName, double[] arrVals, int cntVals, Consumer<double[]> fncRecycle) throws IllegalArgumentException {
+
+        // Check arguments
+        if (cntVals < 0 || cntVals > arrVals.length)
+            throw new IllegalArgumentException("Value count " + cntVals + " is invalid for array of length " + arrVals.length);
+
+        this.strName = strName;
+        this.arrVals = arrVals;
+        this.cntVals = cntVals;
+        this.fncRecycle = fncRecycle;
+        this.refRecycle = new AtomicReference<>(arrVals);
+    }
+
+
+    //
+    // Primitive Access
+    //
+
+    /**
+     * <p>
+     * Returns the column value at the given index without boxing.
+     * </p>
+     *
+     * @param index     index of the column value
+     *
+     * @return  the column value at the given index
+     *
+     * @throws IndexOutOfBoundsException    the index is outside the column
+     */
+    public double getDouble(int index) throws IndexOutOfBoundsException {
+
+        if (index < 0 || index >= this.cntVals)
+            throw new IndexOutOfBoundsException(index);
+
+        return this.arrVals[index];
+    }
+
+    /**
+     * <p>
+     * Returns the backing array of the column.
+     * </p>
+     * <p>
+     * Only the first <code>{@link #getSize()}</code> elements are column values.  The returned array
+     * must not be modified.
+     * </p>
+     *
+     * @return  the backing array of column values
+     */
+    public double[] getDoubleArray() {
+        return this.arrVals;
+    }
+
+    /**
+     * <p>
+     * Creates a new (non-recyclable) column containing a copy of the given range of column values.
+     * </p>
+     *
+     * @param indBeg    index of the first value to copy (inclusive)
+     * @param indEnd    index of the last value to copy (exclusive)
+     *
+     * @return  a new column of the same name containing the given values
+     *
+     * @throws IndexOutOfBoundsException    the range is outside the column
+     */
+    public DoubleArrayDataColumn    copyOfRange(int indBeg, int indEnd) throws IndexOutOfBoundsException {
+        Objects.checkFromToIndex(indBeg, indEnd, this.cntVals);
+
+        return DoubleArrayDataColumn.from(this.strName, Arrays.copyOfRange(this.arrVals, indBeg, indEnd), indEnd - indBeg);
+    }
+
+    /**
+     * @return  <code>true</code> if the backing array is recycled when the column is cleared
+     */
+    public boolean isRecyclable() {
+        return this.fncRecycle != null;
+    }
+
+
+    //
+    // IDataColumn<Object> Interface
+    //
+
+    /**
+     * @see com.ospreydcs.dp.api.common.IDataColumn#getName()
+     */
+    @Override
+    public String getName() {
+        return this.strName;
+    }
+
+    /**
+     * @return  always returns <code>{@link DpSupportedType#DOUBLE}</code>
+     *
+     * @see com.ospreydcs.dp.api.common.IDataColumn#getType()
+     */
+    @Override
+    public DpSupportedType getType() {
+        return DpSupportedType.DOUBLE;
+    }
+
+    /**
+     * @see com.ospreydcs.dp.api.common.IDataColumn#getSize()
+     */
+    @Override
+    public Integer getSize() {
+        return this.cntVals;
+    }
+
+    /**
+     * <p>
+     * Empties the column and, if recyclable, hands the backing array to the recycling function.
+     * </p>
+     * <p>
+     * Only the first invocation hands off the backing array, subsequent (or concurrent) invocations
+     * have no effect.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.common.IDataColumn#clear()
+     */
+    @Override
+    public void clear() {
+        double[]    arrOld = this.refRecycle.getAndSet(ARR_EMPTY);
+
+        this.arrVals = ARR_EMPTY;
+        this.cntVals = 0;
+
+        if (this.fncRecycle != null && arrOld.length > 0)
+            this.fncRecycle.accept(arrOld);
+    }
+
+    /**
+     * @return  always returns <code>true</code>, the column values are <code>double</code> by construction
+     *
+     * @see com.ospreydcs.dp.api.common.IDataColumn#isTypeConsistent()
+     */
+    @Override
+    public boolean isTypeConsistent() {
+        return true;
+    }
+
+    /**
+     * <p>
+     * Returns the (boxed) column value at the given index.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.common.IDataColumn#getValue(int)
+     */
+    @Override
+    public Object getValue(int index) throws IndexOutOfBoundsException {
+        return Double.valueOf(this.getDouble(index));
+    }
+
+    /**
+     * <p>
+     * Returns a new list containing the (boxed) column values.
+     * </p>
+     * <p>
+     * This operation boxes every value and should be avoided on performance critical paths.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.common.IDataColumn#getValues()
+     */
+    @Override
+    public List<Object> getValues() {
+        ArrayList<Object>   vecVals = new ArrayList<>(this.cntVals);
+
+        for (int i=0; i<this.cntVals; i++)
+            vecVals.add(this.arrVals[i]);
+
+        return vecVals;
+    }
+
+    /**
+     * <p>
+     * Returns the number of bytes of the column values.
+     * </p>
+     * <p>
+     * The value is computed directly from the value count, the column name and the (unused) array
+     * capacity are not included.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.common.IDataColumn#allocationSize()
+     */
+    @Override
+    public long allocationSize() {
+        return (long)Double.BYTES * this.cntVals;
+    }
+}
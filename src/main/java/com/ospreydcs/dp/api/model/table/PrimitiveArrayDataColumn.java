@@ -0,0 +1,453 @@
+/*
+ * Project: dp-api-common
+ * File:	PrimitiveArrayDataColumn.java
+ * Package: com.ospreydcs.dp.api.model.table
+ * Type: 	PrimitiveArrayDataColumn
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.model.table;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.IDataColumn;
+
+/**
+ * <p>
+ * A named, immutable column of <code>int</code>, <code>long</code>, <code>float</code>, or <code>boolean</code>
+ * values backed by a primitive array.
+ * </p>
+ * <p>
+ * This class is the counterpart of <code>{@link DoubleArrayDataColumn}</code> for the remaining scalar
+ * primitive types supported by the Data Platform.  The column values are stored in the first
+ * <code>{@link #getSize()}</code> elements of the backing array, which may be larger than the column
+ * (e.g., an EPICS PVData array with spare capacity).  Consumers aware of this class access the values directly
+ * with the typed accessors (e.g., <code>{@link #getInt(int)}</code>) or the backing array; the generic
+ * <code>IDataColumn</code> accessors box values on demand.
+ * </p>
+ * <p>
+ * <h2>NOTES:</h2>
+ * The column takes ownership of the backing array, which must not be modified after creation.
+ * Clearing the column releases the array reference.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ * @see IDataColumn
+ * @see DoubleArrayDataColumn
+ */
+public class PrimitiveArrayDataColumn implements IDataColumn<Object> {
+
+
+    //
+    // Attributes
+    //
+
+    /** The name of the data column, typically the unique name of the data source producing the column data */
+    private final String            strName;
+
+    /** The column data type */
+    private final DpSupportedType   enmType;
+
+    /** The backing array (int[], long[], float[], or boolean[]) - only the first <code>cntVals</code> entries are valid */
+    private Object                  arrVals;
+
+    /** The number of values in the column */
+    private int                     cntVals;
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new <code>{@link DpSupportedType#INTEGER}</code> column backed by the given array.
+     * </p>
+     *
+     * @param strName   name of the data column
+     * @param arrVals   backing array of column values
+     * @param cntVals   number of valid values within the backing array
+     *
+     * @return  a new data column backed by the given array
+     *
+     * @throws IllegalArgumentException the value count is negative or larger than the array
+     */
+    public static PrimitiveArrayDataColumn from(String strName, int[] arrVals, int cntVals) throws IllegalArgumentException {
+        return new PrimitiveArrayDataColumn(strName, DpSupportedType.INTEGER, arrVals, arrVals.length, cntVals);
+    }
+
+    /**
+     * <p>
+     * Creates a new <code>{@link DpSupportedType#LONG}</code> column backed by the given array.
+     * </p>
+     *
+     * @param strName   name of the data column
+     * @param arrVals   backing array of column values
+     * @param cntVals   number of valid values within the backing array
+     *
+     * @return  a new data column backed by the given array
+     *
+     * @throws IllegalArgumentException the value count is negative or larger than the array
+     */
+    public static PrimitiveArrayDataColumn from(String strName, long[] arrVals, int cntVals) throws IllegalArgumentException {
+        return new PrimitiveArrayDataColumn(strName, DpSupportedType.LONG, arrVals, arrVals.length, cntVals);
+    }
+
+    /**
+     * <p>
+     * Creates a new <code>{@link DpSupportedType#FLOAT}</code> column backed by the given array.
+     * </p>
+     *
+     * @param strName   name of the data column
+     * @param arrVals   backing array of column values
+     * @param cntVals   number of valid values within the backing array
+     *
+     * @return  a new data column backed by the given array
+     *
+     * @throws IllegalArgumentException the value count is negative or larger than the array
+     */
+    public static PrimitiveArrayDataColumn from(String strName, float[] arrVals, int cntVals) throws IllegalArgumentException {
+        return new PrimitiveArrayDataColumn(strName, DpSupportedType.FLOAT, arrVals, arrVals.length, cntVals);
+    }
+
+    /**
+     * <p>
+     * Creates a new <code>{@link DpSupportedType#BOOLEAN}</code> column backed by the given array.
+     * </p>
+     *
+     * @param strName   name of the data column
+     * @param arrVals   backing array of column values
+     * @param cntVals   number of valid values within the backing array
+     *
+     * @return  a new data column backed by the given array
+     *
+     * @throws IllegalArgumentException the value count is negative or larger than the array
+     */
+    public static PrimitiveArrayDataColumn from(String strName, boolean[] arrVals, int cntVals) throws IllegalArgumentException {
+        return new PrimitiveArrayDataColumn(strName, DpSupportedType.BOOLEAN, arrVals, arrVals.length, cntVals);
+    }
+
+
+    /**
+     * <p>
+     * Creates a new column containing the values of the first column followed by those of the second.
+     * </p>
+     * <p>
+     * The values are copied without boxing, the arguments are left unchanged.
+     * </p>
+     *
+     * @param colHead   leading data column
+     * @param colTail   trailing data column, of the same type as the leading column
+     *
+     * @return  a new column with the name of the leading column containing the values of both columns
+     *
+     * @throws IllegalArgumentException the columns have different data types
+     */
+    public static PrimitiveArrayDataColumn concatenate(PrimitiveArrayDataColumn colHead, PrimitiveArrayDataColumn colTail)
+            throws IllegalArgumentException {
+
+        if (colHead.enmType != colTail.enmType)
+            throw new IllegalArgumentException("Cannot concatenate column types " + colHead.enmType + " and " + colTail.enmType);
+
+        int     cntVals = colHead.cntVals + colTail.cntVals;
+        Object  arrVals = PrimitiveArrayDataColumn.newArray(colHead.enmType, cntVals);
+
+        System.arraycopy(colHead.arrVals, 0, arrVals, 0, colHead.cntVals);
+        System.arraycopy(colTail.arrVals, 0, arrVals, colHead.cntVals, colTail.cntVals);
+
+        return new PrimitiveArrayDataColumn(colHead.strName, colHead.enmType, arrVals, cntVals, cntVals);
+    }
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>PrimitiveArrayDataColumn</code>.
+     * </p>
+     *
+     * @param strName   name of the data column
+     * @param enmType   column data type, consistent with the backing array
+     * @param arrVals   backing array of column values
+     * @param szArr     length of the backing array
+     * @param cntVals   number of valid values within the backing array
+     *
+     * @throws IllegalArgumentException the value count is negative or larger than the array
+     */
+    private PrimitiveArrayDataColumn(String strName, DpSupportedType enmType, Object arrVals, int szArr, int cntVals) throws IllegalArgumentException {
+
+        // Check arguments
+        if (cntVals < 0 || cntVals > szArr)
+            throw new IllegalArgumentException("Value count " + cntVals + " is invalid for array of length " + szArr);
+
+        this.strName = strName;
+        this.enmType = enmType;
+        this.arrVals = arrVals;
+        this.cntVals = cntVals;
+    }
+
+
+    //
+    // Primitive Access
+    //
+
+    /**
+     * <p>
+     * Returns the backing array of the column, one of <code>int[]</code>, <code>long[]</code>,
+     * <code>float[]</code>, or <code>boolean[]</code> according to <code>{@link #getType()}</code>.
+     * </p>
+     * <p>
+     * Only the first <code>{@link #getSize()}</code> elements are column values.  The returned array
+     * must not be modified.
+     * </p>
+     *
+     * @return  the backing array of column values
+     */
+    public Object   getArray() {
+        return this.arrVals;
+    }
+
+    /**
+     * <p>
+     * Creates a new column containing a copy of the given range of column values.
+     * </p>
+     *
+     * @param indBeg    index of the first value to copy (inclusive)
+     * @param indEnd    index of the last value to copy (exclusive)
+     *
+     * @return  a new column of the same name and type containing the given values
+     *
+     * @throws IndexOutOfBoundsException    the range is outside the column
+     */
+    public PrimitiveArrayDataColumn copyOfRange(int indBeg, int indEnd) throws IndexOutOfBoundsException {
+        Objects.checkFromToIndex(indBeg, indEnd, this.cntVals);
+
+        int     cntVals = indEnd - indBeg;
+        Object  arrVals = PrimitiveArrayDataColumn.newArray(this.enmType, cntVals);
+
+        System.arraycopy(this.arrVals, indBeg, arrVals, 0, cntVals);
+
+        return new PrimitiveArrayDataColumn(this.strName, this.enmType, arrVals, cntVals, cntVals);
+    }
+
+    /**
+     * @param index     index of the column value
+     *
+     * @return  the <code>int</code> value at the given index
+     *
+     * @throws IndexOutOfBoundsException    the index is outside the column
+     * @throws ClassCastException           the column is not of type <code>INTEGER</code>
+     */
+    public int  getInt(int index) throws IndexOutOfBoundsException, ClassCastException {
+        return ((int[])this.arrVals)[this.checkIndex(index)];
+    }
+
+    /**
+     * @param index     index of the column value
+     *
+     * @return  the <code>long</code> value at the given index
+     *
+     * @throws IndexOutOfBoundsException    the index is outside the column
+     * @throws ClassCastException           the column is not of type <code>LONG</code>
+     */
+    public long getLong(int index) throws IndexOutOfBoundsException, ClassCastException {
+        return ((long[])this.arrVals)[this.checkIndex(index)];
+    }
+
+    /**
+     * @param index     index of the column value
+     *
+     * @return  the <code>float</code> value at the given index
+     *
+     * @throws IndexOutOfBoundsException    the index is outside the column
+     * @throws ClassCastException           the column is not of type <code>FLOAT</code>
+     */
+    public float    getFloat(int index) throws IndexOutOfBoundsException, ClassCastException {
+        return ((float[])this.arrVals)[this.checkIndex(index)];
+    }
+
+    /**
+     * @param index     index of the column value
+     *
+     * @return  the <code>boolean</code> value at the given index
+     *
+     * @throws IndexOutOfBoundsException    the index is outside the column
+     * @throws ClassCastException           the column is not of type <code>BOOLEAN</code>
+     */
+    public boolean  getBoolean(int index) throws IndexOutOfBoundsException, ClassCastException {
+        return ((boolean[])this.arrVals)[this.checkIndex(index)];
+    }
+
+
+    //
+    // IDataColumn<Object> Interface
+    //
+
+    /**
+     * @see com.ospreydcs.dp.api.common.IDataColumn#getName()
+     */
+    @Override
+    public String getName() {
+        return this.strName;
+    }
+
+    /**
+     * @see com.ospreydcs.dp.api.common.IDataColumn#getType()
+     */
+    @Override
+    public DpSupportedType getType() {
+        return this.enmType;
+    }
+
+    /**
+     * @see com.ospreydcs.dp.api.common.IDataColumn#getSize()
+     */
+    @Override
+    public Integer getSize() {
+        return this.cntVals;
+    }
+
+    /**
+     * <p>
+     * Empties the column and releases the backing array.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.common.IDataColumn#clear()
+     */
+    @Override
+    public void clear() {
+        this.arrVals = PrimitiveArrayDataColumn.newArray(this.enmType, 0);
+        this.cntVals = 0;
+    }
+
+    /**
+     * @return  always returns <code>true</code>, the column values are typed by the backing array
+     *
+     * @see com.ospreydcs.dp.api.common.IDataColumn#isTypeConsistent()
+     */
+    @Override
+    public boolean isTypeConsistent() {
+        return true;
+    }
+
+    /**
+     * <p>
+     * Returns the (boxed) column value at the given index.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.common.IDataColumn#getValue(int)
+     */
+    @Override
+    public Object getValue(int index) throws IndexOutOfBoundsException {
+        return switch (this.enmType) {
+            case INTEGER -> Integer.valueOf(this.getInt(index));
+            case LONG -> Long.valueOf(this.getLong(index));
+            case FLOAT -> Float.valueOf(this.getFloat(index));
+            default -> Boolean.valueOf(this.getBoolean(index));
+        };
+    }
+
+    /**
+     * <p>
+     * Returns a new list containing the (boxed) column values.
+     * </p>
+     * <p>
+     * This operation boxes every value and should be avoided on performance critical paths.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.common.IDataColumn#getValues()
+     */
+    @Override
+    public List<Object> getValues() {
+        ArrayList<Object>   vecVals = new ArrayList<>(this.cntVals);
+
+        for (int i=0; i<this.cntVals; i++)
+            vecVals.add(this.getValue(i));
+
+        return vecVals;
+    }
+
+    /**
+     * <p>
+     * Returns the number of bytes of the column values.
+     * </p>
+     * <p>
+     * The value is computed directly from the value count, the column name and the (unused) array
+     * capacity are not included.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.common.IDataColumn#allocationSize()
+     */
+    @Override
+    public long allocationSize() {
+        int     szElem = switch (this.enmType) {
+            case INTEGER -> Integer.BYTES;
+            case LONG -> Long.BYTES;
+            case FLOAT -> Float.BYTES;
+            default -> 1;
+        };
+
+        return (long)szElem * this.cntVals;
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @param enmType   column data type
+     * @param szArr     length of the array
+     *
+     * @return  a new backing array of the given length for the given column type
+     */
+    private static Object   newArray(DpSupportedType enmType, int szArr) {
+        return switch (enmType) {
+            case INTEGER -> new int[szArr];
+            case LONG -> new long[szArr];
+            case FLOAT -> new float[szArr];
+            default -> new boolean[szArr];
+        };
+    }
+
+    /**
+     * @param index     index of a column value
+     *
+     * @return  the argument
+     *
+     * @throws IndexOutOfBoundsException    the index is outside the column
+     */
+    private int checkIndex(int index) throws IndexOutOfBoundsException {
+
+        if (index < 0 || index >= this.cntVals)
+            throw new IndexOutOfBoundsException(index);
+
+        return index;
+    }
+}
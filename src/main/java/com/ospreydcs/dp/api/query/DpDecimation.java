@@ -0,0 +1,186 @@
+/*
+ * Project: dp-api-common
+ * File:	DpDecimation.java
+ * Package: com.ospreydcs.dp.api.query
+ * Type: 	DpDecimation
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.query;
+
+import java.time.Duration;
+
+/**
+ * <p>
+ * Record specifying the decimation of a time-series data request.
+ * </p>
+ * <p>
+ * The time range of the data request is divided into consecutive buckets of equal width and the samples
+ * of each process variable falling within a bucket are reduced to a single value.  The buckets are specified
+ * either by count (the bucket width is then the request duration divided by the count, rounded up to the nearest
+ * nanosecond) or by width (the bucket count is then the request duration divided by the width, rounded up).
+ * Exactly one of the two must be given; use the creators <code>{@link #byBucketCount(int, Reducer)}</code>
+ * and <code>{@link #byBucketWidth(Duration, Reducer)}</code>.
+ * </p>
+ * <p>
+ * Decimated requests are performed with <code>{@link IQueryService#queryDataDecimated(DpDataRequest, DpDecimation)}</code>.
+ * </p>
+ *
+ * @param enmReducer    the reduction applied to the samples within each bucket
+ * @param cntBuckets    the number of buckets, or 0 if specified by width
+ * @param durWidth      the bucket width, or <code>null</code> if specified by count
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public record DpDecimation(Reducer enmReducer, int cntBuckets, Duration durWidth) {
+    
+    //
+    // Creators
+    //
+    
+    /**
+     * <p>
+     * Creates a new <code>DpDecimation</code> record with the given number of buckets.
+     * </p>
+     *
+     * @param cntBuckets    the number of buckets spanning the request time range
+     * @param enmReducer    the reduction applied to the samples within each bucket
+     *
+     * @return  a new decimation specification
+     *
+     * @throws IllegalArgumentException the bucket count was not positive or the reducer was <code>null</code>
+     */
+    public static DpDecimation  byBucketCount(int cntBuckets, Reducer enmReducer) throws IllegalArgumentException {
+        return new DpDecimation(enmReducer, cntBuckets, null);
+    }
+    
+    /**
+     * <p>
+     * Creates a new <code>DpDecimation</code> record with the given bucket width.
+     * </p>
+     *
+     * @param durWidth      the time width of each bucket
+     * @param enmReducer    the reduction applied to the samples within each bucket
+     *
+     * @return  a new decimation specification
+     *
+     * @throws IllegalArgumentException the bucket width was not positive or the reducer was <code>null</code>
+     */
+    public static DpDecimation  byBucketWidth(Duration durWidth, Reducer enmReducer) throws IllegalArgumentException {
+        return new DpDecimation(enmReducer, 0, durWidth);
+    }
+    
+    
+    //
+    // Constructors
+    //
+    
+    /**
+     * <p>
+     * Canonical constructor - checks that exactly one of the bucket count or width is given.
+     * </p>
+     *
+     * @param enmReducer    the reduction applied to the samples within each bucket
+     * @param cntBuckets    the number of buckets, or 0 if specified by width
+     * @param durWidth      the bucket width, or <code>null</code> if specified by count
+     *
+     * @throws IllegalArgumentException invalid bucket specification or <code>null</code> reducer
+     */
+    public DpDecimation {
+    
+        // Check arguments
+        if (enmReducer == null)
+            throw new IllegalArgumentException("The decimation reducer must be given.");
+    
+        if (durWidth == null) {
+            if (cntBuckets <= 0)
+                throw new IllegalArgumentException("Bucket count must be positive: " + cntBuckets);
+    
+        } else {
+            if (cntBuckets != 0)
+                throw new IllegalArgumentException("Specify either the bucket count or the bucket width, not both.");
+    
+            if (durWidth.isNegative() || durWidth.isZero())
+                throw new IllegalArgumentException("Bucket width must be positive: " + durWidth);
+        }
+    }
+    
+    
+    //
+    // State Inquiry
+    //
+    
+    /**
+     * @return  <code>true</code> if the buckets are specified by width, <code>false</code> if by count
+     */
+    public boolean  hasBucketWidth() {
+        return this.durWidth != null;
+    }
+    
+    
+    //
+    // Support Types
+    //
+    
+    /**
+     * <p>
+     * Enumeration of the reductions applied to the samples within a decimation bucket.
+     * </p>
+     * <p>
+     * Reducers <code>{@link #FIRST}</code> and <code>{@link #LAST}</code> apply to all data types and
+     * preserve the type of the process variable.  The remaining reducers require numeric process variables
+     * and produce values of type <code>double</code>.
+     * </p>
+     */
+    public static enum Reducer {
+    
+        /** The minimum sample value within the bucket */
+        MIN,
+    
+        /** The maximum sample value within the bucket */
+        MAX,
+    
+        /** The sample with the earliest timestamp within the bucket */
+        FIRST,
+    
+        /** The sample with the latest timestamp within the bucket */
+        LAST,
+    
+        /** The arithmetic mean of the sample values within the bucket */
+        MEAN,
+    
+        /**
+         * Largest-Triangle-Three-Buckets - the sample forming the largest triangle with the sample selected
+         * in the previous bucket and the average of the next bucket (a shape-preserving selection for plotting)
+         */
+        LTTB;
+    
+        /**
+         * @return  <code>true</code> if the reducer requires numeric sample values
+         */
+        public boolean  isNumeric() {
+            return this != FIRST && this != LAST;
+        }
+    }
+}
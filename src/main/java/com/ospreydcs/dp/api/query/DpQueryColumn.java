@@ -0,0 +1,146 @@
+/*
+ * Project: dp-api-common
+ * File:	DpQueryColumn.java
+ * Package: com.ospreydcs.dp.api.query
+ * Type: 	DpQueryColumn
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.query;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.MissingResourceException;
+
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.query.model.coalesce.SampledTimeSeries;
+import com.ospreydcs.dp.api.query.model.correl.RawCorrelatedData;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse.QueryData.DataBucket;
+
+/**
+ * <p>
+ * Record containing a single, decoded data column of a Query Service response page along with its timestamps.
+ * </p>
+ * <p>
+ * Each record corresponds to one data bucket of a <code>QueryDataResponse</code> message; that is, the
+ * samples of a single process variable over a single time interval.  The data values are decoded from
+ * Protocol Buffers into Java objects and the timestamps are expanded into an explicit vector (sampling clocks
+ * included).  Records are produced by the decoded variant of <code>{@link DpQueryPublisher}</code>.
+ * </p>
+ *
+ * @param vecTimestamps the timestamp of each sample, in order
+ * @param colValues     the decoded sample values, named by process variable
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public record DpQueryColumn(ArrayList<Instant> vecTimestamps, IDataColumn<Object> colValues) {
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new <code>DpQueryColumn</code> record populated with the given arguments.
+     * </p>
+     *
+     * @param vecTimestamps the timestamp of each sample, in order
+     * @param colValues     the decoded sample values, named by process variable
+     *
+     * @return  a new <code>DpQueryColumn</code> record populated with the argument values
+     */
+    public static DpQueryColumn from(ArrayList<Instant> vecTimestamps, IDataColumn<Object> colValues) {
+        return new DpQueryColumn(vecTimestamps, colValues);
+    }
+
+    /**
+     * <p>
+     * Creates a new <code>DpQueryColumn</code> record by decoding the given data bucket message.
+     * </p>
+     *
+     * @param msgBucket Protocol Buffers data bucket containing a single time-series sampling process
+     *
+     * @return  a new <code>DpQueryColumn</code> record containing the decoded bucket data
+     *
+     * @throws IllegalArgumentException the argument did not contain valid timestamps
+     * @throws MissingResourceException the argument data column was empty
+     * @throws IllegalStateException    the argument data column contained non-uniform data types
+     * @throws TypeNotPresentException  the argument data column contained an unsupported data type
+     */
+    public static DpQueryColumn from(DataBucket msgBucket)
+            throws IllegalArgumentException, MissingResourceException, IllegalStateException, TypeNotPresentException {
+
+        ArrayList<Instant>          vecTms = RawCorrelatedData.from(msgBucket).getTimestampVector();
+        SampledTimeSeries<Object>   colVals = SampledTimeSeries.from(msgBucket.getDataColumn());
+
+        return new DpQueryColumn(vecTms, colVals);
+    }
+
+    /**
+     * <p>
+     * Decodes all data buckets within the given Query Service response page.
+     * </p>
+     *
+     * @param msgRsp    Query Service response message containing a page of query data
+     *
+     * @return  a new list of decoded columns, one for each data bucket of the page, in page order
+     *
+     * @throws IllegalArgumentException a data bucket did not contain valid timestamps
+     * @throws MissingResourceException a data bucket column was empty
+     * @throws IllegalStateException    a data bucket column contained non-uniform data types
+     * @throws TypeNotPresentException  a data bucket column contained an unsupported data type
+     */
+    public static List<DpQueryColumn>   decode(QueryDataResponse msgRsp)
+            throws IllegalArgumentException, MissingResourceException, IllegalStateException, TypeNotPresentException {
+
+        List<DataBucket>    lstBuckets = msgRsp.getQueryData().getDataBucketsList();
+        List<DpQueryColumn> lstCols = new ArrayList<>(lstBuckets.size());
+
+        for (DataBucket msgBucket : lstBuckets)
+            lstCols.add(DpQueryColumn.from(msgBucket));
+
+        return lstCols;
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * @return  the name of the process variable producing the samples
+     */
+    public String   getSourceName() {
+        return this.colValues.getName();
+    }
+
+    /**
+     * @return  the number of samples within the column
+     */
+    public int      getSampleCount() {
+        return this.vecTimestamps.size();
+    }
+}
@@ -0,0 +1,717 @@
+/*
+ * Project: dp-api-common
+ * File:	DpQueryPublisher.java
+ * Package: com.ospreydcs.dp.api.query
+ * Type: 	DpQueryPublisher
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.query;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.ospreydcs.dp.api.common.DpGrpcStreamType;
+import com.ospreydcs.dp.api.config.DpApiConfig;
+import com.ospreydcs.dp.api.config.query.DpQueryConfig;
+import com.ospreydcs.dp.api.grpc.util.ProtoMsg;
+import com.ospreydcs.dp.api.util.CallSite;
+import com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc.DpQueryServiceStub;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataRequest;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataRequest.CursorOperation;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataRequest.CursorOperation.CursorOperationType;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+
+/**
+ * <p>
+ * Reactive publisher of Query Service data pages with demand-driven paging and bounded memory.
+ * </p>
+ * <p>
+ * <h2>Operation</h2>
+ * A <code>DpQueryPublisher</code> is a "cold" <code>{@link Flow.Publisher}</code>; each subscription opens its
+ * own gRPC data stream for the query request, and that stream is not opened until the subscriber first
+ * signals demand with <code>{@link Flow.Subscription#request(long)}</code>.  Subscriber demand is translated
+ * directly into transport demand:
+ * <ul>
+ * <li><code>{@link DpGrpcStreamType#BACKWARD}</code> - gRPC flow control, the Query Service sends a page only
+ *     when the client has requested it (i.e., with <code>ClientCallStreamObserver#request(int)</code>).</li>
+ * <li><code>{@link DpGrpcStreamType#BIDIRECTIONAL}</code> - cursor operations, one <code>CURSOR_OP_NEXT</code>
+ *     request is sent for each demanded page after the first (which is returned for the initial query).</li>
+ * </ul>
+ * The number of pages requested from the Query Service but not yet delivered to the subscriber never
+ * exceeds the maximum page count given at creation (by default, the library configuration parameter
+ * <code>query.data.recovery.stream.maxPages</code>).  Pages are delivered to the subscriber as they arrive
+ * and are not retained; thus, the memory held by the publisher is bounded by the page limit regardless of
+ * the query size.  Contrast this with <code>{@link DpQueryStreamBuffer}</code> which retains all pages.
+ * </p>
+ * <p>
+ * <h2>Decoding</h2>
+ * Each page is passed through a decoder before delivery.  The publisher created by
+ * <code>{@link #create(DpGrpcStreamType, DpQueryServiceStub, QueryDataRequest)}</code> emits the raw
+ * <code>QueryDataResponse</code> messages.  The publisher created by
+ * <code>{@link #createDecoded(DpGrpcStreamType, DpQueryServiceStub, QueryDataRequest)}</code> emits each
+ * page as a list of timestamped <code>{@link DpQueryColumn}</code> records, decoded on the gRPC thread
+ * delivering the page.
+ * </p>
+ * <p>
+ * <h2>Errors</h2>
+ * A rejected request, a gRPC transport error, or a decoding failure terminates the subscription with a
+ * <code>{@link DpQueryException}</code> passed to <code>{@link Flow.Subscriber#onError(Throwable)}</code>.
+ * A non-positive request terminates the subscription with an <code>IllegalArgumentException</code>; when
+ * made during a page delivery it is signaled once <code>{@link Flow.Subscriber#onNext(Object)}</code> returns.
+ * Cancelling the subscription cancels the underlying gRPC call; no further signals are sent.
+ * </p>
+ * <p>
+ * <h2>Thread Safety</h2>
+ * Publishers are immutable and may be subscribed to any number of times, from any thread.  Subscriber
+ * signals are issued from the gRPC threads of the given communications stub.
+ * </p>
+ *
+ * @param <T>   the type of item delivered to subscribers
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public final class DpQueryPublisher<T> implements Flow.Publisher<T> {
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new publisher of raw Query Service response pages with the default page limit.
+     * </p>
+     *
+     * @param enmStreamType the gRPC data stream type used to recover the request data
+     * @param stubAsync     the asynchronous communications stub of the Query Service
+     * @param msgRequest    the Query Service data request message
+     *
+     * @return  a new cold publisher of the response pages for the given request
+     *
+     * @throws UnsupportedOperationException    the stream type was not BACKWARD or BIDIRECTIONAL
+     */
+    public static DpQueryPublisher<QueryDataResponse>   create(DpGrpcStreamType enmStreamType, DpQueryServiceStub stubAsync, QueryDataRequest msgRequest)
+            throws UnsupportedOperationException {
+        return DpQueryPublisher.create(enmStreamType, stubAsync, msgRequest, CNT_MAX_PAGES);
+    }
+
+    /**
+     * <p>
+     * Creates a new publisher of raw Query Service response pages with the given page limit.
+     * </p>
+     *
+     * @param enmStreamType the gRPC data stream type used to recover the request data
+     * @param stubAsync     the asynchronous communications stub of the Query Service
+     * @param msgRequest    the Query Service data request message
+     * @param cntMaxPages   maximum number of pages requested but not yet delivered to a subscriber
+     *
+     * @return  a new cold publisher of the response pages for the given request
+     *
+     * @throws UnsupportedOperationException    the stream type was not BACKWARD or BIDIRECTIONAL
+     * @throws IllegalArgumentException         the page limit was not positive
+     */
+    public static DpQueryPublisher<QueryDataResponse>   create(DpGrpcStreamType enmStreamType, DpQueryServiceStub stubAsync, QueryDataRequest msgRequest, int cntMaxPages)
+            throws UnsupportedOperationException, IllegalArgumentException {
+        return new DpQueryPublisher<>(enmStreamType, stubAsync, msgRequest, cntMaxPages, Function.identity());
+    }
+
+    /**
+     * <p>
+     * Creates a new publisher of decoded Query Service response pages with the default page limit.
+     * </p>
+     *
+     * @param enmStreamType the gRPC data stream type used to recover the request data
+     * @param stubAsync     the asynchronous communications stub of the Query Service
+     * @param msgRequest    the Query Service data request message
+     *
+     * @return  a new cold publisher emitting the decoded data columns of each response page
+     *
+     * @throws UnsupportedOperationException    the stream type was not BACKWARD or BIDIRECTIONAL
+     */
+    public static DpQueryPublisher<List<DpQueryColumn>> createDecoded(DpGrpcStreamType enmStreamType, DpQueryServiceStub stubAsync, QueryDataRequest msgRequest)
+            throws UnsupportedOperationException {
+        return DpQueryPublisher.createDecoded(enmStreamType, stubAsync, msgRequest, CNT_MAX_PAGES);
+    }
+
+    /**
+     * <p>
+     * Creates a new publisher of decoded Query Service response pages with the given page limit.
+     * </p>
+     *
+     * @param enmStreamType the gRPC data stream type used to recover the request data
+     * @param stubAsync     the asynchronous communications stub of the Query Service
+     * @param msgRequest    the Query Service data request message
+     * @param cntMaxPages   maximum number of pages requested but not yet delivered to a subscriber
+     *
+     * @return  a new cold publisher emitting the decoded data columns of each response page
+     *
+     * @throws UnsupportedOperationException    the stream type was not BACKWARD or BIDIRECTIONAL
+     * @throws IllegalArgumentException         the page limit was not positive
+     */
+    public static DpQueryPublisher<List<DpQueryColumn>> createDecoded(DpGrpcStreamType enmStreamType, DpQueryServiceStub stubAsync, QueryDataRequest msgRequest, int cntMaxPages)
+            throws UnsupportedOperationException, IllegalArgumentException {
+        return new DpQueryPublisher<>(enmStreamType, stubAsync, msgRequest, cntMaxPages, DpQueryColumn::decode);
+    }
+
+
+    //
+    // Application Resources
+    //
+
+    /** Default Query Service API configuration parameters */
+    private static final DpQueryConfig  CFG_QUERY = DpApiConfig.getInstance().query;
+
+
+    //
+    // Class Constants
+    //
+
+    /** Default maximum number of pages requested but not yet delivered to a subscriber */
+    public static final int         CNT_MAX_PAGES = CFG_QUERY.data.recovery.stream.maxPages;
+
+    /** Service name used in rejection messages */
+    private static final String     STR_SERVICE = "Query Service";
+
+    /** The cursor request message for the next page of a bidirectional stream */
+    private static final QueryDataRequest   MSG_CURSOR_NEXT = QueryDataRequest.newBuilder()
+            .setCursorOp(
+                    CursorOperation.newBuilder()
+                    .setCursorOperationType(CursorOperationType.CURSOR_OP_NEXT)
+                    )
+            .build();
+
+
+    /** Call-site tag for per-page operation {@link PageSubscription#onNext(QueryDataResponse)} */
+    private static final CallSite   CS_ON_NEXT = CallSite.of(DpQueryPublisher.PageSubscription.class, "onNext");
+
+    /** Call-site tag for per-page operation {@link PageSubscription#requestPages()} */
+    private static final CallSite   CS_REQUEST_PAGES = CallSite.of(DpQueryPublisher.PageSubscription.class, "requestPages");
+
+
+    //
+    // Class Resources
+    //
+
+    /** Internal event logger */
+    private static final Logger     LOGGER = LogManager.getLogger();
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The gRPC data stream type used to recover the request data */
+    private final DpGrpcStreamType                  enmStreamType;
+
+    /** The (asynchronous) streaming communications stub of the Query Service gRPC interface */
+    private final DpQueryServiceStub                stubAsync;
+
+    /** The Query Service data request message */
+    private final QueryDataRequest                  msgRequest;
+
+    /** Maximum number of pages requested but not yet delivered to a subscriber */
+    private final int                               cntMaxPages;
+
+    /** Page decoder applied to each response message before delivery */
+    private final Function<QueryDataResponse, T>    fncDecoder;
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new <code>DpQueryPublisher</code> instance.
+     * </p>
+     *
+     * @param enmStreamType the gRPC data stream type used to recover the request data
+     * @param stubAsync     the asynchronous communications stub of the Query Service
+     * @param msgRequest    the Query Service data request message
+     * @param cntMaxPages   maximum number of pages requested but not yet delivered to a subscriber
+     * @param fncDecoder    page decoder applied to each response message before delivery
+     *
+     * @throws UnsupportedOperationException    the stream type was not BACKWARD or BIDIRECTIONAL
+     * @throws IllegalArgumentException         the page limit was not positive
+     */
+    private DpQueryPublisher(DpGrpcStreamType enmStreamType, DpQueryServiceStub stubAsync, QueryDataRequest msgRequest, int cntMaxPages, Function<QueryDataResponse, T> fncDecoder)
+            throws UnsupportedOperationException, IllegalArgumentException {
+
+        if (enmStreamType != DpGrpcStreamType.BACKWARD && enmStreamType != DpGrpcStreamType.BIDIRECTIONAL)
+            throw new UnsupportedOperationException(DpQueryPublisher.class.getSimpleName() + " - unsupported stream type " + enmStreamType);
+
+        if (cntMaxPages < 1)
+            throw new IllegalArgumentException(DpQueryPublisher.class.getSimpleName() + " - page limit must be positive: " + cntMaxPages);
+
+        this.enmStreamType = enmStreamType;
+        this.stubAsync = Objects.requireNonNull(stubAsync, "stubAsync");
+        this.msgRequest = Objects.requireNonNull(msgRequest, "msgRequest");
+        this.cntMaxPages = cntMaxPages;
+        this.fncDecoder = fncDecoder;
+    }
+
+
+    //
+    // Attribute Getters
+    //
+
+    /**
+     * @return  the gRPC data stream type used to recover the request data
+     */
+    public final DpGrpcStreamType   getStreamType() {
+        return this.enmStreamType;
+    }
+
+    /**
+     * @return  the maximum number of pages requested but not yet delivered to a subscriber
+     */
+    public final int    getMaxPages() {
+        return this.cntMaxPages;
+    }
+
+
+    //
+    // Flow.Publisher Interface
+    //
+
+    /**
+     * <p>
+     * Subscribes the given subscriber to a new, independent recovery of the query data.
+     * </p>
+     * <p>
+     * The subscriber receives its <code>{@link Flow.Subscription}</code> immediately; the gRPC data stream is
+     * opened upon the first request for data.
+     * </p>
+     *
+     * @see java.util.concurrent.Flow.Publisher#subscribe(java.util.concurrent.Flow.Subscriber)
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+
+        subscriber.onSubscribe(new PageSubscription(subscriber));
+    }
+
+
+    //
+    // Support Types
+    //
+
+    /**
+     * <p>
+     * Subscription to a single gRPC data stream, mapping subscriber demand onto transport demand.
+     * </p>
+     * <p>
+     * All demand accounting is performed under the state lock, all gRPC request stream operations under the
+     * call lock.  The state is always consistent before any gRPC operation is invoked so that any
+     * re-entrant response notification sees the current demand.
+     * </p>
+     */
+    private final class PageSubscription implements Flow.Subscription, ClientResponseObserver<QueryDataRequest, QueryDataResponse> {
+
+        //
+        // Defining Attributes
+        //
+
+        /** The subscriber receiving the data pages */
+        private final Flow.Subscriber<? super T>    subscriber;
+
+
+        //
+        // Instance Resources
+        //
+
+        /** Lock guarding the demand state variables */
+        private final Object    objStateLock = new Object();
+
+        /** Lock serializing operations on the gRPC call */
+        private final Object    objCallLock = new Object();
+
+        /** The gRPC call handle - available once the stream has started */
+        private ClientCallStreamObserver<QueryDataRequest>  hndCall = null;
+
+
+        //
+        // State Variables
+        //
+
+        /** Outstanding subscriber demand not yet requested from the Query Service */
+        private long        lngDemand = 0L;
+
+        /** Number of pages requested from the Query Service but not yet delivered */
+        private int         cntInFlight = 0;
+
+        /** The gRPC data stream has been opened */
+        private boolean     bolStarted = false;
+
+        /** The subscription has been cancelled or a terminal signal has been issued */
+        private boolean     bolTerminated = false;
+
+        /** A data page is being delivered to the subscriber */
+        private boolean     bolDelivering = false;
+
+        /** Subscriber protocol error awaiting the end of the current page delivery */
+        private Throwable   errPending = null;
+
+
+        //
+        // Constructors
+        //
+
+        /**
+         * <p>
+         * Constructs a new <code>PageSubscription</code> instance for the given subscriber.
+         * </p>
+         *
+         * @param subscriber    the subscriber receiving the data pages
+         */
+        private PageSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+
+        //
+        // Flow.Subscription Interface
+        //
+
+        /**
+         * @see java.util.concurrent.Flow.Subscription#request(long)
+         */
+        @Override
+        public void request(long n) {
+
+            // Non-positive demand is a protocol violation by the subscriber (Reactive Streams rule 3.9)
+            if (n <= 0) {
+                this.reject(new IllegalArgumentException(DpQueryPublisher.class.getSimpleName() + " - non-positive subscription request " + n));
+
+                return;
+            }
+
+            synchronized (this.objStateLock) {
+                if (this.bolTerminated)
+                    return;
+
+                this.lngDemand += n;
+                if (this.lngDemand < 0)     // overflow, demand is effectively unbounded
+                    this.lngDemand = Long.MAX_VALUE;
+            }
+
+            this.requestPages();
+        }
+
+        /**
+         * @see java.util.concurrent.Flow.Subscription#cancel()
+         */
+        @Override
+        public void cancel() {
+            synchronized (this.objStateLock) {
+                if (this.bolTerminated)
+                    return;
+
+                this.bolTerminated = true;
+            }
+
+            this.cancelCall("Subscription cancelled", null);
+        }
+
+
+        //
+        // ClientResponseObserver Interface
+        //
+
+        /**
+         * <p>
+         * Captures the gRPC call handle and disables automatic transport flow control.
+         * </p>
+         *
+         * @see io.grpc.stub.ClientResponseObserver#beforeStart(io.grpc.stub.ClientCallStreamObserver)
+         */
+        @Override
+        public void beforeStart(ClientCallStreamObserver<QueryDataRequest> hndCall) {
+            this.hndCall = hndCall;
+            this.hndCall.disableAutoRequestWithInitial(0);
+        }
+
+        /**
+         * @see io.grpc.stub.StreamObserver#onNext(java.lang.Object)
+         */
+        @Override
+        public void onNext(QueryDataResponse msgRsp) {
+
+            synchronized (this.objStateLock) {
+                if (this.bolTerminated)
+                    return;
+
+                this.cntInFlight--;
+                this.bolDelivering = true;
+            }
+
+            // Check for request rejection
+            if (msgRsp.hasExceptionalResult()) {
+                String  strMsg = ProtoMsg.exceptionMessage(msgRsp.getExceptionalResult(), STR_SERVICE);
+
+                LOGGER.error("{} - Query request rejected: {}", CS_ON_NEXT, strMsg);
+                if (!this.endDelivery())
+                    this.terminate(new DpQueryException(CS_ON_NEXT + " - " + strMsg));
+
+                return;
+            }
+
+            // Decode the page and deliver it
+            T   objPage;
+            try {
+                objPage = fncDecoder.apply(msgRsp);
+
+            } catch (RuntimeException e) {
+                LOGGER.error("{} - Failed to decode data page: {}", CS_ON_NEXT, e.getMessage());
+                if (!this.endDelivery())
+                    this.terminate(new DpQueryException(CS_ON_NEXT + " - failed to decode data page: " + e.getMessage(), e));
+
+                return;
+            }
+
+            // Do not deliver to a subscription terminated while decoding
+            boolean bolDeliver;
+            synchronized (this.objStateLock) {
+                bolDeliver = !this.bolTerminated;
+            }
+
+            if (bolDeliver)
+                this.subscriber.onNext(objPage);
+
+            // Emit any protocol error raised by the subscriber during delivery
+            if (this.endDelivery())
+                return;
+
+            // Replenish the in-flight pages with any outstanding demand
+            this.requestPages();
+        }
+
+        /**
+         * @see io.grpc.stub.StreamObserver#onError(java.lang.Throwable)
+         */
+        @Override
+        public void onError(Throwable t) {
+            synchronized (this.objStateLock) {
+                if (this.bolTerminated)
+                    return;
+
+                this.bolTerminated = true;
+            }
+
+            this.subscriber.onError(new DpQueryException(DpQueryPublisher.class.getSimpleName() + " - gRPC data stream error: " + t.getMessage(), t));
+        }
+
+        /**
+         * @see io.grpc.stub.StreamObserver#onCompleted()
+         */
+        @Override
+        public void onCompleted() {
+            synchronized (this.objStateLock) {
+                if (this.bolTerminated)
+                    return;
+
+                this.bolTerminated = true;
+            }
+
+            // Close our side of a bidirectional stream
+            if (enmStreamType == DpGrpcStreamType.BIDIRECTIONAL) {
+                synchronized (this.objCallLock) {
+                    this.hndCall.onCompleted();
+                }
+            }
+
+            this.subscriber.onComplete();
+        }
+
+
+        //
+        // Support Methods
+        //
+
+        /**
+         * <p>
+         * Requests pages from the Query Service for any outstanding demand, up to the in-flight page limit.
+         * </p>
+         * <p>
+         * Opens the gRPC data stream if this is the first request.  For bidirectional streams the initial query
+         * message counts as the first page request.
+         * </p>
+         */
+        private void requestPages() {
+
+            // Move the available credit from outstanding demand to in flight
+            int         cntCredit;
+            boolean     bolStart;
+
+            synchronized (this.objStateLock) {
+                if (this.bolTerminated)
+                    return;
+
+                cntCredit = (int) Math.min(this.lngDemand, cntMaxPages - this.cntInFlight);
+                if (cntCredit <= 0)
+                    return;
+
+                this.lngDemand -= cntCredit;
+                this.cntInFlight += cntCredit;
+
+                bolStart = !this.bolStarted;
+                this.bolStarted = true;
+            }
+
+            LOGGER.trace("{} - requesting {} page(s).", CS_REQUEST_PAGES, cntCredit);
+
+            // Issue the transport requests
+            synchronized (this.objCallLock) {
+                int cntCursorOps = cntCredit;
+
+                if (bolStart) {
+                    synchronized (this.objStateLock) {  // do not open a stream for a cancelled subscription
+                        if (this.bolTerminated)
+                            return;
+                    }
+                    
+                    if (enmStreamType == DpGrpcStreamType.BACKWARD) {
+                        stubAsync.queryDataStream(msgRequest, this);
+
+                    } else {
+                        stubAsync.queryDataBidiStream(this);
+                        cntCursorOps--;
+                    }
+                }
+
+                this.hndCall.request(cntCredit);
+
+                if (enmStreamType == DpGrpcStreamType.BIDIRECTIONAL) {
+                    if (bolStart)
+                        this.hndCall.onNext(msgRequest);
+
+                    for (int i=0; i<cntCursorOps; i++)
+                        this.hndCall.onNext(MSG_CURSOR_NEXT);
+                }
+            }
+        }
+
+        /**
+         * <p>
+         * Terminates the subscription with the given error, cancelling any gRPC data stream.
+         * </p>
+         *
+         * @param errCause  the error passed to the subscriber
+         */
+        private void terminate(Throwable errCause) {
+            synchronized (this.objStateLock) {
+                if (this.bolTerminated)
+                    return;
+
+                this.bolTerminated = true;
+            }
+
+            this.cancelCall(errCause.getMessage(), errCause);
+            this.subscriber.onError(errCause);
+        }
+
+        /**
+         * <p>
+         * Terminates the subscription after a subscriber protocol violation, cancelling any gRPC data stream.
+         * </p>
+         * <p>
+         * The violation is detected on the subscriber thread, which may be concurrent with (or within) the
+         * delivery of a data page on a gRPC thread.  To keep subscriber signals serial the error is then left
+         * pending and emitted by the delivering thread once the page has been delivered.  Otherwise it is
+         * emitted here.
+         * </p>
+         *
+         * @param errCause  the error passed to the subscriber
+         */
+        private void reject(Throwable errCause) {
+            boolean bolEmit;
+
+            synchronized (this.objStateLock) {
+                if (this.bolTerminated)
+                    return;
+
+                this.bolTerminated = true;
+
+                bolEmit = !this.bolDelivering;
+                if (!bolEmit)
+                    this.errPending = errCause;
+            }
+
+            this.cancelCall(errCause.getMessage(), errCause);
+
+            if (bolEmit)
+                this.subscriber.onError(errCause);
+        }
+
+        /**
+         * <p>
+         * Ends the current data page delivery and emits any protocol error raised by the subscriber meanwhile.
+         * </p>
+         *
+         * @return  <code>true</code> if a pending error was emitted (the subscription is terminated),
+         *          <code>false</code> otherwise
+         */
+        private boolean endDelivery() {
+            Throwable   errCause;
+
+            synchronized (this.objStateLock) {
+                this.bolDelivering = false;
+
+                errCause = this.errPending;
+                this.errPending = null;
+            }
+
+            if (errCause == null)
+                return false;
+
+            this.subscriber.onError(errCause);
+
+            return true;
+        }
+
+        /**
+         * <p>
+         * Cancels the gRPC call if the data stream has been opened.
+         * </p>
+         *
+         * @param strMsg    cancellation message sent to the Query Service
+         * @param errCause  cause of the cancellation, or <code>null</code> if none
+         */
+        private void cancelCall(String strMsg, Throwable errCause) {
+            synchronized (this.objCallLock) {
+                if (this.hndCall != null)
+                    this.hndCall.cancel(strMsg, errCause);
+            }
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package com.ospreydcs.dp.api.query;
 
 import java.util.List;
+import java.util.concurrent.Flow;
 
 import com.ospreydcs.dp.api.common.DpGrpcStreamType;
 import com.ospreydcs.dp.api.common.IDataTable;
 import com.ospreydcs.dp.api.common.MetadataRecord;
 import com.ospreydcs.dp.api.config.DpApiConfig;
 import com.ospreydcs.dp.api.grpc.model.IConnection;
+import com.ospreydcs.dp.api.query.model.decim.DataDecimator;
 import com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse;
 
 /**
  * <p>
@@ -59,7 +62,7 @@ import com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc;
  * the API configuration parameters.
  * <h2>Query Operations</h2>
  * All Query Service query methods are prefixed with <code>query</code>.  There are currently
- * 3 types of queries offered by interface <code>IQueryService</code>:
+ * 4 types of queries offered by interface <code>IQueryService</code>:
  * <ul>
  * <br/>
  * <li>
@@ -75,7 +78,9 @@ import com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc;
  *   <br/>
  *   The methods take a <code>{@link DpDataRequest}</code> instance defining the request and
  *   return an <code>{@link IDataTable}</code> implementation containing the time-series results.
- *   The methods block until all data is available.
+ *   The methods block until all data is available.  The method <code>{@link #queryDataDecimated(DpDataRequest, DpDecimation)}</code>
+ *   additionally takes a <code>{@link DpDecimation}</code> specification and returns a compact table of
+ *   per-bucket aggregates suitable for plotting.
  * </li>
  * <br/>
  * <li>
@@ -92,6 +97,15 @@ import com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc;
  *   See <code>{@link DpQueryStreamBuffer}</code> documentation for details on using a raw,
  *   time-series data stream. 
  * </li>
+ * <br/>
+ * <li>
+ *   <b>Reactive Time-Series Data</b> - methods suffixed with <code>Publisher</code>.
+ *   <br/>
+ *   Requests are made using a <code>{@link DpDataRequest}</code> object and the returned object is a
+ *   <code>{@link Flow.Publisher}</code> of response pages.  Pages are requested from the Query Service
+ *   only as the subscriber demands them and are not retained, so memory use is bounded regardless of
+ *   the request size.  See <code>{@link DpQueryPublisher}</code> documentation for details.
+ * </li>
  * </ul>
  * Note that the above methods DO NOT necessarily conform to the gRPC interface operations  
  * defined within the Protocol Buffers <code>{@link DpQueryServiceGrpc}</code> interface. 
@@ -232,6 +246,13 @@ public interface IQueryService extends IConnection {
      * PV metadata requests are performed using synchronous, unary gRPC connections.  Due to this condition
      * metadata results sets are size limited by the current maximum gRPC message size.
      * </li>
+     * <li>
+     * If enabled, metadata records may be answered from a client-side cache (see <code>query.metadata.cache</code>
+     * in the library configuration, disabled by default).  Cached first and last timestamps can then be up to
+     * the cache lifetime old for process variables still being ingested.  Use 
+     * <code>{@link #invalidateMetaCache(List)}</code> or <code>{@link #invalidateMetaCache()}</code> when the 
+     * archive is known to have changed.
+     * </li>
      * </ul>
      * </p> 
      * 
@@ -242,6 +263,30 @@ public interface IQueryService extends IConnection {
      * @throws DpQueryException     the Query Service reported an error (see message)
      */
     public List<MetadataRecord> queryMeta(DpMetadataRequest rqst) throws DpQueryException;
+    
+    /**
+     * <p>
+     * Removes the cached metadata records for the given process variables.
+     * </p>
+     * <p>
+     * Subsequent metadata requests for the given PVs are recovered from the Query Service.  The operation
+     * does nothing if metadata caching is disabled.
+     * </p>
+     * 
+     * @param lstPvNames    names of the process variables whose cached metadata is removed
+     */
+    public void invalidateMetaCache(List<String> lstPvNames);
+    
+    /**
+     * <p>
+     * Removes all cached metadata records.
+     * </p>
+     * <p>
+     * Subsequent metadata requests are recovered from the Query Service.  The operation does nothing if
+     * metadata caching is disabled.
+     * </p>
+     */
+    public void invalidateMetaCache();
 
     /**
      * <p>
@@ -365,6 +410,43 @@ public interface IQueryService extends IConnection {
      */
     public IDataTable queryData(List<DpDataRequest> lstRqsts) throws DpQueryException;
 
+    /**
+     * <p>
+     * Performs the given data request and returns the results decimated into time buckets.
+     * </p>
+     * <p>
+     * The time range of the request is divided into the buckets given by the argument decimation specification
+     * (either a bucket count or a bucket width) and the samples of each process variable within a bucket are 
+     * reduced to a single value using the specified reducer (minimum, maximum, first, last, mean, or LTTB).  
+     * The returned table contains one row per bucket, timestamped by the bucket start time, and one column per 
+     * process variable.
+     * </p>
+     * <p>
+     * Response pages are reduced one at a time as they are recovered on a single gRPC data stream and then
+     * discarded.  Thus, the full-resolution result set is never correlated or assembled into a table and memory
+     * use is proportional to the number of buckets rather than the size of the request.
+     * </p>
+     * <p>
+     * <h2>NOTES:</h2>
+     * <ul>
+     * <li>The Query Service does not perform decimation; all samples are transported and reduced by the client.</li>
+     * <li>Reducers other than <code>FIRST</code> and <code>LAST</code> require numeric process variables and 
+     *     produce <code>double</code> values, empty buckets have value <code>NaN</code>.</li>
+     * <li>The gRPC data stream type is given by <code>{@link DpDataRequest#getStreamType()}</code>.</li>
+     * <li>See <code>{@link DataDecimator}</code> for details of the reduction.</li>
+     * </ul>
+     * </p>
+     * 
+     * @param rqst      the data request, a configured <code>{@link DpDataRequest}</code> request instance
+     * @param recDecim  the decimation specification (bucket count or width and reducer)
+     * 
+     * @return  a data table containing the per-bucket aggregates of the results set
+     * 
+     * @throws DpQueryException invalid decimation for the request time range, or general exception during 
+     *                          query or data reduction (see cause)
+     */
+    public IDataTable queryDataDecimated(DpDataRequest rqst, DpDecimation recDecim) throws DpQueryException;
+
     /**
      * <p>
      * Perform a Query Service data query that returns a dynamic stream buffer accumulating the result set.
@@ -412,4 +494,48 @@ public interface IQueryService extends IConnection {
      */
     public DpQueryStreamBuffer queryDataStream(DpDataRequest rqst);
 
+    /**
+     * <p>
+     * Creates a reactive publisher of the raw Query Service response pages for the given data request.
+     * </p>
+     * <p>
+     * Each subscription to the returned publisher opens its own gRPC data stream, of the type given by
+     * <code>{@link DpDataRequest#getStreamType()}</code>, when the subscriber first signals demand.
+     * Response pages are requested from the Query Service only as the subscriber demands them, with
+     * at most <code>query.data.recovery.stream.maxPages</code> pages requested but not yet delivered.
+     * Pages are not retained after delivery.
+     * </p>
+     * <p>
+     * A rejected request or stream failure is signaled to the subscriber as a
+     * <code>{@link DpQueryException}</code>.
+     * </p>
+     * 
+     * @param rqst  configured <code>{@link DpDataRequest}</code> request builder instance
+     * 
+     * @return      a cold publisher of the raw response pages for the request
+     * 
+     * @see DpQueryPublisher
+     */
+    public Flow.Publisher<QueryDataResponse> queryDataPublisher(DpDataRequest rqst);
+
+    /**
+     * <p>
+     * Creates a reactive publisher of the decoded Query Service response pages for the given data request.
+     * </p>
+     * <p>
+     * Identical to <code>{@link #queryDataPublisher(DpDataRequest)}</code> except each response page is
+     * delivered as a list of <code>{@link DpQueryColumn}</code> records, one for each data bucket in the 
+     * page, containing the decoded sample values and their timestamps.  Note that the data is not 
+     * correlated; columns for the same process variable may appear in several pages.
+     * </p>
+     * 
+     * @param rqst  configured <code>{@link DpDataRequest}</code> request builder instance
+     * 
+     * @return      a cold publisher of the decoded data columns of each response page
+     * 
+     * @see DpQueryPublisher
+     * @see DpQueryColumn
+     */
+    public Flow.Publisher<List<DpQueryColumn>> queryDataColumnsPublisher(DpDataRequest rqst);
+
 }
\ No newline at end of file
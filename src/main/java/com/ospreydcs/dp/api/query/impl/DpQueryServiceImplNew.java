@@ -28,6 +28,7 @@ package com.ospreydcs.dp.api.query.impl;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.Level;
@@ -45,8 +46,11 @@ import com.ospreydcs.dp.api.grpc.query.DpQueryConnection;
 import com.ospreydcs.dp.api.grpc.query.DpQueryConnectionFactory;
 import com.ospreydcs.dp.api.grpc.util.ProtoMsg;
 import com.ospreydcs.dp.api.query.DpDataRequest;
+import com.ospreydcs.dp.api.query.DpDecimation;
 import com.ospreydcs.dp.api.query.DpMetadataRequest;
+import com.ospreydcs.dp.api.query.DpQueryColumn;
 import com.ospreydcs.dp.api.query.DpQueryException;
+import com.ospreydcs.dp.api.query.DpQueryPublisher;
 import com.ospreydcs.dp.api.query.DpQueryStreamBuffer;
 import com.ospreydcs.dp.api.query.IQueryService;
 import com.ospreydcs.dp.api.query.model.assem.DataTableCreator;
@@ -55,6 +59,7 @@ import com.ospreydcs.dp.api.query.model.assem.QueryResponseAssembler;
 import com.ospreydcs.dp.api.query.model.assem.SampledAggregate;
 import com.ospreydcs.dp.api.query.model.correl.RawCorrelatedData;
 import com.ospreydcs.dp.api.query.model.correl.RawDataCorrelator;
+import com.ospreydcs.dp.api.query.model.decim.DataDecimator;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.grpc.v1.common.ExceptionalResult;
 import com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc;
@@ -391,11 +396,16 @@ public class DpQueryServiceImplNew extends
      * This action is necessary to release unused gRPC resources and maintain 
      * overall performance.
      * </li>  
+     * <li>
+     * The PV metadata cache (if enabled) is process-wide, shared by all instances connected to the same
+     * Query Service address; it outlives this instance and its invalidation applies to all such instances.
+     * </li>
      * </p>
      * 
      * @param connQuery  the gRPC channel connection to the desired DP Query Service 
      * 
      * @see DpQueryConnectionFactory
+     * @see PvMetadataCache#shared(String, com.ospreydcs.dp.api.config.query.DpMetadataConfig.Cache)
      */
     public DpQueryServiceImplNew(DpQueryConnection connQuery) {
         super(connQuery);
@@ -689,6 +699,22 @@ public class DpQueryServiceImplNew extends
         return lstRcrds;
     }
 
+    /**
+     * @see com.ospreydcs.dp.api.query.IQueryService#invalidateMetaCache(java.util.List)
+     */
+    @Override
+    public void invalidateMetaCache(List<String> lstPvNames) {
+        this.prcrMeta.invalidate(lstPvNames);
+    }
+
+    /**
+     * @see com.ospreydcs.dp.api.query.IQueryService#invalidateMetaCache()
+     */
+    @Override
+    public void invalidateMetaCache() {
+        this.prcrMeta.invalidateAll();
+    }
+
     /**
      * @see com.ospreydcs.dp.api.query.IQueryService#queryDataUnary(com.ospreydcs.dp.api.query.DpDataRequest)
      */
@@ -781,6 +807,32 @@ public class DpQueryServiceImplNew extends
         return table;
     }
 
+    /**
+     * @see com.ospreydcs.dp.api.query.IQueryService#queryDataDecimated(com.ospreydcs.dp.api.query.DpDataRequest, com.ospreydcs.dp.api.query.DpDecimation)
+     */
+    @Override
+    public IDataTable queryDataDecimated(DpDataRequest rqst, DpDecimation recDecim) throws DpQueryException {
+        
+        // Create the bucket reducer for the request time range
+        DataDecimator   prcrDecim;
+        
+        try {
+            prcrDecim = DataDecimator.from(rqst, recDecim);   // throws IllegalArgumentException, ArithmeticException
+            
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple()
+                    + " - Invalid decimation " + recDecim + " for request: " + e.getMessage();
+            
+            if (BOL_LOGGING)
+                LOGGER.error(strMsg);
+            
+            throw new DpQueryException(strMsg, e);
+        }
+        
+        // Reduce the decoded response pages as they are recovered
+        return prcrDecim.decimate(this.queryDataColumnsPublisher(rqst));
+    }
+
     /**
      * @see com.ospreydcs.dp.api.query.IQueryService#queryDataStream(com.ospreydcs.dp.api.query.DpDataRequest)
      */
@@ -801,6 +853,34 @@ public class DpQueryServiceImplNew extends
         return buf;
     }
 
+    /**
+     * @see com.ospreydcs.dp.api.query.IQueryService#queryDataPublisher(com.ospreydcs.dp.api.query.DpDataRequest)
+     */
+    @Override
+    public Flow.Publisher<QueryDataResponse> queryDataPublisher(DpDataRequest rqst) {
+        
+        // Extract the Protobuf request message and stream type
+        QueryDataRequest    msgRequest = rqst.buildQueryRequest();
+        DpGrpcStreamType    enmStreamType = rqst.getStreamType();
+        
+        // Create the (cold) publisher and return it
+        return DpQueryPublisher.create(enmStreamType, super.grpcConn.getStubAsync(), msgRequest);
+    }
+
+    /**
+     * @see com.ospreydcs.dp.api.query.IQueryService#queryDataColumnsPublisher(com.ospreydcs.dp.api.query.DpDataRequest)
+     */
+    @Override
+    public Flow.Publisher<List<DpQueryColumn>> queryDataColumnsPublisher(DpDataRequest rqst) {
+        
+        // Extract the Protobuf request message and stream type
+        QueryDataRequest    msgRequest = rqst.buildQueryRequest();
+        DpGrpcStreamType    enmStreamType = rqst.getStreamType();
+        
+        // Create the (cold) publisher and return it
+        return DpQueryPublisher.createDecoded(enmStreamType, super.grpcConn.getStubAsync(), msgRequest);
+    }
+
     //
     // Support Methods
     //
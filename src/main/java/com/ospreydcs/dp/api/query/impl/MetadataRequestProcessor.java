@@ -25,7 +25,13 @@
  */
 package com.ospreydcs.dp.api.query.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -42,6 +48,8 @@ import com.ospreydcs.dp.api.query.DpMetadataRequest;
 import com.ospreydcs.dp.api.query.DpQueryException;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.grpc.v1.common.ExceptionalResult;
+import com.ospreydcs.dp.grpc.v1.query.PvNameList;
+import com.ospreydcs.dp.grpc.v1.query.PvNamePattern;
 import com.ospreydcs.dp.grpc.v1.query.QueryPvMetadataRequest;
 import com.ospreydcs.dp.grpc.v1.query.QueryPvMetadataResponse;
 
@@ -73,6 +81,22 @@ import com.ospreydcs.dp.grpc.v1.query.QueryPvMetadataResponse;
  * be enabled at creation.  <code>MetadataRequestProcessor</code> objects DO NOT maintain ownership of the
  * <code>QueryConnection</code> instance and, thus, it must be shut down externally when no longer needed.
  * </p> 
+ * <p>
+ * <h2>Metadata Cache</h2>
+ * When enabled in the library configuration (<code>query.metadata.cache</code>), metadata records are retained
+ * in a <code>{@link PvMetadataCache}</code> keyed by PV name.  Requests by PV name list are then answered from
+ * the cache where possible; only the cache misses are requested from the Query Service, in batches of PV
+ * names, and concurrent requests for the same PV share a single Query Service request.  Unknown PVs are 
+ * also cached (negative entries) so that repeated requests for them are rejected without a Query Service
+ * round trip.  Requests by PV name pattern are always sent to the Query Service but their results are
+ * entered into the cache.  Cache entries are removed explicitly with <code>{@link #invalidate(List)}</code>
+ * and <code>{@link #invalidateAll()}</code>, and expire after the configured lifetimes.
+ * </p>
+ * <p>
+ * Unless a cache is given at creation, the cache is the process-wide cache for the Query Service address
+ * of the connection (see <code>{@link PvMetadataCache#shared(String, com.ospreydcs.dp.api.config.query.DpMetadataConfig.Cache)}</code>).  Thus,
+ * all processors connected to the same Query Service share cached metadata, and invalidations.
+ * </p>
  *
  * @author Christopher K. Allen
  * @since Apr 23, 2025
@@ -104,6 +128,25 @@ public class MetadataRequestProcessor {
         return new MetadataRequestProcessor(connQuery);
     }
     
+    /**
+     * <p>
+     * Creates and returns a new <code>MetadataRequestProcessor</code> using the given metadata cache.
+     * </p>
+     * <p>
+     * Identical to <code>{@link #from(DpQueryConnection)}</code> except the given cache is used regardless of
+     * the library configuration.  Thus, a cache may be shared by several processors (for the same Query
+     * Service), or caching may be disabled by providing a <code>null</code> cache.
+     * </p>
+     * 
+     * @param connQuery enabled connection to the Data Platform Query Service
+     * @param cacheMeta metadata record cache, or <code>null</code> to disable caching
+     * 
+     * @return  a new <code>MetadataRequestProcessor</code> ready for Query Service metadata request processing
+     */
+    public static MetadataRequestProcessor  from(DpQueryConnection connQuery, PvMetadataCache cacheMeta) {
+        return new MetadataRequestProcessor(connQuery, cacheMeta);
+    }
+    
     
     //
     // Application Resources
@@ -124,6 +167,10 @@ public class MetadataRequestProcessor {
     private static final String         STR_LOGGING_LEVEL = CFG_DEF.logging.level;
     
     
+    /** Metadata caching enabled flag */
+    private static final boolean        BOL_CACHE_ENABLED = CFG_DEF.metadata.cache.enabled;
+    
+    
 //    /** General query timeout limit */
 //    private static final long           LNG_TIMEOUT = CFG_DEF.timeout.limit;
 //    
@@ -152,6 +199,9 @@ public class MetadataRequestProcessor {
     /** The single Query Service connection used for recovering unary metadata requests */
     private final DpQueryConnection         connQuery;
     
+    /** The metadata record cache - <code>null</code> if caching is disabled */
+    private final PvMetadataCache           cacheMeta;
+    
     
     /** The number of metadata bytes recovered so far */ 
     private long    cntBytesRecovered;
@@ -175,7 +225,20 @@ public class MetadataRequestProcessor {
      * @param connQuery enabled connection to the Data Platform Query Service
      */
     public MetadataRequestProcessor(DpQueryConnection connQuery) {
+        this(connQuery, BOL_CACHE_ENABLED ? PvMetadataCache.shared(connQuery.getChannel().authority(), CFG_DEF.metadata.cache) : null);
+    }
+    
+    /**
+     * <p>
+     * Constructs a new <code>MetadataRequestProcessor</code> using the given metadata cache.
+     * </p>
+     * 
+     * @param connQuery enabled connection to the Data Platform Query Service
+     * @param cacheMeta metadata record cache, or <code>null</code> to disable caching
+     */
+    public MetadataRequestProcessor(DpQueryConnection connQuery, PvMetadataCache cacheMeta) {
         this.connQuery = connQuery;
+        this.cacheMeta = cacheMeta;
         
         this.cntBytesRecovered = 0;
     }
@@ -212,6 +275,17 @@ public class MetadataRequestProcessor {
         return this.cntBytesRecovered;
     }
     
+    /**
+     * <p>
+     * Returns the metadata record cache, for example, to inspect its hit and miss counters.
+     * </p>
+     * 
+     * @return  the metadata record cache, or empty if caching is disabled
+     */
+    public final Optional<PvMetadataCache>  getCache() {
+        return Optional.ofNullable(this.cacheMeta);
+    }
+    
 
     //
     // Operations
@@ -223,7 +297,8 @@ public class MetadataRequestProcessor {
      * </p>
      * <p>
      * Performs the given request using gRPC unary operation blocking until request and 
-     * processing of results are complete.  
+     * processing of results are complete.  If caching is enabled, requests by PV name list are answered
+     * from the cache where possible (see class documentation).  
      * </p>
      *  
      * @param rqst  metadata request to be recovered from Query Service and processed
@@ -237,9 +312,157 @@ public class MetadataRequestProcessor {
         // Get the Protobuf request from the argument
         QueryPvMetadataRequest    msgRqst = rqst.buildQueryRequest();
         
+        this.cntBytesRecovered = 0;
+        
+        // No caching or a name pattern request - go directly to the Query Service
+        if (this.cacheMeta == null || msgRqst.hasPvNamePattern()) {
+            List<MetadataRecord>    lstRecs = this.recoverRecords(msgRqst);
+            
+            if (this.cacheMeta != null)
+                this.cacheMeta.putAll(lstRecs);
+            
+            return lstRecs;
+        }
+        
+        // Name list request - resolve through the cache
+        Map<String, Optional<MetadataRecord>>   mapRecs = this.cacheMeta.resolve(
+                msgRqst.getPvNameList().getPvNamesList(), 
+                this::loadBatch);
+        
+        // Unknown PVs are rejected as they would be by the Query Service
+        List<String>    lstUnknown = mapRecs.entrySet().stream().filter(e -> e.getValue().isEmpty()).map(Map.Entry::getKey).toList();
+        
+        if (!lstUnknown.isEmpty()) {
+            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple()
+                           + " - Query Service: PV(s) not within the archive " + lstUnknown;
+            
+            if (BOL_LOGGING)
+                LOGGER.error(strMsg);
+            
+            throw new DpQueryException(strMsg);
+        }
+        
+        return mapRecs.values().stream().map(Optional::get).toList();
+    }
+    
+    /**
+     * <p>
+     * Removes the cached metadata records for the given PV names.
+     * </p>
+     * <p>
+     * Subsequent requests for the PVs are recovered from the Query Service.  Does nothing if caching is disabled.
+     * </p>
+     * 
+     * @param lstPvNames    names of the PVs whose metadata is invalidated
+     */
+    public void invalidate(List<String> lstPvNames) {
+        if (this.cacheMeta != null)
+            this.cacheMeta.invalidate(lstPvNames);
+    }
+    
+    /**
+     * <p>
+     * Removes all cached metadata records.
+     * </p>
+     * <p>
+     * Subsequent requests are recovered from the Query Service.  Does nothing if caching is disabled.
+     * </p>
+     */
+    public void invalidateAll() {
+        if (this.cacheMeta != null)
+            this.cacheMeta.invalidateAll();
+    }
+    
+    
+    //
+    // Support Methods
+    //
+    
+    /**
+     * <p>
+     * Loads the metadata for a batch of cache misses from the Query Service.
+     * </p>
+     * <p>
+     * The batch is first requested as a PV name list.  The Query Service rejects the entire list if any PV is
+     * unknown; in that case the batch is requested again as an anchored name pattern matching exactly the 
+     * batch names, which returns records for the known PVs only.  Any PV without a record is then unknown.
+     * </p>
+     * 
+     * @param lstPvNames    the PV names of the batch
+     * 
+     * @return  map of PV name to metadata record for all known PVs in the batch
+     * 
+     * @throws DpQueryException the Query Service request failed
+     */
+    private Map<String, MetadataRecord> loadBatch(List<String> lstPvNames) throws DpQueryException {
+        
+        // Request the batch as a PV name list
+        QueryPvMetadataRequest  msgRqst = QueryPvMetadataRequest.newBuilder()
+                .setPvNameList(PvNameList.newBuilder().addAllPvNames(lstPvNames))
+                .build();
+        QueryPvMetadataResponse msgRsp = this.connQuery.getStubBlock().queryPvMetadata(msgRqst);
+        
+        this.cntBytesRecovered += msgRsp.getSerializedSize();
+        
+        // Rejected - at least one PV is unknown, request the known PVs by name pattern
+        if (msgRsp.hasExceptionalResult()) {
+            List<String>    lstPatterns = new ArrayList<>(lstPvNames.size());
+            
+            for (String strPvName : lstPvNames)
+                lstPatterns.add(Pattern.quote(strPvName));
+
+            msgRqst = QueryPvMetadataRequest.newBuilder()
+                    .setPvNamePattern(PvNamePattern.newBuilder().setPattern("^(?:" + String.join("|", lstPatterns) + ")$"))
+                    .build();
+            
+            if (BOL_LOGGING)
+                LOGGER.debug("{} - PV name list rejected, requesting {} PV(s) by name pattern.", JavaRuntime.getQualifiedMethodNameSimple(), lstPvNames.size());
+            
+            msgRsp = this.connQuery.getStubBlock().queryPvMetadata(msgRqst);
+
+            this.cntBytesRecovered += msgRsp.getSerializedSize();
+        }
+        
+        return this.unpackResponse(msgRsp)
+                .stream()
+                .collect(Collectors.toMap(MetadataRecord::name, Function.identity(), (r1, r2) -> r2));
+    }
+    
+    /**
+     * <p>
+     * Performs the given metadata request directly on the Query Service and creates the metadata records.
+     * </p>
+     * 
+     * @param msgRqst   the Query Service metadata request
+     * 
+     * @return  an unordered collection of <code>MetadataRecord</code> records matching the given request 
+     * 
+     * @throws DpQueryException the request was rejected or the response could not be unpacked
+     */
+    private List<MetadataRecord>    recoverRecords(QueryPvMetadataRequest msgRqst) throws DpQueryException {
+        
         // Perform gRPC request
         QueryPvMetadataResponse   msgRsp = this.connQuery.getStubBlock().queryPvMetadata(msgRqst);
         
+        // Get the number of bytes recovered
+        this.cntBytesRecovered += msgRsp.getSerializedSize();
+        
+        return this.unpackResponse(msgRsp);
+    }
+    
+    /**
+     * <p>
+     * Checks the given metadata response for a Query Service exception and creates the metadata records.
+     * </p>
+     * 
+     * @param msgRsp    the Query Service metadata response
+     * 
+     * @return  an unordered collection of <code>MetadataRecord</code> records within the response 
+     * 
+     * @throws DpQueryException the response contained an exception or could not be unpacked
+     */
+    private List<MetadataRecord>    unpackResponse(QueryPvMetadataResponse msgRsp) throws DpQueryException {
+        
         // Check for Query Service exception
         if (msgRsp.hasExceptionalResult()) {
             ExceptionalResult       msgExcept = msgRsp.getExceptionalResult();
@@ -251,9 +474,6 @@ public class MetadataRequestProcessor {
             throw new DpQueryException(strErrMsg);
         }
         
-        // Get the number of bytes recovered
-        this.cntBytesRecovered = msgRsp.getSerializedSize();
-
         // Unpack the response and return it
         try {
             List<MetadataRecord>      lstRecs = msgRsp
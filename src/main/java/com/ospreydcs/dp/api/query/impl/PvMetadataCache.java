@@ -0,0 +1,538 @@
+/*
+ * Project: dp-api-common
+ * File:	PvMetadataCache.java
+ * Package: com.ospreydcs.dp.api.query.impl
+ * Type: 	PvMetadataCache
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.query.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.ospreydcs.dp.api.common.MetadataRecord;
+import com.ospreydcs.dp.api.config.query.DpMetadataConfig;
+import com.ospreydcs.dp.api.query.DpQueryException;
+
+/**
+ * <p>
+ * Client-side cache of process variable metadata records keyed by process variable name.
+ * </p>
+ * <p>
+ * <h2>Entries</h2>
+ * Each entry is either a metadata record (a positive entry) or a record that the process variable is unknown
+ * to the Query Service (a negative entry).  Entries expire after a fixed lifetime from their creation, the
+ * lifetimes for positive and negative entries given separately.  The number of entries is bounded; when the
+ * bound is exceeded the least recently used entry is evicted.
+ * </p>
+ * <p>
+ * <h2>Resolution</h2>
+ * Process variable names are resolved with <code>{@link #resolve(Collection, IBatchLoader)}</code>.  Names with
+ * valid entries are answered directly from the cache.  The remaining names (the misses) are loaded from the
+ * Query Service by the given batch loader in batches no larger than the configured batch size.  Concurrent
+ * resolutions of the same name share a single load; that is, a name being loaded by one thread is not loaded
+ * again by another, the second thread waits for the first load to complete.
+ * </p>
+ * <p>
+ * <h2>Sharing</h2>
+ * Metadata is a property of the Query Service, not of a connection to it.  The caches returned by
+ * <code>{@link #shared(String, DpMetadataConfig.Cache)}</code> are process-wide, one per Query Service
+ * address, so that all query service instances connected to the same Query Service share their metadata
+ * (and an invalidation through any one of them applies to all).  Caches created otherwise are private to
+ * their creator.
+ * </p>
+ * <p>
+ * <h2>Statistics</h2>
+ * The cache maintains counters for hits (names answered from a valid entry), misses (names without a valid
+ * entry), and loads (batch loader invocations).  The counters are never reset.
+ * </p>
+ * <p>
+ * <h2>Thread Safety</h2>
+ * All operations are thread safe.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public final class PvMetadataCache {
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new, empty <code>PvMetadataCache</code> with the given parameters.
+     * </p>
+     *
+     * @param cntMaxEntries maximum number of cached process variables
+     * @param durTtl        lifetime of a cached metadata record
+     * @param durTtlNeg     lifetime of a cached unknown process variable
+     * @param szBatch       maximum number of process variable names within a single batch load
+     *
+     * @return  a new, empty metadata cache
+     *
+     * @throws IllegalArgumentException a size parameter was not positive or a lifetime was negative
+     */
+    public static PvMetadataCache   create(int cntMaxEntries, Duration durTtl, Duration durTtlNeg, int szBatch) throws IllegalArgumentException {
+        return new PvMetadataCache(cntMaxEntries, durTtl, durTtlNeg, szBatch, System::nanoTime);
+    }
+
+    /**
+     * <p>
+     * Creates a new, empty <code>PvMetadataCache</code> with parameters from the given configuration.
+     * </p>
+     *
+     * @param cfgCache  metadata cache configuration parameters
+     *
+     * @return  a new, empty metadata cache
+     *
+     * @throws IllegalArgumentException a size parameter was not positive or a lifetime was negative
+     */
+    public static PvMetadataCache   from(DpMetadataConfig.Cache cfgCache) throws IllegalArgumentException {
+        return PvMetadataCache.create(cfgCache.maxEntries, cfgCache.ttlAsDuration(), cfgCache.ttlNegativeAsDuration(), cfgCache.batchSize);
+    }
+
+    /**
+     * <p>
+     * Returns the process-wide <code>PvMetadataCache</code> for the Query Service at the given address.
+     * </p>
+     * <p>
+     * The cache is created with parameters from the given configuration upon the first request for the address;
+     * subsequent requests return the same cache and the configuration argument is ignored.
+     * </p>
+     *
+     * @param strService    address of the Query Service (e.g., the gRPC channel authority <code>host:port</code>)
+     * @param cfgCache      metadata cache configuration parameters used if the cache is created
+     *
+     * @return  the metadata cache shared by all clients of the given Query Service
+     *
+     * @throws IllegalArgumentException a size parameter was not positive or a lifetime was negative
+     */
+    public static PvMetadataCache   shared(String strService, DpMetadataConfig.Cache cfgCache) throws IllegalArgumentException {
+        return MAP_SHARED.computeIfAbsent(strService, strKey -> PvMetadataCache.from(cfgCache));
+    }
+
+
+    //
+    // Class Resources
+    //
+
+    /** The process-wide caches keyed by Query Service address */
+    private static final Map<String, PvMetadataCache>   MAP_SHARED = new ConcurrentHashMap<>();
+
+
+    //
+    // Support Types
+    //
+
+    /**
+     * <p>
+     * Loads the metadata for a batch of process variable names from the Query Service.
+     * </p>
+     */
+    @FunctionalInterface
+    public static interface IBatchLoader {
+
+        /**
+         * <p>
+         * Recovers the metadata records for the given process variable names.
+         * </p>
+         * <p>
+         * The returned map contains a record for each known process variable; any name in the argument
+         * without a record in the returned map is considered unknown to the Query Service.
+         * </p>
+         *
+         * @param lstPvNames    process variable names to recover (no duplicates)
+         *
+         * @return  map of process variable name to metadata record for all known process variables
+         *
+         * @throws DpQueryException the metadata request failed
+         */
+        public Map<String, MetadataRecord>  load(List<String> lstPvNames) throws DpQueryException;
+    }
+
+    /**
+     * Cache entry - a metadata record, or <code>null</code> for unknown PVs, and its expiration time.
+     *
+     * @param recMeta   the metadata record, or <code>null</code> if the process variable is unknown
+     * @param lngExpiry expiration time of the entry (clock nanoseconds)
+     */
+    private static record Entry(MetadataRecord recMeta, long lngExpiry) {
+
+        /** @return <code>true</code> if the entry has expired at the given clock time */
+        boolean isExpired(long lngNow) {
+            return lngNow - this.lngExpiry >= 0;
+        }
+    }
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** Maximum number of cached process variables */
+    private final int           cntMaxEntries;
+
+    /** Lifetime of a positive entry (nanoseconds) */
+    private final long          lngTtlNs;
+
+    /** Lifetime of a negative entry (nanoseconds) */
+    private final long          lngTtlNegNs;
+
+    /** Maximum number of process variable names within a single batch load */
+    private final int           szBatch;
+
+    /** Monotonic clock (nanoseconds) */
+    private final LongSupplier  fncClock;
+
+
+    //
+    // Instance Resources
+    //
+
+    /** The cache entries in access order - guarded by itself */
+    private final LinkedHashMap<String, Entry>  mapEntries;
+
+    /** Loads in progress, keyed by process variable name */
+    private final Map<String, CompletableFuture<Optional<MetadataRecord>>>  mapInFlight = new ConcurrentHashMap<>();
+
+
+    //
+    // State Variables
+    //
+
+    /** Number of names answered from a valid entry */
+    private final AtomicLong    cntHits = new AtomicLong();
+
+    /** Number of names without a valid entry */
+    private final AtomicLong    cntMisses = new AtomicLong();
+
+    /** Number of batch loader invocations */
+    private final AtomicLong    cntLoads = new AtomicLong();
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new, empty <code>PvMetadataCache</code> instance.
+     * </p>
+     *
+     * @param cntMaxEntries maximum number of cached process variables
+     * @param durTtl        lifetime of a cached metadata record
+     * @param durTtlNeg     lifetime of a cached unknown process variable
+     * @param szBatch       maximum number of process variable names within a single batch load
+     * @param fncClock      monotonic clock supplying nanoseconds
+     *
+     * @throws IllegalArgumentException a size parameter was not positive or a lifetime was negative
+     */
+    PvMetadataCache(int cntMaxEntries, Duration durTtl, Duration durTtlNeg, int szBatch, LongSupplier fncClock) throws IllegalArgumentException {
+
+        if (cntMaxEntries < 1 || szBatch < 1)
+            throw new IllegalArgumentException(PvMetadataCache.class.getSimpleName() + " - sizes must be positive: maxEntries=" + cntMaxEntries + ", batchSize=" + szBatch);
+
+        if (durTtl.isNegative() || durTtlNeg.isNegative())
+            throw new IllegalArgumentException(PvMetadataCache.class.getSimpleName() + " - lifetimes must be non-negative: ttl=" + durTtl + ", ttlNegative=" + durTtlNeg);
+
+        this.cntMaxEntries = cntMaxEntries;
+        this.lngTtlNs = durTtl.toNanos();
+        this.lngTtlNegNs = durTtlNeg.toNanos();
+        this.szBatch = szBatch;
+        this.fncClock = fncClock;
+
+        this.mapEntries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> entry) {
+                return this.size() > PvMetadataCache.this.cntMaxEntries;
+            }
+        };
+    }
+
+
+    //
+    // State Inquiry
+    //
+
+    /**
+     * @return  the number of process variable names answered from a valid cache entry
+     */
+    public long getHitCount() {
+        return this.cntHits.get();
+    }
+
+    /**
+     * @return  the number of process variable names without a valid cache entry
+     */
+    public long getMissCount() {
+        return this.cntMisses.get();
+    }
+
+    /**
+     * @return  the number of batch loads performed (i.e., Query Service metadata requests)
+     */
+    public long getLoadCount() {
+        return this.cntLoads.get();
+    }
+
+    /**
+     * @return  the current number of cache entries, including expired entries not yet removed
+     */
+    public int  getSize() {
+        synchronized (this.mapEntries) {
+            return this.mapEntries.size();
+        }
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Resolves the given process variable names to their metadata records.
+     * </p>
+     * <p>
+     * Names with a valid cache entry are answered from the cache.  Names already being loaded by another
+     * thread are awaited.  All other names are loaded with the given batch loader, in batches no larger than
+     * the batch size, and the results entered into the cache.
+     * </p>
+     *
+     * @param setPvNames    process variable names to resolve (duplicates are ignored)
+     * @param fncLoader     loader recovering metadata from the Query Service
+     *
+     * @return  map of each distinct argument name, in argument order, to its metadata record or empty if unknown
+     *
+     * @throws DpQueryException a batch load failed or the thread was interrupted while waiting for a load
+     */
+    public Map<String, Optional<MetadataRecord>>    resolve(Collection<String> setPvNames, IBatchLoader fncLoader) throws DpQueryException {
+
+        // Answer what we can from the cache
+        Map<String, Optional<MetadataRecord>>   mapResult = new LinkedHashMap<>();
+        List<String>                            lstMisses = new ArrayList<>();
+
+        for (String strPvName : new LinkedHashSet<>(setPvNames)) {
+            Optional<MetadataRecord>    optRec = this.lookup(strPvName);
+
+            mapResult.put(strPvName, optRec);
+            if (optRec == null)
+                lstMisses.add(strPvName);
+        }
+
+        this.cntHits.addAndGet(mapResult.size() - lstMisses.size());
+        this.cntMisses.addAndGet(lstMisses.size());
+
+        if (lstMisses.isEmpty())
+            return mapResult;
+
+        // Claim the misses not already being loaded by another thread
+        Map<String, CompletableFuture<Optional<MetadataRecord>>>    mapOwned = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Optional<MetadataRecord>>>    mapShared = new LinkedHashMap<>();
+
+        for (String strPvName : lstMisses) {
+            CompletableFuture<Optional<MetadataRecord>> futNew = new CompletableFuture<>();
+            CompletableFuture<Optional<MetadataRecord>> futCurr = this.mapInFlight.putIfAbsent(strPvName, futNew);
+
+            if (futCurr != null) {
+                mapShared.put(strPvName, futCurr);
+                continue;
+            }
+
+            // A load may have completed between the lookup and the claim
+            Optional<MetadataRecord>    optRec = this.lookup(strPvName);
+            if (optRec != null) {
+                this.mapInFlight.remove(strPvName);
+                futNew.complete(optRec);
+                mapResult.put(strPvName, optRec);
+
+                continue;
+            }
+
+            mapOwned.put(strPvName, futNew);
+        }
+
+        // Load the claimed misses in batches
+        try {
+            List<String>    lstOwned = new ArrayList<>(mapOwned.keySet());
+
+            for (int indBegin=0; indBegin<lstOwned.size(); indBegin+=this.szBatch) {
+                List<String>                lstBatch = lstOwned.subList(indBegin, Math.min(indBegin + this.szBatch, lstOwned.size()));
+                Map<String, MetadataRecord> mapLoaded = fncLoader.load(lstBatch);
+
+                this.cntLoads.incrementAndGet();
+
+                for (String strPvName : lstBatch) {
+                    Optional<MetadataRecord>    optRec = Optional.ofNullable(mapLoaded.get(strPvName));
+
+                    this.store(strPvName, optRec.orElse(null));
+                    this.mapInFlight.remove(strPvName);
+                    mapOwned.get(strPvName).complete(optRec);
+                    mapResult.put(strPvName, optRec);
+                }
+            }
+
+        } catch (DpQueryException | RuntimeException e) {
+
+            // Release all waiting threads
+            for (Map.Entry<String, CompletableFuture<Optional<MetadataRecord>>> entry : mapOwned.entrySet()) {
+                if (entry.getValue().completeExceptionally(e))
+                    this.mapInFlight.remove(entry.getKey());
+            }
+
+            throw e;
+        }
+
+        // Collect the loads performed by other threads
+        for (Map.Entry<String, CompletableFuture<Optional<MetadataRecord>>> entry : mapShared.entrySet()) {
+            try {
+                mapResult.put(entry.getKey(), entry.getValue().get());
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new DpQueryException(PvMetadataCache.class.getSimpleName() + " - interrupted while awaiting metadata for " + entry.getKey(), e);
+
+            } catch (ExecutionException e) {
+                Throwable   errCause = e.getCause();
+
+                if (errCause instanceof DpQueryException errQuery)
+                    throw errQuery;
+
+                throw new DpQueryException(PvMetadataCache.class.getSimpleName() + " - metadata load failed for " + entry.getKey() + ": " + errCause.getMessage(), errCause);
+            }
+        }
+
+        return mapResult;
+    }
+
+    /**
+     * <p>
+     * Enters the given metadata records into the cache as positive entries.
+     * </p>
+     * <p>
+     * Used to retain the results of metadata requests not made through the cache (e.g., name pattern requests).
+     * </p>
+     *
+     * @param setRecs   metadata records recovered from the Query Service
+     */
+    public void putAll(Collection<MetadataRecord> setRecs) {
+        for (MetadataRecord rec : setRecs)
+            this.store(rec.name(), rec);
+    }
+
+    /**
+     * <p>
+     * Removes the entries for the given process variable names.
+     * </p>
+     * <p>
+     * Loads already in progress are not affected.
+     * </p>
+     *
+     * @param setPvNames    process variable names whose entries are removed
+     */
+    public void invalidate(Collection<String> setPvNames) {
+        synchronized (this.mapEntries) {
+            this.mapEntries.keySet().removeAll(setPvNames);
+        }
+    }
+
+    /**
+     * <p>
+     * Removes all cache entries.
+     * </p>
+     * <p>
+     * Loads already in progress are not affected.
+     * </p>
+     */
+    public void invalidateAll() {
+        synchronized (this.mapEntries) {
+            this.mapEntries.clear();
+        }
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Returns the cached entry for the given name, removing it if expired.
+     * </p>
+     *
+     * @param strPvName process variable name
+     *
+     * @return  the cached record, empty if known to be unknown, or <code>null</code> if there is no valid entry
+     */
+    private Optional<MetadataRecord>    lookup(String strPvName) {
+        long    lngNow = this.fncClock.getAsLong();
+
+        synchronized (this.mapEntries) {
+            Entry   entry = this.mapEntries.get(strPvName);
+
+            if (entry == null)
+                return null;
+
+            if (entry.isExpired(lngNow)) {
+                this.mapEntries.remove(strPvName);
+
+                return null;
+            }
+
+            return Optional.ofNullable(entry.recMeta());
+        }
+    }
+
+    /**
+     * <p>
+     * Enters the given metadata record, or negative entry, into the cache.
+     * </p>
+     *
+     * @param strPvName process variable name
+     * @param recMeta   the metadata record, or <code>null</code> if the process variable is unknown
+     */
+    private void store(String strPvName, MetadataRecord recMeta) {
+        long    lngExpiry = this.fncClock.getAsLong() + (recMeta != null ? this.lngTtlNs : this.lngTtlNegNs);
+
+        synchronized (this.mapEntries) {
+            this.mapEntries.put(strPvName, new Entry(recMeta, lngExpiry));
+        }
+    }
+}
@@ -26,6 +26,9 @@
 package com.ospreydcs.dp.api.query.model.assem;
 
 import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
 
 import javax.naming.ConfigurationException;
 
@@ -64,19 +67,35 @@ import com.ospreydcs.dp.api.util.Log4j;
  * </p>
  * <p>
  * <h2>Table Types:</h2>
- * Returned data table type implementation are determined by the size of the source data in
- * the <code>SampledAggregate</code> and the selected data table type.  The size of the source data can be
- * supplied explicitly with table creation method <code>{@link #createTable(SampledAggregate, long)}</code>,
- * or internally calculated with table creation method <code>{@link #createDataTable(SampledAggregate)}</code>.
- * The former method is useful when the size of the source data is already known from previous processing.
- * In that case computation of the source data size can be avoided potentially increasing performance.
- * In either case the configuration parameter in attribute <code>{@link #szTblStatMax}</code> is used for
- * comparison.
- * When using the table creation method <code>{@link #createTable(SampledAggregate, long)}</code> the configuration
- * value is compared to the second argument for table implementation type determination.
- * When using the table creation method <code>{@link #createDataTable(SampledAggregate)}</code>
- * the configuration value is compared to that given by <code>{@link SampledAggregate#getRawAllocation()}</code> to make
- * the above determination.
+ * Returned data table type implementations are determined by the estimated table footprint of the 
+ * <code>SampledAggregate</code> and the selected data table type.  The footprint, a 
+ * <code>{@link TableFootprint}</code> record, estimates the Java heap required by each table type from
+ * the row count, column types, sparsity, and timestamp representation of the aggregate.  It can be supplied
+ * explicitly with table creation method <code>{@link #createTable(SampledAggregate, TableFootprint)}</code>, 
+ * otherwise it is computed by <code>{@link TableFootprint#estimate(SampledAggregate)}</code>.
+ * Note that the serialized size of the recovered data (e.g., <code>{@link SampledAggregate#getRawAllocation()}</code>)
+ * is a poor predictor of heap footprint, which is often several times larger after value boxing.
+ * </p>
+ * <p>
+ * With automatic table type selection (i.e., <code>{@link JalDataTableType#AUTO}</code>) a static table is 
+ * eligible when static tables are the default, its estimated heap is within the maximum static table size 
+ * <code>{@link #szTblStatMax}</code> (if enabled), and its creation is admitted (see below).  An eligible static
+ * table is then selected when its estimated cost does not exceed that of a dynamic table.  The cost weighs the
+ * estimated heap, the table creation time, and the access time for the expected access pattern
+ * <code>{@link AccessPattern}</code> and number of table scans.  For example, a dynamic table scanned once 
+ * sequentially avoids copying all the table columns, whereas repeated random access favors a static table.
+ * </p>
+ * <p>
+ * <h2>Admission Control:</h2>
+ * When admission control is enabled the heap allocation estimated for table creation is compared to a fraction
+ * of the heap space currently available, as reported by the platform <code>{@link MemoryMXBean}</code>.
+ * Since the current heap usage includes garbage not yet collected, a table creation which is not admitted may
+ * optionally be re-evaluated once after requesting a (full, stop-the-world) garbage collection.  This retry is
+ * disabled by default, see <code>{@link #enableAdmissionCollection(boolean)}</code>.
+ * If a static table is not admitted then automatic selection falls back to a dynamic table, which allocates little
+ * beyond its source data.  If the selected table type is not admitted the creation fails immediately with a 
+ * <code>{@link DpQueryException}</code>, rather than with an <code>OutOfMemoryError</code> part way through 
+ * the table construction.
  * </p>
  * <p>
  * <h2>Usage:</h2>
@@ -91,10 +110,14 @@ import com.ospreydcs.dp.api.util.Log4j;
  *   <li><code>{@link #enableStaticTableDefault(boolean)}</code></li>
  *   <li><code>{@link #enableStaticTableMaxSize(boolean)}</code></li>
  *   <li><code>{@link #setStaticTableMaxSize(long)}</code></li>
+ *   <li><code>{@link #setAccessPattern(AccessPattern, double)}</code></li>
+ *   <li><code>{@link #enableAdmissionControl(boolean)}</code></li>
+ *   <li><code>{@link #setAdmissionHeapFraction(double)}</code></li>
  *   </ul>
  * <li>
  * Create new data tables from assembled <code>SampledAggregate</code> instances using 
- * <code>{@link #createTable(SampledAggregate)}</code> or <code>{@link #createTable(SampledAggregate, long)}</code>.
+ * <code>{@link #createDataTable(SampledAggregate)}</code>, <code>{@link #createTable(SampledAggregate, long)}</code>,
+ * or <code>{@link #createTable(SampledAggregate, TableFootprint)}</code>.
  * </li>
  * </ul>
  * </p>
@@ -169,6 +192,32 @@ public class DataTableCreator {
     
     /** The maximum size of a static data table for automatic type creation */
     public static final long                LNG_TBL_STAT_MAX_SZ_DEF = CFG_QUERY.data.table.result.staticTbl.maxSize;   
+    
+    /** The heap admission control enable/disable flag for data table creation */
+    public static final boolean             BOL_ADMIT_DEF = CFG_QUERY.data.table.result.admission.enabled;
+    
+    /** The maximum fraction of available heap space allocated by data table creation */
+    public static final double              DBL_ADMIT_HEAP_FRAC_DEF = CFG_QUERY.data.table.result.admission.heapFraction;
+    
+    /** The garbage collection retry enable/disable flag for refused data table creation */
+    public static final boolean             BOL_ADMIT_GC_DEF = Boolean.TRUE.equals(CFG_QUERY.data.table.result.admission.collect);
+    
+    
+    /** The default expected access pattern for created data tables */
+    public static final AccessPattern       ENM_ACCESS_DEF = AccessPattern.RANDOM;
+    
+    /** The default expected number of full scans of created data tables */
+    public static final double              DBL_SCANS_DEF = 1.0;
+    
+    
+    /** Cost of retaining one byte of heap, in units of static table cell accesses */
+    public static final double              DBL_COST_HEAP_BYTE = 1.0 / TableFootprint.SZ_REF;
+    
+    /** Cost of a random dynamic table cell access excluding the page search, in units of static table cell accesses */
+    public static final double              DBL_COST_DYN_RANDOM = 4.0;
+    
+    /** Cost of a sequential (cursor) dynamic table cell access, in units of static table cell accesses */
+    public static final double              DBL_COST_DYN_SCAN = 1.5;
 
     
     //
@@ -178,6 +227,9 @@ public class DataTableCreator {
     /** Class event logger */
     private static final Logger     LOGGER = Log4j.getLoggerSetLevel(STR_LOGGING_LEVEL);
     
+    /** Platform heap memory monitor */
+    private static final MemoryMXBean   BEAN_MEMORY = ManagementFactory.getMemoryMXBean();
+    
     
     //
     // Instance Attributes
@@ -195,6 +247,21 @@ public class DataTableCreator {
     /** Maximum static data table size (in bytes) when maximum size limit is enabled */
     private long                    szTblStatMax = LNG_TBL_STAT_MAX_SZ_DEF;
     
+    /** Expected access pattern of created data tables */
+    private AccessPattern           enmAccess = ENM_ACCESS_DEF;
+    
+    /** Expected number of full scans of created data tables */
+    private double                  dblScans = DBL_SCANS_DEF;
+    
+    /** Enable/disable heap admission control */
+    private boolean                 bolAdmit = BOL_ADMIT_DEF;
+    
+    /** Maximum fraction of available heap space allocated by table creation when admission control is enabled */
+    private double                  dblAdmitFrac = DBL_ADMIT_HEAP_FRAC_DEF;
+    
+    /** Enable/disable garbage collection and heap re-measurement before refusing table creation */
+    private boolean                 bolAdmitGc = BOL_ADMIT_GC_DEF;
+    
     
     //
     // Constructor
@@ -228,6 +295,10 @@ public class DataTableCreator {
         this.bolTblStatDef = BOL_TBL_STAT_DEF;
         this.bolTblStatMax = BOL_TBL_STAT_MAX_DEF;
         this.szTblStatMax = LNG_TBL_STAT_MAX_SZ_DEF;
+        this.enmAccess = ENM_ACCESS_DEF;
+        this.dblScans = DBL_SCANS_DEF;
+        this.bolAdmit = BOL_ADMIT_DEF;
+        this.dblAdmitFrac = DBL_ADMIT_HEAP_FRAC_DEF;
     }
     
     /**
@@ -259,8 +330,8 @@ public class DataTableCreator {
      * </ul>
      * </p>
      * @implNote
-     * The choice of data table implementation is performed in private method 
-     * <code>{@link #selectTableImpl(SampledAggregate, long)}</code>.  
+     * The choice of data table implementation is performed in support method 
+     * <code>{@link #selectTableType(TableFootprint, long)}</code>.  
      *  
      * @param enmTblType the JAL data table type to be generated
      * 
@@ -372,7 +443,7 @@ public class DataTableCreator {
      * @param bolEnable     static data table maximum size enable/disable flag
      */
     public void enableStaticTableMaxSize(boolean bolEnable) {
-        this.bolTblStatDef = bolEnable;
+        this.bolTblStatMax = bolEnable;
     }
     
     /**
@@ -385,11 +456,8 @@ public class DataTableCreator {
      * size enforcement.
      * </p>
      * <p>
-     * When using the table creation method <code>{@link #createDataTable(SampledAggregate)}</code>
-     * the given value is compared to that given by <code>{@link SampledAggregate#getRawAllocation()}</code> to make
-     * the above determination.
-     * When using the table creation method <code>{@link #createTable(SampledAggregate, long)}</code> the given
-     * value is compared to the second argument for table implementation type determination.
+     * The given value is compared to the estimated heap size of the static table, as given by 
+     * <code>{@link TableFootprint#staticHeap()}</code>, to make the above determination.
      * </p>
      * <p>
      * <h2>NOTES:</h2>
@@ -411,6 +479,135 @@ public class DataTableCreator {
         this.szTblStatMax = lngMaxSize;
     }
     
+    /**
+     * <p>
+     * Sets the expected access pattern and number of full scans for created data tables.
+     * </p>
+     * <p>
+     * The expected table access is used to compare the costs of static and dynamic data tables in automatic 
+     * table type selection.  Static tables have the lowest access cost but must copy all table columns when
+     * created.  Dynamic tables are created quickly but have a higher access cost, which depends upon the 
+     * access pattern (see <code>{@link AccessPattern}</code>).
+     * </p>
+     * <p>
+     * <h2>NOTES:</h2>
+     * <ul>
+     * <li>This parameter has context only when the table type is set to <code>{@link JalDataTableType#AUTO}</code>.</li>
+     * <li>
+     * The default values are given by class constants <code>{@link #ENM_ACCESS_DEF}</code> and 
+     * <code>{@link #DBL_SCANS_DEF}</code>.
+     * </li>
+     * </ul>
+     * </p>
+     * 
+     * @param enmAccess     the expected access pattern of created data tables
+     * @param dblScans      the expected number of full scans of each created data table (may be fractional)
+     * 
+     * @throws IllegalArgumentException the number of scans is negative
+     */
+    public void setAccessPattern(AccessPattern enmAccess, double dblScans) throws IllegalArgumentException {
+        
+        // Check argument
+        if (dblScans < 0.0 || Double.isNaN(dblScans))
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Illegal number of table scans " + dblScans);
+        
+        this.enmAccess = enmAccess;
+        this.dblScans = dblScans;
+    }
+    
+    /**
+     * <p>
+     * Sets the heap admission control enable/disable flag.
+     * </p>
+     * <p>
+     * When admission control is enabled the heap allocation required for data table creation is estimated and
+     * compared to the heap space currently available.  If the estimated allocation is larger than the fraction
+     * of available heap given by <code>{@link #setAdmissionHeapFraction(double)}</code> then
+     * <ul>
+     * <li>table type = <code>{@link JalDataTableType#AUTO}</code>: a dynamic data table is created in place of 
+     *     a static data table.
+     * </li>
+     * <li>otherwise (or if a dynamic table is also not admitted): an exception is thrown before any table 
+     *     construction.
+     * </li>
+     * </ul>
+     * </p>
+     * <p>
+     * <h2>NOTES:</h2>
+     * <ul>
+     * <li>
+     * The available heap is the maximum heap size less the heap currently used, which includes any garbage not yet
+     * collected.  See <code>{@link #enableAdmissionCollection(boolean)}</code> to measure the available heap once
+     * more after a garbage collection before falling back or refusing.
+     * </li>
+     * <li>
+     * The default value for this parameter is given by class constant <code>{@link #BOL_ADMIT_DEF}</code>
+     * which is taken from the Java API Library configuration file.
+     * </li>
+     * </ul>
+     * </p>
+     * 
+     * @param bolEnable     heap admission control enable/disable flag
+     */
+    public void enableAdmissionControl(boolean bolEnable) {
+        this.bolAdmit = bolEnable;
+    }
+    
+    /**
+     * <p>
+     * Sets the maximum fraction of the available heap space that data table creation may allocate when admission 
+     * control is enabled.
+     * </p>
+     * <p>
+     * <h2>NOTES:</h2>
+     * <ul>
+     * <li>See <code>{@link #enableAdmissionControl(boolean)}</code> for a description of admission control.</li>
+     * <li>
+     * The default value for this parameter is given by class constant <code>{@link #DBL_ADMIT_HEAP_FRAC_DEF}</code>
+     * which is taken from the Java API Library configuration file.
+     * </li>
+     * </ul>
+     * </p>
+     * 
+     * @param dblFrac   fraction of the available heap space in the interval (0, 1]
+     * 
+     * @throws IllegalArgumentException the fraction is not within the interval (0, 1]
+     */
+    public void setAdmissionHeapFraction(double dblFrac) throws IllegalArgumentException {
+        
+        // Check argument
+        if (!(dblFrac > 0.0 && dblFrac <= 1.0))
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Heap fraction not in (0, 1]: " + dblFrac);
+        
+        this.dblAdmitFrac = dblFrac;
+    }
+    
+    /**
+     * <p>
+     * Sets the garbage collection retry enable/disable flag for admission control.
+     * </p>
+     * <p>
+     * When enabled, a table creation which is not admitted requests a garbage collection and measures the
+     * available heap again before falling back or refusing.  The collection is typically a full, stop-the-world
+     * collection of the entire application, thus, the retry is disabled by default.
+     * </p>
+     * <p>
+     * <h2>NOTES:</h2>
+     * <ul>
+     * <li>See <code>{@link #enableAdmissionControl(boolean)}</code> for a description of admission control.</li>
+     * <li>
+     * The default value for this parameter is given by class constant <code>{@link #BOL_ADMIT_GC_DEF}</code>
+     * which is taken from the Java API Library configuration file.
+     * </li>
+     * </ul>
+     * </p>
+     * 
+     * @param bolEnable     garbage collection retry enable/disable flag
+     */
+    public void enableAdmissionCollection(boolean bolEnable) {
+        this.bolAdmitGc = bolEnable;
+    }
+    
     
     /**
      * <p>
@@ -463,6 +660,71 @@ public class DataTableCreator {
     public long getStaticTableMaxSize() {
         return this.szTblStatMax;
     }
+    
+    /**
+     * <p>
+     * Returns the expected access pattern of created data tables.
+     * </p>
+     * 
+     * @return  the expected access pattern in the current configuration
+     * 
+     * @see #setAccessPattern(AccessPattern, double)
+     */
+    public AccessPattern    getAccessPattern() {
+        return this.enmAccess;
+    }
+    
+    /**
+     * <p>
+     * Returns the expected number of full scans of created data tables.
+     * </p>
+     * 
+     * @return  the expected number of table scans in the current configuration
+     * 
+     * @see #setAccessPattern(AccessPattern, double)
+     */
+    public double   getExpectedScans() {
+        return this.dblScans;
+    }
+    
+    /**
+     * <p>
+     * Returns the heap admission control enable/disable flag.
+     * </p>
+     * 
+     * @return  the heap admission control enabled flag in the current configuration
+     * 
+     * @see #enableAdmissionControl(boolean)
+     */
+    public boolean  isAdmissionControlEnabled() {
+        return this.bolAdmit;
+    }
+    
+    /**
+     * <p>
+     * Returns the maximum fraction of the available heap space allocated by table creation.
+     * </p>
+     * 
+     * @return  the admission control heap fraction in the current configuration
+     * 
+     * @see #setAdmissionHeapFraction(double)
+     */
+    public double   getAdmissionHeapFraction() {
+        return this.dblAdmitFrac;
+    }
+    
+    /**
+     * <p>
+     * Returns the garbage collection retry enable/disable flag for admission control.
+     * </p>
+     * 
+     * @return  the garbage collection retry enabled flag in the current configuration
+     * 
+     * @see #enableAdmissionCollection(boolean)
+     */
+    public boolean  isAdmissionCollectionEnabled() {
+        return this.bolAdmitGc;
+    }
  
     
     /**
@@ -488,6 +750,11 @@ public class DataTableCreator {
         ps.println(strPad + "Static table default enabled   : " + this.bolTblStatDef);
         ps.println(strPad + "Static table max. size enabled : " + this.bolTblStatMax);
         ps.println(strPad + "Static table max. size (bytes) : " + this.szTblStatMax);
+        ps.println(strPad + "Expected access pattern        : " + this.enmAccess.name());
+        ps.println(strPad + "Expected table scans           : " + this.dblScans);
+        ps.println(strPad + "Heap admission control enabled : " + this.bolAdmit);
+        ps.println(strPad + "Admission heap fraction        : " + this.dblAdmitFrac);
+        ps.println(strPad + "Admission GC retry enabled     : " + this.bolAdmitGc);
     }
     
     
@@ -501,17 +768,13 @@ public class DataTableCreator {
      * and the current <code>DataTableAssembler</code> configuration.
      * </p>
      * <p>
-     * This is a convenience method available whenever the size of the source data in the argument is not known.
-     * This method defers to method <code>{@link #createTable(SampledAggregate, long)}</code> after computing
-     * the second argument using method <code>{@link SampledAggregate#getRawAllocation()}</code>.
-     * Method <code>{@link SampledAggregate#computeAllocationSize()}</code> provides a more accurate estimate
-     * for source data size but is more computational intense.
+     * This is a convenience method deferring to method <code>{@link #createTable(SampledAggregate, TableFootprint)}</code>
+     * after estimating the table footprint with <code>{@link TableFootprint#estimate(SampledAggregate)}</code>.
      * </p>
      * <p>
      * <h2>NOTES:</h2>
      * <ul>
-     * <li>If source data size is known method <code>{@link #createTable(SampledAggregate, long)}</code> should be used.</li>
-     * <li>See method documentation for <code>{@link #createTable(SampledAggregate, long)}</code> for further details
+     * <li>See method documentation for <code>{@link #createTable(SampledAggregate, TableFootprint)}</code> for further details
      *     on data table creation.</li>
      * </p>
      * 
@@ -523,9 +786,9 @@ public class DataTableCreator {
      */
     public IDataTable   createDataTable(SampledAggregate blksAggr) throws DpQueryException {
 
-        long szData = blksAggr.getRawAllocation();
+        TableFootprint  recFtprt = TableFootprint.estimate(blksAggr);
         
-        return this.createTable(blksAggr, szData);
+        return this.createTable(blksAggr, recFtprt);
     }
     
     /**
@@ -534,18 +797,49 @@ public class DataTableCreator {
      * and the current <code>DataTableAssembler</code> configuration.
      * </p>
      * <p>
+     * This method defers to method <code>{@link #createTable(SampledAggregate, TableFootprint)}</code> after 
+     * estimating the table footprint with <code>{@link TableFootprint#estimate(SampledAggregate)}</code>.
+     * The <code>szData</code> argument, the size of the data recovered from the Query Service, is no longer used
+     * for table type selection since it is a poor predictor of heap footprint.  It is retained for compatibility
+     * and reported with the footprint estimate when logging is enabled.
+     * </p>
+     * 
+     * @param blksAggr  source data for the returned <code>IDataTable</code> implementation
+     * @param szData    the size of the recovered data for the given <code>SampledAggregate</code> argument (in bytes)
+     * 
+     * @return  a new <code>IDataTable</code> implementation based upon the current configuration
+     * 
+     * @throws DpQueryException table creation failed (see message and cause)
+     */
+    public IDataTable   createTable(SampledAggregate blksAggr, long szData) throws DpQueryException {
+        
+        TableFootprint  recFtprt = TableFootprint.estimate(blksAggr);
+        
+        if (BOL_LOGGING)
+            LOGGER.debug("{} - Recovered data size {} bytes, estimated static table heap {} bytes, dynamic table heap {} bytes.", 
+                    JavaRuntime.getQualifiedMethodNameSimple(), szData, recFtprt.staticHeap(), recFtprt.dynamicHeap());
+        
+        return this.createTable(blksAggr, recFtprt);
+    }
+    
+    /**
+     * <p>
+     * Creates a new <code>IDataTable</code> implementation from the given <code>SampledAggregate</code> instance,
+     * its estimated table footprint, and the current <code>DataTableAssembler</code> configuration.
+     * </p>
+     * <p>
      * In the current implementation,
      * the returned <code>IDataTable</code> implementation is either a static data table instance 
      * <code>{@link StaticDataTable}</code>, or a dynamic data table instance
      * <code>{@link SampledAggregateTable}</code>.  The returned implementation depends upon the
-     * current configuration of this <code>DataTableCreator</code> object and the value of the
-     * <code>szData</code> argument.
+     * current configuration of this <code>DataTableCreator</code> object and the table footprint.
+     * </p>
      * <p>
-     * The <code>szData</code> argument is used for comparisons for static data table creation.
-     * When automatic data table creation is selected a dynamic data table will be returned if the
-     * argument is larger then the configuration limitation.  If static data table creation is selected
-     * and the maximum size limitation is enabled an exception is thrown if the argument is larger
-     * than the configuration limitation.  
+     * When automatic data table creation is selected a dynamic data table is returned if a static table is 
+     * larger than the configuration limitation, is not admitted, or has the larger estimated cost.  
+     * If static data table creation is selected and the maximum size limitation is enabled an exception is thrown 
+     * if the static table is larger than the configuration limitation.  If admission control is enabled an
+     * exception is thrown if the selected table is not admitted.  
      * </p>
      * <p>
      * <h2>NOTES:</h2>
@@ -554,8 +848,6 @@ public class DataTableCreator {
      * This object can be used repeatedly for time-series data table creation.
      * </li>
      * <li>
-     * The <code>szData</code> argument is used for comparisons for static data table creation.
-     * <li>
      * All exceptions encountered during data table creation are subsequently packaged into a
      * <code>DpQueryException</code> for convenience.  See the message and cause for details
      * on the exceptional situation (most are caused by configuration violations).
@@ -568,18 +860,27 @@ public class DataTableCreator {
      * </p>   
      * 
      * @param blksAggr  source data for the returned <code>IDataTable</code> implementation
-     * @param szData    the size of the given <code>SampledAggregate</code> argument (in bytes)
+     * @param recFtprt  the estimated table footprint of the given <code>SampledAggregate</code> argument
      * 
      * @return  a new <code>IDataTable</code> implementation based upon the current configuration
      * 
      * @throws DpQueryException table creation failed (see message and cause)
      */
-    public IDataTable   createTable(SampledAggregate blksAggr, long szData) throws DpQueryException {
+    public IDataTable   createTable(SampledAggregate blksAggr, TableFootprint recFtprt) throws DpQueryException {
         
         try {
-            IDataTable  tbl = this.selectTableImpl(blksAggr, szData);
+            long                szHeapAvail = DataTableCreator.availableHeap();
+            
+            // Current heap usage includes uncollected garbage - optionally measure again after collection before refusing
+            if (this.bolAdmitGc && !this.isAdmitted(this.preferredBuild(recFtprt), szHeapAvail))
+                szHeapAvail = DataTableCreator.availableHeapCollected();
             
-            return tbl;
+            JalDataTableType    enmType = this.selectTableType(recFtprt, szHeapAvail);
+            
+            return switch (enmType) {
+            case STATIC -> blksAggr.createStaticDataTable();
+            default -> blksAggr.createDynamicDataTable();
+            };
             
         } catch (ConfigurationException e) {
             String  strMsg = JavaRuntime.getQualifiedMethodNameSimple()
@@ -595,136 +896,261 @@ public class DataTableCreator {
     
 
     //
-    // Support Methods
+    // Support Types
     //
     
     /**
      * <p>
-     * Selects an <code>IDataTable</code> implementation from the given <code>SampledAggregate</code> according to table type
-     * preference parameter.
+     * Enumeration of the expected access patterns of created data tables.
      * </p>
      * <p>
-     * The returned <code>IDataTable</code> implementation is determined by the attribute <code>{@link #enmTblType}</code>.
-     * A switch statement is used to selected the returned concrete instance according to the following:
-     * <ul>
-     * <li><code>{@link JalDataTableType#STATIC}</code> - returns <code>{@link SampledAggregate#createStaticDataTable()}</code>.</li>
-     * <li><code>{@link JalDataTableType#DYNAMIC}</code> - returns <code>{@link #createTableImplStatic(SampledAggregate, long)}</code>.</li>
-     * <li><code>{@link JalDataTableType#AUTO}</code> - returns <code>{@link #createTableImplAuto(SampledAggregate, long)}</code>.</li>
-     * Any other enumeration value throws an exception.
-     * </ul>
+     * The access pattern is used in automatic table type selection to estimate the access cost of dynamic
+     * data tables, relative to static data tables.
+     * </p>
+     */
+    public static enum AccessPattern {
+        
+        /** Random cell access by row and column (e.g., <code>{@link IDataTable#getValue(int, int)}</code>) */
+        RANDOM,
+        
+        /** Row-ordered scans (e.g., <code>{@link IDataTable#cursor()}</code> or <code>{@link IDataTable#rowStream()}</code>) */
+        SEQUENTIAL,
+        
+        /** Full column access (e.g., <code>{@link IDataTable#getColumn(int)}</code>) */
+        COLUMNAR;
+    }
+    
+    
+    //
+    // Support Methods
+    //
+    
+    /**
+     * <p>
+     * Selects the data table type for the given table footprint and available heap space according to the
+     * current configuration.
      * </p>
      * <p>
-     * The resulting <code>IDataTable</code> implementation, either <code>StaticDataTable</code> or 
-     * <code>SampledAggregateTable</code> depends upon the size of the sampling process (as specified by the argument)
-     * and the configuration parameters of the Java API Library.  The different implementations are given as follows:
+     * The returned type is determined by the attribute <code>{@link #enmTblType}</code> as follows:
      * <ul>
-     * <li><code>{@link StaticDataTable}</code> - data table is fully populated with timestamps and data values. </li>
-     * <li><code>{@link SampledAggregateTable}</code> - data table can be sparse, timestamps and data values and can be computed
-     *                                         on demanded (e.g., missing data values).</li> 
+     * <li><code>{@link JalDataTableType#DYNAMIC}</code> - returns <code>DYNAMIC</code> if admitted.</li>
+     * <li><code>{@link JalDataTableType#STATIC}</code> - returns <code>STATIC</code> if within the maximum size and admitted.</li>
+     * <li><code>{@link JalDataTableType#AUTO}</code> - returns <code>STATIC</code> if eligible and of lesser cost, 
+     *     otherwise <code>DYNAMIC</code> if admitted.</li>
+     * Any other enumeration value throws an exception.
      * </ul>
-     * See the class documentation for each data type for further details.
      * </p>
      * 
-     * @param blksAggr  sampled aggregate created from a set of <code>RawCorrelatedData</code> objects
+     * @param recFtprt      the estimated table footprint
+     * @param szHeapAvail   the available heap space (in bytes)
      * 
-     * @return  an appropriate <code>IDataTable</code> implementation
+     * @return  either <code>{@link JalDataTableType#STATIC}</code> or <code>{@link JalDataTableType#DYNAMIC}</code>
      * 
-     * @throws ConfigurationException    library configuration and size requirements are incompatible for table creation
-     * 
-     * @see StaticDataTable
-     * @see SampledAggregateTable
+     * @throws ConfigurationException   library configuration and size requirements are incompatible for table creation
+     * @throws DpQueryException         the selected table creation is not admitted (insufficient heap space)
      */
-    private IDataTable  selectTableImpl(SampledAggregate blksAggr, long szData) throws ConfigurationException {
+    JalDataTableType    selectTableType(TableFootprint recFtprt, long szHeapAvail) throws ConfigurationException, DpQueryException {
         
-        return switch (this.enmTblType) {
-        case DYNAMIC -> blksAggr.createDynamicDataTable();
-        case STATIC -> this.createTableImplStatic(blksAggr, szData);
-        case AUTO -> this.createTableImplAuto(blksAggr, szData);
-        default -> throw new ConfigurationException(JavaRuntime.getQualifiedMethodNameSimple() + " - Illegal table type " + this.enmTblType);
-        };
+        switch (this.enmTblType) {
+        case DYNAMIC:
+            this.checkAdmission(JalDataTableType.DYNAMIC, recFtprt.dynamicBuild(), szHeapAvail);
+            
+            return JalDataTableType.DYNAMIC;
+            
+        case STATIC:
+            if (this.bolTblStatMax && (recFtprt.staticHeap() > this.szTblStatMax)) {
+                String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() 
+                        + " - Maximum static table size enabled with limit = " + this.szTblStatMax
+                        + " and estimated table size = " + recFtprt.staticHeap() + " is too large.";
+                
+                throw new ConfigurationException(strMsg);
+            }
+            this.checkAdmission(JalDataTableType.STATIC, recFtprt.staticBuild(), szHeapAvail);
+            
+            return JalDataTableType.STATIC;
+            
+        case AUTO:
+            boolean bolStatElig = this.bolTblStatDef 
+                    && (!this.bolTblStatMax || recFtprt.staticHeap() <= this.szTblStatMax)
+                    && this.isAdmitted(recFtprt.staticBuild(), szHeapAvail);
+            
+            if (bolStatElig && this.costStatic(recFtprt) <= this.costDynamic(recFtprt))
+                return JalDataTableType.STATIC;
+            
+            this.checkAdmission(JalDataTableType.DYNAMIC, recFtprt.dynamicBuild(), szHeapAvail);
+            
+            return JalDataTableType.DYNAMIC;
+            
+        default:
+            throw new ConfigurationException(JavaRuntime.getQualifiedMethodNameSimple() + " - Illegal table type " + this.enmTblType);
+        }
     }
     
     /**
      * <p>
-     * Creates a static data table implementation from the given arguments.
+     * Returns the estimated cost of a static data table with the given footprint, in units of static table
+     * cell accesses.
      * </p>
      * <p>
-     * The method creates a <code>{@link StaticDataTable}</code> instance from method 
-     * <code>{@link SampledAggregate#createStaticDataTable()}</code> if the following conditions hold:
-     * <ul>
-     * <li><code>{@link #bolTblStatMax}</code> = <code>false</code>. </li>
-     * <li><code>{@link #bolTblStatMax}</code> = <code>true</code> AND 
-     *   <code>{@link #szTblStatMax}</code> < argument <code>saData</code>. 
-     * </li>
-     * </ul>
-     * Otherwise an exception is thrown.
+     * The cost is the sum of the column copies for creation, the cell accesses for the expected number of
+     * scans, and the retained heap.
      * </p>
      * 
-     * @param blksAggr  sampled aggregate created from a set of <code>RawCorrelatedData</code> objects
-     * @param szData    approximate size (in bytes) of sampled aggregate
+     * @param recFtprt  the estimated table footprint
      * 
-     * @return  an <code>IDataTable</code> implementation of type <code>StaticDataTable</code>
+     * @return  the estimated static data table cost
+     */
+    double  costStatic(TableFootprint recFtprt) {
+        double  dblCells = recFtprt.cntCells();
+        
+        double  dblBuild = dblCells + recFtprt.cntRows();
+        double  dblAccess = dblCells * this.dblScans;
+        double  dblHeap = DBL_COST_HEAP_BYTE * recFtprt.staticHeap();
+        
+        return dblBuild + dblAccess + dblHeap;
+    }
+    
+    /**
+     * <p>
+     * Returns the estimated cost of a dynamic data table with the given footprint, in units of static table
+     * cell accesses.
+     * </p>
+     * <p>
+     * The cost is the sum of the timestamp copies for creation, the cell accesses for the expected access
+     * pattern and number of scans, and the retained heap.  Random access includes a page search for each cell,
+     * and column access creates (and retains) each full column once.
+     * </p>
      * 
-     * @throws ConfigurationException    library configuration and size requirements are incompatible for table creation
+     * @param recFtprt  the estimated table footprint
      * 
-     * @see StaticDataTable
+     * @return  the estimated dynamic data table cost
      */
-    private IDataTable  createTableImplStatic(SampledAggregate blksAggr, long szData) throws ConfigurationException {
+    double  costDynamic(TableFootprint recFtprt) {
+        double  dblCells = recFtprt.cntCells();
         
-        if (this.bolTblStatMax && (szData > this.szTblStatMax)) {
-            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() 
-                    + " - Maximum static table size enabled with limit = " + this.szTblStatMax
-                    + " and request size = " + szData + " is too large.";
+        double  dblBuild = recFtprt.cntRows() + recFtprt.cntPages();
+        double  dblHeap = DBL_COST_HEAP_BYTE * recFtprt.dynamicHeap();
+        double  dblAccess = switch (this.enmAccess) {
+        case RANDOM -> dblCells * this.dblScans * (DBL_COST_DYN_RANDOM + Math.log(recFtprt.cntPages() + 1) / Math.log(2.0));
+        case SEQUENTIAL -> dblCells * this.dblScans * DBL_COST_DYN_SCAN;
+        case COLUMNAR -> {
+            dblHeap += DBL_COST_HEAP_BYTE * dblCells * TableFootprint.SZ_REF;
             
-            throw new ConfigurationException(strMsg);
+            yield (this.dblScans > 0.0) ? dblCells * (1.0 + this.dblScans) : 0.0;
         }
+        };
         
-        return blksAggr.createStaticDataTable();
+        return dblBuild + dblAccess + dblHeap;
     }
     
     /**
      * <p>
-     * Creates a static or dynamic data table depending upon the configuration parameters and data size.
+     * Returns the estimated heap allocation for creation of the preferred table type under the current 
+     * configuration.
      * </p>
      * <p>
-     * This method is to be called when <code>{@link #enmTblType}</code> is equal to 
-     * <code>{@link JalDataTableType#AUTO}</code>.
+     * The preferred type is the configured type, or for <code>{@link JalDataTableType#AUTO}</code> a static
+     * table if it is the default and within the maximum size (if enabled), otherwise a dynamic table.
      * </p>
+     * 
+     * @param recFtprt  the estimated table footprint
+     * 
+     * @return  the estimated heap allocation for creating the preferred table type (in bytes)
+     */
+    private long preferredBuild(TableFootprint recFtprt) {
+        
+        return switch (this.enmTblType) {
+        case STATIC -> recFtprt.staticBuild();
+        case AUTO -> (this.bolTblStatDef && (!this.bolTblStatMax || recFtprt.staticHeap() <= this.szTblStatMax)) 
+                ? recFtprt.staticBuild() 
+                : recFtprt.dynamicBuild();
+        default -> recFtprt.dynamicBuild();
+        };
+    }
+    
+    /**
      * <p>
-     * The resulting <code>IDataTable</code> implementation, either <code>StaticDataTable</code> or 
-     * <code>SampledAggregateTable</code> depends upon the size of the sampling process (as specified by the argument)
-     * and the configuration parameters of the Java API Library.  The different implementations are given as follows:
-     * <ul>
-     * <li><code>{@link StaticDataTable}</code> - data table is fully populated with timestamps and data values. </li>
-     * <li><code>{@link SampledAggregateTable}</code> - data table can be sparse, timestamps and data values and can be computed
-     *                                         on demanded (e.g., missing data values).</li> 
-     * </ul>
-     * See the class documentation for each data type for further details.
+     * Determines whether or not a table creation allocating the given heap space is admitted.
      * </p>
+     * 
+     * @param szBuild       the estimated heap allocation for table creation (in bytes)
+     * @param szHeapAvail   the available heap space (in bytes)
+     * 
+     * @return  <code>true</code> if admission control is disabled or the allocation is within the admitted fraction
+     *          of available heap, <code>false</code> otherwise
+     */
+    private boolean isAdmitted(long szBuild, long szHeapAvail) {
+        return !this.bolAdmit || szBuild <= this.dblAdmitFrac * szHeapAvail;
+    }
+    
+    /**
      * <p>
-     * The <code>StaticDataTable</code> implementation is returned if the following conditions hold:
-     * <ol>
-     * <li><code>{@link #bolTblStatDef}</code> is <code>true</code> (static tables are the default).</li>
-     * <li><code>{@link #szTblStatMax}</code> &le; <code>szData</code></li>.
-     * </ol>
-     * Otherwise, a <code>SampledAggregateTable</code> (dynamic table) is returned.
+     * Checks that a table creation allocating the given heap space is admitted, throwing an exception if not.
      * </p>
      * 
-     * @param aggBlks   sampled aggregate created from a set of <code>RawCorrelatedData</code> objects
-     * @param szData    approximate size (in bytes) of sampled aggregate
+     * @param enmType       the table type being created
+     * @param szBuild       the estimated heap allocation for table creation (in bytes)
+     * @param szHeapAvail   the available heap space (in bytes)
      * 
-     * @return  an appropriate <code>IDataTable</code> implementation
+     * @throws DpQueryException the table creation is not admitted
+     */
+    private void checkAdmission(JalDataTableType enmType, long szBuild, long szHeapAvail) throws DpQueryException {
+        
+        if (this.isAdmitted(szBuild, szHeapAvail))
+            return;
+        
+        String  strMsg = JavaRuntime.getQualifiedMethodNameSimple()
+                + " - Insufficient heap space for " + enmType + " data table creation: estimated allocation = " + szBuild
+                + " bytes, available heap = " + szHeapAvail + " bytes, admitted fraction = " + this.dblAdmitFrac + ".";
+        
+        if (BOL_LOGGING)
+            LOGGER.error(strMsg);
+        
+        throw new DpQueryException(strMsg);
+    }
+    
+    /**
+     * <p>
+     * Returns the heap space currently available (in bytes).
+     * </p>
+     * <p>
+     * The available heap is the maximum heap size less the heap currently used, as reported by the platform
+     * <code>{@link MemoryMXBean}</code>.  If the maximum heap size is undefined the runtime maximum memory is used.
+     * </p>
      * 
-     * @see StaticDataTable
-     * @see SampledAggregateTable
+     * @return  the available heap space
      */
-    private IDataTable  createTableImplAuto(SampledAggregate aggBlks, long szData) {
-
-        if (this.bolTblStatDef && (szData < this.szTblStatMax)) 
-            return aggBlks.createStaticDataTable();
-        else 
-            return aggBlks.createDynamicDataTable();
+    private static long availableHeap() {
+        MemoryUsage     usgHeap = BEAN_MEMORY.getHeapMemoryUsage();
+        long            szMax = (usgHeap.getMax() < 0) ? Runtime.getRuntime().maxMemory() : usgHeap.getMax();
+        
+        return Math.max(0L, szMax - usgHeap.getUsed());
+    }
+    
+    /**
+     * <p>
+     * Returns the heap space available (in bytes) after requesting a garbage collection.
+     * </p>
+     * <p>
+     * The heap usage reported by <code>{@link MemoryMXBean}</code> includes all garbage allocated since the last
+     * collection and can greatly understate the space actually available.  The post-collection usage of the 
+     * individual memory pools (i.e., <code>MemoryPoolMXBean#getCollectionUsage()</code>) is no substitute since
+     * the old generation usage is only updated by full collections.  Thus, a collection is requested and the
+     * available heap is measured again.  This method is only used when a table creation would otherwise be refused
+     * and the garbage collection retry is enabled.
+     * </p>
+     * 
+     * @return  the available heap space after garbage collection
+     */
+    private static long availableHeapCollected() {
+        BEAN_MEMORY.gc();
+        
+        long    szHeapAvail = availableHeap();
+        
+        if (BOL_LOGGING)
+            LOGGER.debug("{} - Available heap after garbage collection = {} bytes", JavaRuntime.getQualifiedMethodNameSimple(), szHeapAvail);
+        
+        return szHeapAvail;
     }
 
 }
-    
\ No newline at end of file
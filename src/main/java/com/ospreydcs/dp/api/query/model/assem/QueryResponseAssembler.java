@@ -641,7 +641,7 @@ public class QueryResponseAssembler {
         List<SampledBlock>  lstBlks = new LinkedList<>();
         
         // Process any time-domain collisions
-        boolean bolSuperDoms = procTmDomain.process(setRawData);    // throws IllegalStateException, IndexOutOfBoundsException
+        boolean bolSuperDoms = procTmDomain.process(setRawData);
         
         // If time-domain collisions were found process the raw super domains
         if (bolSuperDoms) {
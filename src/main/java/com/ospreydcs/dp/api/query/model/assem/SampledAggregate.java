@@ -44,6 +44,7 @@ import com.ospreydcs.dp.api.common.IDataColumn;
 import com.ospreydcs.dp.api.common.IDataTable;
 import com.ospreydcs.dp.api.common.ResultStatus;
 import com.ospreydcs.dp.api.common.TimeInterval;
+import com.ospreydcs.dp.api.common.TimeIntervalIndex;
 import com.ospreydcs.dp.api.config.DpApiConfig;
 import com.ospreydcs.dp.api.config.query.DpQueryConfig;
 import com.ospreydcs.dp.api.model.table.StaticDataTable;
@@ -994,23 +995,17 @@ public class SampledAggregate implements Iterable<SampledBlock> {
      * and <i>t</i><sub><i>n</i>,end</sub> is the stop time.
      * </p>
      * <p>  
-     * The ordered collection of time domain intervals is compared sequentially to check the 
-     * following conditions:
-     * <pre>
-     *   <i>I</i><sub>0</sub> &cap; <i>I</i><sub>1</sub> = &empty;
-     *   <i>I</i><sub>1</sub> &cap; <i>I</i><sub>2</sub> = &empty;
-     *   ...
-     *   <i>I</i><sub><i>N</i>-2</sub> &cap; <i>I</i><sub><i>N</i>-1</sub> = &empty;
-     *   
-     * </pre>
-     * That is, every <em>adjacent</em> sampling time domain is disjoint.
-     * This algorithm is accurate <em>only if</em> the argument set is correctly ordered
-     * by sampling start times. 
+     * The time domain intervals are placed into a <code>{@link TimeIntervalIndex}</code> and swept in order 
+     * of start time for connected components of intersecting intervals.  The aggregate time domains are 
+     * disjoint if and only if every component contains a single interval, that is, 
+     * <i>I</i><sub><i>m</i></sub> &cap; <i>I</i><sub><i>n</i></sub> = &empty; for all <i>m</i> &ne; <i>n</i>.  
+     * The check requires <i>O</i>(<i>N</i> log <i>N</i>) time and does not depend upon the ordering of 
+     * the aggregate.
      * </p>
      * <p>
      * <h2>NOTES:</h2>
      * <ul>
-     * <li>The argument MUST have correct start time order for this algorithm to work.</li>
+     * <li>Only the first collision encountered (in start time order) is reported.</li>
      * <li>Failure messages are written to the class logger if logging is enabled.</li>
      * <li>The <code>ResultStatus</code> contains a message describing any failure.</li>
      * </ul>
@@ -1020,37 +1015,26 @@ public class SampledAggregate implements Iterable<SampledBlock> {
      */
     public ResultStatus verifyDisjointTimeDomains() {
         
-        // Check that remaining time domains are disjoint - this works if the argument is ordered correctly
-        // Loop through set checking that all start times are in order
-        int             indCurr = 0;
-        SampledBlock    datCurr = null;
-        for (SampledBlock datNext : this.setSmplBlocks) {
-            
-            // Initialize the loop - first time through
-            if (datCurr == null) {
-                datCurr = datNext;
+        // Index the time domains and look for any group of intersecting domains
+        TimeIntervalIndex<SampledBlock> idxDomains = TimeIntervalIndex.from(this.setSmplBlocks, SampledBlock::getTimeRange);
+        
+        for (List<SampledBlock> lstComp : idxDomains.components()) {
+            if (lstComp.size() == 1)
                 continue;
-            }
             
-            // Extract time domains and check for closed intersection
-            TimeInterval    tvlCurr = datCurr.getTimeRange();
-            TimeInterval    tvlNext = datNext.getTimeRange();
+            // The first two blocks of a component always intersect
+            TimeInterval    tvlCurr = lstComp.get(0).getTimeRange();
+            TimeInterval    tvlNext = lstComp.get(1).getTimeRange();
             
-            if (tvlCurr.hasIntersectionClosed(tvlNext)) {
-                String  strMsg = JavaRuntime.getQualifiedMethodNameSimple()
-                        + "Time range collision at correlated data block "
-                        + Integer.toString(indCurr)
-                        + ", interval " + tvlCurr
-                        + " collides with next " + tvlNext + ".";
-                
-                if (BOL_LOGGING)
-                    LOGGER.error(strMsg);
-                
-                return ResultStatus.newFailure(strMsg);
-            }
+            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple()
+                    + " - Time range collision among " + Integer.toString(lstComp.size())
+                    + " sampled blocks, interval " + tvlCurr
+                    + " collides with " + tvlNext + ".";
             
-            indCurr++;
-            tvlCurr = tvlNext;
+            if (BOL_LOGGING)
+                LOGGER.error(strMsg);
+            
+            return ResultStatus.newFailure(strMsg);
         }
         
         return ResultStatus.SUCCESS;
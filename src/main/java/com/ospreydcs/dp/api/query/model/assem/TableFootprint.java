@@ -0,0 +1,242 @@
+/*
+ * Project: dp-api-common
+ * File:	TableFootprint.java
+ * Package: com.ospreydcs.dp.api.query.model.assem
+ * Type: 	TableFootprint
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.query.model.assem;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.query.model.coalesce.SampledBlock;
+import com.ospreydcs.dp.api.query.model.coalesce.SampledBlockTmsList;
+
+/**
+ * <p>
+ * Record containing the estimated Java heap footprint of the data tables available from a
+ * <code>{@link SampledAggregate}</code>.
+ * </p>
+ * <p>
+ * The estimate is computed from the structure of the aggregate (i.e., row count, column types, sparsity, and
+ * timestamp representation) with <code>{@link #estimate(SampledAggregate)}</code>.  It is inexpensive, requiring
+ * only a pass over the sampling blocks and their data sources, and so is suitable for table type selection.
+ * Compare with <code>{@link SampledAggregate#computeAllocationSize()}</code> which serializes all the time-series
+ * data, and <code>{@link SampledAggregate#getRawAllocation()}</code> which is the serialized (wire) size and
+ * typically several times smaller than the heap footprint after value boxing.
+ * </p>
+ * <p>
+ * <h2>Estimates</h2>
+ * Heap sizes are conservative estimates for a 64-bit architecture.  Both the sampling blocks and the data tables
+ * refer to the same boxed data values and timestamps, so the footprint distinguishes between
+ * <ul>
+ * <li><em>heap</em> - the total heap retained by a table, including the data values and timestamps, and</li>
+ * <li><em>build</em> - the heap newly allocated when creating the table from the aggregate.</li>
+ * </ul>
+ * The data values of fixed-size types are sized by type.  Those of variable-size types (e.g., strings, arrays,
+ * structures) are apportioned from the serialized allocation of their sampling block and scaled by
+ * <code>{@link #DBL_BOX_FACTOR_VAR}</code>.
+ * </p>
+ *
+ * @param cntRows       number of table rows (timestamps)
+ * @param cntCols       number of table columns (data sources)
+ * @param cntPages      number of sampling blocks (pages of a dynamic table)
+ * @param cntNullCells  number of table cells without source data (data source absent from sampling block)
+ * @param szRaw         serialized (wire) size of the aggregate data (in bytes)
+ * @param szValues      estimated heap of the boxed data values (in bytes)
+ * @param szTimestamps  estimated heap of the timestamp instants (in bytes)
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public record TableFootprint(
+        int     cntRows,
+        int     cntCols,
+        int     cntPages,
+        long    cntNullCells,
+        long    szRaw,
+        long    szValues,
+        long    szTimestamps
+        )
+{
+    
+    //
+    // Class Constants
+    //
+    
+    /** Size of an object reference (in bytes) */
+    public static final long    SZ_REF = 8L;
+    
+    /** Size of an object header (in bytes) */
+    public static final long    SZ_OBJ_HDR = 16L;
+    
+    /** Size of an array list including its backing array header (in bytes) */
+    public static final long    SZ_LIST = 24L + SZ_OBJ_HDR;
+    
+    /** Size of an <code>Instant</code> timestamp (in bytes) */
+    public static final long    SZ_INSTANT = 24L;
+    
+    /** Serialized size of a timestamp within a timestamp list (in bytes) */
+    public static final long    SZ_WIRE_TMS = 12L;
+    
+    /** Heap to serialized size ratio for variable-size data values */
+    public static final double  DBL_BOX_FACTOR_VAR = 2.0;
+    
+    
+    //
+    // Creator
+    //
+    
+    /**
+     * <p>
+     * Estimates the table footprint of the given sampled aggregate.
+     * </p>
+     *
+     * @param aggBlks   the sampled aggregate to be converted to a data table
+     *
+     * @return  the estimated table footprint of the aggregate
+     */
+    public static TableFootprint    estimate(SampledAggregate aggBlks) {
+        int     cntCols = aggBlks.getDataSourceCount();
+        long    cntNullCells = 0;
+        long    szRaw = 0;
+        long    szValues = 0;
+        long    szTimestamps = 0;
+    
+        for (SampledBlock blk : aggBlks) {
+            long    cntSmpls = blk.getSampleCount();
+            long    szBlkRaw = blk.getRawAllocation();
+    
+            // Timestamps - lists are serialized with the data, clocks are negligible
+            long    szRawTms = (blk instanceof SampledBlockTmsList) ? cntSmpls * SZ_WIRE_TMS : 0L;
+            long    szRawVals = Math.max(0L, szBlkRaw - szRawTms);
+            int     cntSrcs = blk.getSourceNames().size();
+    
+            szRaw += szBlkRaw;
+            szTimestamps += cntSmpls * (SZ_INSTANT + SZ_REF);
+            cntNullCells += cntSmpls * Math.max(0, cntCols - cntSrcs);
+    
+            // Data values
+            for (String strSrcNm : blk.getSourceNames()) {
+                long    szVal = TableFootprint.boxedSize(blk.getSourceType(strSrcNm));
+    
+                if (szVal < 0)  // variable size - apportion from serialized values
+                    szValues += (long)(DBL_BOX_FACTOR_VAR * szRawVals / cntSrcs) + cntSmpls * SZ_OBJ_HDR;
+                else
+                    szValues += cntSmpls * szVal;
+            }
+    
+            szValues += cntSrcs * SZ_LIST;
+        }
+    
+        return new TableFootprint(aggBlks.getSampleCount(), cntCols, aggBlks.getSampledBlockCount(), cntNullCells, szRaw, szValues, szTimestamps);
+    }
+    
+    
+    //
+    // Operations
+    //
+    
+    /**
+     * @return  the number of table cells (rows times columns)
+     */
+    public long cntCells() {
+        return (long)this.cntRows * this.cntCols;
+    }
+    
+    /**
+     * @return  the fraction of table cells without source data
+     */
+    public double   sparsity() {
+        long    cntCells = this.cntCells();
+    
+        return (cntCells == 0) ? 0.0 : (double)this.cntNullCells / cntCells;
+    }
+    
+    /**
+     * @return  the estimated heap (in bytes) retained by a static data table
+     */
+    public long staticHeap() {
+        return this.szValues + this.szTimestamps + this.staticBuild();
+    }
+    
+    /**
+     * <p>
+     * Returns the estimated heap (in bytes) allocated when building a static data table.
+     * </p>
+     * <p>
+     * A static table copies the value references of each full column and the timestamps.
+     * </p>
+     *
+     * @return  the estimated static data table build allocation
+     */
+    public long staticBuild() {
+        return (this.cntCells() + this.cntRows) * SZ_REF + (this.cntCols + 1) * SZ_LIST;
+    }
+    
+    /**
+     * @return  the estimated heap (in bytes) retained by a dynamic data table, including its sampled aggregate
+     */
+    public long dynamicHeap() {
+        return this.szValues + this.szTimestamps + this.dynamicBuild();
+    }
+    
+    /**
+     * <p>
+     * Returns the estimated heap (in bytes) allocated when building a dynamic data table.
+     * </p>
+     * <p>
+     * A dynamic table copies the timestamp references and creates a page index.  Columns are created
+     * on demand and are not included.
+     * </p>
+     *
+     * @return  the estimated dynamic data table build allocation
+     */
+    public long dynamicBuild() {
+        return this.cntRows * SZ_REF + this.cntPages * Integer.BYTES + (this.cntCols + 1) * SZ_LIST;
+    }
+    
+    
+    //
+    // Support Methods
+    //
+    
+    /**
+     * <p>
+     * Returns the heap size of a single boxed data value of the given type, or -1 for variable-size types.
+     * </p>
+     *
+     * @param enmType   the data value type
+     *
+     * @return  the boxed size of a value (in bytes), or -1 if the size varies
+     */
+    private static long boxedSize(DpSupportedType enmType) {
+        return switch (enmType) {
+        case BOOLEAN -> 0L;     // Boolean.TRUE and Boolean.FALSE are shared
+        case INTEGER, FLOAT -> SZ_OBJ_HDR;
+        case LONG, DOUBLE -> SZ_OBJ_HDR + 8L;
+        case TIMESTAMP -> SZ_INSTANT;
+        default -> -1L;
+        };
+    }
+}
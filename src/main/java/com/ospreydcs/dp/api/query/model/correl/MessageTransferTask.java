@@ -41,6 +41,7 @@ import com.ospreydcs.dp.api.config.DpApiConfig;
 import com.ospreydcs.dp.api.config.query.DpQueryConfig;
 import com.ospreydcs.dp.api.model.IMessageSupplier;
 import com.ospreydcs.dp.api.query.model.grpc.QueryMessageBuffer;
+import com.ospreydcs.dp.api.util.CallSite;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse;
 import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse.QueryData;
@@ -264,6 +265,9 @@ public class MessageTransferTask extends Thread implements Runnable, Callable<Bo
     /** Class event logger */
     private static final Logger     LOGGER = LogManager.getLogger();
     
+    /** Call-site tag for events within the message transfer loop {@link #run()} */
+    private static final CallSite   CS_RUN = CallSite.of(MessageTransferTask.class, "run");
+    
     
     /**
      * <p>
@@ -561,7 +565,7 @@ public class MessageTransferTask extends Thread implements Runnable, Callable<Bo
             // Error - Message supplier was not supplying
             } catch (IllegalStateException e) {      
                 
-                String strMsg = JavaRuntime.getQualifiedMethodNameSimple()  
+                String strMsg = CS_RUN  
                         + " - Illegal state exception during polling after "
                         + this.cntMsgsXferred 
                         + " transfers :"
@@ -582,12 +586,12 @@ public class MessageTransferTask extends Thread implements Runnable, Callable<Bo
                     
                     if (BOL_LOGGING)
                         LOGGER.warn("{} - Message transfer loop interrupted after {} transfers, assuming successful.",
-                                JavaRuntime.getQualifiedMethodNameSimple(), this.cntMsgsXferred);
+                                CS_RUN, this.cntMsgsXferred);
                     
                     return;
                 }
                 
-                String  strErrMsg = JavaRuntime.getQualifiedMethodNameSimple() +
+                String  strErrMsg = CS_RUN +
                         " - Process interrupted externally and FAILED while waiting for data buffer.";
                 
                 this.recResult = ResultStatus.newFailure(strErrMsg, e);
@@ -613,7 +617,7 @@ public class MessageTransferTask extends Thread implements Runnable, Callable<Bo
             // Error - Data bucket did not contain timestamps 
             } catch (IllegalArgumentException e) {
                 
-                String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() 
+                String  strMsg = CS_RUN 
                             + " - Missing timestamps in data bucket after "
                             + this.cntMsgsXferred 
                             + " message transfers: "
@@ -629,7 +633,7 @@ public class MessageTransferTask extends Thread implements Runnable, Callable<Bo
             // Error - Error in data bucket insertion task 
             } catch (CompletionException e) {
                 
-                String  strMsg = JavaRuntime.getQualifiedMethodNameSimple()
+                String  strMsg = CS_RUN
                             + " - Error in data bucket insertion task after "
                             + this.cntMsgsXferred
                             + " message transfers: "
@@ -647,10 +651,10 @@ public class MessageTransferTask extends Thread implements Runnable, Callable<Bo
             this.recResult = ResultStatus.SUCCESS;
             
             if (BOL_LOGGING)
-                LOGGER.debug("{} - Exiting message transfer loop normally.", JavaRuntime.getQualifiedMethodNameSimple());
+                LOGGER.debug("{} - Exiting message transfer loop normally.", CS_RUN);
 
         } else {
-            String  strMsg = JavaRuntime.getQualifiedMethodNameSimple()
+            String  strMsg = CS_RUN
                     + " - Message transfer terminated externally after "
                     + this.cntMsgsXferred 
                     + " transfers.";
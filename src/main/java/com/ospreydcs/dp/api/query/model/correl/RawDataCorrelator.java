@@ -44,6 +44,7 @@ import org.apache.logging.log4j.core.config.Configurator;
 
 import com.ospreydcs.dp.api.config.DpApiConfig;
 import com.ospreydcs.dp.api.config.query.DpQueryConfig;
+import com.ospreydcs.dp.api.util.CallSite;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.grpc.v1.common.DataColumn;
 import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse;
@@ -313,6 +314,9 @@ public class RawDataCorrelator {
     /** Event logger */
     private static final Logger    LOGGER = LogManager.getLogger();
     
+    /** Call-site tag for per-message events in {@link #processQueryData(QueryDataResponse.QueryData)} */
+    private static final CallSite  CS_PROCESS_DATA = CallSite.of(RawDataCorrelator.class, "processQueryData");
+    
     
     /**
      * <p>
@@ -815,7 +819,7 @@ public class RawDataCorrelator {
         // Check for empty data message
         if (msgData.getDataBucketsList().isEmpty()) {
             if (BOL_LOGGING)
-                LOGGER.warn("{}: attempt to insert data from empty data message.", JavaRuntime.getMethodName());
+                LOGGER.warn("{}: attempt to insert data from empty data message.", CS_PROCESS_DATA);
             
             return;
         }
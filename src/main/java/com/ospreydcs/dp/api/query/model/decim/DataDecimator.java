@@ -0,0 +1,742 @@
+/*
+ * Project: dp-api-common
+ * File:	DataDecimator.java
+ * Package: com.ospreydcs.dp.api.query.model.decim
+ * Type: 	DataDecimator
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.query.model.decim;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import org.apache.logging.log4j.Logger;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.common.IDataTable;
+import com.ospreydcs.dp.api.config.DpApiConfig;
+import com.ospreydcs.dp.api.config.query.DpQueryConfig;
+import com.ospreydcs.dp.api.model.table.DoubleArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.StaticDataTable;
+import com.ospreydcs.dp.api.query.DpDataRequest;
+import com.ospreydcs.dp.api.query.DpDecimation;
+import com.ospreydcs.dp.api.query.DpQueryColumn;
+import com.ospreydcs.dp.api.query.DpQueryException;
+import com.ospreydcs.dp.api.query.model.coalesce.SampledTimeSeries;
+import com.ospreydcs.dp.api.util.JavaRuntime;
+import com.ospreydcs.dp.api.util.Log4j;
+
+/**
+ * <p>
+ * Reduces the time-series data of a Query Service data request into fixed-width time buckets as the
+ * response pages are recovered.
+ * </p>
+ * <p>
+ * Class instances are created for a single data request and decimation specification.  The time range of
+ * the request is divided into the buckets of the <code>{@link DpDecimation}</code> specification and, for each
+ * process variable, a fixed set of running aggregates is maintained for every bucket (sample count, first and
+ * last samples, minimum and maximum samples, and sums).  Each decoded response page is folded into the aggregates
+ * and then discarded, so the memory required is proportional to the number of process variables times the number
+ * of buckets, independent of the size of the request.  Response pages may arrive in any time order.
+ * </p>
+ * <p>
+ * <h2>Operation</h2>
+ * Use <code>{@link #decimate(Flow.Publisher)}</code> to subscribe to a publisher of decoded response pages,
+ * typically that of <code>{@link com.ospreydcs.dp.api.query.IQueryService#queryDataColumnsPublisher(DpDataRequest)}</code>.
+ * Pages are requested one at a time as each is reduced.  Alternatively, pages can be supplied directly with
+ * <code>{@link #process(List)}</code> and the result table created with <code>{@link #createTable()}</code>.
+ * </p>
+ * <p>
+ * <h2>Result Table</h2>
+ * The returned table contains one row for each bucket, timestamped with the bucket start time, and one column for
+ * each process variable (requested variables first, in request order).  Buckets containing no samples have value
+ * <code>null</code> for reducers <code>FIRST</code> and <code>LAST</code>, and <code>NaN</code> otherwise.
+ * Samples outside the request time range are ignored; a sample at the final time of the request is placed in the
+ * last bucket.
+ * </p>
+ * <p>
+ * <h2>LTTB</h2>
+ * Largest-Triangle-Three-Buckets requires all samples of a bucket.  Since the samples are not retained, the
+ * selection is made from the four samples of each bucket that bound its shape - the first, minimum, maximum, and
+ * last samples.  The selection is exact whenever a bucket contains at most four samples and visually equivalent
+ * otherwise.  The first and last nonempty buckets select their first and last samples, respectively.
+ * </p>
+ * <p>
+ * <h2>NOTES:</h2>
+ * Class instances are not thread safe.  Pages must be processed sequentially (as guaranteed by
+ * <code>{@link Flow.Subscriber}</code> signaling).
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class DataDecimator {
+    
+    
+    //
+    // Creators
+    //
+    
+    /**
+     * <p>
+     * Creates a new <code>DataDecimator</code> instance for the given data request and decimation.
+     * </p>
+     *
+     * @param rqst      the time-series data request whose time range is decimated
+     * @param recDecim  the decimation specification
+     *
+     * @return  a new decimator ready to process response pages
+     *
+     * @throws IllegalArgumentException the request time range is empty or yields too many buckets
+     */
+    public static DataDecimator from(DpDataRequest rqst, DpDecimation recDecim) throws IllegalArgumentException {
+        return new DataDecimator(rqst.getRequestId(), rqst.getInitialTime(), rqst.getFinalTime(), rqst.getSourceNames(), recDecim);
+    }
+    
+    
+    //
+    // Application Resources
+    //
+    
+    /** The Data Platform API default configuration parameter set */
+    private static final DpQueryConfig  CFG_QUERY = DpApiConfig.getInstance().query;
+    
+    
+    //
+    // Class Constants
+    //
+    
+    /** Event logging enabled flag */
+    public static final boolean     BOL_LOGGING = CFG_QUERY.logging.enabled;
+    
+    /** Event logging level */
+    public static final String      STR_LOGGING_LEVEL = CFG_QUERY.logging.level;
+    
+    
+    /** Timeout limit for recovering all response pages */
+    public static final long        LNG_TIMEOUT = CFG_QUERY.timeout.limit;
+    
+    /** Timeout units for recovering all response pages */
+    public static final TimeUnit    TU_TIMEOUT = CFG_QUERY.timeout.unit;
+    
+    
+    //
+    // Class Resources
+    //
+    
+    /** Event logger for class */
+    private static final Logger LOGGER = Log4j.getLogger(DataDecimator.class, STR_LOGGING_LEVEL);
+    
+    
+    //
+    // Defining Attributes
+    //
+    
+    /** The optional request identifier */
+    private final String                    strRqstId;
+    
+    /** Start time of the first bucket */
+    private final Instant                   insBegin;
+    
+    /** Duration of the request time range (nanoseconds) */
+    private final long                      lngSpanNs;
+    
+    /** Bucket width (nanoseconds) */
+    private final long                      lngWidthNs;
+    
+    /** Number of buckets */
+    private final int                       cntBuckets;
+    
+    /** The bucket reducer */
+    private final DpDecimation.Reducer      enmReducer;
+    
+    
+    //
+    // Instance Resources
+    //
+    
+    /** Bucket aggregates for each process variable, in order of appearance */
+    private final Map<String, SourceBuckets>    mapSrcToBkts = new LinkedHashMap<>();
+    
+    
+    //
+    // State Variables
+    //
+    
+    /** Number of samples processed */
+    private long        cntSamples = 0L;
+    
+    /** Number of response pages processed */
+    private long        cntPages = 0L;
+    
+    
+    //
+    // Constructors
+    //
+    
+    /**
+     * <p>
+     * Constructs a new <code>DataDecimator</code> instance.
+     * </p>
+     *
+     * @param strRqstId     optional request identifier (may be <code>null</code>)
+     * @param insBegin      initial time of the request
+     * @param insEnd        final time of the request
+     * @param lstSrcNames   requested process variable names (column order of the result)
+     * @param recDecim      the decimation specification
+     *
+     * @throws IllegalArgumentException the time range is empty or yields too many buckets
+     */
+    public DataDecimator(String strRqstId, Instant insBegin, Instant insEnd, List<String> lstSrcNames, DpDecimation recDecim)
+            throws IllegalArgumentException {
+    
+        // Check the time range
+        if (!insEnd.isAfter(insBegin))
+            throw new IllegalArgumentException("Request time range is empty: " + insBegin + " to " + insEnd);
+    
+        long    lngSpanNs = Duration.between(insBegin, insEnd).toNanos();   // throws ArithmeticException
+        long    lngWidthNs;
+        long    cntBuckets;
+    
+        if (recDecim.hasBucketWidth()) {
+            lngWidthNs = recDecim.durWidth().toNanos();
+            cntBuckets = Math.ceilDiv(lngSpanNs, lngWidthNs);
+        } else {
+            cntBuckets = recDecim.cntBuckets();
+            lngWidthNs = Math.ceilDiv(lngSpanNs, cntBuckets);
+        }
+    
+        if (cntBuckets > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("Decimation yields too many buckets: " + cntBuckets);
+    
+        this.strRqstId = strRqstId;
+        this.insBegin = insBegin;
+        this.lngSpanNs = lngSpanNs;
+        this.lngWidthNs = lngWidthNs;
+        this.cntBuckets = (int)cntBuckets;
+        this.enmReducer = recDecim.enmReducer();
+    
+        for (String strName : lstSrcNames)
+            this.mapSrcToBkts.put(strName, new SourceBuckets(strName, this.cntBuckets, this.enmReducer.isNumeric()));
+    }
+    
+    
+    //
+    // Attribute Getters
+    //
+    
+    /**
+     * @return  the number of buckets (i.e., rows of the result table)
+     */
+    public int  getBucketCount() {
+        return this.cntBuckets;
+    }
+    
+    /**
+     * @return  the bucket width
+     */
+    public Duration getBucketWidth() {
+        return Duration.ofNanos(this.lngWidthNs);
+    }
+    
+    /**
+     * @return  the number of samples reduced so far
+     */
+    public long getSampleCount() {
+        return this.cntSamples;
+    }
+    
+    /**
+     * @return  the number of response pages reduced so far
+     */
+    public long getPageCount() {
+        return this.cntPages;
+    }
+    
+    
+    //
+    // Operations
+    //
+    
+    /**
+     * <p>
+     * Subscribes to the given publisher of decoded response pages, reduces all pages, and returns the result table.
+     * </p>
+     * <p>
+     * Pages are requested one at a time, the next page is requested only after the current page is reduced.  The
+     * method blocks until the publisher completes, fails, or the Query Service timeout limit is reached.
+     * </p>
+     *
+     * @param pubPages  publisher of decoded Query Service response pages for the request
+     *
+     * @return  a static data table containing the bucket aggregates
+     *
+     * @throws DpQueryException the publisher failed, a page could not be reduced, or the operation timed out
+     */
+    public IDataTable   decimate(Flow.Publisher<List<DpQueryColumn>> pubPages) throws DpQueryException {
+    
+        PageSubscriber  subPages = new PageSubscriber();
+    
+        pubPages.subscribe(subPages);
+    
+        try {
+            subPages.futDone.get(LNG_TIMEOUT, TU_TIMEOUT);
+    
+        } catch (TimeoutException e) {
+            subPages.cancel();
+    
+            throw this.logAndCreate(" - Timeout after " + LNG_TIMEOUT + " " + TU_TIMEOUT + " while decimating response data.", e);
+    
+        } catch (InterruptedException e) {
+            subPages.cancel();
+            Thread.currentThread().interrupt();
+    
+            throw this.logAndCreate(" - Interrupted while decimating response data.", e);
+    
+        } catch (ExecutionException e) {
+            Throwable   cause = e.getCause();
+    
+            if (cause instanceof DpQueryException)
+                throw (DpQueryException)cause;
+    
+            throw this.logAndCreate(" - Exception " + cause.getClass().getSimpleName() + " while decimating response data: " + cause.getMessage(), cause);
+        }
+    
+        return this.createTable();
+    }
+    
+    /**
+     * <p>
+     * Reduces all the decoded data columns of a single response page into the bucket aggregates.
+     * </p>
+     *
+     * @param lstPage   the decoded data columns of a response page
+     *
+     * @throws IllegalArgumentException a column has non-numeric values and the reducer requires numeric values
+     */
+    public void process(List<DpQueryColumn> lstPage) throws IllegalArgumentException {
+        for (DpQueryColumn col : lstPage)
+            this.process(col.vecTimestamps(), col.colValues());
+    
+        this.cntPages++;
+    }
+    
+    /**
+     * <p>
+     * Reduces the given samples of a single process variable into the bucket aggregates.
+     * </p>
+     *
+     * @param lstTms    sample timestamps
+     * @param colVals   sample values, named by process variable, in timestamp order
+     *
+     * @throws IllegalArgumentException a sample value is non-numeric and the reducer requires numeric values
+     */
+    public void process(List<Instant> lstTms, IDataColumn<Object> colVals) throws IllegalArgumentException {
+        SourceBuckets   bkts = this.mapSrcToBkts.computeIfAbsent(
+                colVals.getName(),
+                strName -> new SourceBuckets(strName, this.cntBuckets, this.enmReducer.isNumeric()));
+    
+        bkts.setType(colVals.getType());
+    
+        int     indSmpl = 0;
+        for (Instant insTms : lstTms) {
+            Object  objVal = colVals.getValue(indSmpl++);
+            long    lngOffNs = Duration.between(this.insBegin, insTms).toNanos();
+    
+            // Ignore samples outside the request time range
+            if (lngOffNs < 0 || lngOffNs > this.lngSpanNs)
+                continue;
+    
+            int     indBkt = (int)Math.min(lngOffNs / this.lngWidthNs, this.cntBuckets - 1);
+    
+            bkts.add(indBkt, lngOffNs, objVal);
+            this.cntSamples++;
+        }
+    }
+    
+    /**
+     * <p>
+     * Creates the result table from the current bucket aggregates.
+     * </p>
+     *
+     * @return  a static data table with one row per bucket and one column per process variable
+     */
+    public IDataTable   createTable() {
+        ArrayList<Instant>          vecTms = new ArrayList<>(this.cntBuckets);
+        List<IDataColumn<Object>>   lstCols = new ArrayList<>(this.mapSrcToBkts.size());
+    
+        for (int i=0; i<this.cntBuckets; i++)
+            vecTms.add(this.insBegin.plusNanos(i * this.lngWidthNs));
+    
+        for (SourceBuckets bkts : this.mapSrcToBkts.values())
+            lstCols.add(bkts.reduce(this.enmReducer));
+    
+        StaticDataTable tbl = new StaticDataTable(vecTms, lstCols);
+    
+        tbl.setRequestId(this.strRqstId);
+    
+        return tbl;
+    }
+    
+    
+    //
+    // Support Methods
+    //
+    
+    /**
+     * <p>
+     * Creates a query exception with the given message, logging it if enabled.
+     * </p>
+     *
+     * @param strDetail message detail (appended to the method name)
+     * @param cause     the causing exception
+     *
+     * @return  new query exception
+     */
+    private DpQueryException    logAndCreate(String strDetail, Throwable cause) {
+        String  strMsg = JavaRuntime.getQualifiedMethodNameSimple() + strDetail;
+    
+        if (BOL_LOGGING)
+            LOGGER.error(strMsg);
+    
+        return new DpQueryException(strMsg, cause);
+    }
+    
+    
+    //
+    // Support Types
+    //
+    
+    /**
+     * <p>
+     * Flow subscriber reducing each page as it arrives and requesting the next.
+     * </p>
+     */
+    private final class PageSubscriber implements Flow.Subscriber<List<DpQueryColumn>> {
+    
+        /** Completed when the publisher completes, or exceptionally on failure */
+        private final CompletableFuture<Void>   futDone = new CompletableFuture<>();
+    
+        /** The page subscription */
+        private volatile Flow.Subscription      subPages = null;
+    
+        /**
+         * Cancels the subscription if established.
+         */
+        private void cancel() {
+            Flow.Subscription   sub = this.subPages;
+    
+            if (sub != null)
+                sub.cancel();
+        }
+    
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subPages = subscription;
+    
+            subscription.request(1L);
+        }
+    
+        @Override
+        public void onNext(List<DpQueryColumn> lstPage) {
+            try {
+                DataDecimator.this.process(lstPage);
+    
+            } catch (RuntimeException e) {
+                this.cancel();
+                this.futDone.completeExceptionally(e);
+    
+                return;
+            }
+    
+            this.subPages.request(1L);
+        }
+    
+        @Override
+        public void onError(Throwable throwable) {
+            this.futDone.completeExceptionally(throwable);
+        }
+    
+        @Override
+        public void onComplete() {
+            this.futDone.complete(null);
+        }
+    }
+    
+    /**
+     * <p>
+     * Running bucket aggregates of a single process variable.
+     * </p>
+     * <p>
+     * Sample times are kept as nanosecond offsets from the start of the first bucket.
+     * </p>
+     */
+    private static final class SourceBuckets {
+    
+        /** Process variable name */
+        private final String        strName;
+    
+        /** Process variable data type (from the first samples) */
+        private DpSupportedType     enmType = null;
+    
+        /** Sample count within each bucket */
+        private final long[]        arrCnt;
+    
+        /** Earliest sample time within each bucket */
+        private final long[]        arrFirstNs;
+    
+        /** Earliest sample value within each bucket */
+        private final Object[]      arrFirst;
+    
+        /** Latest sample time within each bucket */
+        private final long[]        arrLastNs;
+    
+        /** Latest sample value within each bucket */
+        private final Object[]      arrLast;
+    
+        /** Minimum sample time within each bucket (numeric only) */
+        private final long[]        arrMinNs;
+    
+        /** Minimum sample value within each bucket (numeric only) */
+        private final double[]      arrMin;
+    
+        /** Maximum sample time within each bucket (numeric only) */
+        private final long[]        arrMaxNs;
+    
+        /** Maximum sample value within each bucket (numeric only) */
+        private final double[]      arrMax;
+    
+        /** Sum of sample values within each bucket (numeric only) */
+        private final double[]      arrSum;
+    
+        /** Sum of sample times within each bucket (numeric only) */
+        private final double[]      arrSumNs;
+    
+        /**
+         * @param strName       process variable name
+         * @param cntBuckets    number of buckets
+         * @param bolNumeric    allocate the numeric aggregates
+         */
+        private SourceBuckets(String strName, int cntBuckets, boolean bolNumeric) {
+            this.strName = strName;
+            this.arrCnt = new long[cntBuckets];
+            this.arrFirstNs = new long[cntBuckets];
+            this.arrFirst = new Object[cntBuckets];
+            this.arrLastNs = new long[cntBuckets];
+            this.arrLast = new Object[cntBuckets];
+    
+            int     szNum = bolNumeric ? cntBuckets : 0;
+    
+            this.arrMinNs = new long[szNum];
+            this.arrMin = new double[szNum];
+            this.arrMaxNs = new long[szNum];
+            this.arrMax = new double[szNum];
+            this.arrSum = new double[szNum];
+            this.arrSumNs = new double[szNum];
+        }
+    
+        /**
+         * @param enmType   the data type of the process variable samples
+         */
+        private void setType(DpSupportedType enmType) {
+            if (this.enmType == null)
+                this.enmType = enmType;
+        }
+    
+        /**
+         * <p>
+         * Folds a single sample into the given bucket.
+         * </p>
+         *
+         * @param indBkt    bucket index
+         * @param lngOffNs  sample time offset (nanoseconds)
+         * @param objVal    sample value
+         *
+         * @throws IllegalArgumentException the value is non-numeric and numeric aggregates are maintained
+         */
+        private void add(int indBkt, long lngOffNs, Object objVal) throws IllegalArgumentException {
+            boolean bolFirst = this.arrCnt[indBkt]++ == 0;
+    
+            if (bolFirst || lngOffNs < this.arrFirstNs[indBkt]) {
+                this.arrFirstNs[indBkt] = lngOffNs;
+                this.arrFirst[indBkt] = objVal;
+            }
+            if (bolFirst || lngOffNs > this.arrLastNs[indBkt]) {
+                this.arrLastNs[indBkt] = lngOffNs;
+                this.arrLast[indBkt] = objVal;
+            }
+    
+            if (this.arrSum.length == 0)
+                return;
+    
+            double  dblVal = SourceBuckets.toDouble(this.strName, objVal);
+    
+            if (bolFirst || dblVal < this.arrMin[indBkt]) {
+                this.arrMinNs[indBkt] = lngOffNs;
+                this.arrMin[indBkt] = dblVal;
+            }
+            if (bolFirst || dblVal > this.arrMax[indBkt]) {
+                this.arrMaxNs[indBkt] = lngOffNs;
+                this.arrMax[indBkt] = dblVal;
+            }
+    
+            this.arrSum[indBkt] += dblVal;
+            this.arrSumNs[indBkt] += lngOffNs;
+        }
+    
+        /**
+         * <p>
+         * Creates the result column for the given reducer.
+         * </p>
+         *
+         * @param enmReducer    the bucket reducer
+         *
+         * @return  a data column with one value per bucket
+         */
+        private IDataColumn<Object> reduce(DpDecimation.Reducer enmReducer) {
+            int     cntBkts = this.arrCnt.length;
+    
+            // Non-numeric reducers preserve the sample type
+            if (!enmReducer.isNumeric()) {
+                Object[]            arrVals = (enmReducer == DpDecimation.Reducer.FIRST) ? this.arrFirst : this.arrLast;
+                DpSupportedType     enmType = (this.enmType != null) ? this.enmType : DpSupportedType.UNSUPPORTED_TYPE;
+    
+                return SampledTimeSeries.from(this.strName, enmType, new ArrayList<>(Arrays.asList(arrVals)));
+            }
+    
+            double[]    arrVals = new double[cntBkts];
+    
+            for (int i=0; i<cntBkts; i++) {
+                if (this.arrCnt[i] == 0) {
+                    arrVals[i] = Double.NaN;
+                    continue;
+                }
+    
+                arrVals[i] = switch (enmReducer) {
+                    case MIN -> this.arrMin[i];
+                    case MAX -> this.arrMax[i];
+                    case MEAN -> this.arrSum[i] / this.arrCnt[i];
+                    default -> Double.NaN;
+                };
+            }
+    
+            if (enmReducer == DpDecimation.Reducer.LTTB)
+                this.selectLttb(arrVals);
+    
+            return DoubleArrayDataColumn.from(this.strName, arrVals, cntBkts);
+        }
+    
+        /**
+         * <p>
+         * Largest-Triangle-Three-Buckets selection over the nonempty buckets.
+         * </p>
+         * <p>
+         * Within each interior bucket the candidate (first, minimum, maximum, or last sample) forming the
+         * largest triangle with the previously selected sample and the average sample of the next nonempty
+         * bucket is selected.
+         * </p>
+         *
+         * @param arrVals   result values (empty buckets already <code>NaN</code>), populated on return
+         */
+        private void selectLttb(double[] arrVals) {
+            int[]   arrInds = IntStream.range(0, this.arrCnt.length).filter(i -> this.arrCnt[i] > 0).toArray();
+    
+            if (arrInds.length == 0)
+                return;
+    
+            double  dblPrevTm = this.arrFirstNs[arrInds[0]];
+            double  dblPrevVal = SourceBuckets.toDouble(this.strName, this.arrFirst[arrInds[0]]);
+    
+            arrVals[arrInds[0]] = dblPrevVal;
+    
+            for (int k=1; k<arrInds.length; k++) {
+                int     i = arrInds[k];
+    
+                // The last bucket keeps its last sample
+                if (k == arrInds.length - 1) {
+                    arrVals[i] = SourceBuckets.toDouble(this.strName, this.arrLast[i]);
+                    break;
+                }
+    
+                int     j = arrInds[k+1];
+                double  dblNextTm = this.arrSumNs[j] / this.arrCnt[j];
+                double  dblNextVal = this.arrSum[j] / this.arrCnt[j];
+    
+                long[]      arrCandTms = { this.arrFirstNs[i], this.arrMinNs[i], this.arrMaxNs[i], this.arrLastNs[i] };
+                double[]    arrCandVals = {
+                        SourceBuckets.toDouble(this.strName, this.arrFirst[i]),
+                        this.arrMin[i],
+                        this.arrMax[i],
+                        SourceBuckets.toDouble(this.strName, this.arrLast[i])
+                        };
+    
+                int     indBest = 0;
+                double  dblBest = -1.0;
+                for (int c=0; c<arrCandTms.length; c++) {
+                    double  dblArea = Math.abs(
+                            (dblPrevTm - dblNextTm) * (arrCandVals[c] - dblPrevVal) -
+                            (dblPrevTm - arrCandTms[c]) * (dblNextVal - dblPrevVal)
+                            );
+    
+                    if (dblArea > dblBest) {
+                        dblBest = dblArea;
+                        indBest = c;
+                    }
+                }
+    
+                arrVals[i] = arrCandVals[indBest];
+                dblPrevTm = arrCandTms[indBest];
+                dblPrevVal = arrCandVals[indBest];
+            }
+        }
+    
+        /**
+         * @param strName   process variable name (for error message)
+         * @param objVal    sample value
+         *
+         * @return  the sample value as a <code>double</code>
+         *
+         * @throws IllegalArgumentException the value is not numeric
+         */
+        private static double   toDouble(String strName, Object objVal) throws IllegalArgumentException {
+            if (objVal instanceof Number num)
+                return num.doubleValue();
+    
+            throw new IllegalArgumentException("Process variable " + strName + " has non-numeric value "
+                    + ((objVal == null) ? "null" : objVal.getClass().getSimpleName()) + ", decimation reducer requires numeric values.");
+        }
+    }
+}
@@ -48,6 +48,7 @@ import com.ospreydcs.dp.api.grpc.query.DpQueryConnection;
 import com.ospreydcs.dp.api.model.IMessageConsumer;
 import com.ospreydcs.dp.api.query.DpDataRequest;
 import com.ospreydcs.dp.api.query.DpQueryException;
+import com.ospreydcs.dp.api.util.CallSite;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.grpc.v1.common.ExceptionalResult;
 import com.ospreydcs.dp.grpc.v1.common.ExceptionalResult.ExceptionalResultStatus;
@@ -200,6 +201,9 @@ public class QueryChannel {
     /** Class event logger */
     private static final Logger     LOGGER = LogManager.getLogger();
     
+    /** Call-site tag for per-message events of the consumers created in {@link #createStreamingTasks} */
+    private static final CallSite   CS_CREATE_STREAMING_TASKS = CallSite.of(QueryChannel.class, "createStreamingTasks");
+    
     
     /**
      * <p>
@@ -669,7 +673,7 @@ public class QueryChannel {
                     
                 } catch (InterruptedException e) {
                     if (BOL_LOGGING)
-                        LOGGER.error("{} - Failed to added QueryData message {} to queue.", JavaRuntime.getQualifiedMethodNameSimple(), this.cntMsgsRcvd);
+                        LOGGER.error("{} - Failed to added QueryData message {} to queue.", CS_CREATE_STREAMING_TASKS, this.cntMsgsRcvd);
                 }
             };
             
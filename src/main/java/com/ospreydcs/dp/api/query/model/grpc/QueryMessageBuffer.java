@@ -44,6 +44,7 @@ import com.ospreydcs.dp.api.config.DpApiConfig;
 import com.ospreydcs.dp.api.config.query.DpQueryConfig;
 import com.ospreydcs.dp.api.model.IMessageConsumer;
 import com.ospreydcs.dp.api.model.IMessageSupplier;
+import com.ospreydcs.dp.api.util.CallSite;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse.QueryData;
 
@@ -109,6 +110,9 @@ public class QueryMessageBuffer implements IMessageConsumer<QueryData>, IMessage
     /** Class event logger */
     private static final Logger     LOGGER = LogManager.getLogger();
     
+    /** Call-site tag for data path events in {@link #awaitQueueEmpty} */
+    private static final CallSite   CS_AWAIT_QUEUE_EMPTY = CallSite.of(QueryMessageBuffer.class, "awaitQueueEmpty");
+    
     
     /**
      * <p>
@@ -269,7 +273,7 @@ public class QueryMessageBuffer implements IMessageConsumer<QueryData>, IMessage
                 
                 // Log event
                 if (BOL_LOGGING)
-                    LOGGER.info("{}: Waiting for queue empty, queue size = {}.", JavaRuntime.getMethodName(), this.queMsgBuffer.size());
+                    LOGGER.info("{}: Waiting for queue empty, queue size = {}.", CS_AWAIT_QUEUE_EMPTY, this.queMsgBuffer.size());
             
                 // Wait for queue ready signal
                 this.cndMsgQueEmpty.await();
@@ -26,14 +26,14 @@
 package com.ospreydcs.dp.api.query.model.superdom;
 
 import java.time.Instant;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.SortedSet;
 
 import org.apache.logging.log4j.Logger;
 
 import com.ospreydcs.dp.api.common.ResultStatus;
+import com.ospreydcs.dp.api.common.TimeIntervalIndex;
 import com.ospreydcs.dp.api.config.DpApiConfig;
 import com.ospreydcs.dp.api.config.query.DpQueryConfig;
 import com.ospreydcs.dp.api.query.model.correl.RawCorrelatedData;
@@ -320,11 +320,11 @@ public class TimeDomainProcessor {
     //  Instance Resources
     //
     
-    /** Ordered list of correlated data blocks actively being processed - will be disjoint when finished (super domains are removed) */
-    private final List<RawCorrelatedData>       lstDataActive = new LinkedList<>();
+    /** Ordered list of correlated data blocks with no time-domain collisions */
+    private final List<RawCorrelatedData>       lstDataActive = new ArrayList<>();
     
     /** Ordered list of super domains */
-    private final List<RawSuperDomData>         lstSuperDoms = new LinkedList<>();
+    private final List<RawSuperDomData>         lstSuperDoms = new ArrayList<>();
     
     
     //
@@ -341,12 +341,6 @@ public class TimeDomainProcessor {
     /** Flag indicating whether or not time-domain collisions were encountered */
     private boolean bolTmDomColl;
     
-    /** The index of the currently processed correlated data block within <code>{@link #lstDataActive}</code> */
-    private int     indListCurr;
-    
-    /** The last index of the correlated data set list (exclusive) in its current state */
-    private int     indListLast;
-    
     
     //
     // Constructor
@@ -365,8 +359,6 @@ public class TimeDomainProcessor {
 //        
 //        this.bolProcessed = false;
 //        this.bolTmDomColl = false;
-//        this.indListCurr = 0;
-//        this.indListLast = this.lstDataActive.size();
     }
     
     
@@ -539,277 +531,57 @@ public class TimeDomainProcessor {
      * </p>
      * <p>
      * <h2>Implementation</h2>
-     * The method iterates through the target set of <code>RawCorrelatedData</code> instance provided at creation, 
-     * identifies the super domains within the collection, and extracts them.  Once complete the set of all disjoint 
-     * super domains within the original collection is available from the method <code>{@link #getSuperDomainData()}</code>.
-     * The collection of remaining correlated raw data block from the original target set is available from
-     * the method <code>{@link #getDisjointRawData()}</code>.  Note that all super domains and all correlated raw data
-     * blocks returned from the above methods then has disjoint time-range intervals.  The raw data collections are
-     * then ready for further processing.
+     * The correlated raw data blocks of the target set are placed into a <code>{@link TimeIntervalIndex}</code>
+     * keyed by their (closed) time ranges.  The connected components of intersecting time ranges are then extracted
+     * by a single sweep over the index in start-time order, tracking the latest stop time of the current component.  
+     * Components containing a single block are the disjoint raw correlated data available from 
+     * <code>{@link #getDisjointRawData()}</code>, all other components form the super domains available from
+     * <code>{@link #getSuperDomainData()}</code>.  The overall processing requires <i>O</i>(<i>N</i> log <i>N</i>)
+     * time for <i>N</i> data blocks, rather than comparing all pairs of blocks.  Note that all super domains and 
+     * all correlated raw data blocks returned from the above methods then have disjoint time-range intervals.  
+     * The raw data collections are then ready for further processing.
      * </p>
      * 
+     * @param setRawData    the target set of correlated raw data blocks, ordered by start time
      * 
      * @return  <code>true</code> if time-domain collisions were found and processed, 
      *          <code>false</code> if no time-time collisions were found 
-     * 
-     * @throws IllegalStateException     internal processing error: attempt to process data when more super domains existed 
-     * @throws IndexOutOfBoundsException internal processing error: attempt to access index beyond end of processing list
      */
-    public boolean process(SortedSet<RawCorrelatedData> setRawData) throws IllegalStateException, IndexOutOfBoundsException {
-        
-//        if (this.bolProcessed) {
-//            if (BOL_LOGGING)
-//                LOGGER.warn("{} - Repeated call, data has already been processed.", JavaRuntime.getQualifiedMethodNameSimple());
-//            
-//            return this.bolTmDomColl;
-//        }
+    public boolean process(SortedSet<RawCorrelatedData> setRawData) {
         
         // Initialize the processor state variables
         this.setDataOrg = setRawData;
 
         this.lstDataActive.clear();
-        this.lstDataActive.addAll( setRawData );
         this.lstSuperDoms.clear();
         
         this.bolProcessed = false;
         this.bolTmDomColl = false;
-        this.indListCurr = 0;
-        this.indListLast = this.lstDataActive.size();
         
-        while (this.hasNext()) {
-            RawSuperDomData domNext = this.extractNext();
+        // Index the time domains and extract the groups of colliding blocks
+        TimeIntervalIndex<RawCorrelatedData>    idxDomains = TimeIntervalIndex.from(setRawData, RawCorrelatedData::getTimeRange);
         
-            this.lstSuperDoms.add(domNext);
-            this.bolTmDomColl = true;
-        }
-        
-        this.bolProcessed = true;
-        
-        return this.bolTmDomColl;
-    }
-    
-    
-    //
-    // Support Methods
-    //
-    
-    /**
-     * <p>
-     * Checks for any remaining super domains within the currently unprocessed correlated data blocks.
-     * </p>
-     * <p>
-     * This method inspects the remaining (unprocessed) correlated raw data blocks within the processing list 
-     * <code>{@link #lstDataActive}</code>.  It compares each element against all other elements for time 
-     * domain collisions and returns <code>true</code> if one is detected.
-     * </p>
-     * <p>
-     * <h2>IMPORTANT:</h2>
-     * This method also advances the <code>{@link #indListCurr}</code> state variable during the search.
-     * If a time domain collision is detected (i.e., a value <code>true</code> is returned) then the index
-     * then points to the first element in the list where the collision was detected.  The index is then
-     * used by the method <code>{@link #extractNext()}</code> to extract the super domain for the element
-     * at the current index.
-     * </p>
-     * <p>
-     * If a value <code>false</code> is returned then the state variable <code>{@link #indListCurr}</code>
-     * has the position of the last element <code>{@link #indListLast}</code>.
-     * 
-     * @return  <code>true</code> if there is a super domain within the unprocessed data,
-     *          <code>false</code> otherwise
-     */
-    private boolean hasNext() {
-        
-        // Check if we are at the last data block
-        if (this.indListCurr >= this.indListLast)
-            return false;
-        
-        // Check each list element at or greater than current enabled list index
-        while (this.indListCurr < this.indListLast) {
-            RawCorrelatedData               datSubject = this.lstDataActive.get(this.indListCurr);
-            ListIterator<RawCorrelatedData> iterData = this.lstDataActive.listIterator(this.indListCurr+1);
+        for (List<RawCorrelatedData> lstComp : idxDomains.components()) {
             
-            // Compare all forward data blocks against the current element
-            while (iterData.hasNext()) {
-                RawCorrelatedData   datCmp = iterData.next();
+            // No collisions - the block is disjoint from all others
+            if (lstComp.size() == 1) {
+                this.lstDataActive.add(lstComp.get(0));
                 
-                // Check for intersection
-                if (!datSubject.hasDisjointTimeRange(datCmp)) {
-                    return true;    // time range collision
-                }
+                continue;
             }
             
-            // No collision - advance current index for next
-            this.indListCurr++;
-        }
-
-        // If we have made it here there were no collisions, thus no super domains left
-        return false;
-    }
-    
-    /**
-     * <p>
-     * Extracts and creates the next super domain within the correlated raw data set (if it exists).
-     * </p>
-     * <p>
-     * This method is used in conjunction with method <code>{@link #hasNext()}</code> to parse through the
-     * list of actively processed correlated data blocks <code>{@link #lstDataActive}</code> to fully process
-     * the original target set of blocks <code>{@link #setDataOrg}</code>.  After processing the attribute
-     * <code>{@link #lstDataActive}</code> will contain only <code>RawCorrelatedData</code> block instances
-     * with disjoint time domains.  The attribute <code>{@link #lstSuperDoms}</code> will contain super domains
-     * with disjoint time domains.  Additionally, all time ranges within <code>{@link #lstDataActive}</code>
-     * and <code>{@link #lstSuperDoms}</code> will be disjoint with each other.
-     * </p>
-     * <p>
-     * Note that the returned super domain may contain correlated data blocks that have no intersection
-     * with other blocks, but each block will have at least one intersection with one other block.  
-     * See class documentation for <code>{@link RawSuperDomData}</code> for further details.
-     * </p>
-     * <p>
-     * <h2>WARNINGS:</h2>
-     * <ul>
-     * <li>
-     * There <b>must</b> be a domain collision within the current list of correlated data
-     * blocks under processing (i.e., attribute <code>{@link #lstDataActive}</code>).  Otherwise, overall
-     * processing will fail (an exception is thrown).
-     * </li>
-     * <li>
-     * This method modifies the list of correlated data blocks under processing, <code>{@link #lstDataActive}</code>.
-     * Specifically, it removes data blocks from the list that belong to the returned <code>RawSuperDomData</code>
-     * instance.  Likewise, the state variable <code>{@link #indListLast}</code> is also modified to
-     * reflect the missing blocks.
-     * </li>
-     * <li>
-     * This method DOES NOT modify state variable <code>{@link #indListCurr}</code>.  It is left in its
-     * current position at the time of method invocation. (Method <code>{@link #hasNext()}</code> does
-     * modify this state variable.)
-     * </li>
-     * </p>
-     * 
-     * @return  the next <code>RawSuperDomData</code> collection within the correlated raw data
-     *          
-     * @throws  IllegalStateException       there were no more super domains to process
-     * @throws  IndexOutOfBoundsException   internal processing error - end of processing list (severe, should not happen)
-     *          
-     * @see {@link #extractSuperDomain(RawCorrelatedData)}
-     */
-    private RawSuperDomData  extractNext() throws IllegalStateException, IndexOutOfBoundsException {
-        
-        // Check index
-        if (this.indListCurr >= this.indListLast) {
-            String strMsg = JavaRuntime.getQualifiedMethodNameSimple() + " - No more correlated data blocks to process.";
+            // Collisions - create the super domain
+            RawSuperDomData domNext = RawSuperDomData.from(lstComp.get(0));
             
-            if (BOL_LOGGING)
-                LOGGER.error(strMsg);
+            lstComp.listIterator(1).forEachRemaining(domNext::add);
             
-            throw new IllegalStateException(strMsg);
+            this.lstSuperDoms.add(domNext);
+            this.bolTmDomColl = true;
         }
         
-        // Get the target correlated data block and create next super domain
-        RawCorrelatedData   datStart = this.lstDataActive.remove(this.indListCurr);  // indListCurr should point to first super-dom after hasNext()
-        RawSuperDomData     domNext = RawSuperDomData.from(datStart);
-        
-        // Adjust processing list indices
-//        this.indListCurr++;
-        this.indListLast--;
-        
-        boolean bolError = true;    // At least one block must be added or error occurred (double check)
-        boolean bolRepeat = false;  // Must repeat until no more blocks are added 
-        
-        do {
-            // Check if we have already processed all data blocks
-            if (this.indListCurr >= this.indListLast) {
-                
-                // Good to go - all remaining blocks were part of the super domain
-                if (!bolError)
-                    return domNext;
-                
-                // Something went wrong - no blocks were added and we are at the end of the list
-                else {
-                    String  strMsg = JavaRuntime.getQualifiedMethodNameSimple()
-                            + " - Serious error: encountered end of processing list without finding domain collision, "
-                            + " current index at " + this.indListCurr;
-                    
-                    if (BOL_LOGGING)
-                        LOGGER.error(strMsg);
-                    
-                    throw new IndexOutOfBoundsException(strMsg);
-                }
-            }
-            
-            // Check all forward data blocks for domain collision with the current super domain
-            ListIterator<RawCorrelatedData> iterData = this.lstDataActive.listIterator(this.indListCurr); // throws exception
-
-            bolRepeat = false;
-            while (iterData.hasNext()) {
-                RawCorrelatedData   datCmp = iterData.next();
-                
-                // Check for domain collision with super domain
-                if (!domNext.isDisjoint(datCmp)) {
-                    domNext.add(datCmp);
-                    
-//                    this.lstDataActive.remove(datCmp);
-                    iterData.remove();
-                    this.indListLast--;
-                    bolRepeat = true;   // must do this again since super domain has changed
-                    bolError = false;
-                }
-            }
-            
-        } while (bolRepeat);
-
-        return domNext;
-    }
-    
-    /**
-     * <p>
-     * Extracts all correlated data blocks forming the super domain of the argument.
-     * </p>
-     * <p>
-     * Note that the returned super domain may contain correlated data blocks that have no intersection
-     * with the given argument.  See class documentation for <code>{@link RawSuperDomData}</code> for further
-     * details.
-     * </p>
-     * <p>
-     * <h2>WARNING:</h2>
-     * The given argument <b>must</b> have a domain collision within the current list of correlated data
-     * blocks under processing (i.e., attribute <code>{@link #lstDataActive}</code>).  Otherwise, overall
-     * processing will fail.
-     * </p>
-     * 
-     * @param datSubject    correlated data block initiating super domain
-     * 
-     * @return  super domain that contains the time domain of the argument
-     * 
-     * @deprecated Not used, replaced with {@link #hasNext()} and {@link #extractNext()}
-     */
-    @Deprecated(since="April 1, 2025", forRemoval=true)
-    private RawSuperDomData extractSuperDomain(RawCorrelatedData datSubject) {
-        RawSuperDomData setSuper = RawSuperDomData.from(datSubject);
-        this.lstDataActive.remove(datSubject);
+        this.bolProcessed = true;
         
-        boolean     bolRepeat = false;
-        do {
-            for (RawCorrelatedData datCurr : this.lstDataActive) {
-                if (!setSuper.isDisjoint(datCurr)) {
-                    setSuper.add(datCurr);
-                    
-                    // Advance the current list index to the next position
-                    this.indListCurr = this.lstDataActive.indexOf(datCurr);
-                    
-                    // Remove the intersecting data block from the current disjoint list
-                    this.lstDataActive.remove(datCurr);
-                    
-                    // Every time you modify the super domain you need to check the remaining data blocks
-                    bolRepeat = true;
-                    continue;
-                }
-                
-                bolRepeat = false;
-            }
-            
-        } while (bolRepeat);
-
-        return setSuper;
+        return this.bolTmDomColl;
     }
     
 }
@@ -0,0 +1,792 @@
+/*
+ * Project: dp-api-common
+ * File:	DataTableResampler.java
+ * Package: com.ospreydcs.dp.api.query.model.table
+ * Type: 	DataTableResampler
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.query.model.table;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.common.IDataTable;
+import com.ospreydcs.dp.api.common.UniformSamplingClock;
+import com.ospreydcs.dp.api.config.DpApiConfig;
+import com.ospreydcs.dp.api.config.query.DpQueryConfig;
+import com.ospreydcs.dp.api.model.table.DoubleArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.PrimitiveArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.StaticDataTable;
+import com.ospreydcs.dp.api.query.model.assem.SampledAggregate;
+import com.ospreydcs.dp.api.query.model.coalesce.SampledBlock;
+import com.ospreydcs.dp.api.query.model.coalesce.SampledTimeSeries;
+
+/**
+ * <p>
+ * Resamples the columns of a time-series data table onto a common target timeline, producing a dense,
+ * time-aligned table.
+ * </p>
+ * <p>
+ * Process variables sampled on different clocks yield sparse tables, where each column has <code>null</code>
+ * values at the timestamps of the other variables.  This class aligns all columns to a given target timeline,
+ * either a <code>{@link UniformSamplingClock}</code> or an explicit list of timestamps, according to a
+ * <code>{@link Policy}</code> chosen for each column.  The source data may be any <code>{@link IDataTable}</code>
+ * or a <code>{@link SampledAggregate}</code>; in the latter case the samples of each process variable are taken
+ * directly from the sampled blocks and no sparse table is ever created.
+ * </p>
+ * <p>
+ * <h2>Operation</h2>
+ * The <code>null</code> values of a source column are dropped and the remaining samples are converted once into
+ * primitive arrays (timestamps as epoch nanoseconds).  The column is then resampled with a single merge pass
+ * over the source and target timelines.  Columns are independent and are resampled concurrently when the
+ * number of columns exceeds the table construction concurrency pivot.
+ * </p>
+ * <p>
+ * <h2>Result Table</h2>
+ * The returned table contains one row for each target timestamp and one column for each source column, in source
+ * order.  Columns of type <code>DOUBLE</code>, and all columns resampled by <code>{@link Policy#LINEAR}</code>,
+ * are <code>{@link DoubleArrayDataColumn}</code> instances with <code>NaN</code> marking target timestamps without
+ * a value.  All other columns retain their source type with <code>null</code> marking those timestamps.
+ * </p>
+ * <p>
+ * <h2>NOTES:</h2>
+ * <ul>
+ * <li>The target timestamps must be in non-decreasing order.</li>
+ * <li>The samples of each source column are assumed to be in time order, as is the case for both
+ *     <code>IDataTable</code> and (time-domain disjoint) <code>SampledAggregate</code> sources.</li>
+ * <li>Policy <code>{@link Policy#LINEAR}</code> applies only to numeric columns; other columns use
+ *     <code>{@link Policy#HOLD_PREVIOUS}</code> in its place.</li>
+ * <li>Policy assignments are not thread safe and should not be changed during resampling.</li>
+ * </ul>
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class DataTableResampler {
+    
+    
+    //
+    // Creators
+    //
+    
+    /**
+     * <p>
+     * Creates a new <code>DataTableResampler</code> instance using the default policy
+     * <code>{@link Policy#HOLD_PREVIOUS}</code> for all columns.
+     * </p>
+     *
+     * @return  a new resampler ready for use
+     */
+    public static DataTableResampler    create() {
+        return new DataTableResampler(Policy.HOLD_PREVIOUS);
+    }
+    
+    /**
+     * <p>
+     * Creates a new <code>DataTableResampler</code> instance using the given default policy.
+     * </p>
+     *
+     * @param enmDefault    policy applied to all columns without an explicit assignment
+     *
+     * @return  a new resampler ready for use
+     *
+     * @throws IllegalArgumentException the policy was <code>null</code>
+     */
+    public static DataTableResampler    create(Policy enmDefault) throws IllegalArgumentException {
+        return new DataTableResampler(enmDefault);
+    }
+    
+    
+    //
+    // Application Resources
+    //
+    
+    /** The Data Platform API default configuration parameter set */
+    private static final DpQueryConfig  CFG_QUERY = DpApiConfig.getInstance().query;
+    
+    
+    //
+    // Class Constants
+    //
+    
+    /** Use concurrency when resampling columns */
+    public static final boolean     BOL_CONCURRENCY = CFG_QUERY.data.table.construction.concurrency.enabled;
+    
+    /** Column count above which columns are resampled concurrently */
+    public static final int         SZ_CONCURRENCY_PIVOT = CFG_QUERY.data.table.construction.concurrency.pivotSize;
+    
+    
+    //
+    // State Variables
+    //
+    
+    /** Policy for columns without an explicit assignment */
+    private Policy                  enmDefault;
+    
+    /** Explicit column policy assignments */
+    private final Map<String, Policy>   mapColToPolicy = new HashMap<>();
+    
+    
+    //
+    // Constructors
+    //
+    
+    /**
+     * <p>
+     * Constructs a new <code>DataTableResampler</code> instance.
+     * </p>
+     *
+     * @param enmDefault    policy applied to all columns without an explicit assignment
+     *
+     * @throws IllegalArgumentException the policy was <code>null</code>
+     */
+    public DataTableResampler(Policy enmDefault) throws IllegalArgumentException {
+        this.setDefaultPolicy(enmDefault);
+    }
+    
+    
+    //
+    // Configuration
+    //
+    
+    /**
+     * <p>
+     * Sets the policy used for all columns without an explicit assignment.
+     * </p>
+     *
+     * @param enmDefault    the new default policy
+     *
+     * @throws IllegalArgumentException the policy was <code>null</code>
+     */
+    public void setDefaultPolicy(Policy enmDefault) throws IllegalArgumentException {
+        if (enmDefault == null)
+            throw new IllegalArgumentException("The default resampling policy must be given.");
+    
+        this.enmDefault = enmDefault;
+    }
+    
+    /**
+     * <p>
+     * Assigns the resampling policy of the given column, or clears the assignment if <code>null</code>.
+     * </p>
+     *
+     * @param strColName    name of the column (i.e., process variable)
+     * @param enmPolicy     the column policy, or <code>null</code> to use the default policy
+     */
+    public void setPolicy(String strColName, Policy enmPolicy) {
+        if (enmPolicy == null)
+            this.mapColToPolicy.remove(strColName);
+        else
+            this.mapColToPolicy.put(strColName, enmPolicy);
+    }
+    
+    
+    //
+    // Attribute Getters
+    //
+    
+    /**
+     * @return  the policy used for all columns without an explicit assignment
+     */
+    public Policy   getDefaultPolicy() {
+        return this.enmDefault;
+    }
+    
+    /**
+     * @param strColName    name of the column (i.e., process variable)
+     *
+     * @return  the resampling policy of the given column
+     */
+    public Policy   getPolicy(String strColName) {
+        return this.mapColToPolicy.getOrDefault(strColName, this.enmDefault);
+    }
+    
+    
+    //
+    // Operations
+    //
+    
+    /**
+     * <p>
+     * Resamples all columns of the given table onto the timestamps of the given sampling clock.
+     * </p>
+     *
+     * @param tblSrc    the source data table
+     * @param clkTgt    the target sampling clock
+     *
+     * @return  a dense static table with one row per clock timestamp
+     *
+     * @throws IllegalArgumentException a source column could not be resampled under its policy
+     */
+    public IDataTable   resample(IDataTable tblSrc, UniformSamplingClock clkTgt) throws IllegalArgumentException {
+        return this.resample(tblSrc, clkTgt.createTimestamps());
+    }
+    
+    /**
+     * <p>
+     * Resamples all columns of the given table onto the given target timestamps.
+     * </p>
+     *
+     * @param tblSrc    the source data table
+     * @param lstTgt    the target timestamps, in non-decreasing order
+     *
+     * @return  a dense static table with one row per target timestamp
+     *
+     * @throws IllegalArgumentException the target timestamps were out of order or a source column could not be resampled
+     */
+    public IDataTable   resample(IDataTable tblSrc, List<Instant> lstTgt) throws IllegalArgumentException {
+        long[]          arrTgtNs = DataTableResampler.toEpochNanos(lstTgt, true);
+        long[]          arrSrcNs = DataTableResampler.toEpochNanos(tblSrc.getTimestamps(), false);
+        int             cntCols = tblSrc.getColumnCount();
+    
+        List<IDataColumn<Object>>   lstCols = this.stream(IntStream.range(0, cntCols).boxed(), cntCols)
+                .<IDataColumn<Object>>map(indCol -> {
+                    IDataColumn<Object> colSrc = tblSrc.getColumn(indCol);
+                    Policy              enmPolicy = this.getPolicy(colSrc.getName());
+    
+                    return Series.from(colSrc, arrSrcNs, enmPolicy).resample(arrTgtNs, enmPolicy);
+                })
+                .toList();
+    
+        return DataTableResampler.createTable(lstTgt, lstCols, tblSrc.getRequestId());
+    }
+    
+    /**
+     * <p>
+     * Resamples all process variables of the given sampled aggregate onto the timestamps of the given sampling clock.
+     * </p>
+     *
+     * @param aggSrc    the source sampled aggregate
+     * @param clkTgt    the target sampling clock
+     *
+     * @return  a dense static table with one row per clock timestamp
+     *
+     * @throws IllegalArgumentException a process variable could not be resampled under its policy
+     */
+    public IDataTable   resample(SampledAggregate aggSrc, UniformSamplingClock clkTgt) throws IllegalArgumentException {
+        return this.resample(aggSrc, clkTgt.createTimestamps());
+    }
+    
+    /**
+     * <p>
+     * Resamples all process variables of the given sampled aggregate onto the given target timestamps.
+     * </p>
+     * <p>
+     * The samples of each process variable are gathered from the sampled blocks in start time order, skipping
+     * blocks without data for the variable.
+     * </p>
+     *
+     * @param aggSrc    the source sampled aggregate
+     * @param lstTgt    the target timestamps, in non-decreasing order
+     *
+     * @return  a dense static table with one row per target timestamp
+     *
+     * @throws IllegalArgumentException the target timestamps were out of order or a process variable could not be resampled
+     */
+    public IDataTable   resample(SampledAggregate aggSrc, List<Instant> lstTgt) throws IllegalArgumentException {
+        long[]              arrTgtNs = DataTableResampler.toEpochNanos(lstTgt, true);
+        List<SampledBlock>  lstBlks = new ArrayList<>(aggSrc.getSamplingBlocks());
+        List<long[]>        lstBlkNs = lstBlks.stream().map(blk -> DataTableResampler.toEpochNanos(blk.getTimestamps(), false)).toList();
+        List<String>        lstSrcNms = new ArrayList<>(aggSrc.getDataSourceNames());
+    
+        List<IDataColumn<Object>>   lstCols = this.stream(lstSrcNms.stream(), lstSrcNms.size())
+                .<IDataColumn<Object>>map(strName -> {
+                    Policy  enmPolicy = this.getPolicy(strName);
+    
+                    return Series.from(strName, aggSrc.getSourceType(strName), lstBlks, lstBlkNs, enmPolicy).resample(arrTgtNs, enmPolicy);
+                })
+                .toList();
+    
+        return DataTableResampler.createTable(lstTgt, lstCols, aggSrc.getRequestId());
+    }
+    
+    
+    //
+    // Support Methods
+    //
+    
+    /**
+     * <p>
+     * Returns the given column stream, made parallel if concurrency is enabled and the column count exceeds the pivot.
+     * </p>
+     *
+     * @param <T>       stream element type
+     * @param strm      sequential stream over the columns
+     * @param cntCols   number of columns
+     *
+     * @return  the stream used for column resampling
+     */
+    private <T> Stream<T>   stream(Stream<T> strm, int cntCols) {
+        if (BOL_CONCURRENCY && (cntCols > SZ_CONCURRENCY_PIVOT))
+            return strm.parallel();
+    
+        return strm;
+    }
+    
+    /**
+     * <p>
+     * Creates the static result table.
+     * </p>
+     *
+     * @param lstTgt    target timestamps
+     * @param lstCols   resampled columns
+     * @param strRqstId optional request identifier of the source (may be <code>null</code>)
+     *
+     * @return  new static data table
+     */
+    private static IDataTable   createTable(List<Instant> lstTgt, List<IDataColumn<Object>> lstCols, String strRqstId) {
+        StaticDataTable tbl = new StaticDataTable(lstTgt, lstCols);
+    
+        if (strRqstId != null)
+            tbl.setRequestId(strRqstId);
+    
+        return tbl;
+    }
+    
+    /**
+     * <p>
+     * Converts the given timestamps to nanoseconds from the epoch.
+     * </p>
+     *
+     * @param lstTms    timestamp list
+     * @param bolCheck  check that the timestamps are in non-decreasing order
+     *
+     * @return  array of epoch nanoseconds
+     *
+     * @throws IllegalArgumentException the timestamps were out of order (checked only)
+     * @throws ArithmeticException      a timestamp is outside the range of epoch nanoseconds
+     */
+    private static long[]   toEpochNanos(List<Instant> lstTms, boolean bolCheck) throws IllegalArgumentException, ArithmeticException {
+        long[]  arrNs = new long[lstTms.size()];
+        int     ind = 0;
+    
+        for (Instant ins : lstTms) {
+            arrNs[ind] = Math.addExact(Math.multiplyExact(ins.getEpochSecond(), 1_000_000_000L), ins.getNano());
+    
+            if (bolCheck && ind > 0 && arrNs[ind] < arrNs[ind - 1])
+                throw new IllegalArgumentException("Target timestamps out of order at index " + ind + ": " + ins);
+            ind++;
+        }
+    
+        return arrNs;
+    }
+    
+    /**
+     * @param enmType   data type
+     *
+     * @return  <code>true</code> if the type has a numeric value, <code>false</code> otherwise
+     */
+    private static boolean  isNumeric(DpSupportedType enmType) {
+        return switch (enmType) {
+        case INTEGER, LONG, FLOAT, DOUBLE -> true;
+        default -> false;
+        };
+    }
+    
+    /**
+     * <p>
+     * Streaming merge selecting the source sample supplying each target timestamp.
+     * </p>
+     * <p>
+     * Both timelines are traversed once.  The returned array contains the source sample index for each target
+     * timestamp or -1 if the policy provides no sample.
+     * </p>
+     *
+     * @param arrSrcNs  source sample times (epoch nanoseconds, ordered)
+     * @param cntSrc    number of source samples
+     * @param arrTgtNs  target times (epoch nanoseconds, ordered)
+     * @param enmPolicy a selection policy (not <code>LINEAR</code>)
+     *
+     * @return  source sample index for each target time, or -1
+     */
+    static int[]    select(long[] arrSrcNs, int cntSrc, long[] arrTgtNs, Policy enmPolicy) {
+        int[]   arrInds = new int[arrTgtNs.length];
+        int     indNext = 0;    // first source sample after the current target time
+    
+        for (int j=0; j<arrTgtNs.length; j++) {
+            long    lngTgt = arrTgtNs[j];
+    
+            while (indNext < cntSrc && arrSrcNs[indNext] <= lngTgt)
+                indNext++;
+    
+            int     indPrev = indNext - 1;  // last source sample at or before the target time
+    
+            arrInds[j] = switch (enmPolicy) {
+            case HOLD_PREVIOUS, LINEAR -> indPrev;
+            case NONE -> (indPrev >= 0 && arrSrcNs[indPrev] == lngTgt) ? indPrev : -1;
+            case NEAREST -> {
+                if (indNext >= cntSrc)
+                    yield indPrev;
+                if (indPrev < 0)
+                    yield indNext;
+    
+                yield (lngTgt - arrSrcNs[indPrev] <= arrSrcNs[indNext] - lngTgt) ? indPrev : indNext;
+            }
+            };
+        }
+    
+        return arrInds;
+    }
+    
+    /**
+     * <p>
+     * Streaming merge linearly interpolating the source samples at each target timestamp.
+     * </p>
+     * <p>
+     * Both timelines are traversed once.  Target times outside the source time range are not extrapolated and
+     * have value <code>NaN</code>.
+     * </p>
+     *
+     * @param arrSrcNs  source sample times (epoch nanoseconds, ordered)
+     * @param arrSrcVal source sample values
+     * @param cntSrc    number of source samples
+     * @param arrTgtNs  target times (epoch nanoseconds, ordered)
+     *
+     * @return  interpolated value at each target time
+     */
+    static double[] interpolate(long[] arrSrcNs, double[] arrSrcVal, int cntSrc, long[] arrTgtNs) {
+        double[]    arrVals = new double[arrTgtNs.length];
+        int         indNext = 0;
+    
+        for (int j=0; j<arrTgtNs.length; j++) {
+            long    lngTgt = arrTgtNs[j];
+    
+            while (indNext < cntSrc && arrSrcNs[indNext] <= lngTgt)
+                indNext++;
+    
+            int     indPrev = indNext - 1;
+    
+            if (indPrev < 0)
+                arrVals[j] = Double.NaN;
+    
+            else if (arrSrcNs[indPrev] == lngTgt)
+                arrVals[j] = arrSrcVal[indPrev];
+    
+            else if (indNext >= cntSrc)
+                arrVals[j] = Double.NaN;
+    
+            else {
+                double  dblFrac = (double)(lngTgt - arrSrcNs[indPrev]) / (double)(arrSrcNs[indNext] - arrSrcNs[indPrev]);
+    
+                arrVals[j] = arrSrcVal[indPrev] + dblFrac * (arrSrcVal[indNext] - arrSrcVal[indPrev]);
+            }
+        }
+    
+        return arrVals;
+    }
+    
+    
+    //
+    // Support Types
+    //
+    
+    /**
+     * <p>
+     * Enumeration of the column resampling policies.
+     * </p>
+     */
+    public static enum Policy {
+    
+        /** The value of the latest source sample at or before the target time */
+        HOLD_PREVIOUS,
+    
+        /** Linear interpolation between the adjacent source samples (numeric columns only, no extrapolation) */
+        LINEAR,
+    
+        /** The value of the source sample closest to the target time (earlier sample on ties) */
+        NEAREST,
+    
+        /** The value of a source sample exactly at the target time, otherwise no value */
+        NONE;
+    }
+    
+    /**
+     * <p>
+     * The non-<code>null</code> samples of a source column in primitive form.
+     * </p>
+     * <p>
+     * Exactly one of the value arrays is present: <code>arrDbls</code> when the column is resampled as
+     * <code>double</code> values (type <code>DOUBLE</code> or policy <code>LINEAR</code> on a numeric column),
+     * <code>arrObjs</code> otherwise.
+     * </p>
+     */
+    private static final class Series {
+    
+        //
+        // Creators
+        //
+    
+        /**
+         * <p>
+         * Extracts the samples of the given table column.
+         * </p>
+         * <p>
+         * Primitive columns (which contain no <code>null</code> values) are used in place or converted directly;
+         * other columns are copied with a single pass.
+         * </p>
+         *
+         * @param colSrc    source table column
+         * @param arrTblNs  source table timestamps (epoch nanoseconds)
+         * @param enmPolicy column policy
+         *
+         * @return  the column samples
+         *
+         * @throws IllegalArgumentException a value of a column resampled as <code>double</code> is not numeric
+         */
+        private static Series   from(IDataColumn<Object> colSrc, long[] arrTblNs, Policy enmPolicy) throws IllegalArgumentException {
+            String          strName = colSrc.getName();
+            DpSupportedType enmType = colSrc.getType();
+            int             cntRows = colSrc.getSize();
+    
+            if (Series.hasDoubles(enmType, enmPolicy)) {
+                if (colSrc instanceof DoubleArrayDataColumn colDbls)
+                    return new Series(strName, enmType, cntRows, arrTblNs, colDbls.getDoubleArray(), null);
+    
+                if (colSrc instanceof PrimitiveArrayDataColumn colPrim) {
+                    double[]    arrDbls = new double[cntRows];
+    
+                    switch (enmType) {
+                    case INTEGER:
+                        int[]   arrInts = (int[])colPrim.getArray();
+                        for (int i=0; i<cntRows; i++)
+                            arrDbls[i] = arrInts[i];
+                        break;
+                    case LONG:
+                        long[]  arrLngs = (long[])colPrim.getArray();
+                        for (int i=0; i<cntRows; i++)
+                            arrDbls[i] = arrLngs[i];
+                        break;
+                    case FLOAT:
+                        float[] arrFlts = (float[])colPrim.getArray();
+                        for (int i=0; i<cntRows; i++)
+                            arrDbls[i] = arrFlts[i];
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Column " + strName + " is not numeric.");
+                    }
+    
+                    return new Series(strName, enmType, cntRows, arrTblNs, arrDbls, null);
+                }
+            }
+    
+            Series  ser = new Series(strName, enmType, cntRows, enmPolicy);
+    
+            for (int i=0; i<cntRows; i++)
+                ser.add(arrTblNs[i], colSrc.getValue(i));
+    
+            return ser;
+        }
+    
+        /**
+         * <p>
+         * Extracts the samples of the given process variable from the blocks of a sampled aggregate.
+         * </p>
+         *
+         * @param strName   process variable name
+         * @param enmType   process variable data type
+         * @param lstBlks   sampled blocks in start time order
+         * @param lstBlkNs  timestamps of each sampled block (epoch nanoseconds)
+         * @param enmPolicy column policy
+         *
+         * @return  the process variable samples
+         *
+         * @throws IllegalArgumentException a value of a column resampled as <code>double</code> is not numeric
+         */
+        private static Series   from(String strName, DpSupportedType enmType, List<SampledBlock> lstBlks, List<long[]> lstBlkNs, Policy enmPolicy)
+                throws IllegalArgumentException {
+    
+            int     cntMax = 0;
+            for (SampledBlock blk : lstBlks)
+                if (blk.hasSourceData(strName))
+                    cntMax += blk.getSampleCount();
+    
+            Series  ser = new Series(strName, enmType, cntMax, enmPolicy);
+    
+            for (int indBlk=0; indBlk<lstBlks.size(); indBlk++) {
+                SampledBlock    blk = lstBlks.get(indBlk);
+    
+                if (!blk.hasSourceData(strName))
+                    continue;
+    
+                SampledTimeSeries<Object>   sts = blk.getTimeSeries(strName);
+                long[]                      arrBlkNs = lstBlkNs.get(indBlk);
+    
+                for (int i=0; i<arrBlkNs.length; i++)
+                    ser.add(arrBlkNs[i], sts.getValue(i));
+            }
+    
+            return ser;
+        }
+    
+    
+        //
+        // Defining Attributes
+        //
+    
+        /** Column name */
+        private final String            strName;
+    
+        /** Column data type */
+        private final DpSupportedType   enmType;
+    
+        /** Sample times (epoch nanoseconds) */
+        private final long[]            arrTmsNs;
+    
+        /** Sample values as <code>double</code>, or <code>null</code> */
+        private final double[]          arrDbls;
+    
+        /** Sample values as objects, or <code>null</code> */
+        private final Object[]          arrObjs;
+    
+    
+        //
+        // State Variables
+        //
+    
+        /** Number of samples */
+        private int                     cntSmpls;
+    
+    
+        //
+        // Constructors
+        //
+    
+        /**
+         * <p>
+         * Constructs a series backed by the given arrays.
+         * </p>
+         */
+        private Series(String strName, DpSupportedType enmType, int cntSmpls, long[] arrTmsNs, double[] arrDbls, Object[] arrObjs) {
+            this.strName = strName;
+            this.enmType = enmType;
+            this.cntSmpls = cntSmpls;
+            this.arrTmsNs = arrTmsNs;
+            this.arrDbls = arrDbls;
+            this.arrObjs = arrObjs;
+        }
+    
+        /**
+         * <p>
+         * Constructs an empty series with storage for the given number of samples.
+         * </p>
+         */
+        private Series(String strName, DpSupportedType enmType, int cntMax, Policy enmPolicy) {
+            this(strName, enmType, 0, new long[cntMax],
+                    Series.hasDoubles(enmType, enmPolicy) ? new double[cntMax] : null,
+                    Series.hasDoubles(enmType, enmPolicy) ? null : new Object[cntMax]);
+        }
+    
+    
+        //
+        // Operations
+        //
+    
+        /**
+         * <p>
+         * Appends the given sample, skipping <code>null</code> values.
+         * </p>
+         *
+         * @param lngTmsNs  sample time (epoch nanoseconds)
+         * @param objVal    sample value
+         *
+         * @throws IllegalArgumentException the value is not numeric for a <code>double</code> series
+         */
+        private void    add(long lngTmsNs, Object objVal) throws IllegalArgumentException {
+            if (objVal == null)
+                return;
+    
+            if (this.arrDbls != null) {
+                if (!(objVal instanceof Number num))
+                    throw new IllegalArgumentException("Column " + this.strName + " contains non-numeric value " + objVal);
+    
+                this.arrDbls[this.cntSmpls] = num.doubleValue();
+    
+            } else {
+                this.arrObjs[this.cntSmpls] = objVal;
+            }
+    
+            this.arrTmsNs[this.cntSmpls++] = lngTmsNs;
+        }
+    
+        /**
+         * <p>
+         * Resamples the series onto the given target times.
+         * </p>
+         *
+         * @param arrTgtNs  target times (epoch nanoseconds, ordered)
+         * @param enmPolicy column policy
+         *
+         * @return  the resampled data column
+         */
+        private IDataColumn<Object> resample(long[] arrTgtNs, Policy enmPolicy) {
+            int     cntTgt = arrTgtNs.length;
+    
+            // Interpolation of numeric values
+            if (enmPolicy == Policy.LINEAR && this.arrDbls != null)
+                return DoubleArrayDataColumn.from(this.strName,
+                        DataTableResampler.interpolate(this.arrTmsNs, this.arrDbls, this.cntSmpls, arrTgtNs),
+                        cntTgt);
+    
+            // Sample selection (non-numeric values fall back to previous value hold for LINEAR)
+            int[]   arrInds = DataTableResampler.select(this.arrTmsNs, this.cntSmpls, arrTgtNs, enmPolicy);
+    
+            if (this.arrDbls != null) {
+                double[]    arrVals = new double[cntTgt];
+    
+                for (int j=0; j<cntTgt; j++)
+                    arrVals[j] = (arrInds[j] < 0) ? Double.NaN : this.arrDbls[arrInds[j]];
+    
+                return DoubleArrayDataColumn.from(this.strName, arrVals, cntTgt);
+            }
+    
+            Object[]    arrVals = new Object[cntTgt];
+    
+            for (int j=0; j<cntTgt; j++)
+                arrVals[j] = (arrInds[j] < 0) ? null : this.arrObjs[arrInds[j]];
+    
+            return SampledTimeSeries.from(this.strName, this.enmType, new ArrayList<>(Arrays.asList(arrVals)));
+        }
+    
+    
+        //
+        // Support Methods
+        //
+    
+        /**
+         * @return  <code>true</code> if the values are resampled as <code>double</code>
+         */
+        private static boolean  hasDoubles(DpSupportedType enmType, Policy enmPolicy) {
+            return enmType == DpSupportedType.DOUBLE || (enmPolicy == Policy.LINEAR && DataTableResampler.isNumeric(enmType));
+        }
+    }
+}
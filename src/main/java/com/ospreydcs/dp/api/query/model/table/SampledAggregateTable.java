@@ -33,10 +33,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.SortedSet;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.ospreydcs.dp.api.common.DataTableCursor;
+import com.ospreydcs.dp.api.common.DataTableRowSpliterator;
 import com.ospreydcs.dp.api.common.DpSupportedType;
 import com.ospreydcs.dp.api.common.IDataColumn;
 import com.ospreydcs.dp.api.common.IDataTable;
+import com.ospreydcs.dp.api.common.IDataTableCursor;
+import com.ospreydcs.dp.api.common.IDataTableRow;
 import com.ospreydcs.dp.api.common.JalDataTableType;
 import com.ospreydcs.dp.api.query.model.assem.SampledAggregate;
 import com.ospreydcs.dp.api.query.model.coalesce.SampledBlock;
@@ -157,8 +163,8 @@ public class SampledAggregateTable implements IDataTable {
     private final Map<Integer, String>  mapIndToSrcNm;
 
     
-    /** The vector of row indices for each page (sampling block) - set at construction */
-    private final ArrayList<Integer>    vecPageRowInd;
+    /** The starting table row index of each page (sampling block) - set at construction */
+    private final int[]                 arrPageRowInd;
     
     /** Storage of (created) full table columns - we remember table columns if we create them */
     private final Map<String, IDataColumn<Object>>  mapSrcNmToFullColumn;
@@ -192,10 +198,10 @@ public class SampledAggregateTable implements IDataTable {
         this.mapIndToSrcNm = this.createIndToSrcNmMap(this.vecColumnName);
         
         // Create the vector of starting table row indices for each page (sampling block)
-        this.vecPageRowInd = this.createPageIndexVector(this.vecSampleBlks);
+        this.arrPageRowInd = this.createPageIndexVector(this.vecSampleBlks);
         
-        // The map of data source name to full table column, which are created as needed.
-        this.mapSrcNmToFullColumn = new HashMap<>();
+        // The map of data source name to full table column, which are created as needed (possibly concurrently).
+        this.mapSrcNmToFullColumn = new ConcurrentHashMap<>();
     }
 
     
@@ -244,7 +250,6 @@ public class SampledAggregateTable implements IDataTable {
         
         this.vecTimestamps.clear();
         this.vecColumnName.clear();
-        this.vecPageRowInd.clear();
         this.mapIndToSrcNm.clear();
         this.mapSrcNmToFullColumn.clear();
         this.mapSrcNmToInd.clear();
@@ -325,17 +330,8 @@ public class SampledAggregateTable implements IDataTable {
         // Get column name
         String  strColNm = this.getColumnName(indCol);
         
-        // Is already created?
-        IDataColumn<Object>     col = this.mapSrcNmToFullColumn.get(strColNm);
-        
-        // Must create the column (and save)
-        if (col == null) {
-            
-            col = this.aggSrcData.timeSeries(strColNm);
-            this.mapSrcNmToFullColumn.put(strColNm, col);
-        }
-        
-        return col;
+        // Return the column, creating (and saving) it if necessary
+        return this.mapSrcNmToFullColumn.computeIfAbsent(strColNm, this.aggSrcData::timeSeries);
     }
 
     /**
@@ -363,17 +359,8 @@ public class SampledAggregateTable implements IDataTable {
         if (!this.aggSrcData.hasDataSource(strName))
             throw new NoSuchElementException("Table has no data source with name " + strName);
         
-        // Is already created?
-        IDataColumn<Object>     col = this.mapSrcNmToFullColumn.get(strName);
-        
-        // Must create the column (and save)
-        if (col == null) {
-            
-            col = this.aggSrcData.timeSeries(strName);
-            this.mapSrcNmToFullColumn.put(strName, col);
-        }
-        
-        return col;
+        // Return the column, creating (and saving) it if necessary
+        return this.mapSrcNmToFullColumn.computeIfAbsent(strName, this.aggSrcData::timeSeries);
     }
 
     
@@ -702,6 +689,41 @@ public class SampledAggregateTable implements IDataTable {
     }
 
 
+    /**
+     * <p>
+     * <code>SampledAggregateTable</code> override of default <code>{@link IDataTable}</code> implementation.
+     * </p>
+     * <p>
+     * The returned cursor tracks the current data page (sampling block) and its time series.  The page
+     * containing a row is located only when the cursor enters the page, so the cursor avoids both the 
+     * full column creation of <code>{@link #getColumn(int)}</code> and the page lookup of 
+     * <code>{@link #getValue(int, int)}</code> for each row.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.common.IDataTable#cursor(int, int)
+     */
+    @Override
+    public IDataTableCursor cursor(int indBeg, int indEnd) throws IndexOutOfBoundsException {
+        return new PageCursor(indBeg, indEnd);
+    }
+
+    /**
+     * <p>
+     * <code>SampledAggregateTable</code> override of default <code>{@link IDataTable}</code> implementation.
+     * </p>
+     * <p>
+     * The returned spliterator prefers the data page (sampling block) boundaries as split points, so that 
+     * concurrent scans divide along pages.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.api.common.IDataTable#rowSpliterator()
+     */
+    @Override
+    public Spliterator<IDataTableRow> rowSpliterator() {
+        return new DataTableRowSpliterator(this, 0, this.getRowCount(), this.arrPageRowInd);
+    }
+
+    
     //
     // Support Methods
     //
@@ -815,19 +837,20 @@ public class SampledAggregateTable implements IDataTable {
      * 
      * @return  ordered vector of data page indices 
      */
-    private ArrayList<Integer>      createPageIndexVector(List<SampledBlock> lstBlocks) {
+    private int[]                   createPageIndexVector(List<SampledBlock> lstBlocks) {
         
         // Increase table row index in order of sampling block occurrence
-        ArrayList<Integer>  vecInds = new ArrayList<>(lstBlocks.size());
-        Integer             indTblRow = 0;
+        int[]   arrInds = new int[lstBlocks.size()];
+        int     indTblRow = 0;
+        int     indPage = 0;
         
         for (SampledBlock blk : lstBlocks) {
-            vecInds.add(indTblRow);
+            arrInds[indPage++] = indTblRow;
             
             indTblRow += blk.getSampleCount();
         }
         
-        return vecInds;
+        return arrInds;
     }
     
     /**
@@ -841,23 +864,20 @@ public class SampledAggregateTable implements IDataTable {
      * </p>
      * <p>
      * From the table row index argument, the pair of indices identifying the table page and and the page
-     * row is returned.  The method iterates through each page index within the attribute 
-     * <code>{@link #vecPageRowInd}</code> until it finds the smallest index 
-     * <i>i</i><sub>page<sub><i>n</i></sub></sub>
-     * such that
+     * row is returned.  The method binary searches the page indices within the attribute 
+     * <code>{@link #arrPageRowInd}</code> for the largest index <i>n</i> such that
      * <pre>
-     *      <i>i</i><sub>row</sub> < <i>i</i><sub>page<sub><i>n</i></sub>  
+     *      <i>i</i><sub>page<sub><i>n</i></sub></sub> &le; <i>i</i><sub>row</sub>  
      * </pre>
-     * where <i>i</i><sub>row</sub> is the argument and, by deduction, 
-     * <i>i</i><sub>page<sub><i>n</i>-1</sub></sub> is the index of the page containing the argument 
-     * (i.e., page<sub><i>n</i>-1</sub>).  The returned value is then the pair
+     * where <i>i</i><sub>row</sub> is the argument, so that page<sub><i>n</i></sub> contains the argument.
+     * The returned value is then the pair
      * <pre>
-     *     (<i>n</i> - 1, <i>i</i><sub>row</sub> - <i>i</i><sub>page<sub><i>n</i>-1</sub></sub>) 
+     *     (<i>n</i>, <i>i</i><sub>row</sub> - <i>i</i><sub>page<sub><i>n</i></sub></sub>) 
      * </pre>
      * which populates the <code>{@link PageIndex}</code> object.
      * </p>
      * <h2>NOTES:</h2>
-     * This method requires the pre-computation of attribute <code>{@link #vecPageRowInd}</code> which contains
+     * This method requires the pre-computation of attribute <code>{@link #arrPageRowInd}</code> which contains
      * the table row index of each sampling block within the process.
      * </p>
      * 
@@ -876,41 +896,103 @@ public class SampledAggregateTable implements IDataTable {
         if (indTblRow < 0 || indTblRow >= cntTblRows)
             throw new IndexOutOfBoundsException("Table row index " + indTblRow + " out of bounds [0, " + cntTblRows + "]");
         
-        // Iterate through all data page indices
-        Integer indPage = 0;
-        Integer indPageRow = 0;
+        if (this.arrPageRowInd.length == 0)
+            throw new IllegalStateException("Table row index inconsistent with empty page index list.");
+        
+        // Binary search for the last page starting at or before the table row
+        //  (empty pages share their starting index with the following page)
+        int     indLo = 0;
+        int     indHi = this.arrPageRowInd.length - 1;
         
-        Integer indPrev = null;
-        for (Integer indCurr : this.vecPageRowInd) {
+        while (indLo < indHi) {
+            int     indMid = (indLo + indHi + 1) >>> 1;
             
-            // Loop initialization 
-            // - don't start comparison until second page
-            // - retain the value of previous index
-            if (indPrev == null) {
-                indPrev = indCurr;
-                
-                continue;
-            }
+            if (this.arrPageRowInd[indMid] <= indTblRow)
+                indLo = indMid;
+            else
+                indHi = indMid - 1;
+        }
+        
+        return new PageIndex(indLo, indTblRow - this.arrPageRowInd[indLo]);
+    }
+    
+    
+    //
+    // Support Types
+    //
+    
+    /**
+     * <p>
+     * Table cursor loading rows directly from the current data page (sampling block).
+     * </p>
+     */
+    private final class PageCursor extends DataTableCursor {
+        
+        /** Index of the current page, or -1 before the first row */
+        private int     indPage = -1;
+        
+        /** Table row index of the first row of the current page */
+        private int     indPageBeg = 0;
+        
+        /** Table row index following the current page */
+        private int     indPageEnd = 0;
+        
+        /** Time series of each table column within the current page, or <code>null</code> if absent */
+        private final IDataColumn<?>[]  arrPageCols;
+        
+        /**
+         * <p>
+         * Constructs a new <code>PageCursor</code> positioned before the first row of the given range.
+         * </p>
+         *
+         * @param indBeg    first row of the range
+         * @param indEnd    row following the range
+         * 
+         * @throws IndexOutOfBoundsException    the range is not within the table rows
+         */
+        private PageCursor(int indBeg, int indEnd) throws IndexOutOfBoundsException {
+            super(SampledAggregateTable.this, indBeg, indEnd);
+            
+            this.arrPageCols = new IDataColumn<?>[SampledAggregateTable.this.vecColumnName.size()];
+        }
+        
+        /**
+         * @see com.ospreydcs.dp.api.common.DataTableCursor#load(int, java.lang.Object[])
+         */
+        @Override
+        protected void load(int indRow, Object[] arrRow) {
+            
+            // Enter the page containing the row if necessary
+            if (this.indPage < 0 || indRow >= this.indPageEnd) 
+                this.enterPage(SampledAggregateTable.this.computePageIndex(indRow).indPage);
             
-            // If table index is less than current index it belongs to previous data table
-            if (indTblRow < indCurr) {
-                indPageRow = indTblRow - indPrev;
+            int     indPageRow = indRow - this.indPageBeg;
+            
+            for (int indCol=0; indCol<arrRow.length; indCol++) {
+                IDataColumn<?>  col = this.arrPageCols[indCol];
                 
-                return new PageIndex(indPage, indPageRow);
+                arrRow[indCol] = (col == null) ? null : col.getValue(indPageRow);
             }
-
-            indPrev = indCurr;
-            indPage++;
         }
         
-        // Check last page
-        if (indPage !=  (vecPageRowInd.size() - 1) )
-            throw new IllegalStateException("Table row index inconsistent with page index list " + this.vecPageRowInd);
-
-        // Process the last page
-        indPageRow = indTblRow - indPrev;
-        
-        return new PageIndex(indPage, indPageRow); 
+        /**
+         * <p>
+         * Makes the given page current, obtaining its time series for each table column.
+         * </p>
+         * 
+         * @param indPage   index of the new current page
+         */
+        private void enterPage(int indPage) {
+            SampledBlock    blkPage = SampledAggregateTable.this.vecSampleBlks.get(indPage);
+            
+            this.indPage = indPage;
+            this.indPageBeg = SampledAggregateTable.this.arrPageRowInd[indPage];
+            this.indPageEnd = this.indPageBeg + blkPage.getSampleCount();
+            
+            int     indCol = 0;
+            for (String strName : SampledAggregateTable.this.vecColumnName) 
+                this.arrPageCols[indCol++] = blkPage.hasSourceData(strName) ? blkPage.getTimeSeries(strName) : null;
+        }
     }
     
 }
@@ -0,0 +1,175 @@
+/*
+ * Project: dp-api-common
+ * File:	CallSite.java
+ * Package: com.ospreydcs.dp.api.util
+ * Type: 	CallSite
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.util;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Precomputed call-site tag identifying a method for diagnostic messages.
+ * </p>
+ * <p>
+ * The <code>{@link JavaRuntime}</code> method name operations inspect the call stack each time they are invoked,
+ * which is too costly for methods executed once per data message (e.g., with logging enabled at DEBUG level).
+ * A <code>CallSite</code> is created once, typically as a class constant, and all its name strings are computed
+ * at creation.  Thus, using a call-site tag in a log event or exception message costs nothing beyond the
+ * event itself.  For example,
+ * <pre>
+ * <code>
+ *     private static final CallSite   CS_RUN = CallSite.of(MessageTransferTask.class, "run");
+ *     ...
+ *     LOGGER.debug("{} - Exiting message transfer loop normally.", CS_RUN);
+ * </code>
+ * </pre>
+ * The string forms are identical to those of the corresponding <code>JavaRuntime</code> operations, so
+ * the two may be used interchangeably.
+ * </p>
+ * <p>
+ * <h2>Thread Safety</h2>
+ * Instances are immutable and thread safe.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public final class CallSite {
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new <code>CallSite</code> tag for the given method of the given class.
+     * </p>
+     * <p>
+     * The method name is not verified against the class type; it may also identify a lambda or
+     * code block within a method.
+     * </p>
+     *
+     * @param clsType       the class containing the call site
+     * @param strMethodName the name of the method containing the call site
+     *
+     * @return  a new call-site tag with all names precomputed
+     *
+     * @throws NullPointerException either argument was <code>null</code>
+     */
+    public static CallSite  of(Class<?> clsType, String strMethodName) throws NullPointerException {
+        return new CallSite(clsType, strMethodName);
+    }
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The name of the method containing the call site */
+    private final String    strMethodName;
+
+    /** The fully qualified name of the method, in the form [ClassName]#[MethodName] */
+    private final String    strQualName;
+
+    /** The simple qualified name of the method, in the form [ClassNameSimple]#[MethodName] */
+    private final String    strQualNameSimple;
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new <code>CallSite</code> instance.
+     * </p>
+     *
+     * @param clsType       the class containing the call site
+     * @param strMethodName the name of the method containing the call site
+     *
+     * @throws NullPointerException either argument was <code>null</code>
+     */
+    private CallSite(Class<?> clsType, String strMethodName) throws NullPointerException {
+        Objects.requireNonNull(clsType, "clsType");
+        Objects.requireNonNull(strMethodName, "strMethodName");
+
+        String  strClsName = clsType.getName();
+        String  strClsNameSimple = strClsName.substring(strClsName.lastIndexOf('.') + 1);
+
+        this.strMethodName = strMethodName;
+        this.strQualName = strClsName + "#" + strMethodName;
+        this.strQualNameSimple = strClsNameSimple + "#" + strMethodName;
+    }
+
+
+    //
+    // Attribute Getters
+    //
+
+    /**
+     * @return  the method name, equivalent to <code>{@link JavaRuntime#getMethodName()}</code>
+     */
+    public String   getMethodName() {
+        return this.strMethodName;
+    }
+
+    /**
+     * @return  the fully qualified method name, equivalent to <code>{@link JavaRuntime#getQualifiedMethodName()}</code>
+     */
+    public String   getQualifiedName() {
+        return this.strQualName;
+    }
+
+    /**
+     * @return  the simple qualified method name, equivalent to <code>{@link JavaRuntime#getQualifiedMethodNameSimple()}</code>
+     */
+    public String   getQualifiedNameSimple() {
+        return this.strQualNameSimple;
+    }
+
+
+    //
+    // Object Overrides
+    //
+
+    /**
+     * <p>
+     * Returns the simple qualified method name.
+     * </p>
+     * <p>
+     * Allows the call-site tag to be used directly as a log event parameter or in string concatenation.
+     * </p>
+     *
+     * @return  the simple qualified method name [ClassNameSimple]#[MethodName]
+     *
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return this.strQualNameSimple;
+    }
+}
@@ -52,6 +52,7 @@ import org.epics.pvdata.pv.PVBoolean;
 import org.epics.pvdata.pv.PVBooleanArray;
 import org.epics.pvdata.pv.PVByteArray;
 import org.epics.pvdata.pv.PVDoubleArray;
+import org.epics.pvdata.pv.PVField;
 import org.epics.pvdata.pv.PVFloatArray;
 import org.epics.pvdata.pv.PVInt;
 import org.epics.pvdata.pv.PVIntArray;
@@ -73,9 +74,12 @@ import org.epics.pvdata.pv.StringArrayData;
 import org.epics.pvdata.pv.StructureArrayData;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.ospreydcs.dp.api.common.ArrayDimension;
 import com.ospreydcs.dp.api.common.DpSupportedType;
 import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.model.table.DoubleArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.PrimitiveArrayDataColumn;
 import com.ospreydcs.dp.api.model.table.StaticDataColumn;
 
 
@@ -267,6 +271,147 @@ public class Epics {
         return lstCols;
     }
     
+    /**
+     * <p>
+     * Extracts the data from an EPICS Normative Type Table (NTTable) into data columns backed by primitive arrays.
+     * </p>
+     * <p>
+     * Equivalent to <code>{@link #extractTablePrimitiveColumns(PVStructure, boolean)}</code> without sharing,
+     * that is, each column receives its own copy of the PVData array.
+     * </p>
+     * 
+     * @param pvsTable EPICS <code>NTTable</code> compatible structure 
+     * 
+     * @return list of data columns, one for each column in the argument
+     * 
+     * @throws IllegalArgumentException the argument is not EPICS NTTable compatible
+     * @throws TypeNotPresentException an supported EPICS type was encountered in the PV structure data
+     */
+    public static ArrayList<IDataColumn<Object>> extractTablePrimitiveColumns(PVStructure pvsTable) 
+            throws IllegalArgumentException, TypeNotPresentException {
+        return Epics.extractTablePrimitiveColumns(pvsTable, false);
+    }
+    
+    /**
+     * <p>
+     * Extracts the data from an EPICS Normative Type Table (NTTable) into data columns backed by primitive arrays.
+     * </p>
+     * <p>
+     * This method is the high-rate alternative to <code>{@link #extractTableColumns(PVStructure)}</code>.  No
+     * column value is boxed; numeric columns are returned as <code>{@link DoubleArrayDataColumn}</code> or
+     * <code>{@link PrimitiveArrayDataColumn}</code> instances which the ingestion frame converter encodes 
+     * directly.  The column types are identical to those of <code>{@link #extractTableColumns(PVStructure)}</code>.
+     * </p>
+     * <p>
+     * <h2>Sharing</h2>
+     * If <code>bolShared</code> is <code>true</code> the caller transfers ownership of the argument's data to
+     * the returned columns, that is, the argument is not modified or reused afterwards (e.g., it is the result
+     * of a channel get rather than a recycled monitor element).  Columns then reference the PVData arrays directly
+     * whenever no type conversion is required, and byte array columns wrap the PVData bytes without copying.
+     * Otherwise each column receives a single copy of its PVData array.
+     * </p>
+     * <p>
+     * <h2>NOTES:</h2>
+     * Unsigned short values are widened without sign extension.  Unsigned integer and long values are
+     * reinterpreted as signed values, as in <code>{@link #extractTableColumns(PVStructure)}</code>.
+     * </p>
+     * 
+     * @param pvsTable  EPICS <code>NTTable</code> compatible structure 
+     * @param bolShared the returned columns may reference the PVData arrays of the argument
+     * 
+     * @return list of data columns, one for each column in the argument
+     * 
+     * @throws IllegalArgumentException the argument is not EPICS NTTable compatible
+     * @throws TypeNotPresentException an supported EPICS type was encountered in the PV structure data
+     */
+    public static ArrayList<IDataColumn<Object>> extractTablePrimitiveColumns(PVStructure pvsTable, boolean bolShared) 
+            throws IllegalArgumentException, TypeNotPresentException {
+        
+        // Wrap into an ntTable and exception check
+        NTTable ntTable = NTTable.wrap(pvsTable);
+        if (ntTable == null)
+            throw new IllegalArgumentException("Epics#extractTablePrimitiveColumns(PVStructure, boolean) - argument was not compatible with NTTable");
+
+        // The returned object
+        ArrayList<IDataColumn<Object>>  lstCols = new ArrayList<>(ntTable.getColumnNames().length);
+
+        // For every column in the NTTable (by name)
+        for (String strColNm : ntTable.getColumnNames()) {
+            PVScalarArray pvarrScalar = ntTable.getColumn(strColNm);
+            ScalarType    typScalar   = pvarrScalar.getScalarArray().getElementType();
+            
+            IDataColumn<Object> colData = switch (typScalar) {
+                case pvBoolean -> {
+                    BooleanArrayData    data = new BooleanArrayData();
+                    int                 cnt = ((PVBooleanArray)pvarrScalar).get(0, pvarrScalar.getLength(), data);
+                    
+                    yield (bolShared && data.offset == 0) 
+                            ? PrimitiveArrayDataColumn.from(strColNm, data.data, cnt)
+                            : PrimitiveArrayDataColumn.from(strColNm, Arrays.copyOfRange(data.data, data.offset, data.offset + cnt), cnt);
+                }
+                case pvByte -> StaticDataColumn.from(strColNm, DpSupportedType.BYTE_ARRAY, 
+                        List.of(Epics.toByteString(PVByteArray.class.cast(pvarrScalar), bolShared)));
+                case pvUByte -> StaticDataColumn.from(strColNm, DpSupportedType.BYTE_ARRAY, 
+                        List.of(Epics.toByteString(PVUByteArray.class.cast(pvarrScalar), bolShared)));
+                case pvShort, pvUShort -> {
+                    ShortArrayData      data = new ShortArrayData();
+                    int                 cnt = (typScalar == ScalarType.pvShort)
+                            ? ((PVShortArray)pvarrScalar).get(0, pvarrScalar.getLength(), data)
+                            : ((PVUShortArray)pvarrScalar).get(0, pvarrScalar.getLength(), data);
+                    int[]               arrVals = new int[cnt];
+                    
+                    for (int i=0; i<cnt; i++) 
+                        arrVals[i] = (typScalar == ScalarType.pvShort) ? data.data[data.offset + i] : Short.toUnsignedInt(data.data[data.offset + i]);
+                    
+                    yield PrimitiveArrayDataColumn.from(strColNm, arrVals, cnt);
+                }
+                case pvInt, pvUInt -> {
+                    IntArrayData        data = new IntArrayData();
+                    int                 cnt = (typScalar == ScalarType.pvInt)
+                            ? ((PVIntArray)pvarrScalar).get(0, pvarrScalar.getLength(), data)
+                            : ((PVUIntArray)pvarrScalar).get(0, pvarrScalar.getLength(), data);
+                    
+                    yield (bolShared && data.offset == 0) 
+                            ? PrimitiveArrayDataColumn.from(strColNm, data.data, cnt)
+                            : PrimitiveArrayDataColumn.from(strColNm, Arrays.copyOfRange(data.data, data.offset, data.offset + cnt), cnt);
+                }
+                case pvLong, pvULong -> {
+                    LongArrayData       data = new LongArrayData();
+                    int                 cnt = (typScalar == ScalarType.pvLong)
+                            ? ((PVLongArray)pvarrScalar).get(0, pvarrScalar.getLength(), data)
+                            : ((PVULongArray)pvarrScalar).get(0, pvarrScalar.getLength(), data);
+                    
+                    yield (bolShared && data.offset == 0) 
+                            ? PrimitiveArrayDataColumn.from(strColNm, data.data, cnt)
+                            : PrimitiveArrayDataColumn.from(strColNm, Arrays.copyOfRange(data.data, data.offset, data.offset + cnt), cnt);
+                }
+                case pvFloat -> {
+                    FloatArrayData      data = new FloatArrayData();
+                    int                 cnt = ((PVFloatArray)pvarrScalar).get(0, pvarrScalar.getLength(), data);
+                    
+                    yield (bolShared && data.offset == 0) 
+                            ? PrimitiveArrayDataColumn.from(strColNm, data.data, cnt)
+                            : PrimitiveArrayDataColumn.from(strColNm, Arrays.copyOfRange(data.data, data.offset, data.offset + cnt), cnt);
+                }
+                case pvDouble -> {
+                    DoubleArrayData     data = new DoubleArrayData();
+                    int                 cnt = ((PVDoubleArray)pvarrScalar).get(0, pvarrScalar.getLength(), data);
+                    
+                    yield (bolShared && data.offset == 0) 
+                            ? DoubleArrayDataColumn.from(strColNm, data.data, cnt)
+                            : DoubleArrayDataColumn.from(strColNm, Arrays.copyOfRange(data.data, data.offset, data.offset + cnt), cnt);
+                }
+                case pvString -> StaticDataColumn.from(strColNm, DpSupportedType.STRING, 
+                        new ArrayList<>( Epics.toStringList((PVStringArray)pvarrScalar) ));
+                default -> throw new TypeNotPresentException("Encounter unsupported EPICS PV type " + typScalar, new Throwable());
+            };
+            
+            lstCols.add(colData);
+        }
+        
+        return lstCols;
+    }
+    
 //    /**
 //     * <p>
 //     * Returns a list of <code>Objects</code> given a list of elements of type
@@ -410,18 +555,66 @@ public class Epics {
      */
     public static byte[]    extractArrayRawData(PVStructure pvsNdArray) throws IllegalArgumentException {
         
-        // Check for NT array compatibility
-        NTNDArray ntNdArray = NTNDArray.wrap(pvsNdArray);
-        if (ntNdArray == null)
-            throw new IllegalArgumentException("Epics#extractData(PVStructure) - argument was incompatible with NTNDArray");
+        // Extract the raw data and copy
+        ByteExtent  extData = Epics.extractArrayBytes(pvsNdArray);
+
+        return Arrays.copyOfRange(extData.arrBytes(), extData.indOffset(), extData.indOffset() + extData.cntBytes());
+    }
+
+    /**
+     * <p>
+     * Extracts the raw image data from an NTNDArray compatible argument, sharing the PVData array when possible.
+     * </p>
+     * <p>
+     * The caller transfers ownership of the argument's data, that is, the argument must not be modified or
+     * reused afterwards.  The PVData byte array is returned directly when its extent matches the image data,
+     * otherwise a copy of the image data is returned.
+     * </p>
+     * 
+     * @param pvsNdArray an <code>NTNDArray</code> compatible structure
+
+     * @return the data contained in the argument as raw byte array (possibly the PVData array itself)
+     * 
+     * @throws IllegalArgumentException the argument was not <code>NTNDArray</code> compatible, or contained no byte data
+     * 
+     * @see Epics#extractArrayRawData(PVStructure)
+     */
+    public static byte[]    extractArrayRawDataShared(PVStructure pvsNdArray) throws IllegalArgumentException {
         
-        // Extract the raw data
-        PVUnion pvuData = ntNdArray.getValue();
-        PVByteArray pvbaData = (PVByteArray)pvuData;
-        ByteArrayData baData = new ByteArrayData();
-        pvbaData.get(0, pvbaData.getLength(), baData);
+        ByteExtent  extData = Epics.extractArrayBytes(pvsNdArray);
+        
+        if (extData.indOffset() == 0 && extData.cntBytes() == extData.arrBytes().length)
+            return extData.arrBytes();
 
-        return baData.data;
+        return Arrays.copyOfRange(extData.arrBytes(), extData.indOffset(), extData.indOffset() + extData.cntBytes());
+    }
+    
+    /**
+     * <p>
+     * Extracts the raw image data from an NTNDArray compatible argument as a Protocol Buffers byte string.
+     * </p>
+     * <p>
+     * If <code>bolShared</code> is <code>true</code> the caller transfers ownership of the argument's data,
+     * that is, the argument must not be modified or reused afterwards.  The returned byte string then wraps the
+     * PVData byte array without copying (see <code>UnsafeByteOperations#unsafeWrap</code>).  Otherwise the 
+     * image data is copied once into the byte string.
+     * </p>
+     * 
+     * @param pvsNdArray an <code>NTNDArray</code> compatible structure
+     * @param bolShared  the returned byte string may reference the PVData array of the argument
+     * 
+     * @return the data contained in the argument as a byte string
+     * 
+     * @throws IllegalArgumentException the argument was not <code>NTNDArray</code> compatible, or contained no byte data
+     */
+    public static ByteString    extractArrayByteString(PVStructure pvsNdArray, boolean bolShared) throws IllegalArgumentException {
+        
+        ByteExtent  extData = Epics.extractArrayBytes(pvsNdArray);
+        
+        if (bolShared)
+            return UnsafeByteOperations.unsafeWrap(extData.arrBytes(), extData.indOffset(), extData.cntBytes());
+        
+        return ByteString.copyFrom(extData.arrBytes(), extData.indOffset(), extData.cntBytes());
     }
 
     /**
@@ -773,16 +966,37 @@ public class Epics {
      * @see ByteString
      */
     public static ByteString toByteString(PVByteArray pvarrUByte) {
+        return Epics.toByteString(pvarrUByte, false);
+    }
+
+    /**
+     * <p>
+     * Converts an EPICS <code>PVByteArray</code> to a Protobuf <code>ByteString</code> instance, optionally without copying.
+     * </p>
+     * <p>
+     * If <code>bolShared</code> is <code>true</code> the caller transfers ownership of the argument data, that is,
+     * the argument must not be modified afterwards, and the returned byte string wraps the PVData array.
+     * Otherwise the data bytes are copied.
+     * </p>
+     * 
+     * @param pvarrUByte EPICS data structure
+     * @param bolShared  the returned byte string may reference the argument's data array
+     * 
+     * @return instance of <code>ByteString</code> whose values are extracted from the argument
+     * 
+     * @see ByteString
+     */
+    public static ByteString toByteString(PVByteArray pvarrUByte, boolean bolShared) {
         
         // Get the argument data
         ByteArrayData   dataByteArr = new ByteArrayData();
-        pvarrUByte.get(0, pvarrUByte.getLength(), dataByteArr);
+        int             cntBytes = pvarrUByte.get(0, pvarrUByte.getLength(), dataByteArr);
 
         // Pack the byte string
-        byte[]          arrBytesRaw = dataByteArr.data;
-        ByteString      arrBytesStr = ByteString.copyFrom(arrBytesRaw);
+        if (bolShared)
+            return UnsafeByteOperations.unsafeWrap(dataByteArr.data, dataByteArr.offset, cntBytes);
         
-        return arrBytesStr;
+        return ByteString.copyFrom(dataByteArr.data, dataByteArr.offset, cntBytes);
     }
 
     /**
@@ -802,16 +1016,37 @@ public class Epics {
      * @see ByteString
      */
     public static ByteString toByteString(PVUByteArray pvarrUByte) {
+        return Epics.toByteString(pvarrUByte, false);
+    }
+
+    /**
+     * <p>
+     * Converts an EPICS <code>PVUByteArray</code> to a Protobuf <code>ByteString</code> instance, optionally without copying.
+     * </p>
+     * <p>
+     * If <code>bolShared</code> is <code>true</code> the caller transfers ownership of the argument data, that is,
+     * the argument must not be modified afterwards, and the returned byte string wraps the PVData array.
+     * Otherwise the data bytes are copied.
+     * </p>
+     * 
+     * @param pvarrUByte EPICS data structure
+     * @param bolShared  the returned byte string may reference the argument's data array
+     * 
+     * @return instance of <code>ByteString</code> whose values are extracted from the argument
+     * 
+     * @see ByteString
+     */
+    public static ByteString toByteString(PVUByteArray pvarrUByte, boolean bolShared) {
         
         // Get the argument data
         ByteArrayData   dataByteArr = new ByteArrayData();
-        pvarrUByte.get(0, pvarrUByte.getLength(), dataByteArr);
+        int             cntBytes = pvarrUByte.get(0, pvarrUByte.getLength(), dataByteArr);
 
         // Pack the byte string
-        byte[]          arrBytesRaw = dataByteArr.data;
-        ByteString      arrBytesStr = ByteString.copyFrom(arrBytesRaw);
+        if (bolShared)
+            return UnsafeByteOperations.unsafeWrap(dataByteArr.data, dataByteArr.offset, cntBytes);
         
-        return arrBytesStr;
+        return ByteString.copyFrom(dataByteArr.data, dataByteArr.offset, cntBytes);
     }
 
     /**
@@ -991,6 +1226,50 @@ public class Epics {
     // Private Methods
     //
     
+    /**
+     * <p>
+     * Returns the (uncopied) PVData byte array holding the image data of an NTNDArray compatible argument.
+     * </p>
+     * 
+     * @param pvsNdArray an <code>NTNDArray</code> compatible structure
+     * 
+     * @return the PVData byte array of the argument image data along with offset and length
+     * 
+     * @throws IllegalArgumentException the argument was not <code>NTNDArray</code> compatible, or contained no byte data
+     */
+    private static ByteExtent extractArrayBytes(PVStructure pvsNdArray) throws IllegalArgumentException {
+        
+        // Check for NT array compatibility
+        NTNDArray ntNdArray = NTNDArray.wrap(pvsNdArray);
+        if (ntNdArray == null)
+            throw new IllegalArgumentException("Epics#extractArrayBytes(PVStructure) - argument was incompatible with NTNDArray");
+        
+        // Extract the raw data from the value union
+        PVField         pvfData = ntNdArray.getValue().get();
+        ByteArrayData   baData = new ByteArrayData();
+        int             cntBytes;
+        
+        if (pvfData instanceof PVByteArray pvbaData)
+            cntBytes = pvbaData.get(0, pvbaData.getLength(), baData);
+        else if (pvfData instanceof PVUByteArray pvubaData)
+            cntBytes = pvubaData.get(0, pvubaData.getLength(), baData);
+        else
+            throw new IllegalArgumentException("Epics#extractArrayBytes(PVStructure) - NTNDArray value was not a byte array: " 
+                        + (pvfData == null ? "null" : pvfData.getField().getID()));
+        
+        return new ByteExtent(baData.data, baData.offset, cntBytes);
+    }
+    
+    /**
+     * Extent of data bytes within a (shared) PVData byte array.
+     * 
+     * @param arrBytes  the PVData byte array
+     * @param indOffset index of the first data byte
+     * @param cntBytes  number of data bytes
+     */
+    private static record ByteExtent(byte[] arrBytes, int indOffset, int cntBytes) {
+    }
+    
 //    private static String getName(PVStructure variable) {
 //        return variable.getStringField(STR_NT_NAME_LBL).get();
 //    }
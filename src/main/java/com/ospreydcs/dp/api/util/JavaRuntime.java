@@ -27,12 +27,20 @@
  */
 package com.ospreydcs.dp.api.util;
 
+import java.lang.StackWalker.StackFrame;
 import java.util.stream.Stream;
 
 /**
  * <p>
  * Utility class containing miscellaneous Java runtime operations.
  * </p>
+ * <p>
+ * <h2>Call Stack Inspection</h2>
+ * The method and class name operations inspect the call stack with a <code>{@link StackWalker}</code>, which
+ * only visits the top few frames rather than capturing the entire stack trace.  Nevertheless, each invocation
+ * still walks the stack.  For methods executed once per data message use a precomputed 
+ * <code>{@link CallSite}</code> tag instead, which has no runtime cost.
+ * </p>
  *
  * @author Christopher K. Allen
  * @since Jan 3, 2024
@@ -51,6 +59,14 @@ public class JavaRuntime {
     public static final int     INT_STACK_DEPTH_CALLER = 3;
     
     
+    //
+    // Class Resources
+    //
+    
+    /** The stack walker used for call stack inspection (retains class references for {@link #getCallerClassType()}) */
+    private static final StackWalker    SW_CALL_STACK = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    
+    
 
     //
     // Operations
@@ -62,8 +78,7 @@ public class JavaRuntime {
      * @return the fully qualified class name in call stack at depth {@value #INT_STACK_DEPTH_CURR}
      */
     public static String getMethodClassName() {
-        StackTraceElement[] arrStackTrace = Thread.currentThread().getStackTrace();
-        String              strCallerClass = arrStackTrace[INT_STACK_DEPTH_CURR].getClassName();
+        String              strCallerClass = JavaRuntime.stackFrame(INT_STACK_DEPTH_CURR).getClassName();
         
         return strCallerClass;
     }
@@ -74,8 +89,7 @@ public class JavaRuntime {
      * @return the fully qualified class name in call stack at depth {@value #INT_STACK_DEPTH_CALLER}
      */
     public static String getCallerClassName() {
-        StackTraceElement[] arrStackTrace = Thread.currentThread().getStackTrace();
-        String              strCallerClass = arrStackTrace[INT_STACK_DEPTH_CALLER].getClassName();
+        String              strCallerClass = JavaRuntime.stackFrame(INT_STACK_DEPTH_CALLER).getClassName();
         
         return strCallerClass;
     }
@@ -86,10 +100,7 @@ public class JavaRuntime {
      * @return  the class type in the call stack at depth {@value #INT_STACK_DEPTH_CALLER}
      */
     public static Class<?>  getCallerClassType() {
-        StackTraceElement[] arrStackTrace = Thread.currentThread().getStackTrace();
-        StackTraceElement   lvlStackTrace = arrStackTrace[INT_STACK_DEPTH_CALLER];
-        
-        Class<?> clsCaller = lvlStackTrace.getClass();
+        Class<?> clsCaller = JavaRuntime.stackFrame(INT_STACK_DEPTH_CALLER).getDeclaringClass();
         
         return clsCaller;
     }
@@ -100,8 +111,7 @@ public class JavaRuntime {
      * @return the fully qualified class name in call stack at depth {@value #INT_STACK_DEPTH_CURR}
      */
     public static String getMethodClassNameSimple() {
-        StackTraceElement[] arrStackTrace = Thread.currentThread().getStackTrace();
-        String              strCallerClass = arrStackTrace[INT_STACK_DEPTH_CURR].getClassName();
+        String              strCallerClass = JavaRuntime.stackFrame(INT_STACK_DEPTH_CURR).getClassName();
         
         int                 indNameSimple = strCallerClass.lastIndexOf('.');
         String              strNameSimple = strCallerClass.substring(indNameSimple + 1);
@@ -115,8 +125,7 @@ public class JavaRuntime {
      * @return the fully qualified class name in call stack at depth {@value #INT_STACK_DEPTH_CALLER}
      */
     public static String getCallerClassNameSimple() {
-        StackTraceElement[] arrStackTrace = Thread.currentThread().getStackTrace();
-        String              strCallerClass = arrStackTrace[INT_STACK_DEPTH_CALLER].getClassName();
+        String              strCallerClass = JavaRuntime.stackFrame(INT_STACK_DEPTH_CALLER).getClassName();
         
         int                 indNameSimple = strCallerClass.lastIndexOf('.');
         String              strNameSimple = strCallerClass.substring(indNameSimple + 1);
@@ -130,8 +139,7 @@ public class JavaRuntime {
      * @return 2nd method name in call stack
      */
     public static String getMethodName() {
-        StackTraceElement[] arrStackTrace = Thread.currentThread().getStackTrace();
-        String              strCallerName = arrStackTrace[INT_STACK_DEPTH_CURR].getMethodName();
+        String              strCallerName = JavaRuntime.stackFrame(INT_STACK_DEPTH_CURR).getMethodName();
         
         return strCallerName;
     }
@@ -142,8 +150,7 @@ public class JavaRuntime {
      * @return 1st method name in call stack
      */
     public static String getCallerName() {
-        StackTraceElement[] arrStackTrace = Thread.currentThread().getStackTrace();
-        String              strCallerName = arrStackTrace[INT_STACK_DEPTH_CALLER].getMethodName();
+        String              strCallerName = JavaRuntime.stackFrame(INT_STACK_DEPTH_CALLER).getMethodName();
         
         return strCallerName;
     }
@@ -164,9 +171,9 @@ public class JavaRuntime {
      * @return fully qualified method name 
      */
     public static String getQualifiedMethodName() {
-        StackTraceElement[] arrStackTrace = Thread.currentThread().getStackTrace();
-        String              strClsName = arrStackTrace[INT_STACK_DEPTH_CURR].getClassName();
-        String              strMthName = arrStackTrace[INT_STACK_DEPTH_CURR].getMethodName();
+        StackFrame          frmStack = JavaRuntime.stackFrame(INT_STACK_DEPTH_CURR);
+        String              strClsName = frmStack.getClassName();
+        String              strMthName = frmStack.getMethodName();
         
         String              strQulName = strClsName + "#" + strMthName;
         
@@ -189,9 +196,9 @@ public class JavaRuntime {
      * @return fully qualified method name of the caller
      */
     public static String getQualifiedCallerName() {
-        StackTraceElement[] arrStackTrace = Thread.currentThread().getStackTrace();
-        String              strClsName = arrStackTrace[INT_STACK_DEPTH_CALLER].getClassName();
-        String              strMthName = arrStackTrace[INT_STACK_DEPTH_CALLER].getMethodName();
+        StackFrame          frmStack = JavaRuntime.stackFrame(INT_STACK_DEPTH_CALLER);
+        String              strClsName = frmStack.getClassName();
+        String              strMthName = frmStack.getMethodName();
         
         String              strQulName = strClsName + "#" + strMthName;
         
@@ -214,9 +221,9 @@ public class JavaRuntime {
      * @return simple qualified method name of the caller
      */
     public static String getQualifiedMethodNameSimple() {
-        StackTraceElement[] arrStackTrace = Thread.currentThread().getStackTrace();
-        String              strClsName = arrStackTrace[INT_STACK_DEPTH_CURR].getClassName();
-        String              strMthName = arrStackTrace[INT_STACK_DEPTH_CURR].getMethodName();
+        StackFrame          frmStack = JavaRuntime.stackFrame(INT_STACK_DEPTH_CURR);
+        String              strClsName = frmStack.getClassName();
+        String              strMthName = frmStack.getMethodName();
         
         int                 indClsNameSimple = strClsName.lastIndexOf('.');
         String              strClsNameSimple = strClsName.substring(indClsNameSimple + 1);
@@ -242,9 +249,9 @@ public class JavaRuntime {
      * @return simple qualified method name of the caller
      */
     public static String getQualifiedCallerNameSimple() {
-        StackTraceElement[] arrStackTrace = Thread.currentThread().getStackTrace();
-        String              strClsName = arrStackTrace[INT_STACK_DEPTH_CALLER].getClassName();
-        String              strMthName = arrStackTrace[INT_STACK_DEPTH_CALLER].getMethodName();
+        StackFrame          frmStack = JavaRuntime.stackFrame(INT_STACK_DEPTH_CALLER);
+        String              strClsName = frmStack.getClassName();
+        String              strMthName = frmStack.getMethodName();
         
         int                 indClsNameSimple = strClsName.lastIndexOf('.');
         String              strClsNameSimple = strClsName.substring(indClsNameSimple + 1);
@@ -299,6 +306,26 @@ public class JavaRuntime {
     // Private Methods
     //
     
+    /**
+     * <p>
+     * Returns the call stack frame at the given depth.
+     * </p>
+     * <p>
+     * Depth 0 is this method, depth 1 is the <code>JavaRuntime</code> operation calling this method, and so on.
+     * Only the frames up to the given depth are visited.
+     * </p>
+     * 
+     * @param intDepth  call stack depth of the frame (relative to this method)
+     * 
+     * @return  the call stack frame at the given depth
+     * 
+     * @throws IllegalStateException    the call stack is not that deep
+     */
+    private static StackFrame   stackFrame(int intDepth) throws IllegalStateException {
+        return SW_CALL_STACK.walk(s -> s.skip(intDepth).findFirst())
+                .orElseThrow(() -> new IllegalStateException("Call stack depth less than " + intDepth));
+    }
+    
     /**
      * <p>
      * Prevent construction of <code>JavaRuntime</code> instances.
@@ -0,0 +1,310 @@
+/*
+ * Project: dp-api-common
+ * File:	LongHistogram.java
+ * Package: com.ospreydcs.dp.api.util
+ * Type: 	LongHistogram
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.util;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Fixed-size histogram of non-negative <code>long</code> values with log-linear buckets.
+ * </p>
+ * <p>
+ * The bucket layout follows that of HDR histograms with <i>b</i> bits of precision.  Values below
+ * 2<sup><i>b</i></sup> each have their own bucket, above that every power-of-two interval
+ * [2<sup><i>k</i></sup>, 2<sup><i>k</i>+1</sup>) is divided into 2<sup><i>b</i>-1</sup> linear sub-buckets.
+ * Percentiles are thus resolved to within a relative error of 2<sup>1-<i>b</i></sup>, and the histogram has
+ * constant size regardless of the number of recorded values.
+ * </p>
+ * <p>
+ * The default precision of one bit yields power-of-two buckets: bucket <i>k</i> > 0 contains values in the
+ * interval [2<sup><i>k</i>-1</sup>, 2<sup><i>k</i></sup>), bucket 0 contains the value zero (and clipped
+ * negative values), and percentiles are resolved to within a factor of two.
+ * </p>
+ * <p>
+ * <h2>Thread Safety</h2>
+ * Instances are not thread safe.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public final class LongHistogram {
+
+
+    //
+    // Class Constants
+    //
+
+    /** Number of histogram buckets at the default (one bit) precision */
+    public static final int     CNT_BUCKETS = Long.SIZE + 1;
+
+    /** Maximum number of precision bits */
+    public static final int     CNT_PRECISION_BITS_MAX = 16;
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** Number of bits of precision within each power-of-two interval */
+    private final int       cntPrecBits;
+
+    /** Number of buckets with unit width (i.e., below the first sub-divided interval) */
+    private final int       cntSubBuckets;
+
+    /** Number of sub-buckets within each sub-divided power-of-two interval */
+    private final int       cntHalfBuckets;
+
+
+    //
+    // State Variables
+    //
+
+    /** The bucket counts */
+    private final long[]    arrCounts;
+
+    /** Number of recorded values */
+    private long    cntValues = 0;
+
+    /** Sum of recorded values */
+    private long    lngSum = 0;
+
+    /** Minimum recorded value */
+    private long    lngMin = Long.MAX_VALUE;
+
+    /** Maximum recorded value */
+    private long    lngMax = Long.MIN_VALUE;
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * Constructs a new, empty histogram with power-of-two buckets.
+     */
+    public LongHistogram() {
+        this(1);
+    }
+
+    /**
+     * Constructs a new, empty histogram with the given precision.
+     *
+     * @param cntPrecBits   number of bits of precision within each power-of-two interval
+     *
+     * @throws IllegalArgumentException the precision is outside [1, <code>{@link #CNT_PRECISION_BITS_MAX}</code>]
+     */
+    public LongHistogram(int cntPrecBits) throws IllegalArgumentException {
+        if (cntPrecBits < 1 || cntPrecBits > CNT_PRECISION_BITS_MAX)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Precision bits out of range: " + cntPrecBits);
+
+        this.cntPrecBits = cntPrecBits;
+        this.cntSubBuckets = 1 << cntPrecBits;
+        this.cntHalfBuckets = this.cntSubBuckets / 2;
+        this.arrCounts = new long[this.cntSubBuckets + (Long.SIZE - cntPrecBits) * this.cntHalfBuckets];
+    }
+
+
+    //
+    // State Inquiry
+    //
+
+    /**
+     * @return  the number of bits of precision within each power-of-two interval
+     */
+    public int getPrecisionBits() {
+        return this.cntPrecBits;
+    }
+
+    /**
+     * @return  the number of histogram buckets
+     */
+    public int getBucketTotal() {
+        return this.arrCounts.length;
+    }
+
+    /**
+     * @return  the number of recorded values
+     */
+    public long getCount() {
+        return this.cntValues;
+    }
+
+    /**
+     * @return  the sum of all recorded values
+     */
+    public long getSum() {
+        return this.lngSum;
+    }
+
+    /**
+     * @return  the minimum recorded value, or 0 if empty
+     */
+    public long getMin() {
+        return (this.cntValues == 0) ? 0L : this.lngMin;
+    }
+
+    /**
+     * @return  the maximum recorded value, or 0 if empty
+     */
+    public long getMax() {
+        return (this.cntValues == 0) ? 0L : this.lngMax;
+    }
+
+    /**
+     * @return  the mean of the recorded values, or 0 if empty
+     */
+    public double getMean() {
+        return (this.cntValues == 0) ? 0.0 : (double)this.lngSum / this.cntValues;
+    }
+
+    /**
+     * @param index bucket index in [0, <code>{@link #getBucketTotal()}</code>)
+     *
+     * @return  the number of values recorded within the given bucket
+     */
+    public long getBucketCount(int index) {
+        return this.arrCounts[index];
+    }
+
+    /**
+     * <p>
+     * Returns an upper estimate of the given percentile.
+     * </p>
+     * <p>
+     * The returned value is the upper limit of the bucket containing the percentile, clipped to the
+     * maximum recorded value.
+     * </p>
+     *
+     * @param dblPercent    percentile in the range [0, 100]
+     *
+     * @return  estimate of the given percentile, or 0 if empty
+     */
+    public long getPercentile(double dblPercent) {
+        if (this.cntValues == 0)
+            return 0L;
+
+        long    cntTarget = (long)Math.ceil(this.cntValues * Math.min(Math.max(dblPercent, 0.0), 100.0) / 100.0);
+        long    cntAccum = 0;
+
+        for (int k=0; k<this.arrCounts.length; k++) {
+            cntAccum += this.arrCounts[k];
+
+            if (cntAccum >= cntTarget && cntAccum > 0)
+                return Math.min(this.upperLimit(k), this.lngMax);
+        }
+
+        return this.lngMax;
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * Records the given value (negative values are clipped to zero).
+     *
+     * @param lngVal    value to record
+     */
+    public void record(long lngVal) {
+        lngVal = Math.max(lngVal, 0L);
+
+        this.arrCounts[this.bucketIndex(lngVal)]++;
+        this.cntValues++;
+        this.lngSum += lngVal;
+        this.lngMin = Math.min(this.lngMin, lngVal);
+        this.lngMax = Math.max(this.lngMax, lngVal);
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void clear() {
+        Arrays.fill(this.arrCounts, 0L);
+        this.cntValues = 0;
+        this.lngSum = 0;
+        this.lngMin = Long.MAX_VALUE;
+        this.lngMax = Long.MIN_VALUE;
+    }
+
+    /**
+     * @return  a deep copy of this histogram
+     */
+    public LongHistogram copy() {
+        LongHistogram   hist = new LongHistogram(this.cntPrecBits);
+
+        System.arraycopy(this.arrCounts, 0, hist.arrCounts, 0, this.arrCounts.length);
+        hist.cntValues = this.cntValues;
+        hist.lngSum = this.lngSum;
+        hist.lngMin = this.lngMin;
+        hist.lngMax = this.lngMax;
+
+        return hist;
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @param lngVal    non-negative value
+     *
+     * @return  the bucket index of the given value
+     */
+    private int bucketIndex(long lngVal) {
+        if (lngVal < this.cntSubBuckets)
+            return (int)lngVal;
+
+        int     intExp = (Long.SIZE - Long.numberOfLeadingZeros(lngVal)) - this.cntPrecBits;
+        int     intSub = (int)(lngVal >>> intExp);
+
+        return this.cntSubBuckets + (intExp - 1) * this.cntHalfBuckets + (intSub - this.cntHalfBuckets);
+    }
+
+    /**
+     * @param index bucket index
+     *
+     * @return  the largest value (inclusive) contained in the given bucket
+     */
+    private long upperLimit(int index) {
+        if (index < this.cntSubBuckets)
+            return index;
+
+        int     intOffset = index - this.cntSubBuckets;
+        int     intExp = intOffset / this.cntHalfBuckets + 1;
+        long    lngSub = this.cntHalfBuckets + (intOffset % this.cntHalfBuckets);
+
+        if (lngSub + 1L > (Long.MAX_VALUE >>> intExp))
+            return Long.MAX_VALUE;
+
+        return ((lngSub + 1L) << intExp) - 1L;
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Project: dp-api-common
+ * File:	DpAnnotationBatchTest.java
+ * Package: com.ospreydcs.dp.api.annotate.impl
+ * Type: 	DpAnnotationBatchTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.annotate.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.annotate.DpAnnotationBatch;
+import com.ospreydcs.dp.api.annotate.DpAnnotationException;
+import com.ospreydcs.dp.api.annotate.DpCreateDatasetRequest;
+import com.ospreydcs.dp.api.annotate.DpDatasetsRequest;
+import com.ospreydcs.dp.api.common.DatasetUID;
+import com.ospreydcs.dp.api.common.DpDataset;
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.OwnerUID;
+import com.ospreydcs.dp.api.config.DpApiConfig;
+import com.ospreydcs.dp.api.grpc.annotate.DpAnnotationConnection;
+import com.ospreydcs.dp.jal.tools.config.archive.JalTestArchiveConfig;
+import com.ospreydcs.dp.jal.tools.config.archive.JalTestArchivePvsConfig;
+import com.ospreydcs.dp.jal.tools.config.server.JalStandInServerConfig;
+import com.ospreydcs.dp.jal.tools.server.DpStandInServer;
+import com.ospreydcs.dp.jal.tools.server.StandInAnnotationService;
+
+/**
+ * <p>
+ * JUnit test cases for the batch operations of class <code>DpAnnotationServiceApiImpl</code>.
+ * </p>
+ * <p>
+ * The Annotation Service is the in-process stand-in server with a fixed response latency, so that pipelined
+ * batch calls overlap.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class DpAnnotationBatchTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Test archive inception */
+    public static final String      STR_INCEPT = "2023-10-31T15:51:02.000+00:00";
+
+    /** Test archive final sample */
+    public static final String      STR_FINAL = "2023-10-31T15:51:04.999+00:00";
+
+    /** Test archive inception instant */
+    public static final Instant     INS_INCEPT = Instant.parse(STR_INCEPT);
+
+    /** Stand-in server response latency (ms) */
+    public static final long        LNG_LATENCY = 20L;
+
+    /** Number of requests within each batch */
+    public static final int         CNT_BATCH = 40;
+
+    /** Configured maximum number of outstanding batch calls */
+    public static final int         CNT_MAX_OUTSTANDING = DpApiConfig.getInstance().annotation.batch.maxOutstanding;
+
+
+    //
+    // Test Fixture
+    //
+
+    /** The stand-in server */
+    private DpStandInServer             server;
+
+    /** The Annotation Service API under test */
+    private DpAnnotationServiceApiImpl  apiAnnot;
+
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        this.server = DpStandInServer.create(createArchiveConfig(), createServerConfig()).start();
+        this.apiAnnot = DpAnnotationServiceApiImpl.from(DpAnnotationConnection.from(this.server.createChannel()));
+    }
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @After
+    public void tearDown() throws Exception {
+        this.apiAnnot.shutdownNow();
+        this.apiAnnot.awaitTermination(1, TimeUnit.SECONDS);
+        this.server.shutdown();
+    }
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.annotate.impl.DpAnnotationServiceApiImpl#createDatasets(java.util.List)}.
+     */
+    @Test
+    public final void testCreateDatasets() throws DpAnnotationException {
+        DpAnnotationBatch<DatasetUID>   batch = this.apiAnnot.createDatasets(createDatasetRequests(CNT_BATCH));
+
+        List<DatasetUID>    lstUids = batch.awaitResults();
+        StandInAnnotationService    svc = this.server.getAnnotationService();
+
+        Assert.assertEquals(CNT_BATCH, batch.size());
+        Assert.assertEquals(CNT_BATCH, lstUids.size());
+        Assert.assertEquals(CNT_BATCH, lstUids.stream().distinct().count());
+        Assert.assertEquals(0, batch.getFailedCount());
+        Assert.assertEquals(CNT_BATCH, svc.getDataSetCount());
+
+        // Calls were pipelined but bounded
+        Assert.assertTrue("Batch calls not pipelined", svc.getPeakActiveCalls() > 1);
+        Assert.assertTrue("Outstanding calls exceeded bound", svc.getPeakActiveCalls() <= CNT_MAX_OUTSTANDING);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.annotate.impl.DpAnnotationServiceApiImpl#createDatasets(java.util.List)}.
+     */
+    @Test
+    public final void testCreateDatasetsInvalid() throws Exception {
+        List<DpCreateDatasetRequest>    lstRqsts = new ArrayList<>(createDatasetRequests(4));
+
+        lstRqsts.add(1, DpCreateDatasetRequest.from(OwnerUID.from("owner-empty"), "empty-set"));  // no data blocks
+
+        DpAnnotationBatch<DatasetUID>   batch = this.apiAnnot.createDatasets(lstRqsts);
+
+        batch.allResults().handle((lst, e) -> null).get(5, TimeUnit.SECONDS);
+        while (!batch.isDone())
+            Thread.sleep(LNG_LATENCY);
+
+        Assert.assertEquals(1, batch.getFailedCount());
+        Assert.assertTrue(batch.getFuture(1).isCompletedExceptionally());
+        Assert.assertNotNull(batch.getFuture(0).get());
+        Assert.assertNotNull(batch.getFuture(4).get());
+
+        try {
+            batch.getFuture(1).get();
+            Assert.fail("Empty data set did not fail.");
+
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof DpAnnotationException);
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.annotate.impl.DpAnnotationServiceApiImpl#queryDatasets(java.util.List)}.
+     */
+    @Test
+    public final void testQueryDatasets() throws DpAnnotationException {
+        List<DatasetUID>        lstUids = this.apiAnnot.createDatasets(createDatasetRequests(CNT_BATCH)).awaitResults();
+        List<DpDatasetsRequest> lstRqsts = new ArrayList<>();
+
+        for (DatasetUID recUid : lstUids) {
+            DpDatasetsRequest   rqst = DpDatasetsRequest.create();
+
+            rqst.addCriterionUid(recUid);
+            lstRqsts.add(rqst);
+        }
+
+        List<List<DpDataset>>   lstResults = this.apiAnnot.queryDatasets(lstRqsts).awaitResults();
+
+        Assert.assertEquals(CNT_BATCH, lstResults.size());
+        for (int i=0; i<CNT_BATCH; i++) {
+            Assert.assertEquals(1, lstResults.get(i).size());
+            Assert.assertEquals(lstUids.get(i), lstResults.get(i).get(0).datasetUid());
+            Assert.assertEquals("batch-set-" + i, lstResults.get(i).get(0).name());
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.annotate.impl.DpAnnotationServiceApiImpl#createDatasets(java.util.List, java.time.Duration)}.
+     */
+    @Test
+    public final void testCreateDatasetsDeadline() throws Exception {
+        Duration    durDeadline = Duration.ofMillis(LNG_LATENCY / 2);
+
+        DpAnnotationBatch<DatasetUID>   batch = this.apiAnnot.createDatasets(createDatasetRequests(CNT_BATCH), durDeadline);
+
+        batch.allResults().handle((lst, e) -> null).get(5, TimeUnit.SECONDS);
+        while (!batch.isDone())
+            Thread.sleep(LNG_LATENCY);
+
+        Assert.assertEquals(CNT_BATCH, batch.getFailedCount());
+
+        try {
+            batch.awaitResults();
+            Assert.fail("Batch deadline did not expire.");
+
+        } catch (DpAnnotationException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.annotate.DpAnnotationBatch#cancel()}.
+     */
+    @Test
+    public final void testCancel() throws Exception {
+        DpAnnotationBatch<DatasetUID>   batch = this.apiAnnot.createDatasets(createDatasetRequests(CNT_BATCH));
+
+        Thread.sleep(LNG_LATENCY / 2);
+        batch.cancel();
+
+        Assert.assertTrue(batch.isDone());
+        Assert.assertTrue(batch.getFutures().stream().anyMatch(CompletableFuture::isCancelled));
+
+        // Requests following the cancellation are never sent
+        Thread.sleep(5 * LNG_LATENCY);
+        Assert.assertTrue(this.server.getAnnotationService().getCallCount() < CNT_BATCH);
+
+        try {
+            batch.awaitResults();
+            Assert.fail("Cancelled batch returned results.");
+
+        } catch (DpAnnotationException e) {
+            // expected
+        }
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @param cntRqsts  number of requests
+     *
+     * @return  data set creation requests, each for a single PV of the test archive with a distinct owner
+     */
+    private static List<DpCreateDatasetRequest> createDatasetRequests(int cntRqsts) {
+        List<DpCreateDatasetRequest>    lstRqsts = new ArrayList<>(cntRqsts);
+
+        for (int i=0; i<cntRqsts; i++) {
+            DpCreateDatasetRequest  rqst = DpCreateDatasetRequest.from(OwnerUID.from("owner-" + i), "batch-set-" + i);
+
+            rqst.addDomain(List.of("dpTest_" + (1 + i % 10)), INS_INCEPT, INS_INCEPT.plusSeconds(1));
+            lstRqsts.add(rqst);
+        }
+
+        return lstRqsts;
+    }
+
+    /**
+     * @return  configuration of a 10 PV test archive sampled at 1 ms for 3 seconds
+     */
+    private static JalTestArchiveConfig createArchiveConfig() {
+        JalTestArchiveConfig    cfg = new JalTestArchiveConfig();
+
+        cfg.range = new JalTestArchiveConfig.SampleRange();
+        cfg.range.start = STR_INCEPT;
+        cfg.range.end = STR_FINAL;
+
+        cfg.pvs = new JalTestArchivePvsConfig();
+        cfg.pvs.prefix = "dpTest_";
+        cfg.pvs.types = List.of(DpSupportedType.DOUBLE);
+        cfg.pvs.clock = new JalTestArchivePvsConfig.SampleClock();
+        cfg.pvs.clock.period = 1L;
+        cfg.pvs.clock.units = TimeUnit.MILLISECONDS;
+        cfg.pvs.count = new JalTestArchivePvsConfig.PvTmsCounts();
+        cfg.pvs.count.total = 10;
+        cfg.pvs.count.clocked = 8;
+        cfg.pvs.count.tmsList = 2;
+        cfg.pvs.indexes = new JalTestArchivePvsConfig.PvTmsIndexes();
+        cfg.pvs.indexes.clocked = 0;
+        cfg.pvs.indexes.tmsList = 8;
+
+        return cfg;
+    }
+
+    /**
+     * @return  configuration of an in-process server with fixed response latency
+     */
+    private static JalStandInServerConfig createServerConfig() {
+        JalStandInServerConfig  cfg = new JalStandInServerConfig();
+
+        cfg.name = "dp-stand-in-batch-test";
+        cfg.port = 0;
+        cfg.pageSize = 1;
+        cfg.bandwidth = 0L;
+        cfg.bucket = new JalStandInServerConfig.Period();
+        cfg.bucket.period = 1L;
+        cfg.bucket.units = TimeUnit.SECONDS;
+        cfg.latency = new JalStandInServerConfig.Period();
+        cfg.latency.period = LNG_LATENCY;
+        cfg.latency.units = TimeUnit.MILLISECONDS;
+
+        return cfg;
+    }
+}
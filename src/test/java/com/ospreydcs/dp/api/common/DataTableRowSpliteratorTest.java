@@ -0,0 +1,176 @@
+/*
+ * Project: dp-api-common
+ * File:	DataTableRowSpliteratorTest.java
+ * Package: com.ospreydcs.dp.api.common
+ * Type: 	DataTableRowSpliteratorTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.common;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.model.table.PrimitiveArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.StaticDataTable;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>DataTableRowSpliterator</code> and the default <code>IDataTable</code>
+ * scanning operations.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class DataTableRowSpliteratorTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Number of rows in the test table */
+    public static final int     CNT_ROWS = 10 * DataTableRowSpliterator.SZ_SPLIT_MIN + 17;
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.IDataTable#cursor(int, int)}.
+     * <p>
+     * The cursor visits each row of its range once, reusing the same row view.
+     */
+    @Test
+    public final void testCursor() {
+        IDataTable          tbl = table(CNT_ROWS);
+        IDataTableCursor    csr = tbl.cursor(5, 9);
+
+        Assert.assertEquals(4, csr.remaining());
+
+        List<Object[]>  lstRows = new ArrayList<>();
+        while (csr.next()) {
+            Assert.assertEquals(tbl.getTimestamps().get(csr.getRowIndex()), csr.getTimestamp());
+            lstRows.add(csr.toArray());
+        }
+
+        Assert.assertEquals(0, csr.remaining());
+        Assert.assertFalse(csr.next());
+        Assert.assertEquals(4, lstRows.size());
+        Assert.assertArrayEquals(new Object[] { 5, 10L }, lstRows.get(0));
+        Assert.assertArrayEquals(new Object[] { 8, 16L }, lstRows.get(3));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.IDataTable#cursor(int, int)}.
+     */
+    @Test(expected=IndexOutOfBoundsException.class)
+    public final void testCursorRange() {
+        table(10).cursor(2, 11);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.IDataTable#rowStream()}.
+     * <p>
+     * Sequential and parallel streams visit every row once.
+     */
+    @Test
+    public final void testRowStream() {
+        IDataTable  tbl = table(CNT_ROWS);
+        long        lngSum = (long)CNT_ROWS * (CNT_ROWS - 1);
+
+        Assert.assertEquals(CNT_ROWS, tbl.rowStream().count());
+        Assert.assertEquals(lngSum, tbl.rowStream().mapToLong(row -> (Long)row.getValue(1)).sum());
+        Assert.assertEquals(lngSum, tbl.rowStream().parallel().mapToLong(row -> (Long)row.getValue(1)).sum());
+        Assert.assertEquals(lngSum / 2, tbl.rowStream().parallel().mapToLong(IDataTableRow::getRowIndex).sum());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.DataTableRowSpliterator#trySplit()}.
+     * <p>
+     * Splits are made at the boundary nearest the midpoint, otherwise at the midpoint.
+     */
+    @Test
+    public final void testTrySplit() {
+        IDataTable  tbl = table(CNT_ROWS);
+        int[]       arrBnds = { 0, 3000, 4500, 9000 };
+
+        Spliterator<IDataTableRow>  spltSuffix = new DataTableRowSpliterator(tbl, 0, CNT_ROWS, arrBnds);
+        Spliterator<IDataTableRow>  spltPrefix = spltSuffix.trySplit();
+
+        Assert.assertEquals(4500, spltPrefix.estimateSize());
+        Assert.assertEquals(CNT_ROWS - 4500, spltSuffix.estimateSize());
+        Assert.assertTrue(spltSuffix.hasCharacteristics(Spliterator.SUBSIZED));
+
+        // No boundary within the range - split at the midpoint
+        Spliterator<IDataTableRow>  spltMid = new DataTableRowSpliterator(tbl, 0, 4000, new int[0]);
+        Assert.assertEquals(2000, spltMid.trySplit().estimateSize());
+
+        // Too small to split
+        Assert.assertNull(new DataTableRowSpliterator(tbl, 0, DataTableRowSpliterator.SZ_SPLIT_MIN, arrBnds).trySplit());
+
+        // No split once traversal begins
+        Assert.assertTrue(spltSuffix.tryAdvance(row -> Assert.assertEquals(4500, row.getRowIndex())));
+        Assert.assertNull(spltSuffix.trySplit());
+        Assert.assertEquals(CNT_ROWS - 4501, spltSuffix.estimateSize());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.IDataTable#columnStream()}.
+     */
+    @Test
+    public final void testColumnStream() {
+        IDataTable  tbl = table(10);
+
+        Assert.assertEquals(List.of("int", "lng"), tbl.columnStream().map(IDataColumn::getName).toList());
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @param cntRows   number of table rows
+     *
+     * @return  a table with columns "int" (row index) and "lng" (twice the row index)
+     */
+    private static IDataTable   table(int cntRows) {
+        int[]       arrInts = IntStream.range(0, cntRows).toArray();
+        long[]      arrLngs = IntStream.range(0, cntRows).asLongStream().map(l -> 2 * l).toArray();
+
+        List<IDataColumn<Object>>   lstCols = List.of(
+                PrimitiveArrayDataColumn.from("int", arrInts, cntRows),
+                PrimitiveArrayDataColumn.from("lng", arrLngs, cntRows));
+        List<Instant>   lstTms = IntStream.range(0, cntRows).mapToObj(Instant::ofEpochSecond).toList();
+
+        return new StaticDataTable(lstTms, new ArrayList<>(lstCols));
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Project: dp-api-common
+ * File:	TimeIntervalIndexTest.java
+ * Package: com.ospreydcs.dp.api.common
+ * Type: 	TimeIntervalIndexTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.common;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>TimeIntervalIndex</code>.
+ * </p>
+ * <p>
+ * Intervals are given in whole seconds from the epoch for readability.  The indexed values are
+ * the interval labels.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class TimeIntervalIndexTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Seed for the randomized test cases */
+    public static final long    LNG_SEED = 20261018L;
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.TimeIntervalIndex#insert(com.ospreydcs.dp.api.common.TimeInterval, java.lang.Object)}.
+     * <p>
+     * Values are iterated by interval beginning, then insertion order.
+     */
+    @Test
+    public final void testInsertOrdering() {
+        TimeIntervalIndex<String>   idx = TimeIntervalIndex.create();
+
+        Assert.assertTrue(idx.isEmpty());
+
+        for (int i=99; i>=0; i--)
+            idx.insert(tvl(i, i+1), "v" + i);
+        idx.insert(tvl(50, 51), "w50");
+
+        Assert.assertEquals(101, idx.size());
+
+        List<String>    lstVals = idx.values();
+        Assert.assertEquals("v0", lstVals.get(0));
+        Assert.assertEquals(List.of("v50", "w50"), lstVals.subList(50, 52));
+        Assert.assertEquals("v99", lstVals.get(100));
+
+        try {
+            idx.insert(null, "bogus");
+            Assert.fail("Null time domain was accepted");
+
+        } catch (IllegalArgumentException e) {
+        }
+
+        idx.clear();
+        Assert.assertTrue(idx.values().isEmpty());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.TimeIntervalIndex#stab(java.time.Instant)} and
+     * {@link com.ospreydcs.dp.api.common.TimeIntervalIndex#stab(com.ospreydcs.dp.api.common.TimeInterval)}.
+     * <p>
+     * Closed intervals - shared endpoints intersect.
+     */
+    @Test
+    public final void testStab() {
+        TimeIntervalIndex<String>   idx = this.createIndex(List.of(tvl(10, 20), tvl(0, 100), tvl(15, 30), tvl(30, 40), tvl(50, 60)));
+
+        Assert.assertEquals(List.of("[0,100]", "[10,20]", "[15,30]"), idx.stab(ins(15)));
+        Assert.assertEquals(List.of("[0,100]", "[15,30]", "[30,40]"), idx.stab(ins(30)));
+        Assert.assertEquals(List.of("[0,100]"), idx.stab(ins(45)));
+        Assert.assertTrue(idx.stab(ins(101)).isEmpty());
+
+        Assert.assertEquals(List.of("[0,100]", "[30,40]", "[50,60]"), idx.stab(tvl(35, 50)));
+        Assert.assertEquals(List.of("[0,100]", "[10,20]"), idx.stab(tvl(1, 10)));
+        Assert.assertTrue(idx.stab(tvl(200, 300)).isEmpty());
+        Assert.assertTrue(idx.stab(TimeInterval.EMPTY).isEmpty());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.TimeIntervalIndex#components()} and
+     * {@link com.ospreydcs.dp.api.common.TimeIntervalIndex#hasOverlaps()}.
+     */
+    @Test
+    public final void testComponents() {
+        TimeIntervalIndex<String>   idx = this.createIndex(List.of(tvl(40, 45), tvl(0, 5), tvl(20, 30), tvl(5, 8), tvl(9, 10), tvl(22, 24), tvl(29, 35)));
+
+        Assert.assertEquals(List.of(
+                List.of("[0,5]", "[5,8]"),
+                List.of("[9,10]"),
+                List.of("[20,30]", "[22,24]", "[29,35]"),
+                List.of("[40,45]")),
+                idx.components());
+        Assert.assertTrue(idx.hasOverlaps());
+
+        TimeIntervalIndex<String>   idxDisj = this.createIndex(List.of(tvl(20, 30), tvl(0, 10), tvl(11, 19)));
+
+        Assert.assertFalse(idxDisj.hasOverlaps());
+        Assert.assertEquals(3, idxDisj.components().size());
+        Assert.assertTrue(TimeIntervalIndex.create().components().isEmpty());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.TimeIntervalIndex#stab(com.ospreydcs.dp.api.common.TimeInterval)} and
+     * {@link com.ospreydcs.dp.api.common.TimeIntervalIndex#components()}.
+     * <p>
+     * Random intervals - results agree with pairwise comparison.
+     */
+    @Test
+    public final void testRandomAgreement() {
+        Random  rnd = new Random(LNG_SEED);
+
+        for (int cntTrial=0; cntTrial<100; cntTrial++) {
+            List<TimeInterval>  lstTvls = new ArrayList<>();
+
+            for (int i=0; i<1 + rnd.nextInt(60); i++) {
+                int     intBeg = rnd.nextInt(500);
+
+                lstTvls.add(tvl(intBeg, intBeg + rnd.nextInt(30)));
+            }
+
+            TimeIntervalIndex<TimeInterval> idx = TimeIntervalIndex.from(lstTvls, tvl -> tvl);
+
+            // Stabbing queries against brute force
+            for (int cntQuery=0; cntQuery<20; cntQuery++) {
+                int             intBeg = rnd.nextInt(520);
+                TimeInterval    tvlQuery = tvl(intBeg, intBeg + rnd.nextInt(10));
+
+                List<TimeInterval>  lstExp = lstTvls.stream()
+                        .filter(tvl -> tvl.hasIntersectionClosed(tvlQuery))
+                        .sorted(TimeInterval.comparatorBegin())
+                        .toList();
+
+                Assert.assertEquals(lstExp.stream().map(TimeInterval::begin).toList(), idx.stab(tvlQuery).stream().map(TimeInterval::begin).toList());
+                Assert.assertEquals(lstExp.size(), idx.stab(tvlQuery).size());
+            }
+
+            // Components cover everything, are mutually disjoint, and are internally connected
+            List<List<TimeInterval>>    lstComps = idx.components();
+
+            Assert.assertEquals(lstTvls.size(), lstComps.stream().mapToInt(List::size).sum());
+            for (int m=0; m<lstComps.size(); m++) {
+                for (int n=m+1; n<lstComps.size(); n++)
+                    for (TimeInterval tvl1 : lstComps.get(m))
+                        for (TimeInterval tvl2 : lstComps.get(n))
+                            Assert.assertFalse(tvl1.hasIntersectionClosed(tvl2));
+
+                List<TimeInterval>  lstComp = lstComps.get(m);
+                for (int i=1; i<lstComp.size(); i++) {
+                    TimeInterval    tvlCurr = lstComp.get(i);
+
+                    Assert.assertTrue(lstComp.subList(0, i).stream().anyMatch(tvl -> tvl.hasIntersectionClosed(tvlCurr)));
+                }
+            }
+
+            Assert.assertEquals(lstComps.stream().anyMatch(lst -> lst.size() > 1), idx.hasOverlaps());
+        }
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @param lstTvls   intervals to index
+     *
+     * @return  an index of the given intervals labeled by their endpoints (seconds)
+     */
+    private TimeIntervalIndex<String>   createIndex(List<TimeInterval> lstTvls) {
+        return TimeIntervalIndex.from(lstTvls.stream().map(TimeIntervalIndexTest::label).collect(Collectors.toList()), TimeIntervalIndexTest::parse);
+    }
+
+    /**
+     * @param tvl   time interval with whole second endpoints
+     *
+     * @return  the interval label "[begin,end]" in seconds
+     */
+    private static String   label(TimeInterval tvl) {
+        return "[" + tvl.begin().getEpochSecond() + "," + tvl.end().getEpochSecond() + "]";
+    }
+
+    /**
+     * @param strLabel  interval label "[begin,end]" in seconds
+     *
+     * @return  the labeled time interval
+     */
+    private static TimeInterval parse(String strLabel) {
+        String[]    arrSecs = strLabel.substring(1, strLabel.length() - 1).split(",");
+
+        return tvl(Long.parseLong(arrSecs[0]), Long.parseLong(arrSecs[1]));
+    }
+
+    /**
+     * @param lngSecs   seconds from the epoch
+     *
+     * @return  the instant the given seconds after the epoch
+     */
+    private static Instant  ins(long lngSecs) {
+        return Instant.ofEpochSecond(lngSecs);
+    }
+
+    /**
+     * @param lngBeg    interval beginning (seconds from the epoch)
+     * @param lngEnd    interval end (seconds from the epoch)
+     *
+     * @return  the time interval between the given seconds
+     */
+    private static TimeInterval tvl(long lngBeg, long lngEnd) {
+        return TimeInterval.from(ins(lngBeg), ins(lngEnd));
+    }
+}
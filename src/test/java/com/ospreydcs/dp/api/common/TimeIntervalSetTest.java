@@ -0,0 +1,243 @@
+/*
+ * Project: dp-api-common
+ * File:	TimeIntervalSetTest.java
+ * Package: com.ospreydcs.dp.api.common
+ * Type: 	TimeIntervalSetTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.common;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>TimeIntervalSet</code>.
+ * </p>
+ * <p>
+ * Intervals are given in whole seconds from the epoch for readability.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class TimeIntervalSetTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Seed for the randomized test cases */
+    public static final long    LNG_SEED = 20261018L;
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.TimeIntervalSet#add(com.ospreydcs.dp.api.common.TimeInterval)}.
+     * <p>
+     * Overlapping intervals are merged into their union; touching intervals remain distinct.
+     */
+    @Test
+    public final void testAddMerge() {
+        TimeIntervalSet set = new TimeIntervalSet();
+
+        Assert.assertTrue(set.add(tvl(10, 20)));
+        Assert.assertTrue(set.add(tvl(30, 40)));
+        Assert.assertTrue(set.add(tvl(40, 50)));
+        Assert.assertEquals(List.of(tvl(10, 20), tvl(30, 40), tvl(40, 50)), List.copyOf(set));
+
+        // Overlap on the left only
+        Assert.assertTrue(set.add(tvl(5, 12)));
+        Assert.assertEquals(List.of(tvl(5, 20), tvl(30, 40), tvl(40, 50)), List.copyOf(set));
+
+        // Bridges several members
+        Assert.assertTrue(set.add(tvl(15, 45)));
+        Assert.assertEquals(List.of(tvl(5, 50)), List.copyOf(set));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.TimeIntervalSet#add(com.ospreydcs.dp.api.common.TimeInterval)}.
+     * <p>
+     * Intervals covered by a member leave the set unchanged; intervals with a common beginning are merged.
+     */
+    @Test
+    public final void testAddContainedAndCommonBegin() {
+        TimeIntervalSet set = new TimeIntervalSet(List.of(tvl(10, 20)));
+
+        Assert.assertFalse(set.add(tvl(12, 18)));
+        Assert.assertFalse(set.add(tvl(10, 20)));
+        Assert.assertEquals(List.of(tvl(10, 20)), List.copyOf(set));
+
+        Assert.assertTrue(set.add(tvl(10, 25)));
+        Assert.assertEquals(List.of(tvl(10, 25)), List.copyOf(set));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.TimeIntervalSet#addAll(java.util.Collection)}.
+     * <p>
+     * Unordered bulk insertion produces the same set as individual insertion.
+     */
+    @Test
+    public final void testAddAllSweep() {
+        List<TimeInterval>  lstTvls = List.of(tvl(40, 50), tvl(0, 5), tvl(3, 8), tvl(20, 30), tvl(8, 10), tvl(25, 35));
+        TimeIntervalSet     set = new TimeIntervalSet();
+
+        Assert.assertTrue(set.addAll(lstTvls));
+        Assert.assertEquals(List.of(tvl(0, 8), tvl(8, 10), tvl(20, 35), tvl(40, 50)), List.copyOf(set));
+
+        Assert.assertFalse(set.addAll(List.of(tvl(1, 2), tvl(21, 34))));
+        Assert.assertFalse(set.addAll(List.of()));
+        Assert.assertTrue(set.addAll(List.of(tvl(9, 21))));
+        Assert.assertEquals(List.of(tvl(0, 8), tvl(8, 35), tvl(40, 50)), List.copyOf(set));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.TimeIntervalSet#add(com.ospreydcs.dp.api.common.TimeInterval)} and
+     * {@link com.ospreydcs.dp.api.common.TimeIntervalSet#addAll(java.util.Collection)}.
+     * <p>
+     * Random intervals - both insertion methods agree and the members are ordered and have disjoint interiors
+     * covering exactly the inserted intervals.
+     */
+    @Test
+    public final void testRandomAgreement() {
+        Random  rnd = new Random(LNG_SEED);
+
+        for (int cntTrial=0; cntTrial<200; cntTrial++) {
+            List<TimeInterval>  lstTvls = new ArrayList<>();
+            boolean[]           arrCovered = new boolean[200];
+
+            for (int i=0; i<1 + rnd.nextInt(40); i++) {
+                int     intBeg = rnd.nextInt(180);
+                int     intEnd = intBeg + 1 + rnd.nextInt(20);
+
+                lstTvls.add(tvl(intBeg, intEnd));
+                for (int t=intBeg; t<intEnd; t++)
+                    arrCovered[t] = true;
+            }
+
+            TimeIntervalSet setSingle = new TimeIntervalSet();
+            lstTvls.forEach(setSingle::add);
+
+            TimeIntervalSet setBulk = new TimeIntervalSet(lstTvls);
+
+            Assert.assertEquals(List.copyOf(setSingle), List.copyOf(setBulk));
+
+            // Members are ordered with disjoint interiors
+            TimeInterval    tvlPrev = null;
+            for (TimeInterval tvlMbr : setBulk) {
+                if (tvlPrev != null)
+                    Assert.assertFalse(tvlPrev.end().isAfter(tvlMbr.begin()));
+                tvlPrev = tvlMbr;
+            }
+
+            // Members cover exactly the inserted unit cells
+            for (int t=0; t<arrCovered.length; t++)
+                Assert.assertEquals("cell " + t, arrCovered[t], setBulk.overlaps(tvl(t, t+1)));
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.TimeIntervalSet#overlaps(com.ospreydcs.dp.api.common.TimeInterval)}.
+     */
+    @Test
+    public final void testOverlaps() {
+        TimeIntervalSet set = new TimeIntervalSet(List.of(tvl(10, 20), tvl(30, 40)));
+
+        Assert.assertTrue(set.overlaps(tvl(15, 16)));
+        Assert.assertTrue(set.overlaps(tvl(5, 11)));
+        Assert.assertTrue(set.overlaps(tvl(19, 31)));
+        Assert.assertTrue(set.overlaps(tvl(0, 100)));
+        Assert.assertTrue(set.overlaps(tvl(10, 12)));
+        Assert.assertFalse(set.overlaps(tvl(20, 30)));
+        Assert.assertFalse(set.overlaps(tvl(0, 10)));
+        Assert.assertFalse(set.overlaps(tvl(41, 50)));
+        Assert.assertFalse(new TimeIntervalSet().overlaps(tvl(0, 10)));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.TimeIntervalSet#encloses(com.ospreydcs.dp.api.common.TimeInterval)} and
+     * {@link com.ospreydcs.dp.api.common.TimeIntervalSet#encloses(java.time.Instant)}.
+     */
+    @Test
+    public final void testEncloses() {
+        TimeIntervalSet set = new TimeIntervalSet(List.of(tvl(10, 20), tvl(30, 40)));
+
+        Assert.assertTrue(set.encloses(tvl(10, 20)));
+        Assert.assertTrue(set.encloses(tvl(32, 38)));
+        Assert.assertFalse(set.encloses(tvl(15, 35)));
+        Assert.assertFalse(set.encloses(tvl(5, 15)));
+
+        Assert.assertTrue(set.encloses(ins(10)));
+        Assert.assertTrue(set.encloses(ins(20)));
+        Assert.assertTrue(set.encloses(ins(35)));
+        Assert.assertFalse(set.encloses(ins(25)));
+        Assert.assertFalse(set.encloses(ins(5)));
+        Assert.assertFalse(set.encloses(ins(45)));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.common.TimeIntervalSet#gaps()}.
+     */
+    @Test
+    public final void testGaps() {
+        TimeIntervalSet set = new TimeIntervalSet(List.of(tvl(30, 40), tvl(10, 20), tvl(40, 45), tvl(50, 60)));
+
+        Assert.assertEquals(List.of(tvl(20, 30), tvl(45, 50)), set.gaps());
+        Assert.assertEquals(tvl(10, 60), set.support());
+        Assert.assertTrue(new TimeIntervalSet(List.of(tvl(0, 1))).gaps().isEmpty());
+        Assert.assertTrue(new TimeIntervalSet().gaps().isEmpty());
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @param lngSecs   seconds from the epoch
+     *
+     * @return  the instant the given seconds after the epoch
+     */
+    private static Instant  ins(long lngSecs) {
+        return Instant.ofEpochSecond(lngSecs);
+    }
+
+    /**
+     * @param lngBeg    interval beginning (seconds from the epoch)
+     * @param lngEnd    interval end (seconds from the epoch)
+     *
+     * @return  the time interval between the given seconds
+     */
+    private static TimeInterval tvl(long lngBeg, long lngEnd) {
+        return TimeInterval.from(ins(lngBeg), ins(lngEnd));
+    }
+}
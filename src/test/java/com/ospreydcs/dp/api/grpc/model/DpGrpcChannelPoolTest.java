@@ -0,0 +1,421 @@
+/*
+ * Project: dp-api-common
+ * File:	DpGrpcChannelPoolTest.java
+ * Package: com.ospreydcs.dp.api.grpc.model
+ * Type: 	DpGrpcChannelPoolTest
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.grpc.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import com.ospreydcs.dp.api.common.DpGrpcChannelSelection;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>DpGrpcChannelPool</code>.
+ * </p>
+ * <p>
+ * The pool is backed by test channels which create inert calls, thus no server is required.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class DpGrpcChannelPoolTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Number of channels in the test pools */
+    public static final int     CNT_CHANNELS = 4;
+
+    /** Test method descriptor - message contents are irrelevant */
+    public static final MethodDescriptor<BytesValue, BytesValue>    MD_TEST = MethodDescriptor.<BytesValue, BytesValue>newBuilder()
+            .setType(MethodDescriptor.MethodType.CLIENT_STREAMING)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName("test.Service", "Stream"))
+            .setRequestMarshaller(new TestMarshaller())
+            .setResponseMarshaller(new TestMarshaller())
+            .build();
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.grpc.model.DpGrpcChannelPool#newCall(MethodDescriptor, CallOptions)}.
+     * <p>
+     * Round-robin selection distributes calls evenly.
+     */
+    @Test
+    public final void testRoundRobin() {
+        List<TestChannel>   lstChans = createChannels();
+        DpGrpcChannelPool   pool = DpGrpcChannelPool.from(new ArrayList<>(lstChans), DpGrpcChannelSelection.ROUND_ROBIN);
+
+        for (int i=0; i<3*CNT_CHANNELS; i++)
+            pool.newCall(MD_TEST, CallOptions.DEFAULT);
+
+        for (int i=0; i<CNT_CHANNELS; i++) {
+            Assert.assertEquals(3, lstChans.get(i).lstCalls.size());
+            Assert.assertEquals(3, pool.getActiveCallCount(i));
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.grpc.model.DpGrpcChannelPool#newCall(MethodDescriptor, CallOptions)}.
+     * <p>
+     * Least outstanding selection avoids busy channels and releases closed calls.
+     */
+    @Test
+    public final void testLeastOutstanding() {
+        List<TestChannel>   lstChans = createChannels();
+        DpGrpcChannelPool   pool = DpGrpcChannelPool.from(new ArrayList<>(lstChans), DpGrpcChannelSelection.LEAST_OUTSTANDING);
+
+        // One call per channel
+        List<ClientCall<BytesValue, BytesValue>>    lstCalls = new ArrayList<>();
+        for (int i=0; i<CNT_CHANNELS; i++) {
+            ClientCall<BytesValue, BytesValue>  call = pool.newCall(MD_TEST, CallOptions.DEFAULT);
+
+            call.start(new ClientCall.Listener<BytesValue>() {}, new Metadata());
+            lstCalls.add(call);
+        }
+        for (int i=0; i<CNT_CHANNELS; i++)
+            Assert.assertEquals(1, pool.getActiveCallCount(i));
+
+        // Load the first call with data then close the second
+        lstCalls.get(0).sendMessage(BytesValue.of(ByteString.copyFrom(new byte[1000])));
+        int     indLoaded = indexOf(lstChans, 0);
+        Assert.assertTrue(pool.getActiveByteCount(indLoaded) > 1000);
+
+        int     indClosed = indexOf(lstChans, 1);
+        lstChans.get(indClosed).lstCalls.get(0).close();
+        Assert.assertEquals(0, pool.getActiveCallCount(indClosed));
+
+        // Next call goes to the idle channel
+        pool.newCall(MD_TEST, CallOptions.DEFAULT);
+        Assert.assertEquals(1, pool.getActiveCallCount(indClosed));
+        Assert.assertEquals(2, lstChans.get(indClosed).lstCalls.size());
+
+        // Closing the loaded call releases its bytes, closing twice has no effect
+        lstChans.get(indLoaded).lstCalls.get(0).close();
+        lstChans.get(indLoaded).lstCalls.get(0).close();
+        Assert.assertEquals(0, pool.getActiveCallCount(indLoaded));
+        Assert.assertEquals(0, pool.getActiveByteCount(indLoaded));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.grpc.model.DpGrpcChannelPool#getActiveByteCount(int)}.
+     * <p>
+     * Received response messages load the channel as well as sent request messages.
+     */
+    @Test
+    public final void testReceivedBytes() {
+        List<TestChannel>   lstChans = createChannels();
+        DpGrpcChannelPool   pool = DpGrpcChannelPool.from(new ArrayList<>(lstChans), DpGrpcChannelSelection.LEAST_OUTSTANDING);
+
+        ClientCall<BytesValue, BytesValue>  call = pool.newCall(MD_TEST, CallOptions.DEFAULT);
+        call.start(new ClientCall.Listener<BytesValue>() {}, new Metadata());
+
+        int         indCall = indexOf(lstChans, 0);
+        TestCall    callChan = lstChans.get(indCall).lstCalls.get(0);
+
+        callChan.receive(BytesValue.of(ByteString.copyFrom(new byte[1000])));
+        Assert.assertTrue(pool.getActiveByteCount(indCall) > 1000);
+
+        callChan.close();
+        Assert.assertEquals(0, pool.getActiveByteCount(indCall));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.grpc.model.DpGrpcChannelPool#notifyWhenStateChanged(ConnectivityState, Runnable)}.
+     * <p>
+     * The pool state is the best channel state, and a change of any channel that changes the aggregate is notified once.
+     */
+    @Test
+    public final void testStateAggregate() {
+        List<TestChannel>   lstChans = createChannels();
+        DpGrpcChannelPool   pool = DpGrpcChannelPool.from(new ArrayList<>(lstChans), DpGrpcChannelSelection.ROUND_ROBIN);
+
+        Assert.assertEquals(ConnectivityState.IDLE, pool.getState(false));
+
+        AtomicInteger   cntNotified = new AtomicInteger(0);
+        pool.notifyWhenStateChanged(ConnectivityState.IDLE, cntNotified::incrementAndGet);
+
+        // A change of a channel other than the first which does not change the aggregate is not notified
+        lstChans.get(CNT_CHANNELS - 1).setState(ConnectivityState.TRANSIENT_FAILURE);
+        Assert.assertEquals(ConnectivityState.IDLE, pool.getState(false));
+        Assert.assertEquals(0, cntNotified.get());
+
+        // The last channel connecting changes the aggregate
+        lstChans.get(CNT_CHANNELS - 1).setState(ConnectivityState.CONNECTING);
+        Assert.assertEquals(ConnectivityState.CONNECTING, pool.getState(false));
+        Assert.assertEquals(1, cntNotified.get());
+
+        lstChans.get(1).setState(ConnectivityState.READY);
+        Assert.assertEquals(ConnectivityState.READY, pool.getState(false));
+        Assert.assertEquals(1, cntNotified.get());
+
+        // Registration with a stale source state is notified immediately
+        pool.notifyWhenStateChanged(ConnectivityState.IDLE, cntNotified::incrementAndGet);
+        Assert.assertEquals(2, cntNotified.get());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.grpc.model.DpGrpcChannelPool#newCall(MethodDescriptor, CallOptions)}.
+     * <p>
+     * Calls cancelled before starting are released.
+     */
+    @Test
+    public final void testCancelBeforeStart() {
+        DpGrpcChannelPool   pool = DpGrpcChannelPool.from(new ArrayList<>(createChannels()), DpGrpcChannelSelection.ROUND_ROBIN);
+
+        ClientCall<BytesValue, BytesValue>  call = pool.newCall(MD_TEST, CallOptions.DEFAULT);
+        Assert.assertEquals(1, pool.getActiveCallCount(0));
+
+        call.cancel("test", null);
+        Assert.assertEquals(0, pool.getActiveCallCount(0));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.grpc.model.DpGrpcChannelPool#shutdown()}.
+     */
+    @Test
+    public final void testShutdown() throws InterruptedException {
+        List<TestChannel>   lstChans = createChannels();
+        DpGrpcChannelPool   pool = DpGrpcChannelPool.from(new ArrayList<>(lstChans), DpGrpcChannelSelection.ROUND_ROBIN);
+
+        Assert.assertEquals(CNT_CHANNELS, pool.getChannelCount());
+        Assert.assertFalse(pool.isShutdown());
+
+        pool.shutdown();
+        Assert.assertTrue(pool.isShutdown());
+        Assert.assertTrue(pool.awaitTermination(1, TimeUnit.SECONDS));
+        Assert.assertTrue(pool.isTerminated());
+        for (TestChannel chan : lstChans)
+            Assert.assertTrue(chan.isShutdown());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.grpc.model.DpGrpcChannelPool#from(List, DpGrpcChannelSelection)}.
+     */
+    @Test(expected=IllegalArgumentException.class)
+    public final void testEmptyPool() {
+        DpGrpcChannelPool.from(List.of(), DpGrpcChannelSelection.ROUND_ROBIN);
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * Creates new test channels and resets the call creation counter.
+     *
+     * @return  new list of test channels of size <code>{@link #CNT_CHANNELS}</code>
+     */
+    private static List<TestChannel> createChannels() {
+        List<TestChannel>   lstChans = new ArrayList<>();
+
+        cntCallsCreated = 0;
+
+        for (int i=0; i<CNT_CHANNELS; i++)
+            lstChans.add(new TestChannel());
+
+        return lstChans;
+    }
+
+    /**
+     * Returns the index of the test channel holding the given call (in order of creation).
+     *
+     * @param lstChans  the test channels
+     * @param indCall   index of the call in order of creation
+     *
+     * @return  index of channel holding the call
+     */
+    private static int indexOf(List<TestChannel> lstChans, int indCall) {
+        for (int i=0; i<lstChans.size(); i++)
+            for (TestCall call : lstChans.get(i).lstCalls)
+                if (call.indCreation == indCall)
+                    return i;
+
+        throw new IllegalStateException("No call with creation index " + indCall);
+    }
+
+
+    /**
+     * Counter of all test call creations
+     */
+    private static int  cntCallsCreated = 0;
+
+    /**
+     * Test channel creating inert calls.
+     */
+    private static final class TestChannel extends ManagedChannel {
+
+        private final List<TestCall>    lstCalls = new ArrayList<>();
+        private final List<Runnable>    lstWatches = new ArrayList<>();
+        private ConnectivityState       enmState = ConnectivityState.IDLE;
+        private boolean                 bolShutdown = false;
+
+        private void setState(ConnectivityState enmState) {
+            List<Runnable>  lstNotify = new ArrayList<>(this.lstWatches);
+
+            this.enmState = enmState;
+            this.lstWatches.clear();
+            lstNotify.forEach(Runnable::run);
+        }
+
+        @Override
+        public ConnectivityState getState(boolean bolRequestConnection) {
+            return this.enmState;
+        }
+
+        @Override
+        public void notifyWhenStateChanged(ConnectivityState enmSource, Runnable tskCallback) {
+            if (enmSource != this.enmState)
+                tskCallback.run();
+            else
+                this.lstWatches.add(tskCallback);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> mdRpc, CallOptions optCall) {
+            TestCall    call = new TestCall(cntCallsCreated++);
+
+            this.lstCalls.add(call);
+
+            return (ClientCall<ReqT, RespT>) call;
+        }
+
+        @Override
+        public String authority() {
+            return "test";
+        }
+
+        @Override
+        public ManagedChannel shutdown() {
+            this.bolShutdown = true;
+            return this;
+        }
+
+        @Override
+        public ManagedChannel shutdownNow() {
+            return this.shutdown();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return this.bolShutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return this.bolShutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long lngTimeout, TimeUnit tuTimeout) {
+            return this.bolShutdown;
+        }
+    }
+
+    /**
+     * Inert test call - the test closes the call explicitly.
+     */
+    private static final class TestCall extends ClientCall<Object, Object> {
+
+        private final int               indCreation;
+        private Listener<Object>        lsnRsps;
+
+        private TestCall(int indCreation) {
+            this.indCreation = indCreation;
+        }
+
+        private void close() {
+            this.lsnRsps.onClose(Status.OK, new Metadata());
+        }
+
+        private void receive(Object msgRsp) {
+            this.lsnRsps.onMessage(msgRsp);
+        }
+
+        @Override
+        public void start(Listener<Object> lsnRsps, Metadata mdHeaders) {
+            this.lsnRsps = lsnRsps;
+        }
+
+        @Override
+        public void request(int cntMsgs) {
+        }
+
+        @Override
+        public void cancel(String strMsg, Throwable cause) {
+        }
+
+        @Override
+        public void halfClose() {
+        }
+
+        @Override
+        public void sendMessage(Object msgRqst) {
+        }
+    }
+
+    /**
+     * Marshaller for the test method descriptor - never invoked.
+     */
+    private static final class TestMarshaller implements MethodDescriptor.Marshaller<BytesValue> {
+
+        @Override
+        public InputStream stream(BytesValue msgVal) {
+            return new ByteArrayInputStream(msgVal.toByteArray());
+        }
+
+        @Override
+        public BytesValue parse(InputStream isMsg) {
+            return BytesValue.getDefaultInstance();
+        }
+    }
+}
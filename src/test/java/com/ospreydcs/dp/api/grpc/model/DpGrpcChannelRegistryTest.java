@@ -0,0 +1,363 @@
+/*
+ * Project: dp-api-common
+ * File:	DpGrpcChannelRegistryTest.java
+ * Package: com.ospreydcs.dp.api.grpc.model
+ * Type: 	DpGrpcChannelRegistryTest
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.grpc.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.protobuf.BytesValue;
+import com.ospreydcs.dp.api.config.grpc.DpGrpcConnectionConfig;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>DpGrpcChannelRegistry</code>.
+ * </p>
+ * <p>
+ * The registry is populated with test channels which create inert calls, thus no server is required.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class DpGrpcChannelRegistryTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Connection configuration used in test keys (compared by identity) */
+    public static final DpGrpcConnectionConfig  CFG_CONN = new DpGrpcConnectionConfig();
+
+    /** Test channel key */
+    public static final DpGrpcChannelRegistry.ChannelKey    KEY_1 = new DpGrpcChannelRegistry.ChannelKey(
+            "localhost", 50051, "INSECURE", false, 4194304, false, 20_000_000_000L, CFG_CONN);
+
+    /** Test channel key - different port */
+    public static final DpGrpcChannelRegistry.ChannelKey    KEY_2 = new DpGrpcChannelRegistry.ChannelKey(
+            "localhost", 50052, "INSECURE", false, 4194304, false, 20_000_000_000L, CFG_CONN);
+
+    /** Test method descriptor - message contents are irrelevant */
+    public static final MethodDescriptor<BytesValue, BytesValue>    MD_TEST = MethodDescriptor.<BytesValue, BytesValue>newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName("test.Service", "Call"))
+            .setRequestMarshaller(new TestMarshaller())
+            .setResponseMarshaller(new TestMarshaller())
+            .build();
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.grpc.model.DpGrpcChannelRegistry#checkout(DpGrpcChannelRegistry.ChannelKey, java.util.function.Supplier)}.
+     * <p>
+     * Equal keys share one channel, distinct keys do not.
+     */
+    @Test
+    public final void testCheckoutShared() {
+        DpGrpcChannelRegistry   reg = new DpGrpcChannelRegistry(1, TimeUnit.HOURS);
+        List<TestChannel>       lstBuilt = new ArrayList<>();
+
+        ManagedChannel  lease1 = reg.checkout(KEY_1, () -> newChannel(lstBuilt));
+        ManagedChannel  lease2 = reg.checkout(new DpGrpcChannelRegistry.ChannelKey(
+                "localhost", 50051, "INSECURE", false, 4194304, false, 20_000_000_000L, CFG_CONN), () -> newChannel(lstBuilt));
+        ManagedChannel  lease3 = reg.checkout(KEY_2, () -> newChannel(lstBuilt));
+
+        Assert.assertNotSame(lease1, lease2);
+        Assert.assertEquals(2, lstBuilt.size());
+        Assert.assertEquals(2, reg.getChannelCount());
+        Assert.assertEquals(2, reg.getLeaseCount(KEY_1));
+        Assert.assertEquals(1, reg.getLeaseCount(KEY_2));
+
+        // Calls are forwarded to the shared channel
+        lease1.newCall(MD_TEST, CallOptions.DEFAULT);
+        lease2.newCall(MD_TEST, CallOptions.DEFAULT);
+        Assert.assertEquals(2, lstBuilt.get(0).lstCalls.size());
+
+        // Different configuration instance is not shared
+        reg.checkout(new DpGrpcChannelRegistry.ChannelKey(
+                "localhost", 50051, "INSECURE", false, 4194304, false, 20_000_000_000L, new DpGrpcConnectionConfig()), () -> newChannel(lstBuilt));
+        Assert.assertEquals(3, lstBuilt.size());
+
+        lease3.shutdownNow();
+        reg.shutdownNow();
+        Assert.assertEquals(0, reg.getChannelCount());
+        Assert.assertTrue(lstBuilt.get(0).isShutdown());
+    }
+
+    /**
+     * Test method for {@link io.grpc.ManagedChannel#shutdown()} on a lease.
+     * <p>
+     * The lease is released only after its active calls complete; the shared channel stays open.
+     */
+    @Test
+    public final void testLeaseShutdown() throws InterruptedException {
+        DpGrpcChannelRegistry   reg = new DpGrpcChannelRegistry(1, TimeUnit.HOURS);
+        List<TestChannel>       lstBuilt = new ArrayList<>();
+
+        ManagedChannel  lease = reg.checkout(KEY_1, () -> newChannel(lstBuilt));
+
+        ClientCall<BytesValue, BytesValue>  call = lease.newCall(MD_TEST, CallOptions.DEFAULT);
+        call.start(new ClientCall.Listener<BytesValue>() {}, new Metadata());
+
+        lease.shutdown();
+        Assert.assertTrue(lease.isShutdown());
+        Assert.assertFalse(lease.isTerminated());
+        Assert.assertEquals(1, reg.getLeaseCount(KEY_1));
+
+        // New calls are refused
+        RecordingListener   lsnRefused = new RecordingListener();
+        lease.newCall(MD_TEST, CallOptions.DEFAULT).start(lsnRefused, new Metadata());
+        Assert.assertEquals(Status.Code.UNAVAILABLE, lsnRefused.status.getCode());
+
+        // Active call completes and lease is released
+        lstBuilt.get(0).lstCalls.get(0).close();
+        Assert.assertTrue(lease.awaitTermination(1, TimeUnit.SECONDS));
+        Assert.assertEquals(0, reg.getLeaseCount(KEY_1));
+        Assert.assertFalse(lstBuilt.get(0).isShutdown());
+        Assert.assertEquals(1, reg.getChannelCount());
+
+        // Channel is idle but not yet expired
+        Assert.assertEquals(0, reg.evictIdle());
+
+        reg.shutdownNow();
+    }
+
+    /**
+     * Test method for {@link io.grpc.ManagedChannel#shutdown()} on a lease.
+     * <p>
+     * Calls hold the lease from their start, not their creation: an unstarted call does not delay the release,
+     * and a call created before the shutdown but started after it is refused.
+     */
+    @Test
+    public final void testLeaseCallCountedAtStart() throws InterruptedException {
+        DpGrpcChannelRegistry   reg = new DpGrpcChannelRegistry(1, TimeUnit.HOURS);
+        List<TestChannel>       lstBuilt = new ArrayList<>();
+
+        ManagedChannel  lease = reg.checkout(KEY_1, () -> newChannel(lstBuilt));
+
+        ClientCall<BytesValue, BytesValue>  call = lease.newCall(MD_TEST, CallOptions.DEFAULT);
+
+        lease.shutdown();
+        Assert.assertTrue(lease.awaitTermination(1, TimeUnit.SECONDS));
+        Assert.assertEquals(0, reg.getLeaseCount(KEY_1));
+
+        RecordingListener   lsnRefused = new RecordingListener();
+        call.start(lsnRefused, new Metadata());
+        Assert.assertEquals(Status.Code.UNAVAILABLE, lsnRefused.status.getCode());
+        Assert.assertNull(lstBuilt.get(0).lstCalls.get(0).lsnRsps);
+
+        // Cancelling the refused call has no effect on the lease count
+        call.cancel("test", null);
+        Assert.assertEquals(0, reg.getLeaseCount(KEY_1));
+
+        reg.shutdownNow();
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.grpc.model.DpGrpcChannelRegistry#evictIdle()}.
+     * <p>
+     * With a zero idle timeout the channel is evicted on release of the last lease, and a new channel
+     * is created for the next checkout.
+     */
+    @Test
+    public final void testIdleEviction() {
+        DpGrpcChannelRegistry   reg = new DpGrpcChannelRegistry(0, TimeUnit.SECONDS);
+        List<TestChannel>       lstBuilt = new ArrayList<>();
+
+        ManagedChannel  lease1 = reg.checkout(KEY_1, () -> newChannel(lstBuilt));
+        ManagedChannel  lease2 = reg.checkout(KEY_1, () -> newChannel(lstBuilt));
+
+        lease1.shutdown();
+        Assert.assertEquals(1, reg.getChannelCount());
+        Assert.assertFalse(lstBuilt.get(0).isShutdown());
+
+        // Shutting down twice releases only once
+        lease1.shutdownNow();
+        Assert.assertEquals(1, reg.getLeaseCount(KEY_1));
+
+        lease2.shutdownNow();
+        Assert.assertEquals(0, reg.getChannelCount());
+        Assert.assertTrue(lstBuilt.get(0).isShutdown());
+
+        reg.checkout(KEY_1, () -> newChannel(lstBuilt));
+        Assert.assertEquals(2, lstBuilt.size());
+
+        reg.shutdownNow();
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * Creates a new test channel and adds it to the given list.
+     *
+     * @param lstBuilt  list of all channels created
+     *
+     * @return  the new test channel
+     */
+    private static ManagedChannel newChannel(List<TestChannel> lstBuilt) {
+        TestChannel chan = new TestChannel();
+
+        lstBuilt.add(chan);
+
+        return chan;
+    }
+
+
+    /**
+     * Test channel creating inert calls.
+     */
+    private static final class TestChannel extends ManagedChannel {
+
+        private final List<TestCall>    lstCalls = new ArrayList<>();
+        private boolean                 bolShutdown = false;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> mdRpc, CallOptions optCall) {
+            TestCall    call = new TestCall();
+
+            this.lstCalls.add(call);
+
+            return (ClientCall<ReqT, RespT>) call;
+        }
+
+        @Override
+        public String authority() {
+            return "test";
+        }
+
+        @Override
+        public ManagedChannel shutdown() {
+            this.bolShutdown = true;
+            return this;
+        }
+
+        @Override
+        public ManagedChannel shutdownNow() {
+            return this.shutdown();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return this.bolShutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return this.bolShutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long lngTimeout, TimeUnit tuTimeout) {
+            return this.bolShutdown;
+        }
+    }
+
+    /**
+     * Inert test call - the test closes the call explicitly.
+     */
+    private static final class TestCall extends ClientCall<Object, Object> {
+
+        private Listener<Object>    lsnRsps;
+
+        private void close() {
+            this.lsnRsps.onClose(Status.OK, new Metadata());
+        }
+
+        @Override
+        public void start(Listener<Object> lsnRsps, Metadata mdHeaders) {
+            this.lsnRsps = lsnRsps;
+        }
+
+        @Override
+        public void request(int cntMsgs) {
+        }
+
+        @Override
+        public void cancel(String strMsg, Throwable cause) {
+            if (this.lsnRsps != null)
+                this.lsnRsps.onClose(Status.CANCELLED, new Metadata());
+        }
+
+        @Override
+        public void halfClose() {
+        }
+
+        @Override
+        public void sendMessage(Object msgRqst) {
+        }
+    }
+
+    /**
+     * Listener recording the close status.
+     */
+    private static final class RecordingListener extends ClientCall.Listener<BytesValue> {
+
+        private Status  status;
+
+        @Override
+        public void onClose(Status status, Metadata mdTrailers) {
+            this.status = status;
+        }
+    }
+
+    /**
+     * Marshaller for the test method descriptor - never invoked.
+     */
+    private static final class TestMarshaller implements MethodDescriptor.Marshaller<BytesValue> {
+
+        @Override
+        public InputStream stream(BytesValue msgVal) {
+            return new ByteArrayInputStream(msgVal.toByteArray());
+        }
+
+        @Override
+        public BytesValue parse(InputStream isMsg) {
+            return BytesValue.getDefaultInstance();
+        }
+    }
+}
@@ -38,10 +38,14 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.ospreydcs.dp.api.common.DpGrpcExecutorType;
+import com.ospreydcs.dp.api.common.DpGrpcTransportType;
 import com.ospreydcs.dp.api.config.DpApiConfig;
 import com.ospreydcs.dp.api.config.DpApiUnitTestConfig;
 import com.ospreydcs.dp.api.config.grpc.DpGrpcConnectionConfig;
+import com.ospreydcs.dp.api.grpc.model.DpGrpcChannelRegistry;
 import com.ospreydcs.dp.api.grpc.model.DpGrpcException;
+import com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc;
 
 /**
  * <p>
@@ -232,4 +236,84 @@ public class DpQueryConnectionFactoryTest {
         }
     }
 
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.grpc.model.DpGrpcConnectionFactoryBase#connect()}.
+     * <p>
+     * The event loop and dedicated callback executor of a factory are shut down once its last channel is
+     * shut down (no Query Service is required, the connection attempt may fail).
+     */
+    @Test
+    public final void testTransportResourcesReleased() throws Exception {
+        DpGrpcConnectionConfig  cfgXport = createTransportConfig();
+        String                  strPrefix = DpQueryServiceGrpc.class.getSimpleName();
+        
+        DpQueryConnection   conn = DpQueryConnectionFactory.newFactory(cfgXport).connect();
+        
+        // Start the event loop by requesting a connection
+        conn.getChannel().getState(true);
+        
+        long    nsDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (countLiveThreads(strPrefix + "-eventloop") == 0 && System.nanoTime() < nsDeadline)
+            Thread.sleep(10);
+        
+        Assert.assertTrue(countLiveThreads(strPrefix + "-eventloop") > 0);
+        
+        conn.shutdownNow();
+        conn.awaitTermination();
+        
+        // Shared channels are only shut down on registry eviction
+        if (DpGrpcChannelRegistry.BOL_SHARING_ENABLED)
+            DpGrpcChannelRegistry.getInstance().shutdownNow();
+        
+        nsDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30L);
+        while (countLiveThreads(strPrefix + "-eventloop") + countLiveThreads(strPrefix + "-executor") > 0 && System.nanoTime() < nsDeadline)
+            Thread.sleep(100);
+        
+        Assert.assertEquals(0, countLiveThreads(strPrefix + "-eventloop"));
+        Assert.assertEquals(0, countLiveThreads(strPrefix + "-executor"));
+    }
+    
+    
+    //
+    // Support Methods
+    //
+    
+    /**
+     * @return  copy of the default Query Service connection configuration using a NIO event loop and dedicated executor
+     */
+    private static DpGrpcConnectionConfig   createTransportConfig() {
+        DpGrpcConnectionConfig  cfgBase = DpApiConfig.getInstance().connections.query;
+        DpGrpcConnectionConfig  cfgXport = new DpGrpcConnectionConfig();
+        
+        cfgXport.name = cfgBase.name;
+        cfgXport.version = cfgBase.version;
+        cfgXport.description = cfgBase.description;
+        cfgXport.supplement = cfgBase.supplement;
+        cfgXport.timeout = cfgBase.timeout;
+        
+        cfgXport.channel = new DpGrpcConnectionConfig.Channel();
+        cfgXport.channel.host = cfgBase.channel.host;
+        cfgXport.channel.tls = cfgBase.channel.tls;
+        cfgXport.channel.grpc = cfgBase.channel.grpc;
+        cfgXport.channel.pool = cfgBase.channel.pool;
+        
+        cfgXport.channel.transport = new DpGrpcConnectionConfig.Channel.Transport();
+        cfgXport.channel.transport.type = DpGrpcTransportType.NIO;
+        cfgXport.channel.transport.eventLoopThreads = 1;
+        cfgXport.channel.transport.executor = DpGrpcExecutorType.DEDICATED;
+        cfgXport.channel.transport.executorThreads = 1;
+        
+        return cfgXport;
+    }
+    
+    /**
+     * @param strPrefix thread name prefix
+     * 
+     * @return  the number of live threads whose name starts with the given prefix
+     */
+    private static long countLiveThreads(String strPrefix) {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thd -> thd.isAlive() && thd.getName().startsWith(strPrefix))
+                .count();
+    }
 }
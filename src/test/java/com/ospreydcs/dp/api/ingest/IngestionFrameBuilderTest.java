@@ -0,0 +1,303 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionFrameBuilderTest.java
+ * Package: com.ospreydcs.dp.api.ingest
+ * Type: 	IngestionFrameBuilderTest
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.grpc.util.ProtoMsg;
+import com.ospreydcs.dp.api.model.table.DoubleArrayDataColumn;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest.IngestionDataFrame;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>IngestionFrameBuilder</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class IngestionFrameBuilderTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Start time of all test frames (epoch nanoseconds) */
+    public static final long        LNG_START_NS = Instant.parse("2026-10-18T00:00:00.0Z").toEpochMilli() * 1_000_000L;
+
+    /** Sampling period - 1 MHz */
+    public static final long        LNG_PERIOD_NS = 1_000L;
+
+    /** Number of rows per test frame - larger than initial capacity to force growth */
+    public static final int         CNT_ROWS = 5_000;
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.IngestionFrameBuilder#appendRow(long, double[])}.
+     * <p>
+     * Uniform timestamps produce a clocked frame of primitive columns.
+     */
+    @Test
+    public final void testAppendRowUniform() {
+
+        IngestionFrameBuilder   bldr = IngestionFrameBuilder.create("PV_A", "PV_B");
+
+        for (int iRow=0; iRow<CNT_ROWS; iRow++)
+            bldr.appendRow(LNG_START_NS + iRow*LNG_PERIOD_NS, new double[] { iRow, -iRow });
+
+        Assert.assertEquals(CNT_ROWS, bldr.getRowCount());
+
+        IngestionFrame  frame = bldr.build();
+        Assert.assertEquals(0, bldr.getRowCount());
+        Assert.assertTrue(frame.hasSamplingClock());
+        Assert.assertEquals(CNT_ROWS, frame.getRowCount());
+        Assert.assertEquals(Duration.ofNanos(LNG_PERIOD_NS), frame.getSamplingClock().getSamplePeriodDuration());
+        Assert.assertEquals(Instant.ofEpochSecond(0, LNG_START_NS), frame.getSamplingClock().getStartInstant());
+
+        DoubleArrayDataColumn   colB = (DoubleArrayDataColumn)frame.getDataColumn("PV_B");
+        Assert.assertEquals(DpSupportedType.DOUBLE, colB.getType());
+        Assert.assertEquals(-42.0, colB.getDouble(42), 0.0);
+        Assert.assertEquals(Double.valueOf(-42.0), colB.getValue(42));
+        Assert.assertEquals(Double.BYTES*CNT_ROWS, colB.allocationSize());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.IngestionFrameBuilder#appendDouble(String, double)}.
+     * <p>
+     * Non-uniform timestamps produce a timestamp list.
+     */
+    @Test
+    public final void testAppendDoubleNonUniform() {
+
+        IngestionFrameBuilder   bldr = IngestionFrameBuilder.create("PV_A");
+
+        for (int iRow=0; iRow<10; iRow++) {
+            bldr.appendTimestamp(LNG_START_NS + iRow*iRow*LNG_PERIOD_NS);
+            bldr.appendDouble("PV_A", iRow);
+        }
+
+        IngestionFrame  frame = bldr.build();
+        Assert.assertTrue(frame.hasTimestampList());
+        Assert.assertEquals(10, frame.getTimestampList().size());
+        Assert.assertEquals(Instant.ofEpochSecond(0, LNG_START_NS + 9*9*LNG_PERIOD_NS), frame.getTimestampList().get(9));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.IngestionFrameBuilder#build()}.
+     * <p>
+     * Incomplete rows are rejected.
+     */
+    @Test
+    public final void testBuildIncomplete() {
+
+        IngestionFrameBuilder   bldr = IngestionFrameBuilder.create("PV_A", "PV_B");
+
+        bldr.appendTimestamp(LNG_START_NS);
+        bldr.appendDouble(0, 1.0);
+
+        try {
+            bldr.build();
+            Assert.fail("Incomplete row was accepted");
+
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        bldr.clear();
+        Assert.assertEquals(0, bldr.getRowCount());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.IngestionFrameBuilder#recycle(IngestionFrame)}.
+     * <p>
+     * Backing arrays are returned to the pool and reused.
+     */
+    @Test
+    public final void testRecycle() {
+
+        IngestionFrameBuilder   bldr = IngestionFrameBuilder.create("PV_A", "PV_B");
+        Assert.assertEquals(0, bldr.getPooledArrayCount());
+
+        bldr.appendRow(LNG_START_NS, new double[] { 1.0, 2.0 });
+        bldr.appendRow(LNG_START_NS + LNG_PERIOD_NS, new double[] { 3.0, 4.0 });
+
+        IngestionFrame  frame = bldr.build();
+        bldr.recycle(frame);
+        Assert.assertEquals(2, bldr.getPooledArrayCount());
+
+        // Recycling twice has no effect
+        bldr.recycle(frame);
+        Assert.assertEquals(2, bldr.getPooledArrayCount());
+
+        // Next frame draws from the pool
+        bldr.appendRow(LNG_START_NS, new double[] { 1.0, 2.0 });
+        bldr.build();
+        Assert.assertEquals(0, bldr.getPooledArrayCount());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.IngestionFrameBuilder#recycle(IngestionFrame)}.
+     * <p>
+     * Concurrent recycling of the same frame pools each backing array exactly once.
+     */
+    @Test
+    public final void testRecycleConcurrent() throws InterruptedException {
+
+        final int   CNT_COLS = 4;
+        final int   CNT_THREADS = 8;
+        final int   CNT_TRIALS = 500;
+
+        String[]    arrNames = new String[CNT_COLS];
+        for (int i=0; i<CNT_COLS; i++)
+            arrNames[i] = "PV_" + i;
+
+        IngestionFrameBuilder   bldr = IngestionFrameBuilder.create(arrNames);
+        ExecutorService         exec = Executors.newFixedThreadPool(CNT_THREADS);
+
+        try {
+            for (int iTrial=0; iTrial<CNT_TRIALS; iTrial++) {
+                bldr.appendRow(LNG_START_NS, new double[CNT_COLS]);
+
+                IngestionFrame  frame = bldr.build();
+                int             cntPooled = bldr.getPooledArrayCount();
+                CountDownLatch  sglStart = new CountDownLatch(1);
+                CountDownLatch  sglDone = new CountDownLatch(CNT_THREADS);
+
+                for (int iThrd=0; iThrd<CNT_THREADS; iThrd++)
+                    exec.execute(() -> {
+                        try {
+                            sglStart.await();
+                            bldr.recycle(frame);
+
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+
+                        } finally {
+                            sglDone.countDown();
+                        }
+                    });
+
+                sglStart.countDown();
+                Assert.assertTrue(sglDone.await(10, TimeUnit.SECONDS));
+                Assert.assertEquals(cntPooled + CNT_COLS, bldr.getPooledArrayCount());
+            }
+
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.IngestionFrameBuilder#build()}.
+     * <p>
+     * Frame construction, vertical splitting, and conversion to Protocol Buffers messages never
+     * box the values of primitive columns.
+     */
+    @Test
+    public final void testBuildToProtoMsgUnboxed() {
+
+        IngestionFrameBuilder   bldr = IngestionFrameBuilder.create("PV_A", "PV_B");
+
+        for (int i=0; i<CNT_ROWS; i++)
+            bldr.appendRow(LNG_START_NS + i*LNG_PERIOD_NS, new double[] { i, -i });
+
+        IngestionFrame  frmBuilt = bldr.build();
+
+        // Re-create the built frame with columns that fail on any boxed access
+        ArrayList<IDataColumn<Object>>  vecCols = new ArrayList<>();
+        for (IDataColumn<Object> col : frmBuilt.getDataColumns()) {
+            DoubleArrayDataColumn   colDbls = (DoubleArrayDataColumn)col;
+
+            vecCols.add(new UnboxedColumn(colDbls.getName(), colDbls.getDoubleArray(), colDbls.getSize()));
+        }
+
+        IngestionFrame  frame = IngestionFrame.from(frmBuilt.getSamplingClock(), vecCols);
+        IngestionFrame  frmHead = frame.removeRowsAtHead(CNT_ROWS / 2);
+
+        Assert.assertEquals(CNT_ROWS / 2, frmHead.getRowCount());
+        Assert.assertEquals(CNT_ROWS - CNT_ROWS / 2, frame.getRowCount());
+        Assert.assertTrue(frmHead.getDataColumn("PV_A") instanceof DoubleArrayDataColumn);
+        Assert.assertTrue(frame.getDataColumn("PV_B") instanceof DoubleArrayDataColumn);
+
+        IngestionDataFrame  msgHead = ProtoMsg.from(frmHead);
+        IngestionDataFrame  msgTail = ProtoMsg.from(frame);
+
+        Assert.assertEquals(2, msgHead.getDataColumnsCount());
+        Assert.assertEquals(2, msgTail.getDataColumnsCount());
+        Assert.assertEquals(CNT_ROWS / 2, msgTail.getDataColumns(0).getDataValues(0).getDoubleValue(), 0.0);
+    }
+
+
+    //
+    // Support Types
+    //
+
+    /**
+     * <p>
+     * Primitive <code>double</code> column failing on any access boxing its values.
+     * </p>
+     */
+    private static class UnboxedColumn extends DoubleArrayDataColumn {
+
+        /**
+         * @param strName   name of the data column
+         * @param arrVals   backing array of column values
+         * @param cntVals   number of valid values within the backing array
+         */
+        public UnboxedColumn(String strName, double[] arrVals, int cntVals) {
+            super(strName, arrVals, cntVals, null);
+        }
+
+        @Override
+        public Object getValue(int index) {
+            throw new AssertionError("Boxed access of value " + index + " in primitive column " + this.getName());
+        }
+
+        @Override
+        public List<Object> getValues() {
+            throw new AssertionError("Boxed access of values in primitive column " + this.getName());
+        }
+    }
+}
@@ -0,0 +1,559 @@
+/*
+ * Project: dp-api-common
+ * File:	EpicsIngestionBridgeTest.java
+ * Package: com.ospreydcs.dp.api.ingest.epics
+ * Type: 	EpicsIngestionBridgeTest
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest.epics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.epics.pvaClient.PvaClientMonitor;
+import org.epics.pvaClient.PvaClientMonitorData;
+import org.epics.pvdata.misc.BitSet;
+import org.epics.pvdata.property.TimeStamp;
+import org.epics.pvdata.property.TimeStampFactory;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.ospreydcs.dp.api.common.IngestRequestUID;
+import com.ospreydcs.dp.api.common.IngestionResult;
+import com.ospreydcs.dp.api.common.ProviderRegistrar;
+import com.ospreydcs.dp.api.common.ProviderUID;
+import com.ospreydcs.dp.api.ingest.DpIngestionException;
+import com.ospreydcs.dp.api.ingest.IIngestionStream;
+import com.ospreydcs.dp.api.ingest.IngestionFrame;
+import com.ospreydcs.dp.api.model.table.DoubleArrayDataColumn;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>EpicsIngestionBridge</code>.
+ * </p>
+ * <p>
+ * Samples are supplied with <code>{@link EpicsIngestionBridge#offer(String, long, double)}</code>, or through the
+ * monitor callback with mock pvAccess monitors, and frames are captured by a stub ingestion stream, so no pvAccess
+ * server or Ingestion Service is required.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class EpicsIngestionBridgeTest {
+
+    //
+    // Class Constants
+    //
+
+    /** First test PV name */
+    public static final String  STR_PV_A = "TEST:PV:A";
+
+    /** Second test PV name */
+    public static final String  STR_PV_B = "TEST:PV:B";
+
+    /** Test buffer capacity */
+    public static final int     CNT_CAPACITY = 16;
+
+    /** Sample period (nanoseconds) */
+    public static final long    LNG_PERIOD_NS = 1_000_000L;
+
+    /** Time of first sample (epoch nanoseconds) */
+    public static final long    LNG_START_NS = 1_700_000_000_000_000_000L;
+
+    /** Wait timeout for the frame cutting thread (milliseconds) */
+    public static final long    LNG_TIMEOUT_MS = 5_000L;
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsIngestionBridge#EpicsIngestionBridge(IIngestionStream, List, int, int, long, TimeUnit)}.
+     * <p>
+     * A frame size larger than the buffer capacity is rejected.
+     */
+    @Test(expected=IllegalArgumentException.class)
+    public final void testFrameSizeExceedsCapacity() {
+        EpicsIngestionBridge.from(new StubIngestionStream(), List.of(STR_PV_A), CNT_CAPACITY, CNT_CAPACITY + 1, 1L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsIngestionBridge#offer(String, long, double)}.
+     * <p>
+     * A PV buffer reaching the frame size is cut without waiting for the flush period.
+     */
+    @Test
+    public final void testSizeTriggeredCut() throws InterruptedException {
+        final int               CNT_FRAME = 4;
+        StubIngestionStream     strm = new StubIngestionStream();
+        EpicsIngestionBridge    bridge = EpicsIngestionBridge.from(strm, List.of(STR_PV_A, STR_PV_B), CNT_CAPACITY, CNT_FRAME, 1L, TimeUnit.HOURS);
+
+        bridge.startCutting();
+        try {
+            bridge.offer(STR_PV_B, LNG_START_NS, 0.0);
+            for (int i=0; i<CNT_FRAME; i++)
+                bridge.offer(STR_PV_A, LNG_START_NS + i*LNG_PERIOD_NS, i);
+
+            Assert.assertTrue(awaitFrameCount(bridge, 1));
+
+            // Only the full buffer is cut
+            IngestionFrame  frame = strm.getFrames().get(0);
+            Assert.assertEquals(1, strm.getFrames().size());
+            Assert.assertEquals(STR_PV_A, frame.getDataColumn(0).getName());
+            Assert.assertEquals(CNT_FRAME, frame.getRowCount());
+            Assert.assertEquals(CNT_FRAME, bridge.getStatistics(STR_PV_A).cntIngested());
+            Assert.assertEquals(1, bridge.getStatistics(STR_PV_B).cntBuffered());
+
+        } finally {
+            bridge.shutdown();
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsIngestionBridge#offer(String, long, double)}.
+     * <p>
+     * All non-empty PV buffers are cut once the flush period elapses.
+     */
+    @Test
+    public final void testPeriodTriggeredCut() throws InterruptedException {
+        StubIngestionStream     strm = new StubIngestionStream();
+        EpicsIngestionBridge    bridge = EpicsIngestionBridge.from(strm, List.of(STR_PV_A, STR_PV_B), CNT_CAPACITY, CNT_CAPACITY, 50L, TimeUnit.MILLISECONDS);
+
+        bridge.startCutting();
+        try {
+            for (int i=0; i<3; i++) {
+                bridge.offer(STR_PV_A, LNG_START_NS + i*LNG_PERIOD_NS, i);
+                bridge.offer(STR_PV_B, LNG_START_NS + i*LNG_PERIOD_NS, -i);
+            }
+
+            Assert.assertTrue(awaitFrameCount(bridge, 2));
+
+            Assert.assertEquals(3, bridge.getStatistics(STR_PV_A).cntIngested());
+            Assert.assertEquals(3, bridge.getStatistics(STR_PV_B).cntIngested());
+            Assert.assertEquals(0, bridge.getStatistics(STR_PV_A).cntBuffered());
+            Assert.assertEquals(2, bridge.getFrameCount());
+
+        } finally {
+            bridge.shutdown();
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsIngestionBridge#flush()}.
+     * <p>
+     * Frames cut together are handed to the ingestion stream as a single batch.
+     */
+    @Test
+    public final void testFlushBatchesFrames() throws InterruptedException {
+        StubIngestionStream     strm = new StubIngestionStream();
+        EpicsIngestionBridge    bridge = EpicsIngestionBridge.from(strm, List.of(STR_PV_A, STR_PV_B), CNT_CAPACITY, CNT_CAPACITY, 1L, TimeUnit.HOURS);
+
+        bridge.offer(STR_PV_A, LNG_START_NS, 1.0);
+        bridge.offer(STR_PV_A, LNG_START_NS + LNG_PERIOD_NS, 2.0);
+        bridge.offer(STR_PV_B, LNG_START_NS, 3.0);
+
+        Assert.assertEquals(2, bridge.flush());
+        Assert.assertEquals(1, strm.getBatchCount());
+        Assert.assertEquals(2, strm.getFrames().size());
+        Assert.assertEquals(2, strm.getFrames().get(0).getRowCount());
+        Assert.assertEquals(1, strm.getFrames().get(1).getRowCount());
+
+        // Nothing left to flush
+        Assert.assertEquals(0, bridge.flush());
+        Assert.assertEquals(1, strm.getBatchCount());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsIngestionBridge#getStatistics(String)}.
+     * <p>
+     * Refused frames and ring buffer overwrites are accounted for.
+     */
+    @Test
+    public final void testFailureAndDropAccounting() throws InterruptedException {
+        final int               CNT_EXCESS = 3;
+        StubIngestionStream     strm = new StubIngestionStream();
+        EpicsIngestionBridge    bridge = EpicsIngestionBridge.from(strm, List.of(STR_PV_A), CNT_CAPACITY, CNT_CAPACITY, 1L, TimeUnit.HOURS);
+
+        for (int i=0; i<CNT_CAPACITY + CNT_EXCESS; i++) {
+            boolean bolStored = bridge.offer(STR_PV_A, LNG_START_NS + i*LNG_PERIOD_NS, i);
+
+            Assert.assertEquals(i < CNT_CAPACITY, bolStored);
+        }
+
+        strm.setFailing(true);
+        Assert.assertEquals(0, bridge.flush());
+
+        EpicsIngestionBridge.PvStatistics   stats = bridge.getStatistics(STR_PV_A);
+
+        Assert.assertEquals(1, bridge.getFailureCount());
+        Assert.assertEquals(0, bridge.getFrameCount());
+        Assert.assertEquals(CNT_CAPACITY + CNT_EXCESS, stats.cntReceived());
+        Assert.assertEquals(CNT_EXCESS, stats.cntDropped());
+        Assert.assertEquals(CNT_CAPACITY, stats.cntFailed());
+        Assert.assertEquals(0, stats.cntIngested());
+        Assert.assertEquals(0, stats.cntBuffered());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsIngestionBridge#shutdown()}.
+     * <p>
+     * Samples remaining in the buffers are transmitted when the bridge is shut down.
+     */
+    @Test
+    public final void testShutdownFlushes() throws InterruptedException {
+        StubIngestionStream     strm = new StubIngestionStream();
+        EpicsIngestionBridge    bridge = EpicsIngestionBridge.from(strm, List.of(STR_PV_A), CNT_CAPACITY, CNT_CAPACITY, 1L, TimeUnit.HOURS);
+
+        bridge.startCutting();
+        Assert.assertTrue(bridge.isActive());
+
+        for (int i=0; i<5; i++)
+            bridge.offer(STR_PV_A, LNG_START_NS + i*LNG_PERIOD_NS, i);
+        Assert.assertTrue(strm.getFrames().isEmpty());
+
+        bridge.shutdown();
+
+        Assert.assertFalse(bridge.isActive());
+        Assert.assertEquals(1, strm.getFrames().size());
+        Assert.assertEquals(5, strm.getFrames().get(0).getRowCount());
+        Assert.assertEquals(5, bridge.getStatistics(STR_PV_A).cntIngested());
+    }
+
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsIngestionBridge#monitorRequester(String)}.
+     * <p>
+     * All updates queued at a monitor callback are buffered with their pvAccess timestamps and released.
+     */
+    @Test
+    public final void testMonitorEventQueuedUpdates() throws InterruptedException {
+        final int               CNT_UPDATES = 3;
+        StubIngestionStream     strm = new StubIngestionStream();
+        EpicsIngestionBridge    bridge = EpicsIngestionBridge.from(strm, List.of(STR_PV_A), CNT_CAPACITY, CNT_CAPACITY, 1L, TimeUnit.HOURS);
+
+        PvaClientMonitorData[]  arrData = new PvaClientMonitorData[CNT_UPDATES];
+        for (int i=0; i<CNT_UPDATES; i++)
+            arrData[i] = createMonitorData(LNG_START_NS + i*LNG_PERIOD_NS, i, false);
+
+        PvaClientMonitor    monitor = createMonitor(arrData);
+        bridge.monitorRequester(STR_PV_A).event(monitor);
+
+        Mockito.verify(monitor, Mockito.times(CNT_UPDATES)).releaseEvent();
+
+        EpicsIngestionBridge.PvStatistics   stats = bridge.getStatistics(STR_PV_A);
+        Assert.assertEquals(CNT_UPDATES, stats.cntReceived());
+        Assert.assertEquals(CNT_UPDATES, stats.cntBuffered());
+        Assert.assertEquals(0, stats.cntOverruns());
+        Assert.assertEquals(0, stats.cntRejected());
+
+        // Timestamps are converted from the POSIX epoch without loss
+        Assert.assertEquals(1, bridge.flush());
+
+        IngestionFrame          frame = strm.getFrames().get(0);
+        DoubleArrayDataColumn   col = (DoubleArrayDataColumn)frame.getDataColumn(0);
+
+        Assert.assertEquals(CNT_UPDATES, frame.getRowCount());
+        Assert.assertTrue(frame.hasSamplingClock());
+        Assert.assertEquals(Instant.ofEpochSecond(0L, LNG_START_NS), frame.getSamplingClock().getStartInstant());
+        Assert.assertEquals(Duration.ofNanos(LNG_PERIOD_NS), frame.getSamplingClock().getSamplePeriodDuration());
+        for (int i=0; i<CNT_UPDATES; i++)
+            Assert.assertEquals(i, col.getDouble(i), 0.0);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsIngestionBridge#monitorRequester(String)}.
+     * <p>
+     * An update with a non-empty overrun bitset is counted as an overrun and its value is still buffered.
+     */
+    @Test
+    public final void testMonitorEventOverrun() {
+        EpicsIngestionBridge    bridge = EpicsIngestionBridge.from(new StubIngestionStream(), List.of(STR_PV_A), CNT_CAPACITY, CNT_CAPACITY, 1L, TimeUnit.HOURS);
+
+        PvaClientMonitor    monitor = createMonitor(
+                createMonitorData(LNG_START_NS, 1.0, true),
+                createMonitorData(LNG_START_NS + LNG_PERIOD_NS, 2.0, false));
+        bridge.monitorRequester(STR_PV_A).event(monitor);
+
+        Mockito.verify(monitor, Mockito.times(2)).releaseEvent();
+
+        EpicsIngestionBridge.PvStatistics   stats = bridge.getStatistics(STR_PV_A);
+        Assert.assertEquals(1, stats.cntOverruns());
+        Assert.assertEquals(2, stats.cntReceived());
+        Assert.assertEquals(2, stats.cntBuffered());
+        Assert.assertEquals(0, stats.cntRejected());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsIngestionBridge#monitorRequester(String)}.
+     * <p>
+     * An update without a numeric value is rejected and released without disturbing the following updates.
+     */
+    @Test
+    public final void testMonitorEventNonNumeric() {
+        EpicsIngestionBridge    bridge = EpicsIngestionBridge.from(new StubIngestionStream(), List.of(STR_PV_A), CNT_CAPACITY, CNT_CAPACITY, 1L, TimeUnit.HOURS);
+
+        PvaClientMonitorData    dataStr = createMonitorData(LNG_START_NS, 0.0, false);
+        Mockito.when(dataStr.getDouble()).thenThrow(new IllegalArgumentException("value is not a scalar"));
+
+        PvaClientMonitor    monitor = createMonitor(dataStr, createMonitorData(LNG_START_NS + LNG_PERIOD_NS, 2.0, false));
+        bridge.monitorRequester(STR_PV_A).event(monitor);
+
+        Mockito.verify(monitor, Mockito.times(2)).releaseEvent();
+
+        EpicsIngestionBridge.PvStatistics   stats = bridge.getStatistics(STR_PV_A);
+        Assert.assertEquals(2, stats.cntReceived());
+        Assert.assertEquals(1, stats.cntRejected());
+        Assert.assertEquals(1, stats.cntBuffered());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsIngestionBridge#monitorRequester(String)}.
+     * <p>
+     * An update without a timestamp is buffered with the current time.
+     */
+    @Test
+    public final void testMonitorEventMissingTimestamp() throws InterruptedException {
+        StubIngestionStream     strm = new StubIngestionStream();
+        EpicsIngestionBridge    bridge = EpicsIngestionBridge.from(strm, List.of(STR_PV_A), CNT_CAPACITY, CNT_CAPACITY, 1L, TimeUnit.HOURS);
+
+        PvaClientMonitorData    data = createMonitorData(LNG_START_NS, 1.0, false);
+        Mockito.when(data.getTimeStamp()).thenThrow(new IllegalArgumentException("no timeStamp"));
+
+        Instant insBefore = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        bridge.monitorRequester(STR_PV_A).event(createMonitor(data));
+        Instant insAfter = Instant.now();
+
+        EpicsIngestionBridge.PvStatistics   stats = bridge.getStatistics(STR_PV_A);
+        Assert.assertEquals(1, stats.cntBuffered());
+        Assert.assertEquals(0, stats.cntRejected());
+
+        Assert.assertEquals(1, bridge.flush());
+
+        IngestionFrame  frame = strm.getFrames().get(0);
+        Instant         insSmpl = frame.hasSamplingClock() ? frame.getSamplingClock().getStartInstant() : frame.getTimestampList().get(0);
+
+        Assert.assertFalse(insSmpl.isBefore(insBefore));
+        Assert.assertFalse(insSmpl.isAfter(insAfter));
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Creates a mock pvAccess monitor delivering the given queued updates at a single callback.
+     * </p>
+     *
+     * @param arrData   queued updates, in order (at least one)
+     *
+     * @return  mock monitor
+     */
+    private static PvaClientMonitor createMonitor(PvaClientMonitorData... arrData) {
+        PvaClientMonitor    monitor = Mockito.mock(PvaClientMonitor.class);
+
+        // Each queued update is polled once, then the queue is empty
+        Boolean[]   arrPolls = new Boolean[arrData.length + 1];
+        Arrays.fill(arrPolls, Boolean.TRUE);
+        arrPolls[arrData.length] = Boolean.FALSE;
+
+        Mockito.when(monitor.poll()).thenReturn(arrPolls[0], Arrays.copyOfRange(arrPolls, 1, arrPolls.length));
+        Mockito.when(monitor.getData()).thenReturn(arrData[0], Arrays.copyOfRange(arrData, 1, arrData.length));
+
+        return monitor;
+    }
+
+    /**
+     * <p>
+     * Creates a mock pvAccess monitor update with a scalar value.
+     * </p>
+     *
+     * @param lngEpochNanos update timestamp (epoch nanoseconds)
+     * @param dblVal        update value
+     * @param bolOverrun    mark the update as following an overrun
+     *
+     * @return  mock monitor update
+     */
+    private static PvaClientMonitorData createMonitorData(long lngEpochNanos, double dblVal, boolean bolOverrun) {
+        PvaClientMonitorData    data = Mockito.mock(PvaClientMonitorData.class);
+        TimeStamp               tms = TimeStampFactory.create();
+        BitSet                  bitsOverrun = new BitSet();
+
+        tms.put(Math.floorDiv(lngEpochNanos, 1_000_000_000L), (int)Math.floorMod(lngEpochNanos, 1_000_000_000L));
+        if (bolOverrun)
+            bitsOverrun.set(0);
+
+        Mockito.when(data.getTimeStamp()).thenReturn(tms);
+        Mockito.when(data.getDouble()).thenReturn(dblVal);
+        Mockito.when(data.getOverrunBitSet()).thenReturn(bitsOverrun);
+
+        return data;
+    }
+
+    /**
+     * <p>
+     * Waits for the bridge to complete the given number of frame transmissions.
+     * </p>
+     *
+     * @param bridge    bridge under test
+     * @param cntFrames expected frame count
+     *
+     * @return  <code>true</code> if the frame count was reached within the timeout
+     *
+     * @throws InterruptedException interrupted while waiting
+     */
+    private static boolean  awaitFrameCount(EpicsIngestionBridge bridge, long cntFrames) throws InterruptedException {
+        long    lngDeadline = System.currentTimeMillis() + LNG_TIMEOUT_MS;
+
+        while (bridge.getFrameCount() < cntFrames) {
+            if (System.currentTimeMillis() > lngDeadline)
+                return false;
+
+            Thread.sleep(5);
+        }
+
+        return true;
+    }
+
+
+    //
+    // Support Classes
+    //
+
+    /**
+     * <p>
+     * Ingestion stream stub capturing all ingested frames, optionally refusing them.
+     * </p>
+     */
+    private static class StubIngestionStream implements IIngestionStream {
+
+        /** All ingested frames in order of arrival */
+        private final List<IngestionFrame>  lstFrames = new ArrayList<>();
+
+        /** Number of ingest() invocations */
+        private int                         cntBatches = 0;
+
+        /** Refuse all frames */
+        private volatile boolean            bolFailing = false;
+
+
+        void setFailing(boolean bolFailing) {
+            this.bolFailing = bolFailing;
+        }
+
+        synchronized List<IngestionFrame>   getFrames() {
+            return List.copyOf(this.lstFrames);
+        }
+
+        synchronized int    getBatchCount() {
+            return this.cntBatches;
+        }
+
+        @Override
+        public ProviderUID openStream(ProviderRegistrar recRegistration) throws DpIngestionException {
+            return ProviderUID.from("1", recRegistration.name(), true);
+        }
+
+        @Override
+        public void ingest(IngestionFrame frame) throws IllegalStateException, InterruptedException, DpIngestionException {
+            this.ingest(List.of(frame));
+        }
+
+        @Override
+        public synchronized void ingest(List<IngestionFrame> lstFrames) throws IllegalStateException, InterruptedException, DpIngestionException {
+            if (this.bolFailing)
+                throw new DpIngestionException("Stub ingestion stream refused frames.");
+
+            this.cntBatches++;
+            this.lstFrames.addAll(lstFrames);
+        }
+
+        @Override
+        public void awaitQueueReady() {
+        }
+
+        @Override
+        public void awaitQueueEmpty() {
+        }
+
+        @Override
+        public IngestionResult closeStream() {
+            return null;
+        }
+
+        @Override
+        public IngestionResult closeStreamNow() {
+            return null;
+        }
+
+        @Override
+        public List<IngestRequestUID> getRequestIds() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isStreamOpen() {
+            return true;
+        }
+
+        @Override
+        public boolean shutdown() {
+            return true;
+        }
+
+        @Override
+        public boolean shutdownNow() {
+            return true;
+        }
+
+        @Override
+        public boolean awaitTermination(long cntTimeout, TimeUnit tuTimeout) {
+            return true;
+        }
+
+        @Override
+        public boolean awaitTermination() {
+            return true;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+    }
+}
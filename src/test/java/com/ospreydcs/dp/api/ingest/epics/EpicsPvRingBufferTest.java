@@ -0,0 +1,173 @@
+/*
+ * Project: dp-api-common
+ * File:	EpicsPvRingBufferTest.java
+ * Package: com.ospreydcs.dp.api.ingest.epics
+ * Type: 	EpicsPvRingBufferTest
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest.epics;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.ingest.IngestionFrame;
+import com.ospreydcs.dp.api.ingest.IngestionFrameBuilder;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>EpicsPvRingBuffer</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class EpicsPvRingBufferTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Test PV name */
+    public static final String  STR_PV_NAME = "TEST:PV:01";
+
+    /** Test buffer capacity */
+    public static final int     CNT_CAPACITY = 8;
+
+    /** Sample period (nanoseconds) */
+    public static final long    LNG_PERIOD_NS = 1_000_000L;
+
+    /** Time of first sample (epoch nanoseconds) */
+    public static final long    LNG_START_NS = 1_700_000_000_000_000_000L;
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsPvRingBuffer#offer(long, double)}.
+     */
+    @Test
+    public final void testOfferWithinCapacity() {
+        EpicsPvRingBuffer   buf = EpicsPvRingBuffer.create(STR_PV_NAME, CNT_CAPACITY);
+
+        for (int i=0; i<CNT_CAPACITY; i++)
+            Assert.assertTrue(buf.offer(LNG_START_NS + i*LNG_PERIOD_NS, i));
+
+        Assert.assertEquals(CNT_CAPACITY, buf.size());
+        Assert.assertEquals(CNT_CAPACITY, buf.getReceivedCount());
+        Assert.assertEquals(0, buf.getDroppedCount());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsPvRingBuffer#offer(long, double)}.
+     * <p>
+     * Overflow overwrites the oldest samples and counts them as dropped.
+     */
+    @Test
+    public final void testOverflow() {
+        EpicsPvRingBuffer   buf = EpicsPvRingBuffer.create(STR_PV_NAME, CNT_CAPACITY);
+        int                 cntOffered = CNT_CAPACITY + 3;
+
+        for (int i=0; i<cntOffered; i++)
+            buf.offer(LNG_START_NS + i*LNG_PERIOD_NS, i);
+
+        Assert.assertEquals(CNT_CAPACITY, buf.size());
+        Assert.assertEquals(cntOffered, buf.getReceivedCount());
+        Assert.assertEquals(3, buf.getDroppedCount());
+
+        // Remaining samples are the most recent, oldest first
+        IngestionFrameBuilder   bldr = IngestionFrameBuilder.create(STR_PV_NAME);
+        Assert.assertEquals(CNT_CAPACITY, buf.drainTo(bldr));
+        Assert.assertEquals(0, buf.size());
+
+        IngestionFrame          frame = bldr.build();
+        IDataColumn<Object>     col = frame.getDataColumns().get(0);
+
+        Assert.assertEquals(CNT_CAPACITY, frame.getRowCount());
+        Assert.assertEquals(3.0, (Double)col.getValue(0), 0.0);
+        Assert.assertEquals(cntOffered - 1.0, (Double)col.getValue(CNT_CAPACITY - 1), 0.0);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsPvRingBuffer#drainTo(IngestionFrameBuilder)}.
+     * <p>
+     * Draining after wrap-around preserves order and resets the buffer.
+     */
+    @Test
+    public final void testDrainWrapAround() {
+        EpicsPvRingBuffer       buf = EpicsPvRingBuffer.create(STR_PV_NAME, CNT_CAPACITY);
+        IngestionFrameBuilder   bldr = IngestionFrameBuilder.create(List.of(STR_PV_NAME), CNT_CAPACITY);
+
+        for (int i=0; i<5; i++)
+            buf.offer(LNG_START_NS + i*LNG_PERIOD_NS, i);
+        buf.drainTo(bldr);
+        bldr.clear();
+
+        for (int i=5; i<5 + CNT_CAPACITY; i++)
+            buf.offer(LNG_START_NS + i*LNG_PERIOD_NS, i);
+        Assert.assertEquals(0, buf.getDroppedCount());
+
+        Assert.assertEquals(CNT_CAPACITY, buf.drainTo(bldr));
+        Assert.assertEquals(5 + CNT_CAPACITY, buf.getDrainedCount());
+
+        IngestionFrame      frame = bldr.build();
+        IDataColumn<Object> col = frame.getDataColumns().get(0);
+
+        for (int i=0; i<CNT_CAPACITY; i++)
+            Assert.assertEquals(5.0 + i, (Double)col.getValue(i), 0.0);
+
+        // Uniform samples produce a sampling clock
+        Assert.assertTrue(frame.hasSamplingClock());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsPvRingBuffer#recordRejected()}
+     * and {@link com.ospreydcs.dp.api.ingest.epics.EpicsPvRingBuffer#recordOverrun()}.
+     */
+    @Test
+    public final void testAccounting() {
+        EpicsPvRingBuffer   buf = EpicsPvRingBuffer.create(STR_PV_NAME, CNT_CAPACITY);
+
+        buf.offer(LNG_START_NS, 1.0);
+        buf.recordRejected();
+        buf.recordOverrun();
+
+        Assert.assertEquals(2, buf.getReceivedCount());
+        Assert.assertEquals(1, buf.getRejectedCount());
+        Assert.assertEquals(1, buf.getOverrunCount());
+        Assert.assertEquals(1, buf.size());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.epics.EpicsPvRingBuffer#EpicsPvRingBuffer(String, int)}.
+     */
+    @Test(expected=IllegalArgumentException.class)
+    public final void testBadCapacity() {
+        EpicsPvRingBuffer.create(STR_PV_NAME, 0);
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * Project: dp-api-common
+ * File:	DpIngestionStreamImplSpoolTest.java
+ * Package: com.ospreydcs.dp.api.ingest.impl
+ * Type: 	DpIngestionStreamImplSpoolTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest.impl;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.IngestionResult;
+import com.ospreydcs.dp.api.common.ProviderRegistrar;
+import com.ospreydcs.dp.api.grpc.ingest.DpIngestionConnection;
+import com.ospreydcs.dp.api.ingest.IngestionFrame;
+import com.ospreydcs.dp.api.ingest.model.grpc.IngestionSpoolBuffer;
+import com.ospreydcs.dp.api.ingest.test.TestIngestionFrameGenerator;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest;
+import com.ospreydcs.dp.jal.tools.config.archive.JalTestArchiveConfig;
+import com.ospreydcs.dp.jal.tools.config.archive.JalTestArchivePvsConfig;
+import com.ospreydcs.dp.jal.tools.config.server.JalStandInServerConfig;
+import com.ospreydcs.dp.jal.tools.server.DpStandInServer;
+
+/**
+ * <p>
+ * JUnit test cases for <code>DpIngestionStreamImpl</code> with durable (spool) staging, using an in-process
+ * Data Platform stand-in server.
+ * </p>
+ * <p>
+ * Verifies that the spool staging buffer is attached to the Ingestion Service: messages are acknowledged
+ * by service responses, the service is marked unavailable when the server is lost, and the spool is
+ * replayed once the server returns.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class DpIngestionStreamImplSpoolTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Spool segment size used for testing */
+    public static final int         INT_SEGMENT_SIZE = 64_000;
+
+    /** Memory queue capacity used for testing */
+    public static final long        LNG_QUEUE_ALLOC = 10_000_000L;
+
+    /** Wait timeout for asynchronous conditions (seconds) */
+    public static final long        LNG_TIMEOUT = 15L;
+
+
+    //
+    // Test Resources
+    //
+
+    /** The Data Provider registration record used for testing */
+    public static final ProviderRegistrar   REC_PRVR_REG = ProviderRegistrar.from(DpIngestionStreamImplSpoolTest.class.getSimpleName());
+
+    /** Ingestion frame payload */
+    public static final List<IngestionFrame>    LST_FRAMES = TestIngestionFrameGenerator.createDoublesPayloadWithClock(10, 10, 100);
+
+
+    //
+    // Test Fixture
+    //
+
+    /** The stand-in Data Platform */
+    private DpStandInServer     server;
+
+    /** The spool directory for the current test case */
+    private Path                pathSpoolDir;
+
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        this.server = DpStandInServer.create(createArchiveConfig(), createServerConfig()).start();
+        this.pathSpoolDir = Files.createTempDirectory("dp-jal-spool-stream-test");
+    }
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @After
+    public void tearDown() throws Exception {
+        this.server.shutdown();
+
+        File[]  arrFiles = this.pathSpoolDir.toFile().listFiles();
+
+        if (arrFiles != null)
+            for (File file : arrFiles)
+                file.delete();
+
+        Files.deleteIfExists(this.pathSpoolDir);
+    }
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.impl.DpIngestionStreamImpl#closeStream()}.
+     * <p>
+     * All staged messages are acknowledged by the Ingestion Service responses, so no spool segments remain.
+     */
+    @Test
+    public final void testSpoolAcknowledgedByService() throws Exception {
+
+        IngestionSpoolBuffer    buffSpool = IngestionSpoolBuffer.create(this.pathSpoolDir, LNG_QUEUE_ALLOC, INT_SEGMENT_SIZE, 0L);
+        DpIngestionStreamImpl   istream = new DpIngestionStreamImpl(DpIngestionConnection.from(this.server.createChannel()), buffSpool);
+
+        try {
+            istream.openStream(REC_PRVR_REG);
+            istream.ingest(LST_FRAMES);
+
+            IngestionResult recResult = istream.closeStream();
+
+            Assert.assertNotNull(recResult);
+            Assert.assertTrue(buffSpool.isServiceAvailable());
+            Assert.assertEquals(0, buffSpool.getInFlightCount());
+            Assert.assertEquals(0, countSegmentFiles(this.pathSpoolDir));
+
+        } finally {
+            istream.shutdownNow();
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.impl.DpIngestionStreamImpl#openStream(ProviderRegistrar)}.
+     * <p>
+     * Losing the server terminates the gRPC data stream, which marks the Ingestion Service unavailable.
+     * Subsequent messages are spooled, and an orderly close returns without waiting for them, leaving
+     * the spool on disk.
+     */
+    @Test
+    public final void testServiceUnavailableOnServerLoss() throws Exception {
+
+        IngestionSpoolBuffer    buffSpool = IngestionSpoolBuffer.create(this.pathSpoolDir, LNG_QUEUE_ALLOC, INT_SEGMENT_SIZE, 0L);
+        DpIngestionStreamImpl   istream = new DpIngestionStreamImpl(DpIngestionConnection.from(this.server.createChannel()), buffSpool);
+
+        try {
+            istream.openStream(REC_PRVR_REG);
+            istream.ingest(LST_FRAMES);
+            istream.awaitQueueEmpty();
+            Assert.assertTrue(buffSpool.isServiceAvailable());
+
+            // Lose the server - the stream failure must be reported to the staging buffer
+            this.server.shutdown();
+
+            long    lngDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(LNG_TIMEOUT);
+            while (buffSpool.isServiceAvailable() && System.nanoTime() < lngDeadline)
+                Thread.sleep(10);
+
+            Assert.assertFalse(buffSpool.isServiceAvailable());
+
+            // Further ingestion goes to the spool
+            istream.ingest(LST_FRAMES);
+
+            lngDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(LNG_TIMEOUT);
+            while (buffSpool.getSpoolWriteCount() == 0 && System.nanoTime() < lngDeadline)
+                Thread.sleep(10);
+
+            Assert.assertTrue(buffSpool.getSpoolWriteCount() > 0);
+
+            istream.closeStream();
+            Assert.assertFalse(istream.isStreamOpen());
+            Assert.assertTrue(countSegmentFiles(this.pathSpoolDir) > 0);
+
+        } finally {
+            istream.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.impl.DpIngestionStreamImpl#openStream(ProviderRegistrar)}.
+     * <p>
+     * Messages ingested while the server is down are spooled.  Once the server is restarted the gRPC
+     * channel returns to ready, the failed stream is restarted, and every spooled message is acknowledged
+     * in the order it was offered, leaving no spool segments.
+     */
+    @Test
+    public final void testSpoolReplayedAfterServerRestart() throws Exception {
+
+        List<String>            lstOffered = Collections.synchronizedList(new ArrayList<>());
+        List<String>            lstAcked = Collections.synchronizedList(new ArrayList<>());
+        IngestionSpoolBuffer    buffSpool = new IngestionSpoolBuffer(this.pathSpoolDir, LNG_QUEUE_ALLOC, INT_SEGMENT_SIZE, 0L) {
+
+            @Override
+            synchronized
+            public void offer(List<IngestDataRequest> lstMsgRqsts) throws IllegalStateException, InterruptedException {
+                super.offer(lstMsgRqsts);
+                lstMsgRqsts.forEach(msg -> lstOffered.add(msg.getClientRequestId()));
+            }
+
+            @Override
+            public boolean acknowledge(String strClientRqstId) {
+                boolean bolAcked = super.acknowledge(strClientRqstId);
+
+                if (bolAcked)
+                    lstAcked.add(strClientRqstId);
+
+                return bolAcked;
+            }
+        };
+        DpIngestionStreamImpl   istream = new DpIngestionStreamImpl(DpIngestionConnection.from(this.server.createChannel()), buffSpool);
+
+        try {
+            // A single stream acknowledges in transmission order
+            istream.disableMultipleStreams();
+            istream.openStream(REC_PRVR_REG);
+            istream.ingest(LST_FRAMES);
+            istream.awaitQueueEmpty();
+            Assert.assertTrue(awaitCondition(() -> buffSpool.getInFlightCount() == 0));
+
+            // Lose the server and ingest into the spool
+            this.server.shutdown();
+            Assert.assertTrue(awaitCondition(() -> !buffSpool.isServiceAvailable()));
+
+            int     cntOfferedBefore = lstOffered.size();
+
+            istream.ingest(LST_FRAMES);
+            Assert.assertTrue(awaitCondition(() -> buffSpool.getSpoolWriteCount() >= LST_FRAMES.size()));
+
+            // Restart the server - the spool must be replayed within the session
+            this.server = DpStandInServer.create(createArchiveConfig(), createServerConfig()).start();
+            Assert.assertTrue(awaitCondition(buffSpool::isServiceAvailable));
+
+            IngestionResult recResult = istream.closeStream();
+
+            List<String>    lstSpooled = List.copyOf(lstOffered.subList(cntOfferedBefore, lstOffered.size()));
+            List<String>    lstReplayed = lstAcked.stream().filter(lstSpooled::contains).toList();
+
+            Assert.assertNotNull(recResult);
+            Assert.assertEquals(lstSpooled, lstReplayed);
+            Assert.assertEquals(0, buffSpool.getInFlightCount());
+            Assert.assertEquals(0, countSegmentFiles(this.pathSpoolDir));
+
+        } finally {
+            istream.shutdownNow();
+        }
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @param fncCondition  the awaited condition
+     *
+     * @return  <code>true</code> if the condition was met within <code>LNG_TIMEOUT</code> seconds
+     *
+     * @throws InterruptedException interrupted while waiting
+     */
+    private static boolean  awaitCondition(BooleanSupplier fncCondition) throws InterruptedException {
+        long    lngDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(LNG_TIMEOUT);
+
+        while (!fncCondition.getAsBoolean() && System.nanoTime() < lngDeadline)
+            Thread.sleep(10);
+
+        return fncCondition.getAsBoolean();
+    }
+
+    /**
+     * @param pathDir   spool directory
+     *
+     * @return  the number of spool segment files within the given directory
+     */
+    private static int  countSegmentFiles(Path pathDir) {
+        String[]    arrNames = pathDir.toFile().list((dir, name) -> name.endsWith(".seg"));
+
+        return (arrNames == null) ? 0 : arrNames.length;
+    }
+
+    /**
+     * @return  a small test archive configuration (the archive is not used for ingestion)
+     */
+    private static JalTestArchiveConfig createArchiveConfig() {
+        JalTestArchiveConfig    cfg = new JalTestArchiveConfig();
+
+        cfg.range = new JalTestArchiveConfig.SampleRange();
+        cfg.range.start = "2023-10-31T15:51:02.000+00:00";
+        cfg.range.end = "2023-10-31T15:51:02.999+00:00";
+
+        cfg.pvs = new JalTestArchivePvsConfig();
+        cfg.pvs.prefix = "dpTest_";
+        cfg.pvs.types = List.of(DpSupportedType.DOUBLE);
+        cfg.pvs.clock = new JalTestArchivePvsConfig.SampleClock();
+        cfg.pvs.clock.period = 1L;
+        cfg.pvs.clock.units = TimeUnit.MILLISECONDS;
+        cfg.pvs.count = new JalTestArchivePvsConfig.PvTmsCounts();
+        cfg.pvs.count.total = 2;
+        cfg.pvs.count.clocked = 2;
+        cfg.pvs.count.tmsList = 0;
+        cfg.pvs.indexes = new JalTestArchivePvsConfig.PvTmsIndexes();
+        cfg.pvs.indexes.clocked = 0;
+        cfg.pvs.indexes.tmsList = 2;
+
+        return cfg;
+    }
+
+    /**
+     * @return  an in-process stand-in server configuration without throttling
+     */
+    private static JalStandInServerConfig createServerConfig() {
+        JalStandInServerConfig  cfg = new JalStandInServerConfig();
+
+        cfg.name = "dp-stand-in-spool-test";
+        cfg.port = 0;
+        cfg.pageSize = 1;
+        cfg.bandwidth = 0L;
+        cfg.bucket = new JalStandInServerConfig.Period();
+        cfg.bucket.period = 1L;
+        cfg.bucket.units = TimeUnit.SECONDS;
+        cfg.latency = new JalStandInServerConfig.Period();
+        cfg.latency.period = 0L;
+        cfg.latency.units = TimeUnit.MILLISECONDS;
+
+        return cfg;
+    }
+}
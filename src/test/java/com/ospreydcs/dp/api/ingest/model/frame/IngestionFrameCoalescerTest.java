@@ -0,0 +1,232 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionFrameCoalescerTest.java
+ * Package: com.ospreydcs.dp.api.ingest.model.frame
+ * Type: 	IngestionFrameCoalescerTest
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest.model.frame;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.common.IngestRequestUID;
+import com.ospreydcs.dp.api.common.UniformSamplingClock;
+import com.ospreydcs.dp.api.ingest.IngestionFrame;
+import com.ospreydcs.dp.api.model.table.StaticDataColumn;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>IngestionFrameCoalescer</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class IngestionFrameCoalescerTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Start time of all test frames */
+    public static final Instant     INS_START = Instant.parse("2026-10-18T00:00:00.0Z");
+
+    /** Sampling period of all test frames - 10 Hz */
+    public static final Duration    DUR_PERIOD = Duration.ofMillis(100);
+
+    /** Number of rows in each test frame */
+    public static final int         CNT_ROWS = 10;
+
+    /** Target size used for coalescing - large enough to hold many test frames */
+    public static final long        SZ_TARGET = 100_000L;
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.frame.IngestionFrameCoalescer#add(IngestionFrame)}.
+     * <p>
+     * Frames sharing a sampling clock are merged into a single multi-column frame.
+     */
+    @Test
+    public final void testAddHorizontal() {
+
+        IngestionFrameCoalescer coalescer = IngestionFrameCoalescer.from(SZ_TARGET);
+
+        IngestionFrame      frmFirst = createFrame("PV_FIRST", INS_START);
+        IngestRequestUID    uidFirst = frmFirst.getClientRequestUid();
+        Assert.assertTrue(coalescer.add(frmFirst).isEmpty());
+
+        for (int iPv=1; iPv<5; iPv++)
+            Assert.assertTrue(coalescer.add(createFrame("PV_" + iPv, INS_START)).isEmpty());
+
+        Assert.assertEquals(1, coalescer.getPendingFrameCount());
+
+        List<IngestionFrame>    lstFrames = coalescer.removeAll();
+        Assert.assertEquals(1, lstFrames.size());
+
+        IngestionFrame  frame = lstFrames.get(0);
+        Assert.assertEquals(5, frame.getColumnCount());
+        Assert.assertEquals(uidFirst, frame.getClientRequestUid());
+        Assert.assertEquals(CNT_ROWS, frame.getRowCount());
+        Assert.assertEquals(5, coalescer.getInputFrameCount());
+        Assert.assertEquals(1, coalescer.getOutputFrameCount());
+        Assert.assertFalse(coalescer.hasPendingFrames());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.frame.IngestionFrameCoalescer#add(IngestionFrame)}.
+     * <p>
+     * Contiguous clocked frames for the same PV are concatenated.
+     */
+    @Test
+    public final void testAddVertical() {
+
+        IngestionFrameCoalescer coalescer = IngestionFrameCoalescer.from(SZ_TARGET);
+
+        Instant     insStart = INS_START;
+        for (int iFrm=0; iFrm<4; iFrm++) {
+            Assert.assertTrue(coalescer.add(createFrame("PV_0", insStart)).isEmpty());
+            insStart = insStart.plus(DUR_PERIOD.multipliedBy(CNT_ROWS));
+        }
+
+        List<IngestionFrame>    lstFrames = coalescer.removeAll();
+        Assert.assertEquals(1, lstFrames.size());
+
+        IngestionFrame          frame = lstFrames.get(0);
+        UniformSamplingClock    clock = frame.getSamplingClock();
+        Assert.assertEquals(4*CNT_ROWS, frame.getRowCount());
+        Assert.assertEquals(INS_START, clock.getStartInstant());
+        Assert.assertEquals(DUR_PERIOD, clock.getSamplePeriodDuration());
+        Assert.assertEquals(0.0, frame.getDataColumn("PV_0").getValue(CNT_ROWS));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.frame.IngestionFrameCoalescer#add(IngestionFrame)}.
+     * <p>
+     * Coalesced frames are released once the target size is reached.
+     */
+    @Test
+    public final void testAddTargetSize() {
+
+        long    szFrame = createFrame("PV_X", INS_START).allocationSizeFrame();
+
+        IngestionFrameCoalescer coalescer = IngestionFrameCoalescer.from(3*szFrame);
+
+        List<IngestionFrame>    lstReleased = new ArrayList<>();
+        for (int iPv=0; iPv<7; iPv++)
+            lstReleased.addAll(coalescer.add(createFrame("PV_" + iPv, INS_START)));
+
+        Assert.assertEquals(2, lstReleased.size());
+        lstReleased.forEach(frm -> Assert.assertTrue(frm.allocationSizeFrame() <= 3*szFrame));
+
+        lstReleased.addAll(coalescer.removeAll());
+        Assert.assertEquals(7, lstReleased.stream().mapToInt(IngestionFrame::getColumnCount).sum());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.frame.IngestionFrameCoalescer#add(IngestionFrame)}.
+     * <p>
+     * Oversized frames pass through, frames with duplicate columns or different properties are never merged.
+     */
+    @Test
+    public final void testAddPassThrough() {
+
+        IngestionFrame          frmBig = createFrame("PV_0", INS_START);
+        IngestionFrameCoalescer coalescer = IngestionFrameCoalescer.from(frmBig.allocationSizeFrame());
+
+        List<IngestionFrame>    lstFrames = coalescer.add(frmBig);
+        Assert.assertEquals(1, lstFrames.size());
+        Assert.assertSame(frmBig, lstFrames.get(0));
+
+        coalescer = IngestionFrameCoalescer.from(SZ_TARGET);
+
+        // Same clock, same PV - cannot be merged
+        coalescer.add(createFrame("PV_1", INS_START));
+        coalescer.add(createFrame("PV_1", INS_START));
+        Assert.assertEquals(2, coalescer.getPendingFrameCount());
+
+        // Different frame labels - cannot be merged
+        IngestionFrame  frmLabel = createFrame("PV_2", INS_START);
+        frmLabel.setFrameLabel("label");
+        coalescer.add(frmLabel);
+        Assert.assertEquals(3, coalescer.getPendingFrameCount());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.frame.IngestionFrameCoalescer#removeExpired(long)}.
+     */
+    @Test
+    public final void testRemoveExpired() {
+
+        IngestionFrameCoalescer coalescer = IngestionFrameCoalescer.from(SZ_TARGET);
+        coalescer.add(createFrame("PV_0", INS_START));
+
+        Assert.assertTrue(coalescer.removeExpired(Duration.ofHours(1).toNanos()).isEmpty());
+        Assert.assertEquals(1, coalescer.getPendingFrameCount());
+
+        List<IngestionFrame>    lstFrames = coalescer.removeExpired(0L);
+        Assert.assertEquals(1, lstFrames.size());
+        Assert.assertEquals(Set.of("PV_0"), lstFrames.get(0).getColumnNames());
+        Assert.assertFalse(coalescer.hasPendingFrames());
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * Creates a single-column, clocked ingestion frame with values 0, 1, ..., CNT_ROWS-1.
+     *
+     * @param strPvName column name
+     * @param insStart  start time of the sampling clock
+     *
+     * @return  new ingestion frame
+     */
+    private static IngestionFrame createFrame(String strPvName, Instant insStart) {
+
+        ArrayList<Object>   vecVals = new ArrayList<>(CNT_ROWS);
+        for (int iRow=0; iRow<CNT_ROWS; iRow++)
+            vecVals.add(Double.valueOf(iRow));
+
+        ArrayList<IDataColumn<Object>>  vecCols = new ArrayList<>(1);
+        vecCols.add(StaticDataColumn.from(strPvName, DpSupportedType.DOUBLE, vecVals));
+
+        UniformSamplingClock    clock = UniformSamplingClock.from(insStart, CNT_ROWS, DUR_PERIOD);
+
+        return IngestionFrame.from(clock, vecCols);
+    }
+}
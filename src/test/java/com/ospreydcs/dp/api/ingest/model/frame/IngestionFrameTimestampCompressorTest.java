@@ -0,0 +1,268 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionFrameTimestampCompressorTest.java
+ * Package: com.ospreydcs.dp.api.ingest.model.frame
+ * Type: 	IngestionFrameTimestampCompressorTest
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest.model.frame;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.ingest.IngestionFrame;
+import com.ospreydcs.dp.api.model.table.DoubleArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.StaticDataColumn;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>IngestionFrameTimestampCompressor</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class IngestionFrameTimestampCompressorTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Start time of all test frames */
+    public static final Instant     INS_START = Instant.parse("2026-10-18T00:00:00.0Z");
+
+    /** Sampling period of all test frames */
+    public static final Duration    DUR_PERIOD = Duration.ofMillis(1);
+
+    /** Minimum segment length used for testing */
+    public static final int         CNT_MIN_SEGMENT = 4;
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.frame.IngestionFrameTimestampCompressor#compress(IngestionFrame)}.
+     * <p>
+     * A uniform timestamp list becomes a single clocked frame.
+     */
+    @Test
+    public final void testCompressUniform() {
+
+        IngestionFrameTimestampCompressor   prcr = IngestionFrameTimestampCompressor.from(Duration.ZERO, CNT_MIN_SEGMENT);
+
+        IngestionFrame          frame = createFrame(createTimestamps(INS_START, 100, DUR_PERIOD));
+        List<IngestionFrame>    lstFrames = prcr.compress(frame);
+
+        Assert.assertEquals(1, lstFrames.size());
+
+        IngestionFrame  frmCmp = lstFrames.get(0);
+        Assert.assertTrue(frmCmp.hasSamplingClock());
+        Assert.assertFalse(frmCmp.hasTimestampList());
+        Assert.assertEquals(frame.getTimestampList(), frmCmp.getSamplingClock().createTimestamps());
+        Assert.assertEquals(frame.getDataColumn(0).getValues(), frmCmp.getDataColumn(0).getValues());
+        Assert.assertEquals(frame.getClientRequestUid(), frmCmp.getClientRequestUid());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.frame.IngestionFrameTimestampCompressor#compress(IngestionFrame)}.
+     * <p>
+     * A piecewise uniform timestamp list is split at the discontinuity.
+     */
+    @Test
+    public final void testCompressPiecewise() {
+
+        IngestionFrameTimestampCompressor   prcr = IngestionFrameTimestampCompressor.from(Duration.ZERO, CNT_MIN_SEGMENT);
+
+        ArrayList<Instant>  vecTms = createTimestamps(INS_START, 50, DUR_PERIOD);
+        vecTms.addAll(createTimestamps(INS_START.plusSeconds(10), 30, DUR_PERIOD.multipliedBy(2)));
+
+        IngestionFrame          frame = createFrame(vecTms);
+        List<IngestionFrame>    lstFrames = prcr.compress(frame);
+
+        Assert.assertEquals(2, lstFrames.size());
+        Assert.assertEquals(50, lstFrames.get(0).getRowCount());
+        Assert.assertEquals(30, lstFrames.get(1).getRowCount());
+        Assert.assertTrue(lstFrames.stream().allMatch(IngestionFrame::hasSamplingClock));
+        Assert.assertEquals(DUR_PERIOD.multipliedBy(2), lstFrames.get(1).getSamplingClock().getSamplePeriodDuration());
+        Assert.assertNotEquals(lstFrames.get(0).getClientRequestUid(), lstFrames.get(1).getClientRequestUid());
+
+        List<Instant>   lstTmsCmp = new ArrayList<>(vecTms.size());
+        lstFrames.forEach(frm -> lstTmsCmp.addAll(frm.getSamplingClock().createTimestamps()));
+        Assert.assertEquals(vecTms, lstTmsCmp);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.frame.IngestionFrameTimestampCompressor#compress(IngestionFrame)}.
+     * <p>
+     * Timestamp jitter within tolerance is compressed, short irregular runs retain a timestamp list.
+     */
+    @Test
+    public final void testCompressTolerance() {
+
+        ArrayList<Instant>  vecTms = createTimestamps(INS_START, 20, DUR_PERIOD);
+        vecTms.set(7, vecTms.get(7).plusNanos(500));
+
+        // Lossless - the jitter splits the list
+        IngestionFrameTimestampCompressor   prcrExact = IngestionFrameTimestampCompressor.from(Duration.ZERO, CNT_MIN_SEGMENT);
+        List<IngestionFrame>                lstExact = prcrExact.compress(createFrame(vecTms));
+
+        Assert.assertEquals(3, lstExact.size());
+        Assert.assertTrue(lstExact.get(1).hasTimestampList());
+        Assert.assertEquals(20, lstExact.stream().mapToInt(IngestionFrame::getRowCount).sum());
+
+        // Tolerant - the jitter is absorbed
+        IngestionFrameTimestampCompressor   prcrTol = IngestionFrameTimestampCompressor.from(Duration.ofNanos(1000), CNT_MIN_SEGMENT);
+        List<IngestionFrame>                lstTol = prcrTol.compress(createFrame(vecTms));
+
+        Assert.assertEquals(1, lstTol.size());
+        Assert.assertTrue(lstTol.get(0).hasSamplingClock());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.frame.IngestionFrameTimestampCompressor#compress(IngestionFrame)}.
+     * <p>
+     * Jitter of the first interval does not accumulate along the sequence, the clock takes the common period.
+     */
+    @Test
+    public final void testCompressJitterFirstInterval() {
+
+        ArrayList<Instant>  vecTms = createTimestamps(INS_START, 100, DUR_PERIOD);
+        vecTms.set(1, vecTms.get(1).plusNanos(400));
+
+        IngestionFrameTimestampCompressor   prcr = IngestionFrameTimestampCompressor.from(Duration.ofNanos(500), CNT_MIN_SEGMENT);
+        List<IngestionFrame>                lstFrames = prcr.compress(createFrame(vecTms));
+
+        Assert.assertEquals(1, lstFrames.size());
+        Assert.assertTrue(lstFrames.get(0).hasSamplingClock());
+        Assert.assertEquals(DUR_PERIOD, lstFrames.get(0).getSamplingClock().getSamplePeriodDuration());
+        Assert.assertEquals(100, lstFrames.get(0).getRowCount());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.frame.IngestionFrameTimestampCompressor#compress(IngestionFrame)}.
+     * <p>
+     * Primitive columns are sliced into primitive columns and the source backing array is recycled.
+     */
+    @Test
+    public final void testCompressPrimitiveColumns() {
+
+        ArrayList<Instant>  vecTms = createTimestamps(INS_START, 10, DUR_PERIOD);
+        vecTms.addAll(createTimestamps(INS_START.plusSeconds(1), 10, DUR_PERIOD));
+
+        double[]    arrVals = new double[vecTms.size()];
+        for (int i=0; i<arrVals.length; i++)
+            arrVals[i] = i;
+
+        List<double[]>                  lstRecycled = new ArrayList<>();
+        ArrayList<IDataColumn<Object>>  vecCols = new ArrayList<>(1);
+        vecCols.add(DoubleArrayDataColumn.from("PV_0", arrVals, arrVals.length, lstRecycled::add));
+
+        IngestionFrameTimestampCompressor   prcr = IngestionFrameTimestampCompressor.from(Duration.ZERO, CNT_MIN_SEGMENT);
+        List<IngestionFrame>                lstFrames = prcr.compress(IngestionFrame.from(vecTms, vecCols));
+
+        Assert.assertEquals(2, lstFrames.size());
+        for (int iFrm=0; iFrm<lstFrames.size(); iFrm++) {
+            IDataColumn<Object> col = lstFrames.get(iFrm).getDataColumn(0);
+
+            Assert.assertTrue(col instanceof DoubleArrayDataColumn);
+            Assert.assertEquals(10, col.getSize().intValue());
+            Assert.assertEquals(10.0 * iFrm, ((DoubleArrayDataColumn)col).getDouble(0), 0.0);
+        }
+
+        Assert.assertEquals(1, lstRecycled.size());
+        Assert.assertSame(arrVals, lstRecycled.get(0));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.frame.IngestionFrameTimestampCompressor#compress(IngestionFrame)}.
+     * <p>
+     * Frames that cannot be compressed are returned unmodified.
+     */
+    @Test
+    public final void testCompressNone() {
+
+        IngestionFrameTimestampCompressor   prcr = IngestionFrameTimestampCompressor.from(Duration.ZERO, CNT_MIN_SEGMENT);
+
+        ArrayList<Instant>  vecTms = new ArrayList<>();
+        for (int i=0; i<10; i++)
+            vecTms.add(INS_START.plusMillis(i*i));
+
+        IngestionFrame          frame = createFrame(vecTms);
+        List<IngestionFrame>    lstFrames = prcr.compress(frame);
+
+        Assert.assertEquals(1, lstFrames.size());
+        Assert.assertSame(frame, lstFrames.get(0));
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * Creates a list of uniform timestamps.
+     *
+     * @param insStart  first timestamp
+     * @param cntTms    number of timestamps
+     * @param durPeriod timestamp spacing
+     *
+     * @return  new, ordered list of uniformly distributed timestamps
+     */
+    private static ArrayList<Instant> createTimestamps(Instant insStart, int cntTms, Duration durPeriod) {
+
+        ArrayList<Instant>  vecTms = new ArrayList<>(cntTms);
+        for (int i=0; i<cntTms; i++)
+            vecTms.add(insStart.plus(durPeriod.multipliedBy(i)));
+
+        return vecTms;
+    }
+
+    /**
+     * Creates a single-column ingestion frame with the given timestamp list.
+     *
+     * @param vecTms    frame timestamps
+     *
+     * @return  new ingestion frame
+     */
+    private static IngestionFrame createFrame(ArrayList<Instant> vecTms) {
+
+        ArrayList<Object>   vecVals = new ArrayList<>(vecTms.size());
+        for (int iRow=0; iRow<vecTms.size(); iRow++)
+            vecVals.add(Double.valueOf(iRow));
+
+        ArrayList<IDataColumn<Object>>  vecCols = new ArrayList<>(1);
+        vecCols.add(StaticDataColumn.from("PV_0", DpSupportedType.DOUBLE, vecVals));
+
+        return IngestionFrame.from(new ArrayList<>(vecTms), vecCols);
+    }
+}
@@ -0,0 +1,410 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionSpoolBufferTest.java
+ * Package: com.ospreydcs.dp.api.ingest.model.grpc
+ * Type: 	IngestionSpoolBufferTest
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest.model.grpc;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.ingest.test.TestIngestDataRequestGenerator;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>IngestionSpoolBuffer</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class IngestionSpoolBufferTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Spool segment size used for testing - small to force multiple segments */
+    public static final int         INT_SEGMENT_SIZE = 64_000;
+
+
+    //
+    // Test Resources
+    //
+
+    /** Collection of data request messages available as payload for all tests */
+    private static final List<IngestDataRequest>    LST_MSGS_RQST = TestIngestDataRequestGenerator.createDoublesMessagesWithClock();
+
+    /** The number of messages within the test message payload */
+    private static final int                        CNT_PAYLOAD = LST_MSGS_RQST.size();
+
+    /** The total memory allocation of the test message payload */
+    private static final long                       SZ_PAYLOAD_ALLOC = LST_MSGS_RQST.stream().mapToLong(msg -> msg.getSerializedSize()).sum();
+
+
+    //
+    // Test Fixture
+    //
+
+    /** The spool directory for the current test case */
+    private Path    pathSpoolDir;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        this.pathSpoolDir = Files.createTempDirectory("dp-jal-spool-test");
+    }
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @After
+    public void tearDown() throws Exception {
+        File[]  arrFiles = this.pathSpoolDir.toFile().listFiles();
+
+        if (arrFiles != null)
+            for (File file : arrFiles)
+                file.delete();
+
+        Files.deleteIfExists(this.pathSpoolDir);
+    }
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.grpc.IngestionSpoolBuffer#activate()}.
+     */
+    @Test
+    public final void testActivate() {
+
+        IngestionSpoolBuffer    buffer = IngestionSpoolBuffer.create(this.pathSpoolDir, SZ_PAYLOAD_ALLOC, INT_SEGMENT_SIZE, 0L);
+        Assert.assertFalse(buffer.isSupplying());
+
+        buffer.activate();
+        Assert.assertTrue(buffer.isSupplying());
+        Assert.assertEquals(0, buffer.getQueueSize());
+        Assert.assertEquals(0, buffer.getSpoolSize());
+
+        buffer.shutdownNow();
+        Assert.assertFalse(buffer.isSupplying());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.grpc.IngestionSpoolBuffer#offer(List)}.
+     * <p>
+     * Memory capacity is half the payload - the remaining messages must be spooled and supplied in order.
+     */
+    @Test
+    public final void testOfferSpoolOverflow() {
+
+        final long  szCapacity = SZ_PAYLOAD_ALLOC/2;
+
+        IngestionSpoolBuffer    buffer = IngestionSpoolBuffer.create(this.pathSpoolDir, szCapacity, INT_SEGMENT_SIZE, 0L);
+        buffer.activate();
+
+        try {
+            for (IngestDataRequest msgRqst : LST_MSGS_RQST)
+                buffer.offer(msgRqst);
+
+            Assert.assertEquals(CNT_PAYLOAD, buffer.getQueueSize());
+            Assert.assertTrue(buffer.getSpoolSize() > 0);
+            Assert.assertTrue(buffer.getQueueAllocation() < szCapacity);
+
+            List<IngestDataRequest>     lstRcvd = new ArrayList<>(CNT_PAYLOAD);
+            while (lstRcvd.size() < CNT_PAYLOAD)
+                lstRcvd.add(buffer.take());
+
+            Assert.assertEquals(LST_MSGS_RQST, lstRcvd);
+            Assert.assertEquals(0, buffer.getQueueSize());
+            Assert.assertEquals(0, buffer.getSpoolSize());
+            Assert.assertEquals(CNT_PAYLOAD, buffer.getInFlightCount());
+            Assert.assertTrue(buffer.getSpoolSegmentCount() > 0);   // segments are retained until acknowledged
+
+            for (IngestDataRequest msgRqst : lstRcvd)
+                Assert.assertTrue(buffer.acknowledge(msgRqst.getClientRequestId()));
+
+            Assert.assertEquals(0, buffer.getInFlightCount());
+            Assert.assertEquals(0, buffer.getSpoolSegmentCount());
+            Assert.assertEquals(0, countSegmentFiles(this.pathSpoolDir));
+
+            Assert.assertTrue(buffer.shutdown());
+            Assert.assertFalse(buffer.isSupplying());
+
+        } catch (IllegalStateException | InterruptedException e) {
+            Assert.fail("Exception thrown during spool overflow: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.grpc.IngestionSpoolBuffer#setServiceAvailable(boolean)}.
+     */
+    @Test
+    public final void testServiceUnavailable() {
+
+        IngestionSpoolBuffer    buffer = IngestionSpoolBuffer.create(this.pathSpoolDir, 2*SZ_PAYLOAD_ALLOC, INT_SEGMENT_SIZE, 0L);
+        buffer.activate();
+        buffer.setServiceAvailable(false);
+
+        try {
+            buffer.offer(LST_MSGS_RQST);
+
+            Assert.assertEquals(CNT_PAYLOAD, buffer.getSpoolSize());
+            Assert.assertEquals(SZ_PAYLOAD_ALLOC, buffer.getSpoolAllocation());
+            Assert.assertEquals(0, buffer.getQueueAllocation());
+
+            buffer.setServiceAvailable(true);
+
+            for (IngestDataRequest msgRqst : LST_MSGS_RQST)
+                Assert.assertEquals(msgRqst, buffer.poll());
+
+            Assert.assertNull(buffer.poll());
+            buffer.shutdownNow();
+
+        } catch (IllegalStateException | InterruptedException e) {
+            Assert.fail("Exception thrown with unavailable service: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.grpc.IngestionSpoolBuffer#shutdown()}.
+     * <p>
+     * With the service unavailable nothing drains the buffer, so an orderly shutdown returns immediately and
+     * leaves the spool on disk, including the unacknowledged in-flight message, for the next activation.
+     */
+    @Test
+    public final void testShutdownServiceUnavailable() {
+
+        IngestionSpoolBuffer    buffer1 = IngestionSpoolBuffer.create(this.pathSpoolDir, SZ_PAYLOAD_ALLOC, INT_SEGMENT_SIZE, 0L);
+        buffer1.activate();
+        buffer1.setServiceAvailable(false);
+
+        try {
+            buffer1.offer(LST_MSGS_RQST);
+            Assert.assertEquals(LST_MSGS_RQST.get(0), buffer1.take());
+
+            Assert.assertTrue(buffer1.shutdown());
+            Assert.assertFalse(buffer1.isSupplying());
+            Assert.assertTrue(countSegmentFiles(this.pathSpoolDir) > 0);
+
+            // All messages are recovered in order
+            IngestionSpoolBuffer    buffer2 = IngestionSpoolBuffer.create(this.pathSpoolDir, SZ_PAYLOAD_ALLOC, INT_SEGMENT_SIZE, 0L);
+            buffer2.activate();
+            Assert.assertEquals(CNT_PAYLOAD, buffer2.getSpoolSize());
+
+            for (IngestDataRequest msgRqst : LST_MSGS_RQST) {
+                Assert.assertEquals(msgRqst, buffer2.take());
+                Assert.assertTrue(buffer2.acknowledge(msgRqst.getClientRequestId()));
+            }
+
+            Assert.assertTrue(buffer2.shutdown());
+            Assert.assertEquals(0, countSegmentFiles(this.pathSpoolDir));
+
+        } catch (IllegalStateException | InterruptedException e) {
+            Assert.fail("Exception thrown during shutdown with unavailable service: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.grpc.IngestionSpoolBuffer#requeueInFlight()}.
+     * <p>
+     * Unacknowledged messages supplied from both the memory queue and the spool are returned to the head of
+     * the spool and supplied again, in order, before all other messages.
+     */
+    @Test
+    public final void testRequeueInFlight() {
+
+        final long  szCapacity = SZ_PAYLOAD_ALLOC/2;
+        final int   cntRead = CNT_PAYLOAD - 1;
+
+        IngestionSpoolBuffer    buffer = IngestionSpoolBuffer.create(this.pathSpoolDir, szCapacity, INT_SEGMENT_SIZE, 0L);
+        buffer.activate();
+
+        try {
+            for (IngestDataRequest msgRqst : LST_MSGS_RQST)
+                buffer.offer(msgRqst);
+
+            Assert.assertTrue(buffer.getSpoolWriteCount() > 0);
+
+            // Consume all but the last message, acknowledging only the first
+            for (int i=0; i<cntRead; i++)
+                Assert.assertEquals(LST_MSGS_RQST.get(i), buffer.take());
+
+            Assert.assertTrue(buffer.acknowledge(LST_MSGS_RQST.get(0).getClientRequestId()));
+            Assert.assertEquals(cntRead - 1, buffer.requeueInFlight());
+            Assert.assertEquals(0, buffer.getInFlightCount());
+            Assert.assertEquals(CNT_PAYLOAD - 1, buffer.getSpoolSize());
+
+            // Acknowledgments of the requeued messages are no longer pending
+            Assert.assertFalse(buffer.acknowledge(LST_MSGS_RQST.get(1).getClientRequestId()));
+
+            for (IngestDataRequest msgRqst : LST_MSGS_RQST.subList(1, CNT_PAYLOAD)) {
+                Assert.assertEquals(msgRqst, buffer.take());
+                Assert.assertTrue(buffer.acknowledge(msgRqst.getClientRequestId()));
+            }
+
+            Assert.assertNull(buffer.poll());
+            Assert.assertTrue(buffer.shutdown());
+            Assert.assertEquals(0, countSegmentFiles(this.pathSpoolDir));
+
+        } catch (IllegalStateException | InterruptedException e) {
+            Assert.fail("Exception thrown during in-flight requeue: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.grpc.IngestionSpoolBuffer#shutdownNow()}.
+     * <p>
+     * Messages remaining at hard shutdown, including those consumed but not acknowledged, are recovered
+     * in order by a new buffer using the same spool directory.
+     */
+    @Test
+    public final void testShutdownNowRecovery() {
+
+        final long  szCapacity = SZ_PAYLOAD_ALLOC/2;
+
+        IngestionSpoolBuffer    buffer1 = IngestionSpoolBuffer.create(this.pathSpoolDir, szCapacity, INT_SEGMENT_SIZE, 0L);
+        buffer1.activate();
+
+        try {
+            for (IngestDataRequest msgRqst : LST_MSGS_RQST)
+                buffer1.offer(msgRqst);
+
+            // Consume two messages, acknowledge only the first, then hard shutdown
+            Assert.assertEquals(LST_MSGS_RQST.get(0), buffer1.take());
+            Assert.assertEquals(LST_MSGS_RQST.get(1), buffer1.take());
+            Assert.assertTrue(buffer1.acknowledge(LST_MSGS_RQST.get(0).getClientRequestId()));
+            buffer1.shutdownNow();
+            Assert.assertFalse(buffer1.isSupplying());
+
+            // Recover the remaining messages - the unacknowledged message comes first
+            IngestionSpoolBuffer    buffer2 = IngestionSpoolBuffer.create(this.pathSpoolDir, szCapacity, INT_SEGMENT_SIZE, 0L);
+            buffer2.activate();
+            Assert.assertEquals(CNT_PAYLOAD - 1, buffer2.getSpoolSize());
+
+            for (IngestDataRequest msgRqst : LST_MSGS_RQST.subList(1, CNT_PAYLOAD)) {
+                Assert.assertEquals(msgRqst, buffer2.take());
+                buffer2.acknowledge(msgRqst.getClientRequestId());
+            }
+
+            Assert.assertTrue(buffer2.shutdown());
+            Assert.assertEquals(0, countSegmentFiles(this.pathSpoolDir));
+
+        } catch (IllegalStateException | InterruptedException e) {
+            Assert.fail("Exception thrown during spool recovery: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.grpc.IngestionSpoolBuffer#acknowledge(String)}.
+     * <p>
+     * The consumer is killed part way through the replay of a recovered spool.  Only the acknowledged messages
+     * are retired, all messages supplied but unacknowledged are replayed by the next buffer.  Segments contain
+     * many records so the checkpoint is advanced within segments.
+     */
+    @Test
+    public final void testConsumerKilledMidReplay() {
+
+        // Small messages - many records per segment
+        final List<IngestDataRequest>   lstMsgs = TestIngestDataRequestGenerator.createDoublesMessagesWithClock(40, 10, 10);
+        final int   cntMsgs = lstMsgs.size();
+        final long  szAlloc = lstMsgs.stream().mapToLong(msg -> msg.getSerializedSize()).sum();
+
+        final int   cntRead = cntMsgs/2;
+        final int   cntAcked = cntMsgs/4;
+
+        try {
+            // Spool the entire payload
+            IngestionSpoolBuffer    buffer1 = IngestionSpoolBuffer.create(this.pathSpoolDir, szAlloc, INT_SEGMENT_SIZE, 0L);
+            buffer1.activate();
+            buffer1.setServiceAvailable(false);
+            buffer1.offer(lstMsgs);
+            Assert.assertEquals(cntMsgs, buffer1.getSpoolSize());
+            buffer1.shutdownNow();
+
+            // Replay part of the spool, acknowledging only some messages, then kill the consumer
+            IngestionSpoolBuffer    buffer2 = IngestionSpoolBuffer.create(this.pathSpoolDir, szAlloc, INT_SEGMENT_SIZE, 0L);
+            buffer2.activate();
+            Assert.assertEquals(cntMsgs, buffer2.getSpoolSize());
+
+            for (int i=0; i<cntRead; i++)
+                Assert.assertEquals(lstMsgs.get(i), buffer2.take());
+
+            for (int i=0; i<cntAcked; i++)
+                Assert.assertTrue(buffer2.acknowledge(lstMsgs.get(i).getClientRequestId()));
+
+            Assert.assertEquals(cntRead - cntAcked, buffer2.getInFlightCount());
+            buffer2.shutdownNow();
+
+            // All unacknowledged messages are replayed, in order
+            IngestionSpoolBuffer    buffer3 = IngestionSpoolBuffer.create(this.pathSpoolDir, szAlloc, INT_SEGMENT_SIZE, 0L);
+            buffer3.activate();
+            Assert.assertEquals(cntMsgs - cntAcked, buffer3.getSpoolSize());
+
+            for (IngestDataRequest msgRqst : lstMsgs.subList(cntAcked, cntMsgs)) {
+                Assert.assertEquals(msgRqst, buffer3.take());
+                Assert.assertTrue(buffer3.acknowledge(msgRqst.getClientRequestId()));
+            }
+
+            Assert.assertNull(buffer3.poll());
+            Assert.assertTrue(buffer3.shutdown());
+            Assert.assertEquals(0, countSegmentFiles(this.pathSpoolDir));
+
+        } catch (IllegalStateException | InterruptedException e) {
+            Assert.fail("Exception thrown during spool replay: " + e.getMessage());
+        }
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @param pathDir   spool directory
+     *
+     * @return  the number of spool segment files within the given directory
+     */
+    private static int  countSegmentFiles(Path pathDir) {
+        String[]    arrNames = pathDir.toFile().list((dir, name) -> name.endsWith(".seg"));
+
+        return (arrNames == null) ? 0 : arrNames.length;
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionStreamStatisticsTest.java
+ * Package: com.ospreydcs.dp.api.ingest.model.grpc
+ * Type: 	IngestionStreamStatisticsTest
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.ingest.model.grpc;
+
+import java.time.Instant;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.common.DpGrpcStreamType;
+import com.ospreydcs.dp.api.common.IngestRequestUID;
+import com.ospreydcs.dp.api.common.IngestionResult;
+import com.ospreydcs.dp.api.grpc.util.ProtoMsg;
+import com.ospreydcs.dp.api.util.LongHistogram;
+import com.ospreydcs.dp.grpc.v1.common.ExceptionalResult;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataResponse;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataStreamResponse;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>IngestionStreamStatistics</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class IngestionStreamStatisticsTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Time of the first response */
+    public static final Instant     INS_START = Instant.parse("2026-10-18T00:00:00.0Z");
+
+    /** Number of recent records retained */
+    public static final int         CNT_RECENT = 10;
+
+    /** Number of rejected records retained */
+    public static final int         CNT_MAX_REJECTS = 5;
+
+    /** Number of requests in the long-running test stream */
+    public static final int         CNT_REQUESTS = 1_000;
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.grpc.IngestionStreamStatistics#toIngestionResult()}.
+     * <p>
+     * Bidirectional stream - counts are complete, retained records are bounded.
+     */
+    @Test
+    public final void testBidiBounded() {
+
+        IngestionStreamStatistics   stats = IngestionStreamStatistics.create(DpGrpcStreamType.BIDIRECTIONAL, CNT_RECENT, CNT_MAX_REJECTS);
+        Assert.assertSame(IngestionResult.NULL, stats.toIngestionResult());
+
+        for (int iRqst=0; iRqst<CNT_REQUESTS; iRqst++) {
+            String  strRqstId = "RQST-" + iRqst;
+
+            stats.requestTransmitted(IngestDataRequest.newBuilder().setClientRequestId(strRqstId).build());
+
+            // Every 10th request is rejected
+            if (iRqst % 10 == 0)
+                stats.responseReceived(createRejection(strRqstId, INS_START.plusMillis(iRqst)));
+            else
+                stats.responseReceived(createAcknowledgment(strRqstId, INS_START.plusMillis(iRqst)));
+        }
+
+        Assert.assertEquals(CNT_REQUESTS, stats.getRequestCount());
+        Assert.assertEquals(CNT_REQUESTS, stats.getResponseCount());
+        Assert.assertEquals(CNT_REQUESTS / 10, stats.getRejectedCount());
+        Assert.assertEquals(CNT_REQUESTS - CNT_REQUESTS/10, stats.getAcceptedCount());
+        Assert.assertEquals(0, stats.getInFlightCount());
+        Assert.assertEquals(CNT_REQUESTS, stats.getAckLatencyHistogram().getCount());
+        Assert.assertEquals(stats.getRequestBytes(), stats.getRequestSizeHistogram().getSum());
+
+        IngestionResult recResult = stats.toIngestionResult();
+        Assert.assertEquals(IngestionResult.Mode.BIDIRECTIONAL, recResult.mode());
+        Assert.assertEquals(CNT_REQUESTS, recResult.transmitRequestCount());
+        Assert.assertEquals(CNT_REQUESTS - CNT_REQUESTS/10, recResult.acceptedRequestCount());
+        Assert.assertEquals(INS_START, recResult.startTime());
+        Assert.assertEquals(INS_START.plusMillis(CNT_REQUESTS - 1), recResult.finalTime());
+        Assert.assertEquals(CNT_RECENT, recResult.transmitRequestIds().size());
+        Assert.assertEquals(IngestRequestUID.from("RQST-" + (CNT_REQUESTS - 1)), recResult.transmitRequestIds().get(CNT_RECENT - 1));
+        Assert.assertEquals(CNT_MAX_REJECTS, recResult.rejectedRequestIds().size());
+        Assert.assertEquals(IngestRequestUID.from("RQST-0"), recResult.rejectedRequestIds().get(0));
+        Assert.assertTrue(recResult.hasException());
+        Assert.assertTrue(recResult.acknowledgments().size() <= CNT_RECENT);
+        Assert.assertEquals(CNT_RECENT, stats.getRecentBidiResponses().size());
+
+        stats.reset();
+        Assert.assertEquals(0, stats.getRequestCount());
+        Assert.assertSame(IngestionResult.NULL, stats.toIngestionResult());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.grpc.IngestionStreamStatistics#responseReceived(IngestDataStreamResponse)}.
+     */
+    @Test
+    public final void testUniResult() {
+
+        IngestionStreamStatistics   stats = IngestionStreamStatistics.create(DpGrpcStreamType.FORWARD, CNT_RECENT, CNT_MAX_REJECTS);
+
+        for (int iRqst=0; iRqst<20; iRqst++)
+            stats.requestTransmitted(IngestDataRequest.newBuilder().setClientRequestId("RQST-" + iRqst).build());
+
+        IngestDataStreamResponse    msgRsp = IngestDataStreamResponse.newBuilder()
+                .setResponseTime(ProtoMsg.from(INS_START))
+                .addClientRequestIds("RQST-0")
+                .addRejectedRequestIds("RQST-1")
+                .setIngestDataStreamResult(IngestDataStreamResponse.IngestDataStreamResult.newBuilder().setNumRequests(19))
+                .build();
+        stats.responseReceived(msgRsp);
+
+        IngestionResult recResult = stats.toIngestionResult();
+        Assert.assertEquals(IngestionResult.Mode.UNIDIRECTIONAL, recResult.mode());
+        Assert.assertEquals(20, recResult.transmitRequestCount());
+        Assert.assertEquals(19, recResult.acceptedRequestCount());
+        Assert.assertEquals(1, stats.getRejectedCount());
+        Assert.assertEquals(0, stats.getInFlightCount());
+        Assert.assertEquals(0, stats.getAckLatencyHistogram().getCount());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.ingest.model.grpc.IngestionStreamStatistics#getAckLatencyHistogram()}.
+     * <p>
+     * The statistics histograms (default <code>LongHistogram</code>) resolve percentiles to within a factor of two.
+     */
+    @Test
+    public final void testHistogram() {
+
+        LongHistogram   hist = IngestionStreamStatistics.create(DpGrpcStreamType.BIDIRECTIONAL, CNT_RECENT, CNT_MAX_REJECTS).getAckLatencyHistogram();
+        Assert.assertEquals(0L, hist.getPercentile(50.0));
+
+        for (long lngVal=1; lngVal<=1000; lngVal++)
+            hist.record(lngVal);
+
+        Assert.assertEquals(1000, hist.getCount());
+        Assert.assertEquals(1L, hist.getMin());
+        Assert.assertEquals(1000L, hist.getMax());
+        Assert.assertEquals(500.5, hist.getMean(), 1.0e-9);
+
+        // Percentiles are resolved to within a factor of two
+        long    lngMedian = hist.getPercentile(50.0);
+        Assert.assertTrue(lngMedian >= 500 && lngMedian < 1000);
+        Assert.assertEquals(1000L, hist.getPercentile(100.0));
+
+        LongHistogram   histCopy = hist.copy();
+        hist.clear();
+        Assert.assertEquals(0, hist.getCount());
+        Assert.assertEquals(1000, histCopy.getCount());
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * Creates an acknowledgment response for the given request.
+     *
+     * @param strRqstId client request ID
+     * @param insRsp    response time
+     *
+     * @return  new acknowledgment response message
+     */
+    private static IngestDataResponse createAcknowledgment(String strRqstId, Instant insRsp) {
+        return IngestDataResponse.newBuilder()
+                .setClientRequestId(strRqstId)
+                .setResponseTime(ProtoMsg.from(insRsp))
+                .setAckResult(IngestDataResponse.AckResult.newBuilder().setNumColumns(1).setNumRows(100))
+                .build();
+    }
+
+    /**
+     * Creates a rejection response for the given request.
+     *
+     * @param strRqstId client request ID
+     * @param insRsp    response time
+     *
+     * @return  new exceptional response message
+     */
+    private static IngestDataResponse createRejection(String strRqstId, Instant insRsp) {
+        return IngestDataResponse.newBuilder()
+                .setClientRequestId(strRqstId)
+                .setResponseTime(ProtoMsg.from(insRsp))
+                .setExceptionalResult(ExceptionalResult.newBuilder().setMessage("rejected"))
+                .build();
+    }
+}
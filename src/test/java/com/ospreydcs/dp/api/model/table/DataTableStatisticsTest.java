@@ -0,0 +1,258 @@
+/*
+ * Project: dp-api-common
+ * File:	DataTableStatisticsTest.java
+ * Package: com.ospreydcs.dp.api.model.table
+ * Type: 	DataTableStatisticsTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.model.table;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.common.IDataTable;
+import com.ospreydcs.dp.api.query.model.coalesce.SampledTimeSeries;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>DataTableStatistics</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class DataTableStatisticsTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Seed for the randomized test cases */
+    public static final long    LNG_SEED = 20261018L;
+
+    /** Comparison tolerance */
+    public static final double  DBL_TOL = 1.0e-9;
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.model.table.DataTableStatistics#compute(com.ospreydcs.dp.api.common.IDataTable)}.
+     * <p>
+     * Primitive, boxed sparse, and non-numeric columns - the latter are skipped.
+     */
+    @Test
+    public final void testComputeTable() {
+        List<IDataColumn<Object>>   lstCols = new ArrayList<>();
+        lstCols.add(PrimitiveArrayDataColumn.from("int", new int[] { 1, 2, 3, 4 }, 4));
+        lstCols.add(new StaticDataColumn<Object>("str", DpSupportedType.STRING, new ArrayList<Object>(List.of("a", "b", "c", "d"))));
+        lstCols.add(sparse("dbl", 2.0, null, Double.NaN, 4.0));
+
+        List<Instant>   lstTms = IntStream.range(0, 4).mapToObj(Instant::ofEpochSecond).toList();
+        IDataTable      tbl = new StaticDataTable(lstTms, lstCols);
+
+        List<ColumnStatistics>  lstStats = DataTableStatistics.compute(tbl);
+        Assert.assertEquals(List.of("int", "dbl"), lstStats.stream().map(ColumnStatistics::strName).toList());
+
+        ColumnStatistics    stsInt = lstStats.get(0);
+        Assert.assertEquals(4, stsInt.cntValues());
+        Assert.assertEquals(1.0, stsInt.dblMin(), DBL_TOL);
+        Assert.assertEquals(4.0, stsInt.dblMax(), DBL_TOL);
+        Assert.assertEquals(2.5, stsInt.dblMean(), DBL_TOL);
+        Assert.assertEquals(Math.sqrt(30.0 / 4), stsInt.dblRms(), DBL_TOL);
+        Assert.assertEquals(Math.sqrt(5.0 / 3), stsInt.dblStdDev(), DBL_TOL);
+
+        ColumnStatistics    stsDbl = lstStats.get(1);
+        Assert.assertEquals(2, stsDbl.cntValues());
+        Assert.assertEquals(2, stsDbl.cntMissing());
+        Assert.assertEquals(3.0, stsDbl.dblMean(), DBL_TOL);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.model.table.DataTableStatistics#compute(com.ospreydcs.dp.api.common.IDataColumn)}.
+     * <p>
+     * Random sparse columns spanning several row blocks agree with a direct computation, for both the
+     * boxed (<code>null</code> cells) and primitive (<code>NaN</code> cells) representations.
+     */
+    @Test
+    public final void testComputeSparseBlocks() {
+        Random      rnd = new Random(LNG_SEED);
+        int         cntRows = 2 * DataTableStatistics.SZ_ROW_BLOCK + 1234;
+        double[]    arrVals = new double[cntRows];
+        List<Object>    lstVals = new ArrayList<>(cntRows);
+
+        for (int i=0; i<cntRows; i++) {
+            // Long runs of present and missing values, plus scattered missing values
+            boolean bolMissing = ((i / 300) % 5 == 3) || rnd.nextInt(10) == 0;
+
+            arrVals[i] = bolMissing ? Double.NaN : 100.0 + 10.0 * rnd.nextGaussian();
+            lstVals.add(bolMissing ? null : arrVals[i]);
+        }
+
+        double[]    arrPresent = Arrays.stream(arrVals).filter(v -> !Double.isNaN(v)).toArray();
+        double      dblMean = Arrays.stream(arrPresent).average().getAsDouble();
+        double      dblVar = Arrays.stream(arrPresent).map(v -> (v - dblMean) * (v - dblMean)).sum() / (arrPresent.length - 1);
+
+        List<ColumnStatistics>  lstStats = List.of(
+                DataTableStatistics.compute(SampledTimeSeries.from("boxed", DpSupportedType.DOUBLE, new ArrayList<>(lstVals))),
+                DataTableStatistics.compute(DoubleArrayDataColumn.from("prim", arrVals, cntRows)));
+
+        for (ColumnStatistics stats : lstStats) {
+            Assert.assertEquals(cntRows, stats.cntRows());
+            Assert.assertEquals(arrPresent.length, stats.cntValues());
+            Assert.assertEquals(Arrays.stream(arrPresent).min().getAsDouble(), stats.dblMin(), 0.0);
+            Assert.assertEquals(Arrays.stream(arrPresent).max().getAsDouble(), stats.dblMax(), 0.0);
+            Assert.assertEquals(dblMean, stats.dblMean(), DBL_TOL);
+            Assert.assertEquals(Math.sqrt(dblVar), stats.dblStdDev(), DBL_TOL);
+            Assert.assertEquals(Math.sqrt(Arrays.stream(arrPresent).map(v -> v * v).sum() / arrPresent.length), stats.dblRms(), DBL_TOL);
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.model.table.DataTableStatistics#compute(IDataColumn, boolean)}.
+     * <p>
+     * The scalar kernels are always available.
+     */
+    @Test
+    public final void testComputeScalarKernels() {
+        DataTableStatisticsTest.assertKernels(false);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.model.table.DataTableStatistics#compute(IDataColumn, boolean)}.
+     * <p>
+     * The vector kernels are skipped unless the <code>jdk.incubator.vector</code> module is resolved.
+     */
+    @Test
+    public final void testComputeVectorKernels() {
+        Assume.assumeTrue("jdk.incubator.vector module not resolved", DataTableStatistics.BOL_VECTOR);
+
+        DataTableStatisticsTest.assertKernels(true);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.model.table.DataTableStatistics#percentiles(com.ospreydcs.dp.api.common.IDataColumn, double[])}.
+     */
+    @Test
+    public final void testPercentiles() {
+        IDataColumn<Object> col = sparse("dbl", 5.0, null, 1.0, 4.0, 2.0, null, 3.0);
+
+        double[]    arrPcts = DataTableStatistics.percentiles(col, 0, 25, 50, 90, 100);
+        Assert.assertArrayEquals(new double[] { 1.0, 2.0, 3.0, 4.6, 5.0 }, arrPcts, DBL_TOL);
+
+        IDataColumn<Object> colEmpty = sparse("nil", null, null);
+        Assert.assertTrue(Double.isNaN(DataTableStatistics.percentiles(colEmpty, 50)[0]));
+        Assert.assertFalse(DataTableStatistics.compute(colEmpty).hasValues());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.model.table.DataTableStatistics#histogram(com.ospreydcs.dp.api.common.IDataColumn, double, double, int)}.
+     */
+    @Test
+    public final void testHistogram() {
+        IDataColumn<Object> col = PrimitiveArrayDataColumn.from("lng", new long[] { -1, 0, 1, 2, 3, 4, 9, 10, 11 }, 9);
+
+        DataTableStatistics.Histogram   hst = DataTableStatistics.histogram(col, 0.0, 10.0, 5);
+        Assert.assertArrayEquals(new long[] { 2, 2, 1, 0, 2 }, hst.arrCounts());
+        Assert.assertEquals(1L, hst.cntBelow());
+        Assert.assertEquals(1L, hst.cntAbove());
+        Assert.assertEquals(2.0, hst.binWidth(), DBL_TOL);
+
+        DataTableStatistics.Histogram   hstAll = DataTableStatistics.histogram(col, 4);
+        Assert.assertEquals(9L, Arrays.stream(hstAll.arrCounts()).sum());
+        Assert.assertEquals(0L, hstAll.cntBelow() + hstAll.cntAbove());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.model.table.DataTableStatistics#compute(com.ospreydcs.dp.api.common.IDataColumn)}.
+     * <p>
+     * Non-numeric columns are rejected.
+     */
+    @Test(expected=IllegalArgumentException.class)
+    public final void testComputeNonNumeric() {
+        DataTableStatistics.compute(new StaticDataColumn<Object>("str", DpSupportedType.STRING, new ArrayList<Object>(List.of("a"))));
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Asserts the statistics computed by the given kernels against a direct computation, for values with
+     * runs of every length modulo the vector and unrolling widths, missing values, and a partial row block.
+     * </p>
+     *
+     * @param bolVector use the vector kernels rather than the scalar kernels
+     */
+    private static void assertKernels(boolean bolVector) {
+        Random      rnd = new Random(LNG_SEED);
+        int         cntRows = DataTableStatistics.SZ_ROW_BLOCK + 4321;
+        double[]    arrVals = new double[cntRows];
+
+        for (int i=0, cntRun=1; i<cntRows; cntRun = cntRun % 37 + 1) {
+            for (int j=0; j<cntRun && i<cntRows; j++, i++)
+                arrVals[i] = -50.0 + 10.0 * rnd.nextGaussian();
+            if (i < cntRows)
+                arrVals[i++] = Double.NaN;
+        }
+
+        double[]    arrPresent = Arrays.stream(arrVals).filter(v -> !Double.isNaN(v)).toArray();
+        double      dblMean = Arrays.stream(arrPresent).average().getAsDouble();
+        double      dblVar = Arrays.stream(arrPresent).map(v -> (v - dblMean) * (v - dblMean)).sum() / (arrPresent.length - 1);
+
+        ColumnStatistics    stats = DataTableStatistics.compute(DoubleArrayDataColumn.from("prim", arrVals, cntRows), bolVector);
+
+        Assert.assertEquals(cntRows, stats.cntRows());
+        Assert.assertEquals(arrPresent.length, stats.cntValues());
+        Assert.assertEquals(Arrays.stream(arrPresent).min().getAsDouble(), stats.dblMin(), 0.0);
+        Assert.assertEquals(Arrays.stream(arrPresent).max().getAsDouble(), stats.dblMax(), 0.0);
+        Assert.assertEquals(dblMean, stats.dblMean(), DBL_TOL);
+        Assert.assertEquals(Math.sqrt(dblVar), stats.dblStdDev(), DBL_TOL);
+        Assert.assertEquals(Math.sqrt(Arrays.stream(arrPresent).map(v -> v * v).sum() / arrPresent.length), stats.dblRms(), DBL_TOL);
+    }
+
+    /**
+     * @param strName   column name
+     * @param arrVals   column values (may contain <code>null</code>)
+     *
+     * @return  a sparse <code>DOUBLE</code> column with the given values
+     */
+    private static IDataColumn<Object>  sparse(String strName, Double... arrVals) {
+        return SampledTimeSeries.from(strName, DpSupportedType.DOUBLE, new ArrayList<Object>(Arrays.asList((Object[])arrVals)));
+    }
+}
@@ -0,0 +1,471 @@
+/*
+ * Project: dp-api-common
+ * File:	DpQueryPublisherTest.java
+ * Package: com.ospreydcs.dp.api.query
+ * Type: 	DpQueryPublisherTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.query;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.common.DpGrpcStreamType;
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.grpc.util.ProtoMsg;
+import com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc;
+import com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc.DpQueryServiceStub;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataRequest;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataRequest.QuerySpec;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse;
+import com.ospreydcs.dp.jal.tools.config.archive.JalTestArchiveConfig;
+import com.ospreydcs.dp.jal.tools.config.archive.JalTestArchivePvsConfig;
+import com.ospreydcs.dp.jal.tools.config.server.JalStandInServerConfig;
+import com.ospreydcs.dp.jal.tools.server.DpStandInServer;
+
+import io.grpc.ManagedChannel;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>DpQueryPublisher</code> using an in-process Data Platform stand-in server.
+ * </p>
+ * <p>
+ * The test archive contains 10 PVs sampled at 1 ms for 3 seconds, partitioned into 1 second data buckets and
+ * streamed in pages of 2 buckets.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class DpQueryPublisherTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Test archive inception */
+    public static final String      STR_INCEPT = "2023-10-31T15:51:02.000+00:00";
+
+    /** Test archive final sample */
+    public static final String      STR_FINAL = "2023-10-31T15:51:04.999+00:00";
+
+    /** Test archive inception instant */
+    public static final Instant     INS_INCEPT = Instant.parse(STR_INCEPT);
+
+    /** Test server page size */
+    public static final int         CNT_PAGE_SIZE = 2;
+
+    /** Request for 3 PVs over the full archive - 9 buckets in 5 pages */
+    public static final QueryDataRequest    MSG_RQST_3PVS = createRequest(List.of("dpTest_2", "dpTest_3", "dpTest_4"), INS_INCEPT, INS_INCEPT.plusSeconds(3));
+
+    /** Subscriber wait timeout (seconds) */
+    public static final long        LNG_TIMEOUT = 5L;
+
+
+    //
+    // Test Fixture
+    //
+
+    /** The stand-in Data Platform */
+    private DpStandInServer     server;
+
+    /** Channel to the stand-in server */
+    private ManagedChannel      chanGrpc;
+
+    /** Asynchronous Query Service stub */
+    private DpQueryServiceStub  stubAsync;
+
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        this.server = DpStandInServer.create(createArchiveConfig(), createServerConfig()).start();
+        this.chanGrpc = this.server.createChannel();
+        this.stubAsync = DpQueryServiceGrpc.newStub(this.chanGrpc);
+    }
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @After
+    public void tearDown() throws Exception {
+        this.chanGrpc.shutdownNow().awaitTermination(1, TimeUnit.SECONDS);
+        this.server.shutdown();
+    }
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.DpQueryPublisher#create(DpGrpcStreamType, DpQueryServiceStub, QueryDataRequest)}.
+     * <p>
+     * All pages of a backward stream are delivered with unbounded demand.
+     */
+    @Test
+    public final void testCreateBackward() throws InterruptedException {
+        this.testAllPages(DpGrpcStreamType.BACKWARD);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.DpQueryPublisher#create(DpGrpcStreamType, DpQueryServiceStub, QueryDataRequest)}.
+     * <p>
+     * All pages of a bidirectional stream are delivered with unbounded demand.
+     */
+    @Test
+    public final void testCreateBidirectional() throws InterruptedException {
+        this.testAllPages(DpGrpcStreamType.BIDIRECTIONAL);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.DpQueryPublisher#subscribe(Flow.Subscriber)}.
+     * <p>
+     * No stream is opened until demand is signaled, then only the demanded pages are recovered.
+     */
+    @Test
+    public final void testDemandBounded() throws InterruptedException {
+        DpQueryPublisher<QueryDataResponse>     pub = DpQueryPublisher.create(DpGrpcStreamType.BIDIRECTIONAL, this.stubAsync, MSG_RQST_3PVS, 2);
+        TestSubscriber<QueryDataResponse>       sub = new TestSubscriber<>(0L);
+
+        pub.subscribe(sub);
+        Thread.sleep(100L);
+        Assert.assertEquals(0L, this.server.getQueryService().getBucketCount());
+
+        sub.request(1L);
+        sub.awaitItems(1);
+        Thread.sleep(100L);
+        Assert.assertEquals(1, sub.lstItems.size());
+        Assert.assertEquals(CNT_PAGE_SIZE, this.server.getQueryService().getBucketCount());
+
+        sub.request(2L);
+        sub.awaitItems(3);
+        Thread.sleep(100L);
+        Assert.assertEquals(3, sub.lstItems.size());
+        Assert.assertEquals(3*CNT_PAGE_SIZE, this.server.getQueryService().getBucketCount());
+        Assert.assertEquals(1L, sub.monTerminal.getCount());
+
+        sub.request(Long.MAX_VALUE);
+        Assert.assertTrue(sub.monTerminal.await(LNG_TIMEOUT, TimeUnit.SECONDS));
+        Assert.assertTrue(sub.bolCompleted);
+        Assert.assertEquals(5, sub.lstItems.size());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.DpQueryPublisher#createDecoded(DpGrpcStreamType, DpQueryServiceStub, QueryDataRequest)}.
+     */
+    @Test
+    public final void testCreateDecoded() throws InterruptedException {
+        QueryDataRequest                        msgRqst = createRequest(List.of("dpTest_1", "dpTest_10"), INS_INCEPT, INS_INCEPT.plusSeconds(1));
+        DpQueryPublisher<List<DpQueryColumn>>   pub = DpQueryPublisher.createDecoded(DpGrpcStreamType.BACKWARD, this.stubAsync, msgRqst);
+        TestSubscriber<List<DpQueryColumn>>     sub = new TestSubscriber<>(Long.MAX_VALUE);
+
+        pub.subscribe(sub);
+        Assert.assertTrue(sub.monTerminal.await(LNG_TIMEOUT, TimeUnit.SECONDS));
+        Assert.assertTrue(sub.bolCompleted);
+
+        List<DpQueryColumn>     lstCols = sub.lstItems.stream().flatMap(List::stream).toList();
+        Assert.assertEquals(2, lstCols.size());
+        Assert.assertEquals(List.of("dpTest_1", "dpTest_10"), lstCols.stream().map(DpQueryColumn::getSourceName).toList());
+
+        for (DpQueryColumn col : lstCols) {
+            Assert.assertEquals(1000, col.getSampleCount());
+            Assert.assertEquals(1000, col.colValues().getSize().intValue());
+            Assert.assertEquals(INS_INCEPT, col.vecTimestamps().get(0));
+            Assert.assertEquals(INS_INCEPT.plusMillis(999), col.vecTimestamps().get(999));
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.DpQueryPublisher#subscribe(Flow.Subscriber)}.
+     * <p>
+     * Cancelling the subscription stops the delivery without a terminal signal.
+     */
+    @Test
+    public final void testCancel() throws InterruptedException {
+        DpQueryPublisher<QueryDataResponse>     pub = DpQueryPublisher.create(DpGrpcStreamType.BIDIRECTIONAL, this.stubAsync, MSG_RQST_3PVS, 1);
+        TestSubscriber<QueryDataResponse>       sub = new TestSubscriber<>(1L);
+
+        pub.subscribe(sub);
+        sub.awaitItems(1);
+        sub.sub.cancel();
+        sub.request(Long.MAX_VALUE);
+
+        Assert.assertFalse(sub.monTerminal.await(200L, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(1, sub.lstItems.size());
+        Assert.assertEquals(CNT_PAGE_SIZE, this.server.getQueryService().getBucketCount());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.DpQueryPublisher#subscribe(Flow.Subscriber)}.
+     * <p>
+     * A non-positive request terminates the subscription with an error.
+     */
+    @Test
+    public final void testRequestNonPositive() throws InterruptedException {
+        DpQueryPublisher<QueryDataResponse>     pub = DpQueryPublisher.create(DpGrpcStreamType.BACKWARD, this.stubAsync, MSG_RQST_3PVS);
+        TestSubscriber<QueryDataResponse>       sub = new TestSubscriber<>(0L);
+
+        pub.subscribe(sub);
+        sub.request(0L);
+
+        Assert.assertTrue(sub.monTerminal.await(LNG_TIMEOUT, TimeUnit.SECONDS));
+        Assert.assertTrue(sub.errCause instanceof IllegalArgumentException);
+        Assert.assertTrue(sub.lstItems.isEmpty());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.DpQueryPublisher#subscribe(Flow.Subscriber)}.
+     * <p>
+     * A non-positive request made while receiving a page is signaled only after the page delivery returns.
+     */
+    @Test
+    public final void testRequestNonPositiveDuringDelivery() throws InterruptedException {
+        DpQueryPublisher<QueryDataResponse>     pub = DpQueryPublisher.create(DpGrpcStreamType.BACKWARD, this.stubAsync, MSG_RQST_3PVS, 1);
+        CountDownLatch                          monTerminal = new CountDownLatch(1);
+        AtomicBoolean                           bolDelivering = new AtomicBoolean(false);
+        AtomicBoolean                           bolReentrant = new AtomicBoolean(false);
+        AtomicReference<Throwable>              refErr = new AtomicReference<>();
+        AtomicInteger                           cntItems = new AtomicInteger();
+
+        pub.subscribe(new Flow.Subscriber<QueryDataResponse>() {
+            private Flow.Subscription   sub;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.sub = subscription;
+                this.sub.request(1L);
+            }
+
+            @Override
+            public void onNext(QueryDataResponse item) {
+                bolDelivering.set(true);
+                cntItems.incrementAndGet();
+                this.sub.request(-1L);
+                bolDelivering.set(false);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                bolReentrant.set(bolDelivering.get());
+                refErr.set(throwable);
+                monTerminal.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                monTerminal.countDown();
+            }
+        });
+
+        Assert.assertTrue(monTerminal.await(LNG_TIMEOUT, TimeUnit.SECONDS));
+        Assert.assertTrue(refErr.get() instanceof IllegalArgumentException);
+        Assert.assertFalse(bolReentrant.get());
+        Assert.assertEquals(1, cntItems.get());
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Recovers all pages of the 3 PV request with the given stream type and verifies the contents.
+     * </p>
+     *
+     * @param enmStreamType gRPC data stream type
+     *
+     * @throws InterruptedException interrupted while waiting for stream completion
+     */
+    private void testAllPages(DpGrpcStreamType enmStreamType) throws InterruptedException {
+        DpQueryPublisher<QueryDataResponse>     pub = DpQueryPublisher.create(enmStreamType, this.stubAsync, MSG_RQST_3PVS);
+        TestSubscriber<QueryDataResponse>       sub = new TestSubscriber<>(Long.MAX_VALUE);
+
+        pub.subscribe(sub);
+        Assert.assertTrue(sub.monTerminal.await(LNG_TIMEOUT, TimeUnit.SECONDS));
+        Assert.assertTrue(sub.bolCompleted);
+        Assert.assertNull(sub.errCause);
+
+        Assert.assertEquals(5, sub.lstItems.size());
+        Assert.assertEquals(9, sub.lstItems.stream().mapToInt(msg -> msg.getQueryData().getDataBucketsCount()).sum());
+        Assert.assertTrue(sub.lstItems.stream().allMatch(msg -> msg.getQueryData().getDataBucketsCount() <= CNT_PAGE_SIZE));
+    }
+
+    /**
+     * @return  test archive configuration of 10 PVs at 1 ms sampling for 3 seconds
+     */
+    private static JalTestArchiveConfig createArchiveConfig() {
+        JalTestArchiveConfig    cfg = new JalTestArchiveConfig();
+
+        cfg.range = new JalTestArchiveConfig.SampleRange();
+        cfg.range.start = STR_INCEPT;
+        cfg.range.end = STR_FINAL;
+
+        cfg.pvs = new JalTestArchivePvsConfig();
+        cfg.pvs.prefix = "dpTest_";
+        cfg.pvs.types = List.of(DpSupportedType.DOUBLE);
+        cfg.pvs.clock = new JalTestArchivePvsConfig.SampleClock();
+        cfg.pvs.clock.period = 1L;
+        cfg.pvs.clock.units = TimeUnit.MILLISECONDS;
+        cfg.pvs.count = new JalTestArchivePvsConfig.PvTmsCounts();
+        cfg.pvs.count.total = 10;
+        cfg.pvs.count.clocked = 8;
+        cfg.pvs.count.tmsList = 2;
+        cfg.pvs.indexes = new JalTestArchivePvsConfig.PvTmsIndexes();
+        cfg.pvs.indexes.clocked = 0;
+        cfg.pvs.indexes.tmsList = 8;
+
+        return cfg;
+    }
+
+    /**
+     * @return  configuration of an unthrottled in-process server with 1 second buckets
+     */
+    private static JalStandInServerConfig createServerConfig() {
+        JalStandInServerConfig  cfg = new JalStandInServerConfig();
+
+        cfg.name = "dp-stand-in-publisher-test";
+        cfg.port = 0;
+        cfg.pageSize = CNT_PAGE_SIZE;
+        cfg.bandwidth = 0L;
+        cfg.bucket = new JalStandInServerConfig.Period();
+        cfg.bucket.period = 1L;
+        cfg.bucket.units = TimeUnit.SECONDS;
+        cfg.latency = new JalStandInServerConfig.Period();
+        cfg.latency.period = 0L;
+        cfg.latency.units = TimeUnit.MILLISECONDS;
+
+        return cfg;
+    }
+
+    /**
+     * @param lstPvNames    requested PV names
+     * @param insBegin      request range begin
+     * @param insEnd        request range end
+     *
+     * @return  new time-series data request
+     */
+    private static QueryDataRequest createRequest(List<String> lstPvNames, Instant insBegin, Instant insEnd) {
+        QuerySpec   msgSpec = QuerySpec.newBuilder()
+                .addAllPvNames(lstPvNames)
+                .setBeginTime(ProtoMsg.from(insBegin))
+                .setEndTime(ProtoMsg.from(insEnd))
+                .build();
+
+        return QueryDataRequest.newBuilder().setQuerySpec(msgSpec).build();
+    }
+
+
+    //
+    // Support Types
+    //
+
+    /**
+     * <p>
+     * Subscriber recording all signals, with an initial demand signaled upon subscription.
+     * </p>
+     *
+     * @param <T>   the item type
+     */
+    private static final class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+        /** Initial demand signaled upon subscription (none if zero) */
+        private final long                  lngInitDemand;
+
+        /** Items received */
+        private final List<T>               lstItems = new ArrayList<>();
+
+        /** Released upon a terminal signal */
+        private final CountDownLatch        monTerminal = new CountDownLatch(1);
+
+        /** The subscription */
+        private volatile Flow.Subscription  sub;
+
+        /** Completion signal received */
+        private volatile boolean            bolCompleted = false;
+
+        /** Error signal received */
+        private volatile Throwable          errCause = null;
+
+
+        TestSubscriber(long lngInitDemand) {
+            this.lngInitDemand = lngInitDemand;
+        }
+
+        void request(long n) {
+            this.sub.request(n);
+        }
+
+        void awaitItems(int cntItems) throws InterruptedException {
+            long    lngDeadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(LNG_TIMEOUT);
+
+            while (this.size() < cntItems && System.currentTimeMillis() < lngDeadline)
+                Thread.sleep(10L);
+        }
+
+        synchronized int size() {
+            return this.lstItems.size();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.sub = subscription;
+
+            if (this.lngInitDemand > 0)
+                this.sub.request(this.lngInitDemand);
+        }
+
+        @Override
+        public synchronized void onNext(T item) {
+            this.lstItems.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.errCause = throwable;
+            this.monTerminal.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            this.bolCompleted = true;
+            this.monTerminal.countDown();
+        }
+    }
+}
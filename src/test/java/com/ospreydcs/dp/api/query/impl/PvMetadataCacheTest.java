@@ -0,0 +1,330 @@
+/*
+ * Project: dp-api-common
+ * File:	PvMetadataCacheTest.java
+ * Package: com.ospreydcs.dp.api.query.impl
+ * Type: 	PvMetadataCacheTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.query.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.DpTimestampCase;
+import com.ospreydcs.dp.api.common.MetadataRecord;
+import com.ospreydcs.dp.api.config.query.DpMetadataConfig;
+import com.ospreydcs.dp.api.query.DpQueryException;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>PvMetadataCache</code>.
+ * </p>
+ * <p>
+ * The Query Service is replaced by a batch loader knowing the PVs <code>pv_0</code> through <code>pv_9</code>
+ * and recording every batch it receives.  The cache clock is manually advanced.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class PvMetadataCacheTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Positive entry lifetime */
+    public static final Duration    DUR_TTL = Duration.ofSeconds(60);
+
+    /** Negative entry lifetime */
+    public static final Duration    DUR_TTL_NEG = Duration.ofSeconds(10);
+
+    /** PV names known to the loader */
+    public static final Set<String> SET_KNOWN = Set.of("pv_0", "pv_1", "pv_2", "pv_3", "pv_4", "pv_5", "pv_6", "pv_7", "pv_8", "pv_9");
+
+
+    //
+    // Test Fixture
+    //
+
+    /** Manual cache clock (nanoseconds) */
+    private final AtomicLong        lngClock = new AtomicLong();
+
+    /** Batches received by the loader */
+    private final List<List<String>>    lstBatches = Collections.synchronizedList(new ArrayList<>());
+
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        this.lngClock.set(0L);
+        this.lstBatches.clear();
+    }
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.impl.PvMetadataCache#resolve(java.util.Collection, PvMetadataCache.IBatchLoader)}.
+     * <p>
+     * Repeated resolution is answered from the cache, including unknown PVs.
+     */
+    @Test
+    public final void testResolveHitsAndNegatives() throws DpQueryException {
+        PvMetadataCache     cache = this.createCache(100, 100);
+
+        Map<String, Optional<MetadataRecord>>   mapRecs = cache.resolve(List.of("pv_1", "pv_2", "bogus"), this::load);
+        Assert.assertEquals(List.of("pv_1", "pv_2", "bogus"), List.copyOf(mapRecs.keySet()));
+        Assert.assertEquals("pv_1", mapRecs.get("pv_1").get().name());
+        Assert.assertTrue(mapRecs.get("bogus").isEmpty());
+        Assert.assertEquals(1, this.lstBatches.size());
+        Assert.assertEquals(0L, cache.getHitCount());
+        Assert.assertEquals(3L, cache.getMissCount());
+
+        mapRecs = cache.resolve(List.of("pv_2", "bogus", "pv_1", "pv_2"), this::load);
+        Assert.assertEquals(3, mapRecs.size());
+        Assert.assertTrue(mapRecs.get("bogus").isEmpty());
+        Assert.assertEquals(1, this.lstBatches.size());
+        Assert.assertEquals(1L, cache.getLoadCount());
+        Assert.assertEquals(3L, cache.getHitCount());
+        Assert.assertEquals(3L, cache.getMissCount());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.impl.PvMetadataCache#resolve(java.util.Collection, PvMetadataCache.IBatchLoader)}.
+     * <p>
+     * Positive and negative entries expire after their own lifetimes.
+     */
+    @Test
+    public final void testResolveExpiry() throws DpQueryException {
+        PvMetadataCache     cache = this.createCache(100, 100);
+
+        cache.resolve(List.of("pv_1", "bogus"), this::load);
+
+        this.lngClock.addAndGet(DUR_TTL_NEG.toNanos());
+        cache.resolve(List.of("pv_1", "bogus"), this::load);
+        Assert.assertEquals(List.of("bogus"), this.lstBatches.get(1));
+
+        this.lngClock.addAndGet(DUR_TTL.minus(DUR_TTL_NEG).toNanos());
+        cache.resolve(List.of("pv_1"), this::load);
+        Assert.assertEquals(List.of("pv_1"), this.lstBatches.get(2));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.impl.PvMetadataCache#resolve(java.util.Collection, PvMetadataCache.IBatchLoader)}.
+     * <p>
+     * Misses are loaded in batches no larger than the batch size and the least recently used entries are evicted.
+     */
+    @Test
+    public final void testResolveBatchesAndEviction() throws DpQueryException {
+        PvMetadataCache     cache = this.createCache(5, 4);
+        List<String>        lstNames = SET_KNOWN.stream().sorted().toList();
+
+        cache.resolve(lstNames, this::load);
+        Assert.assertEquals(List.of(4, 4, 2), this.lstBatches.stream().map(List::size).toList());
+        Assert.assertEquals(5, cache.getSize());
+
+        this.lstBatches.clear();
+        cache.resolve(List.of("pv_9", "pv_0"), this::load);
+        Assert.assertEquals(List.of(List.of("pv_0")), this.lstBatches);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.impl.PvMetadataCache#shared(String, DpMetadataConfig.Cache)}.
+     * <p>
+     * One cache per Query Service address - entries loaded through one client are hits for another.
+     */
+    @Test
+    public final void testShared() throws DpQueryException {
+        DpMetadataConfig.Cache  cfgCache = new DpMetadataConfig.Cache();
+
+        cfgCache.enabled = true;
+        cfgCache.maxEntries = 100;
+        cfgCache.ttl = 60L;
+        cfgCache.ttlNegative = 10L;
+        cfgCache.ttlUnit = TimeUnit.SECONDS;
+        cfgCache.batchSize = 100;
+
+        PvMetadataCache     cache1 = PvMetadataCache.shared("testShared:1", cfgCache);
+        PvMetadataCache     cache2 = PvMetadataCache.shared("testShared:1", cfgCache);
+        PvMetadataCache     cache3 = PvMetadataCache.shared("testShared:2", cfgCache);
+
+        Assert.assertSame(cache1, cache2);
+        Assert.assertNotSame(cache1, cache3);
+
+        cache1.resolve(List.of("pv_1"), this::load);
+        cache2.resolve(List.of("pv_1"), this::load);
+        Assert.assertEquals(1, this.lstBatches.size());
+        Assert.assertEquals(0, cache3.getSize());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.impl.PvMetadataCache#invalidate(java.util.Collection)} and
+     * {@link com.ospreydcs.dp.api.query.impl.PvMetadataCache#invalidateAll()}.
+     */
+    @Test
+    public final void testInvalidate() throws DpQueryException {
+        PvMetadataCache     cache = this.createCache(100, 100);
+
+        cache.resolve(List.of("pv_1", "pv_2", "pv_3"), this::load);
+        cache.invalidate(List.of("pv_2"));
+        cache.resolve(List.of("pv_1", "pv_2", "pv_3"), this::load);
+        Assert.assertEquals(List.of("pv_2"), this.lstBatches.get(1));
+
+        cache.invalidateAll();
+        Assert.assertEquals(0, cache.getSize());
+        cache.resolve(List.of("pv_1"), this::load);
+        Assert.assertEquals(List.of("pv_1"), this.lstBatches.get(2));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.impl.PvMetadataCache#resolve(java.util.Collection, PvMetadataCache.IBatchLoader)}.
+     * <p>
+     * Concurrent resolutions of the same names share a single load.
+     */
+    @Test
+    public final void testResolveConcurrentCollapse() throws Exception {
+        PvMetadataCache     cache = this.createCache(100, 100);
+        CountDownLatch      monLoading = new CountDownLatch(1);
+        CountDownLatch      monRelease = new CountDownLatch(1);
+        ExecutorService     exec = Executors.newFixedThreadPool(4);
+
+        PvMetadataCache.IBatchLoader    fncSlow = lst -> {
+            monLoading.countDown();
+            try {
+                monRelease.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return this.load(lst);
+        };
+
+        try {
+            Future<Map<String, Optional<MetadataRecord>>>   futFirst = exec.submit(() -> cache.resolve(List.of("pv_1", "pv_2"), fncSlow));
+            Assert.assertTrue(monLoading.await(5, TimeUnit.SECONDS));
+
+            List<Future<Map<String, Optional<MetadataRecord>>>> lstOthers = new ArrayList<>();
+            for (int i=0; i<3; i++)
+                lstOthers.add(exec.submit(() -> cache.resolve(List.of("pv_2", "pv_1"), fncSlow)));
+
+            Thread.sleep(100L);
+            monRelease.countDown();
+
+            Assert.assertTrue(futFirst.get(5, TimeUnit.SECONDS).get("pv_1").isPresent());
+            for (Future<Map<String, Optional<MetadataRecord>>> fut : lstOthers)
+                Assert.assertEquals("pv_2", fut.get(5, TimeUnit.SECONDS).get("pv_2").get().name());
+
+            Assert.assertEquals(1, this.lstBatches.size());
+            Assert.assertEquals(1L, cache.getLoadCount());
+
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.impl.PvMetadataCache#resolve(java.util.Collection, PvMetadataCache.IBatchLoader)}.
+     * <p>
+     * A failed load is reported and nothing is cached.
+     */
+    @Test
+    public final void testResolveLoadFailure() throws DpQueryException {
+        PvMetadataCache     cache = this.createCache(100, 100);
+
+        try {
+            cache.resolve(List.of("pv_1"), lst -> { throw new DpQueryException("unavailable"); });
+            Assert.fail("Load failure was not reported");
+
+        } catch (DpQueryException e) {
+            Assert.assertEquals("unavailable", e.getMessage());
+        }
+
+        Assert.assertEquals(0, cache.getSize());
+        Assert.assertTrue(cache.resolve(List.of("pv_1"), this::load).get("pv_1").isPresent());
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @param cntMaxEntries maximum cache size
+     * @param szBatch       batch size
+     *
+     * @return  a new cache using the manual test clock
+     */
+    private PvMetadataCache createCache(int cntMaxEntries, int szBatch) {
+        return new PvMetadataCache(cntMaxEntries, DUR_TTL, DUR_TTL_NEG, szBatch, this.lngClock::get);
+    }
+
+    /**
+     * Test batch loader - records the batch and returns records for the known PVs.
+     *
+     * @param lstPvNames    batch of PV names
+     *
+     * @return  records of the known PVs within the batch
+     */
+    private Map<String, MetadataRecord> load(List<String> lstPvNames) {
+        this.lstBatches.add(List.copyOf(lstPvNames));
+
+        return lstPvNames.stream()
+                .filter(SET_KNOWN::contains)
+                .map(PvMetadataCacheTest::createRecord)
+                .collect(Collectors.toMap(MetadataRecord::name, Function.identity()));
+    }
+
+    /**
+     * @param strPvName PV name
+     *
+     * @return  a metadata record for the given PV
+     */
+    private static MetadataRecord   createRecord(String strPvName) {
+        return MetadataRecord.from(strPvName, DpSupportedType.DOUBLE, "DOUBLE", Instant.EPOCH, Instant.EPOCH.plusSeconds(1),
+                DpTimestampCase.SAMPLING_CLOCK, "SAMPLING_CLOCK", 1000, 1_000_000L);
+    }
+}
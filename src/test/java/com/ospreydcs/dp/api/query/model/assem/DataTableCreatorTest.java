@@ -0,0 +1,180 @@
+/*
+ * Project: dp-api-common
+ * File:	DataTableCreatorTest.java
+ * Package: com.ospreydcs.dp.api.query.model.assem
+ * Type: 	DataTableCreatorTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.query.model.assem;
+
+import javax.naming.ConfigurationException;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.common.JalDataTableType;
+import com.ospreydcs.dp.api.query.DpQueryException;
+
+/**
+ * <p>
+ * JUnit test cases for the table type selection of class <code>DataTableCreator</code>.
+ * </p>
+ * <p>
+ * Table footprints are given explicitly so that no sampled aggregates are required.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class DataTableCreatorTest {
+
+    //
+    // Class Constants
+    //
+
+    /** A dense footprint of 100,000 rows by 10 double-valued columns in 10 sampling blocks */
+    public static final TableFootprint  REC_FTPRT = new TableFootprint(100_000, 10, 10, 0L, 8_000_000L, 24_000_000L, 3_200_000L);
+
+    /** An ample available heap (in bytes) */
+    public static final long            SZ_HEAP_AMPLE = 1L << 34;
+
+
+    //
+    // Test Fixture
+    //
+
+    /** The table creator under test */
+    private DataTableCreator    tctr;
+
+    /**
+     * Creates a table creator with automatic type selection and no static table size limit.
+     */
+    @Before
+    public void setUp() {
+        this.tctr = DataTableCreator.create();
+        this.tctr.setTableType(JalDataTableType.AUTO);
+        this.tctr.enableStaticTableDefault(true);
+        this.tctr.enableStaticTableMaxSize(false);
+        this.tctr.enableAdmissionControl(true);
+        this.tctr.setAdmissionHeapFraction(0.5);
+    }
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.assem.TableFootprint}.
+     */
+    @Test
+    public final void testFootprint() {
+        Assert.assertEquals(1_000_000L, REC_FTPRT.cntCells());
+        Assert.assertEquals(0.0, REC_FTPRT.sparsity(), 0.0);
+        Assert.assertTrue(REC_FTPRT.staticHeap() > 3 * REC_FTPRT.szRaw());
+        Assert.assertTrue(REC_FTPRT.staticBuild() > 10 * REC_FTPRT.dynamicBuild());
+        Assert.assertTrue(REC_FTPRT.staticHeap() > REC_FTPRT.dynamicHeap());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.assem.DataTableCreator#selectTableType(TableFootprint, long)}.
+     * <p>
+     * Repeated random access favors static tables, a single sequential scan favors dynamic tables.
+     */
+    @Test
+    public final void testSelectCost() throws Exception {
+        Assert.assertEquals(JalDataTableType.STATIC, this.tctr.selectTableType(REC_FTPRT, SZ_HEAP_AMPLE));
+
+        this.tctr.setAccessPattern(DataTableCreator.AccessPattern.SEQUENTIAL, 1.0);
+        Assert.assertEquals(JalDataTableType.DYNAMIC, this.tctr.selectTableType(REC_FTPRT, SZ_HEAP_AMPLE));
+
+        this.tctr.setAccessPattern(DataTableCreator.AccessPattern.SEQUENTIAL, 20.0);
+        Assert.assertEquals(JalDataTableType.STATIC, this.tctr.selectTableType(REC_FTPRT, SZ_HEAP_AMPLE));
+
+        this.tctr.enableStaticTableDefault(false);
+        Assert.assertEquals(JalDataTableType.DYNAMIC, this.tctr.selectTableType(REC_FTPRT, SZ_HEAP_AMPLE));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.assem.DataTableCreator#selectTableType(TableFootprint, long)}.
+     * <p>
+     * The static table size limit is compared with the estimated static table heap.
+     */
+    @Test
+    public final void testSelectMaxSize() throws Exception {
+        this.tctr.enableStaticTableMaxSize(true);
+        this.tctr.setStaticTableMaxSize(REC_FTPRT.staticHeap() - 1);
+        Assert.assertEquals(JalDataTableType.DYNAMIC, this.tctr.selectTableType(REC_FTPRT, SZ_HEAP_AMPLE));
+
+        this.tctr.setTableType(JalDataTableType.STATIC);
+        Assert.assertThrows(ConfigurationException.class, () -> this.tctr.selectTableType(REC_FTPRT, SZ_HEAP_AMPLE));
+
+        this.tctr.setStaticTableMaxSize(REC_FTPRT.staticHeap());
+        Assert.assertEquals(JalDataTableType.STATIC, this.tctr.selectTableType(REC_FTPRT, SZ_HEAP_AMPLE));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.assem.DataTableCreator#selectTableType(TableFootprint, long)}.
+     * <p>
+     * Automatic selection falls back to a dynamic table when a static table is not admitted, and creation fails
+     * when the selected table is not admitted.
+     */
+    @Test
+    public final void testSelectAdmission() throws Exception {
+        long    szHeapStat = 2 * REC_FTPRT.staticBuild() - 2;       // static build just exceeds half the heap
+
+        Assert.assertEquals(JalDataTableType.DYNAMIC, this.tctr.selectTableType(REC_FTPRT, szHeapStat));
+
+        this.tctr.setTableType(JalDataTableType.STATIC);
+        Assert.assertThrows(DpQueryException.class, () -> this.tctr.selectTableType(REC_FTPRT, szHeapStat));
+
+        this.tctr.setTableType(JalDataTableType.AUTO);
+        Assert.assertThrows(DpQueryException.class, () -> this.tctr.selectTableType(REC_FTPRT, REC_FTPRT.dynamicBuild()));
+
+        this.tctr.enableAdmissionControl(false);
+        Assert.assertEquals(JalDataTableType.STATIC, this.tctr.selectTableType(REC_FTPRT, 0L));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.assem.DataTableCreator#setAdmissionHeapFraction(double)}.
+     */
+    @Test(expected=IllegalArgumentException.class)
+    public final void testSetAdmissionHeapFraction() {
+        this.tctr.setAdmissionHeapFraction(1.5);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.assem.DataTableCreator#enableAdmissionCollection(boolean)}.
+     * <p>
+     * The garbage collection retry is opt-in.
+     */
+    @Test
+    public final void testEnableAdmissionCollection() {
+        Assert.assertFalse(DataTableCreator.create().isAdmissionCollectionEnabled());
+
+        this.tctr.enableAdmissionCollection(true);
+        Assert.assertTrue(this.tctr.isAdmissionCollectionEnabled());
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Project: dp-api-common
+ * File:	TableFootprintTest.java
+ * Package: com.ospreydcs.dp.api.query.model.assem
+ * Type: 	TableFootprintTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.query.model.assem;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.query.model.coalesce.SampledBlock;
+import com.ospreydcs.dp.api.query.test.TestSampledAggregates;
+
+/**
+ * <p>
+ * JUnit test cases for the footprint estimate of record <code>TableFootprint</code>.
+ * </p>
+ * <p>
+ * The estimate is taken from real sampled aggregates built from clocked data buckets.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class TableFootprintTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Start time of the first sampling block */
+    public static final Instant     INS_START = Instant.parse("2023-10-31T15:51:02.000Z");
+
+    /** Sampling period of all blocks */
+    public static final Duration    DUR_PERIOD = Duration.ofMillis(1L);
+
+    /** Number of samples within each block */
+    public static final int         CNT_SMPLS = 10;
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.assem.TableFootprint#estimate(SampledAggregate)}.
+     * <p>
+     * Both data sources are present in both blocks so no table cells are empty.
+     */
+    @Test
+    public final void testEstimateDense() {
+
+        SampledBlock        blk1 = TestSampledAggregates.createClockedBlock(INS_START, DUR_PERIOD,
+                Map.of("pv1", createValues(0.0), "pv2", createValues(100.0)));
+        SampledBlock        blk2 = TestSampledAggregates.createClockedBlock(INS_START.plus(DUR_PERIOD.multipliedBy(CNT_SMPLS)), DUR_PERIOD,
+                Map.of("pv1", createValues(10.0), "pv2", createValues(110.0)));
+        SampledAggregate    aggBlks = TestSampledAggregates.createAggregate("testEstimateDense", blk1, blk2);
+
+        TableFootprint      recFtprt = TableFootprint.estimate(aggBlks);
+
+        Assert.assertEquals(2 * CNT_SMPLS, recFtprt.cntRows());
+        Assert.assertEquals(2, recFtprt.cntCols());
+        Assert.assertEquals(2, recFtprt.cntPages());
+        Assert.assertEquals(0L, recFtprt.cntNullCells());
+        Assert.assertEquals(0.0, recFtprt.sparsity(), 0.0);
+        Assert.assertEquals(aggBlks.getRawAllocation(), recFtprt.szRaw());
+        Assert.assertEquals(2 * CNT_SMPLS * (TableFootprint.SZ_INSTANT + TableFootprint.SZ_REF), recFtprt.szTimestamps());
+
+        // Boxed doubles are a header plus 8 bytes, one list per source per block
+        long    szValues = 4 * CNT_SMPLS * (TableFootprint.SZ_OBJ_HDR + 8L) + 4 * TableFootprint.SZ_LIST;
+        Assert.assertEquals(szValues, recFtprt.szValues());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.assem.TableFootprint#estimate(SampledAggregate)}.
+     * <p>
+     * The second data source is absent from the second block, so a quarter of the table cells are empty
+     * and only present sources contribute boxed values.
+     */
+    @Test
+    public final void testEstimateSparse() {
+
+        SampledBlock        blk1 = TestSampledAggregates.createClockedBlock(INS_START, DUR_PERIOD,
+                Map.of("pv1", createValues(0.0), "pv2", createValues(100.0)));
+        SampledBlock        blk2 = TestSampledAggregates.createClockedBlock(INS_START.plus(DUR_PERIOD.multipliedBy(CNT_SMPLS)), DUR_PERIOD,
+                Map.of("pv1", createValues(10.0)));
+        SampledAggregate    aggBlks = TestSampledAggregates.createAggregate("testEstimateSparse", blk1, blk2);
+
+        TableFootprint      recFtprt = TableFootprint.estimate(aggBlks);
+
+        Assert.assertEquals(2 * CNT_SMPLS, recFtprt.cntRows());
+        Assert.assertEquals(2, recFtprt.cntCols());
+        Assert.assertEquals(2, recFtprt.cntPages());
+        Assert.assertEquals(CNT_SMPLS, recFtprt.cntNullCells());
+        Assert.assertEquals(0.25, recFtprt.sparsity(), 1.0e-12);
+        Assert.assertEquals(aggBlks.getRawAllocation(), recFtprt.szRaw());
+        Assert.assertEquals(2 * CNT_SMPLS * (TableFootprint.SZ_INSTANT + TableFootprint.SZ_REF), recFtprt.szTimestamps());
+
+        long    szValues = 3 * CNT_SMPLS * (TableFootprint.SZ_OBJ_HDR + 8L) + 3 * TableFootprint.SZ_LIST;
+        Assert.assertEquals(szValues, recFtprt.szValues());
+
+        // A static table copies every cell reference, the dynamic table only the timestamps
+        Assert.assertTrue(recFtprt.staticBuild() > recFtprt.dynamicBuild());
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @param dblStart  the first value
+     *
+     * @return  <code>CNT_SMPLS</code> consecutive values from the given start
+     */
+    private static double[] createValues(double dblStart) {
+        double[]    arrVals = new double[CNT_SMPLS];
+
+        for (int i=0; i<CNT_SMPLS; i++)
+            arrVals[i] = dblStart + i;
+
+        return arrVals;
+    }
+}
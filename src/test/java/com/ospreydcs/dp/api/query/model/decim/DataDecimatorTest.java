@@ -0,0 +1,292 @@
+/*
+ * Project: dp-api-common
+ * File:	DataDecimatorTest.java
+ * Package: com.ospreydcs.dp.api.query.model.decim
+ * Type: 	DataDecimatorTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.query.model.decim;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.SubmissionPublisher;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.IDataTable;
+import com.ospreydcs.dp.api.model.table.StaticDataColumn;
+import com.ospreydcs.dp.api.query.DpDecimation;
+import com.ospreydcs.dp.api.query.DpQueryColumn;
+import com.ospreydcs.dp.api.query.DpQueryException;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>DataDecimator</code>.
+ * </p>
+ * <p>
+ * The request time range is one second from the epoch.  Response pages are created directly from
+ * timestamp and value lists, with sample times given in milliseconds.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class DataDecimatorTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Request initial time */
+    public static final Instant     INS_BEGIN = Instant.EPOCH;
+
+    /** Request final time */
+    public static final Instant     INS_END = Instant.EPOCH.plusSeconds(1);
+
+    /** Process variable name */
+    public static final String      STR_PV = "pv_1";
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.decim.DataDecimator#DataDecimator(String, Instant, Instant, List, DpDecimation)}.
+     */
+    @Test
+    public final void testBucketGeometry() {
+        DataDecimator   prcrCnt = this.createDecimator(DpDecimation.byBucketCount(3, DpDecimation.Reducer.MEAN));
+
+        Assert.assertEquals(3, prcrCnt.getBucketCount());
+        Assert.assertEquals(Duration.ofNanos(333_333_334L), prcrCnt.getBucketWidth());
+
+        DataDecimator   prcrWid = this.createDecimator(DpDecimation.byBucketWidth(Duration.ofMillis(300), DpDecimation.Reducer.MEAN));
+
+        Assert.assertEquals(4, prcrWid.getBucketCount());
+        Assert.assertEquals(List.of(ms(0), ms(300), ms(600), ms(900)), prcrWid.createTable().getTimestamps());
+
+        try {
+            new DataDecimator(null, INS_END, INS_BEGIN, List.of(STR_PV), DpDecimation.byBucketCount(3, DpDecimation.Reducer.MIN));
+            Assert.fail("Empty time range was accepted");
+
+        } catch (IllegalArgumentException e) {
+        }
+
+        try {
+            DpDecimation.byBucketCount(0, DpDecimation.Reducer.MIN);
+            Assert.fail("Zero bucket count was accepted");
+
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.decim.DataDecimator#process(java.util.List)}.
+     * <p>
+     * Minimum, maximum, and mean of pages arriving out of time order.
+     */
+    @Test
+    public final void testNumericReducers() {
+        for (DpDecimation.Reducer enmReducer : List.of(DpDecimation.Reducer.MIN, DpDecimation.Reducer.MAX, DpDecimation.Reducer.MEAN)) {
+            DataDecimator   prcr = this.createDecimator(DpDecimation.byBucketCount(10, enmReducer));
+
+            // Samples every 10 ms with value equal to index, second half first
+            prcr.process(List.of(page(50, 100)));
+            prcr.process(List.of(page(0, 50)));
+
+            IDataTable  tbl = prcr.createTable();
+
+            Assert.assertEquals(100L, prcr.getSampleCount());
+            Assert.assertEquals(2L, prcr.getPageCount());
+            Assert.assertEquals(Integer.valueOf(10), tbl.getRowCount());
+
+            for (int i=0; i<10; i++) {
+                double  dblExp = switch (enmReducer) {
+                    case MIN -> 10*i;
+                    case MAX -> 10*i + 9;
+                    default -> 10*i + 4.5;
+                };
+
+                Assert.assertEquals(enmReducer + " bucket " + i, dblExp, ((Number)tbl.getColumn(STR_PV).getValue(i)).doubleValue(), 1.0e-12);
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.decim.DataDecimator#createTable()}.
+     * <p>
+     * First and last samples preserve non-numeric types, empty buckets are <code>null</code> or <code>NaN</code>.
+     */
+    @Test
+    public final void testFirstLastAndEmptyBuckets() {
+        DataDecimator   prcrFirst = this.createDecimator(DpDecimation.byBucketCount(4, DpDecimation.Reducer.FIRST));
+        DataDecimator   prcrLast = this.createDecimator(DpDecimation.byBucketCount(4, DpDecimation.Reducer.LAST));
+
+        for (DataDecimator prcr : List.of(prcrFirst, prcrLast)) {
+            prcr.process(List.of(column(List.of(ms(600), ms(700)), List.of("c", "d"))));
+            prcr.process(List.of(column(List.of(ms(10), ms(20)), List.of("a", "b"))));
+            prcr.process(List.of(column(List.of(ms(1000), ms(1001), ms(-1)), List.of("e", "late", "early"))));
+        }
+
+        Assert.assertEquals(Arrays.asList("a", null, "c", "e"), prcrFirst.createTable().getColumn(STR_PV).getValues());
+        Assert.assertEquals(Arrays.asList("b", null, "d", "e"), prcrLast.createTable().getColumn(STR_PV).getValues());
+
+        DataDecimator   prcrMean = this.createDecimator(DpDecimation.byBucketCount(4, DpDecimation.Reducer.MEAN));
+
+        prcrMean.process(List.of(column(List.of(ms(10)), List.of(1.0))));
+        Assert.assertTrue(Double.isNaN((Double)prcrMean.createTable().getColumn(STR_PV).getValue(1)));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.decim.DataDecimator#createTable()}.
+     * <p>
+     * LTTB keeps the end points and the extreme sample of an interior bucket.
+     */
+    @Test
+    public final void testLttb() {
+        DataDecimator   prcr = this.createDecimator(DpDecimation.byBucketCount(4, DpDecimation.Reducer.LTTB));
+
+        prcr.process(List.of(column(
+                List.of(ms(0), ms(100), ms(250), ms(300), ms(400), ms(500), ms(600), ms(750), ms(800), ms(900)),
+                List.of(5.0, 1.0, 0.0, 0.0, 9.0, 0.0, 1.0, 1.0, 2.0, 3.0))));
+
+        List<Object>    lstVals = prcr.createTable().getColumn(STR_PV).getValues();
+
+        Assert.assertEquals(List.of(5.0, 9.0, 0.0, 3.0), lstVals);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.decim.DataDecimator#process(java.util.List)}.
+     */
+    @Test(expected=IllegalArgumentException.class)
+    public final void testNonNumericRejected() {
+        DataDecimator   prcr = this.createDecimator(DpDecimation.byBucketCount(4, DpDecimation.Reducer.MEAN));
+
+        prcr.process(List.of(column(List.of(ms(10)), List.of("a"))));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.decim.DataDecimator#decimate(java.util.concurrent.Flow.Publisher)}.
+     * <p>
+     * Pages are reduced from an asynchronous publisher; publisher failures are reported.
+     */
+    @Test
+    public final void testDecimatePublisher() throws Exception {
+        DataDecimator   prcr = this.createDecimator(DpDecimation.byBucketCount(2, DpDecimation.Reducer.MAX));
+
+        try (SubmissionPublisher<List<DpQueryColumn>> pub = new SubmissionPublisher<>()) {
+            Thread  thdPub = new Thread(() -> {
+                while (pub.getNumberOfSubscribers() == 0)
+                    Thread.onSpinWait();
+
+                for (int i=0; i<100; i+=10)
+                    pub.submit(List.of(page(i, i+10)));
+                pub.close();
+            });
+            thdPub.start();
+
+            IDataTable  tbl = prcr.decimate(pub);
+
+            Assert.assertEquals(List.of(49.0, 99.0), tbl.getColumn(STR_PV).getValues());
+            Assert.assertEquals(10L, prcr.getPageCount());
+        }
+
+        DataDecimator   prcrFail = this.createDecimator(DpDecimation.byBucketCount(2, DpDecimation.Reducer.MAX));
+
+        try (SubmissionPublisher<List<DpQueryColumn>> pub = new SubmissionPublisher<>()) {
+            Thread  thdPub = new Thread(() -> {
+                while (pub.getNumberOfSubscribers() == 0)
+                    Thread.onSpinWait();
+
+                pub.closeExceptionally(new DpQueryException("stream failed"));
+            });
+            thdPub.start();
+
+            prcrFail.decimate(pub);
+            Assert.fail("Publisher failure was not reported");
+
+        } catch (DpQueryException e) {
+            Assert.assertEquals("stream failed", e.getMessage());
+        }
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @param recDecim  decimation specification
+     *
+     * @return  a new decimator over the one second test time range
+     */
+    private DataDecimator   createDecimator(DpDecimation recDecim) {
+        return new DataDecimator("test", INS_BEGIN, INS_END, List.of(STR_PV), recDecim);
+    }
+
+    /**
+     * @param indBeg    first sample index (inclusive)
+     * @param indEnd    last sample index (exclusive)
+     *
+     * @return  a page column with samples every 10 ms and values equal to the sample index
+     */
+    private static DpQueryColumn    page(int indBeg, int indEnd) {
+        List<Instant>   lstTms = new ArrayList<>();
+        List<Object>    lstVals = new ArrayList<>();
+
+        for (int i=indBeg; i<indEnd; i++) {
+            lstTms.add(ms(10*i));
+            lstVals.add(Double.valueOf(i));
+        }
+
+        return column(lstTms, lstVals);
+    }
+
+    /**
+     * @param lstTms    sample timestamps
+     * @param lstVals   sample values (all of the same type)
+     *
+     * @return  a page column for the test process variable
+     */
+    private static DpQueryColumn    column(List<Instant> lstTms, List<?> lstVals) {
+        DpSupportedType     enmType = (lstVals.get(0) instanceof String) ? DpSupportedType.STRING : DpSupportedType.DOUBLE;
+
+        return DpQueryColumn.from(new ArrayList<>(lstTms), StaticDataColumn.from(STR_PV, enmType, new ArrayList<Object>(lstVals)));
+    }
+
+    /**
+     * @param lngMillis milliseconds from the epoch
+     *
+     * @return  the instant the given milliseconds after the epoch
+     */
+    private static Instant  ms(long lngMillis) {
+        return Instant.EPOCH.plusMillis(lngMillis);
+    }
+}
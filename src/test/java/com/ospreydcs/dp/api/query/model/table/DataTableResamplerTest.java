@@ -0,0 +1,252 @@
+/*
+ * Project: dp-api-common
+ * File:	DataTableResamplerTest.java
+ * Package: com.ospreydcs.dp.api.query.model.table
+ * Type: 	DataTableResamplerTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.query.model.table;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.common.IDataTable;
+import com.ospreydcs.dp.api.common.UniformSamplingClock;
+import com.ospreydcs.dp.api.model.table.DoubleArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.PrimitiveArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.StaticDataTable;
+import com.ospreydcs.dp.api.query.model.assem.SampledAggregate;
+import com.ospreydcs.dp.api.query.model.coalesce.SampledBlock;
+import com.ospreydcs.dp.api.query.model.coalesce.SampledTimeSeries;
+import com.ospreydcs.dp.api.query.test.TestSampledAggregates;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>DataTableResampler</code>.
+ * </p>
+ * <p>
+ * The source table has timestamps at whole seconds 0, 2, 4, 6, 8 from the epoch with a sparse
+ * <code>DOUBLE</code> column, a dense <code>INTEGER</code> primitive column, and a sparse <code>STRING</code> column.
+ * The target timeline is 1 through 9 seconds at 1 second intervals.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class DataTableResamplerTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Target sampling clock - 1 through 9 seconds */
+    public static final UniformSamplingClock    CLK_TGT = UniformSamplingClock.from(ins(1), 9, Duration.ofSeconds(1));
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.table.DataTableResampler#resample(com.ospreydcs.dp.api.common.IDataTable, com.ospreydcs.dp.api.common.UniformSamplingClock)}.
+     * <p>
+     * Previous value hold on all columns - <code>null</code> cells are skipped.
+     */
+    @Test
+    public final void testResampleHoldPrevious() {
+        IDataTable  tbl = DataTableResampler.create().resample(createSource(), CLK_TGT);
+
+        Assert.assertEquals(9, tbl.getRowCount().intValue());
+        Assert.assertEquals(List.of("dbl", "int", "str"), tbl.getColumnNames());
+        Assert.assertEquals(CLK_TGT.createTimestamps(), tbl.getTimestamps());
+
+        assertDoubles(tbl.getColumn("dbl"), 0, 0, 0, 4, 4, 4, 4, 8, 8);
+        Assert.assertEquals(Arrays.asList(0, 20, 20, 40, 40, 60, 60, 80, 80), tbl.getColumn("int").getValues());
+        Assert.assertEquals(Arrays.asList("a", "a", "a", "a", "a", "d", "d", "d", "d"), tbl.getColumn("str").getValues());
+        Assert.assertEquals(DpSupportedType.INTEGER, tbl.getColumn("int").getType());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.table.DataTableResampler#resample(com.ospreydcs.dp.api.common.IDataTable, java.util.List)}.
+     * <p>
+     * Linear interpolation of numeric columns without extrapolation; non-numeric columns hold the previous value.
+     */
+    @Test
+    public final void testResampleLinear() {
+        DataTableResampler  rsmp = DataTableResampler.create(DataTableResampler.Policy.LINEAR);
+        List<Instant>       lstTgt = List.of(ins(-1), ins(0), ins(1), ins(3), ins(7), ins(8), ins(9));
+        IDataTable          tbl = rsmp.resample(createSource(), lstTgt);
+
+        assertDoubles(tbl.getColumn("dbl"), Double.NaN, 0, 1, 3, 7, 8, Double.NaN);
+        assertDoubles(tbl.getColumn("int"), Double.NaN, 0, 10, 30, 70, 80, Double.NaN);
+        Assert.assertEquals(Arrays.asList(null, "a", "a", "a", "d", "d", "d"), tbl.getColumn("str").getValues());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.table.DataTableResampler#setPolicy(java.lang.String, com.ospreydcs.dp.api.query.model.table.DataTableResampler.Policy)}.
+     * <p>
+     * Nearest sample (earlier sample on ties) and exact matches only, assigned per column.
+     */
+    @Test
+    public final void testResamplePerColumnPolicies() {
+        DataTableResampler  rsmp = DataTableResampler.create();
+
+        rsmp.setPolicy("dbl", DataTableResampler.Policy.NEAREST);
+        rsmp.setPolicy("int", DataTableResampler.Policy.NONE);
+        rsmp.setPolicy("str", DataTableResampler.Policy.NEAREST);
+
+        IDataTable  tbl = rsmp.resample(createSource(), CLK_TGT);
+
+        assertDoubles(tbl.getColumn("dbl"), 0, 0, 4, 4, 4, 4, 8, 8, 8);
+        Assert.assertEquals(Arrays.asList(null, 20, null, 40, null, 60, null, 80, null), tbl.getColumn("int").getValues());
+        Assert.assertEquals(Arrays.asList("a", "a", "a", "d", "d", "d", "d", "d", "d"), tbl.getColumn("str").getValues());
+
+        rsmp.setPolicy("int", null);
+        Assert.assertEquals(DataTableResampler.Policy.HOLD_PREVIOUS, rsmp.getPolicy("int"));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.table.DataTableResampler#resample(com.ospreydcs.dp.api.query.model.assem.SampledAggregate, com.ospreydcs.dp.api.common.UniformSamplingClock)}.
+     * <p>
+     * The aggregate has a block at 0, 2, 4 seconds with both process variables and a block at 6, 8 seconds
+     * missing the second variable.  Blocks without the variable are skipped, so it holds its last value
+     * (and is not extrapolated under linear interpolation).
+     */
+    @Test
+    public final void testResampleAggregateMissingPv() {
+        SampledBlock        blk1 = TestSampledAggregates.createClockedBlock(ins(0), Duration.ofSeconds(2),
+                Map.of("pv1", new double[] { 0, 2, 4 }, "pv2", new double[] { 100, 102, 104 }));
+        SampledBlock        blk2 = TestSampledAggregates.createClockedBlock(ins(6), Duration.ofSeconds(2),
+                Map.of("pv1", new double[] { 6, 8 }));
+        SampledAggregate    aggSrc = TestSampledAggregates.createAggregate("testResampleAggregateMissingPv", blk2, blk1);
+
+        IDataTable  tbl = DataTableResampler.create().resample(aggSrc, CLK_TGT);
+
+        Assert.assertEquals(9, tbl.getRowCount().intValue());
+        Assert.assertEquals(2, tbl.getColumnCount().intValue());
+        Assert.assertEquals(CLK_TGT.createTimestamps(), tbl.getTimestamps());
+        assertDoubles(tbl.getColumn("pv1"), 0, 2, 2, 4, 4, 6, 6, 8, 8);
+        assertDoubles(tbl.getColumn("pv2"), 100, 102, 102, 104, 104, 104, 104, 104, 104);
+
+        tbl = DataTableResampler.create(DataTableResampler.Policy.LINEAR).resample(aggSrc, CLK_TGT);
+
+        assertDoubles(tbl.getColumn("pv1"), 1, 2, 3, 4, 5, 6, 7, 8, Double.NaN);
+        assertDoubles(tbl.getColumn("pv2"), 101, 102, 103, 104, Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.table.DataTableResampler#resample(com.ospreydcs.dp.api.common.IDataTable, java.util.List)}.
+     * <p>
+     * Target timestamps out of order are rejected.
+     */
+    @Test(expected=IllegalArgumentException.class)
+    public final void testResampleUnorderedTarget() {
+        DataTableResampler.create().resample(createSource(), List.of(ins(2), ins(1)));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.query.model.table.DataTableResampler#select(long[], int, long[], com.ospreydcs.dp.api.query.model.table.DataTableResampler.Policy)}.
+     * <p>
+     * The streaming merge agrees with a direct search for every policy on random timelines.
+     */
+    @Test
+    public final void testSelectAgreement() {
+        Random  rnd = new Random(20261018L);
+
+        for (int cntTrial=0; cntTrial<100; cntTrial++) {
+            long[]  arrSrc = rnd.longs(rnd.nextInt(30), 0, 100).sorted().toArray();
+            long[]  arrTgt = rnd.longs(rnd.nextInt(30), -10, 110).sorted().toArray();
+
+            for (DataTableResampler.Policy enmPolicy : List.of(DataTableResampler.Policy.HOLD_PREVIOUS, DataTableResampler.Policy.NEAREST, DataTableResampler.Policy.NONE)) {
+                int[]   arrInds = DataTableResampler.select(arrSrc, arrSrc.length, arrTgt, enmPolicy);
+
+                for (int j=0; j<arrTgt.length; j++) {
+                    long    lngTgt = arrTgt[j];
+                    int     indPrev = IntStream.range(0, arrSrc.length).filter(i -> arrSrc[i] <= lngTgt).max().orElse(-1);
+                    int     indNext = IntStream.range(0, arrSrc.length).filter(i -> arrSrc[i] > lngTgt).min().orElse(-1);
+
+                    int     indExp = switch (enmPolicy) {
+                    case NONE -> (indPrev >= 0 && arrSrc[indPrev] == lngTgt) ? indPrev : -1;
+                    case NEAREST -> (indNext < 0 || (indPrev >= 0 && lngTgt - arrSrc[indPrev] <= arrSrc[indNext] - lngTgt)) ? indPrev : indNext;
+                    default -> indPrev;
+                    };
+
+                    Assert.assertEquals(enmPolicy + " at " + lngTgt, indExp, arrInds[j]);
+                }
+            }
+        }
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @return  the sparse source table described in the class documentation
+     */
+    private static IDataTable   createSource() {
+        List<Instant>   lstTms = List.of(ins(0), ins(2), ins(4), ins(6), ins(8));
+
+        List<IDataColumn<Object>>   lstCols = new ArrayList<>();
+        lstCols.add(SampledTimeSeries.from("dbl", DpSupportedType.DOUBLE, new ArrayList<Object>(Arrays.asList(0.0, null, 4.0, null, 8.0))));
+        lstCols.add(PrimitiveArrayDataColumn.from("int", new int[] { 0, 20, 40, 60, 80 }, 5));
+        lstCols.add(SampledTimeSeries.from("str", DpSupportedType.STRING, new ArrayList<Object>(Arrays.asList("a", null, null, "d", null))));
+
+        return new StaticDataTable(lstTms, lstCols);
+    }
+
+    /**
+     * @param col       resampled column (expected <code>DoubleArrayDataColumn</code>)
+     * @param arrExp    expected values
+     */
+    private static void assertDoubles(IDataColumn<Object> col, double... arrExp) {
+        Assert.assertTrue(col instanceof DoubleArrayDataColumn);
+        Assert.assertEquals(arrExp.length, col.getSize().intValue());
+
+        DoubleArrayDataColumn   colDbls = (DoubleArrayDataColumn)col;
+        for (int i=0; i<arrExp.length; i++)
+            Assert.assertEquals("index " + i, arrExp[i], colDbls.getDouble(i), 1.0e-12);
+    }
+
+    /**
+     * @param lngSecs   seconds from the epoch
+     *
+     * @return  the instant the given seconds after the epoch
+     */
+    private static Instant  ins(long lngSecs) {
+        return Instant.ofEpochSecond(lngSecs);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Project: dp-api-common
+ * File:	TestSampledAggregates.java
+ * Package: com.ospreydcs.dp.api.query.test
+ * Type: 	TestSampledAggregates
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.query.test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import com.ospreydcs.dp.api.grpc.util.ProtoMsg;
+import com.ospreydcs.dp.api.query.model.assem.SampledAggregate;
+import com.ospreydcs.dp.api.query.model.coalesce.SampledBlock;
+import com.ospreydcs.dp.api.query.model.correl.RawCorrelatedData;
+import com.ospreydcs.dp.grpc.v1.common.DataTimestamps;
+import com.ospreydcs.dp.grpc.v1.common.SamplingClock;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse.QueryData.DataBucket;
+
+/**
+ * <p>
+ * Utility class creating small <code>SampledAggregate</code> instances for unit testing without a Query Service.
+ * </p>
+ * <p>
+ * Sampled blocks are built from Protocol Buffers data buckets exactly as recovered query data would be, that is,
+ * through <code>{@link RawCorrelatedData}</code> and <code>{@link SampledBlock#from(RawCorrelatedData)}</code>.
+ * Thus, an aggregate where a process variable is absent from some blocks is sparse just as a recovered one.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class TestSampledAggregates {
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Creates a sampled block of <code>DOUBLE</code> valued process variables correlated to a uniform sampling clock.
+     * </p>
+     *
+     * @param insStart  the clock start time
+     * @param durPeriod the clock period
+     * @param mapPvVals the sample values of each process variable, all of equal length (the clock count)
+     *
+     * @return  a new sampled block containing the given process variables
+     *
+     * @throws IllegalArgumentException the map was empty or the value arrays were of unequal length
+     */
+    public static SampledBlock  createClockedBlock(Instant insStart, Duration durPeriod, Map<String, double[]> mapPvVals)
+            throws IllegalArgumentException {
+
+        if (mapPvVals.isEmpty())
+            throw new IllegalArgumentException("TestSampledAggregates#createClockedBlock - No process variables given.");
+
+        int             cntSmpls = mapPvVals.values().iterator().next().length;
+        SamplingClock   msgClk = SamplingClock.newBuilder()
+                .setStartTime(ProtoMsg.from(insStart))
+                .setPeriodNanos(durPeriod.toNanos())
+                .setCount(cntSmpls)
+                .build();
+        DataTimestamps  msgTms = DataTimestamps.newBuilder().setSamplingClock(msgClk).build();
+
+        RawCorrelatedData   datRaw = null;
+        for (Map.Entry<String, double[]> entry : mapPvVals.entrySet()) {
+            if (entry.getValue().length != cntSmpls)
+                throw new IllegalArgumentException("TestSampledAggregates#createClockedBlock - Unequal sample counts for " + entry.getKey());
+
+            DataBucket  msgBucket = DataBucket.newBuilder()
+                    .setDataTimestamps(msgTms)
+                    .setDataColumn(ProtoMsg.createDataColumn(entry.getKey(), entry.getValue(), cntSmpls))
+                    .build();
+
+            if (datRaw == null)
+                datRaw = RawCorrelatedData.from(msgBucket);
+            else
+                datRaw.insertBucketData(msgBucket);
+        }
+
+        return SampledBlock.from(datRaw);
+    }
+
+    /**
+     * <p>
+     * Creates a sampled aggregate containing the given sampled blocks.
+     * </p>
+     *
+     * @param strRqstId the request identifier of the aggregate
+     * @param arrBlks   the sampled blocks (in any order)
+     *
+     * @return  a new sampled aggregate of the given blocks
+     */
+    public static SampledAggregate  createAggregate(String strRqstId, SampledBlock... arrBlks) {
+        SampledAggregate    aggBlks = SampledAggregate.from(strRqstId);
+
+        for (SampledBlock blk : arrBlks)
+            aggBlks.add(blk);
+
+        return aggBlks;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Project: dp-api-common
+ * File:	CallSiteTest.java
+ * Package: com.ospreydcs.dp.api.util
+ * Type: 	CallSiteTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>CallSite</code> and the call stack operations of <code>JavaRuntime</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class CallSiteTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Call-site tag for test method {@link #testCallSiteMatchesJavaRuntime()} */
+    private static final CallSite   CS_TEST = CallSite.of(CallSiteTest.class, "testCallSiteMatchesJavaRuntime");
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.util.CallSite#of(Class, String)}.
+     * <p>
+     * The precomputed names agree with those found by call stack inspection.
+     */
+    @Test
+    public final void testCallSiteMatchesJavaRuntime() {
+        Assert.assertEquals(JavaRuntime.getMethodName(), CS_TEST.getMethodName());
+        Assert.assertEquals(JavaRuntime.getQualifiedMethodName(), CS_TEST.getQualifiedName());
+        Assert.assertEquals(JavaRuntime.getQualifiedMethodNameSimple(), CS_TEST.getQualifiedNameSimple());
+        Assert.assertEquals(CS_TEST.getQualifiedNameSimple(), CS_TEST.toString());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.util.CallSite#of(Class, String)}.
+     * <p>
+     * Nested class names retain the enclosing class in the simple name.
+     */
+    @Test
+    public final void testCallSiteNestedClass() {
+        CallSite    cs = CallSite.of(Nested.class, "call");
+
+        Assert.assertEquals("CallSiteTest$Nested#call", cs.toString());
+        Assert.assertEquals(Nested.call(), cs.getQualifiedNameSimple());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.util.JavaRuntime#getQualifiedCallerNameSimple()} and
+     * {@link com.ospreydcs.dp.api.util.JavaRuntime#getCallerClassType()}.
+     */
+    @Test
+    public final void testJavaRuntimeCaller() {
+        Assert.assertEquals("CallSiteTest#testJavaRuntimeCaller", Nested.caller());
+        Assert.assertEquals(CallSiteTest.class, Nested.callerType());
+    }
+
+
+    //
+    // Support Types
+    //
+
+    /** Nested class supplying call stack names from within a different class */
+    private static final class Nested {
+
+        static String   call() {
+            return JavaRuntime.getQualifiedMethodNameSimple();
+        }
+
+        static String   caller() {
+            return JavaRuntime.getQualifiedCallerNameSimple();
+        }
+
+        static Class<?> callerType() {
+            return JavaRuntime.getCallerClassType();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Project: dp-api-common
+ * File:	EpicsTest.java
+ * Package: com.ospreydcs.dp.api.util
+ * Type: 	EpicsTest
+ *
+ * Copyright 2010-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.util;
+
+import java.util.List;
+
+import org.epics.nt.NTNDArray;
+import org.epics.nt.NTTable;
+import org.epics.pvdata.pv.PVDoubleArray;
+import org.epics.pvdata.pv.PVIntArray;
+import org.epics.pvdata.pv.PVStructure;
+import org.epics.pvdata.pv.PVUByteArray;
+import org.epics.pvdata.pv.PVUShortArray;
+import org.epics.pvdata.pv.ScalarType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.protobuf.ByteString;
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.common.IDataColumn;
+import com.ospreydcs.dp.api.model.table.DoubleArrayDataColumn;
+import com.ospreydcs.dp.api.model.table.PrimitiveArrayDataColumn;
+
+/**
+ * <p>
+ * JUnit test cases for the primitive and zero-copy conversions of utility class <code>Epics</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class EpicsTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Test table double column values */
+    public static final double[]    ARR_DBLS = { 1.0, 2.5, -3.0, 4.25 };
+
+    /** Test table integer column values */
+    public static final int[]       ARR_INTS = { 10, 20, 30, 40 };
+
+    /** Test table unsigned short column values */
+    public static final short[]     ARR_USHORTS = { 1, (short)0xFFFF, 3, (short)0x8000 };
+
+    /** Test image bytes */
+    public static final byte[]      ARR_IMAGE = { 0, 1, 2, 3, 4, 5, 6, 7, (byte)0xFF };
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.util.Epics#extractTablePrimitiveColumns(PVStructure, boolean)}.
+     */
+    @Test
+    public final void testExtractTablePrimitiveColumns() {
+        PVStructure pvsTable = createTable();
+
+        List<IDataColumn<Object>>   lstCols = Epics.extractTablePrimitiveColumns(pvsTable, false);
+
+        Assert.assertEquals(3, lstCols.size());
+
+        // Double column
+        DoubleArrayDataColumn       colDbls = (DoubleArrayDataColumn)lstCols.get(0);
+        Assert.assertEquals("dbls", colDbls.getName());
+        Assert.assertEquals(ARR_DBLS.length, colDbls.getSize().intValue());
+        for (int i=0; i<ARR_DBLS.length; i++)
+            Assert.assertEquals(ARR_DBLS[i], colDbls.getDouble(i), 0.0);
+
+        // Integer column
+        PrimitiveArrayDataColumn    colInts = (PrimitiveArrayDataColumn)lstCols.get(1);
+        Assert.assertEquals(DpSupportedType.INTEGER, colInts.getType());
+        for (int i=0; i<ARR_INTS.length; i++)
+            Assert.assertEquals(ARR_INTS[i], colInts.getInt(i));
+
+        // Unsigned short column is widened without sign extension
+        PrimitiveArrayDataColumn    colShrts = (PrimitiveArrayDataColumn)lstCols.get(2);
+        Assert.assertEquals(DpSupportedType.INTEGER, colShrts.getType());
+        Assert.assertEquals(0xFFFF, colShrts.getInt(1));
+        Assert.assertEquals(0x8000, colShrts.getInt(3));
+
+        // Boxed values agree with the generic extraction
+        List<IDataColumn<Object>>   lstColsBoxed = Epics.extractTableColumns(pvsTable);
+        Assert.assertEquals(lstColsBoxed.get(0).getValues(), colDbls.getValues());
+        Assert.assertEquals(lstColsBoxed.get(1).getValues(), colInts.getValues());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.util.Epics#extractTablePrimitiveColumns(PVStructure, boolean)}.
+     * <p>
+     * Unshared columns are independent of the PVData arrays, shared columns reference them.
+     */
+    @Test
+    public final void testExtractTableSharing() {
+        PVStructure pvsTable = createTable();
+
+        DoubleArrayDataColumn   colCopy = (DoubleArrayDataColumn)Epics.extractTablePrimitiveColumns(pvsTable, false).get(0);
+        DoubleArrayDataColumn   colShared = (DoubleArrayDataColumn)Epics.extractTablePrimitiveColumns(pvsTable, true).get(0);
+
+        NTTable.wrap(pvsTable).getColumn(PVDoubleArray.class, "dbls").put(0, 1, new double[] { 99.0 }, 0);
+
+        Assert.assertEquals(ARR_DBLS[0], colCopy.getDouble(0), 0.0);
+        Assert.assertEquals(99.0, colShared.getDouble(0), 0.0);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.util.Epics#extractArrayByteString(PVStructure, boolean)}
+     * and {@link com.ospreydcs.dp.api.util.Epics#extractArrayRawData(PVStructure)}.
+     */
+    @Test
+    public final void testExtractArrayData() {
+        PVStructure pvsArray = createNdArray();
+
+        byte[]      arrCopy = Epics.extractArrayRawData(pvsArray);
+        byte[]      arrShared = Epics.extractArrayRawDataShared(pvsArray);
+        ByteString  bsCopy = Epics.extractArrayByteString(pvsArray, false);
+        ByteString  bsShared = Epics.extractArrayByteString(pvsArray, true);
+
+        Assert.assertArrayEquals(ARR_IMAGE, arrCopy);
+        Assert.assertArrayEquals(ARR_IMAGE, arrShared);
+        Assert.assertEquals(ByteString.copyFrom(ARR_IMAGE), bsCopy);
+        Assert.assertEquals(ByteString.copyFrom(ARR_IMAGE), bsShared);
+
+        // Only the shared results observe changes to the PVData array
+        PVUByteArray    pvarrData = (PVUByteArray)NTNDArray.wrap(pvsArray).getValue().get();
+        pvarrData.put(0, 1, new byte[] { 42 }, 0);
+
+        Assert.assertEquals(0, arrCopy[0]);
+        Assert.assertEquals(0, bsCopy.byteAt(0));
+        Assert.assertEquals(42, arrShared[0]);
+        Assert.assertEquals(42, bsShared.byteAt(0));
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @return  new NTTable structure with a double, an integer, and an unsigned short column
+     */
+    private static PVStructure createTable() {
+        NTTable ntTable = NTTable.createBuilder()
+                .addColumn("dbls", ScalarType.pvDouble)
+                .addColumn("ints", ScalarType.pvInt)
+                .addColumn("ushrts", ScalarType.pvUShort)
+                .create();
+
+        ntTable.getColumn(PVDoubleArray.class, "dbls").put(0, ARR_DBLS.length, ARR_DBLS, 0);
+        ntTable.getColumn(PVIntArray.class, "ints").put(0, ARR_INTS.length, ARR_INTS, 0);
+        ntTable.getColumn(PVUShortArray.class, "ushrts").put(0, ARR_USHORTS.length, ARR_USHORTS, 0);
+
+        return ntTable.getPVStructure();
+    }
+
+    /**
+     * @return  new NTNDArray structure with unsigned byte image data
+     */
+    private static PVStructure createNdArray() {
+        NTNDArray       ntArray = NTNDArray.createBuilder().create();
+        PVUByteArray    pvarrData = (PVUByteArray)ntArray.getValue().select("ubyteValue");
+
+        pvarrData.put(0, ARR_IMAGE.length, ARR_IMAGE, 0);
+
+        return ntArray.getPVStructure();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Project: dp-api-common
+ * File:	LongHistogramTest.java
+ * Package: com.ospreydcs.dp.api.util
+ * Type: 	LongHistogramTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.api.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>LongHistogram</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class LongHistogramTest {
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.util.LongHistogram#LongHistogram()}.
+     */
+    @Test
+    public final void testPowerOfTwo() {
+
+        LongHistogram   hist = new LongHistogram();
+        Assert.assertEquals(0L, hist.getPercentile(50.0));
+
+        for (long lngVal=1; lngVal<=1000; lngVal++)
+            hist.record(lngVal);
+
+        Assert.assertEquals(1000, hist.getCount());
+        Assert.assertEquals(1L, hist.getMin());
+        Assert.assertEquals(1000L, hist.getMax());
+        Assert.assertEquals(500.5, hist.getMean(), 1.0e-9);
+
+        // Percentiles are resolved to within a factor of two
+        long    lngMedian = hist.getPercentile(50.0);
+        Assert.assertTrue(lngMedian >= 500 && lngMedian < 1000);
+        Assert.assertEquals(1000L, hist.getPercentile(100.0));
+
+        LongHistogram   histCopy = hist.copy();
+        hist.clear();
+        Assert.assertEquals(0, hist.getCount());
+        Assert.assertEquals(1000, histCopy.getCount());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.util.LongHistogram#getBucketCount(int)}.
+     * <p>
+     * Bucket <i>k</i> > 0 of the default histogram holds [2<sup><i>k</i>-1</sup>, 2<sup><i>k</i></sup>).
+     */
+    @Test
+    public final void testPowerOfTwoBucketEdges() {
+
+        LongHistogram   hist = new LongHistogram();
+        Assert.assertEquals(LongHistogram.CNT_BUCKETS, hist.getBucketTotal());
+
+        hist.record(-5L);
+        hist.record(0L);
+        hist.record(1L);
+        hist.record(2L);
+        hist.record(3L);
+        hist.record(4L);
+        hist.record(7L);
+        hist.record(8L);
+        hist.record(Long.MAX_VALUE);
+
+        Assert.assertEquals(2, hist.getBucketCount(0));
+        Assert.assertEquals(1, hist.getBucketCount(1));
+        Assert.assertEquals(2, hist.getBucketCount(2));
+        Assert.assertEquals(2, hist.getBucketCount(3));
+        Assert.assertEquals(1, hist.getBucketCount(4));
+        Assert.assertEquals(1, hist.getBucketCount(Long.SIZE - 1));
+        Assert.assertEquals(Long.MAX_VALUE, hist.getPercentile(100.0));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.util.LongHistogram#LongHistogram(int)}.
+     * <p>
+     * Percentiles are resolved to within the relative precision of the histogram.
+     */
+    @Test
+    public final void testPrecision() {
+
+        final int       CNT_BITS = 8;
+        final double    DBL_REL_ERR = Math.scalb(1.0, 1 - CNT_BITS);
+
+        LongHistogram   hist = new LongHistogram(CNT_BITS);
+
+        for (long lngVal=1; lngVal<=100_000; lngVal++)
+            hist.record(lngVal);
+
+        for (double dblPct : new double[] { 50.0, 90.0, 99.0, 99.9 }) {
+            double  dblExact = dblPct * 1000.0;
+            long    lngEst = hist.getPercentile(dblPct);
+
+            Assert.assertTrue(lngEst >= dblExact);
+            Assert.assertTrue(lngEst <= dblExact * (1.0 + DBL_REL_ERR));
+        }
+
+        // Values below 2^bits are exact
+        hist.clear();
+        for (long lngVal=0; lngVal<(1 << CNT_BITS); lngVal++)
+            hist.record(lngVal);
+
+        Assert.assertEquals(127L, hist.getPercentile(50.0));
+        Assert.assertEquals(CNT_BITS, hist.copy().getPrecisionBits());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.api.util.LongHistogram#LongHistogram(int)}.
+     */
+    @Test(expected=IllegalArgumentException.class)
+    public final void testPrecisionInvalid() {
+        new LongHistogram(0);
+    }
+}
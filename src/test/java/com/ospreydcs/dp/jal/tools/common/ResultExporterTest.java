@@ -0,0 +1,136 @@
+/*
+ * Project: dp-api-common
+ * File:	ResultExporterTest.java
+ * Package: com.ospreydcs.dp.jal.tools.common
+ * Type: 	ResultExporterTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>ResultExporter</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class ResultExporterTest {
+
+    //
+    // Test Resources
+    //
+
+    /** Nested test record */
+    public static record Inner(double rate, Duration duration) {};
+
+    /** Test record with nested record, collection, and text components */
+    public static record Outer(String name, Inner inner, List<Integer> values, boolean success) {};
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.common.ResultExporter#writeCsv(java.io.PrintStream, java.util.Collection)}.
+     * <p>
+     * Nested records are flattened into dotted columns, collections are written as their sizes, durations
+     * as nanoseconds, and cells with separators or quotes are quoted.
+     */
+    @Test
+    public final void testWriteCsv() {
+
+        List<Outer> lstRecs = List.of(
+                new Outer("plain", new Inner(1.5, Duration.ofMillis(2)), List.of(1, 2, 3), true),
+                new Outer("a,\"b\"", new Inner(Double.NaN, Duration.ZERO), List.of(), false)
+                );
+
+        String[]    arrLines = writeCsv(lstRecs).split("\\R");
+
+        Assert.assertEquals(3, arrLines.length);
+        Assert.assertEquals("name,inner.rate,inner.duration,values,success", arrLines[0]);
+        Assert.assertEquals("plain,1.5,2000000,3,true", arrLines[1]);
+        Assert.assertEquals("\"a,\"\"b\"\"\",NaN,0,0,false", arrLines[2]);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.common.ResultExporter#writeJson(java.io.PrintStream, java.util.Collection)}.
+     * <p>
+     * Non-finite numbers are written as <code>null</code> and strings are escaped.
+     */
+    @Test
+    public final void testWriteJson() {
+
+        List<Outer> lstRecs = List.of(
+                new Outer("q\"\\", new Inner(Double.POSITIVE_INFINITY, Duration.ofNanos(7)), List.of(4, 5), true)
+                );
+
+        String  strJson = writeJson(lstRecs).strip();
+
+        Assert.assertEquals(
+                "[{\"name\":\"q\\\"\\\\\",\"inner\":{\"rate\":null,\"duration\":7},\"values\":[4,5],\"success\":true}]",
+                strJson);
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @param lstRecs   records to export
+     *
+     * @return  the CSV text of the given records
+     */
+    private static String   writeCsv(List<? extends Record> lstRecs) {
+        ByteArrayOutputStream   os = new ByteArrayOutputStream();
+
+        ResultExporter.writeCsv(new PrintStream(os, true, StandardCharsets.UTF_8), lstRecs);
+
+        return os.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param lstRecs   records to export
+     *
+     * @return  the JSON text of the given records
+     */
+    private static String   writeJson(List<? extends Record> lstRecs) {
+        ByteArrayOutputStream   os = new ByteArrayOutputStream();
+
+        ResultExporter.writeJson(new PrintStream(os, true, StandardCharsets.UTF_8), lstRecs);
+
+        return os.toString(StandardCharsets.UTF_8);
+    }
+}
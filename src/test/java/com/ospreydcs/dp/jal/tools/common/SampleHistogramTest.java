@@ -0,0 +1,146 @@
+/*
+ * Project: dp-api-common
+ * File:	SampleHistogramTest.java
+ * Package: com.ospreydcs.dp.jal.tools.common
+ * Type: 	SampleHistogramTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>SampleHistogram</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class SampleHistogramTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Relative percentile error of the histogram */
+    public static final double  DBL_REL_ERR = Math.scalb(1.0, 1 - SampleHistogram.CNT_PRECISION_BITS);
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.common.SampleHistogram#getPercentile(double)}.
+     * <p>
+     * The p50, p99, and p999 estimates bound the exact percentiles from above within the relative precision.
+     */
+    @Test
+    public final void testPercentiles() {
+
+        final double    DBL_RES = 1.0e-3;
+
+        SampleHistogram hist = SampleHistogram.create(DBL_RES);
+
+        for (int i=1; i<=100_000; i++)
+            hist.record(i * DBL_RES);
+
+        for (double dblPct : new double[] { 50.0, 99.0, 99.9 }) {
+            double  dblExact = dblPct * 1000.0 * DBL_RES;
+            double  dblEst = hist.getPercentile(dblPct);
+
+            Assert.assertTrue("p" + dblPct + " = " + dblEst, dblEst >= dblExact - DBL_RES);
+            Assert.assertTrue("p" + dblPct + " = " + dblEst, dblEst <= dblExact * (1.0 + DBL_REL_ERR) + DBL_RES);
+        }
+
+        // Percentiles are clipped to the sample range
+        Assert.assertEquals(100.0, hist.getPercentile(100.0), 0.0);
+        Assert.assertEquals(DBL_RES, hist.getPercentile(0.0), DBL_RES);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.common.SampleHistogram#record(double)}.
+     * <p>
+     * The moments and extrema are exact, independent of the resolution.
+     */
+    @Test
+    public final void testMoments() {
+
+        SampleHistogram hist = SampleHistogram.create(10.0);
+        Assert.assertEquals(0.0, hist.getPercentile(50.0), 0.0);
+        Assert.assertEquals(0.0, hist.getMin(), 0.0);
+
+        for (double dblVal : new double[] { 2.0, 4.0, 4.0, 4.0, 5.0, 5.0, 7.0, 9.0 })
+            hist.record(dblVal);
+
+        Assert.assertEquals(8, hist.getCount());
+        Assert.assertEquals(5.0, hist.getMean(), 1.0e-12);
+        Assert.assertEquals(2.0, hist.getStdDev(), 1.0e-12);
+        Assert.assertEquals(2.0, hist.getMin(), 0.0);
+        Assert.assertEquals(9.0, hist.getMax(), 0.0);
+
+        // All percentiles lie within the sample range
+        double  dblMedian = hist.getPercentile(50.0);
+        Assert.assertTrue(dblMedian >= 2.0 && dblMedian <= 9.0);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.common.SampleHistogram#record(double)}.
+     * <p>
+     * Non-finite values are ignored and negative values are bucketed at zero.
+     */
+    @Test
+    public final void testRecordEdgeValues() {
+
+        SampleHistogram hist = SampleHistogram.create(1.0);
+
+        hist.record(Double.NaN);
+        hist.record(Double.POSITIVE_INFINITY);
+        hist.record(Double.NEGATIVE_INFINITY);
+        Assert.assertEquals(0, hist.getCount());
+
+        hist.record(-4.0);
+        hist.record(-2.0);
+        Assert.assertEquals(2, hist.getCount());
+        Assert.assertEquals(-3.0, hist.getMean(), 1.0e-12);
+        Assert.assertEquals(-4.0, hist.getMin(), 0.0);
+        Assert.assertEquals(-2.0, hist.getPercentile(100.0), 0.0);
+
+        hist.clear();
+        Assert.assertEquals(0, hist.getCount());
+        Assert.assertEquals(0.0, hist.getMean(), 0.0);
+        Assert.assertEquals(0.0, hist.getStdDev(), 0.0);
+        Assert.assertEquals(0.0, hist.getMax(), 0.0);
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.common.SampleHistogram#SampleHistogram(double)}.
+     */
+    @Test(expected=IllegalArgumentException.class)
+    public final void testResolutionInvalid() {
+        SampleHistogram.create(0.0);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Project: dp-api-common
+ * File:	TrialRunnerTest.java
+ * Package: com.ospreydcs.dp.jal.tools.common
+ * Type: 	TrialRunnerTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.common;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>TrialRunner</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class TrialRunnerTest {
+
+    //
+    // Test Resources
+    //
+
+    /** Test result record - trial index, data rate, duration, and success */
+    public static record TestResult(int index, double rate, Duration duration, boolean success) {};
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.common.TrialRunner#run(com.ospreydcs.dp.jal.tools.common.TrialRunner.Trial)}.
+     * <p>
+     * Warmup evaluations are performed first and discarded from the trial set.
+     */
+    @Test
+    public final void testRunDiscardsWarmup() {
+
+        TrialRunner<TestResult> runner = createRunner();
+        runner.setWarmupCount(2);
+        runner.setRepeatCount(5);
+
+        // Warmup trials have outlying rates that would dominate the statistics
+        List<TestResult>    lstEvals = new ArrayList<>();
+        TrialSet<TestResult>    set = runner.run(() -> {
+            int         index = lstEvals.size();
+            TestResult  rec = new TestResult(index, (index < 2) ? 1000.0 : 10.0 + index, Duration.ofMillis(10 + index), true);
+
+            lstEvals.add(rec);
+            return rec;
+        });
+
+        Assert.assertEquals(7, lstEvals.size());
+        Assert.assertEquals(5, set.lstTrials().size());
+        Assert.assertEquals(lstEvals.subList(2, 7), set.lstTrials());
+        Assert.assertEquals(0, set.cntFailures());
+
+        // Statistics cover the measured trials only
+        Assert.assertEquals(5, set.recRateStats().cntSamples());
+        Assert.assertEquals(12.0, set.recRateStats().dblMin(), 0.0);
+        Assert.assertEquals(16.0, set.recRateStats().dblMax(), 0.0);
+        Assert.assertEquals(14.0, set.recRateStats().dblMean(), 1.0e-9);
+        Assert.assertEquals(12.0, set.recDurStats().dblMin(), 1.0e-9);
+        Assert.assertEquals(16.0, set.recDurStats().dblMax(), 1.0e-9);
+
+        // Median rate trial is representative
+        Assert.assertEquals(4, set.recMedian().index());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.common.TrialRunner#run(com.ospreydcs.dp.jal.tools.common.TrialRunner.Trial)}.
+     * <p>
+     * Failed trials are counted, retained in the trial list, and excluded from the statistics.
+     */
+    @Test
+    public final void testRunFailures() {
+
+        TrialRunner<TestResult> runner = createRunner();
+        runner.setWarmupCount(0);
+        runner.setRepeatCount(4);
+
+        int[]   arrIndex = { 0 };
+        TrialSet<TestResult>    set = runner.run(() -> {
+            int     index = arrIndex[0]++;
+
+            return new TestResult(index, 100.0 * (index + 1), Duration.ofMillis(1), index % 2 == 0);
+        });
+
+        Assert.assertEquals(4, set.lstTrials().size());
+        Assert.assertEquals(2, set.cntFailures());
+        Assert.assertEquals(2, set.recRateStats().cntSamples());
+        Assert.assertEquals(300.0, set.recRateStats().dblMax(), 0.0);
+        Assert.assertTrue(set.recMedian().success());
+        Assert.assertEquals(0, set.recMedian().index());
+
+        // No successes - the last trial is representative
+        TrialSet<TestResult>    setFail = runner.run(() -> new TestResult(arrIndex[0]++, 1.0, Duration.ZERO, false));
+
+        Assert.assertEquals(4, setFail.cntFailures());
+        Assert.assertEquals(0, setFail.recRateStats().cntSamples());
+        Assert.assertEquals(7, setFail.recMedian().index());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.common.TrialRunner#parseAppArgs(java.lang.String[])}.
+     */
+    @Test
+    public final void testParseAppArgs() {
+
+        TrialRunner<TestResult> runner = createRunner();
+        Assert.assertEquals(TrialRunner.CNT_WARMUP_DEF, runner.getWarmupCount());
+        Assert.assertEquals(TrialRunner.CNT_REPEATS_DEF, runner.getRepeatCount());
+
+        runner.parseAppArgs(new String[] { "CMD", TrialRunner.STR_VAR_WARMUP, "0", TrialRunner.STR_VAR_REPEATS, "9" });
+        Assert.assertEquals(0, runner.getWarmupCount());
+        Assert.assertEquals(9, runner.getRepeatCount());
+
+        // Missing variables retain the current values
+        runner.parseAppArgs(new String[] { "CMD" });
+        Assert.assertEquals(9, runner.getRepeatCount());
+
+        try {
+            runner.parseAppArgs(new String[] { TrialRunner.STR_VAR_REPEATS, "0" });
+            Assert.fail("Repeat count of zero accepted");
+
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        try {
+            runner.parseAppArgs(new String[] { TrialRunner.STR_VAR_WARMUP, "1", "2" });
+            Assert.fail("Multiple warmup values accepted");
+
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.common.TrialRunner#setWarmupCount(int)}.
+     */
+    @Test(expected=IllegalArgumentException.class)
+    public final void testSetWarmupCountInvalid() {
+        createRunner().setWarmupCount(-1);
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @return  a new trial runner for <code>TestResult</code> records
+     */
+    private static TrialRunner<TestResult>  createRunner() {
+        return TrialRunner.from(rec -> rec.rate(), rec -> rec.duration(), rec -> rec.success());
+    }
+}
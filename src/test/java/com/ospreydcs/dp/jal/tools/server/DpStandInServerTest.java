@@ -0,0 +1,384 @@
+/*
+ * Project: dp-api-common
+ * File:	DpStandInServerTest.java
+ * Package: com.ospreydcs.dp.jal.tools.server
+ * Type: 	DpStandInServerTest
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.server;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.grpc.util.ProtoMsg;
+import com.ospreydcs.dp.grpc.v1.annotation.CreateDataSetRequest;
+import com.ospreydcs.dp.grpc.v1.annotation.CreateDataSetResponse;
+import com.ospreydcs.dp.grpc.v1.annotation.DataBlock;
+import com.ospreydcs.dp.grpc.v1.annotation.DataSet;
+import com.ospreydcs.dp.grpc.v1.annotation.DpAnnotationServiceGrpc;
+import com.ospreydcs.dp.grpc.v1.annotation.QueryDataSetsRequest;
+import com.ospreydcs.dp.grpc.v1.annotation.QueryDataSetsRequest.QueryDataSetsCriterion;
+import com.ospreydcs.dp.grpc.v1.annotation.QueryDataSetsResponse;
+import com.ospreydcs.dp.grpc.v1.common.DataColumn;
+import com.ospreydcs.dp.grpc.v1.common.DataTimestamps;
+import com.ospreydcs.dp.grpc.v1.common.DataValue;
+import com.ospreydcs.dp.grpc.v1.common.SamplingClock;
+import com.ospreydcs.dp.grpc.v1.ingestion.DpIngestionServiceGrpc;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataResponse;
+import com.ospreydcs.dp.grpc.v1.ingestion.RegisterProviderRequest;
+import com.ospreydcs.dp.grpc.v1.ingestion.RegisterProviderResponse;
+import com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc;
+import com.ospreydcs.dp.grpc.v1.query.PvNameList;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataRequest;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataRequest.QuerySpec;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse.QueryData.DataBucket;
+import com.ospreydcs.dp.grpc.v1.query.QueryPvMetadataRequest;
+import com.ospreydcs.dp.grpc.v1.query.QueryPvMetadataResponse;
+import com.ospreydcs.dp.jal.tools.config.archive.JalTestArchiveConfig;
+import com.ospreydcs.dp.jal.tools.config.archive.JalTestArchivePvsConfig;
+import com.ospreydcs.dp.jal.tools.config.server.JalStandInServerConfig;
+
+import io.grpc.ManagedChannel;
+
+/**
+ * <p>
+ * JUnit test cases for class <code>DpStandInServer</code> using the in-process transport.
+ * </p>
+ * <p>
+ * The test archive is a small archive of 10 PVs (8 clocked, 2 timestamp list) sampled at 1 ms for 3 seconds,
+ * partitioned into 1 second data buckets.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class DpStandInServerTest {
+
+    //
+    // Class Constants
+    //
+
+    /** Test archive inception */
+    public static final String      STR_INCEPT = "2023-10-31T15:51:02.000+00:00";
+
+    /** Test archive final sample */
+    public static final String      STR_FINAL = "2023-10-31T15:51:04.999+00:00";
+
+    /** Test archive inception instant */
+    public static final Instant     INS_INCEPT = Instant.parse(STR_INCEPT);
+
+    /** Test server page size */
+    public static final int         CNT_PAGE_SIZE = 2;
+
+
+    //
+    // Test Fixture
+    //
+
+    /** The stand-in server under test */
+    private DpStandInServer     server;
+
+    /** Channel to the stand-in server */
+    private ManagedChannel      chanGrpc;
+
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        this.server = DpStandInServer.create(createArchiveConfig(), createServerConfig()).start();
+        this.chanGrpc = this.server.createChannel();
+    }
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @After
+    public void tearDown() throws Exception {
+        this.chanGrpc.shutdownNow().awaitTermination(1, TimeUnit.SECONDS);
+        this.server.shutdown();
+    }
+
+
+    //
+    // Test Cases
+    //
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.server.StandInQueryService#queryData(QueryDataRequest, io.grpc.stub.StreamObserver)}.
+     */
+    @Test
+    public final void testQueryDataUnary() {
+        QueryDataResponse   msgRsp = DpQueryServiceGrpc.newBlockingStub(this.chanGrpc)
+                .queryData(createRequest(List.of("dpTest_1", "dpTest_10"), INS_INCEPT, INS_INCEPT.plusSeconds(3)));
+
+        Assert.assertTrue(msgRsp.hasQueryData());
+        List<DataBucket>    lstBuckets = msgRsp.getQueryData().getDataBucketsList();
+        Assert.assertEquals(6, lstBuckets.size());
+
+        // Clocked PV
+        DataBucket  msgClked = lstBuckets.get(0);
+        Assert.assertEquals("dpTest_1", msgClked.getDataColumn().getName());
+        Assert.assertTrue(msgClked.getDataTimestamps().hasSamplingClock());
+        Assert.assertEquals(1000, msgClked.getDataTimestamps().getSamplingClock().getCount());
+        Assert.assertEquals(StandInArchive.value(0, 1L), msgClked.getDataColumn().getDataValues(1).getDoubleValue(), 0.0);
+
+        // Timestamp list PV
+        DataBucket  msgTmsLst = lstBuckets.get(1);
+        Assert.assertEquals("dpTest_10", msgTmsLst.getDataColumn().getName());
+        Assert.assertTrue(msgTmsLst.getDataTimestamps().hasTimestampList());
+        Assert.assertEquals(1000, msgTmsLst.getDataTimestamps().getTimestampList().getTimestampsCount());
+        Assert.assertEquals(INS_INCEPT, ProtoMsg.toInstant(msgTmsLst.getDataTimestamps().getTimestampList().getTimestamps(0)));
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.server.StandInQueryService#queryDataStream(QueryDataRequest, io.grpc.stub.StreamObserver)}.
+     * <p>
+     * Data buckets are paged and trimmed to the request time range.
+     */
+    @Test
+    public final void testQueryDataStream() {
+        Instant                     insBegin = INS_INCEPT.plusMillis(500);
+        Iterator<QueryDataResponse> itrRsps = DpQueryServiceGrpc.newBlockingStub(this.chanGrpc)
+                .queryDataStream(createRequest(List.of("dpTest_2", "dpTest_3", "dpTest_4"), insBegin, insBegin.plusSeconds(1)));
+
+        int     cntRsps = 0;
+        int     cntBuckets = 0;
+        int     cntSamples = 0;
+
+        while (itrRsps.hasNext()) {
+            QueryDataResponse   msgRsp = itrRsps.next();
+
+            Assert.assertTrue(msgRsp.getQueryData().getDataBucketsCount() <= CNT_PAGE_SIZE);
+            cntRsps++;
+            for (DataBucket msgBucket : msgRsp.getQueryData().getDataBucketsList()) {
+                cntBuckets++;
+                cntSamples += msgBucket.getDataColumn().getDataValuesCount();
+            }
+        }
+
+        Assert.assertEquals(3, cntRsps);
+        Assert.assertEquals(6, cntBuckets);
+        Assert.assertEquals(3*1000, cntSamples);
+        Assert.assertEquals(6, this.server.getQueryService().getBucketCount());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.server.StandInQueryService#queryData(QueryDataRequest, io.grpc.stub.StreamObserver)}.
+     * <p>
+     * Requests for PVs outside the archive are rejected.
+     */
+    @Test
+    public final void testQueryRejected() {
+        QueryDataResponse   msgRsp = DpQueryServiceGrpc.newBlockingStub(this.chanGrpc)
+                .queryData(createRequest(List.of("dpTest_11"), INS_INCEPT, INS_INCEPT.plusSeconds(1)));
+
+        Assert.assertTrue(msgRsp.hasExceptionalResult());
+        Assert.assertEquals(1, this.server.getQueryService().getRejectedCount());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.server.StandInQueryService#queryPvMetadata(QueryPvMetadataRequest, io.grpc.stub.StreamObserver)}.
+     */
+    @Test
+    public final void testQueryPvMetadata() {
+        QueryPvMetadataRequest  msgRqst = QueryPvMetadataRequest.newBuilder()
+                .setPvNameList(PvNameList.newBuilder().addPvNames("dpTest_5"))
+                .build();
+        QueryPvMetadataResponse msgRsp = DpQueryServiceGrpc.newBlockingStub(this.chanGrpc).queryPvMetadata(msgRqst);
+
+        Assert.assertTrue(msgRsp.hasMetadataResult());
+        Assert.assertEquals(1, msgRsp.getMetadataResult().getPvInfosCount());
+        Assert.assertEquals(DpSupportedType.DOUBLE, ProtoMsg.toPvMetaRecord(msgRsp.getMetadataResult().getPvInfos(0)).type());
+        Assert.assertEquals(1000, msgRsp.getMetadataResult().getPvInfos(0).getLastBucketSampleCount());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.server.StandInIngestionService#ingestData(IngestDataRequest, io.grpc.stub.StreamObserver)}.
+     */
+    @Test
+    public final void testIngestData() {
+        DpIngestionServiceGrpc.DpIngestionServiceBlockingStub   stub = DpIngestionServiceGrpc.newBlockingStub(this.chanGrpc);
+
+        RegisterProviderResponse    msgReg = stub.registerProvider(RegisterProviderRequest.newBuilder().setProviderName("test-provider").build());
+        String                      strPrvUid = msgReg.getRegistrationResult().getProviderId();
+        Assert.assertTrue(msgReg.getRegistrationResult().getIsNewProvider());
+
+        // Registered provider is acknowledged
+        IngestDataResponse  msgAck = stub.ingestData(createIngestRequest(strPrvUid, "RQST-1", 10));
+        Assert.assertTrue(msgAck.hasAckResult());
+        Assert.assertEquals(10, msgAck.getAckResult().getNumRows());
+        Assert.assertEquals(1, msgAck.getAckResult().getNumColumns());
+
+        // Unregistered provider is rejected
+        IngestDataResponse  msgRjct = stub.ingestData(createIngestRequest("unknown", "RQST-2", 10));
+        Assert.assertTrue(msgRjct.hasExceptionalResult());
+
+        Assert.assertEquals(10, this.server.getIngestionService().getRowCount());
+        Assert.assertEquals(1, this.server.getIngestionService().getRejectedCount());
+
+        // Re-registration returns the same UID
+        RegisterProviderResponse    msgReReg = stub.registerProvider(RegisterProviderRequest.newBuilder().setProviderName("test-provider").build());
+        Assert.assertEquals(strPrvUid, msgReReg.getRegistrationResult().getProviderId());
+        Assert.assertFalse(msgReReg.getRegistrationResult().getIsNewProvider());
+    }
+
+    /**
+     * Test method for {@link com.ospreydcs.dp.jal.tools.server.StandInAnnotationService}.
+     */
+    @Test
+    public final void testDataSets() {
+        DpAnnotationServiceGrpc.DpAnnotationServiceBlockingStub stub = DpAnnotationServiceGrpc.newBlockingStub(this.chanGrpc);
+
+        DataBlock   msgBlk = DataBlock.newBuilder()
+                .addPvNames("dpTest_1")
+                .setBeginTime(ProtoMsg.from(INS_INCEPT))
+                .setEndTime(ProtoMsg.from(INS_INCEPT.plusSeconds(1)))
+                .build();
+        DataSet     msgDset = DataSet.newBuilder().setName("test-set").setOwnerId("owner").addDataBlocks(msgBlk).build();
+
+        CreateDataSetResponse   msgCreate = stub.createDataSet(CreateDataSetRequest.newBuilder().setDataSet(msgDset).build());
+        Assert.assertTrue(msgCreate.hasCreateDataSetResult());
+
+        String  strUid = msgCreate.getCreateDataSetResult().getDataSetId();
+
+        QueryDataSetsCriterion  msgCrit = QueryDataSetsCriterion.newBuilder()
+                .setIdCriterion(QueryDataSetsCriterion.IdCriterion.newBuilder().setId(strUid))
+                .build();
+        QueryDataSetsResponse   msgQuery = stub.queryDataSets(QueryDataSetsRequest.newBuilder().addCriteria(msgCrit).build());
+
+        Assert.assertEquals(1, msgQuery.getDataSetsResult().getDataSetsCount());
+        Assert.assertEquals("test-set", msgQuery.getDataSetsResult().getDataSets(0).getName());
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * @return  configuration of a 10 PV test archive sampled at 1 ms for 3 seconds
+     */
+    private static JalTestArchiveConfig createArchiveConfig() {
+        JalTestArchiveConfig    cfg = new JalTestArchiveConfig();
+
+        cfg.range = new JalTestArchiveConfig.SampleRange();
+        cfg.range.start = STR_INCEPT;
+        cfg.range.end = STR_FINAL;
+
+        cfg.pvs = new JalTestArchivePvsConfig();
+        cfg.pvs.prefix = "dpTest_";
+        cfg.pvs.types = List.of(DpSupportedType.DOUBLE);
+        cfg.pvs.clock = new JalTestArchivePvsConfig.SampleClock();
+        cfg.pvs.clock.period = 1L;
+        cfg.pvs.clock.units = TimeUnit.MILLISECONDS;
+        cfg.pvs.count = new JalTestArchivePvsConfig.PvTmsCounts();
+        cfg.pvs.count.total = 10;
+        cfg.pvs.count.clocked = 8;
+        cfg.pvs.count.tmsList = 2;
+        cfg.pvs.indexes = new JalTestArchivePvsConfig.PvTmsIndexes();
+        cfg.pvs.indexes.clocked = 0;
+        cfg.pvs.indexes.tmsList = 8;
+
+        return cfg;
+    }
+
+    /**
+     * @return  configuration of an unthrottled in-process server with 1 second buckets
+     */
+    private static JalStandInServerConfig createServerConfig() {
+        JalStandInServerConfig  cfg = new JalStandInServerConfig();
+
+        cfg.name = "dp-stand-in-test";
+        cfg.port = 0;
+        cfg.pageSize = CNT_PAGE_SIZE;
+        cfg.bandwidth = 0L;
+        cfg.bucket = new JalStandInServerConfig.Period();
+        cfg.bucket.period = 1L;
+        cfg.bucket.units = TimeUnit.SECONDS;
+        cfg.latency = new JalStandInServerConfig.Period();
+        cfg.latency.period = 0L;
+        cfg.latency.units = TimeUnit.MILLISECONDS;
+
+        return cfg;
+    }
+
+    /**
+     * @param lstPvNames    requested PV names
+     * @param insBegin      request range begin
+     * @param insEnd        request range end
+     *
+     * @return  new time-series data request
+     */
+    private static QueryDataRequest createRequest(List<String> lstPvNames, Instant insBegin, Instant insEnd) {
+        QuerySpec   msgSpec = QuerySpec.newBuilder()
+                .addAllPvNames(lstPvNames)
+                .setBeginTime(ProtoMsg.from(insBegin))
+                .setEndTime(ProtoMsg.from(insEnd))
+                .build();
+
+        return QueryDataRequest.newBuilder().setQuerySpec(msgSpec).build();
+    }
+
+    /**
+     * @param strPrvUid     provider UID
+     * @param strRqstId     client request ID
+     * @param cntRows       number of rows within the single data column
+     *
+     * @return  new ingest data request with a sampling clock and a single double column
+     */
+    private static IngestDataRequest createIngestRequest(String strPrvUid, String strRqstId, int cntRows) {
+        SamplingClock       msgClk = SamplingClock.newBuilder()
+                .setStartTime(ProtoMsg.from(INS_INCEPT))
+                .setPeriodNanos(1_000_000L)
+                .setCount(cntRows)
+                .build();
+        DataColumn.Builder  bldrCol = DataColumn.newBuilder().setName("dpTest_1");
+
+        for (int i=0; i<cntRows; i++)
+            bldrCol.addDataValues(DataValue.newBuilder().setDoubleValue(i));
+
+        IngestDataRequest.IngestionDataFrame    msgFrame = IngestDataRequest.IngestionDataFrame.newBuilder()
+                .setDataTimestamps(DataTimestamps.newBuilder().setSamplingClock(msgClk))
+                .addDataColumns(bldrCol)
+                .build();
+
+        return IngestDataRequest.newBuilder()
+                .setProviderId(strPrvUid)
+                .setClientRequestId(strRqstId)
+                .setIngestionDataFrame(msgFrame)
+                .build();
+    }
+}
@@ -98,10 +98,14 @@ public abstract class ConfigScoreBase<Config extends Record, Result extends Reco
      * <p>
      * Extracts the originating <code>DpDataRequest</code> for the test case from the given result record.
      * </p>
+     * <p>
+     * Test cases without a time-series data request (e.g., ingestion evaluations) return <code>null</code>,
+     * in which case no request hit counts are maintained.
+     * </p>
      * 
      * @param recResult a <code>Result</code> test result record containing the time-series data request used
      * 
-     * @return  the time-series data request used for the test case
+     * @return  the time-series data request used for the test case, or <code>null</code> if none
      */
     protected abstract DpDataRequest    extractDataRequest(Result recResult);
 
@@ -383,20 +387,11 @@ public abstract class ConfigScoreBase<Config extends Record, Result extends Reco
         if (dblDataRate < this.dblRateMin)
             this.dblRateMin = dblDataRate;
 
-        // Get the data request and update the hit count for that request
+        // Get the data request and update the hit count for that request (if any)
         DpDataRequest   rqst = this.extractDataRequest(recResult);
 
-        if (this.mapRqstToHits.containsKey(rqst)) {
-            Integer     intCnt = this.mapRqstToHits.get(rqst);
-            Integer     intNewCnt = intCnt + 1;
-
-            this.mapRqstToHits.put(rqst, intNewCnt);
-
-        } else {
-            Integer     intFirst = 1;
-
-            this.mapRqstToHits.put(rqst, intFirst);
-        }
+        if (rqst != null)
+            this.mapRqstToHits.merge(rqst, 1, Integer::sum);
 
         // Return the running average data rate
         return this.dblRateAvg;
@@ -432,6 +427,9 @@ public abstract class ConfigScoreBase<Config extends Record, Result extends Reco
         ps.println(strPadd + "Data rate 2nd moment (MBps)^2  : " + this.dblRateSqrd);
         ps.println(strPadd + "Data rate stand. dev. (MBps)   : " + this.dataRateStd());
 
+        if (this.mapRqstToHits.isEmpty())
+            return;
+        
         ps.println(strPad + "Data Request Hit Counts");
         for (Map.Entry<DpDataRequest, Integer> entry : this.mapRqstToHits.entrySet()) {
             String  strRqstId = entry.getKey().getRequestId();
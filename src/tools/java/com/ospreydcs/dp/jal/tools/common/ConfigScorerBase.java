@@ -27,6 +27,7 @@ package com.ospreydcs.dp.jal.tools.common;
 
 import java.io.PrintStream;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -462,13 +463,7 @@ public abstract class ConfigScorerBase<Config extends Record, Result extends Rec
      */
     public SortedSet<Score> recoverScoresByHits() {
 
-        SortedSet<Score>    setScores = new TreeSet<>(Score.createHitOrdering());
-
-        for (Score score : this.mapIndexScore.values()) {
-            setScores.add(score);
-        }
-
-        return setScores;
+        return this.recoverScores(Score.createHitOrdering());
     }
 
     /**
@@ -480,13 +475,7 @@ public abstract class ConfigScorerBase<Config extends Record, Result extends Rec
      */
     public SortedSet<Score> recoverScoresByRates() {
         
-        SortedSet<Score>    setScores = new TreeSet<>(Score.createRateOrdering());
-
-        for (Score score : this.mapIndexScore.values()) {
-            setScores.add(score);
-        }
-
-        return setScores;
+        return this.recoverScores(Score.createRateOrdering());
     }
 
     /**
@@ -539,6 +528,31 @@ public abstract class ConfigScorerBase<Config extends Record, Result extends Rec
     // Support Methods
     //
 
+    /**
+     * <p>
+     * Returns the set of all <code>Score</code> records ordered by the given comparator.
+     * </p>
+     * <p>
+     * Child classes with additional scoring parameters use this method to recover the scores in
+     * their own orderings.  Note that the comparator must not return 0 for distinct scores, otherwise
+     * the colliding scores are clobbered within the returned set. 
+     * </p>
+     * 
+     * @param cmpOrder  the ordering of the returned score set
+     * 
+     * @return  all the <code>Score</code> records so far, in the given ordering
+     */
+    protected SortedSet<Score>  recoverScores(Comparator<? super Score> cmpOrder) {
+
+        SortedSet<Score>    setScores = new TreeSet<>(cmpOrder);
+
+        for (Score score : this.mapIndexScore.values()) {
+            setScores.add(score);
+        }
+
+        return setScores;
+    }
+
     /**
      * <p>
      * Returns the internal index corresponding to the given <code>Result</code> record.
@@ -584,7 +598,7 @@ public abstract class ConfigScorerBase<Config extends Record, Result extends Rec
      * @param strPad        (optional) left-hand white space padding
      * @param strOrdering   (optional) text description of the ordering (or <code>null</code>)
      */
-    private void printOut(PrintStream ps, SortedSet<Score> setScores, String strPad, String strOrdering) {
+    protected void printOut(PrintStream ps, SortedSet<Score> setScores, String strPad, String strOrdering) {
         
         if (strPad == null)
             strPad = "";
@@ -0,0 +1,508 @@
+/*
+ * Project: dp-api-common
+ * File:	ResultExporter.java
+ * Package: com.ospreydcs.dp.jal.tools.common
+ * Type: 	ResultExporter
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.common;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ospreydcs.dp.api.util.JavaRuntime;
+import com.ospreydcs.dp.jal.tools.config.JalToolsConfig;
+
+/**
+ * <p>
+ * Utility class for exporting collections of test result records to machine-readable CSV and JSON files.
+ * </p>
+ * <p>
+ * The record components are discovered by reflection so any result record type can be exported, including
+ * <code>{@link TrialSet}</code> records.  Record components are mapped as follows:
+ * <ul>
+ * <li>Numbers and booleans are written as numeric and boolean values. </li>
+ * <li><code>Duration</code> values are written as nanoseconds. </li>
+ * <li>Enumeration constants are written as their names. </li>
+ * <li>Nested records are written as JSON objects, or flattened to dotted column names in CSV. </li>
+ * <li>Collections and arrays are written as JSON arrays, or as their element count in CSV. </li>
+ * <li>All other objects are written as their <code>toString()</code> value. </li>
+ * </ul>
+ * Nesting is limited to <code>{@link #CNT_DEPTH_MAX}</code> levels; deeper values are written as strings.
+ * </p>
+ * <p>
+ * <h2>Usage</h2>
+ * Evaluators typically call <code>{@link #exportBeside(Path, Collection)}</code> with the path of their text
+ * report, which writes the enabled formats (see <code>{@link JalToolsConfig#evaluation}</code>) to files of the
+ * same name with the appropriate extensions.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public final class ResultExporter {
+
+
+    //
+    // Application Resources
+    //
+
+    /** The JAL Tools default configuration parameters */
+    private static final JalToolsConfig     CFG_TOOLS = JalToolsConfig.getInstance();
+
+
+    //
+    // Class Constants
+    //
+
+    /** CSV export enabled flag */
+    public static final boolean     BOL_EXPORT_CSV = CFG_TOOLS.evaluation.export.csv;
+
+    /** JSON export enabled flag */
+    public static final boolean     BOL_EXPORT_JSON = CFG_TOOLS.evaluation.export.json;
+
+    /** CSV file extension */
+    public static final String      STR_FILE_EXT_CSV = ".csv";
+
+    /** JSON file extension */
+    public static final String      STR_FILE_EXT_JSON = ".json";
+
+    /** Maximum nesting depth of exported records */
+    public static final int         CNT_DEPTH_MAX = 8;
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Prevent construction of <code>ResultExporter</code> instances.
+     * </p>
+     */
+    private ResultExporter() {
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Exports the given records to files beside the given report file in all enabled formats.
+     * </p>
+     * <p>
+     * The export file names are those of the report file with its extension replaced by
+     * {@value #STR_FILE_EXT_CSV} and {@value #STR_FILE_EXT_JSON}, respectively.  Nothing is exported if
+     * the report was not written to a file (e.g., to the console), in which case the returned list is empty.
+     * </p>
+     *
+     * @param pathReport    path of the text report file, or a path without parent directory for the console
+     * @param setRecords    the records to export
+     *
+     * @return  the paths of the exported files
+     *
+     * @throws IOException  unable to write an export file
+     */
+    public static List<Path>    exportBeside(Path pathReport, Collection<? extends Record> setRecords) throws IOException {
+        List<Path>  lstPaths = new ArrayList<>(2);
+
+        if (pathReport == null || (pathReport.getParent() == null && !Files.exists(pathReport)))
+            return lstPaths;
+
+        String  strName = pathReport.getFileName().toString();
+        int     indExt = strName.lastIndexOf('.');
+        String  strBase = (indExt > 0) ? strName.substring(0, indExt) : strName;
+
+        if (BOL_EXPORT_CSV) {
+            Path    pathCsv = pathReport.resolveSibling(strBase + STR_FILE_EXT_CSV);
+
+            exportCsv(pathCsv, setRecords);
+            lstPaths.add(pathCsv);
+        }
+
+        if (BOL_EXPORT_JSON) {
+            Path    pathJson = pathReport.resolveSibling(strBase + STR_FILE_EXT_JSON);
+
+            exportJson(pathJson, setRecords);
+            lstPaths.add(pathJson);
+        }
+
+        return lstPaths;
+    }
+
+    /**
+     * <p>
+     * Exports the given records to a CSV file at the given location.
+     * </p>
+     *
+     * @param pathFile      location of the CSV file (overwritten if it exists)
+     * @param setRecords    the records to export, one per row
+     *
+     * @throws IOException  unable to write the file
+     */
+    public static void  exportCsv(Path pathFile, Collection<? extends Record> setRecords) throws IOException {
+        try (PrintStream ps = new PrintStream(Files.newOutputStream(pathFile))) {
+            writeCsv(ps, setRecords);
+
+            if (ps.checkError())
+                throw new IOException(JavaRuntime.getQualifiedMethodNameSimple() + " - Error writing to " + pathFile);
+        }
+    }
+
+    /**
+     * <p>
+     * Exports the given records to a JSON file at the given location.
+     * </p>
+     *
+     * @param pathFile      location of the JSON file (overwritten if it exists)
+     * @param setRecords    the records to export, as elements of a JSON array
+     *
+     * @throws IOException  unable to write the file
+     */
+    public static void  exportJson(Path pathFile, Collection<? extends Record> setRecords) throws IOException {
+        try (PrintStream ps = new PrintStream(Files.newOutputStream(pathFile))) {
+            writeJson(ps, setRecords);
+
+            if (ps.checkError())
+                throw new IOException(JavaRuntime.getQualifiedMethodNameSimple() + " - Error writing to " + pathFile);
+        }
+    }
+
+    /**
+     * <p>
+     * Writes the given records to the given output stream in CSV format.
+     * </p>
+     * <p>
+     * The header row is formed from the (flattened) component names of all records, in order of first
+     * appearance.  Records of differing types leave the cells of missing columns empty.
+     * </p>
+     *
+     * @param ps            output stream to receive the CSV text
+     * @param setRecords    the records to write, one per row
+     */
+    public static void  writeCsv(PrintStream ps, Collection<? extends Record> setRecords) {
+        List<Map<String, String>>   lstRows = new ArrayList<>(setRecords.size());
+        Map<String, String>         mapHdr = new LinkedHashMap<>();
+
+        for (Record rec : setRecords) {
+            Map<String, String> mapRow = new LinkedHashMap<>();
+
+            flattenCsv(mapRow, "", rec, 0);
+            mapRow.keySet().forEach(strCol -> mapHdr.putIfAbsent(strCol, strCol));
+            lstRows.add(mapRow);
+        }
+
+        ps.println(String.join(",", mapHdr.keySet().stream().map(ResultExporter::quoteCsv).toList()));
+        for (Map<String, String> mapRow : lstRows) {
+            List<String>    lstCells = mapHdr.keySet().stream().map(strCol -> quoteCsv(mapRow.getOrDefault(strCol, ""))).toList();
+
+            ps.println(String.join(",", lstCells));
+        }
+        ps.flush();
+    }
+
+    /**
+     * <p>
+     * Writes the given records to the given output stream as a JSON array of objects.
+     * </p>
+     *
+     * @param ps            output stream to receive the JSON text
+     * @param setRecords    the records to write
+     */
+    public static void  writeJson(PrintStream ps, Collection<? extends Record> setRecords) {
+        StringBuilder   bldr = new StringBuilder();
+
+        appendJson(bldr, setRecords, 0);
+        ps.println(bldr);
+        ps.flush();
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Adds the flattened CSV cells of the given value to the given row map.
+     * </p>
+     *
+     * @param mapRow    the row map of column names to cell values
+     * @param strPrefix column name of the value (empty for the row record)
+     * @param objVal    the value to flatten
+     * @param cntDepth  the current nesting depth
+     */
+    private static void flattenCsv(Map<String, String> mapRow, String strPrefix, Object objVal, int cntDepth) {
+
+        if (objVal instanceof Record rec && cntDepth < CNT_DEPTH_MAX) {
+            for (RecordComponent cmp : rec.getClass().getRecordComponents()) {
+                String  strCol = strPrefix.isEmpty() ? cmp.getName() : strPrefix + "." + cmp.getName();
+
+                flattenCsv(mapRow, strCol, componentValue(rec, cmp), cntDepth + 1);
+            }
+            return;
+        }
+
+        if (objVal instanceof Collection<?> coll) {
+            mapRow.put(strPrefix, Integer.toString(coll.size()));
+            return;
+        }
+        if (objVal instanceof Map<?, ?> map) {
+            mapRow.put(strPrefix, Integer.toString(map.size()));
+            return;
+        }
+        if (objVal != null && objVal.getClass().isArray()) {
+            mapRow.put(strPrefix, Integer.toString(Array.getLength(objVal)));
+            return;
+        }
+
+        mapRow.put(strPrefix, scalarText(objVal));
+    }
+
+    /**
+     * <p>
+     * Appends the JSON representation of the given value to the given builder.
+     * </p>
+     *
+     * @param bldr      the JSON text builder
+     * @param objVal    the value to append
+     * @param cntDepth  the current nesting depth
+     */
+    private static void appendJson(StringBuilder bldr, Object objVal, int cntDepth) {
+
+        if (cntDepth >= CNT_DEPTH_MAX) {
+            bldr.append(quoteJson(String.valueOf(objVal)));
+            return;
+        }
+
+        if (objVal instanceof Record rec) {
+            bldr.append('{');
+
+            boolean bolFirst = true;
+            for (RecordComponent cmp : rec.getClass().getRecordComponents()) {
+                if (!bolFirst)
+                    bldr.append(',');
+                bolFirst = false;
+
+                bldr.append(quoteJson(cmp.getName())).append(':');
+                appendJson(bldr, componentValue(rec, cmp), cntDepth + 1);
+            }
+
+            bldr.append('}');
+            return;
+        }
+
+        if (objVal instanceof Collection<?> coll) {
+            appendJsonArray(bldr, coll, cntDepth);
+            return;
+        }
+        if (objVal != null && objVal.getClass().isArray()) {
+            int             cntElems = Array.getLength(objVal);
+            List<Object>    lstElems = new ArrayList<>(cntElems);
+
+            for (int i=0; i<cntElems; i++)
+                lstElems.add(Array.get(objVal, i));
+
+            appendJsonArray(bldr, lstElems, cntDepth);
+            return;
+        }
+        if (objVal instanceof Map<?, ?> map) {
+            bldr.append('{');
+
+            boolean bolFirst = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!bolFirst)
+                    bldr.append(',');
+                bolFirst = false;
+
+                bldr.append(quoteJson(String.valueOf(entry.getKey()))).append(':');
+                appendJson(bldr, entry.getValue(), cntDepth + 1);
+            }
+
+            bldr.append('}');
+            return;
+        }
+
+        // Scalar values
+        if (objVal == null)
+            bldr.append("null");
+        else if (objVal instanceof Boolean)
+            bldr.append(objVal);
+        else if (objVal instanceof Number || objVal instanceof Duration)
+            bldr.append(isFinite(objVal) ? scalarText(objVal) : "null");
+        else
+            bldr.append(quoteJson(scalarText(objVal)));
+    }
+
+    /**
+     * <p>
+     * Appends the given elements to the given builder as a JSON array.
+     * </p>
+     *
+     * @param bldr      the JSON text builder
+     * @param setElems  the array elements
+     * @param cntDepth  the current nesting depth
+     */
+    private static void appendJsonArray(StringBuilder bldr, Collection<?> setElems, int cntDepth) {
+        bldr.append('[');
+
+        boolean bolFirst = true;
+        for (Object objElem : setElems) {
+            if (!bolFirst)
+                bldr.append(',');
+            bolFirst = false;
+
+            appendJson(bldr, objElem, cntDepth + 1);
+        }
+
+        bldr.append(']');
+    }
+
+    /**
+     * <p>
+     * Returns the value of the given record component.
+     * </p>
+     *
+     * @param rec   the record
+     * @param cmp   the record component
+     *
+     * @return  the component value, or a description of the access failure
+     */
+    private static Object   componentValue(Record rec, RecordComponent cmp) {
+        try {
+            Method  mthAccessor = cmp.getAccessor();
+
+            if (!mthAccessor.canAccess(rec))
+                mthAccessor.setAccessible(true);    // throws InaccessibleObjectException, SecurityException
+
+            return mthAccessor.invoke(rec);
+
+        } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
+            return "<" + e.getClass().getSimpleName() + ">";
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the text value of the given scalar.
+     * </p>
+     *
+     * @param objVal    scalar value
+     *
+     * @return  the text representation of the value (empty for <code>null</code>)
+     */
+    private static String   scalarText(Object objVal) {
+        if (objVal == null)
+            return "";
+        if (objVal instanceof Duration dur)
+            return Long.toString(dur.toNanos());
+        if (objVal instanceof Enum<?> enm)
+            return enm.name();
+
+        return objVal.toString();
+    }
+
+    /**
+     * <p>
+     * Determines whether the given numeric value is finite (JSON has no representation for NaN or infinity).
+     * </p>
+     *
+     * @param objVal    numeric value
+     *
+     * @return  <code>false</code> if the value is a non-finite floating point value, <code>true</code> otherwise
+     */
+    private static boolean  isFinite(Object objVal) {
+        if (objVal instanceof Double dbl)
+            return Double.isFinite(dbl);
+        if (objVal instanceof Float flt)
+            return Float.isFinite(flt);
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Quotes the given text as a CSV cell if it contains separators, quotes, or line breaks.
+     * </p>
+     *
+     * @param strText   cell text
+     *
+     * @return  the CSV cell
+     */
+    private static String   quoteCsv(String strText) {
+        if (strText.indexOf(',') < 0 && strText.indexOf('"') < 0 && strText.indexOf('\n') < 0 && strText.indexOf('\r') < 0)
+            return strText;
+
+        return "\"" + strText.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * <p>
+     * Quotes and escapes the given text as a JSON string.
+     * </p>
+     *
+     * @param strText   string text
+     *
+     * @return  the JSON string literal
+     */
+    private static String   quoteJson(String strText) {
+        StringBuilder   bldr = new StringBuilder(strText.length() + 2);
+
+        bldr.append('"');
+        for (int i=0; i<strText.length(); i++) {
+            char    chr = strText.charAt(i);
+
+            switch (chr) {
+            case '"'  -> bldr.append("\\\"");
+            case '\\' -> bldr.append("\\\\");
+            case '\n' -> bldr.append("\\n");
+            case '\r' -> bldr.append("\\r");
+            case '\t' -> bldr.append("\\t");
+            default   -> {
+                if (chr < 0x20)
+                    bldr.append(String.format("\\u%04x", (int)chr));
+                else
+                    bldr.append(chr);
+            }
+            }
+        }
+        bldr.append('"');
+
+        return bldr.toString();
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Project: dp-api-common
+ * File:	SampleHistogram.java
+ * Package: com.ospreydcs.dp.jal.tools.common
+ * Type: 	SampleHistogram
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.common;
+
+import com.ospreydcs.dp.api.util.JavaRuntime;
+import com.ospreydcs.dp.api.util.LongHistogram;
+
+/**
+ * <p>
+ * Histogram of non-negative sample values with log-linear buckets of constant relative precision.
+ * </p>
+ * <p>
+ * Sample values are quantized to integer multiples of the histogram resolution given at creation and recorded
+ * in a <code>{@link LongHistogram}</code> with <code>{@link #CNT_PRECISION_BITS}</code> bits of precision.
+ * Thus, percentiles are resolved to within a relative error of 2<sup>1-<i>b</i></sup> (less than 1%) over the
+ * full <code>long</code> range, while the histogram has a constant size regardless of the number of recorded
+ * samples.
+ * </p>
+ * <p>
+ * The mean and standard deviation are computed exactly from the recorded (unquantized) sample values
+ * using Welford's algorithm, as are the minimum and maximum values.
+ * </p>
+ * <p>
+ * <h2>Thread Safety</h2>
+ * Instances are not thread safe.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class SampleHistogram {
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new, empty <code>SampleHistogram</code> with the given sample resolution.
+     * </p>
+     * <p>
+     * The resolution is the smallest distinguishable sample value.  For example, a resolution of 1.0 for
+     * durations recorded in nanoseconds, or a resolution of 0.001 for data rates recorded in MBps.
+     * </p>
+     *
+     * @param dblResolution the sample resolution (i.e., the quantization unit)
+     *
+     * @return  a new, empty histogram with the given resolution
+     *
+     * @throws IllegalArgumentException the resolution was not positive
+     */
+    public static SampleHistogram   create(double dblResolution) throws IllegalArgumentException {
+        return new SampleHistogram(dblResolution);
+    }
+
+
+    //
+    // Class Constants
+    //
+
+    /** Number of bits of precision within each power-of-two interval */
+    public static final int     CNT_PRECISION_BITS = 8;
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The sample value resolution (quantization unit) */
+    private final double    dblResolution;
+
+
+    //
+    // State Variables
+    //
+
+    /** The histogram of quantized sample values */
+    private final LongHistogram histQuant = new LongHistogram(CNT_PRECISION_BITS);
+
+    /** Number of recorded samples */
+    private long            cntSamples = 0;
+
+    /** Running mean of the recorded samples */
+    private double          dblMean = 0.0;
+
+    /** Running sum of squared deviations from the mean */
+    private double          dblSumSqrs = 0.0;
+
+    /** Minimum recorded sample */
+    private double          dblMin = Double.POSITIVE_INFINITY;
+
+    /** Maximum recorded sample */
+    private double          dblMax = Double.NEGATIVE_INFINITY;
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new, empty <code>SampleHistogram</code> instance.
+     * </p>
+     *
+     * @param dblResolution the sample resolution (i.e., the quantization unit)
+     *
+     * @throws IllegalArgumentException the resolution was not positive
+     */
+    public SampleHistogram(double dblResolution) throws IllegalArgumentException {
+
+        if (!(dblResolution > 0.0))
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Resolution must be positive: " + dblResolution);
+
+        this.dblResolution = dblResolution;
+    }
+
+
+    //
+    // State Inquiry
+    //
+
+    /**
+     * @return  the sample value resolution given at creation
+     */
+    public double   getResolution() {
+        return this.dblResolution;
+    }
+
+    /**
+     * @return  the number of recorded samples
+     */
+    public long     getCount() {
+        return this.cntSamples;
+    }
+
+    /**
+     * @return  the minimum recorded sample, or 0 if empty
+     */
+    public double   getMin() {
+        return (this.cntSamples == 0) ? 0.0 : this.dblMin;
+    }
+
+    /**
+     * @return  the maximum recorded sample, or 0 if empty
+     */
+    public double   getMax() {
+        return (this.cntSamples == 0) ? 0.0 : this.dblMax;
+    }
+
+    /**
+     * @return  the mean of the recorded samples, or 0 if empty
+     */
+    public double   getMean() {
+        return this.dblMean;
+    }
+
+    /**
+     * @return  the (population) standard deviation of the recorded samples, or 0 if empty
+     */
+    public double   getStdDev() {
+        return (this.cntSamples == 0) ? 0.0 : Math.sqrt(this.dblSumSqrs / this.cntSamples);
+    }
+
+    /**
+     * <p>
+     * Returns an estimate of the given percentile of the recorded samples.
+     * </p>
+     * <p>
+     * The returned value is the upper limit of the bucket containing the percentile, clipped to the
+     * range of recorded samples.  It is within the relative precision of the histogram of the true value.
+     * </p>
+     *
+     * @param dblPercent    percentile in the range [0, 100]
+     *
+     * @return  estimate of the given percentile, or 0 if empty
+     */
+    public double   getPercentile(double dblPercent) {
+        if (this.cntSamples == 0)
+            return 0.0;
+
+        double  dblUpper = this.histQuant.getPercentile(dblPercent) * this.dblResolution;
+
+        return Math.min(Math.max(dblUpper, this.dblMin), this.dblMax);
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Records the given sample value.
+     * </p>
+     * <p>
+     * Negative values are clipped to zero for bucketing, however, they enter the mean and standard deviation
+     * unmodified.  Non-finite values are ignored.
+     * </p>
+     *
+     * @param dblVal    sample value to record
+     */
+    public void record(double dblVal) {
+        if (!Double.isFinite(dblVal))
+            return;
+
+        long    lngQuant = Math.max(0L, Math.round(dblVal / this.dblResolution));
+
+        this.histQuant.record(lngQuant);
+        this.cntSamples++;
+
+        double  dblDelta = dblVal - this.dblMean;
+        this.dblMean += dblDelta / this.cntSamples;
+        this.dblSumSqrs += dblDelta * (dblVal - this.dblMean);
+
+        this.dblMin = Math.min(this.dblMin, dblVal);
+        this.dblMax = Math.max(this.dblMax, dblVal);
+    }
+
+    /**
+     * Clears all recorded samples.
+     */
+    public void clear() {
+        this.histQuant.clear();
+        this.cntSamples = 0;
+        this.dblMean = 0.0;
+        this.dblSumSqrs = 0.0;
+        this.dblMin = Double.POSITIVE_INFINITY;
+        this.dblMax = Double.NEGATIVE_INFINITY;
+    }
+}
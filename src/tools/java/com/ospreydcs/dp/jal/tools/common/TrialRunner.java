@@ -0,0 +1,358 @@
+/*
+ * Project: dp-api-common
+ * File:	TrialRunner.java
+ * Package: com.ospreydcs.dp.jal.tools.common
+ * Type: 	TrialRunner
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.common;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.ospreydcs.dp.api.app.JalApplicationBase;
+import com.ospreydcs.dp.api.util.JavaRuntime;
+import com.ospreydcs.dp.jal.tools.config.JalToolsConfig;
+
+/**
+ * <p>
+ * Class for running repeated trials of a test case evaluation and summarizing the results.
+ * </p>
+ * <p>
+ * A single timed evaluation is subject to JIT compilation, garbage collection pauses, and network jitter.
+ * A <code>TrialRunner</code> first performs a number of warmup evaluations whose results are discarded,
+ * then performs a number of measured trials.  The data rates and durations of the successful trials are
+ * recorded in <code>{@link SampleHistogram}</code> instances and summarized within the returned
+ * <code>{@link TrialSet}</code>.
+ * </p>
+ * <p>
+ * Class instances must be supplied a set of interface objects upon creation which extract
+ * the following properties from the <code>Result</code> record:
+ * <ul>
+ * <li><code>{@link DataRateLister.DataRate}</code> - extracts data rate (MBps) from <code>Result</code> records. </li>
+ * <li><code>{@link Elapsed}</code> - extracts the evaluation duration from <code>Result</code> records. </li>
+ * <li><code>{@link Success}</code> - extracts the evaluation success status from <code>Result</code> records. </li>
+ * </ul>
+ * </p>
+ * <p>
+ * <h2>Configuration</h2>
+ * The default warmup and trial counts are taken from the JAL Tools configuration
+ * (see <code>{@link JalToolsConfig#evaluation}</code>).  They may be overridden by the application command-line
+ * variables {@value #STR_VAR_WARMUP} and {@value #STR_VAR_REPEATS} using
+ * <code>{@link #parseAppArgs(String[])}</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ * @param <Result>  test result record containing data rate, duration, and success status
+ */
+public class TrialRunner<Result extends Record> {
+
+
+    //
+    // Creator
+    //
+
+    /**
+     * <p>
+     * Creates and returns a new <code>TrialRunner</code> with the default warmup and trial counts.
+     * </p>
+     *
+     * @param <Result>  test result record containing data rate, duration, and success status
+     *
+     * @param fncRate       lambda function extracting data rate (MBps) from <code>Result</code> records
+     * @param fncElapsed    lambda function extracting evaluation duration from <code>Result</code> records
+     * @param fncSuccess    lambda function extracting evaluation success from <code>Result</code> records
+     *
+     * @return  a new <code>TrialRunner</code> object ready for trial evaluations of <code>Result</code> records
+     */
+    public static <Result extends Record> TrialRunner<Result>   from(DataRateLister.DataRate<Result> fncRate, Elapsed<Result> fncElapsed, Success<Result> fncSuccess) {
+        return new TrialRunner<Result>(fncRate, fncElapsed, fncSuccess);
+    }
+
+
+    //
+    // Internal Types
+    //
+
+    /** Interface definition for lambda function performing a single test case evaluation */
+    public static interface Trial<Result extends Record>    { public Result evaluate(); };
+
+    /** Interface definition for lambda function that extracts evaluation durations from <code>Result</code> records */
+    public static interface Elapsed<Result extends Record>  { public Duration extract(Result recResult); };
+
+    /** Interface definition for lambda function that extracts evaluation success from <code>Result</code> records */
+    public static interface Success<Result extends Record>  { public boolean extract(Result recResult); };
+
+
+    //
+    // Application Resources
+    //
+
+    /** The JAL Tools default configuration parameters */
+    private static final JalToolsConfig     CFG_TOOLS = JalToolsConfig.getInstance();
+
+
+    //
+    // Class Constants
+    //
+
+    /** Default number of warmup evaluations per test case */
+    public static final int         CNT_WARMUP_DEF = CFG_TOOLS.evaluation.warmup;
+
+    /** Default number of measured trials per test case */
+    public static final int         CNT_REPEATS_DEF = CFG_TOOLS.evaluation.repeats;
+
+
+    /** Argument variable identifying the number of warmup evaluations */
+    public static final String      STR_VAR_WARMUP = "--warmup";
+
+    /** Argument variable identifying the number of measured trials */
+    public static final String      STR_VAR_REPEATS = "--repeats";
+
+    /** List of the argument delimiters parsed by <code>{@link #parseAppArgs(String[])}</code> */
+    public static final List<String>    LST_STR_DELIMS = List.of(STR_VAR_WARMUP, STR_VAR_REPEATS);
+
+    /** Usage description of the argument variables, for inclusion in application usage messages */
+    public static final String      STR_ARGS_USAGE =
+              "    W             = Number of warmup evaluations per test case (discarded) - Integer value. \n"
+            + "    R             = Number of measured trials per test case - Integer value. \n";
+
+
+    /** Data rate histogram resolution (MBps) */
+    public static final double      DBL_RES_RATE = 1.0e-3;
+
+    /** Duration histogram resolution (ms) */
+    public static final double      DBL_RES_DUR = 1.0e-3;
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** Function that extracts the data rate (MBps) from the result record */
+    private final DataRateLister.DataRate<Result>   fncDataRate;
+
+    /** Function that extracts the evaluation duration from the result record */
+    private final Elapsed<Result>                   fncElapsed;
+
+    /** Function that extracts the evaluation success from the result record */
+    private final Success<Result>                   fncSuccess;
+
+
+    //
+    // Configuration
+    //
+
+    /** The number of warmup evaluations per test case */
+    private int     cntWarmup = CNT_WARMUP_DEF;
+
+    /** The number of measured trials per test case */
+    private int     cntRepeats = CNT_REPEATS_DEF;
+
+
+    //
+    // Constructor
+    //
+
+    /**
+     * <p>
+     * Constructs a new <code>TrialRunner</code> instance with the given extract functions.
+     * </p>
+     *
+     * @param fncRate       lambda function extracting data rate (MBps) from <code>Result</code> records
+     * @param fncElapsed    lambda function extracting evaluation duration from <code>Result</code> records
+     * @param fncSuccess    lambda function extracting evaluation success from <code>Result</code> records
+     */
+    public TrialRunner(DataRateLister.DataRate<Result> fncRate, Elapsed<Result> fncElapsed, Success<Result> fncSuccess) {
+        this.fncDataRate = fncRate;
+        this.fncElapsed = fncElapsed;
+        this.fncSuccess = fncSuccess;
+    }
+
+
+    //
+    // Configuration
+    //
+
+    /**
+     * <p>
+     * Sets the number of warmup evaluations performed (and discarded) before the measured trials.
+     * </p>
+     *
+     * @param cntWarmup number of warmup evaluations per test case (zero for none)
+     *
+     * @throws IllegalArgumentException the argument was negative
+     */
+    public void setWarmupCount(int cntWarmup) throws IllegalArgumentException {
+        if (cntWarmup < 0)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Warmup count cannot be negative: " + cntWarmup);
+
+        this.cntWarmup = cntWarmup;
+    }
+
+    /**
+     * <p>
+     * Sets the number of measured trials performed for each test case.
+     * </p>
+     *
+     * @param cntRepeats    number of measured trials per test case
+     *
+     * @throws IllegalArgumentException the argument was not positive
+     */
+    public void setRepeatCount(int cntRepeats) throws IllegalArgumentException {
+        if (cntRepeats < 1)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Repeat count must be positive: " + cntRepeats);
+
+        this.cntRepeats = cntRepeats;
+    }
+
+    /**
+     * <p>
+     * Parses the application command-line arguments for the warmup and trial counts and applies them.
+     * </p>
+     * <p>
+     * The variables {@value #STR_VAR_WARMUP} and {@value #STR_VAR_REPEATS} are optional; the current
+     * values are retained if they are missing.  Applications using this method must include
+     * <code>{@link #LST_STR_DELIMS}</code> within their list of valid argument delimiters.
+     * </p>
+     *
+     * @param args  the application command-line argument collection
+     *
+     * @throws NumberFormatException    a count value was not an integer
+     * @throws IllegalArgumentException a count value was out of range, or more than one value was given
+     */
+    public void parseAppArgs(String[] args) throws NumberFormatException, IllegalArgumentException {
+
+        List<String>    lstWarmup = JalApplicationBase.parseAppArgsVariable(args, STR_VAR_WARMUP);
+        List<String>    lstRepeats = JalApplicationBase.parseAppArgsVariable(args, STR_VAR_REPEATS);
+
+        if (lstWarmup.size() > 1 || lstRepeats.size() > 1)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple()
+                    + " - Only one value allowed for " + STR_VAR_WARMUP + " and " + STR_VAR_REPEATS);
+
+        if (!lstWarmup.isEmpty())
+            this.setWarmupCount(Integer.parseInt(lstWarmup.get(0)));    // throws NumberFormatException
+        if (!lstRepeats.isEmpty())
+            this.setRepeatCount(Integer.parseInt(lstRepeats.get(0)));   // throws NumberFormatException
+    }
+
+
+    //
+    // State Inquiry
+    //
+
+    /**
+     * @return  the number of warmup evaluations per test case
+     */
+    public int  getWarmupCount() {
+        return this.cntWarmup;
+    }
+
+    /**
+     * @return  the number of measured trials per test case
+     */
+    public int  getRepeatCount() {
+        return this.cntRepeats;
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Performs the warmup evaluations and measured trials of the given test case evaluation.
+     * </p>
+     * <p>
+     * The warmup results are discarded.  The data rates and durations of the successful measured trials
+     * are recorded and summarized in the returned <code>TrialSet</code>, along with all measured trial
+     * results.  The representative result is the successful trial with the median data rate, or the last trial
+     * if no trial succeeded.
+     * </p>
+     *
+     * @param fncTrial  the test case evaluation (invoked <code>{@link #getWarmupCount()}</code> +
+     *                  <code>{@link #getRepeatCount()}</code> times)
+     *
+     * @return  the measured trials and their summary statistics
+     */
+    public TrialSet<Result> run(Trial<Result> fncTrial) {
+
+        // Perform warmup evaluations
+        for (int i=0; i<this.cntWarmup; i++)
+            fncTrial.evaluate();
+
+        // Perform measured trials
+        List<Result>    lstTrials = new ArrayList<>(this.cntRepeats);
+        List<Result>    lstSuccesses = new ArrayList<>(this.cntRepeats);
+        SampleHistogram histRate = SampleHistogram.create(DBL_RES_RATE);
+        SampleHistogram histDur = SampleHistogram.create(DBL_RES_DUR);
+
+        for (int i=0; i<this.cntRepeats; i++) {
+            Result  recTrial = fncTrial.evaluate();
+
+            lstTrials.add(recTrial);
+            if (!this.fncSuccess.extract(recTrial))
+                continue;
+
+            lstSuccesses.add(recTrial);
+            histRate.record(this.fncDataRate.extract(recTrial));
+            histDur.record(this.fncElapsed.extract(recTrial).toNanos() / 1.0e6);
+        }
+
+        // Select the representative result
+        Result  recMedian;
+        if (lstSuccesses.isEmpty()) {
+            recMedian = lstTrials.get(lstTrials.size() - 1);
+
+        } else {
+            lstSuccesses.sort(Comparator.comparingDouble(rec -> this.fncDataRate.extract(rec)));
+            recMedian = lstSuccesses.get((lstSuccesses.size() - 1) / 2);
+        }
+
+        int     cntFailures = lstTrials.size() - lstSuccesses.size();
+
+        return TrialSet.from(recMedian, cntFailures, TrialStatistics.from(histRate), TrialStatistics.from(histDur), lstTrials);
+    }
+
+    /**
+     * <p>
+     * Prints out a text description of the trial configuration to the given output stream.
+     * </p>
+     *
+     * @param ps        output stream to receive text description
+     * @param strPad    white-space padding for each line header (or <code>null</code>)
+     */
+    public void printOutConfig(PrintStream ps, String strPad) {
+        if (strPad == null)
+            strPad = "";
+
+        ps.println(strPad + "Warmup evaluations per case : " + this.cntWarmup);
+        ps.println(strPad + "Measured trials per case    : " + this.cntRepeats);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Project: dp-api-common
+ * File:	TrialSet.java
+ * Package: com.ospreydcs.dp.jal.tools.common
+ * Type: 	TrialSet
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.common;
+
+import java.io.PrintStream;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * Record containing the measured trials of a single test case and their summary statistics.
+ * </p>
+ * <p>
+ * Instances are created by <code>{@link TrialRunner#run(TrialRunner.Trial)}</code>.  The representative
+ * result <code>{@link #recMedian}</code> is the successful trial with the median data rate.  It should
+ * be used in place of a single-run result for rankings and scoring, since it is insensitive to the
+ * outlying trials caused by garbage collection pauses and network jitter.
+ * </p>
+ *
+ * @param <Result>  test result record type of the trials
+ *
+ * @param recMedian     the successful trial with median data rate (or the last trial if none succeeded)
+ * @param cntFailures   the number of failed trials (excluded from the statistics)
+ * @param recRateStats  the data rate statistics of the successful trials (MBps)
+ * @param recDurStats   the duration statistics of the successful trials (ms)
+ * @param lstTrials     all measured trial results in order of execution (warmup excluded)
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public record TrialSet<Result extends Record>(
+        Result              recMedian,
+        int                 cntFailures,
+        TrialStatistics     recRateStats,
+        TrialStatistics     recDurStats,
+        List<Result>        lstTrials
+        )
+{
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new <code>TrialSet</code> record populated with the given arguments.
+     * </p>
+     *
+     * @param <Result>  test result record type of the trials
+     *
+     * @param recMedian     the successful trial with median data rate (or the last trial if none succeeded)
+     * @param cntFailures   the number of failed trials (excluded from the statistics)
+     * @param recRateStats  the data rate statistics of the successful trials (MBps)
+     * @param recDurStats   the duration statistics of the successful trials (ms)
+     * @param lstTrials     all measured trial results in order of execution (warmup excluded)
+     *
+     * @return  a new <code>TrialSet</code> record populated with the given argument values
+     */
+    public static <Result extends Record> TrialSet<Result>  from(
+            Result              recMedian,
+            int                 cntFailures,
+            TrialStatistics     recRateStats,
+            TrialStatistics     recDurStats,
+            List<Result>        lstTrials
+            )
+    {
+        return new TrialSet<>(recMedian, cntFailures, recRateStats, recDurStats, lstTrials);
+    }
+
+
+    //
+    // Class Constants
+    //
+
+    /** The format string used for creating output lines within the trial statistics listing */
+    public static final String  STR_LINE_FMTR = "  Case #%d: %7.3f MBps p50 (sd %5.1f%%, min %7.3f) - %9.3f ms p50, %9.3f ms p99, %9.3f ms p999 - %d trials, %d failures";
+
+
+    //
+    // Tools
+    //
+
+    /**
+     * <p>
+     * Prints out a text listing of the trial statistics for a collection of trial sets.
+     * </p>
+     * <p>
+     * Each line contains the median data rate, its relative standard deviation and minimum, and the
+     * duration percentiles for a single test case.  The line format is given by <code>{@link #STR_LINE_FMTR}</code>.
+     * </p>
+     *
+     * @param <Result>  test result record type of the trials
+     *
+     * @param ps        output stream to receive the listing
+     * @param strPad    white-space padding for each line header (or <code>null</code>)
+     * @param setTrials collection of trial sets to be listed
+     * @param fncIndex  lambda function extracting test case index from <code>Result</code> records
+     */
+    public static <Result extends Record> void printOutListing(PrintStream ps, String strPad, Collection<TrialSet<Result>> setTrials, DataRateLister.Index<Result> fncIndex) {
+        if (strPad == null)
+            strPad = "";
+
+        for (TrialSet<Result> recTrials : setTrials) {
+            TrialStatistics recRate = recTrials.recRateStats;
+            TrialStatistics recDur = recTrials.recDurStats;
+
+            String  strLine = String.format(STR_LINE_FMTR,
+                    fncIndex.extract(recTrials.recMedian),
+                    recRate.dblP50(), 100.0 * recRate.relativeStdDev(), recRate.dblMin(),
+                    recDur.dblP50(), recDur.dblP99(), recDur.dblP999(),
+                    recTrials.lstTrials.size(), recTrials.cntFailures);
+
+            ps.println(strPad + strLine);
+        }
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Prints out a text description of the trial statistics to the given output stream.
+     * </p>
+     * <p>
+     * The individual trial results are not printed, only the representative result identity and the
+     * summary statistics.  The <code>strPad</code> is used to supply an optional whitespace character padding
+     * to the left-hand side header for each line description.
+     * </p>
+     *
+     * @param ps        output stream to receive text description of record fields
+     * @param strPad    white-space padding for each line header (or <code>null</code>)
+     */
+    public void printOut(PrintStream ps, String strPad) {
+        if (strPad == null)
+            strPad = "";
+
+        ps.println(strPad + "Measured trials         : " + this.lstTrials.size());
+        ps.println(strPad + "Failed trials           : " + this.cntFailures);
+        ps.println(strPad + "Data Rate Statistics");
+        this.recRateStats.printOut(ps, strPad + "  ", "MBps");
+        ps.println(strPad + "Duration Statistics");
+        this.recDurStats.printOut(ps, strPad + "  ", "ms");
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Project: dp-api-common
+ * File:	TrialStatistics.java
+ * Package: com.ospreydcs.dp.jal.tools.common
+ * Type: 	TrialStatistics
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.common;
+
+import java.io.PrintStream;
+
+/**
+ * <p>
+ * Record containing the summary statistics of a sample distribution recorded in a <code>SampleHistogram</code>.
+ * </p>
+ * <p>
+ * The percentile fields are histogram estimates within the precision of <code>{@link SampleHistogram}</code>.
+ * Note that for small sample counts the upper percentiles coincide with the maximum.
+ * </p>
+ *
+ * @param cntSamples    the number of samples
+ * @param dblMean       the sample mean
+ * @param dblStdDev     the sample (population) standard deviation
+ * @param dblMin        the minimum sample value
+ * @param dblP50        the 50th percentile (median) of the samples
+ * @param dblP99        the 99th percentile of the samples
+ * @param dblP999       the 99.9th percentile of the samples
+ * @param dblMax        the maximum sample value
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public record TrialStatistics(
+        long        cntSamples,
+        double      dblMean,
+        double      dblStdDev,
+        double      dblMin,
+        double      dblP50,
+        double      dblP99,
+        double      dblP999,
+        double      dblMax
+        )
+{
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new <code>TrialStatistics</code> record from the samples within the given histogram.
+     * </p>
+     *
+     * @param hist  histogram containing the sample distribution
+     *
+     * @return  a new record containing the summary statistics of the histogram samples
+     */
+    public static TrialStatistics   from(SampleHistogram hist) {
+        return new TrialStatistics(
+                hist.getCount(),
+                hist.getMean(),
+                hist.getStdDev(),
+                hist.getMin(),
+                hist.getPercentile(50.0),
+                hist.getPercentile(99.0),
+                hist.getPercentile(99.9),
+                hist.getMax()
+                );
+    }
+
+
+    //
+    // Class Constants
+    //
+
+    /** The empty statistics record (no samples) */
+    public static final TrialStatistics EMPTY = new TrialStatistics(0L, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Returns the relative standard deviation (coefficient of variation) of the samples.
+     * </p>
+     *
+     * @return  the ratio of standard deviation to mean, or 0 if the mean is zero
+     */
+    public double   relativeStdDev() {
+        return (this.dblMean == 0.0) ? 0.0 : this.dblStdDev / this.dblMean;
+    }
+
+    /**
+     * <p>
+     * Prints out a text description of the record fields to the given output stream.
+     * </p>
+     * <p>
+     * A line-by-line text description of each record field is written to the given output.
+     * The <code>strPad</code> is used to supply an optional whitespace character padding to the
+     * left-hand side header for each line description.
+     * </p>
+     *
+     * @param ps        output stream to receive text description of record fields
+     * @param strPad    white-space padding for each line header (or <code>null</code>)
+     * @param strUnits  the units of the sample values
+     */
+    public void printOut(PrintStream ps, String strPad, String strUnits) {
+        if (strPad == null)
+            strPad = "";
+
+        ps.println(strPad + "Samples                 : " + this.cntSamples);
+        ps.println(strPad + "Mean                    : " + this.dblMean + " " + strUnits);
+        ps.println(strPad + "Standard deviation      : " + this.dblStdDev + " " + strUnits + String.format(" (%.2f%%)", 100.0 * this.relativeStdDev()));
+        ps.println(strPad + "Minimum                 : " + this.dblMin + " " + strUnits);
+        ps.println(strPad + "Percentile p50          : " + this.dblP50 + " " + strUnits);
+        ps.println(strPad + "Percentile p99          : " + this.dblP99 + " " + strUnits);
+        ps.println(strPad + "Percentile p999         : " + this.dblP999 + " " + strUnits);
+        ps.println(strPad + "Maximum                 : " + this.dblMax + " " + strUnits);
+    }
+}
@@ -35,7 +35,9 @@ import com.ospreydcs.dp.api.config.model.CfgLoaderYaml;
 import com.ospreydcs.dp.api.config.model.CfgOverrideUtility;
 import com.ospreydcs.dp.api.config.model.CfgStructure;
 import com.ospreydcs.dp.jal.tools.config.archive.JalTestArchiveConfig;
+import com.ospreydcs.dp.jal.tools.config.eval.JalToolsEvaluationConfig;
 import com.ospreydcs.dp.jal.tools.config.output.JalToolsOutputConfig;
+import com.ospreydcs.dp.jal.tools.config.server.JalStandInServerConfig;
 
 /**
  * <p>
@@ -137,9 +139,17 @@ public class JalToolsConfig extends CfgStructure<JalToolsConfig> {
     @ACfgOverride.Struct(pathelem="TEST_ARCHIVE")
     public JalTestArchiveConfig     testArchive;
     
+    /** Configuration parameters for the in-process Data Platform stand-in server */
+    @ACfgOverride.Struct(pathelem="STAND_IN")
+    public JalStandInServerConfig   standIn;
+    
     /** Default output locations of Java API Library tools */
     @ACfgOverride.Struct(pathelem="OUTPUT")
     public JalToolsOutputConfig     output;
     
+    /** Evaluation trial parameters and result exports of Java API Library tools evaluators */
+    @ACfgOverride.Struct(pathelem="EVALUATION")
+    public JalToolsEvaluationConfig evaluation;
+    
 
 }
@@ -0,0 +1,97 @@
+/*
+ * Project: dp-api-common
+ * File:	JalToolsEvaluationConfig.java
+ * Package: com.ospreydcs.dp.jal.tools.config.eval
+ * Type: 	JalToolsEvaluationConfig
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.config.eval;
+
+import com.ospreydcs.dp.api.config.model.ACfgOverride;
+import com.ospreydcs.dp.api.config.model.CfgStructure;
+
+/**
+ * <p>
+ * Structure class containing the evaluation trial parameters for the Java API Library tools evaluators.
+ * </p>
+ * <p>
+ * Each test case of an evaluator is first run for a number of warmup iterations, whose results are discarded,
+ * then repeated for a number of measured trials.  The measured trials are summarized with percentile
+ * statistics.  The evaluation results can also be exported to machine-readable files alongside the
+ * text report.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+@ACfgOverride.Root(root="JAL_TOOLS_EVALUATION")
+public class JalToolsEvaluationConfig extends CfgStructure<JalToolsEvaluationConfig> {
+
+    /** Default constructor required for base class */
+    public JalToolsEvaluationConfig() { super(JalToolsEvaluationConfig.class); }
+
+
+    //
+    // Structure Fields
+    //
+
+    /** Number of warmup iterations for each test case (results discarded) */
+    @ACfgOverride.Field(name="WARMUP")
+    public Integer          warmup;
+
+    /** Number of measured trials for each test case */
+    @ACfgOverride.Field(name="REPEATS")
+    public Integer          repeats;
+
+    /** Machine-readable result export formats */
+    @ACfgOverride.Struct(pathelem="EXPORT")
+    public Export           export;
+
+
+    //
+    // Internal Structure Classes
+    //
+
+    /**
+     * Structure class containing the enable flags for each result export format
+     */
+    public static class Export extends CfgStructure<Export> {
+
+        /** Required default constructor for base class */
+        public Export() { super(Export.class); };
+
+
+        //
+        // Structure Fields
+        //
+
+        /** Export evaluation results to a CSV file */
+        @ACfgOverride.Field(name="CSV")
+        public Boolean      csv;
+
+        /** Export evaluation results to a JSON file */
+        @ACfgOverride.Field(name="JSON")
+        public Boolean      json;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Project: dp-api-common
+ * File:	JalStandInServerConfig.java
+ * Package: com.ospreydcs.dp.jal.tools.config.server
+ * Type: 	JalStandInServerConfig
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.config.server;
+
+import java.util.concurrent.TimeUnit;
+
+import com.ospreydcs.dp.api.config.model.ACfgOverride;
+import com.ospreydcs.dp.api.config.model.CfgStructure;
+
+/**
+ * <p>
+ * Structure class containing the configuration parameters for the in-process Data Platform stand-in server.
+ * </p>
+ * <p>
+ * The stand-in server synthesizes the Data Platform test archive on the fly and serves it to the Java API
+ * Library through the Query, Ingestion, and Annotation Service gRPC interfaces.  The parameters here
+ * determine the server transport, the data bucket and paging layout of query responses, and the
+ * network conditions (latency and bandwidth) imposed upon all response messages.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+@ACfgOverride.Root(root="JAL_STAND_IN")
+public class JalStandInServerConfig extends CfgStructure<JalStandInServerConfig> {
+
+    /** Default constructor required for base class */
+    public JalStandInServerConfig() { super(JalStandInServerConfig.class); }
+
+
+    //
+    // Structure Fields
+    //
+
+    /** The in-process server name (in-process transport only) */
+    @ACfgOverride.Field(name="NAME")
+    public String           name;
+
+    /** The localhost port of the server - a value of 0 selects the in-process transport */
+    @ACfgOverride.Field(name="PORT")
+    public Integer          port;
+
+    /** Maximum number of data buckets within each streamed query response message (i.e., the page size) */
+    @ACfgOverride.Field(name="PAGE_SIZE")
+    public Integer          pageSize;
+
+    /** Time duration of each synthesized data bucket */
+    @ACfgOverride.Struct(pathelem="BUCKET")
+    public Period           bucket;
+
+    /** Latency injected before each response message */
+    @ACfgOverride.Struct(pathelem="LATENCY")
+    public Period           latency;
+
+    /** Bandwidth cap for all response messages (bytes/second) - a value of 0 disables the cap */
+    @ACfgOverride.Field(name="BANDWIDTH")
+    public Long             bandwidth;
+
+
+    //
+    // Internal Structure Classes
+    //
+
+    /**
+     * Structure class containing a time period and its units
+     */
+    public static class Period extends CfgStructure<Period> {
+
+        /** Required default constructor for base class */
+        public Period() { super(Period.class); };
+
+
+        //
+        // Structure Fields
+        //
+
+        /** Time period */
+        @ACfgOverride.Field(name="PERIOD")
+        public Long         period;
+
+        /** Time period units */
+        @ACfgOverride.Field(name="UNITS")
+        public TimeUnit     units;
+    }
+}
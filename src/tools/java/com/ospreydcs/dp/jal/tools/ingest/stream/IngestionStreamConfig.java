@@ -0,0 +1,171 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionStreamConfig.java
+ * Package: com.ospreydcs.dp.jal.tools.ingest.stream
+ * Type: 	IngestionStreamConfig
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.ingest.stream;
+
+import java.io.PrintStream;
+
+import com.ospreydcs.dp.api.common.DpGrpcStreamType;
+
+/**
+ * <p>
+ * Record containing the configuration parameters within a <code>IngestionStreamTestCase</code>
+ * test case record.
+ * </p>
+ * <p>
+ * Extracts the test case conditions for the <code>DpIngestionStreamImpl</code> object used in
+ * <code>{@link IngestionStreamTestCase#evaluate(com.ospreydcs.dp.api.ingest.impl.DpIngestionStreamImpl, java.util.List, com.ospreydcs.dp.api.common.ProviderRegistrar)}</code>
+ * test evaluations.  Note that the workload (i.e., the sample block and frame count) is not part of
+ * the configuration; configurations are scored across all workloads.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ * @param enmStreamType     the gRPC data stream type used for ingestion
+ * @param cntStreams        maximum number of concurrent gRPC data streams (0 for a single stream)
+ * @param cntThreads        number of frame processing threads (0 for no processing concurrency)
+ * @param szDecompMax       maximum ingestion frame allocation before decomposition (0 for no decomposition)
+ * @param szStagingCap      capacity of the message staging buffer (bytes)
+ * @param bolBackPressure   enable/disable back pressure from the message staging buffer
+ */
+public record IngestionStreamConfig(
+        DpGrpcStreamType    enmStreamType,
+        int                 cntStreams,
+        int                 cntThreads,
+        long                szDecompMax,
+        long                szStagingCap,
+        boolean             bolBackPressure
+        )
+{
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates and returns a new <code>IngestionStreamConfig</code> record populated with the test configuration within
+     * argument result record.
+     * </p>
+     * <p>
+     * The method extracts field <code>{@link IngestionStreamTestResult#recTestCase()}</code> then defers to method
+     * <code>{@link #from(IngestionStreamTestCase)}</code>.
+     * </p>
+     *
+     * @param recResult the test result record containing the test conditions
+     *
+     * @return  a new <code>IngestionStreamConfig</code> record populated from the test conditions within the argument
+     */
+    public static IngestionStreamConfig from(IngestionStreamTestResult recResult) {
+        IngestionStreamTestCase     recTestCase = recResult.recTestCase();
+
+        return IngestionStreamConfig.from(recTestCase);
+    }
+
+    /**
+     * <p>
+     * Creates and returns a new <code>IngestionStreamConfig</code> record populated with the configuration field values of
+     * the argument record.
+     * </p>
+     *
+     * @param recTestCase   test case record containing configuration field values
+     *
+     * @return  a new <code>IngestionStreamConfig</code> record populated from the fields of the given argument
+     */
+    public static IngestionStreamConfig from(IngestionStreamTestCase recTestCase) {
+        return new IngestionStreamConfig(
+                recTestCase.enmStreamType(),
+                recTestCase.cntStreams(),
+                recTestCase.cntThreads(),
+                recTestCase.szDecompMax(),
+                recTestCase.szStagingCap(),
+                recTestCase.bolBackPressure()
+                );
+    }
+
+
+    //
+    // Record Overrides
+    //
+
+    /**
+     * <p>
+     * Overrides the default <code>Record</code> implementation to create an equivalence.
+     * </p>
+     * <p>
+     * The method now checks the current record field values against that of the argument for
+     * equality.  That is, the records are not compared as instances, but as records containing
+     * equivalent field values.
+     * </p>
+     *
+     * @see java.lang.Record#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+
+        if (obj instanceof IngestionStreamConfig cfg) {
+            boolean bolResult = (this.enmStreamType == cfg.enmStreamType)
+                    && (this.cntStreams == cfg.cntStreams)
+                    && (this.cntThreads == cfg.cntThreads)
+                    && (this.szDecompMax == cfg.szDecompMax)
+                    && (this.szStagingCap == cfg.szStagingCap)
+                    && (this.bolBackPressure == cfg.bolBackPressure);
+
+            return bolResult;
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Prints out a text description of the record fields to the given output stream.
+     * </p>
+     * <p>
+     * A line-by-line text description of each record field is written to the given output.
+     * The <code>strPad</code> is used to supply an optional whitespace character padding to the
+     * left-hand side header for each line description.
+     * </p>
+     *
+     * @param ps        output stream to receive text description of record fields
+     * @param strPad    white-space padding for each line header (or <code>null</code>)
+     */
+    public void printOut(PrintStream ps, String strPad) {
+        if (strPad == null)
+            strPad = "";
+
+        ps.println(strPad + "gRPC stream type                  : " + this.enmStreamType);
+        ps.println(strPad + "Maximum gRPC streams (0=single)   : " + this.cntStreams);
+        ps.println(strPad + "Processing threads (0=disabled)   : " + this.cntThreads);
+        ps.println(strPad + "Decomposition size (0=disabled)   : " + this.szDecompMax);
+        ps.println(strPad + "Staging buffer capacity (bytes)   : " + this.szStagingCap);
+        ps.println(strPad + "Staging back pressure enabled     : " + this.bolBackPressure);
+    }
+
+}
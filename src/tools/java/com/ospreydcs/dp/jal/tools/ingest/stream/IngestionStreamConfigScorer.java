@@ -0,0 +1,494 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionStreamConfigScorer.java
+ * Package: com.ospreydcs.dp.jal.tools.ingest.stream
+ * Type: 	IngestionStreamConfigScorer
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.ingest.stream;
+
+import java.io.PrintStream;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.SortedSet;
+
+import com.ospreydcs.dp.api.common.DpGrpcStreamType;
+import com.ospreydcs.dp.api.query.DpDataRequest;
+import com.ospreydcs.dp.jal.tools.common.ConfigScoreBase;
+import com.ospreydcs.dp.jal.tools.common.ConfigScorerBase;
+
+/**
+ * <p>
+ * Configuration scorer class for <code>IngestionStreamTestResult</code> records.
+ * </p>
+ * <p>
+ * Scores are based upon <code>IngestionStreamTestCase</code> test conditions specifically identified
+ * in the <code>IngestionStreamConfig</code> record.
+ * The <code>IngestionStreamConfig</code> record contains the configuration parameters for a
+ * <code>DpIngestionStreamImpl</code> instance used to ingest the test case workload.
+ * </p>
+ * <p>
+ * In addition to the data rate scoring of the base class, configurations are scored by their
+ * 99th percentile acknowledgment latency and by their client CPU time per MByte.  The scores can be
+ * recovered in each of the three orderings.  Only bidirectional stream configurations receive
+ * acknowledgments, thus the latency ordering contains only those configurations.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class IngestionStreamConfigScorer extends
+            ConfigScorerBase<IngestionStreamConfig,
+                             IngestionStreamTestResult,
+                             com.ospreydcs.dp.jal.tools.ingest.stream.IngestionStreamConfigScorer.Score> {
+
+
+    //
+    // IngestionStreamConfigScorer Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new, empty <code>IngestionStreamConfigScorer</code> instance ready for test configuration scoring.
+     * </p>
+     * <p>
+     * Use the <code>score(...)</code> methods to add <code>IngestionStreamTestResult</code> records generated from
+     * <code>{@link IngestionStreamTestCase#evaluate(com.ospreydcs.dp.api.ingest.impl.DpIngestionStreamImpl, java.util.List, com.ospreydcs.dp.api.common.ProviderRegistrar)}</code>
+     * test evaluations.
+     * </p>
+     *
+     * @return  a new <code>IngestionStreamConfigScorer</code> instance ready for use
+     */
+    public static IngestionStreamConfigScorer  create() {
+        return new IngestionStreamConfigScorer();
+    }
+
+    /**
+     * <p>
+     * Creates a new, populated <code>IngestionStreamConfigScorer</code> instance.
+     * </p>
+     * <p>
+     * This is a convenience creator which is a combination of the following operations:
+     * <ol>
+     * <li><code>{@link #create()}</code>
+     * <li><code>{@link #score(Collection)}</code>
+     * </ol>
+     * Thus, the returned object contains all the scoring information for the given argument collection.
+     * </p>
+     *
+     * @param setResults    the collection of test results to be scored
+     *
+     * @return  a new <code>IngestionStreamConfigScorer</code> instance which scores the given argument collection
+     */
+    public static IngestionStreamConfigScorer   from(Collection<IngestionStreamTestResult> setResults) {
+        IngestionStreamConfigScorer    scorer = IngestionStreamConfigScorer.create();
+
+        scorer.score(setResults);
+
+        return scorer;
+    }
+
+
+    //
+    // Internal Types
+    //
+
+    /**
+     * <p>
+     * Class maintaining the scoring for a <code>IngestionStreamConfig</code> configuration record.
+     * </p>
+     * <p>
+     * Class instances extract the the scoring from <code>IngestionStreamTestResult</code> records
+     * to maintain a score for the test conditions for the result.
+     * </p>
+     *
+     * @author Christopher K. Allen
+     * @since Oct 18, 2026
+     *
+     */
+    public static class Score extends ConfigScoreBase<IngestionStreamConfig, IngestionStreamTestResult> {
+
+
+        //
+        // Creator
+        //
+
+        /**
+         * <p>
+         * Creates and returns a new <code>Score</code> instance for the given configuration.
+         * </p>
+         *
+         * @param recCfg    configuration associated with the returned <code>Score</code> instance
+         *
+         * @return  a new <code>Score</code> instance for the given configuration
+         */
+        public static Score from(IngestionStreamConfig recCfg) {
+            return new Score(recCfg);
+        }
+
+
+        //
+        // Class Tools
+        //
+
+        /**
+         * <p>
+         * Comparator providing ordering of <code>Score</code> objects by average 99th percentile latency.
+         * </p>
+         * <p>
+         * The lowest latency occurs first.  Scores of forward (unidirectional) stream configurations have no
+         * acknowledgment latency (i.e., zero) and are ranked separately, after all bidirectional scores.
+         * </p>
+         *
+         * @return  comparator ordering scores by ascending 99th percentile latency
+         *
+         * @see #hasLatency()
+         */
+        public static Comparator<Score>   createLatencyOrdering() {
+            Comparator<Score>   cmp = (o1, o2) -> {
+                if (o1.hasLatency() != o2.hasLatency())
+                    return o1.hasLatency() ? -1 : +1;
+                if (o1.dblLatP99Avg < o2.dblLatP99Avg)
+                    return -1;
+                // Must avoid collisions - clobbers an existing score
+                else
+                    return +1;
+            };
+
+            return cmp;
+        }
+
+        /**
+         * <p>
+         * Comparator providing ordering of <code>Score</code> objects by average CPU time per MByte.
+         * </p>
+         * <p>
+         * The lowest CPU cost occurs first.  Scores without CPU time (i.e., unsupported by the platform)
+         * appear last.
+         * </p>
+         *
+         * @return  comparator ordering scores by ascending CPU time per MByte
+         */
+        public static Comparator<Score>   createCpuOrdering() {
+            Comparator<Score>   cmp = (o1, o2) -> {
+                if (Double.compare(o1.getCpuPerMbAvg(), o2.getCpuPerMbAvg()) < 0)
+                    return -1;
+                // Must avoid collisions - clobbers an existing score
+                else
+                    return +1;
+            };
+
+            return cmp;
+        }
+
+
+        //
+        // ConfigueScoreBase Abstract Methods
+        //
+
+        /**
+         * @see com.ospreydcs.dp.jal.tools.common.ConfigScoreBase#extractConfiguration(java.lang.Record)
+         */
+        @Override
+        protected IngestionStreamConfig extractConfiguration(IngestionStreamTestResult recResult) {
+            return IngestionStreamConfig.from(recResult);
+        }
+
+        /**
+         * @see com.ospreydcs.dp.jal.tools.common.ConfigScoreBase#isSuccess(java.lang.Record)
+         */
+        @Override
+        protected boolean isSuccess(IngestionStreamTestResult recResult) {
+            return recResult.recTestStatus().isSuccess();
+        }
+
+        /**
+         * <p>
+         * Ingestion test cases have no time-series data request.
+         * </p>
+         *
+         * @return  <code>null</code>
+         *
+         * @see com.ospreydcs.dp.jal.tools.common.ConfigScoreBase#extractDataRequest(java.lang.Record)
+         */
+        @Override
+        protected DpDataRequest extractDataRequest(IngestionStreamTestResult recResult) {
+            return null;
+        }
+
+        /**
+         * @see com.ospreydcs.dp.jal.tools.common.ConfigScoreBase#extractDataRate(java.lang.Record)
+         */
+        @Override
+        protected double extractDataRate(IngestionStreamTestResult recResult) {
+            return recResult.dblDataRate();
+        }
+
+        /**
+         * @see com.ospreydcs.dp.jal.tools.common.ConfigScoreBase#printOutConfiguration(java.io.PrintStream, java.lang.String, java.lang.Record)
+         */
+        @Override
+        protected void printOutConfiguration(PrintStream ps, String strPad, IngestionStreamConfig recConfig) {
+            recConfig.printOut(ps, strPad);
+        }
+
+
+        //
+        // Defining Attributes
+        //
+
+        /** The gRPC stream type of the configuration - determines whether latency is measured */
+        private final DpGrpcStreamType  enmStreamType;
+
+
+        //
+        // State Variables
+        //
+
+        /** The 99th percentile acknowledgment latency average (ms) */
+        private double  dblLatP99Avg = 0.0;
+
+        /** The maximum acknowledgment latency seen (ms) */
+        private double  dblLatMax = 0.0;
+
+        /** The CPU time per MByte average (ms/MB) */
+        private double  dblCpuPerMbAvg = 0.0;
+
+        /** The number of results with available CPU time */
+        private int     cntCpuHits = 0;
+
+
+        //
+        // Constructor
+        //
+
+        /**
+         * <p>
+         * Constructs a new <code>Score</code> instance for the given configuration.
+         * </p>
+         *
+         * @param recCfg    configuration associated with this score
+         */
+        protected Score(IngestionStreamConfig recCfg) {
+            super(recCfg);
+
+            this.enmStreamType = recCfg.enmStreamType();
+        }
+
+
+        //
+        // State Inquiry
+        //
+
+        /**
+         * <p>
+         * Returns whether or not the configuration has an acknowledgment latency.
+         * </p>
+         * <p>
+         * Only bidirectional streams receive an acknowledgment for each request.  The latency of forward
+         * (unidirectional) stream configurations is zero and not comparable.
+         * </p>
+         *
+         * @return  <code>true</code> if the configuration uses bidirectional streams, <code>false</code> otherwise
+         */
+        public final boolean hasLatency() {
+            return this.enmStreamType == DpGrpcStreamType.BIDIRECTIONAL;
+        }
+
+        /**
+         * @return the 99th percentile acknowledgment latency average (ms)
+         */
+        public final double getLatencyP99Avg() {
+            return this.dblLatP99Avg;
+        }
+
+        /**
+         * @return the maximum acknowledgment latency seen for the configuration (ms)
+         */
+        public final double getLatencyMax() {
+            return this.dblLatMax;
+        }
+
+        /**
+         * @return the client CPU time per MByte average (ms/MB), or NaN if unavailable
+         */
+        public final double getCpuPerMbAvg() {
+            if (this.cntCpuHits == 0)
+                return Double.NaN;
+
+            return this.dblCpuPerMbAvg;
+        }
+
+
+        //
+        // ConfigScore Overrides
+        //
+
+        /**
+         * @see com.ospreydcs.dp.jal.tools.common.ConfigScoreBase#addInResult(java.lang.Record)
+         */
+        @Override
+        public double addInResult(IngestionStreamTestResult recResult) throws IllegalArgumentException {
+
+            // Process the super class state variables
+            int     cntHitsPrev = super.getHitCount();
+            double  dblDataRate = super.addInResult(recResult);    // throws IllegalArgumentException
+
+            // Failures are not scored
+            int     N = super.getHitCount();
+            if (N == cntHitsPrev)
+                return dblDataRate;
+
+            // Add in the latency to the running average (de-normalize, add, re-normalize)
+            double  dblLatP99 = recResult.durLatP99().toNanos()/1.0e6;
+            double  dblLatMax = recResult.durLatMax().toNanos()/1.0e6;
+
+            this.dblLatP99Avg *= (N - 1);
+            this.dblLatP99Avg += dblLatP99;
+            this.dblLatP99Avg /= N;
+
+            if (dblLatMax > this.dblLatMax)
+                this.dblLatMax = dblLatMax;
+
+            // Add in the CPU time to its running average if available
+            if (!Double.isNaN(recResult.dblCpuPerMb())) {
+                this.dblCpuPerMbAvg *= this.cntCpuHits;
+                this.dblCpuPerMbAvg += recResult.dblCpuPerMb();
+                this.cntCpuHits++;
+                this.dblCpuPerMbAvg /= this.cntCpuHits;
+            }
+
+            return dblDataRate;
+        }
+
+        /**
+         * @see com.ospreydcs.dp.jal.tools.common.ConfigScoreBase#printOut(java.io.PrintStream, java.lang.String)
+         */
+        @Override
+        public void printOut(PrintStream ps, String strPad) {
+            strPad = (strPad == null) ? "" : strPad;
+            String strPadd = strPad + "  ";
+
+            super.printOut(ps, strPad);
+            ps.println(strPad + "Test Results Properties");
+            ps.println(strPadd + "Acknowledgment latency p99 avg. (ms) : " + this.getLatencyP99Avg());
+            ps.println(strPadd + "Acknowledgment latency maximum (ms)  : " + this.getLatencyMax());
+            ps.println(strPadd + "Client CPU time per MB avg. (ms/MB)  : " + this.getCpuPerMbAvg());
+        }
+
+    }
+
+
+    //
+    // ConfigScorerBase Abstract Methods
+    //
+
+    /**
+     * @see com.ospreydcs.dp.jal.tools.common.ConfigScorerBase#extractConfiguration(java.lang.Record)
+     */
+    @Override
+    protected IngestionStreamConfig extractConfiguration(IngestionStreamTestResult recResult) {
+        return IngestionStreamConfig.from(recResult);
+    }
+
+    /**
+     * @see com.ospreydcs.dp.jal.tools.common.ConfigScorerBase#newScore(java.lang.Record)
+     */
+    @Override
+    protected Score newScore(IngestionStreamConfig recConfig) {
+        return Score.from(recConfig);
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Returns the set of bidirectional stream <code>Score</code> records ordered by 99th percentile latency,
+     * small to large.
+     * </p>
+     * <p>
+     * Forward (unidirectional) stream configurations have no acknowledgment latency and are excluded.
+     * </p>
+     *
+     * @return  the <code>IngestionStreamTestResult</code> score records so far having an acknowledgment latency
+     *
+     * @see Score#hasLatency()
+     */
+    public SortedSet<Score> recoverScoresByLatency() {
+        SortedSet<Score>    setScores = super.recoverScores(Score.createLatencyOrdering());
+
+        setScores.removeIf(score -> !score.hasLatency());
+
+        return setScores;
+    }
+
+    /**
+     * <p>
+     * Returns the set of all <code>Score</code> records ordered by CPU time per MByte, small to large.
+     * </p>
+     *
+     * @return  all the <code>IngestionStreamTestResult</code> score records so far
+     */
+    public SortedSet<Score> recoverScoresByCpu() {
+        return super.recoverScores(Score.createCpuOrdering());
+    }
+
+    /**
+     * <p>
+     * Prints out the given configuration results scoring ordered by ascending 99th percentile latency.
+     * Only bidirectional stream configurations are included.
+     * </p>
+     * <p>
+     * A line-by-line text description of each record field is written to the given output.
+     * The <code>strPad</code> is used to supply an optional whitespace character padding to the
+     * left-hand side header for each line description.
+     * </p>
+     *
+     * @param ps        output stream to receive text description of record fields
+     * @param strPad    white-space padding for each line header (or <code>null</code>)
+     */
+    public void printOutByLatency(PrintStream ps, String strPad) {
+        super.printOut(ps, this.recoverScoresByLatency(), strPad, "(Lowest p99 Latency First - Bidirectional Streams Only)");
+    }
+
+    /**
+     * <p>
+     * Prints out the given configuration results scoring ordered by ascending CPU time per MByte.
+     * </p>
+     * <p>
+     * A line-by-line text description of each record field is written to the given output.
+     * The <code>strPad</code> is used to supply an optional whitespace character padding to the
+     * left-hand side header for each line description.
+     * </p>
+     *
+     * @param ps        output stream to receive text description of record fields
+     * @param strPad    white-space padding for each line header (or <code>null</code>)
+     */
+    public void printOutByCpu(PrintStream ps, String strPad) {
+        super.printOut(ps, this.recoverScoresByCpu(), strPad, "(Lowest CPU per MB First)");
+    }
+}
@@ -0,0 +1,884 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionStreamEvaluator.java
+ * Package: com.ospreydcs.dp.jal.tools.ingest.stream
+ * Type: 	IngestionStreamEvaluator
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.ingest.stream;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.appender.OutputStreamAppender;
+
+import com.ospreydcs.dp.api.app.ExitCode;
+import com.ospreydcs.dp.api.app.JalApplicationBase;
+import com.ospreydcs.dp.api.common.DpGrpcStreamType;
+import com.ospreydcs.dp.api.common.DpTimestampCase;
+import com.ospreydcs.dp.api.common.ProviderRegistrar;
+import com.ospreydcs.dp.api.common.ResultStatus;
+import com.ospreydcs.dp.api.config.DpApiConfig;
+import com.ospreydcs.dp.api.config.ingest.DpIngestionConfig;
+import com.ospreydcs.dp.api.grpc.ingest.DpIngestionConnection;
+import com.ospreydcs.dp.api.grpc.ingest.DpIngestionConnectionFactory;
+import com.ospreydcs.dp.api.grpc.model.DpGrpcException;
+import com.ospreydcs.dp.api.ingest.IngestionFrame;
+import com.ospreydcs.dp.api.ingest.impl.DpIngestionStreamImpl;
+import com.ospreydcs.dp.api.util.JavaRuntime;
+import com.ospreydcs.dp.api.util.Log4j;
+import com.ospreydcs.dp.jal.tools.common.DataRateLister;
+import com.ospreydcs.dp.jal.tools.common.ResultExporter;
+import com.ospreydcs.dp.jal.tools.common.TrialRunner;
+import com.ospreydcs.dp.jal.tools.common.TrialSet;
+import com.ospreydcs.dp.jal.tools.config.JalToolsConfig;
+import com.ospreydcs.dp.jal.tools.ingest.model.values.JalScalarType;
+import com.ospreydcs.dp.jal.tools.server.DpStandInServer;
+import com.sun.jdi.request.InvalidRequestStateException;
+
+/**
+ * <p>
+ * Tool application for evaluating the performance of the Java API Library ingestion stream
+ * <code>DpIngestionStreamImpl</code> under different configurations.
+ * </p>
+ * <p>
+ * The application command-line argument collection describes the test suite to be run during execution.  The test
+ * suite itself is given by a <code>{@link IngestionStreamTestSuiteCreator}</code> instance, which is created from the
+ * command-line arguments via the <code>{@link #parseTestSuiteConfig(String[])}</code>.  The test suite sweeps the
+ * ingestion stream configuration parameters (stream type, stream count, processing threads, decomposition size,
+ * staging capacity, and back pressure) over synthetic workloads generated with <code>IngestionFrameGenerator</code>.
+ * </p>
+ * <p>
+ * Each test case is evaluated with a <code>{@link TrialRunner}</code>, first for a number of warmup iterations
+ * then for a number of measured trials, each on a new ingestion stream with a new connection.  The trial with
+ * the median data rate represents the test case in the rankings.  The report ranks the
+ * stream configurations three ways, by sustained data rate, by 99th percentile acknowledgment latency, and by
+ * client CPU time per MByte (see <code>{@link IngestionStreamConfigScorer}</code>).
+ * </p>
+ * <p>
+ * <h2>Command Line Arguments</h2>
+ * The full command line for the application appears as follows (ordering is irrelevant):
+ * <pre>
+ * <code>
+ * >IngestionStreamEvaluator [--pvs N1 ...] [--samples S1 ...] [--type T1 ...] [-clocked] [-tmslist] [--frames F]
+ *                           [--grpc G1 ...] [--streams M1 ...] [--threads P1 ...] [--decomp D1 ...] [--staging C1 ...]
+ *                           [--backpressure B1 ...] [-standin] [--warmup W] [--repeats R] [--output output]
+ * </code>
+ * </pre>
+ * See class constant <code>{@link #STR_APP_USAGE}</code> for the parameter descriptions.  All arguments are
+ * optional; a <code>IngestionStreamTestSuiteCreator</code> instance supplies default values for any missing
+ * parameters.  If the {@value #STR_SWITCH_STANDIN} switch is present the evaluations are performed against an
+ * in-process <code>{@link DpStandInServer}</code> rather than the Ingestion Service.
+ * </p>
+ * <p>
+ * The trial results are also exported to CSV and/or JSON files beside the report file (see
+ * <code>{@link ResultExporter}</code>) for comparison across library versions.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public final class IngestionStreamEvaluator extends JalApplicationBase<IngestionStreamEvaluator> {
+
+
+    //
+    // Application Entry
+    //
+
+    /**
+     * <p>
+     * Entry point for the application.
+     * </p>
+     * <p>
+     * See class documentation and class constant <code>{@link #STR_APP_USAGE}</code> for details
+     * on command-line arguments and usage.
+     * </p>
+     *
+     * @param args  command-line arguments as described in <code>{@link IngestionStreamEvaluator}</code>
+     */
+    public static void main(String[] args) {
+
+        //
+        // ------- Special Requests -------
+        //
+
+        // Check for client help request
+        if (JalApplicationBase.parseAppArgsHelp(args)) {
+            System.out.println();
+            System.out.println(STR_APP_DESCR);
+            System.out.println(STR_APP_USAGE);
+
+            System.exit(ExitCode.SUCCESS.getCode());
+        }
+
+        // Check for client version request
+        if (JalApplicationBase.parseAppArgsVersion(args)) {
+            System.out.println(STR_APP_VERSION);
+
+            System.exit(ExitCode.SUCCESS.getCode());
+        }
+
+        //
+        // ------- Application Initialization -------
+        //
+
+        // Check for general command-line errors
+        try {
+            JalApplicationBase.parseAppArgsErrors(args, CNT_APP_MIN_ARGS, LST_STR_DELIMS);
+
+        } catch (Exception e) {
+            System.out.println("Bad command line configuration. Use " + STR_VAR_HELP + " option.");
+            JalApplicationBase.terminateWithException(IngestionStreamEvaluator.class, e, ExitCode.INPUT_CFG_CORRUPT);
+
+        }
+
+        // Get the test suite configuration and output location from the application arguments
+        String                          strOutputLoc;
+        IngestionStreamTestSuiteCreator suite;
+        boolean                         bolStandIn;
+        TrialRunner<IngestionStreamTestResult>  runTrials;
+        try {
+
+            suite = IngestionStreamEvaluator.parseTestSuiteConfig(args);
+            strOutputLoc = JalApplicationBase.parseOutputLocation(args, STR_OUTPUT_DEF);
+            bolStandIn = JalApplicationBase.parseAppArgsSwitch(args, STR_SWITCH_STANDIN);
+
+            runTrials = IngestionStreamEvaluator.createTrialRunner();
+            runTrials.parseAppArgs(args);
+
+        } catch (Exception e) {
+
+            JalApplicationBase.terminateWithException(IngestionStreamEvaluator.class, e, ExitCode.INTPUT_ARG_INVALID);
+            return;
+        }
+
+
+        //
+        // ------- Application Execution -------
+        //
+
+        // Create the ingestion stream evaluator and run it
+        try {
+            IngestionStreamEvaluator    evaluator = new IngestionStreamEvaluator(suite, runTrials, bolStandIn, strOutputLoc, args);
+
+            evaluator.run();
+            evaluator.writeReport();
+            List<Path>  lstExports = evaluator.exportResults();
+            evaluator.shutdown();
+
+            System.out.println(STR_APP_NAME + " Execution completed in " + evaluator.getRunDuration());
+            System.out.println("  Results stored at " + evaluator.getOutputFilePath().toAbsolutePath());
+            for (Path pathExport : lstExports)
+                System.out.println("  Results exported to " + pathExport.toAbsolutePath());
+            System.exit(ExitCode.SUCCESS.getCode());
+
+        } catch (IOException e) {
+            System.err.println(STR_APP_NAME + " creation FAILURE - Unable to start the stand-in server or create output file.");
+            JalApplicationBase.terminateWithException(IngestionStreamEvaluator.class, e, ExitCode.INITIALIZATION_EXCEPTION);
+
+        } catch (UnsupportedOperationException e) {
+            System.err.println(STR_APP_NAME + " creation FAILURE - Output location not found in file system: " + strOutputLoc);
+            JalApplicationBase.terminateWithException(IngestionStreamEvaluator.class, e, ExitCode.OUTPUT_ARG_INVALID);
+
+        } catch (SecurityException e) {
+            System.err.println(STR_APP_NAME + " creation FAILURE - Unable to write to output file.");
+            JalApplicationBase.terminateWithException(IngestionStreamEvaluator.class, e, ExitCode.OUTPUT_FAILURE);
+
+        } catch (InvalidRequestStateException e) {
+            System.err.println(STR_APP_NAME + " execution FAILURE - Application already executed.");
+            JalApplicationBase.terminateWithException(IngestionStreamEvaluator.class, e, ExitCode.EXECUTION_EXCEPTION);
+
+        } catch (InterruptedException e) {
+            System.err.println(STR_APP_NAME + " ERROR during shutdown operation.");
+            JalApplicationBase.terminateWithException(IngestionStreamEvaluator.class, e, ExitCode.SHUTDOWN_EXCEPTION);
+        }
+    }
+
+
+    //
+    // Application Resources
+    //
+
+    /** Default configuration parameters for the Ingestion Service API */
+    private static final DpIngestionConfig  CFG_INGEST = DpApiConfig.getInstance().ingest;
+
+    /** Default configuration parameters for the JAL Tools */
+    private static final JalToolsConfig     CFG_TOOLS = JalToolsConfig.getInstance();
+
+
+    //
+    // Application Constants - Command-Line Arguments and Messages
+    //
+
+    /** Minimum number of application arguments - none, all parameters have defaults */
+    public static final int         CNT_APP_MIN_ARGS = 0;
+
+
+    /** Default output path location */
+    public static final String      STR_OUTPUT_DEF = CFG_TOOLS.output.path + "/ingest/stream";
+
+
+    /** Argument variable identifying the PV counts per frame */
+    public static final String      STR_VAR_PVS = "--pvs";
+
+    /** Argument variable identifying the sample counts per frame */
+    public static final String      STR_VAR_SMPLS = "--samples";
+
+    /** Argument variable identifying the PV data types */
+    public static final String      STR_VAR_TYPE = "--type";
+
+    /** Argument switch selecting sampling clock timestamps */
+    public static final String      STR_SWITCH_CLOCK = "-clocked";
+
+    /** Argument switch selecting timestamp list timestamps */
+    public static final String      STR_SWITCH_TMS_LIST = "-tmslist";
+
+    /** Argument variable identifying the number of frames per test case */
+    public static final String      STR_VAR_FRAMES = "--frames";
+
+    /** Argument variable identifying the gRPC stream types */
+    public static final String      STR_VAR_GRPC = "--grpc";
+
+    /** Argument variable identifying the maximum gRPC stream counts */
+    public static final String      STR_VAR_STREAMS = "--streams";
+
+    /** Argument variable identifying the frame processing thread counts */
+    public static final String      STR_VAR_THRDS = "--threads";
+
+    /** Argument variable identifying the frame decomposition sizes */
+    public static final String      STR_VAR_DECOMP = "--decomp";
+
+    /** Argument variable identifying the message staging capacities */
+    public static final String      STR_VAR_STAGING = "--staging";
+
+    /** Argument variable identifying the back pressure selections */
+    public static final String      STR_VAR_BACKPRESSURE = "--backpressure";
+
+    /** Argument switch selecting the in-process stand-in server */
+    public static final String      STR_SWITCH_STANDIN = "-standin";
+
+    /** Argument flag identifying output location */
+    public static final String      STR_VAR_OUTPUT = "--output";
+
+    /** List of all the valid argument delimiters */
+    public static final List<String>    LST_STR_DELIMS = List.of(
+            STR_VAR_PVS,
+            STR_VAR_SMPLS,
+            STR_VAR_TYPE,
+            STR_SWITCH_CLOCK,
+            STR_SWITCH_TMS_LIST,
+            STR_VAR_FRAMES,
+            STR_VAR_GRPC,
+            STR_VAR_STREAMS,
+            STR_VAR_THRDS,
+            STR_VAR_DECOMP,
+            STR_VAR_STAGING,
+            STR_VAR_BACKPRESSURE,
+            STR_SWITCH_STANDIN,
+            TrialRunner.STR_VAR_WARMUP,
+            TrialRunner.STR_VAR_REPEATS,
+            STR_VAR_OUTPUT
+            );
+
+
+    //
+    // Application Constants - Client Messages
+    //
+
+    /** Application name */
+    public static final String      STR_APP_NAME = IngestionStreamEvaluator.class.getSimpleName();
+
+    /** A laconic description of the application function */
+    public static final String      STR_APP_DESCR =
+            STR_APP_NAME + " Description \n"
+          + "- Application evaluates the performance of the DpIngestionStreamImpl ingestion stream \n"
+          + "    over a sweep of stream configurations. \n"
+          + "- Synthetic ingestion frames are generated and ingested for each configuration, measuring \n"
+          + "    the sustained data rate, request acknowledgment latency, and client CPU time per MByte. \n"
+          + "- The configurations are ranked by each measure. \n";
+
+
+    /** The "usage" message for client help requests or invalid application arguments */
+    public static final String      STR_APP_USAGE =
+            STR_APP_NAME  + " Usage: \n"
+          + "\n"
+          + "% " + STR_APP_NAME
+          + " [" + STR_VAR_HELP + "]"
+          + " [" + STR_VAR_VERSION + "]"
+          + " [" + STR_VAR_PVS + " N1 ... Ni]"
+          + " [" + STR_VAR_SMPLS + " S1 ... Sj]"
+          + " [" + STR_VAR_TYPE + " T1 ... Tk]"
+          + " [" + STR_SWITCH_CLOCK + "]"
+          + " [" + STR_SWITCH_TMS_LIST + "]"
+          + " [" + STR_VAR_FRAMES + " F]"
+          + " [" + STR_VAR_GRPC + " G1 ... Gl]"
+          + " [" + STR_VAR_STREAMS + " M1 ... Mm]"
+          + " [" + STR_VAR_THRDS + " P1 ... Pn]"
+          + " [" + STR_VAR_DECOMP + " D1 ... Dp]"
+          + " [" + STR_VAR_STAGING + " C1 ... Cq]"
+          + " [" + STR_VAR_BACKPRESSURE + " B1 ... Br]"
+          + " [" + STR_SWITCH_STANDIN + "]"
+          + " [" + TrialRunner.STR_VAR_WARMUP + " W]"
+          + " [" + TrialRunner.STR_VAR_REPEATS + " R]"
+          + " [" + STR_VAR_OUTPUT +" Output]"
+          + "\n"
+          + "  Where  \n"
+          + "    " + STR_VAR_HELP + "        = print this message and return.\n"
+          + "    " + STR_VAR_VERSION + "     = prints application version information and return.\n"
+          + "    N1, ..., Ni   = Number(s) of PVs per ingestion frame - Integer value(s). \n"
+          + "    S1, ..., Sj   = Number(s) of samples per ingestion frame - Integer value(s). \n"
+          + "    T1, ..., Tk   = PV data type(s) - JalScalarType enumeration name(s). \n"
+          + "    " + STR_SWITCH_CLOCK + "      = use sampling clock timestamps. \n"
+          + "    " + STR_SWITCH_TMS_LIST + "      = use timestamp list timestamps. \n"
+          + "    F             = Number of ingestion frames per test case - Integer value. \n"
+          + "    G1, ..., Gl   = gRPC stream type(s) - FORWARD and/or BIDIRECTIONAL. \n"
+          + "    M1, ..., Mm   = Maximum number(s) of concurrent gRPC streams, 0 for single stream - Integer value(s). \n"
+          + "    P1, ..., Pn   = Number(s) of frame processing threads, 0 for none - Integer value(s). \n"
+          + "    D1, ..., Dp   = Frame decomposition size(s) in bytes, 0 for none - Long value(s). \n"
+          + "    C1, ..., Cq   = Message staging capacities in bytes - Long value(s). \n"
+          + "    B1, ..., Br   = Staging back pressure selection(s) - true and/or false. \n"
+          + "    " + STR_SWITCH_STANDIN + "      = evaluate against an in-process stand-in server. \n"
+          + TrialRunner.STR_ARGS_USAGE
+          + "    Output        = output directory w/wout file path, or '" + STR_ARG_VAL_STDOUT + "'. \n"
+          + "\n"
+          + "  NOTES: \n"
+          + "  - All bracketed quantities [...] are optional. \n"
+          + "  - Missing parameters are given the Ingestion Service API default configuration values. \n"
+          + "  - The test suite is the Cartesian product of all parameter values; keep the sweep small. \n"
+          + "  - Acknowledgment latency is only available for BIDIRECTIONAL streams. \n"
+          + "  - CPU time is that of the entire process; with " + STR_SWITCH_STANDIN + " it includes the server. \n"
+          + "  - Default " + TrialRunner.STR_VAR_WARMUP + " and " + TrialRunner.STR_VAR_REPEATS + " values are "
+          +       TrialRunner.CNT_WARMUP_DEF + " and " + TrialRunner.CNT_REPEATS_DEF + ". \n"
+          + "  - Default " + STR_VAR_OUTPUT + " value is " + STR_OUTPUT_DEF + ".\n";
+
+
+    /** The "version" message for client version requests */
+    public static final String      STR_APP_VERSION =
+            STR_APP_NAME
+          + " version 1.0: compatible with Java Application Library version 1.8.0 or greater.";
+
+
+    //
+    // Class Constants
+    //
+
+    /** Event logging enabled flag */
+    public static final boolean     BOL_LOGGING = CFG_INGEST.logging.enabled;
+
+    /** Event logging level */
+    public static final String      STR_LOGGING_LEVEL = CFG_INGEST.logging.level;
+
+
+    /** Map of data provider attributes for this application */
+    private static final Map<String, String>    MAP_PRVDR_ATTRS = Map.of(
+                                                    "Identity", "Application",
+                                                    "Location", "JAL Tools",
+                                                    "Function", "Ingestion stream evaluation"
+                                                    );
+
+    /** Application data provider registration for the Ingestion Service */
+    private static final ProviderRegistrar      REC_PRVDR_REG = ProviderRegistrar.from(STR_APP_NAME, MAP_PRVDR_ATTRS);
+
+
+    //
+    // Class Resources
+    //
+
+    /** Class event logger */
+    private static final Logger     LOGGER = Log4j.getLogger(IngestionStreamEvaluator.class, STR_LOGGING_LEVEL);
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The test suite used for <code>IngestionStreamTestCase</code> evaluations */
+    private final IngestionStreamTestSuiteCreator   suiteEvals;
+
+    /** The warmup and repeated trial runner for each test case */
+    private final TrialRunner<IngestionStreamTestResult>    runTrials;
+
+
+    //
+    // Instance Resources
+    //
+
+    /** The in-process stand-in server, or <code>null</code> if evaluating the Ingestion Service */
+    private final DpStandInServer                   srvStandIn;
+
+    /** The collection of test cases used in evaluations */
+    private final List<IngestionStreamTestCase>     lstCases;
+
+    /** The collection of test results recovered from evaluations */
+    private final Collection<IngestionStreamTestResult> setResults;
+
+    /** The measured trials of each test case, in order of evaluation */
+    private final List<TrialSet<IngestionStreamTestResult>> lstTrials;
+
+
+    //
+    // State Variables
+    //
+
+    /** Total duration of test suite evaluation */
+    private Duration    durEval = Duration.ZERO;
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new <code>IngestionStreamEvaluator</code> instance for the given test suite
+     * configuration and output location.
+     * </p>
+     *
+     * @param   suiteEvals      the test suite configuration
+     * @param   runTrials       the warmup and repeated trial runner for each test case
+     * @param   bolStandIn      evaluate against an in-process stand-in server rather than the Ingestion Service
+     * @param   strOutputLoc    output path for evaluation results
+     * @param   args            application command-line arguments from main()
+     *
+     * @throws IOException                      unable to start the stand-in server, or create the output file (see message and cause)
+     * @throws UnsupportedOperationException    the output path was invalid (not supported on the file system)
+     * @throws SecurityException                unable to write to output file
+     */
+    public IngestionStreamEvaluator(IngestionStreamTestSuiteCreator suiteEvals, TrialRunner<IngestionStreamTestResult> runTrials, boolean bolStandIn, String strOutputLoc, String...args)
+            throws IOException, UnsupportedOperationException, SecurityException {
+        super(IngestionStreamEvaluator.class, args);
+
+        this.suiteEvals = suiteEvals;
+        this.runTrials = runTrials;
+
+        // Start the stand-in server if requested
+        this.srvStandIn = bolStandIn ? DpStandInServer.create().start() : null;   // throws IOException
+
+        // Create the collection of test cases and container for results
+        this.lstCases = this.suiteEvals.createTestSuite();
+        this.setResults = new TreeSet<>(IngestionStreamTestResult.descendingRateOrdering());
+        this.lstTrials = new ArrayList<>(this.lstCases.size());
+
+        // Create the output stream and attach Logger to it - records fatal errors to output file
+        super.openOutputStream(strOutputLoc); // throws SecurityException, FileNotFoundException, UnsupportedOperationException
+
+        OutputStreamAppender    appAppErrs = Log4j.createOutputStreamAppender(STR_APP_NAME, super.psOutput);
+        Log4j.attachAppender(LOGGER, appAppErrs);
+    }
+
+
+    //
+    // JalApplicationBase Abstract Methods
+    //
+
+    /**
+     * @see com.ospreydcs.dp.api.app.JalApplicationBase#isLogging()
+     */
+    @Override
+    protected boolean isLogging() {
+        return BOL_LOGGING;
+    }
+
+    /**
+     * @see com.ospreydcs.dp.api.app.JalApplicationBase#getLogger()
+     */
+    @Override
+    protected Logger getLogger() {
+        return LOGGER;
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Runs the application evaluating all test cases within the test suite configuration.
+     * </p>
+     * <p>
+     * Each test case in <code>{@link #lstCases}</code> is evaluated by the trial runner <code>{@link #runTrials}</code>
+     * using <code>{@link #evaluateCase(IngestionStreamTestCase)}</code> for each warmup iteration and measured trial.
+     * The measured trials are stored in <code>{@link #lstTrials}</code> and the representative (median rate) trial
+     * result is stored in <code>{@link #setResults}</code>.
+     * </p>
+     *
+     * @throws InvalidRequestStateException the application has already been run
+     */
+    public void run() throws InvalidRequestStateException {
+
+        // Check state
+        if (super.bolRun) {
+            throw new InvalidRequestStateException(JavaRuntime.getQualifiedMethodNameSimple() + " - Application has already been run.");
+        }
+        super.bolRun = true;
+
+        // Start counter
+        System.out.print("Performing evaluations .");
+        super.startExecutionTimer(1L, TimeUnit.SECONDS);
+
+        // Evaluate each test case on a new ingestion stream
+        Instant insStart = Instant.now();
+
+        for (IngestionStreamTestCase recCase : this.lstCases) {
+            TrialSet<IngestionStreamTestResult> recTrials = this.runTrials.run(() -> this.evaluateCase(recCase));
+
+            this.lstTrials.add(recTrials);
+            this.setResults.add(recTrials.recMedian());
+        }
+        Instant insFinish = Instant.now();
+
+        this.durEval = Duration.between(insStart, insFinish);
+        super.stopExecutionTimer();
+        System.out.println(" Evaluations completed in " + this.durEval.toSeconds() + " seconds.");
+
+        // Set state variables
+        super.bolCompleted = true;
+        super.bolRun = true;
+    }
+
+    /**
+     * <p>
+     * Returns the duration of the evaluations.
+     * </p>
+     *
+     * @return  the duration of the <code>{@link #run()}</code> operation
+     *
+     * @throws IllegalStateException    the evaluations have not been executed.
+     */
+    public Duration getRunDuration() throws IllegalStateException {
+
+        // Check state
+        if (!super.bolRun)
+            throw new IllegalStateException("Evaluations have not been executed.");
+
+        return this.durEval;
+    }
+
+    /**
+     * <p>
+     * Exports the measured trials of all test cases to machine-readable files beside the report file.
+     * </p>
+     * <p>
+     * The export formats are determined by the JAL Tools configuration (see <code>{@link ResultExporter}</code>).
+     * Nothing is exported if the report is written to the console.  Export failures are logged and do not
+     * interrupt the application.
+     * </p>
+     *
+     * @return  the paths of the exported files
+     *
+     * @throws IllegalStateException    no results are available (called before <code>{@link #run()}</code>)
+     */
+    public List<Path>   exportResults() throws IllegalStateException {
+
+        // Check state
+        if (!super.bolRun)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + "- Test suite has not been run.");
+
+        try {
+            return ResultExporter.exportBeside(super.getOutputFilePath(), this.lstTrials);
+
+        } catch (IOException e) {
+            LOGGER.error("{} - Unable to export results: {}", JavaRuntime.getQualifiedMethodNameSimple(), e.getMessage());
+
+            return List.of();
+        }
+    }
+
+    /**
+     * <p>
+     * Creates a text report of the test suite evaluations and prints it to the output file.
+     * </p>
+     * <p>
+     * This method defers to <code>{@link #writeReport(PrintStream)}</code> supplying the output file stream
+     * for this evaluator as the argument.
+     * </p>
+     *
+     * @throws IllegalStateException    no results are available (called before <code>{@link #run()}</code>)
+     */
+    public void writeReport() throws IllegalStateException {
+        this.writeReport(super.psOutput);
+    }
+
+    /**
+     * <p>
+     * Creates a text report of the test suite evaluations and prints it to the given output stream.
+     * </p>
+     * <p>
+     * This method is available after invoking <code>{@link #run()}</code>.  It prints out a report
+     * of the ingestion stream evaluations including a summary, test suite configuration, the configuration
+     * scores ranked by data rate, latency, and CPU time, and all test case results.
+     * </p>
+     *
+     * @param ps    target output stream for ingestion stream evaluations report
+     *
+     * @throws IllegalStateException    no results are available (called before <code>{@link #run()}</code>)
+     */
+    public void writeReport(PrintStream ps) throws IllegalStateException {
+
+        // Check state
+        if (!this.bolRun)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + "- Test suite has not been run.");
+
+        // Print out header
+        String  strHdr = super.createReportHeader();
+        ps.println();
+        ps.println(strHdr);
+        ps.println();
+
+        // Print out command line
+        String  strCmdLn = super.createCommandLine();
+        ps.println("Execution");
+        ps.println(strCmdLn);
+        ps.println();
+
+        // Print out evaluation summary
+        ps.println("Ingestion target     : " + ((this.srvStandIn != null) ? "stand-in server" : "Ingestion Service"));
+        ps.println("Test cases specified : " + this.lstCases.size());
+        ps.println("Test cases run       : " + this.setResults.size());
+        ps.println("Test case failures   : " + this.setResults.stream().filter(rec -> rec.recTestStatus().isFailure()).count());
+        ps.println("Evaluation duration  : " + this.durEval);
+        ps.println("Evaluation completed : " + this.bolCompleted);
+        ps.println();
+
+        // Print out the test suite and trial configuration
+        ps.println("Test Suite Configuration");
+        this.suiteEvals.printOut(ps, "  ");
+        ps.println();
+
+        ps.println("Trial Configuration");
+        this.runTrials.printOutConfig(ps, "  ");
+        ps.println();
+
+        // Print out the test case data rates
+        ps.println("Test Case Data Rates");
+        DataRateLister<IngestionStreamTestResult>   lstrDataRates = DataRateLister.from(
+                rec -> rec.recTestCase().indCase(),
+                rec -> rec.recTestCase().enmStreamType().name(),
+                rec -> rec.szRqsts(),
+                rec -> rec.dblDataRate()
+                );
+        lstrDataRates.printOut(ps, "  ", this.setResults);
+        ps.println();
+
+        // Print out the test case trial statistics
+        ps.println("Test Case Trial Statistics");
+        TrialSet.printOutListing(ps, "  ", this.lstTrials, rec -> rec.recTestCase().indCase());
+        ps.println();
+
+        // Print out configuration scoring
+        IngestionStreamConfigScorer scrStream = IngestionStreamConfigScorer.from(this.setResults);
+
+        ps.println("Ingestion Stream Configuration Scoring - Sustained Data Rate");
+        scrStream.printOutByRates(ps, "  ");
+        ps.println();
+
+        ps.println("Ingestion Stream Configuration Scoring - Acknowledgment Latency");
+        scrStream.printOutByLatency(ps, "  ");
+        ps.println();
+
+        ps.println("Ingestion Stream Configuration Scoring - Client CPU per MB");
+        scrStream.printOutByCpu(ps, "  ");
+        ps.println();
+
+        // Print out each test result
+        ps.println("Individual Case Results:");
+        for (IngestionStreamTestResult recCase : this.setResults) {
+            recCase.printOut(ps, "  ");
+            ps.println();
+        }
+    }
+
+    /**
+     * <p>
+     * Shuts down the application.
+     * </p>
+     * <p>
+     * This method should be called before exiting the application.  The stand-in server is shut down
+     * (if used) and any open output streams are closed.
+     * </p>
+     *
+     * @throws InterruptedException process interruption while shutting down the stand-in server
+     */
+    public void shutdown() throws InterruptedException {
+
+        if (this.srvStandIn != null)
+            this.srvStandIn.shutdown();
+
+        super.close();
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Creates a new trial runner for <code>IngestionStreamTestResult</code> evaluations with the default configuration.
+     * </p>
+     *
+     * @return  new trial runner extracting data rate, duration, and status from ingestion stream results
+     */
+    private static TrialRunner<IngestionStreamTestResult>   createTrialRunner() {
+        return TrialRunner.from(
+                rec -> rec.dblDataRate(),
+                rec -> rec.durIngest(),
+                rec -> rec.recTestStatus().isSuccess()
+                );
+    }
+
+    /**
+     * <p>
+     * Performs a single evaluation of the given test case and returns the result.
+     * </p>
+     * <p>
+     * The following steps are performed:
+     * <ol>
+     * <li>The test case workload is generated with <code>{@link IngestionStreamTestCase#createFrames()}</code>.</li>
+     * <li>A new ingestion stream is created with <code>{@link #createStream()}</code>.</li>
+     * <li>The test case is evaluated with
+     *     <code>{@link IngestionStreamTestCase#evaluate(DpIngestionStreamImpl, List, ProviderRegistrar)}</code>.</li>
+     * <li>The ingestion stream is shut down.</li>
+     * </ol>
+     * Any exception occurring outside the evaluation proper is recorded as a test case failure.
+     * </p>
+     *
+     * @param recCase   the test case to evaluate
+     *
+     * @return  the result of the test case evaluation
+     */
+    private IngestionStreamTestResult   evaluateCase(IngestionStreamTestCase recCase) {
+        try {
+            List<IngestionFrame>    lstFrames = recCase.createFrames();
+            DpIngestionStreamImpl   stream = this.createStream();           // throws DpGrpcException
+
+            IngestionStreamTestResult   recResult = recCase.evaluate(stream, lstFrames, REC_PRVDR_REG);
+
+            stream.shutdown();                                              // throws InterruptedException
+
+            return recResult;
+
+            // If the test case set up or tear down fails
+        } catch (Exception e) {
+
+            if (BOL_LOGGING)
+                LOGGER.error("{} - Test case {} failed with exception {}: {}.",
+                        JavaRuntime.getQualifiedMethodNameSimple(), recCase.indCase(), e.getClass().getSimpleName(), e.getMessage());
+
+            ResultStatus    recStatus = ResultStatus.newFailure(e.getMessage(), e);
+
+            return IngestionStreamTestResult.from(recStatus, recCase);
+        }
+    }
+
+    /**
+     * <p>
+     * Creates a new, unopened ingestion stream with a new connection to the ingestion target.
+     * </p>
+     * <p>
+     * The connection is to the stand-in server if one is in use, otherwise it is to the Ingestion Service
+     * given by the default connection configuration.
+     * </p>
+     *
+     * @return  new ingestion stream ready for configuration
+     *
+     * @throws DpGrpcException  unable to connect to the ingestion target
+     */
+    private DpIngestionStreamImpl   createStream() throws DpGrpcException {
+
+        DpIngestionConnection   connIngest;
+
+        if (this.srvStandIn != null)
+            connIngest = DpIngestionConnection.from(this.srvStandIn.createChannel());
+        else
+            connIngest = DpIngestionConnectionFactory.FACTORY.connect();
+
+        return DpIngestionStreamImpl.from(connIngest);
+    }
+
+    /**
+     * <p>
+     * Parse the application command-line argument for the test suite configuration and returns it.
+     * </p>
+     * <p>
+     * All arguments are optional; the <code>IngestionStreamTestSuiteCreator</code> supplies default values
+     * for any missing parameters.  The timestamp switches {@value #STR_SWITCH_CLOCK} and {@value #STR_SWITCH_TMS_LIST}
+     * may both appear, in which case both timestamp cases are evaluated.
+     * </p>
+     *
+     * @param args  the application command-line argument collection
+     *
+     * @return  the test suite configuration as described by the command-line arguments
+     *
+     * @throws IllegalArgumentException an invalid enumeration constant name was encountered
+     * @throws NumberFormatException    an invalid numeric argument was encountered
+     * @throws IndexOutOfBoundsException more than one frame count was given
+     */
+    private static IngestionStreamTestSuiteCreator  parseTestSuiteConfig(String[] args)
+            throws IllegalArgumentException, NumberFormatException, IndexOutOfBoundsException {
+
+        IngestionStreamTestSuiteCreator suite = IngestionStreamTestSuiteCreator.create();
+
+        // Parse the workload parameters
+        suite.addPvCounts(JalApplicationBase.parseAppArgsVariable(args, STR_VAR_PVS).stream().map(Integer::valueOf).toList());
+        suite.addSampleCounts(JalApplicationBase.parseAppArgsVariable(args, STR_VAR_SMPLS).stream().map(Integer::valueOf).toList());
+        suite.addDataTypes(JalApplicationBase.parseAppArgsVariable(args, STR_VAR_TYPE).stream().map(JalScalarType::valueOf).toList());
+
+        if (JalApplicationBase.parseAppArgsSwitch(args, STR_SWITCH_CLOCK))
+            suite.addTimestampCase(DpTimestampCase.SAMPLING_CLOCK);
+        if (JalApplicationBase.parseAppArgsSwitch(args, STR_SWITCH_TMS_LIST))
+            suite.addTimestampCase(DpTimestampCase.TIMESTAMP_LIST);
+
+        List<String>    lstCntFrms = JalApplicationBase.parseAppArgsVariable(args, STR_VAR_FRAMES);
+        if (lstCntFrms.size() > 1)
+            throw new IndexOutOfBoundsException(JavaRuntime.getQualifiedMethodNameSimple()
+                    + ": " + STR_VAR_FRAMES + " - Only one frame count allowed, parsed " + lstCntFrms);
+        if (!lstCntFrms.isEmpty())
+            suite.setFrameCount(Integer.valueOf(lstCntFrms.get(0)));
+
+        // Parse the ingestion stream parameters
+        suite.addStreamTypes(JalApplicationBase.parseAppArgsVariable(args, STR_VAR_GRPC).stream().map(DpGrpcStreamType::valueOf).toList());
+        suite.addStreamCounts(JalApplicationBase.parseAppArgsVariable(args, STR_VAR_STREAMS).stream().map(Integer::valueOf).toList());
+        suite.addThreadCounts(JalApplicationBase.parseAppArgsVariable(args, STR_VAR_THRDS).stream().map(Integer::valueOf).toList());
+        suite.addDecompositionSizes(JalApplicationBase.parseAppArgsVariable(args, STR_VAR_DECOMP).stream().map(Long::valueOf).toList());
+        suite.addStagingCapacities(JalApplicationBase.parseAppArgsVariable(args, STR_VAR_STAGING).stream().map(Long::valueOf).toList());
+
+        for (String strBackPressure : JalApplicationBase.parseAppArgsVariable(args, STR_VAR_BACKPRESSURE))
+            suite.addBackPressure(Boolean.parseBoolean(strBackPressure));
+
+        return suite;
+    }
+}
@@ -0,0 +1,378 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionStreamTestCase.java
+ * Package: com.ospreydcs.dp.jal.tools.ingest.stream
+ * Type: 	IngestionStreamTestCase
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.ingest.stream;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.LinkedList;
+import java.util.List;
+
+import com.ospreydcs.dp.api.common.DpGrpcStreamType;
+import com.ospreydcs.dp.api.common.ProviderRegistrar;
+import com.ospreydcs.dp.api.common.ResultStatus;
+import com.ospreydcs.dp.api.ingest.IngestionFrame;
+import com.ospreydcs.dp.api.ingest.impl.DpIngestionStreamImpl;
+import com.ospreydcs.dp.api.ingest.model.grpc.IngestionStreamStatistics;
+import com.ospreydcs.dp.api.util.LongHistogram;
+import com.ospreydcs.dp.jal.tools.ingest.model.frames.IngestionFrameGenerator;
+import com.ospreydcs.dp.jal.tools.ingest.model.frames.SampleBlockConfig;
+
+/**
+ * <p>
+ * Record containing parameters for an ingestion stream performance test case.
+ * </p>
+ * <p>
+ * The record contains the workload, a number of ingestion frames each described by a
+ * <code>{@link SampleBlockConfig}</code> sample block, and the configuration parameters of the
+ * <code>{@link DpIngestionStreamImpl}</code> ingestion stream under evaluation.
+ * </p>
+ * <p>
+ * <h2>Metrics</h2>
+ * A test case evaluation measures the following quantities from stream open until the stream close returns
+ * (i.e., all staged messages are transmitted and acknowledged):
+ * <ul>
+ * <li>Sustained data rate - the total serialized request message bytes over the wall clock duration (MBps).</li>
+ * <li>Acknowledgment latency - the 50th and 99th percentiles and maximum of the request acknowledgment
+ *     latency (bidirectional streams only, zero otherwise).</li>
+ * <li>Client CPU cost - the process CPU time consumed per MByte transmitted (ms/MB).</li>
+ * </ul>
+ * The CPU time is that of the entire Java process; when evaluating against an in-process stand-in
+ * server it includes the server processing.
+ * </p>
+ * <p>
+ * <h2>NOTES:</h2>
+ * The <code>{@link #indCase}</code> field is assigned within the creator
+ * <code>{@link #from(SampleBlockConfig, int, DpGrpcStreamType, int, int, long, long, boolean)}</code> and should not be
+ * explicitly supplied.  That is, use of the canonical constructor should be avoided.
+ * </p>
+ *
+ * @param indCase           (optional) index of test case
+ *
+ * @param recBlkCfg         the sample block configuration of each ingestion frame
+ * @param cntFrames         the number of ingestion frames to ingest
+ *
+ * @param enmStreamType     the gRPC data stream type used for ingestion
+ * @param cntStreams        maximum number of concurrent gRPC data streams (0 for a single stream)
+ * @param cntThreads        number of frame processing threads (0 for no processing concurrency)
+ * @param szDecompMax       maximum ingestion frame allocation before decomposition (0 for no decomposition)
+ * @param szStagingCap      capacity of the message staging buffer (bytes)
+ * @param bolBackPressure   enable/disable back pressure from the message staging buffer
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public record IngestionStreamTestCase(
+        int                 indCase,
+
+        SampleBlockConfig   recBlkCfg,
+        int                 cntFrames,
+
+        DpGrpcStreamType    enmStreamType,
+        int                 cntStreams,
+        int                 cntThreads,
+        long                szDecompMax,
+        long                szStagingCap,
+        boolean             bolBackPressure
+        )
+{
+
+    //
+    // Creator
+    //
+
+    /**
+     * <p>
+     * Creates a new <code>IngestionStreamTestCase</code> instance populated from the argument values.
+     * </p>
+     *
+     * @param recBlkCfg         the sample block configuration of each ingestion frame
+     * @param cntFrames         the number of ingestion frames to ingest
+     * @param enmStreamType     the gRPC data stream type used for ingestion
+     * @param cntStreams        maximum number of concurrent gRPC data streams (0 for a single stream)
+     * @param cntThreads        number of frame processing threads (0 for no processing concurrency)
+     * @param szDecompMax       maximum ingestion frame allocation before decomposition (0 for no decomposition)
+     * @param szStagingCap      capacity of the message staging buffer (bytes)
+     * @param bolBackPressure   enable/disable back pressure from the message staging buffer
+     *
+     * @return  a new <code>IngestionStreamTestCase</code> record with fields given by the arguments
+     */
+    public static IngestionStreamTestCase   from(
+            SampleBlockConfig   recBlkCfg,
+            int                 cntFrames,
+
+            DpGrpcStreamType    enmStreamType,
+            int                 cntStreams,
+            int                 cntThreads,
+            long                szDecompMax,
+            long                szStagingCap,
+            boolean             bolBackPressure
+            )
+    {
+        return new IngestionStreamTestCase(IND_CASE, recBlkCfg, cntFrames,
+                enmStreamType, cntStreams, cntThreads, szDecompMax, szStagingCap, bolBackPressure);
+    }
+
+
+    //
+    // Record Resources
+    //
+
+    /** Internal test case index (counter) */
+    private static          int IND_CASE = 1;
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new <code>IngestionStreamTestCase</code> instance.
+     * </p>
+     * <p>
+     * Canonical constructor.  Sets field values and increments record index counter <code>{@link #IND_CASE}</code>
+     * </p>
+     *
+     * @param indCase           (optional) index of test case
+     *
+     * @param recBlkCfg         the sample block configuration of each ingestion frame
+     * @param cntFrames         the number of ingestion frames to ingest
+     *
+     * @param enmStreamType     the gRPC data stream type used for ingestion
+     * @param cntStreams        maximum number of concurrent gRPC data streams (0 for a single stream)
+     * @param cntThreads        number of frame processing threads (0 for no processing concurrency)
+     * @param szDecompMax       maximum ingestion frame allocation before decomposition (0 for no decomposition)
+     * @param szStagingCap      capacity of the message staging buffer (bytes)
+     * @param bolBackPressure   enable/disable back pressure from the message staging buffer
+     */
+    public IngestionStreamTestCase {
+        IND_CASE++;
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Creates the ingestion frames of the test case workload.
+     * </p>
+     * <p>
+     * The frames are generated before evaluation so that frame generation is excluded from the
+     * evaluation measurements.  Each frame follows the previous frame in time.
+     * </p>
+     *
+     * @return  the ordered list of <code>{@link #cntFrames}</code> ingestion frames for the test case
+     *
+     * @throws IllegalArgumentException the sample block configuration is invalid (see message)
+     */
+    public List<IngestionFrame> createFrames() throws IllegalArgumentException {
+
+        IngestionFrameGenerator     genFrames = IngestionFrameGenerator.from(this.recBlkCfg);
+        List<IngestionFrame>        lstFrames = new LinkedList<>();
+
+        for (int iFrame=0; iFrame<this.cntFrames; iFrame++)
+            lstFrames.add(genFrames.build());
+
+        return lstFrames;
+    }
+
+    /**
+     * <p>
+     * Evaluates the given ingestion stream for the given workload.
+     * </p>
+     * <p>
+     * The stream is configured to the test case conditions, opened with the given data provider
+     * registration, the frames are ingested, and the stream is closed.  The stream must be unopened
+     * upon invocation; it is left closed upon return.  A new stream should be supplied for each
+     * evaluation.
+     * </p>
+     * <p>
+     * Any exception thrown during evaluation is captured within the status of the returned (failed)
+     * test result.
+     * </p>
+     *
+     * @param stream        ingestion stream under evaluation (unopened)
+     * @param lstFrames     the ingestion frames to ingest (see <code>{@link #createFrames()}</code>)
+     * @param recPrvdrReg   data provider registration used to open the stream
+     *
+     * @return  the results of the evaluation
+     */
+    public IngestionStreamTestResult evaluate(DpIngestionStreamImpl stream, List<IngestionFrame> lstFrames, ProviderRegistrar recPrvdrReg) {
+
+        try {
+
+            // Configure the stream and open it
+            this.configureStream(stream);
+
+            stream.openStream(recPrvdrReg);
+
+            // Ingest the frames and wait for all transmissions to complete
+            long    lngCpuStart = IngestionStreamTestCase.processCpuTime();
+            long    lngNsStart = System.nanoTime();
+
+            stream.ingest(lstFrames);
+            stream.closeStream();
+
+            long    lngNsFinish = System.nanoTime();
+            long    lngCpuFinish = IngestionStreamTestCase.processCpuTime();
+
+            // Collect the results
+            IngestionStreamStatistics               stats = stream.getStreamStatistics();
+            LongHistogram                           histLatency = stats.getAckLatencyHistogram();
+
+            long        cntRqsts = stats.getRequestCount();
+            long        cntRejects = stats.getRejectedCount() + stats.getExceptionCount();
+            long        szRqsts = stats.getRequestBytes();
+            Duration    durIngest = Duration.ofNanos(lngNsFinish - lngNsStart);
+            double      dblDataRate = ( ((double)szRqsts) * 1000 )/durIngest.toNanos();
+
+            Duration    durLatP50 = Duration.ofNanos(histLatency.getPercentile(50.0));
+            Duration    durLatP99 = Duration.ofNanos(histLatency.getPercentile(99.0));
+            Duration    durLatMax = Duration.ofNanos(histLatency.getMax());
+
+            double      dblCpuPerMb = Double.NaN;
+            if (lngCpuStart >= 0 && szRqsts > 0)
+                dblCpuPerMb = ((double)(lngCpuFinish - lngCpuStart))/szRqsts;   // (ns/byte) = (ms/MB)
+
+            // Return the test results
+            IngestionStreamTestResult   recResult = IngestionStreamTestResult.from(ResultStatus.SUCCESS,
+                    cntRqsts, cntRejects, szRqsts, durIngest, dblDataRate,
+                    durLatP50, durLatP99, durLatMax, dblCpuPerMb,
+                    this);
+
+            return recResult;
+
+        } catch (Exception e) {
+
+            // Make sure the stream is closed
+            if (stream.isStreamOpen())
+                stream.closeStreamNow();
+
+            // Create the failure status
+            String          strErrMsg = e.getMessage();
+            ResultStatus    recStatus = ResultStatus.newFailure(strErrMsg, e);
+
+            // Return the failed test result
+            IngestionStreamTestResult   recResult = IngestionStreamTestResult.from(recStatus, this);
+
+            return recResult;
+        }
+    }
+
+    /**
+     * <p>
+     * Prints out a text description of the record fields to the given output stream.
+     * </p>
+     * <p>
+     * A line-by-line text description of each record field is written to the given output.
+     * The <code>strPad</code> is used to supply an optional whitespace character padding to the
+     * left-hand side header for each line description.
+     * </p>
+     *
+     * @param ps        output stream to receive text description of record fields
+     * @param strPad    white-space padding for each line header (or <code>null</code>)
+     */
+    public void printOut(PrintStream ps, String strPad) {
+        if (strPad == null)
+            strPad = "";
+
+        ps.println(strPad + this.getClass().getSimpleName() + " " + this.indCase + ":");
+        ps.println(strPad + "  Number of PVs per frame           : " + this.recBlkCfg.setPvNames().size());
+        ps.println(strPad + "  PV data type                      : " + this.recBlkCfg.enmDataType());
+        ps.println(strPad + "  Timestamp representation          : " + this.recBlkCfg.enmTmsCase());
+        ps.println(strPad + "  Number of samples per frame       : " + this.recBlkCfg.cntSamples());
+        ps.println(strPad + "  Number of frames                  : " + this.cntFrames);
+        ps.println(strPad + "  gRPC stream type                  : " + this.enmStreamType);
+        ps.println(strPad + "  Maximum gRPC streams (0=single)   : " + this.cntStreams);
+        ps.println(strPad + "  Processing threads (0=disabled)   : " + this.cntThreads);
+        ps.println(strPad + "  Decomposition size (0=disabled)   : " + this.szDecompMax);
+        ps.println(strPad + "  Staging buffer capacity (bytes)   : " + this.szStagingCap);
+        ps.println(strPad + "  Staging back pressure enabled     : " + this.bolBackPressure);
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Configures the given ingestion stream to the conditions of this test case.
+     * </p>
+     *
+     * @param stream    ingestion stream to be configured (unopened)
+     *
+     * @throws IllegalStateException            the stream is already open
+     * @throws UnsupportedOperationException    the stream type is not supported for ingestion
+     */
+    private void    configureStream(DpIngestionStreamImpl stream) throws IllegalStateException, UnsupportedOperationException {
+
+        stream.setStreamType(this.enmStreamType);
+
+        if (this.cntStreams > 0)
+            stream.setMultipleStreams(this.cntStreams);
+        else
+            stream.disableMultipleStreams();
+
+        if (this.cntThreads > 0)
+            stream.setFrameProcessingConcurrency(this.cntThreads);
+        else
+            stream.disableFrameProcessingConcurrency();
+
+        if (this.szDecompMax > 0)
+            stream.setFrameDecomposition(this.szDecompMax);
+        else
+            stream.disableFrameDecomposition();
+
+        stream.setStagingCapcity(this.szStagingCap);
+
+        if (this.bolBackPressure)
+            stream.enableBackPressure();
+        else
+            stream.disableBackPressure();
+    }
+
+    /**
+     * <p>
+     * Returns the CPU time used by the Java process.
+     * </p>
+     *
+     * @return  the process CPU time (in nanoseconds), or -1 if not supported by the Java platform
+     */
+    private static long processCpuTime() {
+
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean beanOs)
+            return beanOs.getProcessCpuTime();
+
+        return -1L;
+    }
+}
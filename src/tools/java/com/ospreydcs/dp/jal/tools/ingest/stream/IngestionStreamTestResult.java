@@ -0,0 +1,261 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionStreamTestResult.java
+ * Package: com.ospreydcs.dp.jal.tools.ingest.stream
+ * Type: 	IngestionStreamTestResult
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.ingest.stream;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Comparator;
+
+import com.ospreydcs.dp.api.common.ResultStatus;
+import com.ospreydcs.dp.api.util.JavaRuntime;
+
+/**
+ * <p>
+ * Record contains the results of a <code>IngestionStreamTestCase</code> evaluation.
+ * </p>
+ *
+ * @param recTestStatus the success/failure status of the test case
+ *
+ * @param cntRqsts      the number of ingest data request messages transmitted
+ * @param cntRejects    the number of request messages rejected by the Ingestion Service (or with exceptions)
+ * @param szRqsts       the total serialized size of the transmitted request messages (in bytes)
+ * @param durIngest     the wall clock time taken from first frame offered until the stream was closed
+ * @param dblDataRate   the sustained data rate achieved in evaluation (MBps)
+ * @param durLatP50     the 50th percentile request acknowledgment latency (bidirectional streams only)
+ * @param durLatP99     the 99th percentile request acknowledgment latency (bidirectional streams only)
+ * @param durLatMax     the maximum request acknowledgment latency (bidirectional streams only)
+ * @param dblCpuPerMb   the process CPU time per MByte transmitted (ms/MB), or NaN if unavailable
+ *
+ * @param recTestCase   the test case record for the current result
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public record IngestionStreamTestResult(
+        ResultStatus            recTestStatus,
+
+        long                    cntRqsts,
+        long                    cntRejects,
+        long                    szRqsts,
+        Duration                durIngest,
+        double                  dblDataRate,
+        Duration                durLatP50,
+        Duration                durLatP99,
+        Duration                durLatMax,
+        double                  dblCpuPerMb,
+
+        IngestionStreamTestCase recTestCase
+        )
+{
+
+    //
+    // Creator
+    //
+
+    /**
+     * <p>
+     * Returns a new <code>IngestionStreamTestResult</code> record populated with the given arguments.
+     * </p>
+     * <p>
+     * The returned record is assumed to be created by the
+     * <code>{@link IngestionStreamTestCase#evaluate(com.ospreydcs.dp.api.ingest.impl.DpIngestionStreamImpl, java.util.List, com.ospreydcs.dp.api.common.ProviderRegistrar)}</code>
+     * method.
+     * </p>
+     *
+     * @param recTestStatus the success/failure status of the test case
+     *
+     * @param cntRqsts      the number of ingest data request messages transmitted
+     * @param cntRejects    the number of request messages rejected by the Ingestion Service (or with exceptions)
+     * @param szRqsts       the total serialized size of the transmitted request messages (in bytes)
+     * @param durIngest     the wall clock time taken from first frame offered until the stream was closed
+     * @param dblDataRate   the sustained data rate achieved in evaluation (MBps)
+     * @param durLatP50     the 50th percentile request acknowledgment latency (bidirectional streams only)
+     * @param durLatP99     the 99th percentile request acknowledgment latency (bidirectional streams only)
+     * @param durLatMax     the maximum request acknowledgment latency (bidirectional streams only)
+     * @param dblCpuPerMb   the process CPU time per MByte transmitted (ms/MB), or NaN if unavailable
+     *
+     * @param recTestCase   the test case record for the current result
+     *
+     * @return  a new <code>IngestionStreamTestResult</code> record populated with the given argument values
+     */
+    public static IngestionStreamTestResult from(
+            ResultStatus            recTestStatus,
+
+            long                    cntRqsts,
+            long                    cntRejects,
+            long                    szRqsts,
+            Duration                durIngest,
+            double                  dblDataRate,
+            Duration                durLatP50,
+            Duration                durLatP99,
+            Duration                durLatMax,
+            double                  dblCpuPerMb,
+
+            IngestionStreamTestCase recTestCase
+            )
+    {
+        return new IngestionStreamTestResult(
+                recTestStatus,
+                cntRqsts, cntRejects, szRqsts, durIngest, dblDataRate,
+                durLatP50, durLatP99, durLatMax, dblCpuPerMb,
+                recTestCase
+                );
+    }
+
+    /**
+     * <p>
+     * Creates a new instance of <code>IngestionStreamTestResult</code> for the case of a test evaluation failure.
+     * </p>
+     * <p>
+     * This creator is intended for use whenever a
+     * <code>{@link IngestionStreamTestCase#evaluate(com.ospreydcs.dp.api.ingest.impl.DpIngestionStreamImpl, java.util.List, com.ospreydcs.dp.api.common.ProviderRegistrar)}</code>
+     * operation fails; that is, an exception is thrown internally.  The cause of the failure (and a message) should
+     * be included in the <code>recTestStatus</code> argument.
+     * </p>
+     *
+     * @param recTestStatus the cause of the failure
+     * @param recTestCase   the test case that failed
+     *
+     * @return  a new <code>IngestionStreamTestResult</code> instance containing test evaluation failure information
+     *
+     * @throws IllegalArgumentException     the status argument indicates <code>{@link ResultStatus#SUCCESS}</code>
+     */
+    public static IngestionStreamTestResult from(
+            ResultStatus            recTestStatus,
+            IngestionStreamTestCase recTestCase
+            ) throws IllegalArgumentException
+    {
+        // Check status argument
+        if (recTestStatus.isSuccess())
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - The status argument indicates sucess.");
+
+        // Create and return an empty record
+        return new IngestionStreamTestResult(
+                recTestStatus,
+                0L, 0L, 0L, Duration.ZERO, 0.0,
+                Duration.ZERO, Duration.ZERO, Duration.ZERO, Double.NaN,
+                recTestCase
+                );
+    }
+
+
+    //
+    // Tools
+    //
+
+    /**
+     * <p>
+     * Creates and returns a new <code>Comparator</code> provide a descending (reverse) ordering according to data rates.
+     * </p>
+     * <p>
+     * The returned comparator instance compares the <code>{@link #dblDataRate}</code> fields of two
+     * <code>IngestionStreamTestResult</code> records.  It provides a reverse ordering of records according
+     * to the data rate fields.  Specifically, the highest data rate will appear first in any ordered
+     * Java collection.
+     * </p>
+     *
+     * @return  a new <code>Comparator</code> instance providing a reverse ordering by record data rates
+     */
+    public static Comparator<IngestionStreamTestResult>   descendingRateOrdering() {
+
+        Comparator<IngestionStreamTestResult>   cmp = (r1, r2) -> {
+
+            if (r1.dblDataRate > r2.dblDataRate)
+                return -1;
+            else
+                return +1;
+        };
+
+        return cmp;
+    }
+
+    /**
+     * <p>
+     * Creates and returns a new <code>Comparator</code> provide an ascending (natural) ordering according to data rates.
+     * </p>
+     * <p>
+     * The returned comparator instance compares the <code>{@link #dblDataRate}</code> fields of two
+     * <code>IngestionStreamTestResult</code> records.  It provides a natural ordering of records according
+     * to the data rate fields.  Specifically, the lowest data rate will appear first in any ordered
+     * Java collection.
+     * </p>
+     *
+     * @return  a new <code>Comparator</code> instance providing a natural ordering by record data rates
+     */
+    public static Comparator<IngestionStreamTestResult>    ascendingRateOrdering() {
+
+        Comparator<IngestionStreamTestResult>  cmp = (r1, r2) -> {
+
+            if (r1.dblDataRate < r2.dblDataRate)
+                return -1;
+            else
+                return +1;
+        };
+
+        return cmp;
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Prints out a text description of the record fields to the given output stream.
+     * </p>
+     * <p>
+     * A line-by-line text description of each record field is written to the given output.
+     * The <code>strPad</code> is used to supply an optional whitespace character padding to the
+     * left-hand side header for each line description.
+     * </p>
+     *
+     * @param ps        output stream to receive text description of record fields
+     * @param strPad    white-space padding for each line header (or <code>null</code>)
+     */
+    public void printOut(PrintStream ps, String strPad) {
+        if (strPad == null)
+            strPad = "";
+
+        ps.println(strPad + "Results of Test Case #" + this.recTestCase.indCase());
+        ps.println(strPad + "  Test status                     : " + this.recTestStatus);
+        ps.println(strPad + "  Sustained data rate (MBps)      : " + this.dblDataRate);
+        ps.println(strPad + "  Request messages transmitted    : " + this.cntRqsts);
+        ps.println(strPad + "  Request messages rejected       : " + this.cntRejects);
+        ps.println(strPad + "  Request messages total bytes    : " + this.szRqsts);
+        ps.println(strPad + "  Ingestion duration              : " + this.durIngest);
+        ps.println(strPad + "  Acknowledgment latency p50      : " + this.durLatP50);
+        ps.println(strPad + "  Acknowledgment latency p99      : " + this.durLatP99);
+        ps.println(strPad + "  Acknowledgment latency maximum  : " + this.durLatMax);
+        ps.println(strPad + "  Client CPU time per MB (ms/MB)  : " + this.dblCpuPerMb);
+        ps.println(strPad + "  Test Case Parameters:");
+        this.recTestCase.printOut(ps, strPad + "  ");
+    }
+
+}
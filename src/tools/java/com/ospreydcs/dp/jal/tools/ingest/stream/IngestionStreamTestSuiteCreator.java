@@ -0,0 +1,494 @@
+/*
+ * Project: dp-api-common
+ * File:	IngestionStreamTestSuiteCreator.java
+ * Package: com.ospreydcs.dp.jal.tools.ingest.stream
+ * Type: 	IngestionStreamTestSuiteCreator
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.ingest.stream;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.ospreydcs.dp.api.common.DpGrpcStreamType;
+import com.ospreydcs.dp.api.common.DpTimestampCase;
+import com.ospreydcs.dp.api.config.DpApiConfig;
+import com.ospreydcs.dp.api.config.ingest.DpIngestionConfig;
+import com.ospreydcs.dp.jal.tools.ingest.model.frames.SampleBlockConfig;
+import com.ospreydcs.dp.jal.tools.ingest.model.values.JalScalarType;
+
+/**
+ * <p>
+ * Configurable class that creates collections of <code>IngestionStreamTestCase</code> instances.
+ * </p>
+ * <p>
+ * Generates collections of <code>{@link IngestionStreamTestCase}</code> instances, or "test suites",
+ * according to dynamic configuration.  Specifically, a new <code>IngestionStreamTestSuiteCreator</code> instance
+ * is first configured using the workload methods
+ * <ul>
+ * <li><code>{@link #addPvCount(int)}</code></li>
+ * <li><code>{@link #addSampleCount(int)}</code></li>
+ * <li><code>{@link #addDataType(JalScalarType)}</code></li>
+ * <li><code>{@link #addTimestampCase(DpTimestampCase)}</code></li>
+ * <li><code>{@link #setFrameCount(int)}</code></li>
+ * </ul>
+ * and the ingestion stream configuration methods
+ * <ul>
+ * <li><code>{@link #addStreamType(DpGrpcStreamType)}</code></li>
+ * <li><code>{@link #addStreamCount(int)}</code></li>
+ * <li><code>{@link #addThreadCount(int)}</code></li>
+ * <li><code>{@link #addDecompositionSize(long)}</code></li>
+ * <li><code>{@link #addStagingCapacity(long)}</code></li>
+ * <li><code>{@link #addBackPressure(boolean)}</code></li>
+ * </ul>
+ * which all (except the frame count) can be called repeatedly to create a configuration.
+ * Once configured, method <code>{@link #createTestSuite()}</code> creates the Cartesian product of all
+ * configuration parameters.  Note that the size of the test suite is the product of the sizes of each
+ * parameter set.
+ * </p>
+ * <p>
+ * <h2>NOTES:</h2>
+ * <ul>
+ * <li>
+ * Default values are supplied for any parameter not provided.  The stream configuration defaults are taken
+ * from the Ingestion Service API default configuration.
+ * </li>
+ * <li>
+ * A zero value for the stream count, thread count, or decomposition size disables the corresponding feature.
+ * </li>
+ * </ul>
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class IngestionStreamTestSuiteCreator {
+
+
+    //
+    // Creator
+    //
+
+    /**
+     * <p>
+     * Creates and returns a new, empty <code>IngestionStreamTestSuiteCreator</code> ready for configuration.
+     * </p>
+     *
+     * @return  a new unconfigured instance of <code>IngestionStreamTestSuiteCreator</code>
+     */
+    public static IngestionStreamTestSuiteCreator   create() {
+        return new IngestionStreamTestSuiteCreator();
+    }
+
+
+    //
+    // Application Resources
+    //
+
+    /** Ingestion Service API default configuration parameters */
+    private static final DpIngestionConfig  CFG_DEF = DpApiConfig.getInstance().ingest;
+
+
+    //
+    // Class Constants
+    //
+
+    /** Prefix of the generated PV names */
+    public static final String          STR_PV_PREFIX = "jalIngestEval_";
+
+    /** Sampling period of the generated PVs */
+    public static final Duration        DUR_PERIOD = Duration.ofMillis(1L);
+
+
+    /** Default number of PVs per frame */
+    public static final int             CNT_PVS_DEF = 100;
+
+    /** Default number of samples per frame */
+    public static final int             CNT_SMPLS_DEF = 1000;
+
+    /** Default PV data type */
+    public static final JalScalarType   ENM_TYPE_DEF = JalScalarType.DOUBLE;
+
+    /** Default timestamp representation */
+    public static final DpTimestampCase ENM_TMS_DEF = DpTimestampCase.SAMPLING_CLOCK;
+
+    /** Default number of frames per test case */
+    public static final int             CNT_FRAMES_DEF = 100;
+
+
+    /** Default gRPC stream type */
+    public static final DpGrpcStreamType    ENM_STREAM_DEF = CFG_DEF.stream.type;
+
+    /** Default maximum number of gRPC streams */
+    public static final int             CNT_STREAMS_DEF = CFG_DEF.stream.concurrency.enabled ? CFG_DEF.stream.concurrency.maxStreams : 0;
+
+    /** Default number of frame processing threads */
+    public static final int             CNT_THREADS_DEF = CFG_DEF.concurrency.enabled ? CFG_DEF.concurrency.maxThreads : 0;
+
+    /** Default frame decomposition size */
+    public static final long            SZ_DECOMP_DEF = CFG_DEF.decompose.enabled ? CFG_DEF.decompose.maxSize : 0L;
+
+    /** Default message staging capacity */
+    public static final long            SZ_STAGING_DEF = CFG_DEF.stream.buffer.allocation;
+
+    /** Default staging back pressure */
+    public static final boolean         BOL_BACKPRESSURE_DEF = CFG_DEF.stream.buffer.backPressure;
+
+
+    //
+    // Instance Configuration
+    //
+
+    /** Collection of PV counts for test suite */
+    private final Set<Integer>          setPvCnts = new TreeSet<>();
+
+    /** Collection of sample counts for test suite */
+    private final Set<Integer>          setSmplCnts = new TreeSet<>();
+
+    /** Collection of PV data types for test suite */
+    private final Set<JalScalarType>    setTypes = new TreeSet<>();
+
+    /** Collection of timestamp representations for test suite */
+    private final Set<DpTimestampCase>  setTmsCases = new TreeSet<>();
+
+    /** Collection of gRPC stream types for test suite */
+    private final Set<DpGrpcStreamType> setStrmTypes = new TreeSet<>();
+
+    /** Collection of maximum gRPC stream counts for test suite */
+    private final Set<Integer>          setStrmCnts = new TreeSet<>();
+
+    /** Collection of frame processing thread counts for test suite */
+    private final Set<Integer>          setThrdCnts = new TreeSet<>();
+
+    /** Collection of frame decomposition sizes for test suite */
+    private final Set<Long>             setDecompSzs = new TreeSet<>();
+
+    /** Collection of message staging capacities for test suite */
+    private final Set<Long>             setStagingCaps = new TreeSet<>();
+
+    /** Collection of back pressure selections for test suite */
+    private final Set<Boolean>          setBackPressure = new TreeSet<>();
+
+
+    /** The number of frames per test case */
+    private int                         cntFrames = CNT_FRAMES_DEF;
+
+
+    //
+    //  Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new, unconfigured <code>IngestionStreamTestSuiteCreator</code> instance.
+     * </p>
+     *
+     */
+    public IngestionStreamTestSuiteCreator() {
+    }
+
+
+    //
+    // Configuration - Workload
+    //
+
+    /**
+     * @param cntPvs    number of PVs (i.e., columns) per ingestion frame for test suite generation
+     */
+    public void addPvCount(int cntPvs) {
+        this.setPvCnts.add(cntPvs);
+    }
+
+    /**
+     * @param setCnts   collection of PV counts per ingestion frame for test suite generation
+     */
+    public void addPvCounts(Collection<Integer> setCnts) {
+        this.setPvCnts.addAll(setCnts);
+    }
+
+    /**
+     * @param cntSmpls  number of samples (i.e., rows) per ingestion frame for test suite generation
+     */
+    public void addSampleCount(int cntSmpls) {
+        this.setSmplCnts.add(cntSmpls);
+    }
+
+    /**
+     * @param setCnts   collection of sample counts per ingestion frame for test suite generation
+     */
+    public void addSampleCounts(Collection<Integer> setCnts) {
+        this.setSmplCnts.addAll(setCnts);
+    }
+
+    /**
+     * @param enmType   PV data type for test suite generation
+     */
+    public void addDataType(JalScalarType enmType) {
+        this.setTypes.add(enmType);
+    }
+
+    /**
+     * @param setTypes  collection of PV data types for test suite generation
+     */
+    public void addDataTypes(Collection<JalScalarType> setTypes) {
+        this.setTypes.addAll(setTypes);
+    }
+
+    /**
+     * @param enmTmsCase    timestamp representation for test suite generation
+     */
+    public void addTimestampCase(DpTimestampCase enmTmsCase) {
+        this.setTmsCases.add(enmTmsCase);
+    }
+
+    /**
+     * <p>
+     * Sets the number of ingestion frames ingested by each test case.
+     * </p>
+     *
+     * @param cntFrames number of frames per test case (&gt;0)
+     */
+    public void setFrameCount(int cntFrames) {
+        this.cntFrames = cntFrames;
+    }
+
+
+    //
+    // Configuration - Ingestion Stream
+    //
+
+    /**
+     * @param enmType   gRPC stream type for test suite generation (<code>FORWARD</code> or <code>BIDIRECTIONAL</code>)
+     */
+    public void addStreamType(DpGrpcStreamType enmType) {
+        this.setStrmTypes.add(enmType);
+    }
+
+    /**
+     * @param setTypes  collection of gRPC stream types for test suite generation
+     */
+    public void addStreamTypes(Collection<DpGrpcStreamType> setTypes) {
+        this.setStrmTypes.addAll(setTypes);
+    }
+
+    /**
+     * @param cntStreams    maximum number of concurrent gRPC streams for test suite generation (0 for single stream)
+     */
+    public void addStreamCount(int cntStreams) {
+        this.setStrmCnts.add(cntStreams);
+    }
+
+    /**
+     * @param setCnts   collection of maximum gRPC stream counts for test suite generation
+     */
+    public void addStreamCounts(Collection<Integer> setCnts) {
+        this.setStrmCnts.addAll(setCnts);
+    }
+
+    /**
+     * @param cntThreads    number of frame processing threads for test suite generation (0 for no concurrency)
+     */
+    public void addThreadCount(int cntThreads) {
+        this.setThrdCnts.add(cntThreads);
+    }
+
+    /**
+     * @param setCnts   collection of frame processing thread counts for test suite generation
+     */
+    public void addThreadCounts(Collection<Integer> setCnts) {
+        this.setThrdCnts.addAll(setCnts);
+    }
+
+    /**
+     * @param szDecomp  maximum frame allocation before decomposition for test suite generation (0 for no decomposition)
+     */
+    public void addDecompositionSize(long szDecomp) {
+        this.setDecompSzs.add(szDecomp);
+    }
+
+    /**
+     * @param setSizes  collection of frame decomposition sizes for test suite generation
+     */
+    public void addDecompositionSizes(Collection<Long> setSizes) {
+        this.setDecompSzs.addAll(setSizes);
+    }
+
+    /**
+     * @param szCapacity    message staging buffer capacity (bytes) for test suite generation
+     */
+    public void addStagingCapacity(long szCapacity) {
+        this.setStagingCaps.add(szCapacity);
+    }
+
+    /**
+     * @param setCaps   collection of message staging buffer capacities for test suite generation
+     */
+    public void addStagingCapacities(Collection<Long> setCaps) {
+        this.setStagingCaps.addAll(setCaps);
+    }
+
+    /**
+     * @param bolBackPressure   staging back pressure selection for test suite generation
+     */
+    public void addBackPressure(boolean bolBackPressure) {
+        this.setBackPressure.add(bolBackPressure);
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Creates a new test suite of <code>IngestionStreamTestCase</code> instances according to the current configuration.
+     * </p>
+     * <p>
+     * The returned list is ordered by workload; all stream configurations for a given workload are contiguous.
+     * If a test suite configuration parameter was not assigned then a single default value is assigned for
+     * that parameter (see the <code>..._DEF</code> class constants).
+     * </p>
+     *
+     * @return  an enumerated collection of test cases for the test suite parameters
+     */
+    public List<IngestionStreamTestCase> createTestSuite() {
+
+        // Check state
+        this.defaultConfiguration();
+
+        // Create returned container and populate it by enumerating through all test suite parameters
+        List<IngestionStreamTestCase>   lstCases = new LinkedList<>();
+
+        for (Integer cntPvs : this.setPvCnts)
+            for (Integer cntSmpls : this.setSmplCnts)
+                for (JalScalarType enmType : this.setTypes)
+                    for (DpTimestampCase enmTms : this.setTmsCases) {
+                        SampleBlockConfig   recBlkCfg = SampleBlockConfig.from(createPvNames(cntPvs), enmType, enmTms, cntSmpls, DUR_PERIOD);
+
+                        for (DpGrpcStreamType enmStrmType : this.setStrmTypes)
+                            for (Integer cntStrms : this.setStrmCnts)
+                                for (Integer cntThrds : this.setThrdCnts)
+                                    for (Long szDecomp : this.setDecompSzs)
+                                        for (Long szStaging : this.setStagingCaps)
+                                            for (Boolean bolBackPressure : this.setBackPressure) {
+                                                IngestionStreamTestCase recCase = IngestionStreamTestCase.from(
+                                                        recBlkCfg, this.cntFrames,
+                                                        enmStrmType, cntStrms, cntThrds, szDecomp, szStaging, bolBackPressure);
+
+                                                lstCases.add(recCase);
+                                            }
+                    }
+
+        return lstCases;
+    }
+
+    /**
+     * <p>
+     * Prints out text description of the current test suite configuration to the given output stream.
+     * </p>
+     * <p>
+     * The <code>strPad</code> is assumed to be optional white space characters providing left-hand
+     * side padding to the field headers.
+     * </p>
+     *
+     * @param ps        output stream to receive text description
+     * @param strPad    optional left-hand side white space padding (or <code>null</code>)
+     */
+    public void printOut(PrintStream ps, String strPad) {
+        if (strPad == null)
+            strPad = "";
+
+        ps.println(strPad + "PV Counts per Frame     : " + this.setPvCnts);
+        ps.println(strPad + "Sample Counts per Frame : " + this.setSmplCnts);
+        ps.println(strPad + "PV Data Types           : " + this.setTypes);
+        ps.println(strPad + "Timestamp Cases         : " + this.setTmsCases);
+        ps.println(strPad + "Frames per Test Case    : " + this.cntFrames);
+        ps.println(strPad + "gRPC Stream Types       : " + this.setStrmTypes);
+        ps.println(strPad + "Maximum gRPC Streams    : " + this.setStrmCnts);
+        ps.println(strPad + "Processing Threads      : " + this.setThrdCnts);
+        ps.println(strPad + "Decomposition Sizes     : " + this.setDecompSzs);
+        ps.println(strPad + "Staging Capacities      : " + this.setStagingCaps);
+        ps.println(strPad + "Staging Back Pressure   : " + this.setBackPressure);
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Checks the configuration collections and assigns a default configuration if not initialized.
+     * </p>
+     * <p>
+     * Each empty parameter collection is assigned the corresponding <code>..._DEF</code> class constant.
+     * </p>
+     */
+    private void    defaultConfiguration() {
+
+        if (this.setPvCnts.isEmpty())
+            this.setPvCnts.add(CNT_PVS_DEF);
+        if (this.setSmplCnts.isEmpty())
+            this.setSmplCnts.add(CNT_SMPLS_DEF);
+        if (this.setTypes.isEmpty())
+            this.setTypes.add(ENM_TYPE_DEF);
+        if (this.setTmsCases.isEmpty())
+            this.setTmsCases.add(ENM_TMS_DEF);
+
+        if (this.setStrmTypes.isEmpty())
+            this.setStrmTypes.add(ENM_STREAM_DEF);
+        if (this.setStrmCnts.isEmpty())
+            this.setStrmCnts.add(CNT_STREAMS_DEF);
+        if (this.setThrdCnts.isEmpty())
+            this.setThrdCnts.add(CNT_THREADS_DEF);
+        if (this.setDecompSzs.isEmpty())
+            this.setDecompSzs.add(SZ_DECOMP_DEF);
+        if (this.setStagingCaps.isEmpty())
+            this.setStagingCaps.add(SZ_STAGING_DEF);
+        if (this.setBackPressure.isEmpty())
+            this.setBackPressure.add(BOL_BACKPRESSURE_DEF);
+    }
+
+    /**
+     * <p>
+     * Creates the set of PV names for the given PV count.
+     * </p>
+     *
+     * @param cntPvs    number of PV names
+     *
+     * @return  ordered set of PV names {@value #STR_PV_PREFIX}1, ..., {@value #STR_PV_PREFIX}<code>cntPvs</code>
+     */
+    private static Set<String>  createPvNames(int cntPvs) {
+        return IntStream.rangeClosed(1, cntPvs)
+                .mapToObj(i -> STR_PV_PREFIX + i)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Project: dp-api-common
+ * File:	package-info.java
+ * Package: com.ospreydcs.dp.jal.tools.ingest.stream
+ * Type: 	package-info
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ */
+/**
+ * <p>
+ * Package containing JAL Tools applications for evaluating the performance of the Ingestion Service API
+ * ingestion stream under different stream configurations.
+ * </p> 
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+package com.ospreydcs.dp.jal.tools.ingest.stream;
\ No newline at end of file
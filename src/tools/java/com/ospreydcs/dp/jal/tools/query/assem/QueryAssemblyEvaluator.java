@@ -26,10 +26,13 @@
 package com.ospreydcs.dp.jal.tools.query.assem;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.MissingResourceException;
@@ -54,6 +57,9 @@ import com.ospreydcs.dp.api.query.model.assem.QueryResponseAssembler;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.api.util.Log4j;
 import com.ospreydcs.dp.jal.tools.common.DataRateLister;
+import com.ospreydcs.dp.jal.tools.common.ResultExporter;
+import com.ospreydcs.dp.jal.tools.common.TrialRunner;
+import com.ospreydcs.dp.jal.tools.common.TrialSet;
 import com.ospreydcs.dp.jal.tools.config.JalToolsConfig;
 import com.ospreydcs.dp.jal.tools.query.testrequests.TestArchiveRequest;
 import com.sun.jdi.request.InvalidRequestStateException;
@@ -124,11 +130,15 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
         // Get the test suite configuration and output location from the application arguments
         String                          strOutputLoc;
         QueryAssemblyTestSuiteCreator   cfgTestSuite;
+        TrialRunner<QueryAssemblyTestResult>    runTrials;
         try {
             
             cfgTestSuite = QueryAssemblyEvaluator.parseTestSuiteConfig(args);
             strOutputLoc = JalApplicationBase.parseOutputLocation(args, STR_OUTPUT_DEF);
             
+            runTrials = QueryAssemblyEvaluator.createTrialRunner();
+            runTrials.parseAppArgs(args);
+            
         } catch (Exception e) {
             
             JalApplicationBase.terminateWithException(QueryAssemblyEvaluator.class, e, ExitCode.INTPUT_ARG_INVALID);
@@ -142,14 +152,17 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
         
         // Create the query assembly evaluator and run it
         try {
-            QueryAssemblyEvaluator    evaluator = new QueryAssemblyEvaluator(cfgTestSuite, strOutputLoc, args);
+            QueryAssemblyEvaluator    evaluator = new QueryAssemblyEvaluator(cfgTestSuite, runTrials, strOutputLoc, args);
             
             evaluator.run();
             evaluator.writeReport();
+            List<Path>  lstExports = evaluator.exportResults();
             evaluator.shutdown();
             
             System.out.println(STR_APP_NAME + " Execution completed in " + evaluator.getRunDuration());
             System.out.println("  Results stored at " + evaluator.getOutputFilePath().toAbsolutePath());
+            for (Path pathExport : lstExports)
+                System.out.println("  Results exported to " + pathExport.toAbsolutePath());
             System.exit(ExitCode.SUCCESS.getCode());
             
         } catch (DpGrpcException e) {
@@ -279,6 +292,9 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
             STR_VAR_TBL_STAT_MAX_ENBL,
             STR_VAR_TBL_STAT_MAX_SZ,
             
+            TrialRunner.STR_VAR_WARMUP,
+            TrialRunner.STR_VAR_REPEATS,
+            
             STR_VAR_OUTPUT      // from base class
             );
     
@@ -348,6 +364,8 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
           + " [" + STR_VAR_TBL_STAT_MAX_ENBL + " FALSE TRUE]"
           + " [" + STR_VAR_TBL_STAT_MAX_SZ + "S1 ... Sn]"
           + STR_LINE_BREAK
+          + " [" + TrialRunner.STR_VAR_WARMUP + " W]"
+          + " [" + TrialRunner.STR_VAR_REPEATS + " R]"
           + " [" + STR_VAR_OUTPUT +" Output]"
           + "\n\n" 
           + "  Where  \n"
@@ -372,6 +390,7 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
           + "    " + STR_VAR_TBL_STAT_DEF + " = Use static tables as default in JalDataTableType.AUTO table creation - { FALSE, TRUE}. \n"
           + "    " + STR_VAR_TBL_STAT_MAX_ENBL + " = Enable/disable maximum size enforcement for static tables - { FALSE, TRUE }. \n"
           + "    S1, ..., Sn   = Maximum allowable static data table size - Long value(s). \n"
+          + TrialRunner.STR_ARGS_USAGE
           + "    Output        = output directory path, or '" + STR_ARG_VAL_STDOUT + "'. \n"
           + "\n"
           + "  NOTES: \n"
@@ -380,6 +399,8 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
           + "  - The default " + STR_VAR_TBL_BLD_ENBL + " value is '" + BOL_TBL_BLD_ENBL_DEF + "'. \n"
           + "  - Currently the option " + STR_VAR_TBL_BLD_ENBL + " is ignored, that is, data tables are always created. \n"
           + "  - The default " + STR_VAR_TBL_TYPE + " value is '" + ENM_TBL_TYPE_DEF + "'. \n"
+          + "  - Default " + TrialRunner.STR_VAR_WARMUP + " and " + TrialRunner.STR_VAR_REPEATS + " values are "
+          +       TrialRunner.CNT_WARMUP_DEF + " and " + TrialRunner.CNT_REPEATS_DEF + "; the median assembly rate trial is scored. \n"
           + "  - Default " + STR_VAR_OUTPUT + " value is " + STR_OUTPUT_DEF + ".\n";
 
     
@@ -404,6 +425,9 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
     /** The (pre-configured) test suite creator used for <code>QueryAssemblyTestCase</code> instance generation */
     private final QueryAssemblyTestSuiteCreator       cfgTestSuite;
     
+    /** The warmup and repeated trial runner for each test case */
+    private final TrialRunner<QueryAssemblyTestResult>  runTrials;
+    
     
     //
     // Instance Resources
@@ -422,6 +446,9 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
     /** The collection of test failures seen in evaluations */
     private final Collection<QueryAssemblyTestFailure>  setTestFails;
     
+    /** The measured trials of each test case, in order of evaluation */
+    private final List<TrialSet<QueryAssemblyTestResult>>   lstTestTrials;
+    
     
     //
     // State Variables
@@ -461,6 +488,8 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
      * Constructs a new <code>QueryAssemblyEvaluator</code> instance.
      * </p>
      *
+     * @param cfgTestSuite  the pre-configured test suite generator
+     * @param runTrials     the warmup and repeated trial runner for each test case
      * @param strOutputLoc  path location for the output file
      * @param args          application command-line arguments
      * 
@@ -470,7 +499,7 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
      * @throws FileNotFoundException    unable to create output file (see message and cause)
      * @throws SecurityException        unable to write to output file
      */
-    public QueryAssemblyEvaluator(QueryAssemblyTestSuiteCreator cfgTestSuite, String strOutputLoc, String... args) 
+    public QueryAssemblyEvaluator(QueryAssemblyTestSuiteCreator cfgTestSuite, TrialRunner<QueryAssemblyTestResult> runTrials, String strOutputLoc, String... args) 
             throws DpGrpcException, 
                    ConfigurationException, 
                    UnsupportedOperationException, FileNotFoundException, SecurityException 
@@ -478,6 +507,7 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
         super(QueryAssemblyEvaluator.class, args);
         
         this.cfgTestSuite = cfgTestSuite;
+        this.runTrials = runTrials;
         
         // Create resources
         this.prcrRqstRcvry = QueryRequestRecoverer.from(super.connQuery);
@@ -486,6 +516,7 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
         this.setTestCases = cfgTestSuite.createTestSuite();
         this.setTestResults = new TreeSet<>(QueryAssemblyTestResult.descendingAssmRateOrdering());
         this.setTestFails = new TreeSet<>(QueryAssemblyTestFailure.ascendingIndexOrdering());
+        this.lstTestTrials = new ArrayList<>(this.setTestCases.size());
         
         // Create the output stream and attach Logger to it - records fatal errors to output file
         super.openOutputStream(strOutputLoc); // throws SecurityException, FileNotFoundException, UnsupportedOperationException
@@ -503,7 +534,11 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
      * <p>
      * Runs the application evaluating all test cases within the test suite configuration.
      * </p>
-     * 
+     * <p>
+     * Each test case is evaluated by the trial runner <code>{@link #runTrials}</code>, first for the warmup
+     * iterations then for the measured trials.  The measured trials are stored in <code>{@link #lstTestTrials}</code>
+     * and the representative (median assembly rate) trial result is stored in <code>{@link #setTestResults}</code>.
+     * </p>
      */
     public void run() {
 
@@ -520,9 +555,10 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
         // Iterate over each test case in test suite
         Instant insStart = Instant.now();
         for (QueryAssemblyTestCase recTestCase : this.setTestCases) {
-            QueryAssemblyTestResult recTestResult = recTestCase.evaluate(this.prcrRqstRcvry); // throws DpQueryException
+            TrialSet<QueryAssemblyTestResult>   recTrials = this.runTrials.run(() -> recTestCase.evaluate(this.prcrRqstRcvry));
             
-            this.setTestResults.add(recTestResult);
+            this.lstTestTrials.add(recTrials);
+            this.setTestResults.add(recTrials.recMedian());
         }
         
         // Collect any test failures
@@ -558,6 +594,36 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
         return this.durEval;
     }
     
+    /**
+     * <p>
+     * Exports the measured trials of all test cases to machine-readable files beside the report file.
+     * </p>
+     * <p>
+     * The export formats are determined by the JAL Tools configuration (see <code>{@link ResultExporter}</code>).
+     * Nothing is exported if the report is written to the console.  Export failures are logged and do not
+     * interrupt the application.
+     * </p>
+     * 
+     * @return  the paths of the exported files
+     * 
+     * @throws IllegalStateException    no results are available (called before <code>{@link #run()}</code>) 
+     */
+    public List<Path>   exportResults() throws IllegalStateException {
+        
+        // Check state
+        if (!super.bolRun)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + "- Test suite has not been run.");
+        
+        try {
+            return ResultExporter.exportBeside(super.getOutputFilePath(), this.lstTestTrials);
+            
+        } catch (IOException e) {
+            LOGGER.error("{} - Unable to export results: {}", JavaRuntime.getQualifiedMethodNameSimple(), e.getMessage());
+            
+            return List.of();
+        }
+    }
+    
     /**
      * <p>
      * Creates a text report of the test suite evaluations and prints it to the output file.
@@ -631,6 +697,11 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
         this.cfgTestSuite.printOut(ps, "  ");
         ps.println();
         
+        // Print out the trial configuration
+        ps.println("Trial Configuration");
+        this.runTrials.printOutConfig(ps, strPad);
+        ps.println();
+        
         // Print out test case data rates
         ps.println("Test Case Data Rates - Raw Data Recovery/Correlation");
         DataRateLister<QueryAssemblyTestResult>  lstrRawRates = DataRateLister.from(
@@ -672,6 +743,11 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
         lstrTotRates.printOut(ps, strPad, this.setTestResults);
         ps.println();
         
+        // Print out the test case trial statistics
+        ps.println("Test Case Trial Statistics");
+        TrialSet.printOutListing(ps, strPad, this.lstTestTrials, rec -> rec.recTestCase().indCase());
+        ps.println();
+        
         
         // Summarize the results and print out
 //        ps.println("Test Results Summary");
@@ -706,6 +782,24 @@ public class QueryAssemblyEvaluator extends JalQueryAppBase<QueryAssemblyEvaluat
     // Support Methods
     //
     
+    /**
+     * <p>
+     * Creates a new trial runner for <code>QueryAssemblyTestResult</code> evaluations with the default configuration.
+     * </p>
+     * <p>
+     * Trials are ranked by the sampled aggregate assembly rate, the focus of the application.
+     * </p>
+     * 
+     * @return  new trial runner extracting assembly rate, assembly duration, and status from query assembly results
+     */
+    private static TrialRunner<QueryAssemblyTestResult> createTrialRunner() {
+        return TrialRunner.from(
+                rec -> rec.dblRateAggAssm(), 
+                rec -> rec.durAggrAssm(), 
+                rec -> rec.recTestStatus().isSuccess()
+                );
+    }
+    
     /**
      * <p>
      * Parse the application command-line argument for the test suite generation configuration and returns it.
@@ -26,12 +26,17 @@
 package com.ospreydcs.dp.jal.tools.query.channel;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.lang.module.ResolutionException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 import java.util.concurrent.CompletionException;
 
@@ -43,13 +48,23 @@ import org.apache.logging.log4j.core.appender.OutputStreamAppender;
 import com.ospreydcs.dp.api.app.ExitCode;
 import com.ospreydcs.dp.api.app.JalApplicationBase;
 import com.ospreydcs.dp.api.app.JalQueryAppBase;
+import com.ospreydcs.dp.api.common.DpGrpcExecutorType;
 import com.ospreydcs.dp.api.common.DpGrpcStreamType;
+import com.ospreydcs.dp.api.common.DpGrpcTransportType;
+import com.ospreydcs.dp.api.config.DpApiConfig;
+import com.ospreydcs.dp.api.config.grpc.DpGrpcConnectionConfig;
 import com.ospreydcs.dp.api.grpc.model.DpGrpcException;
+import com.ospreydcs.dp.api.grpc.query.DpQueryConnection;
+import com.ospreydcs.dp.api.grpc.query.DpQueryConnectionFactory;
 import com.ospreydcs.dp.api.query.DpQueryException;
+import com.ospreydcs.dp.api.query.model.grpc.QueryChannel;
 import com.ospreydcs.dp.api.query.model.request.RequestDecompType;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.api.util.Log4j;
 import com.ospreydcs.dp.jal.tools.common.DataRateLister;
+import com.ospreydcs.dp.jal.tools.common.ResultExporter;
+import com.ospreydcs.dp.jal.tools.common.TrialRunner;
+import com.ospreydcs.dp.jal.tools.common.TrialSet;
 import com.ospreydcs.dp.jal.tools.config.JalToolsConfig;
 import com.ospreydcs.dp.jal.tools.query.correl.DataCorrelationEvaluator;
 import com.ospreydcs.dp.jal.tools.query.testrequests.TestArchiveRequest;
@@ -73,6 +88,8 @@ import com.ospreydcs.dp.jal.tools.query.testrequests.TestArchiveRequest;
  * <li>Data Request Decomposition Strategy(ies)- values identified by the variable delimiter {@value #STR_VAR_RQST_DCMP}. </li>
  * <li>gRPC Stream Type(s) - value(s) identified by the variable {@value #STR_VAR_STRM_TYPE}. </li>
  * <li>gRPC Stream Count(s) - value(s) identified by the variable {@value #STR_VAR_STRM_CNT}. </li>
+ * <li>HTTP/2 Transport Sweep - value(s) identified by the variables {@value #STR_VAR_FC_WINDOW}, {@value #STR_VAR_FC_ADAPT},
+ *     {@value #STR_VAR_XPORT}, {@value #STR_VAR_LOOP_THDS}, {@value #STR_VAR_EXEC}, and {@value #STR_VAR_WBUF_HIGH}. </li>
  * <li>Output Location - an optional path or file identified by the variable {@value #STR_VAR_OUTPUT}. </li>
  * </ol> 
  * Additionally, the following "commands" may be provided:
@@ -89,7 +106,7 @@ import com.ospreydcs.dp.jal.tools.query.testrequests.TestArchiveRequest;
  * More specifically, the command line arguments for the application are as follows:
  * <pre>
  * <code>>
- * >QueryChannelEvaluator R1 [... RN] [{@value #STR_VAR_RQST_DCMP} D1 ...Di] [{@value #STR_VAR_STRM_TYPE} S1 ...Sj] [{@value #STR_VAR_STRM_CNT} N1 ...Nk] [{@value #STR_VAR_OUTPUT} output]
+ * >QueryChannelEvaluator R1 [... RN] [{@value #STR_VAR_RQST_DCMP} D1 ...Di] [{@value #STR_VAR_STRM_TYPE} S1 ...Sj] [{@value #STR_VAR_STRM_CNT} N1 ...Nk] [--warmup W] [--repeats R] [{@value #STR_VAR_OUTPUT} output]
  * </code>
  * </pre>
  * where 
@@ -113,6 +130,13 @@ import com.ospreydcs.dp.jal.tools.query.testrequests.TestArchiveRequest;
  * under the conditions of the test.
  * </p> 
  * <p>
+ * <h2>Transport Sweeps</h2>
+ * If any HTTP/2 transport sweep variables are given, the entire test suite is run once for each combination of
+ * transport parameters (see <code>{@link TransportConfigSweep}</code>).  A new Query Service connection is created
+ * for each combination and the report includes a data rate summary for each.  Otherwise the test suite is run
+ * once on the default Query Service connection.
+ * </p>
+ * <p>
  * <h2>Output</h2>
  * A new output file is created for each application invocation.  The file will be located in the path
  * given by the optional 2nd argument or the default location <code>{@link #STR_OUTPUT_DEF}</code> .  
@@ -178,11 +202,17 @@ public class QueryChannelEvaluator extends JalQueryAppBase<QueryChannelEvaluator
         // Get the test suite configuration and output location from the application arguments
         String                  strOutputLoc;
         QueryChannelTestSuite   suiteEvals;
+        TransportConfigSweep    sweepXport;
+        TrialRunner<QueryChannelTestResult> runTrials;
         try {
             
             suiteEvals = QueryChannelEvaluator.parseTestSuiteConfig(args);
+            sweepXport = QueryChannelEvaluator.parseTransportSweep(args);
             strOutputLoc = JalApplicationBase.parseOutputLocation(args, STR_OUTPUT_DEF);
             
+            runTrials = QueryChannelEvaluator.createTrialRunner();
+            runTrials.parseAppArgs(args);
+            
         } catch (Exception e) {
             
             JalApplicationBase.terminateWithException(DataCorrelationEvaluator.class, e, ExitCode.INTPUT_ARG_INVALID);
@@ -196,14 +226,17 @@ public class QueryChannelEvaluator extends JalQueryAppBase<QueryChannelEvaluator
         
         // Create the evaluator, run it while catching and reporting any exceptions
         try {
-            QueryChannelEvaluator   evaluator = new QueryChannelEvaluator(suiteEvals, strOutputLoc, args);
+            QueryChannelEvaluator   evaluator = new QueryChannelEvaluator(suiteEvals, sweepXport, runTrials, strOutputLoc, args);
             
             evaluator.run();
             evaluator.writeReport();
+            List<Path>  lstExports = evaluator.exportResults();
             evaluator.shutdown();
             
             System.out.println(STR_APP_NAME + " Execution completed in " + evaluator.getRunDuration());
             System.out.println("  Results stored at " + evaluator.getOutputFilePath().toAbsolutePath());
+            for (Path pathExport : lstExports)
+                System.out.println("  Results exported to " + pathExport.toAbsolutePath());
             System.exit(ExitCode.SUCCESS.getCode());
             
         } catch (ConfigurationException | UnsupportedOperationException | FileNotFoundException | SecurityException 
@@ -261,6 +294,24 @@ public class QueryChannelEvaluator extends JalQueryAppBase<QueryChannelEvaluator
     /** Argument variable name identifying gRPC stream sizes */
     public static final String      STR_VAR_STRM_CNT = "--scnts";
     
+    /** Argument variable name identifying HTTP/2 flow-control window sizes */
+    public static final String      STR_VAR_FC_WINDOW = "--fcwins";
+    
+    /** Argument variable name identifying HTTP/2 adaptive flow control flags */
+    public static final String      STR_VAR_FC_ADAPT = "--fcadapt";
+    
+    /** Argument variable name identifying network transport types */
+    public static final String      STR_VAR_XPORT = "--xports";
+    
+    /** Argument variable name identifying transport event loop thread counts */
+    public static final String      STR_VAR_LOOP_THDS = "--elthds";
+    
+    /** Argument variable name identifying callback executor types */
+    public static final String      STR_VAR_EXEC = "--execs";
+    
+    /** Argument variable name identifying socket write buffer high watermarks */
+    public static final String      STR_VAR_WBUF_HIGH = "--wbufs";
+    
     /** Argument variable name identifying output location */
     public static final String      STR_VAR_OUTPUT = "--output";
 
@@ -270,6 +321,14 @@ public class QueryChannelEvaluator extends JalQueryAppBase<QueryChannelEvaluator
             STR_VAR_RQST_DCMP,
             STR_VAR_STRM_TYPE,
             STR_VAR_STRM_CNT, 
+            STR_VAR_FC_WINDOW,
+            STR_VAR_FC_ADAPT,
+            STR_VAR_XPORT,
+            STR_VAR_LOOP_THDS,
+            STR_VAR_EXEC,
+            STR_VAR_WBUF_HIGH,
+            TrialRunner.STR_VAR_WARMUP,
+            TrialRunner.STR_VAR_REPEATS,
             STR_VAR_OUTPUT
             );
     
@@ -302,6 +361,14 @@ public class QueryChannelEvaluator extends JalQueryAppBase<QueryChannelEvaluator
           + " [" + STR_VAR_RQST_DCMP + " D1 ... Dj]"
           + " [" + STR_VAR_STRM_TYPE + " S1 ... Sk]"
           + " [" + STR_VAR_STRM_CNT + " N1 ... Nm]"
+          + " [" + STR_VAR_FC_WINDOW + " W1 ...]"
+          + " [" + STR_VAR_FC_ADAPT + " A1 ...]"
+          + " [" + STR_VAR_XPORT + " T1 ...]"
+          + " [" + STR_VAR_LOOP_THDS + " L1 ...]"
+          + " [" + STR_VAR_EXEC + " E1 ...]"
+          + " [" + STR_VAR_WBUF_HIGH + " B1 ...]"
+          + " [" + TrialRunner.STR_VAR_WARMUP + " W]"
+          + " [" + TrialRunner.STR_VAR_REPEATS + " R]"
           + " [" + STR_VAR_OUTPUT +" Output]"
           + "\n" 
           + "  Where  \n"
@@ -312,12 +379,22 @@ public class QueryChannelEvaluator extends JalQueryAppBase<QueryChannelEvaluator
           + "    D1, ..., Dj   = Request decomposition type(s) - RequestDecompType enumeration name(s). \n"
           + "    S1, ..., Sk   = gRPC stream type(s) - DpGrpcStreamType enumeration name(s). \n"
           + "    N1, ..., Nm   = gRPC stream count(s) peforming request recovery - Integer value(s). \n"
+          + "    W1, ...       = HTTP/2 flow-control window size(s) in bytes, 0 for default - Integer value(s). \n"
+          + "    A1, ...       = HTTP/2 adaptive flow control - Boolean value(s). \n"
+          + "    T1, ...       = Network transport type(s) - DpGrpcTransportType enumeration name(s). \n"
+          + "    L1, ...       = Transport event loop thread count(s), 0 for default - Integer value(s). \n"
+          + "    E1, ...       = Callback executor type(s) - DpGrpcExecutorType enumeration name(s). \n"
+          + "    B1, ...       = Socket write buffer high watermark(s) in bytes, 0 for default - Integer value(s). \n"
+          + TrialRunner.STR_ARGS_USAGE
           + "    " + STR_VAR_OUTPUT + "    = output directory w/wout file path, or '" + STR_ARG_VAL_STDOUT + "'. \n"
           + "\n"
           + "  NOTES: \n"
           + "  - All bracketed quantities [...] are optional. \n"
           + "  - PV1, ..., PVj values are strictly optional. \n"
           + "  - If values are not provided for " + STR_VAR_STRM_TYPE + " and/or " + STR_VAR_STRM_CNT + ", default values are provided. \n "
+          + "  - The test suite is run for every combination of transport values W, A, T, L, E, B (if any). \n"
+          + "  - Default " + TrialRunner.STR_VAR_WARMUP + " and " + TrialRunner.STR_VAR_REPEATS + " values are "
+          +       TrialRunner.CNT_WARMUP_DEF + " and " + TrialRunner.CNT_REPEATS_DEF + ". \n"
           + "  - Default " + STR_VAR_OUTPUT + " value is " + STR_OUTPUT_DEF + ".\n";
 
     
@@ -354,6 +431,12 @@ public class QueryChannelEvaluator extends JalQueryAppBase<QueryChannelEvaluator
     /** The test suite used for <code>QueryChannel</code> evaluations */
     private final QueryChannelTestSuite     suiteEvals;
     
+    /** The (optional) HTTP/2 transport parameter sweep */
+    private final TransportConfigSweep      sweepXport;
+    
+    /** The warmup and repeated trial runner for each test case */
+    private final TrialRunner<QueryChannelTestResult>   runTrials;
+    
     
     //
     // Instance Resources
@@ -368,6 +451,12 @@ public class QueryChannelEvaluator extends JalQueryAppBase<QueryChannelEvaluator
     /** The collection of test result failures */
     private final Collection<QueryChannelTestResult>    setFailures;
     
+    /** The test results for each transport configuration of the sweep (keyed by configuration label) */
+    private final Map<String, Collection<QueryChannelTestResult>>   mapXportResults;
+    
+    /** The measured trials of each test case (for every transport configuration), in order of evaluation */
+    private final List<TrialSet<QueryChannelTestResult>>    lstTrials;
+    
     
     //
     // State Variables
@@ -402,16 +491,73 @@ public class QueryChannelEvaluator extends JalQueryAppBase<QueryChannelEvaluator
      * @throws SecurityException                unable to write to the output file                 
      */
     public QueryChannelEvaluator(QueryChannelTestSuite suiteEvals, String strOutputLoc, String...args) throws DpGrpcException, ConfigurationException, UnsupportedOperationException, FileNotFoundException, SecurityException {
+        this(suiteEvals, TransportConfigSweep.create(), strOutputLoc, args);
+    }
+    
+    /**
+     * <p>
+     * Constructs a new <code>QueryChannelEvaluator</code> instance with HTTP/2 transport parameter sweep.
+     * </p>
+     * <p>
+     * Creates and initializes a new <code>QueryChannelEvaluator</code> instance.  
+     * All instance resources are created.  Query Service connections are established.
+     * Exceptions are thrown if any resource creation fails.  If the given transport sweep is empty
+     * the test suite is run only on the default Query Service connection.
+     * </p>
+     *
+     * @param suiteEvals    the test suite configuration to be run
+     * @param sweepXport    the HTTP/2 transport parameter sweep (may be empty)
+     * @param strOutputLoc  the location of the evaluations report
+     * @param args          the command-line arguments
+     * 
+     * @throws DpGrpcException                  unable to establish connection to the Query Service (see message and cause)
+     * @throws ConfigurationException           no data requests contained in test suite configuration
+     * @throws UnsupportedOperationException    the output file path did not belong to the file system
+     * @throws FileNotFoundException            unable to create the output file
+     * @throws SecurityException                unable to write to the output file                 
+     */
+    public QueryChannelEvaluator(QueryChannelTestSuite suiteEvals, TransportConfigSweep sweepXport, String strOutputLoc, String...args) throws DpGrpcException, ConfigurationException, UnsupportedOperationException, FileNotFoundException, SecurityException {
+        this(suiteEvals, sweepXport, QueryChannelEvaluator.createTrialRunner(), strOutputLoc, args);
+    }
+    
+    /**
+     * <p>
+     * Constructs a new <code>QueryChannelEvaluator</code> instance with HTTP/2 transport parameter sweep and trial runner.
+     * </p>
+     * <p>
+     * Creates and initializes a new <code>QueryChannelEvaluator</code> instance.  
+     * All instance resources are created.  Query Service connections are established.
+     * Exceptions are thrown if any resource creation fails.  Each test case is evaluated with the given
+     * trial runner, which performs the warmup iterations and measured trials.
+     * </p>
+     *
+     * @param suiteEvals    the test suite configuration to be run
+     * @param sweepXport    the HTTP/2 transport parameter sweep (may be empty)
+     * @param runTrials     the warmup and repeated trial runner for each test case
+     * @param strOutputLoc  the location of the evaluations report
+     * @param args          the command-line arguments
+     * 
+     * @throws DpGrpcException                  unable to establish connection to the Query Service (see message and cause)
+     * @throws ConfigurationException           no data requests contained in test suite configuration
+     * @throws UnsupportedOperationException    the output file path did not belong to the file system
+     * @throws FileNotFoundException            unable to create the output file
+     * @throws SecurityException                unable to write to the output file                 
+     */
+    public QueryChannelEvaluator(QueryChannelTestSuite suiteEvals, TransportConfigSweep sweepXport, TrialRunner<QueryChannelTestResult> runTrials, String strOutputLoc, String...args) throws DpGrpcException, ConfigurationException, UnsupportedOperationException, FileNotFoundException, SecurityException {
         super(QueryChannelEvaluator.class, args);
         
         // Get the defining attributes
         this.suiteEvals = suiteEvals;
+        this.sweepXport = sweepXport;
+        this.runTrials = runTrials;
         this.strInputName = suiteEvals.getName();
         
         // Create the collection of test cases and container for results
         this.setCases = this.suiteEvals.createTestSuite();  // throws ConfigurationException
         this.setResults = new TreeSet<>(QueryChannelTestResult.descendingRateOrdering());
         this.setFailures = new TreeSet<>();
+        this.mapXportResults = new LinkedHashMap<>();
+        this.lstTrials = new ArrayList<>();
         
         // Create the output stream and attach Logger to it - records fatal errors to output file
         super.openOutputStream(strOutputLoc); // throws SecurityException, FileNotFoundException, UnsupportedOperationException
@@ -473,17 +619,24 @@ public class QueryChannelEvaluator extends JalQueryAppBase<QueryChannelEvaluator
         this.bolRun = true;
         
         // Run all test cases on  QueryChannel subject
-        int indCase = 1;
-       
         LOGGER.info("Running {} test cases for test suite {}...", CNT_CASES, this.strInputName);
         Instant insStart = Instant.now();
-        for (QueryChannelTestCase recCase : this.setCases) {
-            LOGGER.info("Running test case #{} of {} (with index {}) ...", indCase, CNT_CASES, recCase.indCase());
+        if (this.sweepXport.isEmpty()) {
+            this.setResults.addAll( this.runTestCases(super.chanQuery) );
             
-            QueryChannelTestResult recResult = recCase.evaluate(super.chanQuery, super.bufDataMsgs); // throws exceptions
+        } else {
+            DpGrpcConnectionConfig          cfgBase = DpApiConfig.getInstance().connections.query;
+            List<DpGrpcConnectionConfig>    lstCfgs = this.sweepXport.createConfigurations(cfgBase);
             
-            this.setResults.add(recResult);
-            indCase++;
+            for (DpGrpcConnectionConfig cfgXport : lstCfgs) {
+                String  strLabel = TransportConfigSweep.createLabel(cfgXport);
+                
+                LOGGER.info("Running test cases for transport configuration {}", strLabel);
+                Collection<QueryChannelTestResult>  setXportResults = this.runTestCases(cfgXport);
+                
+                this.mapXportResults.put(strLabel, setXportResults);
+                this.setResults.addAll(setXportResults);
+            }
         }
         Instant insFinish = Instant.now();
         
@@ -515,6 +668,36 @@ public class QueryChannelEvaluator extends JalQueryAppBase<QueryChannelEvaluator
         return this.durEval;
     }
     
+    /**
+     * <p>
+     * Exports the measured trials of all test cases to machine-readable files beside the report file.
+     * </p>
+     * <p>
+     * The export formats are determined by the JAL Tools configuration (see <code>{@link ResultExporter}</code>).
+     * Nothing is exported if the report is written to the console.  Export failures are logged and do not
+     * interrupt the application.
+     * </p>
+     * 
+     * @return  the paths of the exported files
+     * 
+     * @throws IllegalStateException    no results are available (called before <code>{@link #run()}</code>) 
+     */
+    public List<Path>   exportResults() throws IllegalStateException {
+        
+        // Check state
+        if (!super.bolRun)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + "- Test suite has not been run.");
+        
+        try {
+            return ResultExporter.exportBeside(super.getOutputFilePath(), this.lstTrials);
+            
+        } catch (IOException e) {
+            LOGGER.error("{} - Unable to export results: {}", JavaRuntime.getQualifiedMethodNameSimple(), e.getMessage());
+            
+            return List.of();
+        }
+    }
+    
     /**
      * <p>
      * Creates a text report of the test suite evaluations and prints it to the output file.
@@ -583,6 +766,27 @@ public class QueryChannelEvaluator extends JalQueryAppBase<QueryChannelEvaluator
         this.suiteEvals.printOut(ps, strPad);
         ps.println();
         
+        ps.println("Trial Configuration");
+        this.runTrials.printOutConfig(ps, strPad);
+        ps.println();
+        
+        // Print out the transport sweep summary
+        if (!this.sweepXport.isEmpty()) {
+            ps.println("Transport Configuration Sweep");
+            this.sweepXport.printOut(ps, strPad);
+            ps.println();
+            
+            QueryChannelTestsSummary.assignTargetDataRate(DBL_RATE_TARGET);
+            for (Map.Entry<String, Collection<QueryChannelTestResult>> entry : this.mapXportResults.entrySet()) {
+                QueryChannelTestsSummary    recSummary = QueryChannelTestsSummary.summarize(entry.getValue());
+                
+                ps.println(strPad + entry.getKey());
+                ps.println(strPad + strPad + "Average data rate (MBps) : " + recSummary.dblRateAvg() + " +/- " + recSummary.dblRateStd());
+                ps.println(strPad + strPad + "Maximum data rate (MBps) : " + recSummary.dblRateMax());
+            }
+            ps.println();
+        }
+        
         // Print out test case data rates
         ps.println("Test Case Data Rates");
         DataRateLister<QueryChannelTestResult>  lstrRates = DataRateLister.from(
@@ -595,6 +799,11 @@ public class QueryChannelEvaluator extends JalQueryAppBase<QueryChannelEvaluator
 //        QueryChannelTestsSummary.printOutDataRates(ps, "  ", this.setResults);
         ps.println();
         
+        // Print out test case trial statistics
+        ps.println("Test Case Trial Statistics");
+        TrialSet.printOutListing(ps, strPad, this.lstTrials, rec -> rec.recTestCase().indCase());
+        ps.println();
+        
         // Print out results summary
         QueryChannelTestsSummary.assignTargetDataRate(DBL_RATE_TARGET);
         QueryChannelTestsSummary  recSummary = QueryChannelTestsSummary.summarize(this.setResults);
@@ -624,6 +833,138 @@ public class QueryChannelEvaluator extends JalQueryAppBase<QueryChannelEvaluator
     // Support Methods
     //
     
+    /**
+     * <p>
+     * Creates a new trial runner for <code>QueryChannelTestResult</code> evaluations with the default configuration.
+     * </p>
+     * 
+     * @return  new trial runner extracting data rate, duration, and status from query channel results
+     */
+    private static TrialRunner<QueryChannelTestResult>  createTrialRunner() {
+        return TrialRunner.from(
+                rec -> rec.dblDataRate(),
+                rec -> rec.durRecovery(),
+                rec -> rec.recTestStatus().isSuccess()
+                );
+    }
+    
+    /**
+     * <p>
+     * Runs all test cases on a new Query Service connection with the given configuration.
+     * </p>
+     * <p>
+     * A new connection and <code>QueryChannel</code> are created for the given configuration, all test cases are
+     * run on the channel, then the connection is shut down.  If the connection cannot be established no test
+     * cases are run and the error is logged.
+     * </p>
+     * 
+     * @param cfgConn   the Query Service connection configuration
+     * 
+     * @return  the test results for the given connection configuration
+     */
+    private Collection<QueryChannelTestResult> runTestCases(DpGrpcConnectionConfig cfgConn) {
+        
+        DpQueryConnection   connXport;
+        try {
+            connXport = DpQueryConnectionFactory.newFactory(cfgConn).connect();   // throws DpGrpcException
+            
+        } catch (DpGrpcException e) {
+            LOGGER.error("Unable to connect with transport configuration {}: {}", TransportConfigSweep.createLabel(cfgConn), e.getMessage());
+            
+            return List.of();
+        }
+        
+        QueryChannel    chanXport = QueryChannel.from(connXport, super.bufDataMsgs);
+        connXport.setTimeoutLimit(LNG_TIMEOUT, TU_TIMEOUT);
+        chanXport.setTimeoutLimit(LNG_TIMEOUT, TU_TIMEOUT);
+        
+        Collection<QueryChannelTestResult>  setXportResults = this.runTestCases(chanXport);
+        
+        try {
+            connXport.shutdownSoft();
+            connXport.awaitTermination();
+            
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while shutting down connection: {}", e.getMessage());
+            Thread.currentThread().interrupt();
+        }
+        
+        return setXportResults;
+    }
+    
+    /**
+     * <p>
+     * Runs all test cases on the given <code>QueryChannel</code> and returns the results.
+     * </p>
+     * <p>
+     * Each test case is evaluated by the trial runner <code>{@link #runTrials}</code>.  The measured trials are
+     * stored in <code>{@link #lstTrials}</code> and the representative (median rate) trial result is returned.
+     * </p>
+     * 
+     * @param chanQuery the Query Service channel under evaluation (attached to the message buffer)
+     * 
+     * @return  the test results for all test cases
+     */
+    private Collection<QueryChannelTestResult> runTestCases(QueryChannel chanQuery) {
+        final int     CNT_CASES = this.setCases.size();
+        
+        Collection<QueryChannelTestResult>  setCaseResults = new TreeSet<>(QueryChannelTestResult.descendingRateOrdering());
+        int indCase = 1;
+        
+        for (QueryChannelTestCase recCase : this.setCases) {
+            LOGGER.info("Running test case #{} of {} (with index {}) ...", indCase, CNT_CASES, recCase.indCase());
+            
+            TrialSet<QueryChannelTestResult>    recTrials = this.runTrials.run(() -> recCase.evaluate(chanQuery, super.bufDataMsgs));
+            
+            this.lstTrials.add(recTrials);
+            setCaseResults.add(recTrials.recMedian());
+            indCase++;
+        }
+        
+        return setCaseResults;
+    }
+    
+    /**
+     * <p>
+     * Parse the application command-line arguments for the HTTP/2 transport parameter sweep and returns it.
+     * </p>
+     * <p>
+     * All transport sweep variables are optional.  The returned sweep is empty if none are present.
+     * </p>
+     * 
+     * @param args  the application command-line argument collection
+     * 
+     * @return  the transport parameter sweep described by the command-line arguments
+     * 
+     * @throws IllegalArgumentException invalid enumeration constant name (not in <code>DpGrpcTransportType</code>, etc.)
+     * @throws NumberFormatException    an invalid numeric argument was encountered
+     */
+    private static TransportConfigSweep parseTransportSweep(String[] args) throws IllegalArgumentException, NumberFormatException {
+        
+        TransportConfigSweep    sweep = TransportConfigSweep.create();
+        
+        sweep.addFlowControlWindows(
+                JalApplicationBase.parseAppArgsVariable(args, STR_VAR_FC_WINDOW).stream().map(Integer::valueOf).toList()    // throws NumberFormatException
+                );
+        sweep.addFlowControlAdaptive(
+                JalApplicationBase.parseAppArgsVariable(args, STR_VAR_FC_ADAPT).stream().map(Boolean::valueOf).toList()
+                );
+        sweep.addTransportTypes(
+                JalApplicationBase.parseAppArgsVariable(args, STR_VAR_XPORT).stream().map(DpGrpcTransportType::valueOf).toList()    // throws IllegalArgumentException
+                );
+        sweep.addEventLoopThreads(
+                JalApplicationBase.parseAppArgsVariable(args, STR_VAR_LOOP_THDS).stream().map(Integer::valueOf).toList()    // throws NumberFormatException
+                );
+        sweep.addExecutorTypes(
+                JalApplicationBase.parseAppArgsVariable(args, STR_VAR_EXEC).stream().map(DpGrpcExecutorType::valueOf).toList()  // throws IllegalArgumentException
+                );
+        sweep.addWriteBufferHighs(
+                JalApplicationBase.parseAppArgsVariable(args, STR_VAR_WBUF_HIGH).stream().map(Integer::valueOf).toList()    // throws NumberFormatException
+                );
+        
+        return sweep;
+    }
+    
     /**
      * <p>
      * Parse the application command-line argument for the test suite configuration and returns it.
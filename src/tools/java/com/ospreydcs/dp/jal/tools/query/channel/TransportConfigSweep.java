@@ -0,0 +1,350 @@
+/*
+ * Project: dp-api-common
+ * File:	TransportConfigSweep.java
+ * Package: com.ospreydcs.dp.jal.tools.query.channel
+ * Type: 	TransportConfigSweep
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ */
+package com.ospreydcs.dp.jal.tools.query.channel;
+
+import java.io.PrintStream;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.ospreydcs.dp.api.common.DpGrpcExecutorType;
+import com.ospreydcs.dp.api.common.DpGrpcTransportType;
+import com.ospreydcs.dp.api.config.grpc.DpGrpcConnectionConfig;
+
+/**
+ * <p>
+ * Configurable generator for collections of Query Service connection configurations with varying HTTP/2 transport
+ * parameters.
+ * </p>
+ * <p>
+ * The sweep is configured with collections of values for each transport parameter under investigation.  Connection
+ * configurations are then generated by enumerating all combinations of the parameter values, starting from a base
+ * connection configuration (typically the default Query Service connection).  Any parameter without sweep values
+ * retains the value of the base configuration.
+ * </p>
+ * <p>
+ * The following transport parameters are available for sweeping:
+ * <ul>
+ * <li>HTTP/2 flow-control window size (bytes).</li>
+ * <li>HTTP/2 adaptive flow control (window follows bandwidth-delay product).</li>
+ * <li>Network transport type - <code>{@link DpGrpcTransportType}</code>.</li>
+ * <li>Transport event loop thread count.</li>
+ * <li>Callback executor type - <code>{@link DpGrpcExecutorType}</code>.</li>
+ * <li>Socket write buffer high watermark (bytes) - the low watermark is taken as half.</li>
+ * </ul>
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public class TransportConfigSweep {
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new, empty <code>TransportConfigSweep</code> instance ready for configuration.
+     * </p>
+     *
+     * @return  a new transport configuration sweep with no sweep parameters
+     */
+    public static TransportConfigSweep create() {
+        return new TransportConfigSweep();
+    }
+
+
+    //
+    // Instance Resources
+    //
+
+    /** Collection of flow-control window sizes */
+    private final Set<Integer>              setWindows = new TreeSet<>();
+
+    /** Collection of adaptive flow control flags */
+    private final Set<Boolean>              setAdaptive = new TreeSet<>();
+
+    /** Collection of transport types */
+    private final Set<DpGrpcTransportType>  setXportTypes = new TreeSet<>();
+
+    /** Collection of event loop thread counts */
+    private final Set<Integer>              setLoopThds = new TreeSet<>();
+
+    /** Collection of callback executor types */
+    private final Set<DpGrpcExecutorType>   setExecTypes = new TreeSet<>();
+
+    /** Collection of write buffer high watermarks */
+    private final Set<Integer>              setWriteBufs = new TreeSet<>();
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new, empty <code>TransportConfigSweep</code> instance.
+     * </p>
+     */
+    public TransportConfigSweep() {
+    }
+
+
+    //
+    // Configuration
+    //
+
+    /**
+     * @param setWindows    HTTP/2 flow-control window sizes (bytes) to include in sweep (0 for gRPC default)
+     */
+    public void addFlowControlWindows(Collection<Integer> setWindows) {
+        this.setWindows.addAll(setWindows);
+    }
+
+    /**
+     * @param setAdaptive   adaptive flow control flags to include in sweep
+     */
+    public void addFlowControlAdaptive(Collection<Boolean> setAdaptive) {
+        this.setAdaptive.addAll(setAdaptive);
+    }
+
+    /**
+     * @param setTypes  network transport types to include in sweep
+     */
+    public void addTransportTypes(Collection<DpGrpcTransportType> setTypes) {
+        this.setXportTypes.addAll(setTypes);
+    }
+
+    /**
+     * @param setCounts transport event loop thread counts to include in sweep (0 for Netty default)
+     */
+    public void addEventLoopThreads(Collection<Integer> setCounts) {
+        this.setLoopThds.addAll(setCounts);
+    }
+
+    /**
+     * @param setTypes  callback executor types to include in sweep
+     */
+    public void addExecutorTypes(Collection<DpGrpcExecutorType> setTypes) {
+        this.setExecTypes.addAll(setTypes);
+    }
+
+    /**
+     * @param setSizes  socket write buffer high watermarks (bytes) to include in sweep (0 for Netty default)
+     */
+    public void addWriteBufferHighs(Collection<Integer> setSizes) {
+        this.setWriteBufs.addAll(setSizes);
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Determines whether or not any sweep parameters have been assigned.
+     * </p>
+     *
+     * @return  <code>true</code> if the sweep contains no parameter values, <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        return this.setWindows.isEmpty()
+                && this.setAdaptive.isEmpty()
+                && this.setXportTypes.isEmpty()
+                && this.setLoopThds.isEmpty()
+                && this.setExecTypes.isEmpty()
+                && this.setWriteBufs.isEmpty();
+    }
+
+    /**
+     * <p>
+     * Creates the collection of connection configurations for the sweep.
+     * </p>
+     * <p>
+     * All combinations of the sweep parameter values are enumerated.  Each returned configuration is a copy of the
+     * given base configuration with the transport parameters replaced by the combination values.  The base
+     * configuration is not modified.
+     * </p>
+     *
+     * @param cfgBase   the base connection configuration
+     *
+     * @return  the enumerated connection configurations of the sweep
+     */
+    public List<DpGrpcConnectionConfig> createConfigurations(DpGrpcConnectionConfig cfgBase) {
+        DpGrpcConnectionConfig.Channel.Grpc         cfgGrpc = cfgBase.channel.grpc;
+        DpGrpcConnectionConfig.Channel.Transport    cfgXport = cfgBase.channel.transport;
+
+        List<DpGrpcConnectionConfig>    lstCfgs = new LinkedList<>();
+
+        for (Integer intWindow : valuesOrBase(this.setWindows, cfgGrpc.flowControlWindow))
+            for (Boolean bolAdaptive : valuesOrBase(this.setAdaptive, cfgGrpc.flowControlAdaptive))
+                for (DpGrpcTransportType enmXport : valuesOrBase(this.setXportTypes, (cfgXport == null) ? null : cfgXport.type))
+                    for (Integer cntThds : valuesOrBase(this.setLoopThds, (cfgXport == null) ? null : cfgXport.eventLoopThreads))
+                        for (DpGrpcExecutorType enmExec : valuesOrBase(this.setExecTypes, (cfgXport == null) ? null : cfgXport.executor))
+                            for (Integer szBuf : valuesOrBase(this.setWriteBufs, (cfgXport == null) ? null : cfgXport.writeBufferHigh)) {
+
+                                DpGrpcConnectionConfig  cfgSweep = copy(cfgBase);
+
+                                cfgSweep.channel.grpc.flowControlWindow = intWindow;
+                                cfgSweep.channel.grpc.flowControlAdaptive = bolAdaptive;
+                                cfgSweep.channel.transport.type = enmXport;
+                                cfgSweep.channel.transport.eventLoopThreads = cntThds;
+                                cfgSweep.channel.transport.executor = enmExec;
+                                cfgSweep.channel.transport.writeBufferHigh = szBuf;
+                                if (!this.setWriteBufs.isEmpty())
+                                    cfgSweep.channel.transport.writeBufferLow = szBuf/2;
+
+                                lstCfgs.add(cfgSweep);
+                            }
+
+        return lstCfgs;
+    }
+
+    /**
+     * <p>
+     * Creates a one-line text label describing the transport parameters of the given connection configuration.
+     * </p>
+     *
+     * @param cfgConn   connection configuration
+     *
+     * @return  text label for the transport parameters of the argument
+     */
+    public static String createLabel(DpGrpcConnectionConfig cfgConn) {
+        DpGrpcConnectionConfig.Channel.Grpc         cfgGrpc = cfgConn.channel.grpc;
+        DpGrpcConnectionConfig.Channel.Transport    cfgXport = cfgConn.channel.transport;
+
+        StringBuilder   bldr = new StringBuilder();
+
+        bldr.append("window=").append(cfgGrpc.flowControlWindow);
+        bldr.append(", adaptive=").append(cfgGrpc.flowControlAdaptive);
+        if (cfgXport != null) {
+            bldr.append(", transport=").append(cfgXport.type);
+            bldr.append(", loopThreads=").append(cfgXport.eventLoopThreads);
+            bldr.append(", executor=").append(cfgXport.executor);
+            bldr.append(", writeBufHigh=").append(cfgXport.writeBufferHigh);
+        }
+
+        return bldr.toString();
+    }
+
+    /**
+     * <p>
+     * Prints out text description of the current sweep configuration to the given output stream.
+     * </p>
+     *
+     * @param ps        output stream to receive text description
+     * @param strPad    optional left-hand side white space padding (or <code>null</code>)
+     */
+    public void printOut(PrintStream ps, String strPad) {
+        if (strPad == null)
+            strPad = "";
+
+        ps.println(strPad + "Flow-control windows  : " + this.setWindows);
+        ps.println(strPad + "Adaptive flow control : " + this.setAdaptive);
+        ps.println(strPad + "Transport types       : " + this.setXportTypes);
+        ps.println(strPad + "Event loop threads    : " + this.setLoopThds);
+        ps.println(strPad + "Executor types        : " + this.setExecTypes);
+        ps.println(strPad + "Write buffer highs    : " + this.setWriteBufs);
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Returns the sweep values, or a collection containing only the base value if there are no sweep values.
+     * </p>
+     *
+     * @param <T>       parameter type
+     * @param setVals   sweep values for parameter
+     * @param valBase   base configuration value for parameter (may be <code>null</code>)
+     *
+     * @return  the collection of parameter values to enumerate
+     */
+    private static <T> Collection<T> valuesOrBase(Set<T> setVals, T valBase) {
+        if (!setVals.isEmpty())
+            return setVals;
+
+        List<T> lstBase = new LinkedList<>();
+        lstBase.add(valBase);
+
+        return lstBase;
+    }
+
+    /**
+     * <p>
+     * Creates a copy of the given connection configuration with new gRPC and transport parameter structures.
+     * </p>
+     * <p>
+     * Only the structures modified by the sweep are copied, all other structures are shared with the argument.
+     * </p>
+     *
+     * @param cfgBase   the connection configuration to copy
+     *
+     * @return  copy of the argument safe for transport parameter modification
+     */
+    private static DpGrpcConnectionConfig copy(DpGrpcConnectionConfig cfgBase) {
+        DpGrpcConnectionConfig  cfgCopy = new DpGrpcConnectionConfig();
+
+        cfgCopy.name = cfgBase.name;
+        cfgCopy.version = cfgBase.version;
+        cfgCopy.description = cfgBase.description;
+        cfgCopy.supplement = cfgBase.supplement;
+        cfgCopy.timeout = cfgBase.timeout;
+
+        cfgCopy.channel = new DpGrpcConnectionConfig.Channel();
+        cfgCopy.channel.host = cfgBase.channel.host;
+        cfgCopy.channel.tls = cfgBase.channel.tls;
+        cfgCopy.channel.pool = cfgBase.channel.pool;
+
+        DpGrpcConnectionConfig.Channel.Grpc cfgGrpc = cfgBase.channel.grpc;
+        cfgCopy.channel.grpc = new DpGrpcConnectionConfig.Channel.Grpc();
+        cfgCopy.channel.grpc.timeoutLimit = cfgGrpc.timeoutLimit;
+        cfgCopy.channel.grpc.timeoutUnit = cfgGrpc.timeoutUnit;
+        cfgCopy.channel.grpc.messageSizeMax = cfgGrpc.messageSizeMax;
+        cfgCopy.channel.grpc.usePlainText = cfgGrpc.usePlainText;
+        cfgCopy.channel.grpc.keepAliveWithoutCalls = cfgGrpc.keepAliveWithoutCalls;
+        cfgCopy.channel.grpc.gzip = cfgGrpc.gzip;
+        cfgCopy.channel.grpc.flowControlWindow = cfgGrpc.flowControlWindow;
+        cfgCopy.channel.grpc.flowControlAdaptive = cfgGrpc.flowControlAdaptive;
+
+        DpGrpcConnectionConfig.Channel.Transport    cfgXport = cfgBase.channel.transport;
+        cfgCopy.channel.transport = new DpGrpcConnectionConfig.Channel.Transport();
+        if (cfgXport != null) {
+            cfgCopy.channel.transport.executorThreads = cfgXport.executorThreads;
+            cfgCopy.channel.transport.writeBufferLow = cfgXport.writeBufferLow;
+        }
+
+        return cfgCopy;
+    }
+}
@@ -26,10 +26,13 @@
 package com.ospreydcs.dp.jal.tools.query.correl;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.BufferUnderflowException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +59,10 @@ import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.api.util.Log4j;
 import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse.QueryData;
 import com.ospreydcs.dp.jal.tools.common.DataRateLister;
+import com.ospreydcs.dp.jal.tools.common.ResultExporter;
+import com.ospreydcs.dp.jal.tools.common.TrialRunner;
+import com.ospreydcs.dp.jal.tools.common.TrialSet;
+import com.ospreydcs.dp.jal.tools.common.TrialStatistics;
 import com.ospreydcs.dp.jal.tools.config.JalToolsConfig;
 import com.ospreydcs.dp.jal.tools.query.testrequests.TestArchiveRequest;
 import com.sun.jdi.request.InvalidRequestStateException;
@@ -180,11 +187,15 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
         // Get the test suite configuration and output location from the application arguments
         String                      strOutputLoc;
         CorrelatorTestSuiteCreator   suite;
+        TrialRunner<CorrelatorTestResult>   runTrials;
         try {
             
             suite = DataCorrelationEvaluator.parseTestSuiteConfig(args);
             strOutputLoc = JalApplicationBase.parseOutputLocation(args, STR_OUTPUT_DEF);
             
+            runTrials = DataCorrelationEvaluator.createTrialRunner();
+            runTrials.parseAppArgs(args);
+            
         } catch (Exception e) {
             
             JalApplicationBase.terminateWithException(DataCorrelationEvaluator.class, e, ExitCode.INTPUT_ARG_INVALID);
@@ -198,14 +209,17 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
         
         // Create the correlation evaluator and run it
         try {
-            DataCorrelationEvaluator    evaluator = new DataCorrelationEvaluator(suite, strOutputLoc, args);
+            DataCorrelationEvaluator    evaluator = new DataCorrelationEvaluator(suite, runTrials, strOutputLoc, args);
             
             evaluator.run();
             evaluator.writeReport();
+            List<Path>  lstExports = evaluator.exportResults();
             evaluator.shutdown();
             
             System.out.println(STR_APP_NAME + " Execution completed in " + evaluator.getRunDuration());
             System.out.println("  Results stored at " + evaluator.getOutputFilePath().toAbsolutePath());
+            for (Path pathExport : lstExports)
+                System.out.println("  Results exported to " + pathExport.toAbsolutePath());
             System.exit(ExitCode.SUCCESS.getCode());
             
         } catch (DpGrpcException e) {
@@ -299,6 +313,8 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
             STR_VAR_PVS,
             STR_VAR_THRDS, 
             STR_VAR_PIVOT, 
+            TrialRunner.STR_VAR_WARMUP,
+            TrialRunner.STR_VAR_REPEATS,
             STR_VAR_OUTPUT
             );
     
@@ -332,6 +348,8 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
           + " [" + STR_VAR_PVS + " PV1 ... PVi]"
           + " [" + STR_VAR_THRDS + " M1 ... Mj]"
           + " [" + STR_VAR_PIVOT + " P1 ... Pk]"
+          + " [" + TrialRunner.STR_VAR_WARMUP + " W]"
+          + " [" + TrialRunner.STR_VAR_REPEATS + " R]"
           + " [" + STR_VAR_OUTPUT +" Output]"
           + "\n" 
           + "  Where  \n"
@@ -341,12 +359,15 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
           + "    PV1, ..., PVi = Supplemental PV names to be added to requests R1 through Rn. \n"
           + "    M1, ..., Mj   = Maximum allowable number(s) of concurrent processing threads - Integer value(s). \n"
           + "    P1, ..., Pk   = Pivot size(s) triggering concurrent processing - Integer value(s). \n"
+          + TrialRunner.STR_ARGS_USAGE
           + "    Output        = output directory w/wout file path, or '" + STR_ARG_VAL_STDOUT + "'. \n"
           + "\n"
           + "  NOTES: \n"
           + "  - All bracketed quantities [...] are optional. \n"
           + "  - PV1, ..., PVj values are strictly optional. \n"
           + "  - If values are not provided for " + STR_VAR_THRDS + " and/or " + STR_VAR_PIVOT + ", default values are provided. \n "
+          + "  - Default " + TrialRunner.STR_VAR_WARMUP + " and " + TrialRunner.STR_VAR_REPEATS + " values are "
+          +       TrialRunner.CNT_WARMUP_DEF + " and " + TrialRunner.CNT_REPEATS_DEF + "; the median rate trial is scored. \n"
           + "  - Default " + STR_VAR_OUTPUT + " value is " + STR_OUTPUT_DEF + ".\n";
 
     
@@ -402,6 +423,9 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
     /** The test suite used for <code>CorrelatorTestCase</code> evaluations */
     private final CorrelatorTestSuiteCreator       suiteEvals;
     
+    /** The warmup and repeated trial runner for each test case */
+    private final TrialRunner<CorrelatorTestResult> runTrials;
+    
     
     //
     // Instance Resources
@@ -416,6 +440,9 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
     /** The collection of test results recovered from evaluations */
     private final Collection<CorrelatorTestResult>              setResults;
     
+    /** The measured trials of each test case, in order of evaluation */
+    private final List<TrialSet<CorrelatorTestResult>>          lstTrials;
+    
     
     //
     // State Variables
@@ -436,6 +463,7 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
      * </p>
      * 
      * @param   suiteEvals      the test suite configuration 
+     * @param   runTrials       the warmup and repeated trial runner for each test case
      * @param   strOutputLoc    output path for evaluation results
      * @param   args            application command-line arguments from main()
      * 
@@ -445,11 +473,12 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
      * @throws FileNotFoundException            unable to create the output file (see message and cause)
      * @throws SecurityException                unable to write to output file
      */
-    public DataCorrelationEvaluator(CorrelatorTestSuiteCreator suiteEvals, String strOutputLoc, String...args) 
+    public DataCorrelationEvaluator(CorrelatorTestSuiteCreator suiteEvals, TrialRunner<CorrelatorTestResult> runTrials, String strOutputLoc, String...args) 
             throws DpGrpcException, ConfigurationException, UnsupportedOperationException, FileNotFoundException, SecurityException {
         super(DataCorrelationEvaluator.class, args);
         
         this.suiteEvals = suiteEvals;
+        this.runTrials = runTrials;
         
         // Create the correlator
         this.toolCorrelator = RawDataCorrelator.create();
@@ -460,6 +489,7 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
         // Create the collection of test cases and container for results
         this.mapCases = this.suiteEvals.createTestSuite();  // throws ConfigurationException
         this.setResults = new TreeSet<>(CorrelatorTestResult.descendingRateOrdering());
+        this.lstTrials = new ArrayList<>();
         
         // Create the output stream and attach Logger to it - records fatal errors to output file
         super.openOutputStream(strOutputLoc); // throws SecurityException, FileNotFoundException, UnsupportedOperationException
@@ -495,8 +525,10 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
      * <code>{@link #mapCases}</code> key set.  
      * <ol>
      * <li>The data for the test request is first recovered using <code>{@link #recoverRequestData(DpDataRequest)}</code></li>
-     * <li>All test cases using that data are performed with <code>{@link CorrelatorTestCase#evaluate(RawDataCorrelator, List)}</code></li>
-     * <li>All test case results are stored in <code>{@link #setResults}</code> for later evaluation.</li>
+     * <li>All test cases using that data are performed with <code>{@link CorrelatorTestCase#evaluate(RawDataCorrelator, List)}</code>
+     *     within the trial runner <code>{@link #runTrials}</code> (warmup iterations then measured trials).</li>
+     * <li>All test case trials are stored in <code>{@link #lstTrials}</code>, and the representative (median rate) 
+     *     results are stored in <code>{@link #setResults}</code> for later evaluation.</li>
      * <li>The application state variables are updated.</li>
      * </ol>
      * </p>
@@ -548,6 +580,7 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
                 for (CorrelatorTestCase recCase : lstCases) {
                     CorrelatorTestResult recResult = CorrelatorTestResult.from(strRqstId, recStatus, recCase);
 
+                    this.lstTrials.add(TrialSet.from(recResult, 1, TrialStatistics.EMPTY, TrialStatistics.EMPTY, List.of(recResult)));
                     this.setResults.add(recResult);
                 }
 
@@ -559,22 +592,10 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
 
             this.toolCorrelator.reset();
             for (CorrelatorTestCase recCase : lstCases) {
-                try {
-                    CorrelatorTestResult recResult = recCase.evaluate(this.toolCorrelator, lstDataMsgs);    // throws IllegalArgumentException, CompletionException
-
-                    this.setResults.add(recResult);
-                    
-                    // If the test case evaluation fails
-                } catch (Exception e) {
-                    
-                    String          strErrMsg = e.getMessage();
-                    String          strRqstId = rqst.getRequestId();
-                    ResultStatus    recStatus = ResultStatus.newFailure(strErrMsg, e);
-
-                    CorrelatorTestResult    recResult = CorrelatorTestResult.from(strRqstId, recStatus, recCase);
-                    
-                    this.setResults.add(recResult);
-                }
+                TrialSet<CorrelatorTestResult>  recTrials = this.runTrials.run(() -> this.evaluateCase(recCase, rqst, lstDataMsgs));
+                
+                this.lstTrials.add(recTrials);
+                this.setResults.add(recTrials.recMedian());
             }
         }
         Instant insFinish = Instant.now();
@@ -606,6 +627,36 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
         return this.durEval;
     }
     
+    /**
+     * <p>
+     * Exports the measured trials of all test cases to machine-readable files beside the report file.
+     * </p>
+     * <p>
+     * The export formats are determined by the JAL Tools configuration (see <code>{@link ResultExporter}</code>).
+     * Nothing is exported if the report is written to the console.  Export failures are logged and do not
+     * interrupt the application.
+     * </p>
+     * 
+     * @return  the paths of the exported files
+     * 
+     * @throws IllegalStateException    no results are available (called before <code>{@link #run()}</code>) 
+     */
+    public List<Path>   exportResults() throws IllegalStateException {
+        
+        // Check state
+        if (!super.bolRun)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + "- Test suite has not been run.");
+        
+        try {
+            return ResultExporter.exportBeside(super.getOutputFilePath(), this.lstTrials);
+            
+        } catch (IOException e) {
+            LOGGER.error("{} - Unable to export results: {}", JavaRuntime.getQualifiedMethodNameSimple(), e.getMessage());
+            
+            return List.of();
+        }
+    }
+    
     /**
      * <p>
      * Creates a text report of the test suite evaluations and prints it to the output file.
@@ -675,6 +726,11 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
         this.suiteEvals.printOut(ps, "  ");
         ps.println();
         
+        // Print out the trial configuration
+        ps.println("Trial Configuration");
+        this.runTrials.printOutConfig(ps, "  ");
+        ps.println();
+        
         // Print out the test case data rates
         ps.println("Test Case Data Rates");
         DataRateLister<CorrelatorTestResult>    lstrDataRates = DataRateLister.from(
@@ -686,6 +742,11 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
         lstrDataRates.printOut(ps, "  ", this.setResults);
         ps.println();
         
+        // Print out the test case trial statistics
+        ps.println("Test Case Trial Statistics");
+        TrialSet.printOutListing(ps, "  ", this.lstTrials, rec -> rec.recTestCase().indCase());
+        ps.println();
+        
         // Print out results summary
         CorrelatorTestsSummary.assignTargetDataRate(DBL_RATE_TARGET);
         CorrelatorTestsSummary  recSummary = CorrelatorTestsSummary.summarize(this.setResults);
@@ -716,6 +777,50 @@ public final class DataCorrelationEvaluator extends JalQueryAppBase<DataCorrelat
     // Support Methods
     //
     
+    /**
+     * <p>
+     * Creates a new trial runner for <code>CorrelatorTestResult</code> evaluations with the default configuration.
+     * </p>
+     * 
+     * @return  new trial runner extracting data rate, duration, and status from correlator results
+     */
+    private static TrialRunner<CorrelatorTestResult>    createTrialRunner() {
+        return TrialRunner.from(
+                rec -> rec.dblDataRate(), 
+                rec -> rec.durProcessed(), 
+                rec -> rec.recTestStatus().isSuccess()
+                );
+    }
+    
+    /**
+     * <p>
+     * Performs a single evaluation of the given test case on the given request data and returns the result.
+     * </p>
+     * <p>
+     * Any exception thrown by the evaluation is recorded as a test case failure.
+     * </p>
+     * 
+     * @param recCase       the test case to evaluate
+     * @param rqst          the time-series data request for the test case
+     * @param lstDataMsgs   the raw data recovered for the request
+     * 
+     * @return  the result of the test case evaluation
+     */
+    private CorrelatorTestResult    evaluateCase(CorrelatorTestCase recCase, DpDataRequest rqst, List<QueryData> lstDataMsgs) {
+        try {
+            return recCase.evaluate(this.toolCorrelator, lstDataMsgs);    // throws IllegalArgumentException, CompletionException
+            
+            // If the test case evaluation fails
+        } catch (Exception e) {
+            
+            String          strErrMsg = e.getMessage();
+            String          strRqstId = rqst.getRequestId();
+            ResultStatus    recStatus = ResultStatus.newFailure(strErrMsg, e);
+
+            return CorrelatorTestResult.from(strRqstId, recStatus, recCase);
+        }
+    }
+    
     /**
      * <p>
      * Parse the application command-line argument for the test suite configuration and returns it.
@@ -26,10 +26,13 @@
 package com.ospreydcs.dp.jal.tools.query.recovery;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.MissingResourceException;
@@ -51,6 +54,9 @@ import com.ospreydcs.dp.api.query.model.request.RequestDecompType;
 import com.ospreydcs.dp.api.util.JavaRuntime;
 import com.ospreydcs.dp.api.util.Log4j;
 import com.ospreydcs.dp.jal.tools.common.DataRateLister;
+import com.ospreydcs.dp.jal.tools.common.ResultExporter;
+import com.ospreydcs.dp.jal.tools.common.TrialRunner;
+import com.ospreydcs.dp.jal.tools.common.TrialSet;
 import com.ospreydcs.dp.jal.tools.config.JalToolsConfig;
 import com.ospreydcs.dp.jal.tools.query.testrequests.TestArchiveRequest;
 import com.sun.jdi.request.InvalidRequestStateException;
@@ -116,11 +122,15 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
         // Get the test suite configuration and output location from the application arguments
         String                          strOutputLoc;
         QueryRecoveryTestSuiteCreator    suite;
+        TrialRunner<QueryRecoveryTestResult>    runTrials;
         try {
             
             suite = QueryRecoveryEvaluator.parseTestSuiteConfig(args);
             strOutputLoc = JalApplicationBase.parseOutputLocation(args, STR_OUTPUT_DEF);
             
+            runTrials = QueryRecoveryEvaluator.createTrialRunner();
+            runTrials.parseAppArgs(args);
+            
         } catch (Exception e) {
             
             JalApplicationBase.terminateWithException(QueryRecoveryEvaluator.class, e, ExitCode.INTPUT_ARG_INVALID);
@@ -134,14 +144,17 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
         
         // Create the application and run it
         try {
-            QueryRecoveryEvaluator    evaluator = new QueryRecoveryEvaluator(suite, strOutputLoc, args);
+            QueryRecoveryEvaluator    evaluator = new QueryRecoveryEvaluator(suite, runTrials, strOutputLoc, args);
             
             evaluator.run();
             evaluator.writeReport();
+            List<Path>  lstExports = evaluator.exportResults();
             evaluator.shutdown();
             
             System.out.println(STR_APP_NAME + " Execution completed in " + evaluator.getRunDuration());
             System.out.println("  Results stored at " + evaluator.getOutputFilePath().toAbsolutePath());
+            for (Path pathExport : lstExports)
+                System.out.println("  Results exported to " + pathExport.toAbsolutePath());
             System.exit(ExitCode.SUCCESS.getCode());
             
         } catch (DpGrpcException e) {
@@ -281,6 +294,8 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
             STR_VAR_CORR_CONC,
             STR_VAR_CORR_PIVOT_SZ,
             STR_VAR_CORR_MAX_THRDS,
+            TrialRunner.STR_VAR_WARMUP,
+            TrialRunner.STR_VAR_REPEATS,
             STR_VAR_OUTPUT
             );
     
@@ -338,6 +353,8 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
           + " [" + STR_VAR_CORR_PIVOT_SZ + " P1 ... Pn]"
           + " [" + STR_VAR_CORR_MAX_THRDS + " T1 ... Tp]"
           + STR_LINE_BREAK
+          + " [" + TrialRunner.STR_VAR_WARMUP + " W]"
+          + " [" + TrialRunner.STR_VAR_REPEATS + " R]"
           + " [" + STR_VAR_OUTPUT +" Output] \n"
           + "\n" 
           + "  Where  \n"
@@ -358,6 +375,7 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
           + "   " + STR_VAR_CORR_CONC + "    = Enable/disable multi-threaded (concurrent) raw data correlation {FALSE, TRUE}. \n"
           + "   P1, ..., Pn    = Raw data target set size(s) (block count) triggering concurrency - Long value(s). \n"
           + "   T1, ..., Tn    = Maximum thread count(s) for concurrent raw data correlation - Integer value(s). \n"
+          + TrialRunner.STR_ARGS_USAGE
           + "    " + STR_VAR_OUTPUT + "      = output directory w/wout file path, or '" + STR_ARG_VAL_STDOUT + "'. \n"
           + "\n"
           + "  NOTES: \n"
@@ -371,6 +389,8 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
           + "  - The Boolean values FALSE and TRUE are not case sensitive. \n"
           + "  - Request decomposition enable " + STR_VAR_DCMP_ENABLE + " must be TRUE for gRPC multi-streaming. \n"
 //          + "  - gRPC multi-streaming enable " + STR_VAR_MSTRM_ENABLE + " must be TRUE for gRPC multi-streaming. \n"
+          + "  - Default " + TrialRunner.STR_VAR_WARMUP + " and " + TrialRunner.STR_VAR_REPEATS + " values are "
+          +       TrialRunner.CNT_WARMUP_DEF + " and " + TrialRunner.CNT_REPEATS_DEF + "; the median rate trial is scored. \n"
           + "  - Default " + STR_VAR_OUTPUT + " value is " + STR_OUTPUT_DEF + ". \n"
           + "  - If a file name is not included in the output path, a unique file name is generated for the output. \n" ;
 
@@ -404,6 +424,9 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
     /** The (pre-configured) test suite creator used for <code>QueryRecoveryTestCase</code> generation */
     private final QueryRecoveryTestSuiteCreator       cfgTestSuite;
     
+    /** The warmup and repeated trial runner for each test case */
+    private final TrialRunner<QueryRecoveryTestResult>  runTrials;
+    
     
     //
     // Instance Resources
@@ -418,6 +441,9 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
     /** The collection of test results recovered from evaluations */
     private final Collection<QueryRecoveryTestResult>   setTestResults;
     
+    /** The measured trials of each test case, in order of evaluation */
+    private final List<TrialSet<QueryRecoveryTestResult>>   lstTestTrials;
+    
     
     //
     // State Variables
@@ -437,6 +463,7 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
      * </p>
      *
      * @param cfgSuite      the pre-configured test suite generator 
+     * @param runTrials     the warmup and repeated trial runner for each test case
      * @param strOutputLoc  path location for the output file, or "console"
      * @param args          the application command-line arguments.
      * 
@@ -446,11 +473,12 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
      * @throws SecurityException                unable to write to output file
      * @throws ConfigurationException 
      */
-    public QueryRecoveryEvaluator(QueryRecoveryTestSuiteCreator cfgSuite, String strOutputLoc, String... args) 
+    public QueryRecoveryEvaluator(QueryRecoveryTestSuiteCreator cfgSuite, TrialRunner<QueryRecoveryTestResult> runTrials, String strOutputLoc, String... args) 
             throws DpGrpcException, ConfigurationException, UnsupportedOperationException, FileNotFoundException, SecurityException {
         super(QueryRecoveryEvaluator.class, args);
         
         this.cfgTestSuite = cfgSuite;
+        this.runTrials = runTrials;
         
 
         // Create resources
@@ -458,6 +486,7 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
         
         this.setTestCases = this.cfgTestSuite.createTestSuite();    // throws ConfigurationException
         this.setTestResults = new TreeSet<>(QueryRecoveryTestResult.descendingDataRateOrdering());
+        this.lstTestTrials = new ArrayList<>(this.setTestCases.size());
         
         
         // Create the output stream and attach Logger to it - records fatal errors to output file
@@ -489,6 +518,11 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
      * <p>
      * Runs the application evaluating all test cases within the test suite configuration.
      * </p>
+     * <p>
+     * Each test case is evaluated by the trial runner <code>{@link #runTrials}</code>, first for the warmup
+     * iterations then for the measured trials.  The measured trials are stored in <code>{@link #lstTestTrials}</code>
+     * and the representative (median rate) trial result is stored in <code>{@link #setTestResults}</code>.
+     * </p>
      */
     public void run() {
 
@@ -505,9 +539,10 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
         // Iterate over each test case in test suite
         Instant insStart = Instant.now();
         for (QueryRecoveryTestCase recTestCase : this.setTestCases) {
-            QueryRecoveryTestResult recTestResult = recTestCase.evaluate(this.prcrRqstRcvry); 
+            TrialSet<QueryRecoveryTestResult>   recTrials = this.runTrials.run(() -> recTestCase.evaluate(this.prcrRqstRcvry));
             
-            this.setTestResults.add(recTestResult);
+            this.lstTestTrials.add(recTrials);
+            this.setTestResults.add(recTrials.recMedian());
         }
         Instant insFinish = Instant.now();
 
@@ -539,6 +574,36 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
         return this.durEval;
     }
     
+    /**
+     * <p>
+     * Exports the measured trials of all test cases to machine-readable files beside the report file.
+     * </p>
+     * <p>
+     * The export formats are determined by the JAL Tools configuration (see <code>{@link ResultExporter}</code>).
+     * Nothing is exported if the report is written to the console.  Export failures are logged and do not
+     * interrupt the application.
+     * </p>
+     * 
+     * @return  the paths of the exported files
+     * 
+     * @throws IllegalStateException    no results are available (called before <code>{@link #run()}</code>) 
+     */
+    public List<Path>   exportResults() throws IllegalStateException {
+        
+        // Check state
+        if (!super.bolRun)
+            throw new IllegalStateException(JavaRuntime.getQualifiedMethodNameSimple() + "- Test suite has not been run.");
+        
+        try {
+            return ResultExporter.exportBeside(super.getOutputFilePath(), this.lstTestTrials);
+            
+        } catch (IOException e) {
+            LOGGER.error("{} - Unable to export results: {}", JavaRuntime.getQualifiedMethodNameSimple(), e.getMessage());
+            
+            return List.of();
+        }
+    }
+    
     /**
      * <p>
      * Creates a text report of the test suite evaluations and prints it to the output file.
@@ -609,6 +674,11 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
         this.cfgTestSuite.printOut(ps, strPad);
         ps.println();
         
+        // Print out the trial configuration
+        ps.println("Trial Configuration");
+        this.runTrials.printOutConfig(ps, strPad);
+        ps.println();
+        
         // Print out the test case data rates
         ps.println("Test Case Data Rates");
         DataRateLister<QueryRecoveryTestResult> lstrRates = DataRateLister.from(
@@ -621,6 +691,11 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
 //        QueryRecoveryTestsSummary.printOutDataRates(ps, "  ", this.setTestResults);
         ps.println();
         
+        // Print out the test case trial statistics
+        ps.println("Test Case Trial Statistics");
+        TrialSet.printOutListing(ps, strPad, this.lstTestTrials, rec -> rec.recTestCase().indCase());
+        ps.println();
+        
         // Print out results summary
         QueryRecoveryTestsSummary.assignTargetDataRate(DBL_RATE_TARGET);
         QueryRecoveryTestsSummary  recSummary = QueryRecoveryTestsSummary.summarize(this.setTestResults);
@@ -658,6 +733,21 @@ public class QueryRecoveryEvaluator extends JalQueryAppBase<QueryRecoveryEvaluat
     // Support Methods
     //
     
+    /**
+     * <p>
+     * Creates a new trial runner for <code>QueryRecoveryTestResult</code> evaluations with the default configuration.
+     * </p>
+     * 
+     * @return  new trial runner extracting data rate, duration, and status from query recovery results
+     */
+    private static TrialRunner<QueryRecoveryTestResult> createTrialRunner() {
+        return TrialRunner.from(
+                rec -> rec.dblRatePrcd(), 
+                rec -> rec.durDataPrcd(), 
+                rec -> rec.recTestStatus().isSuccess()
+                );
+    }
+    
     /**
      * <p>
      * Parse the application command-line argument for the test suite configuration and returns it.
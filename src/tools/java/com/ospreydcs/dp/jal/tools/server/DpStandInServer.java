@@ -0,0 +1,412 @@
+/*
+ * Project: dp-api-common
+ * File:	DpStandInServer.java
+ * Package: com.ospreydcs.dp.jal.tools.server
+ * Type: 	DpStandInServer
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.server;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.ospreydcs.dp.jal.tools.config.JalToolsConfig;
+import com.ospreydcs.dp.jal.tools.config.archive.JalTestArchiveConfig;
+import com.ospreydcs.dp.jal.tools.config.server.JalStandInServerConfig;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+
+/**
+ * <p>
+ * In-process stand-in for the Data Platform Core Services.
+ * </p>
+ * <p>
+ * The stand-in server implements the Query, Ingestion, and Annotation Service gRPC interfaces over the
+ * Data Platform test archive, which it synthesizes on the fly (see <code>{@link StandInArchive}</code>).
+ * Evaluators and tests can thus exercise the full client pipeline (connections, streaming, response
+ * correlation, table assembly, ingestion) at realistic scale on a laptop or CI host without an external
+ * Data Platform installation.
+ * </p>
+ * <p>
+ * <h2>Transport</h2>
+ * If the configured port is 0 the server uses the gRPC in-process transport under the configured server name;
+ * clients obtain channels from <code>{@link #createChannel()}</code> and wrap them with the usual connection
+ * creators, for example <code>DpQueryConnection.from(server.createChannel())</code>.  Otherwise the server
+ * listens (plain text) on the given localhost port and clients may connect with the standard connection
+ * factories.
+ * </p>
+ * <p>
+ * <h2>Network Conditions</h2>
+ * All query responses, and all received ingestion requests, pass through a shared
+ * <code>{@link StandInThrottle}</code> injecting the configured latency and bandwidth cap.  Streamed query
+ * responses contain at most the configured page size of data buckets.
+ * </p>
+ * <p>
+ * <h2>Stand-Alone Operation</h2>
+ * The <code>{@link #main(String[])}</code> method starts the server upon a localhost port and blocks until the
+ * process is terminated, so that other processes (e.g., tools applications) may use it as their Data Platform.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public final class DpStandInServer implements AutoCloseable {
+
+
+    //
+    // Application Resources
+    //
+
+    /** The default JAL tools configuration */
+    public static final JalToolsConfig      CFG_TOOLS = JalToolsConfig.getInstance();
+
+
+    //
+    // Class Constants
+    //
+
+    /** Default localhost port for stand-alone operation when none is configured */
+    public static final int                 INT_PORT_DEFAULT = 50051;
+
+    /** Timeout for graceful server shutdown */
+    public static final long                LNG_TIMEOUT_SHUTDOWN = 5;
+
+    /** Timeout units for graceful server shutdown */
+    public static final TimeUnit            TU_TIMEOUT_SHUTDOWN = TimeUnit.SECONDS;
+
+
+    //
+    // Class Resources
+    //
+
+    /** The class logger */
+    private static final Logger             LOGGER = LogManager.getLogger();
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The in-process server name */
+    private final String                    strName;
+
+    /** The localhost port - 0 for the in-process transport */
+    private final int                       intPort;
+
+
+    //
+    // Instance Resources
+    //
+
+    /** The synthesized test archive */
+    private final StandInArchive            arcData;
+
+    /** The network condition throttle shared by all services */
+    private final StandInThrottle           thrNetwork;
+
+    /** The Query Service implementation */
+    private final StandInQueryService       svcQuery;
+
+    /** The Ingestion Service implementation */
+    private final StandInIngestionService   svcIngest;
+
+    /** The Annotation Service implementation */
+    private final StandInAnnotationService  svcAnnotate;
+
+    /** The gRPC server */
+    private final Server                    srvGrpc;
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new, unstarted stand-in server using the default JAL tools configuration.
+     * </p>
+     *
+     * @return  new stand-in server configured by the <code>testArchive</code> and <code>standIn</code> blocks
+     *          of the JAL tools configuration
+     *
+     * @throws IllegalArgumentException the configuration is inconsistent (see message)
+     */
+    public static DpStandInServer   create() throws IllegalArgumentException {
+        return new DpStandInServer(CFG_TOOLS.testArchive, CFG_TOOLS.standIn);
+    }
+
+    /**
+     * <p>
+     * Creates a new, unstarted stand-in server using the given configurations.
+     * </p>
+     *
+     * @param cfgArchive    the test archive to synthesize
+     * @param cfgServer     the server transport, paging, and network conditions
+     *
+     * @return  new stand-in server
+     *
+     * @throws IllegalArgumentException the configuration is inconsistent (see message)
+     */
+    public static DpStandInServer   create(JalTestArchiveConfig cfgArchive, JalStandInServerConfig cfgServer) throws IllegalArgumentException {
+        return new DpStandInServer(cfgArchive, cfgServer);
+    }
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new, unstarted instance of <code>DpStandInServer</code>.
+     * </p>
+     *
+     * @param cfgArchive    the test archive to synthesize
+     * @param cfgServer     the server transport, paging, and network conditions
+     *
+     * @throws IllegalArgumentException the configuration is inconsistent (see message)
+     */
+    public DpStandInServer(JalTestArchiveConfig cfgArchive, JalStandInServerConfig cfgServer) throws IllegalArgumentException {
+        this.strName = cfgServer.name;
+        this.intPort = cfgServer.port;
+
+        Duration    durBucket = Duration.of(cfgServer.bucket.period, cfgServer.bucket.units.toChronoUnit());
+        Duration    durLatency = Duration.of(cfgServer.latency.period, cfgServer.latency.units.toChronoUnit());
+
+        this.arcData = StandInArchive.from(cfgArchive, durBucket);
+        this.thrNetwork = StandInThrottle.create(durLatency, cfgServer.bandwidth);
+        this.svcQuery = new StandInQueryService(this.arcData, this.thrNetwork, cfgServer.pageSize);
+        this.svcIngest = new StandInIngestionService(this.thrNetwork);
+        this.svcAnnotate = new StandInAnnotationService(this.arcData, this.thrNetwork);
+
+        ServerBuilder<?>    bldrSrv;
+
+        if (this.intPort == 0)
+            bldrSrv = InProcessServerBuilder.forName(this.strName);
+        else
+            bldrSrv = Grpc.newServerBuilderForPort(this.intPort, InsecureServerCredentials.create());
+
+        this.srvGrpc = bldrSrv
+                .addService(this.svcQuery)
+                .addService(this.svcIngest)
+                .addService(this.svcAnnotate)
+                .maxInboundMessageSize(Integer.MAX_VALUE)
+                .build();
+    }
+
+
+    //
+    // State Query
+    //
+
+    /**
+     * @return  <code>true</code> if the server uses the in-process transport, <code>false</code> for localhost
+     */
+    public boolean  isInProcess() {
+        return this.intPort == 0;
+    }
+
+    /**
+     * @return  the in-process server name
+     */
+    public String   getName() {
+        return this.strName;
+    }
+
+    /**
+     * @return  the localhost port, or 0 for the in-process transport
+     */
+    public int  getPort() {
+        return this.intPort;
+    }
+
+    /**
+     * @return  the synthesized test archive served by the server
+     */
+    public StandInArchive   getArchive() {
+        return this.arcData;
+    }
+
+    /**
+     * @return  the network condition throttle shared by all services
+     */
+    public StandInThrottle  getThrottle() {
+        return this.thrNetwork;
+    }
+
+    /**
+     * @return  the Query Service implementation (e.g., for its request statistics)
+     */
+    public StandInQueryService  getQueryService() {
+        return this.svcQuery;
+    }
+
+    /**
+     * @return  the Ingestion Service implementation (e.g., for its request statistics)
+     */
+    public StandInIngestionService  getIngestionService() {
+        return this.svcIngest;
+    }
+
+    /**
+     * @return  the Annotation Service implementation
+     */
+    public StandInAnnotationService getAnnotationService() {
+        return this.svcAnnotate;
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Starts the server.
+     * </p>
+     *
+     * @return  this server
+     *
+     * @throws IOException              the server could not bind its transport
+     * @throws IllegalStateException    the server was already started
+     */
+    public DpStandInServer  start() throws IOException, IllegalStateException {
+        this.srvGrpc.start();
+
+        LOGGER.info("Data Platform stand-in server started: transport={}, archive PVs={}, page size={}, latency={}, bandwidth={} bytes/s",
+                (this.isInProcess() ? "in-process " + this.strName : "localhost:" + this.intPort),
+                this.arcData.getPvNames().size(),
+                this.svcQuery.getPageSize(),
+                this.thrNetwork.getLatency(),
+                this.thrNetwork.getBandwidth());
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Creates a new plain-text channel to the server.
+     * </p>
+     * <p>
+     * The caller owns the channel and must shut it down (typically through the connection wrapping it).
+     * </p>
+     *
+     * @return  new channel to the server transport
+     */
+    public ManagedChannel   createChannel() {
+
+        if (this.isInProcess())
+            return InProcessChannelBuilder.forName(this.strName)
+                    .maxInboundMessageSize(Integer.MAX_VALUE)
+                    .build();
+
+        return Grpc.newChannelBuilderForAddress("localhost", this.intPort, InsecureChannelCredentials.create())
+                .maxInboundMessageSize(Integer.MAX_VALUE)
+                .build();
+    }
+
+    /**
+     * <p>
+     * Shuts down the server, waiting a limited time for active calls to complete before cancelling them.
+     * </p>
+     *
+     * @throws InterruptedException interrupted while waiting for termination
+     */
+    public void shutdown() throws InterruptedException {
+        this.srvGrpc.shutdown();
+
+        if (!this.srvGrpc.awaitTermination(LNG_TIMEOUT_SHUTDOWN, TU_TIMEOUT_SHUTDOWN))
+            this.srvGrpc.shutdownNow().awaitTermination();
+    }
+
+    /**
+     * <p>
+     * Blocks until the server terminates.
+     * </p>
+     *
+     * @throws InterruptedException interrupted while waiting for termination
+     */
+    public void awaitTermination() throws InterruptedException {
+        this.srvGrpc.awaitTermination();
+    }
+
+    /**
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close() throws InterruptedException {
+        this.shutdown();
+    }
+
+
+    //
+    // Application
+    //
+
+    /**
+     * <p>
+     * Runs the stand-in server upon a localhost port until the process is terminated.
+     * </p>
+     * <p>
+     * The port is given by the first argument if present, otherwise by the configuration (or
+     * <code>{@link #INT_PORT_DEFAULT}</code> if the configuration selects the in-process transport).
+     * </p>
+     *
+     * @param args  optional localhost port
+     *
+     * @throws Exception    the server could not be started
+     */
+    public static void main(String[] args) throws Exception {
+
+        JalStandInServerConfig  cfgServer = CFG_TOOLS.standIn;
+
+        if (args.length > 0)
+            cfgServer.port = Integer.parseInt(args[0]);
+        else if (cfgServer.port == 0)
+            cfgServer.port = INT_PORT_DEFAULT;
+
+        DpStandInServer     server = DpStandInServer.create(CFG_TOOLS.testArchive, cfgServer).start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.shutdown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        server.awaitTermination();
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Project: dp-api-common
+ * File:	StandInAnnotationService.java
+ * Package: com.ospreydcs.dp.jal.tools.server
+ * Type: 	StandInAnnotationService
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.server;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.protobuf.Message;
+import com.ospreydcs.dp.api.grpc.util.ProtoMsg;
+import com.ospreydcs.dp.grpc.v1.annotation.CreateDataSetRequest;
+import com.ospreydcs.dp.grpc.v1.annotation.CreateDataSetResponse;
+import com.ospreydcs.dp.grpc.v1.annotation.CreateDataSetResponse.CreateDataSetResult;
+import com.ospreydcs.dp.grpc.v1.annotation.DataBlock;
+import com.ospreydcs.dp.grpc.v1.annotation.DataSet;
+import com.ospreydcs.dp.grpc.v1.annotation.DpAnnotationServiceGrpc;
+import com.ospreydcs.dp.grpc.v1.annotation.QueryDataSetsRequest;
+import com.ospreydcs.dp.grpc.v1.annotation.QueryDataSetsRequest.QueryDataSetsCriterion;
+import com.ospreydcs.dp.grpc.v1.annotation.QueryDataSetsResponse;
+import com.ospreydcs.dp.grpc.v1.annotation.QueryDataSetsResponse.DataSetsResult;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * <p>
+ * Annotation Service implementation of the Data Platform stand-in server.
+ * </p>
+ * <p>
+ * Data sets are held in memory for the lifetime of the server.  The supported operations are
+ * <ul>
+ * <li><code>createDataSet</code> - the data set is assigned a UID and stored.  Data sets with no data blocks, or
+ *     with data blocks referencing PVs outside the stand-in archive, are rejected.</li>
+ * <li><code>queryDataSets</code> - returns all stored data sets satisfying every criterion of the request.  An
+ *     ID criterion matches the data set UID, an owner criterion the owner UID, a PV name criterion any PV of the
+ *     data blocks, and a text criterion any substring of the data set name or description.</li>
+ * </ul>
+ * Every response message is paced through the server <code>{@link StandInThrottle}</code>.  The service counts
+ * the calls in progress so that clients pipelining requests may verify their concurrency bounds.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public final class StandInAnnotationService extends DpAnnotationServiceGrpc.DpAnnotationServiceImplBase {
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The synthesized test archive - data blocks must reference its PVs */
+    private final StandInArchive            arcData;
+
+    /** The network condition throttle */
+    private final StandInThrottle           thrNetwork;
+
+
+    //
+    // Instance Resources
+    //
+
+    /** The stored data sets indexed by UID */
+    private final Map<String, DataSet>      mapDataSets = new ConcurrentSkipListMap<>();
+
+
+    //
+    // State Variables
+    //
+
+    /** Last data set UID issued */
+    private final AtomicLong                cntDataSetUids = new AtomicLong();
+
+    /** Number of calls received */
+    private final AtomicLong                cntCalls = new AtomicLong();
+
+    /** Number of calls in progress */
+    private final AtomicInteger             cntActive = new AtomicInteger();
+
+    /** Maximum number of calls simultaneously in progress */
+    private final AtomicInteger             cntPeakActive = new AtomicInteger();
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>StandInAnnotationService</code>.
+     * </p>
+     *
+     * @param arcData       the synthesized test archive
+     * @param thrNetwork    the network condition throttle for all responses
+     */
+    public StandInAnnotationService(StandInArchive arcData, StandInThrottle thrNetwork) {
+        this.arcData = arcData;
+        this.thrNetwork = thrNetwork;
+    }
+
+
+    //
+    // State Query
+    //
+
+    /**
+     * @return  the number of stored data sets
+     */
+    public int  getDataSetCount() {
+        return this.mapDataSets.size();
+    }
+
+    /**
+     * @return  the number of calls received
+     */
+    public long getCallCount() {
+        return this.cntCalls.get();
+    }
+
+    /**
+     * @return  the maximum number of calls simultaneously in progress
+     */
+    public int  getPeakActiveCalls() {
+        return this.cntPeakActive.get();
+    }
+
+
+    //
+    // DpAnnotationServiceImplBase Overrides
+    //
+
+    /**
+     * @see com.ospreydcs.dp.grpc.v1.annotation.DpAnnotationServiceGrpc.DpAnnotationServiceImplBase#createDataSet(com.ospreydcs.dp.grpc.v1.annotation.CreateDataSetRequest, io.grpc.stub.StreamObserver)
+     */
+    @Override
+    public void createDataSet(CreateDataSetRequest msgRqst, StreamObserver<CreateDataSetResponse> hndRsp) {
+        this.enter();
+
+        DataSet     msgDset = msgRqst.getDataSet();
+        String      strError = null;
+
+        if (msgDset.getDataBlocksCount() == 0)
+            strError = "Data set contains no data blocks.";
+        else
+            for (DataBlock msgBlk : msgDset.getDataBlocksList())
+                for (String strPvName : msgBlk.getPvNamesList())
+                    if (!this.arcData.hasPv(strPvName))
+                        strError = "PV " + strPvName + " is not within the archive.";
+
+        CreateDataSetResponse.Builder   bldrRsp = CreateDataSetResponse.newBuilder()
+                .setResponseTime(ProtoMsg.from(Instant.now()));
+
+        if (strError != null) {
+            bldrRsp.setExceptionalResult(StandInQueryService.createRejection(strError));
+
+        } else {
+            String  strUid = Long.toString(this.cntDataSetUids.incrementAndGet());
+
+            this.mapDataSets.put(strUid, msgDset.toBuilder().setId(strUid).build());
+            bldrRsp.setCreateDataSetResult(CreateDataSetResult.newBuilder().setDataSetId(strUid));
+        }
+
+        this.respond(bldrRsp.build(), hndRsp);
+    }
+
+    /**
+     * @see com.ospreydcs.dp.grpc.v1.annotation.DpAnnotationServiceGrpc.DpAnnotationServiceImplBase#queryDataSets(com.ospreydcs.dp.grpc.v1.annotation.QueryDataSetsRequest, io.grpc.stub.StreamObserver)
+     */
+    @Override
+    public void queryDataSets(QueryDataSetsRequest msgRqst, StreamObserver<QueryDataSetsResponse> hndRsp) {
+        this.enter();
+
+        List<QueryDataSetsCriterion>    lstCrits = msgRqst.getCriteriaList();
+        List<DataSet>                   lstMatches = this.mapDataSets.values()
+                .stream()
+                .filter(msgDset -> lstCrits.stream().allMatch(msgCrit -> StandInAnnotationService.matches(msgCrit, msgDset)))
+                .toList();
+
+        QueryDataSetsResponse   msgRsp = QueryDataSetsResponse.newBuilder()
+                .setResponseTime(ProtoMsg.from(Instant.now()))
+                .setDataSetsResult(DataSetsResult.newBuilder().addAllDataSets(lstMatches))
+                .build();
+
+        this.respond(msgRsp, hndRsp);
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Records the start of a call.
+     * </p>
+     */
+    private void    enter() {
+        int     cntNow = this.cntActive.incrementAndGet();
+
+        this.cntCalls.incrementAndGet();
+        this.cntPeakActive.accumulateAndGet(cntNow, Math::max);
+    }
+
+    /**
+     * <p>
+     * Paces the (unary) response message through the throttle, sends it, and records the end of the call.
+     * </p>
+     *
+     * @param <T>       the response message type
+     *
+     * @param msgRsp    the response message
+     * @param hndRsp    the response stream
+     */
+    private <T extends Message> void respond(T msgRsp, StreamObserver<T> hndRsp) {
+        try {
+            this.thrNetwork.pace(msgRsp.getSerializedSize());
+
+            this.cntActive.decrementAndGet();
+            hndRsp.onNext(msgRsp);
+            hndRsp.onCompleted();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            this.cntActive.decrementAndGet();
+            hndRsp.onError(Status.CANCELLED.withDescription("Stand-in server interrupted.").asRuntimeException());
+        }
+    }
+
+    /**
+     * @param msgCrit   data set query criterion
+     * @param msgDset   stored data set
+     *
+     * @return  <code>true</code> if the data set satisfies the criterion, <code>false</code> otherwise
+     */
+    private static boolean  matches(QueryDataSetsCriterion msgCrit, DataSet msgDset) {
+
+        if (msgCrit.hasIdCriterion())
+            return msgDset.getId().equals(msgCrit.getIdCriterion().getId());
+
+        if (msgCrit.hasOwnerCriterion())
+            return msgDset.getOwnerId().equals(msgCrit.getOwnerCriterion().getOwnerId());
+
+        if (msgCrit.hasPvNameCriterion())
+            return msgDset.getDataBlocksList()
+                    .stream()
+                    .anyMatch(msgBlk -> msgBlk.getPvNamesList().contains(msgCrit.getPvNameCriterion().getName()));
+
+        if (msgCrit.hasTextCriterion()) {
+            String  strText = msgCrit.getTextCriterion().getText();
+
+            return msgDset.getName().contains(strText) || msgDset.getDescription().contains(strText);
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,537 @@
+/*
+ * Project: dp-api-common
+ * File:	StandInArchive.java
+ * Package: com.ospreydcs.dp.jal.tools.server
+ * Type: 	StandInArchive
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.server;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import com.ospreydcs.dp.api.common.DpSupportedType;
+import com.ospreydcs.dp.api.grpc.util.ProtoMsg;
+import com.ospreydcs.dp.api.util.JavaRuntime;
+import com.ospreydcs.dp.grpc.v1.common.DataColumn;
+import com.ospreydcs.dp.grpc.v1.common.DataTimestamps;
+import com.ospreydcs.dp.grpc.v1.common.DataValue;
+import com.ospreydcs.dp.grpc.v1.common.SamplingClock;
+import com.ospreydcs.dp.grpc.v1.common.TimestampList;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse.QueryData.DataBucket;
+import com.ospreydcs.dp.grpc.v1.query.QueryPvMetadataResponse.MetadataResult.PvInfo;
+import com.ospreydcs.dp.jal.tools.config.archive.JalTestArchiveConfig;
+
+/**
+ * <p>
+ * Synthesizes the Data Platform test archive on demand.
+ * </p>
+ * <p>
+ * The test archive is described by the <code>testArchive</code> block of the JAL tools configuration
+ * (see <code>{@link JalTestArchiveConfig}</code>), which mirrors the archive produced by the Data Platform utility
+ * <code>app-run-test-data-generator</code>.  Rather than storing the archive, this class computes any data bucket
+ * of any archive PV directly from its (PV index, sample index) coordinates.  Thus, the entire archive is available
+ * at realistic scale without occupying memory and without an external Data Platform installation.
+ * </p>
+ * <p>
+ * <h2>Archive Layout</h2>
+ * <ul>
+ * <li>PV names are the configured prefix appended with the 1-based PV index.</li>
+ * <li>All PVs are sampled at the configured sampling clock period from the archive inception through the archive
+ *     final instant (inclusive).</li>
+ * <li>PVs within the configured clocked index range produce data buckets with a <code>SamplingClock</code>, PVs
+ *     within the timestamp list index range produce data buckets with an explicit <code>TimestampList</code>.</li>
+ * <li>PV data types are assigned cyclically from the configured type list by PV index.</li>
+ * <li>Samples are partitioned into data buckets of fixed duration aligned with the archive inception.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <h2>Sample Values</h2>
+ * Sample values are deterministic functions of the PV and sample indexes (see <code>{@link #value(int, long)}</code>)
+ * so clients may verify recovered data without reference to the server.
+ * </p>
+ * <p>
+ * <h2>Thread Safety</h2>
+ * Instances are immutable after creation and may be shared by all service threads.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public final class StandInArchive {
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The PV name prefix */
+    private final String                strPvPrefix;
+
+    /** The PV data types, assigned cyclically by PV index */
+    private final List<DpSupportedType> lstTypes;
+
+    /** The archive inception instant (first sample) */
+    private final Instant               insIncept;
+
+    /** The sample period (nanoseconds) */
+    private final long                  lngPeriodNs;
+
+    /** The number of samples for each PV */
+    private final long                  cntSamples;
+
+    /** The number of samples within each data bucket */
+    private final int                   cntBucketSamples;
+
+
+    //
+    // Instance Resources
+    //
+
+    /** Map of PV names to their 0-based PV indexes */
+    private final Map<String, Integer>  mapPvIndexes;
+
+    /** Ordered list of all PV names */
+    private final List<String>          lstPvNames;
+
+    /** 0-based index range [first, last) of clocked PVs */
+    private final int                   indClockedFirst, indClockedLast;
+
+    /** 0-based index range [first, last) of timestamp list PVs */
+    private final int                   indTmsListFirst, indTmsListLast;
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new <code>StandInArchive</code> from the given test archive configuration.
+     * </p>
+     *
+     * @param cfgArchive    the test archive configuration
+     * @param durBucket     the time duration of each data bucket
+     *
+     * @return  new archive synthesizing the described test archive
+     *
+     * @throws IllegalArgumentException the configuration or bucket duration is inconsistent (see message)
+     */
+    public static StandInArchive from(JalTestArchiveConfig cfgArchive, Duration durBucket) throws IllegalArgumentException {
+        return new StandInArchive(cfgArchive, durBucket);
+    }
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>StandInArchive</code>.
+     * </p>
+     *
+     * @param cfgArchive    the test archive configuration
+     * @param durBucket     the time duration of each data bucket
+     *
+     * @throws IllegalArgumentException the configuration or bucket duration is inconsistent (see message)
+     */
+    public StandInArchive(JalTestArchiveConfig cfgArchive, Duration durBucket) throws IllegalArgumentException {
+
+        Instant     insFinal = Instant.parse(cfgArchive.range.end);
+
+        this.strPvPrefix = cfgArchive.pvs.prefix;
+        this.lstTypes = List.copyOf(cfgArchive.pvs.types);
+        this.insIncept = Instant.parse(cfgArchive.range.start);
+        this.lngPeriodNs = cfgArchive.pvs.clock.units.toNanos(cfgArchive.pvs.clock.period);
+
+        // Check arguments
+        if (this.lngPeriodNs <= 0 || this.lstTypes.isEmpty() || insFinal.isBefore(this.insIncept))
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Invalid test archive sampling configuration.");
+
+        if (durBucket.toNanos() < this.lngPeriodNs)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Bucket duration " + durBucket + " is less than the sample period.");
+
+        this.cntSamples = Duration.between(this.insIncept, insFinal).toNanos()/this.lngPeriodNs + 1;
+        this.cntBucketSamples = (int)(durBucket.toNanos()/this.lngPeriodNs);
+
+        this.indClockedFirst = cfgArchive.pvs.indexes.clocked;
+        this.indClockedLast = this.indClockedFirst + cfgArchive.pvs.count.clocked;
+        this.indTmsListFirst = cfgArchive.pvs.indexes.tmsList;
+        this.indTmsListLast = this.indTmsListFirst + cfgArchive.pvs.count.tmsList;
+
+        // Create the PV names
+        int     cntPvs = cfgArchive.pvs.count.total;
+
+        this.mapPvIndexes = new HashMap<>(2*cntPvs);
+        List<String>    lstNames = new ArrayList<>(cntPvs);
+
+        for (int indPv=0; indPv<cntPvs; indPv++) {
+            String  strName = this.strPvPrefix + Integer.toString(indPv + 1);
+
+            lstNames.add(strName);
+            this.mapPvIndexes.put(strName, indPv);
+        }
+        this.lstPvNames = Collections.unmodifiableList(lstNames);
+    }
+
+
+    //
+    // State Query
+    //
+
+    /**
+     * @return  ordered, immutable list of all PV names within the archive
+     */
+    public List<String> getPvNames() {
+        return this.lstPvNames;
+    }
+
+    /**
+     * @param strPvName PV name
+     *
+     * @return  <code>true</code> if the PV exists within the archive, <code>false</code> otherwise
+     */
+    public boolean  hasPv(String strPvName) {
+        return this.mapPvIndexes.containsKey(strPvName);
+    }
+
+    /**
+     * @param strPvName PV name
+     *
+     * @return  the 0-based PV index, or -1 if the PV does not exist within the archive
+     */
+    public int  getPvIndex(String strPvName) {
+        return this.mapPvIndexes.getOrDefault(strPvName, -1);
+    }
+
+    /**
+     * @param indPv 0-based PV index
+     *
+     * @return  <code>true</code> if the PV data buckets carry a uniform sampling clock, <code>false</code> if they
+     *          carry an explicit timestamp list
+     */
+    public boolean  isClocked(int indPv) {
+        if (indPv >= this.indTmsListFirst && indPv < this.indTmsListLast)
+            return false;
+
+        return true;
+    }
+
+    /**
+     * @param indPv 0-based PV index
+     *
+     * @return  the data type of the PV
+     */
+    public DpSupportedType  getType(int indPv) {
+        return this.lstTypes.get(indPv % this.lstTypes.size());
+    }
+
+    /**
+     * @return  the archive inception instant (first sample of every PV)
+     */
+    public Instant  getInception() {
+        return this.insIncept;
+    }
+
+    /**
+     * @return  the last sample instant of every PV
+     */
+    public Instant  getFinal() {
+        return this.insIncept.plusNanos((this.cntSamples - 1)*this.lngPeriodNs);
+    }
+
+    /**
+     * @return  the number of samples for each PV
+     */
+    public long getSampleCount() {
+        return this.cntSamples;
+    }
+
+    /**
+     * @return  the number of samples within a complete data bucket
+     */
+    public int  getBucketSampleCount() {
+        return this.cntBucketSamples;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the given sample as a <code>double</code>.
+     * </p>
+     * <p>
+     * The value is the PV index plus the sample index modulo 1000 in thousandths.  Values of other data types
+     * are derived from this value (see <code>{@link #createValue(DpSupportedType, int, long)}</code>).
+     * </p>
+     *
+     * @param indPv     0-based PV index
+     * @param indSmpl   sample index from archive inception
+     *
+     * @return  the sample value
+     */
+    public static double    value(int indPv, long indSmpl) {
+        return indPv + (indSmpl % 1000L)/1000.0;
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Returns a lazy cursor over all data buckets of the given PVs intersecting the given time range.
+     * </p>
+     * <p>
+     * Data buckets are produced in time order, with all PVs of one bucket period produced before the next period.
+     * Buckets are trimmed to the time range, which is closed at the beginning and open at the end.  Data buckets are
+     * created only as the cursor advances.
+     * </p>
+     *
+     * @param lstPvNames    PV names within the archive
+     * @param insBegin      beginning of the time range (inclusive)
+     * @param insEnd        end of the time range (exclusive)
+     *
+     * @return  new cursor over the requested data buckets
+     *
+     * @throws IllegalArgumentException a PV name does not exist within the archive
+     */
+    public Iterator<DataBucket>  cursor(List<String> lstPvNames, Instant insBegin, Instant insEnd) throws IllegalArgumentException {
+
+        int[]   arrIndPvs = new int[lstPvNames.size()];
+
+        for (int i=0; i<arrIndPvs.length; i++) {
+            arrIndPvs[i] = this.getPvIndex(lstPvNames.get(i));
+
+            if (arrIndPvs[i] < 0)
+                throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - PV " + lstPvNames.get(i) + " is not within the test archive.");
+        }
+
+        long    indSmplFirst = Math.max(0L, this.ceilSample(insBegin));
+        long    indSmplLast = Math.min(this.cntSamples, this.ceilSample(insEnd));
+
+        return new BucketCursor(arrIndPvs, indSmplFirst, indSmplLast);
+    }
+
+    /**
+     * <p>
+     * Creates a data bucket message for the given PV containing the given range of samples.
+     * </p>
+     *
+     * @param indPv         0-based PV index
+     * @param indSmplFirst  index of the first sample within the bucket
+     * @param cntSmpls      number of samples within the bucket
+     *
+     * @return  new data bucket message
+     */
+    public DataBucket   createBucket(int indPv, long indSmplFirst, int cntSmpls) {
+
+        // Create the timestamps
+        Instant         insFirst = this.insIncept.plusNanos(indSmplFirst*this.lngPeriodNs);
+        DataTimestamps  msgTms;
+
+        if (this.isClocked(indPv)) {
+            SamplingClock   msgClk = SamplingClock.newBuilder()
+                    .setStartTime(ProtoMsg.from(insFirst))
+                    .setPeriodNanos(this.lngPeriodNs)
+                    .setCount(cntSmpls)
+                    .build();
+
+            msgTms = DataTimestamps.newBuilder().setSamplingClock(msgClk).build();
+
+        } else {
+            TimestampList.Builder   bldrTms = TimestampList.newBuilder();
+
+            for (int i=0; i<cntSmpls; i++)
+                bldrTms.addTimestamps(ProtoMsg.from(insFirst.plusNanos(i*this.lngPeriodNs)));
+
+            msgTms = DataTimestamps.newBuilder().setTimestampList(bldrTms).build();
+        }
+
+        // Create the data column
+        DpSupportedType     enmType = this.getType(indPv);
+        DataColumn.Builder  bldrCol = DataColumn.newBuilder().setName(this.lstPvNames.get(indPv));
+
+        for (int i=0; i<cntSmpls; i++)
+            bldrCol.addDataValues(StandInArchive.createValue(enmType, indPv, indSmplFirst + i));
+
+        return DataBucket.newBuilder()
+                .setDataTimestamps(msgTms)
+                .setDataColumn(bldrCol)
+                .build();
+    }
+
+    /**
+     * <p>
+     * Creates the PV metadata message for the given archive PV.
+     * </p>
+     * <p>
+     * The "last bucket" properties describe the final (possibly partial) data bucket of the archive.
+     * </p>
+     *
+     * @param indPv 0-based PV index
+     *
+     * @return  new PV metadata message
+     */
+    public PvInfo   createPvInfo(int indPv) {
+
+        long        indBucketLast = (this.cntSamples - 1)/this.cntBucketSamples;
+        long        indSmplFirst = indBucketLast*this.cntBucketSamples;
+        int         cntSmpls = (int)(this.cntSamples - indSmplFirst);
+
+        DataValue       msgVal = StandInArchive.createValue(this.getType(indPv), indPv, 0L);
+        DataTimestamps  msgTms = this.createBucket(indPv, indSmplFirst, 1).getDataTimestamps();
+
+        return PvInfo.newBuilder()
+                .setPvName(this.lstPvNames.get(indPv))
+                .setLastBucketDataTypeCase(msgVal.getValueCase().getNumber())
+                .setLastBucketDataType(msgVal.getValueCase().name())
+                .setFirstDataTimestamp(ProtoMsg.from(this.insIncept))
+                .setLastDataTimestamp(ProtoMsg.from(this.getFinal()))
+                .setLastBucketDataTimestampsCase(msgTms.getValueCase().getNumber())
+                .setLastBucketDataTimestampsType(msgTms.getValueCase().name())
+                .setLastBucketSampleCount(cntSmpls)
+                .setLastBucketSamplePeriod(this.lngPeriodNs)
+                .build();
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Creates the data value message of the given sample.
+     * </p>
+     * <p>
+     * Numeric types are derived from <code>{@link #value(int, long)}</code>, integral types use the value in
+     * thousandths.  Unsupported types are served as <code>double</code> values.
+     * </p>
+     *
+     * @param enmType   sample data type
+     * @param indPv     0-based PV index
+     * @param indSmpl   sample index from archive inception
+     *
+     * @return  new data value message
+     */
+    private static DataValue    createValue(DpSupportedType enmType, int indPv, long indSmpl) {
+
+        double              dblVal = StandInArchive.value(indPv, indSmpl);
+        DataValue.Builder   bldrVal = DataValue.newBuilder();
+
+        return switch (enmType) {
+            case BOOLEAN -> bldrVal.setBooleanValue(indSmpl % 2L == 0L).build();
+            case INTEGER -> bldrVal.setIntValue((int)Math.round(1000.0*dblVal)).build();
+            case LONG -> bldrVal.setLongValue(Math.round(1000.0*dblVal)).build();
+            case FLOAT -> bldrVal.setFloatValue((float)dblVal).build();
+            case STRING -> bldrVal.setStringValue(Double.toString(dblVal)).build();
+            default -> bldrVal.setDoubleValue(dblVal).build();
+        };
+    }
+
+    /**
+     * @param ins   time instant
+     *
+     * @return  index of the first sample at or after the given instant (may be negative or beyond the archive)
+     */
+    private long    ceilSample(Instant ins) {
+        long    lngOffsetNs = Duration.between(this.insIncept, ins).toNanos();
+
+        return Math.floorDiv(lngOffsetNs + this.lngPeriodNs - 1, this.lngPeriodNs);
+    }
+
+
+    //
+    // Internal Types
+    //
+
+    /**
+     * <p>
+     * Lazy iterator over the data buckets of a PV set within a sample range.
+     * </p>
+     */
+    private final class BucketCursor implements Iterator<DataBucket> {
+
+        /** The 0-based PV indexes */
+        private final int[]     arrIndPvs;
+
+        /** The sample range [first, last) */
+        private final long      indSmplFirst, indSmplLast;
+
+        /** Index of the current bucket period */
+        private long            indBucket;
+
+        /** Position of the next PV within the current bucket period */
+        private int             indNextPv = 0;
+
+
+        /**
+         * @param arrIndPvs     0-based PV indexes
+         * @param indSmplFirst  first sample index (inclusive)
+         * @param indSmplLast   last sample index (exclusive)
+         */
+        private BucketCursor(int[] arrIndPvs, long indSmplFirst, long indSmplLast) {
+            this.arrIndPvs = arrIndPvs;
+            this.indSmplFirst = indSmplFirst;
+            this.indSmplLast = indSmplLast;
+            this.indBucket = indSmplFirst/StandInArchive.this.cntBucketSamples;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.arrIndPvs.length > 0
+                    && this.indSmplFirst < this.indSmplLast
+                    && this.indBucket*StandInArchive.this.cntBucketSamples < this.indSmplLast;
+        }
+
+        @Override
+        public DataBucket next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException(JavaRuntime.getQualifiedMethodNameSimple() + " - Cursor is exhausted.");
+
+            // Trim the bucket period to the sample range
+            long    indBucketFirst = this.indBucket*StandInArchive.this.cntBucketSamples;
+            long    indFirst = Math.max(indBucketFirst, this.indSmplFirst);
+            long    indLast = Math.min(indBucketFirst + StandInArchive.this.cntBucketSamples, this.indSmplLast);
+
+            DataBucket  msgBucket = StandInArchive.this.createBucket(this.arrIndPvs[this.indNextPv], indFirst, (int)(indLast - indFirst));
+
+            // Advance to the next PV, then the next bucket period
+            if (++this.indNextPv == this.arrIndPvs.length) {
+                this.indNextPv = 0;
+                this.indBucket++;
+            }
+
+            return msgBucket;
+        }
+    }
+}
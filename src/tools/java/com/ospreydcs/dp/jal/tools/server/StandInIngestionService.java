@@ -0,0 +1,382 @@
+/*
+ * Project: dp-api-common
+ * File:	StandInIngestionService.java
+ * Package: com.ospreydcs.dp.jal.tools.server
+ * Type: 	StandInIngestionService
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.server;
+
+import java.time.Instant;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ospreydcs.dp.api.grpc.util.ProtoMsg;
+import com.ospreydcs.dp.grpc.v1.common.DataColumn;
+import com.ospreydcs.dp.grpc.v1.common.DataTimestamps;
+import com.ospreydcs.dp.grpc.v1.ingestion.DpIngestionServiceGrpc;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest.IngestionDataFrame;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataResponse;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataResponse.AckResult;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataStreamResponse;
+import com.ospreydcs.dp.grpc.v1.ingestion.IngestDataStreamResponse.IngestDataStreamResult;
+import com.ospreydcs.dp.grpc.v1.ingestion.RegisterProviderRequest;
+import com.ospreydcs.dp.grpc.v1.ingestion.RegisterProviderResponse;
+import com.ospreydcs.dp.grpc.v1.ingestion.RegisterProviderResponse.RegistrationResult;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * <p>
+ * Ingestion Service implementation of the Data Platform stand-in server.
+ * </p>
+ * <p>
+ * The service validates and acknowledges ingestion requests exactly as the client expects from the Ingestion
+ * Service, but discards the data (the stand-in archive is synthesized, not stored).  Thus, the ingestion side of the
+ * client pipeline (frame decomposition, conversion, streaming, and acknowledgment processing) is exercised at full
+ * rate without storage costs.  The supported operations are
+ * <ul>
+ * <li><code>registerProvider</code> - providers receive a UID which is stable for the server lifetime.</li>
+ * <li><code>ingestData</code> - unary ingestion, one acknowledgment per request.</li>
+ * <li><code>ingestDataStream</code> - unidirectional streaming, one summary response when the client completes.</li>
+ * <li><code>ingestDataBidiStream</code> - bidirectional streaming, one acknowledgment per request.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <h2>Validation</h2>
+ * A request is rejected if its provider is not registered, its ingestion frame has no timestamps, or any data column
+ * size differs from the number of timestamps.  Every <em>received</em> request message is paced through the server
+ * <code>{@link StandInThrottle}</code>, modeling the client upload link.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public final class StandInIngestionService extends DpIngestionServiceGrpc.DpIngestionServiceImplBase {
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The network condition throttle for all requests */
+    private final StandInThrottle           thrNetwork;
+
+
+    //
+    // Instance Resources
+    //
+
+    /** Map of registered provider names to provider UIDs */
+    private final Map<String, String>       mapProviders = new ConcurrentHashMap<>();
+
+
+    //
+    // State Variables
+    //
+
+    /** Last provider UID issued */
+    private final AtomicLong                cntProviderUids = new AtomicLong();
+
+    /** Number of ingest data requests received */
+    private final AtomicLong                cntRequests = new AtomicLong();
+
+    /** Number of ingest data requests rejected */
+    private final AtomicLong                cntRejected = new AtomicLong();
+
+    /** Number of data rows (samples) accepted */
+    private final AtomicLong                cntRows = new AtomicLong();
+
+    /** Number of data values accepted */
+    private final AtomicLong                cntValues = new AtomicLong();
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>StandInIngestionService</code>.
+     * </p>
+     *
+     * @param thrNetwork    the network condition throttle for all requests
+     */
+    public StandInIngestionService(StandInThrottle thrNetwork) {
+        this.thrNetwork = thrNetwork;
+    }
+
+
+    //
+    // State Query
+    //
+
+    /**
+     * @return  the number of registered data providers
+     */
+    public int  getProviderCount() {
+        return this.mapProviders.size();
+    }
+
+    /**
+     * @return  the number of ingest data requests received
+     */
+    public long getRequestCount() {
+        return this.cntRequests.get();
+    }
+
+    /**
+     * @return  the number of ingest data requests rejected
+     */
+    public long getRejectedCount() {
+        return this.cntRejected.get();
+    }
+
+    /**
+     * @return  the number of data rows (samples) accepted
+     */
+    public long getRowCount() {
+        return this.cntRows.get();
+    }
+
+    /**
+     * @return  the number of data values accepted
+     */
+    public long getValueCount() {
+        return this.cntValues.get();
+    }
+
+
+    //
+    // DpIngestionServiceImplBase Overrides
+    //
+
+    /**
+     * @see com.ospreydcs.dp.grpc.v1.ingestion.DpIngestionServiceGrpc.DpIngestionServiceImplBase#registerProvider(com.ospreydcs.dp.grpc.v1.ingestion.RegisterProviderRequest, io.grpc.stub.StreamObserver)
+     */
+    @Override
+    public void registerProvider(RegisterProviderRequest msgRqst, StreamObserver<RegisterProviderResponse> hndRsp) {
+
+        String      strName = msgRqst.getProviderName();
+        long        cntUidsPrev = this.cntProviderUids.get();
+        String      strUid = this.mapProviders.computeIfAbsent(strName, k -> Long.toString(this.cntProviderUids.incrementAndGet()));
+        boolean     bolIsNew = Long.parseLong(strUid) > cntUidsPrev;
+
+        RegistrationResult  msgResult = RegistrationResult.newBuilder()
+                .setProviderId(strUid)
+                .setProviderName(strName)
+                .setIsNewProvider(bolIsNew)
+                .build();
+
+        hndRsp.onNext(RegisterProviderResponse.newBuilder()
+                .setResponseTime(ProtoMsg.from(Instant.now()))
+                .setRegistrationResult(msgResult)
+                .build());
+        hndRsp.onCompleted();
+    }
+
+    /**
+     * @see com.ospreydcs.dp.grpc.v1.ingestion.DpIngestionServiceGrpc.DpIngestionServiceImplBase#ingestData(com.ospreydcs.dp.grpc.v1.ingestion.IngestDataRequest, io.grpc.stub.StreamObserver)
+     */
+    @Override
+    public void ingestData(IngestDataRequest msgRqst, StreamObserver<IngestDataResponse> hndRsp) {
+        if (!this.pace(msgRqst, hndRsp))
+            return;
+
+        hndRsp.onNext(this.acknowledge(msgRqst));
+        hndRsp.onCompleted();
+    }
+
+    /**
+     * <p>
+     * Accepts the request stream and responds with a single summary when the client completes the stream.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.grpc.v1.ingestion.DpIngestionServiceGrpc.DpIngestionServiceImplBase#ingestDataStream(io.grpc.stub.StreamObserver)
+     */
+    @Override
+    public StreamObserver<IngestDataRequest> ingestDataStream(StreamObserver<IngestDataStreamResponse> hndRsp) {
+
+        return new StreamObserver<IngestDataRequest>() {
+
+            /** Client request IDs of all received requests */
+            private final List<String>  lstRcvdIds = new LinkedList<>();
+
+            /** Client request IDs of rejected requests */
+            private final List<String>  lstRjctIds = new LinkedList<>();
+
+            /** Last rejection detail */
+            private String              strError = null;
+
+            @Override
+            public synchronized void onNext(IngestDataRequest msgRqst) {
+                if (!StandInIngestionService.this.pace(msgRqst, hndRsp))
+                    return;
+
+                IngestDataResponse  msgAck = StandInIngestionService.this.acknowledge(msgRqst);
+
+                this.lstRcvdIds.add(msgRqst.getClientRequestId());
+                if (msgAck.hasExceptionalResult()) {
+                    this.lstRjctIds.add(msgRqst.getClientRequestId());
+                    this.strError = msgAck.getExceptionalResult().getMessage();
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public synchronized void onCompleted() {
+                IngestDataStreamResponse.Builder    bldrRsp = IngestDataStreamResponse.newBuilder()
+                        .setResponseTime(ProtoMsg.from(Instant.now()))
+                        .addAllClientRequestIds(this.lstRcvdIds)
+                        .addAllRejectedRequestIds(this.lstRjctIds);
+
+                if (this.lstRjctIds.isEmpty())
+                    bldrRsp.setIngestDataStreamResult(IngestDataStreamResult.newBuilder().setNumRequests(this.lstRcvdIds.size()));
+                else
+                    bldrRsp.setExceptionalResult(StandInQueryService.createRejection(this.strError));
+
+                hndRsp.onNext(bldrRsp.build());
+                hndRsp.onCompleted();
+            }
+        };
+    }
+
+    /**
+     * <p>
+     * Acknowledges each request of the stream as it arrives.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.grpc.v1.ingestion.DpIngestionServiceGrpc.DpIngestionServiceImplBase#ingestDataBidiStream(io.grpc.stub.StreamObserver)
+     */
+    @Override
+    public StreamObserver<IngestDataRequest> ingestDataBidiStream(StreamObserver<IngestDataResponse> hndRsp) {
+
+        return new StreamObserver<IngestDataRequest>() {
+
+            @Override
+            public synchronized void onNext(IngestDataRequest msgRqst) {
+                if (StandInIngestionService.this.pace(msgRqst, hndRsp))
+                    hndRsp.onNext(StandInIngestionService.this.acknowledge(msgRqst));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public synchronized void onCompleted() {
+                hndRsp.onCompleted();
+            }
+        };
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Validates the given ingest data request and creates its acknowledgment or rejection.
+     * </p>
+     *
+     * @param msgRqst   ingest data request
+     *
+     * @return  new response acknowledging or rejecting the request
+     */
+    private IngestDataResponse  acknowledge(IngestDataRequest msgRqst) {
+        this.cntRequests.incrementAndGet();
+
+        IngestionDataFrame  msgFrame = msgRqst.getIngestionDataFrame();
+        DataTimestamps      msgTms = msgFrame.getDataTimestamps();
+        int                 cntRows = -1;
+        String              strError = null;
+
+        if (msgTms.hasSamplingClock())
+            cntRows = msgTms.getSamplingClock().getCount();
+        else if (msgTms.hasTimestampList())
+            cntRows = msgTms.getTimestampList().getTimestampsCount();
+
+        if (!this.mapProviders.containsValue(msgRqst.getProviderId()))
+            strError = "Provider " + msgRqst.getProviderId() + " is not registered.";
+        else if (cntRows < 0)
+            strError = "Ingestion frame contains no timestamps.";
+        else
+            for (DataColumn msgCol : msgFrame.getDataColumnsList())
+                if (msgCol.getDataValuesCount() != cntRows) {
+                    strError = "Column " + msgCol.getName() + " size " + msgCol.getDataValuesCount() + " != timestamp count " + cntRows;
+                    break;
+                }
+
+        IngestDataResponse.Builder  bldrRsp = IngestDataResponse.newBuilder()
+                .setProviderId(msgRqst.getProviderId())
+                .setClientRequestId(msgRqst.getClientRequestId())
+                .setResponseTime(ProtoMsg.from(Instant.now()));
+
+        if (strError != null) {
+            this.cntRejected.incrementAndGet();
+
+            return bldrRsp.setExceptionalResult(StandInQueryService.createRejection(strError)).build();
+        }
+
+        int     cntCols = msgFrame.getDataColumnsCount();
+
+        this.cntRows.addAndGet(cntRows);
+        this.cntValues.addAndGet((long)cntRows * cntCols);
+
+        return bldrRsp.setAckResult(AckResult.newBuilder().setNumColumns(cntCols).setNumRows(cntRows)).build();
+    }
+
+    /**
+     * <p>
+     * Paces a received request through the throttle, terminating the stream if interrupted.
+     * </p>
+     *
+     * @param msgRqst   received request message
+     * @param hndRsp    the response stream
+     *
+     * @return  <code>true</code> if the request may be processed, <code>false</code> if the stream was terminated
+     */
+    private boolean pace(IngestDataRequest msgRqst, StreamObserver<?> hndRsp) {
+        try {
+            this.thrNetwork.pace(msgRqst.getSerializedSize());
+
+            return true;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            hndRsp.onError(Status.CANCELLED.withDescription("Stand-in server interrupted.").asRuntimeException());
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,500 @@
+/*
+ * Project: dp-api-common
+ * File:	StandInQueryService.java
+ * Package: com.ospreydcs.dp.jal.tools.server
+ * Type: 	StandInQueryService
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.server;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.ospreydcs.dp.api.grpc.util.ProtoMsg;
+import com.ospreydcs.dp.grpc.v1.common.ExceptionalResult;
+import com.ospreydcs.dp.grpc.v1.common.ExceptionalResult.ExceptionalResultStatus;
+import com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataRequest;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataRequest.QuerySpec;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse.QueryData;
+import com.ospreydcs.dp.grpc.v1.query.QueryDataResponse.QueryData.DataBucket;
+import com.ospreydcs.dp.grpc.v1.query.QueryPvMetadataRequest;
+import com.ospreydcs.dp.grpc.v1.query.QueryPvMetadataResponse;
+import com.ospreydcs.dp.grpc.v1.query.QueryPvMetadataResponse.MetadataResult;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * <p>
+ * Query Service implementation of the Data Platform stand-in server.
+ * </p>
+ * <p>
+ * Time-series data requests are served from a <code>{@link StandInArchive}</code>.  The supported operations are
+ * <ul>
+ * <li><code>queryData</code> - unary request, all data buckets are returned in a single response.</li>
+ * <li><code>queryDataStream</code> - server streaming, data buckets are returned in pages of at most the
+ *     configured page size.  Pages are produced only when the transport is ready for them, so arbitrarily
+ *     large requests are served within bounded memory.</li>
+ * <li><code>queryDataBidiStream</code> - bidirectional streaming, the first page is returned for the
+ *     <code>QuerySpec</code> request, each subsequent page for a <code>CursorOperation</code> request.</li>
+ * <li><code>queryPvMetadata</code> - PV metadata by name list or name pattern.</li>
+ * </ul>
+ * All other Query Service operations respond with status <code>UNIMPLEMENTED</code>.
+ * </p>
+ * <p>
+ * Requests outside the archive (unknown PVs, empty or inverted time ranges) are answered with a response
+ * containing an <code>ExceptionalResult</code> of status <code>RESULT_STATUS_REJECT</code>, as would the
+ * Query Service.  Every response message is paced through the server <code>{@link StandInThrottle}</code>.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public final class StandInQueryService extends DpQueryServiceGrpc.DpQueryServiceImplBase {
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The synthesized test archive */
+    private final StandInArchive    arcData;
+
+    /** The network condition throttle for all responses */
+    private final StandInThrottle   thrNetwork;
+
+    /** The maximum number of data buckets within each streamed response */
+    private final int               cntPageSize;
+
+
+    //
+    // State Variables
+    //
+
+    /** Number of data requests received */
+    private final AtomicLong        cntRequests = new AtomicLong();
+
+    /** Number of data buckets sent */
+    private final AtomicLong        cntBuckets = new AtomicLong();
+
+    /** Number of requests rejected */
+    private final AtomicLong        cntRejected = new AtomicLong();
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>StandInQueryService</code>.
+     * </p>
+     *
+     * @param arcData       the synthesized test archive
+     * @param thrNetwork    the network condition throttle for all responses
+     * @param cntPageSize   the maximum number of data buckets within each streamed response
+     *
+     * @throws IllegalArgumentException the page size was not positive
+     */
+    public StandInQueryService(StandInArchive arcData, StandInThrottle thrNetwork, int cntPageSize) throws IllegalArgumentException {
+
+        if (cntPageSize <= 0)
+            throw new IllegalArgumentException("StandInQueryService - Page size must be positive.");
+
+        this.arcData = arcData;
+        this.thrNetwork = thrNetwork;
+        this.cntPageSize = cntPageSize;
+    }
+
+
+    //
+    // State Query
+    //
+
+    /**
+     * @return  the maximum number of data buckets within each streamed response
+     */
+    public int  getPageSize() {
+        return this.cntPageSize;
+    }
+
+    /**
+     * @return  the number of time-series data requests received
+     */
+    public long getRequestCount() {
+        return this.cntRequests.get();
+    }
+
+    /**
+     * @return  the number of data buckets sent
+     */
+    public long getBucketCount() {
+        return this.cntBuckets.get();
+    }
+
+    /**
+     * @return  the number of requests rejected
+     */
+    public long getRejectedCount() {
+        return this.cntRejected.get();
+    }
+
+
+    //
+    // DpQueryServiceImplBase Overrides
+    //
+
+    /**
+     * <p>
+     * Returns all requested data buckets within a single response message.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc.DpQueryServiceImplBase#queryData(com.ospreydcs.dp.grpc.v1.query.QueryDataRequest, io.grpc.stub.StreamObserver)
+     */
+    @Override
+    public void queryData(QueryDataRequest msgRqst, StreamObserver<QueryDataResponse> hndRsp) {
+        this.cntRequests.incrementAndGet();
+
+        Iterator<DataBucket>    itrBuckets = this.openCursor(msgRqst, hndRsp);
+
+        if (itrBuckets == null)
+            return;
+
+        if (this.sendPage(itrBuckets, Integer.MAX_VALUE, hndRsp))
+            hndRsp.onCompleted();
+    }
+
+    /**
+     * <p>
+     * Streams the requested data buckets in pages, observing transport flow control.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc.DpQueryServiceImplBase#queryDataStream(com.ospreydcs.dp.grpc.v1.query.QueryDataRequest, io.grpc.stub.StreamObserver)
+     */
+    @Override
+    public void queryDataStream(QueryDataRequest msgRqst, StreamObserver<QueryDataResponse> hndRsp) {
+        this.cntRequests.incrementAndGet();
+
+        Iterator<DataBucket>    itrBuckets = this.openCursor(msgRqst, hndRsp);
+
+        if (itrBuckets == null)
+            return;
+
+        ServerCallStreamObserver<QueryDataResponse> hndFlow = (ServerCallStreamObserver<QueryDataResponse>)hndRsp;
+
+        hndFlow.setOnCancelHandler(() -> {});
+        hndFlow.setOnReadyHandler(new Runnable() {
+
+            /** Response stream has been completed */
+            private boolean bolDone = false;
+
+            @Override
+            public void run() {
+                while (!this.bolDone && hndFlow.isReady() && !hndFlow.isCancelled()) {
+                    if (!StandInQueryService.this.sendPage(itrBuckets, StandInQueryService.this.cntPageSize, hndFlow)) {
+                        this.bolDone = true;
+
+                    } else if (!itrBuckets.hasNext()) {
+                        this.bolDone = true;
+                        hndFlow.onCompleted();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Returns the first page for the initial <code>QuerySpec</code> request and the next page for each
+     * <code>CursorOperation</code> request.  The stream is completed with the last page.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc.DpQueryServiceImplBase#queryDataBidiStream(io.grpc.stub.StreamObserver)
+     */
+    @Override
+    public StreamObserver<QueryDataRequest> queryDataBidiStream(StreamObserver<QueryDataResponse> hndRsp) {
+
+        return new StreamObserver<QueryDataRequest>() {
+
+            /** The data bucket cursor - created by the initial request */
+            private Iterator<DataBucket>    itrBuckets = null;
+
+            /** Response stream has been completed */
+            private boolean                 bolDone = false;
+
+            @Override
+            public synchronized void onNext(QueryDataRequest msgRqst) {
+                if (this.bolDone)
+                    return;
+
+                // Initial request
+                if (this.itrBuckets == null) {
+                    StandInQueryService.this.cntRequests.incrementAndGet();
+
+                    this.itrBuckets = StandInQueryService.this.openCursor(msgRqst, hndRsp);
+
+                    if (this.itrBuckets == null) {
+                        this.bolDone = true;
+                        return;
+                    }
+
+                // Cursor requests
+                } else if (!msgRqst.hasCursorOp()) {
+                    StandInQueryService.this.reject("Expected cursor operation within bidirectional stream.", hndRsp);
+                    this.bolDone = true;
+                    return;
+                }
+
+                if (!StandInQueryService.this.sendPage(this.itrBuckets, StandInQueryService.this.cntPageSize, hndRsp)) {
+                    this.bolDone = true;
+
+                } else if (!this.itrBuckets.hasNext()) {
+                    this.bolDone = true;
+                    hndRsp.onCompleted();
+                }
+            }
+
+            @Override
+            public synchronized void onError(Throwable t) {
+                this.bolDone = true;
+            }
+
+            @Override
+            public synchronized void onCompleted() {
+                if (!this.bolDone) {
+                    this.bolDone = true;
+                    hndRsp.onCompleted();
+                }
+            }
+        };
+    }
+
+    /**
+     * <p>
+     * Returns the metadata of the PVs identified by name list or name pattern.
+     * </p>
+     *
+     * @see com.ospreydcs.dp.grpc.v1.query.DpQueryServiceGrpc.DpQueryServiceImplBase#queryPvMetadata(com.ospreydcs.dp.grpc.v1.query.QueryPvMetadataRequest, io.grpc.stub.StreamObserver)
+     */
+    @Override
+    public void queryPvMetadata(QueryPvMetadataRequest msgRqst, StreamObserver<QueryPvMetadataResponse> hndRsp) {
+
+        // Identify the PVs
+        List<Integer>   lstIndPvs = new ArrayList<>();
+        String          strError = null;
+
+        if (msgRqst.hasPvNamePattern()) {
+            try {
+                Pattern pat = Pattern.compile(msgRqst.getPvNamePattern().getPattern());
+
+                List<String>    lstNames = this.arcData.getPvNames();
+                for (int indPv=0; indPv<lstNames.size(); indPv++)
+                    if (pat.matcher(lstNames.get(indPv)).find())
+                        lstIndPvs.add(indPv);
+
+            } catch (PatternSyntaxException e) {
+                strError = "Invalid PV name pattern: " + e.getMessage();
+            }
+
+        } else {
+            for (String strPvName : msgRqst.getPvNameList().getPvNamesList()) {
+                int     indPv = this.arcData.getPvIndex(strPvName);
+
+                if (indPv < 0) {
+                    strError = "PV " + strPvName + " is not within the archive.";
+                    break;
+                }
+                lstIndPvs.add(indPv);
+            }
+        }
+
+        // Build the response
+        QueryPvMetadataResponse.Builder bldrRsp = QueryPvMetadataResponse.newBuilder()
+                .setResponseTime(ProtoMsg.from(Instant.now()));
+
+        if (strError != null) {
+            this.cntRejected.incrementAndGet();
+            bldrRsp.setExceptionalResult(StandInQueryService.createRejection(strError));
+
+        } else {
+            MetadataResult.Builder  bldrResult = MetadataResult.newBuilder();
+
+            for (int indPv : lstIndPvs)
+                bldrResult.addPvInfos(this.arcData.createPvInfo(indPv));
+            bldrRsp.setMetadataResult(bldrResult);
+        }
+
+        QueryPvMetadataResponse msgRsp = bldrRsp.build();
+
+        if (this.pace(msgRsp.getSerializedSize(), hndRsp)) {
+            hndRsp.onNext(msgRsp);
+            hndRsp.onCompleted();
+        }
+    }
+
+
+    //
+    // Support Methods
+    //
+
+    /**
+     * <p>
+     * Validates the query specification of the given request and opens a data bucket cursor upon it.
+     * </p>
+     * <p>
+     * If the request is invalid a rejection is sent, the response stream is completed, and
+     * <code>null</code> is returned.
+     * </p>
+     *
+     * @param msgRqst   the time-series data request
+     * @param hndRsp    the response stream
+     *
+     * @return  cursor over the requested data buckets, or <code>null</code> if the request was rejected
+     */
+    private Iterator<DataBucket>    openCursor(QueryDataRequest msgRqst, StreamObserver<QueryDataResponse> hndRsp) {
+
+        if (!msgRqst.hasQuerySpec()) {
+            this.reject("Request contains no query specification.", hndRsp);
+            return null;
+        }
+
+        QuerySpec   msgSpec = msgRqst.getQuerySpec();
+        Instant     insBegin = ProtoMsg.toInstant(msgSpec.getBeginTime());
+        Instant     insEnd = ProtoMsg.toInstant(msgSpec.getEndTime());
+
+        if (msgSpec.getPvNamesCount() == 0 || !insBegin.isBefore(insEnd)) {
+            this.reject("Query specification has no PVs or an empty time range.", hndRsp);
+            return null;
+        }
+
+        try {
+            return this.arcData.cursor(msgSpec.getPvNamesList(), insBegin, insEnd);
+
+        } catch (IllegalArgumentException e) {
+            this.reject(e.getMessage(), hndRsp);
+            return null;
+        }
+    }
+
+    /**
+     * <p>
+     * Sends a response containing the next page of data buckets from the given cursor.
+     * </p>
+     *
+     * @param itrBuckets    the data bucket cursor
+     * @param cntMaxBuckets maximum number of data buckets within the response
+     * @param hndRsp        the response stream
+     *
+     * @return  <code>true</code> if the page was sent, <code>false</code> if the stream was terminated
+     */
+    private boolean sendPage(Iterator<DataBucket> itrBuckets, int cntMaxBuckets, StreamObserver<QueryDataResponse> hndRsp) {
+
+        QueryData.Builder   bldrData = QueryData.newBuilder();
+        int                 cntPage = 0;
+
+        while (cntPage < cntMaxBuckets && itrBuckets.hasNext()) {
+            bldrData.addDataBuckets(itrBuckets.next());
+            cntPage++;
+        }
+
+        QueryDataResponse   msgRsp = QueryDataResponse.newBuilder()
+                .setResponseTime(ProtoMsg.from(Instant.now()))
+                .setQueryData(bldrData)
+                .build();
+
+        if (!this.pace(msgRsp.getSerializedSize(), hndRsp))
+            return false;
+
+        this.cntBuckets.addAndGet(cntPage);
+        hndRsp.onNext(msgRsp);
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Sends a rejection response and completes the response stream.
+     * </p>
+     *
+     * @param strMsg    rejection detail
+     * @param hndRsp    the response stream
+     */
+    private void reject(String strMsg, StreamObserver<QueryDataResponse> hndRsp) {
+        this.cntRejected.incrementAndGet();
+
+        QueryDataResponse   msgRsp = QueryDataResponse.newBuilder()
+                .setResponseTime(ProtoMsg.from(Instant.now()))
+                .setExceptionalResult(StandInQueryService.createRejection(strMsg))
+                .build();
+
+        if (this.pace(msgRsp.getSerializedSize(), hndRsp)) {
+            hndRsp.onNext(msgRsp);
+            hndRsp.onCompleted();
+        }
+    }
+
+    /**
+     * <p>
+     * Paces a response message through the throttle, terminating the stream if interrupted.
+     * </p>
+     *
+     * @param cntBytes  serialized size of the response message
+     * @param hndRsp    the response stream
+     *
+     * @return  <code>true</code> if the message may be sent, <code>false</code> if the stream was terminated
+     */
+    private boolean pace(int cntBytes, StreamObserver<?> hndRsp) {
+        try {
+            this.thrNetwork.pace(cntBytes);
+
+            return true;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            hndRsp.onError(Status.CANCELLED.withDescription("Stand-in server interrupted.").asRuntimeException());
+
+            return false;
+        }
+    }
+
+    /**
+     * @param strMsg    rejection detail
+     *
+     * @return  new exceptional result message with status <code>RESULT_STATUS_REJECT</code>
+     */
+    static ExceptionalResult    createRejection(String strMsg) {
+        return ExceptionalResult.newBuilder()
+                .setExceptionalResultStatus(ExceptionalResultStatus.RESULT_STATUS_REJECT)
+                .setMessage(strMsg)
+                .build();
+    }
+}
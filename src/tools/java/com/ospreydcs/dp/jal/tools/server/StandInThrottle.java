@@ -0,0 +1,197 @@
+/*
+ * Project: dp-api-common
+ * File:	StandInThrottle.java
+ * Package: com.ospreydcs.dp.jal.tools.server
+ * Type: 	StandInThrottle
+ *
+ * Copyright 2010-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+
+ * @author Christopher K. Allen
+ * @org    OspreyDCS
+ * @since Oct 18, 2026
+ *
+ * TODO:
+ * - None
+ */
+package com.ospreydcs.dp.jal.tools.server;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ospreydcs.dp.api.util.JavaRuntime;
+
+/**
+ * <p>
+ * Imposes simulated network conditions upon the messages of the Data Platform stand-in server.
+ * </p>
+ * <p>
+ * Each message passes through <code>{@link #pace(int)}</code> before it is sent (or after it is received).
+ * The method blocks the calling thread for
+ * <ul>
+ * <li>the configured latency, and</li>
+ * <li>the transmission time of the message at the configured bandwidth cap.</li>
+ * </ul>
+ * The bandwidth cap is shared by all callers, that is, concurrent streams divide the available bandwidth between
+ * them as they would on a physical link.  A transmission time slot is reserved atomically for each message, and
+ * the caller waits until its slot has elapsed.
+ * </p>
+ * <p>
+ * A latency of zero and a bandwidth of zero disable the respective condition; a throttle with both disabled never
+ * blocks.
+ * </p>
+ *
+ * @author Christopher K. Allen
+ * @since Oct 18, 2026
+ *
+ */
+public final class StandInThrottle {
+
+
+    //
+    // Defining Attributes
+    //
+
+    /** The latency injected before each message (nanoseconds) */
+    private final long      lngLatencyNs;
+
+    /** The bandwidth cap (bytes/second) - zero if disabled */
+    private final long      lngBandwidth;
+
+
+    //
+    // State Variables
+    //
+
+    /** The time (system nanoseconds) at which the shared link becomes free */
+    private final AtomicLong    lngLinkFreeNs = new AtomicLong(System.nanoTime());
+
+    /** The total number of bytes paced */
+    private final AtomicLong    cntBytes = new AtomicLong();
+
+    /** The total number of messages paced */
+    private final AtomicLong    cntMsgs = new AtomicLong();
+
+
+    //
+    // Creators
+    //
+
+    /**
+     * <p>
+     * Creates a new <code>StandInThrottle</code> with the given network conditions.
+     * </p>
+     *
+     * @param durLatency    latency injected before each message (zero to disable)
+     * @param lngBandwidth  bandwidth cap in bytes/second (zero to disable)
+     *
+     * @return  new throttle imposing the given conditions
+     *
+     * @throws IllegalArgumentException a negative latency or bandwidth was given
+     */
+    public static StandInThrottle   create(Duration durLatency, long lngBandwidth) throws IllegalArgumentException {
+        return new StandInThrottle(durLatency, lngBandwidth);
+    }
+
+
+    //
+    // Constructors
+    //
+
+    /**
+     * <p>
+     * Constructs a new instance of <code>StandInThrottle</code>.
+     * </p>
+     *
+     * @param durLatency    latency injected before each message (zero to disable)
+     * @param lngBandwidth  bandwidth cap in bytes/second (zero to disable)
+     *
+     * @throws IllegalArgumentException a negative latency or bandwidth was given
+     */
+    public StandInThrottle(Duration durLatency, long lngBandwidth) throws IllegalArgumentException {
+
+        if (durLatency.isNegative() || lngBandwidth < 0)
+            throw new IllegalArgumentException(JavaRuntime.getQualifiedMethodNameSimple() + " - Latency and bandwidth must be non-negative.");
+
+        this.lngLatencyNs = durLatency.toNanos();
+        this.lngBandwidth = lngBandwidth;
+    }
+
+
+    //
+    // State Query
+    //
+
+    /**
+     * @return  the latency injected before each message
+     */
+    public Duration getLatency() {
+        return Duration.ofNanos(this.lngLatencyNs);
+    }
+
+    /**
+     * @return  the bandwidth cap (bytes/second), or zero if disabled
+     */
+    public long getBandwidth() {
+        return this.lngBandwidth;
+    }
+
+    /**
+     * @return  the total number of bytes paced by the throttle
+     */
+    public long getByteCount() {
+        return this.cntBytes.get();
+    }
+
+    /**
+     * @return  the total number of messages paced by the throttle
+     */
+    public long getMessageCount() {
+        return this.cntMsgs.get();
+    }
+
+
+    //
+    // Operations
+    //
+
+    /**
+     * <p>
+     * Blocks the calling thread for the latency and transmission time of a message of the given size.
+     * </p>
+     *
+     * @param cntMsgBytes   serialized size of the message (bytes)
+     *
+     * @throws InterruptedException the calling thread was interrupted while waiting
+     */
+    public void pace(int cntMsgBytes) throws InterruptedException {
+        this.cntMsgs.incrementAndGet();
+        this.cntBytes.addAndGet(cntMsgBytes);
+
+        long    lngWaitNs = this.lngLatencyNs;
+
+        // Reserve a transmission slot upon the shared link
+        if (this.lngBandwidth > 0) {
+            long    lngXmitNs = (cntMsgBytes * 1_000_000_000L)/this.lngBandwidth;
+            long    lngNowNs = System.nanoTime();
+            long    lngSlotEndNs = this.lngLinkFreeNs.accumulateAndGet(lngXmitNs, (lngFreeNs, lngDurNs) -> Math.max(lngFreeNs, lngNowNs) + lngDurNs);
+
+            lngWaitNs += lngSlotEndNs - lngNowNs;
+        }
+
+        if (lngWaitNs > 0)
+            TimeUnit.NANOSECONDS.sleep(lngWaitNs);
+    }
+}